@@ -19,6 +19,7 @@ package software.amazon.jdbc.benchmarks;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -40,6 +41,7 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -62,6 +64,8 @@ import software.amazon.jdbc.PluginManagerService;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
 import software.amazon.jdbc.benchmarks.testplugin.BenchmarkPluginFactory;
+import software.amazon.jdbc.benchmarks.testplugin.LambdaChainConnectionPluginManager;
+import software.amazon.jdbc.benchmarks.testplugin.PassThroughPluginFactory;
 import software.amazon.jdbc.dialect.Dialect;
 import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
 import software.amazon.jdbc.util.telemetry.DefaultTelemetryFactory;
@@ -234,6 +238,32 @@ public class ConnectionPluginManagerBenchmarks {
     );
   }
 
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public Integer executeWithCompiledPluginChain(final PluginChainState state) {
+    return state.compiledChainPluginManager.execute(
+        int.class,
+        RuntimeException.class,
+        mockStatement,
+        "Statement.execute",
+        () -> 1,
+        new Object[] {1}
+    );
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public Integer executeWithLambdaPluginChain(final PluginChainState state) {
+    return state.lambdaChainPluginManager.execute(
+        int.class,
+        RuntimeException.class,
+        mockStatement,
+        "Statement.execute",
+        () -> 1,
+        new Object[] {1}
+    );
+  }
+
   @Benchmark
   public ConnectionPluginManager initHostProvidersWithPlugins() throws SQLException {
     pluginManager.initHostProvider(
@@ -279,4 +309,41 @@ public class ConnectionPluginManagerBenchmarks {
     pluginManagerWithNoPlugins.releaseResources();
     return pluginManager;
   }
+
+  /**
+   * Plugin managers with a chain of pass-through plugins of the given length, executing calls through a compiled
+   * plugin chain and through the nested closures the manager used before.
+   */
+  @State(Scope.Benchmark)
+  public static class PluginChainState {
+
+    @Param({"0", "5", "10"})
+    int pluginCount;
+
+    ConnectionPluginManager compiledChainPluginManager;
+    ConnectionPluginManager lambdaChainPluginManager;
+
+    @Setup(Level.Iteration)
+    public void setUpIteration(final ConnectionPluginManagerBenchmarks benchmarks) throws SQLException {
+      final ConfigurationProfile profile = ConfigurationProfileBuilder.get()
+          .withName("pluginChain" + pluginCount)
+          .withPluginFactories(new ArrayList<>(Collections.nCopies(pluginCount, PassThroughPluginFactory.class)))
+          .build();
+      // Use a disabled telemetry factory rather than a mock, so mock invocations don't dominate the results.
+      final TelemetryFactory telemetryFactory = new DefaultTelemetryFactory(benchmarks.propertiesWithPlugins);
+      final PluginService pluginService = mock(PluginService.class);
+      when(pluginService.getTelemetryFactory()).thenReturn(telemetryFactory);
+      when(pluginService.getCurrentConnection()).thenReturn(benchmarks.mockConnection);
+
+      compiledChainPluginManager = new ConnectionPluginManager(benchmarks.mockConnectionProvider, null,
+          benchmarks.mockConnectionWrapper, telemetryFactory);
+      compiledChainPluginManager.init(pluginService, benchmarks.propertiesWithoutPlugins,
+          benchmarks.mockPluginManagerService, profile);
+
+      lambdaChainPluginManager = new LambdaChainConnectionPluginManager(benchmarks.mockConnectionProvider, null,
+          benchmarks.mockConnectionWrapper, telemetryFactory);
+      lambdaChainPluginManager.init(pluginService, benchmarks.propertiesWithoutPlugins,
+          benchmarks.mockPluginManagerService, profile);
+    }
+  }
 }
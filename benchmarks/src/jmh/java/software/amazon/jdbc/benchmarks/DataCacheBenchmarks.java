@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.jdbc.benchmarks.testplugin.RowMapCachedResultSet;
+import software.amazon.jdbc.benchmarks.testplugin.TableResultSet;
+import software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultSet;
+
+/**
+ * Compares the columnar {@link CachedResultSet} of the data cache plugin with the row based representation it
+ * replaced. Run with the GC profiler: gc.alloc.rate.norm of the build benchmarks approximates the heap used by
+ * a cached result set.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DataCacheBenchmarks {
+
+  private static final String[] STATUSES = {"new", "open", "pending", "closed", "archived"};
+
+  @Param({"100000"})
+  int rows;
+
+  private Object[][] table;
+  private ResultSetMetaData metaData;
+  private CachedResultSet columnar;
+  private RowMapCachedResultSet rowMaps;
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(DataCacheBenchmarks.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    // A lookup table: id, status, amount, flag, last update.
+    table = new Object[rows][];
+    for (int i = 0; i < rows; i++) {
+      table[i] = new Object[] {
+          i,
+          STATUSES[i % STATUSES.length],
+          i * 1.25,
+          i % 2 == 0,
+          1_700_000_000_000L + i
+      };
+    }
+
+    metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(5);
+    when(metaData.getColumnName(1)).thenReturn("id");
+    when(metaData.getColumnName(2)).thenReturn("status");
+    when(metaData.getColumnName(3)).thenReturn("amount");
+    when(metaData.getColumnName(4)).thenReturn("flag");
+    when(metaData.getColumnName(5)).thenReturn("updated");
+
+    columnar = buildColumnar();
+    rowMaps = buildRowMaps();
+  }
+
+  @Benchmark
+  public CachedResultSet buildColumnar() throws SQLException {
+    return new CachedResultSet(new TableResultSet(table, metaData));
+  }
+
+  @Benchmark
+  public RowMapCachedResultSet buildRowMaps() throws SQLException {
+    return new RowMapCachedResultSet(new TableResultSet(table, metaData));
+  }
+
+  @Benchmark
+  public long readColumnar() throws SQLException {
+    long count = 0;
+    columnar.beforeFirst();
+    while (columnar.next()) {
+      for (int column = 1; column <= 5; column++) {
+        if (columnar.getObject(column) != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public long readColumnarPrimitives() throws SQLException {
+    long sum = 0;
+    columnar.beforeFirst();
+    while (columnar.next()) {
+      sum += columnar.getInt(1) + columnar.getLong(5) + (long) columnar.getDouble(3);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long readRowMaps() {
+    long count = 0;
+    rowMaps.beforeFirst();
+    while (rowMaps.next()) {
+      for (int column = 1; column <= 5; column++) {
+        if (rowMaps.getObject(column) != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
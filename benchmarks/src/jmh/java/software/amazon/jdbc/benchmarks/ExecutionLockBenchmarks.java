@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.benchmarks;
+
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.ConnectionProvider;
+import software.amazon.jdbc.JdbcMethod;
+import software.amazon.jdbc.PluginManagerService;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.benchmarks.testplugin.TestResultSet;
+import software.amazon.jdbc.util.WrapperUtils;
+import software.amazon.jdbc.util.telemetry.DefaultTelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.wrapper.ConnectionWrapper;
+
+/**
+ * Compares the cost of guarding JDBC calls with the plugin manager lock to the ownership checks used when
+ * {@link PropertyDefinition#SINGLE_THREADED_CONNECTION} is enabled. The contended group runs a thread using the
+ * connection next to a thread cancelling it, the way {@code Statement.cancel} is called by a query timeout.
+ */
+@State(Scope.Group)
+@Fork(3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecutionLockBenchmarks {
+
+  @Param({"false", "true"})
+  boolean singleThreadedConnection;
+
+  private ConnectionPluginManager pluginManager;
+  private ResultSet targetResultSet;
+
+  @Mock ConnectionProvider mockConnectionProvider;
+  @Mock ConnectionWrapper mockConnectionWrapper;
+  @Mock PluginService mockPluginService;
+  @Mock PluginManagerService mockPluginManagerService;
+  @Mock Connection mockConnection;
+  private AutoCloseable closeable;
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(ExecutionLockBenchmarks.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() throws Exception {
+    closeable = MockitoAnnotations.openMocks(this);
+
+    final Properties props = new Properties();
+    props.setProperty(PropertyDefinition.ENABLE_TELEMETRY.name, "false");
+    props.setProperty(PropertyDefinition.PLUGINS.name, "");
+    props.setProperty(PropertyDefinition.SINGLE_THREADED_CONNECTION.name, String.valueOf(singleThreadedConnection));
+    final TelemetryFactory telemetryFactory = new DefaultTelemetryFactory(props);
+
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockConnection);
+    when(mockPluginService.getTelemetryFactory()).thenReturn(telemetryFactory);
+
+    pluginManager = new ConnectionPluginManager(
+        mockConnectionProvider, null, mockConnectionWrapper, telemetryFactory);
+    pluginManager.init(mockPluginService, props, mockPluginManagerService, null);
+    targetResultSet = new TestResultSet();
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() throws Exception {
+    closeable.close();
+  }
+
+  @Benchmark
+  public Integer executeUncontended() throws SQLException {
+    return execute();
+  }
+
+  @Benchmark
+  @Group("contended")
+  @GroupThreads(1)
+  public Integer executeContended() throws SQLException {
+    return execute();
+  }
+
+  @Benchmark
+  @Group("contended")
+  @GroupThreads(1)
+  public void cancelContended() throws SQLException {
+    WrapperUtils.runWithPlugins(
+        SQLException.class,
+        pluginManager,
+        targetResultSet,
+        JdbcMethod.STATEMENT_CANCEL,
+        () -> { });
+  }
+
+  private Integer execute() throws SQLException {
+    return WrapperUtils.executeWithPlugins(
+        Integer.class,
+        SQLException.class,
+        pluginManager,
+        targetResultSet,
+        JdbcMethod.RESULT_SET_GET_ROW,
+        () -> targetResultSet.getRow());
+  }
+}
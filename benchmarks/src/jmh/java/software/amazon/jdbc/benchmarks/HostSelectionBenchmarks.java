@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.benchmarks;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.RandomHostSelector;
+import software.amazon.jdbc.RoundRobinHostSelector;
+import software.amazon.jdbc.WeightedRandomHostSelector;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
+import software.amazon.jdbc.wrapper.HighestWeightHostSelector;
+
+/**
+ * Compares selecting a reader from a host list, which filters the list by role and availability on every call,
+ * with selecting it from a {@link TopologySnapshot}, which indexes the hosts once. Run with the GC profiler:
+ * gc.alloc.rate.norm shows the allocations of each selection.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HostSelectionBenchmarks {
+
+  @Param({"15"})
+  int readers;
+
+  private final Properties props = new Properties();
+  private final RandomHostSelector randomHostSelector = new RandomHostSelector();
+  private final RoundRobinHostSelector roundRobinHostSelector = new RoundRobinHostSelector();
+  private final HighestWeightHostSelector highestWeightHostSelector = new HighestWeightHostSelector();
+  private final WeightedRandomHostSelector weightedRandomHostSelector = new WeightedRandomHostSelector();
+
+  private List<HostSpec> hosts;
+  private TopologySnapshot topology;
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(HostSelectionBenchmarks.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    hosts = new ArrayList<>();
+    hosts.add(createHost("instance-0", HostRole.WRITER, HostAvailability.AVAILABLE, 1));
+    for (int i = 1; i <= readers; i++) {
+      // One reader in five is unavailable, so that selectors have to skip it.
+      hosts.add(createHost(
+          "instance-" + i,
+          HostRole.READER,
+          i % 5 == 0 ? HostAvailability.NOT_AVAILABLE : HostAvailability.AVAILABLE,
+          i % 3 + 1));
+    }
+    topology = buildSnapshot();
+    RoundRobinHostSelector.clearCache();
+  }
+
+  @Benchmark
+  public TopologySnapshot buildSnapshot() {
+    return new TopologySnapshot("cluster", 1, hosts);
+  }
+
+  @Benchmark
+  public HostSpec randomFromList() throws SQLException {
+    return randomHostSelector.getHost(hosts, HostRole.READER, props);
+  }
+
+  @Benchmark
+  public HostSpec randomFromSnapshot() throws SQLException {
+    return randomHostSelector.getHost(topology, HostRole.READER, props);
+  }
+
+  @Benchmark
+  public HostSpec roundRobinFromList() throws SQLException {
+    return roundRobinHostSelector.getHost(hosts, HostRole.READER, props);
+  }
+
+  @Benchmark
+  public HostSpec roundRobinFromSnapshot() throws SQLException {
+    return roundRobinHostSelector.getHost(topology, HostRole.READER, props);
+  }
+
+  @Benchmark
+  public HostSpec highestWeightFromList() throws SQLException {
+    return highestWeightHostSelector.getHost(hosts, HostRole.READER, props);
+  }
+
+  @Benchmark
+  public HostSpec highestWeightFromSnapshot() throws SQLException {
+    return highestWeightHostSelector.getHost(topology, HostRole.READER, props);
+  }
+
+  @Benchmark
+  public HostSpec weightedRandomFromList() throws SQLException {
+    return weightedRandomHostSelector.getHost(hosts, HostRole.READER, props);
+  }
+
+  @Benchmark
+  public HostSpec weightedRandomFromSnapshot() throws SQLException {
+    return weightedRandomHostSelector.getHost(topology, HostRole.READER, props);
+  }
+
+  private static HostSpec createHost(
+      final String hostId, final HostRole role, final HostAvailability availability, final long weight) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host(hostId + ".xyz.us-east-2.rds.amazonaws.com")
+        .hostId(hostId)
+        .port(5432)
+        .role(role)
+        .availability(availability)
+        .weight(weight)
+        .build();
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.benchmarks;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.ConnectionProvider;
+import software.amazon.jdbc.PluginManagerService;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.benchmarks.testplugin.MixedTypesResultSet;
+import software.amazon.jdbc.benchmarks.testplugin.TestResultSet;
+import software.amazon.jdbc.util.telemetry.DefaultTelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.wrapper.ConnectionWrapper;
+import software.amazon.jdbc.wrapper.ResultSetWrapper;
+import software.amazon.jdbc.wrapper.StatementWrapper;
+
+/**
+ * Measures the cost of reading rows through a {@link ResultSetWrapper} compared to reading them from the target
+ * driver result set directly. Run with the GC profiler to compare allocation rates per row.
+ */
+@State(Scope.Benchmark)
+@Fork(3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultSetBenchmarks {
+
+  private static final int ROWS = 1000;
+  private static final int COLUMNS = 20;
+
+  private ResultSet targetResultSet;
+  private ResultSet wrapperWithNoPlugins;
+  private ResultSet wrapperWithPassivePlugins;
+  private ResultSet wrapperWithActivePlugins;
+  private Statement statementWrapperWithNoPlugins;
+
+  @Mock ConnectionProvider mockConnectionProvider;
+  @Mock ConnectionWrapper mockConnectionWrapper;
+  @Mock PluginService mockPluginService;
+  @Mock PluginManagerService mockPluginManagerService;
+  @Mock Connection mockConnection;
+  @Mock Statement mockStatement;
+  private AutoCloseable closeable;
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(ResultSetBenchmarks.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() throws Exception {
+    closeable = MockitoAnnotations.openMocks(this);
+
+    final Properties telemetryProps = new Properties();
+    telemetryProps.setProperty(PropertyDefinition.ENABLE_TELEMETRY.name, "false");
+    final TelemetryFactory telemetryFactory = new DefaultTelemetryFactory(telemetryProps);
+
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockConnection);
+    when(mockPluginService.getTelemetryFactory()).thenReturn(telemetryFactory);
+
+    targetResultSet = new TestResultSet();
+    wrapperWithNoPlugins = createWrapper("", telemetryFactory);
+    // The efm2 plugin is subscribed to all methods but is passive for result set getters.
+    wrapperWithPassivePlugins = createWrapper("efm2", telemetryFactory);
+    // The execution time plugin intercepts every JDBC call.
+    wrapperWithActivePlugins = createWrapper("executionTime", telemetryFactory);
+
+    when(mockStatement.executeQuery(anyString())).thenReturn(new MixedTypesResultSet());
+    statementWrapperWithNoPlugins = new StatementWrapper(
+        mockStatement, createPluginManager("", telemetryFactory));
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() throws Exception {
+    closeable.close();
+  }
+
+  @Benchmark
+  public long readRowsFromTargetDriver() throws SQLException {
+    return readRows(targetResultSet);
+  }
+
+  @Benchmark
+  public long readRowsWithNoPlugins() throws SQLException {
+    return readRows(wrapperWithNoPlugins);
+  }
+
+  @Benchmark
+  public long readRowsWithPassivePlugins() throws SQLException {
+    return readRows(wrapperWithPassivePlugins);
+  }
+
+  @Benchmark
+  public long readRowsWithActivePlugins() throws SQLException {
+    return readRows(wrapperWithActivePlugins);
+  }
+
+  /**
+   * Reads every column with the primitive getters. With active plugins the values go through
+   * the plugins without being boxed.
+   */
+  @Benchmark
+  public long readNumericRowsFromTargetDriver() throws SQLException {
+    return readNumericRows(targetResultSet);
+  }
+
+  @Benchmark
+  public long readNumericRowsWithNoPlugins() throws SQLException {
+    return readNumericRows(wrapperWithNoPlugins);
+  }
+
+  @Benchmark
+  public long readNumericRowsWithActivePlugins() throws SQLException {
+    return readNumericRows(wrapperWithActivePlugins);
+  }
+
+  /**
+   * Runs a query and reads every column with {@link ResultSet#getObject(int)}. The columns hold values of
+   * different types, so the result of each call goes through a different wrapping decision.
+   */
+  @Benchmark
+  public long readObjectsFromTargetDriver() throws SQLException {
+    return readObjects(mockStatement);
+  }
+
+  @Benchmark
+  public long readObjectsWithNoPlugins() throws SQLException {
+    return readObjects(statementWrapperWithNoPlugins);
+  }
+
+  private ResultSet createWrapper(final String plugins, final TelemetryFactory telemetryFactory)
+      throws SQLException {
+    return new ResultSetWrapper(new TestResultSet(), createPluginManager(plugins, telemetryFactory));
+  }
+
+  private ConnectionPluginManager createPluginManager(final String plugins, final TelemetryFactory telemetryFactory)
+      throws SQLException {
+    final Properties props = new Properties();
+    props.setProperty(PropertyDefinition.PLUGINS.name, plugins);
+
+    final ConnectionPluginManager pluginManager = new ConnectionPluginManager(
+        mockConnectionProvider, null, mockConnectionWrapper, telemetryFactory);
+    pluginManager.init(mockPluginService, props, mockPluginManagerService, null);
+    return pluginManager;
+  }
+
+  private static long readObjects(final Statement statement) throws SQLException {
+    long count = 0;
+    final ResultSet resultSet = statement.executeQuery("SELECT 1");
+    for (int row = 0; row < ROWS; row++) {
+      resultSet.next();
+      for (int column = 1; column <= COLUMNS; column++) {
+        if (resultSet.getObject(column) != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  private static long readRows(final ResultSet resultSet) throws SQLException {
+    long sum = 0;
+    for (int row = 0; row < ROWS; row++) {
+      resultSet.next();
+      for (int column = 1; column <= COLUMNS; column++) {
+        sum += resultSet.getInt(column);
+      }
+    }
+    return sum;
+  }
+
+  private static long readNumericRows(final ResultSet resultSet) throws SQLException {
+    long sum = 0;
+    for (int row = 0; row < ROWS; row++) {
+      resultSet.next();
+      for (int column = 1; column <= COLUMNS; column++) {
+        switch (column % 4) {
+          case 0:
+            sum += resultSet.getInt(column);
+            break;
+          case 1:
+            sum += resultSet.getLong(column);
+            break;
+          case 2:
+            sum += (long) resultSet.getDouble(column);
+            break;
+          default:
+            sum += resultSet.getBoolean(column) ? 1 : 0;
+            break;
+        }
+      }
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.benchmarks;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.RoundRobinHostSelector;
+import software.amazon.jdbc.WeightedRoundRobinHostSelector;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
+
+/**
+ * Measures the throughput of the round-robin selectors when many threads select readers at the same time. Each
+ * thread selects from one of several clusters, with its own topology snapshot like each connection has. The main
+ * method runs the benchmarks with an increasing number of threads: the throughput of
+ * {@link WeightedRoundRobinHostSelector} should grow with the number of threads, while {@link RoundRobinHostSelector}
+ * serializes all selections on a single lock.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoundRobinBenchmarks {
+
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+
+  @Param({"15"})
+  int readers;
+
+  @Param({"4"})
+  int clusters;
+
+  private final RoundRobinHostSelector roundRobinHostSelector = new RoundRobinHostSelector();
+  private final WeightedRoundRobinHostSelector weightedRoundRobinHostSelector = new WeightedRoundRobinHostSelector();
+  private final AtomicInteger threadCount = new AtomicInteger();
+
+  private final List<List<HostSpec>> hostLists = new ArrayList<>();
+  private final List<Properties> properties = new ArrayList<>();
+
+  public static void main(String[] args) throws RunnerException {
+    for (final int threads : THREAD_COUNTS) {
+      Options opt = new OptionsBuilder()
+          .include(RoundRobinBenchmarks.class.getSimpleName())
+          .threads(threads)
+          .detectJvmArgs()
+          .build();
+
+      new Runner(opt).run();
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RoundRobinHostSelector.clearCache();
+    WeightedRoundRobinHostSelector.clearCache();
+    for (int c = 0; c < clusters; c++) {
+      final List<HostSpec> hosts = new ArrayList<>();
+      final StringBuilder weights = new StringBuilder();
+      hosts.add(createHost("cluster-" + c + "-instance-0", HostRole.WRITER));
+      for (int i = 1; i <= readers; i++) {
+        final String hostId = "cluster-" + c + "-instance-" + i;
+        hosts.add(createHost(hostId, HostRole.READER));
+        if (weights.length() > 0) {
+          weights.append(',');
+        }
+        weights.append(hostId).append(':').append(i % 3 + 1);
+      }
+      final Properties props = new Properties();
+      props.setProperty(RoundRobinHostSelector.ROUND_ROBIN_HOST_WEIGHT_PAIRS.name, weights.toString());
+
+      hostLists.add(hosts);
+      properties.add(props);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    int cluster;
+    TopologySnapshot topology;
+
+    @Setup(Level.Trial)
+    public void setUp(final RoundRobinBenchmarks benchmarks) {
+      cluster = benchmarks.threadCount.getAndIncrement() % benchmarks.clusters;
+      // Connections don't share snapshots, even when they see the same topology.
+      topology = new TopologySnapshot(null, 1, benchmarks.hostLists.get(cluster));
+    }
+  }
+
+  @Benchmark
+  public HostSpec roundRobin(final ThreadState state) throws SQLException {
+    return roundRobinHostSelector.getHost(
+        state.topology, HostRole.READER, properties.get(state.cluster));
+  }
+
+  @Benchmark
+  public HostSpec weightedRoundRobin(final ThreadState state) throws SQLException {
+    return weightedRoundRobinHostSelector.getHost(
+        state.topology, HostRole.READER, properties.get(state.cluster));
+  }
+
+  @Benchmark
+  public HostSpec weightedRoundRobinFromList(final ThreadState state) throws SQLException {
+    return weightedRoundRobinHostSelector.getHost(
+        hostLists.get(state.cluster), HostRole.READER, properties.get(state.cluster));
+  }
+
+  private static HostSpec createHost(final String hostId, final HostRole role) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host(hostId + ".xyz.us-east-2.rds.amazonaws.com")
+        .hostId(hostId)
+        .port(5432)
+        .role(role)
+        .build();
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.benchmarks.testplugin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.ConnectionPlugin;
+import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.ConnectionProvider;
+import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.JdbcMethod;
+import software.amazon.jdbc.util.telemetry.TelemetryContext;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
+import software.amazon.jdbc.wrapper.ConnectionWrapper;
+
+/**
+ * A plugin manager that executes JDBC calls through a chain of nested closures, the way
+ * {@link ConnectionPluginManager} did before plugin chains were compiled into arrays. It's used as a baseline
+ * in benchmarks.
+ */
+public class LambdaChainConnectionPluginManager extends ConnectionPluginManager {
+
+  @SuppressWarnings("rawtypes")
+  private final Map<String, PluginChainJdbcCallable> pluginChainFuncMap = new HashMap<>();
+
+  public LambdaChainConnectionPluginManager(
+      final @NonNull ConnectionProvider defaultConnProvider,
+      final @Nullable ConnectionProvider effectiveConnProvider,
+      final @NonNull ConnectionWrapper connectionWrapper,
+      final @NonNull TelemetryFactory telemetryFactory) {
+    super(defaultConnProvider, effectiveConnProvider, connectionWrapper, telemetryFactory);
+  }
+
+  @Override
+  protected <T, E extends Exception> T executeWithSubscribedPlugins(
+      final String methodName,
+      final PluginPipeline<T, E> pluginPipeline,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final @Nullable ConnectionPlugin pluginToSkip)
+      throws E {
+
+    // noinspection unchecked
+    PluginChainJdbcCallable<T, E> pluginChainFunc = this.pluginChainFuncMap.get(methodName);
+
+    if (pluginChainFunc == null) {
+      pluginChainFunc = this.makePluginChainFunc(methodName);
+      this.pluginChainFuncMap.put(methodName, pluginChainFunc);
+    }
+
+    if (pluginChainFunc == null) {
+      throw new RuntimeException("Error processing this JDBC call.");
+    }
+
+    return pluginChainFunc.call(pluginPipeline, jdbcMethodFunc, pluginToSkip);
+  }
+
+  @Override
+  protected <T, E extends Exception> T executeWithSubscribedPlugins(
+      final JdbcMethod jdbcMethod,
+      final PluginPipeline<T, E> pluginPipeline,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final @Nullable ConnectionPlugin pluginToSkip,
+      final boolean isTraced)
+      throws E {
+    return this.executeWithSubscribedPlugins(jdbcMethod.methodName, pluginPipeline, jdbcMethodFunc, pluginToSkip);
+  }
+
+  private <T, E extends Exception> T executeWithTelemetry(
+      final @NonNull JdbcCallable<T, E> execution,
+      final @NonNull String pluginName) throws E {
+    final TelemetryContext context = telemetryFactory.openTelemetryContext(
+        pluginName, TelemetryTraceLevel.NESTED);
+    try {
+      return execution.call();
+    } finally {
+      context.closeContext();
+    }
+  }
+
+  private <T, E extends Exception> T executeWithTelemetry(
+      final @NonNull JdbcCallable<T, E> execution,
+      final @NonNull String pluginName,
+      final @NonNull ConnectionPlugin plugin) throws E {
+    return this.executeWithTelemetry(() -> {
+      final TelemetryContext targetContext = this.openTargetTelemetryContext(plugin);
+      try {
+        return execution.call();
+      } finally {
+        if (targetContext != null) {
+          targetContext.closeContext();
+        }
+      }
+    }, pluginName);
+  }
+
+  private @Nullable <T, E extends Exception> PluginChainJdbcCallable<T, E> makePluginChainFunc(
+      final @NonNull String methodName) {
+
+    PluginChainJdbcCallable<T, E> pluginChainFunc = null;
+
+    for (int i = this.plugins.size() - 1; i >= 0; i--) {
+      final ConnectionPlugin plugin = this.plugins.get(i);
+      final Set<String> pluginSubscribedMethods = plugin.getSubscribedMethods();
+      final String pluginName = pluginNameByClass.getOrDefault(plugin.getClass(), plugin.getClass().getSimpleName());
+      final boolean isSubscribed = pluginSubscribedMethods.contains(ALL_METHODS)
+          || pluginSubscribedMethods.contains(methodName);
+
+      if (isSubscribed) {
+        if (pluginChainFunc == null) {
+          pluginChainFunc = (pipelineFunc, jdbcFunc, skipPlugin) ->
+              executeWithTelemetry(() -> pipelineFunc.call(plugin, jdbcFunc), pluginName, plugin);
+        } else {
+          final PluginChainJdbcCallable<T, E> finalPluginChainFunc = pluginChainFunc;
+          pluginChainFunc = (pipelineFunc, jdbcFunc, skipPlugin) -> {
+            if (skipPlugin == plugin) {
+              return finalPluginChainFunc.call(pipelineFunc, jdbcFunc, skipPlugin);
+            } else {
+              return executeWithTelemetry(
+                  () -> pipelineFunc.call(
+                      plugin,
+                      () -> finalPluginChainFunc.call(pipelineFunc, jdbcFunc, skipPlugin)),
+                  pluginName);
+            }
+          };
+        }
+      }
+    }
+    return pluginChainFunc;
+  }
+
+  private interface PluginChainJdbcCallable<T, E extends Exception> {
+
+    T call(
+        final @NonNull PluginPipeline<T, E> pipelineFunc,
+        final @NonNull JdbcCallable<T, E> jdbcMethodFunc,
+        final @Nullable ConnectionPlugin pluginToSkip) throws E;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.benchmarks.testplugin;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import javax.sql.rowset.serial.SerialBlob;
+
+/**
+ * A result set returning values of different types from {@link #getObject(int)}, the way a row of a typical
+ * table would: numbers, strings, timestamps and an occasional large object.
+ */
+public class MixedTypesResultSet extends TestResultSet {
+
+  private final Object[] values;
+
+  public MixedTypesResultSet() throws SQLException {
+    this.values = new Object[] {
+        42,
+        42L,
+        "value",
+        new BigDecimal("42.42"),
+        new Timestamp(0),
+        LocalDate.of(2024, 1, 1),
+        true,
+        new SerialBlob(new byte[] {1, 2, 3})
+    };
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    return this.values[(columnIndex - 1) % this.values.length];
+  }
+}
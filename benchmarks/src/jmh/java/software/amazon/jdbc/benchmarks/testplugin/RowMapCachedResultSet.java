@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.benchmarks.testplugin;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * The row based representation {@link software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultSet}
+ * used before it stored values by column: every row holds its values in two maps, keyed by column index and by
+ * column name. Kept as a baseline for benchmarks.
+ */
+public class RowMapCachedResultSet {
+
+  private final List<Row> rows = new ArrayList<>();
+  private int currentRow = -1;
+
+  public RowMapCachedResultSet(final ResultSet resultSet) throws SQLException {
+    final ResultSetMetaData md = resultSet.getMetaData();
+    final int columns = md.getColumnCount();
+    while (resultSet.next()) {
+      final Row row = new Row();
+      for (int i = 1; i <= columns; ++i) {
+        row.put(i, md.getColumnName(i), resultSet.getObject(i));
+      }
+      this.rows.add(row);
+    }
+  }
+
+  public void beforeFirst() {
+    this.currentRow = -1;
+  }
+
+  public boolean next() {
+    if (this.currentRow + 1 >= this.rows.size()) {
+      return false;
+    }
+    this.currentRow++;
+    return true;
+  }
+
+  public Object getObject(final int columnIndex) {
+    return this.rows.get(this.currentRow).columnByIndex.get(columnIndex);
+  }
+
+  private static class Row {
+    private final HashMap<Integer, Object> columnByIndex = new HashMap<>();
+    private final HashMap<String, Object> columnByName = new HashMap<>();
+
+    void put(final int columnIndex, final String columnName, final Object columnValue) {
+      this.columnByIndex.put(columnIndex, columnValue);
+      this.columnByName.put(columnName, columnValue);
+    }
+  }
+}
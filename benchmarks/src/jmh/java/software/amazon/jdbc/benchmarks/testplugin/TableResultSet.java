@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.benchmarks.testplugin;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * A result set returning the rows of a table held in memory.
+ */
+public class TableResultSet extends TestResultSet {
+
+  private final Object[][] rows;
+  private final ResultSetMetaData metaData;
+  private int currentRow = -1;
+
+  public TableResultSet(final Object[][] rows, final ResultSetMetaData metaData) {
+    this.rows = rows;
+    this.metaData = metaData;
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    return ++this.currentRow < this.rows.length;
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    return this.rows[this.currentRow][columnIndex - 1];
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    return this.metaData;
+  }
+}
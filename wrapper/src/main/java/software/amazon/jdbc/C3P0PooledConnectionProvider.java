@@ -51,6 +51,8 @@ public class C3P0PooledConnectionProvider implements PooledConnectionProvider, C
           put(HighestWeightHostSelector.STRATEGY_HIGHEST_WEIGHT, new HighestWeightHostSelector());
           put(RandomHostSelector.STRATEGY_RANDOM, new RandomHostSelector());
           put(RoundRobinHostSelector.STRATEGY_ROUND_ROBIN, new RoundRobinHostSelector());
+          put(WeightedRoundRobinHostSelector.STRATEGY_WEIGHTED_ROUND_ROBIN, new WeightedRoundRobinHostSelector());
+          put(WeightedRandomHostSelector.STRATEGY_WEIGHTED_RANDOM, new WeightedRandomHostSelector());
         }
       });
   protected static final long poolExpirationCheckNanos = TimeUnit.MINUTES.toNanos(30);
@@ -41,6 +41,77 @@ public interface ConnectionPlugin {
       final Object[] jdbcMethodArgs)
       throws E;
 
+  /**
+   * Same as {@link #execute(Class, Class, Object, String, JdbcCallable, Object[])} for JDBC methods returning
+   * {@code int}, eg "ResultSet.getInt". The default implementation boxes the result and calls
+   * {@link #execute(Class, Class, Object, String, JdbcCallable, Object[])}. Plugins that don't need to look
+   * at the result may override this method to keep the call free of boxing.
+   *
+   * @param exceptionClass the exception type the JDBC method may throw
+   * @param methodInvokeOn the object the JDBC method is invoked on
+   * @param methodName     the JDBC method name
+   * @param jdbcMethodFunc the function calling the rest of the pipeline
+   * @param jdbcMethodArgs the arguments of the JDBC method
+   * @param <E>            the exception type
+   * @return the result of the JDBC method
+   * @throws E if the JDBC method or the rest of the pipeline fail
+   */
+  default <E extends Exception> int executeInt(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final IntJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+    return this.execute(
+        int.class, exceptionClass, methodInvokeOn, methodName, jdbcMethodFunc::call, jdbcMethodArgs);
+  }
+
+  /**
+   * Same as {@link #executeInt(Class, Object, String, IntJdbcCallable, Object[])} for JDBC methods returning
+   * {@code long}.
+   */
+  default <E extends Exception> long executeLong(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final LongJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+    return this.execute(
+        long.class, exceptionClass, methodInvokeOn, methodName, jdbcMethodFunc::call, jdbcMethodArgs);
+  }
+
+  /**
+   * Same as {@link #executeInt(Class, Object, String, IntJdbcCallable, Object[])} for JDBC methods returning
+   * {@code double}.
+   */
+  default <E extends Exception> double executeDouble(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final DoubleJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+    return this.execute(
+        double.class, exceptionClass, methodInvokeOn, methodName, jdbcMethodFunc::call, jdbcMethodArgs);
+  }
+
+  /**
+   * Same as {@link #executeInt(Class, Object, String, IntJdbcCallable, Object[])} for JDBC methods returning
+   * {@code boolean}.
+   */
+  default <E extends Exception> boolean executeBoolean(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final BooleanJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+    return this.execute(
+        boolean.class, exceptionClass, methodInvokeOn, methodName, jdbcMethodFunc::call, jdbcMethodArgs);
+  }
+
   /**
    * Establishes a connection to the given host using the given driver protocol and properties. If a
    * non-default {@link ConnectionProvider} has been set with
@@ -146,4 +217,18 @@ public interface ConnectionPlugin {
   OldConnectionSuggestedAction notifyConnectionChanged(EnumSet<NodeChangeOptions> changes);
 
   void notifyNodeListChanged(Map<String, EnumSet<NodeChangeOptions>> changes);
+
+  /**
+   * Returns a boolean indicating if this plugin passes calls to the given method straight down the
+   * pipeline without intercepting them, even though it is subscribed to the method (usually through
+   * the "*" wildcard). When every plugin except {@link software.amazon.jdbc.plugin.DefaultConnectionPlugin}
+   * is passive for a method, {@link ConnectionPluginManager} may invoke the method directly on the
+   * target driver object.
+   *
+   * @param methodName the JDBC method name, eg "ResultSet.getInt"
+   * @return true if this plugin doesn't need to intercept calls to the given method
+   */
+  default boolean isPassive(final String methodName) {
+    return false;
+  }
 }
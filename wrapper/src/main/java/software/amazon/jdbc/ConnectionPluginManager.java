@@ -19,12 +19,14 @@ package software.amazon.jdbc;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Wrapper;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -104,6 +106,24 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
 
   private final ReentrantLock lock = new ReentrantLock();
 
+  /**
+   * Ownership tracking used when {@link PropertyDefinition#SINGLE_THREADED_CONNECTION} is enabled. The fields
+   * are intentionally not volatile: the check is a cheap best-effort assertion, and handing a connection over to
+   * another thread (eg by a connection pool) already establishes the required happens-before relation.
+   */
+  protected boolean isSingleThreaded;
+  protected @Nullable Thread ownerThread;
+  protected int ownerDepth;
+
+  protected int resultSetPrefetchSize;
+
+  /**
+   * Notifies the plugins of the host list changes computed on a background thread, see
+   * {@link PluginServiceImpl#updateNodeList(List)}. Set by the background thread, and run by the thread using the
+   * connection at the start of its next JDBC call, so that checking for pending changes is a single volatile read.
+   */
+  protected volatile @Nullable Runnable pendingNodeListChangesNotifier;
+
   protected Properties props = new Properties();
   protected List<ConnectionPlugin> plugins;
   protected final @NonNull ConnectionProvider defaultConnProvider;
@@ -112,8 +132,28 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
   protected PluginService pluginService;
   protected TelemetryFactory telemetryFactory;
 
-  @SuppressWarnings("rawtypes")
-  protected final Map<String, PluginChainJdbcCallable> pluginChainFuncMap = new HashMap<>();
+  protected final Map<String, PluginChain> pluginChainMap = new ConcurrentHashMap<>();
+
+  /**
+   * Subscription bitmaps keyed by method name. Bit N is set if the N-th plugin in the chain is subscribed
+   * to the method and isn't passive for it. This map is accessed without holding the manager lock.
+   */
+  protected final Map<String, Long> subscriptionMaskMap = new ConcurrentHashMap<>();
+
+  /**
+   * Plugin chains and subscription bitmaps of the registered {@link JdbcMethod} methods indexed by
+   * {@link JdbcMethod#ordinal()}, so the wrapper classes don't pay for hashing a method name on every call.
+   * Entries are immutable once built. Threads racing to fill the same slot build identical entries.
+   */
+  protected final PluginChain[] pluginChainsByMethod = new PluginChain[JdbcMethod.values().length];
+  protected final Long[] subscriptionMasksByMethod = new Long[JdbcMethod.values().length];
+
+  /**
+   * Plugin chains used by the primitive-returning calls, eg {@link #executeInt}, indexed by
+   * {@link JdbcMethod#ordinal()}. Plugins that are passive for a method are left out, since they would
+   * only pass the call on.
+   */
+  protected final PluginChain[] activePluginChainsByMethod = new PluginChain[JdbcMethod.values().length];
 
   public ConnectionPluginManager(
       final @NonNull ConnectionProvider defaultConnProvider,
@@ -157,6 +197,8 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     this.plugins = plugins;
     this.connectionWrapper = connectionWrapper;
     this.telemetryFactory = telemetryFactory;
+    this.isSingleThreaded = props != null && PropertyDefinition.SINGLE_THREADED_CONNECTION.getBoolean(props);
+    this.resultSetPrefetchSize = props == null ? 0 : PropertyDefinition.RESULT_SET_PREFETCH_SIZE.getInteger(props);
   }
 
   public void lock() {
@@ -171,6 +213,71 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     return lock.isHeldByCurrentThread();
   }
 
+  /**
+   * Prepares the manager for a JDBC call made by the current thread. By default, the manager lock is taken for all
+   * methods except the ones that may be called while another call is in progress, like {@code Statement.cancel}.
+   *
+   * <p>If {@link PropertyDefinition#SINGLE_THREADED_CONNECTION} is enabled, only such cross-thread methods take
+   * the lock. Other methods check that the connection isn't used by another thread at the same time.
+   *
+   * <p>Each call must be paired with {@link #endExecution(boolean)}.
+   *
+   * @param isCrossThreadMethod true if the method may be called from another thread, like
+   *                            {@code Statement.cancel}
+   * @param exceptionClass      the exception type the JDBC method may throw
+   * @param <E>                 the exception type
+   * @throws E if the connection is used by another thread while single-threaded mode is enabled
+   */
+  public <E extends Exception> void beginExecution(
+      final boolean isCrossThreadMethod, final Class<E> exceptionClass) throws E {
+
+    if (!this.isSingleThreaded) {
+      if (!isCrossThreadMethod) {
+        this.lock.lock();
+      }
+      return;
+    }
+
+    if (isCrossThreadMethod) {
+      // Cross-thread methods don't own the connection. The lock serializes them with each other.
+      this.lock.lock();
+      return;
+    }
+
+    final Thread currentThread = Thread.currentThread();
+    final Thread owner = this.ownerThread;
+    if (owner == null) {
+      this.ownerThread = currentThread;
+    } else if (owner != currentThread) {
+      throw WrapperUtils.wrapExceptionIfNeeded(
+          exceptionClass,
+          new SQLException(
+              Messages.get(
+                  "ConnectionPluginManager.concurrentAccessDetected",
+                  new Object[] {owner.getName(), currentThread.getName()})));
+    }
+    this.ownerDepth++;
+  }
+
+  /**
+   * Completes a JDBC call started with {@link #beginExecution(boolean, Class)}.
+   *
+   * @param isCrossThreadMethod true if the method may be called from another thread, like
+   *                            {@code Statement.cancel}
+   */
+  public void endExecution(final boolean isCrossThreadMethod) {
+    if (this.isSingleThreaded && !isCrossThreadMethod) {
+      if (--this.ownerDepth == 0) {
+        this.ownerThread = null;
+      }
+      return;
+    }
+
+    if (this.lock.isHeldByCurrentThread()) {
+      this.lock.unlock();
+    }
+  }
+
   /**
    * Initialize a chain of {@link ConnectionPlugin} using their corresponding {@link
    * ConnectionPluginFactory}. If {@code PropertyDefinition.PLUGINS} is provided by the user,
@@ -195,6 +302,8 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     this.props = props;
     this.pluginService = pluginService;
     this.telemetryFactory = pluginService.getTelemetryFactory();
+    this.isSingleThreaded = PropertyDefinition.SINGLE_THREADED_CONNECTION.getBoolean(props);
+    this.resultSetPrefetchSize = PropertyDefinition.RESULT_SET_PREFETCH_SIZE.getInteger(props);
 
     ConnectionPluginChainBuilder pluginChainBuilder = new ConnectionPluginChainBuilder();
     this.plugins = pluginChainBuilder.getPlugins(
@@ -213,6 +322,42 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
       final @Nullable ConnectionPlugin pluginToSkip)
       throws E {
 
+    PluginChain pluginChain = this.pluginChainMap.get(methodName);
+
+    if (pluginChain == null) {
+      pluginChain = this.makePluginChain(methodName);
+      this.pluginChainMap.put(methodName, pluginChain);
+    }
+
+    return this.executeWithPluginChain(pluginChain, pluginPipeline, jdbcMethodFunc, pluginToSkip, true);
+  }
+
+  protected <T, E extends Exception> T executeWithSubscribedPlugins(
+      final JdbcMethod jdbcMethod,
+      final PluginPipeline<T, E> pluginPipeline,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final @Nullable ConnectionPlugin pluginToSkip,
+      final boolean isTraced)
+      throws E {
+
+    PluginChain pluginChain = this.pluginChainsByMethod[jdbcMethod.ordinal()];
+
+    if (pluginChain == null) {
+      pluginChain = this.makePluginChain(jdbcMethod.methodName);
+      this.pluginChainsByMethod[jdbcMethod.ordinal()] = pluginChain;
+    }
+
+    return this.executeWithPluginChain(pluginChain, pluginPipeline, jdbcMethodFunc, pluginToSkip, isTraced);
+  }
+
+  protected <T, E extends Exception> T executeWithPluginChain(
+      final PluginChain pluginChain,
+      final PluginPipeline<T, E> pluginPipeline,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final @Nullable ConnectionPlugin pluginToSkip,
+      final boolean isTraced)
+      throws E {
+
     if (pluginPipeline == null) {
       throw new IllegalArgumentException("pluginPipeline");
     }
@@ -221,70 +366,138 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
       throw new IllegalArgumentException("jdbcMethodFunc");
     }
 
-    // noinspection unchecked
-    PluginChainJdbcCallable<T, E> pluginChainFunc = this.pluginChainFuncMap.get(methodName);
+    if (pluginChain.plugins.length == 0) {
+      throw new RuntimeException("Error processing this JDBC call.");
+    }
 
-    if (pluginChainFunc == null) {
-      pluginChainFunc = this.makePluginChainFunc(methodName);
-      this.pluginChainFuncMap.put(methodName, pluginChainFunc);
+    return new PluginChainCursor<>(pluginChain, pluginPipeline, jdbcMethodFunc, pluginToSkip, isTraced).call();
+  }
+
+  /**
+   * Compiles the chain of plugins subscribed to the given method into a flat array. The plugins keep the
+   * order they have in the plugin chain. The last plugin is expected to be {@link DefaultConnectionPlugin}.
+   *
+   * @param methodName the JDBC method name
+   * @return the plugins subscribed to the method
+   */
+  protected @NonNull PluginChain makePluginChain(final @NonNull String methodName) {
+    return this.makePluginChain(methodName, false);
+  }
+
+  /**
+   * Same as {@link #makePluginChain(String)}. If {@code skipPassivePlugins} is true, plugins that are
+   * passive for the method are left out of the chain. {@link DefaultConnectionPlugin} is always kept.
+   *
+   * @param methodName         the JDBC method name
+   * @param skipPassivePlugins true if passive plugins should be left out
+   * @return the plugins subscribed to the method
+   */
+  protected @NonNull PluginChain makePluginChain(
+      final @NonNull String methodName, final boolean skipPassivePlugins) {
+    final List<ConnectionPlugin> subscribedPlugins = new ArrayList<>();
+    final List<String> subscribedPluginNames = new ArrayList<>();
+
+    for (final ConnectionPlugin plugin : this.plugins) {
+      final Set<String> pluginSubscribedMethods = plugin.getSubscribedMethods();
+      final boolean isSubscribed = pluginSubscribedMethods.contains(ALL_METHODS)
+          || pluginSubscribedMethods.contains(methodName);
+
+      if (isSubscribed
+          && (!skipPassivePlugins
+              || plugin instanceof DefaultConnectionPlugin
+              || !plugin.isPassive(methodName))) {
+        subscribedPlugins.add(plugin);
+        subscribedPluginNames.add(
+            pluginNameByClass.getOrDefault(plugin.getClass(), plugin.getClass().getSimpleName()));
+      }
     }
 
-    if (pluginChainFunc == null) {
-      throw new RuntimeException("Error processing this JDBC call.");
+    return new PluginChain(
+        subscribedPlugins.toArray(new ConnectionPlugin[0]),
+        subscribedPluginNames.toArray(new String[0]));
+  }
+
+  /**
+   * Returns a boolean indicating if the given method can be invoked directly on the target driver object,
+   * bypassing the plugin pipeline. That's the case when {@link DefaultConnectionPlugin} is the only
+   * non-passive plugin subscribed to the method, telemetry tracing is disabled and no host list changes are
+   * waiting to be notified.
+   *
+   * @param methodName the JDBC method name, eg "ResultSet.getInt"
+   * @return true if the plugin pipeline can be skipped for the given method
+   */
+  public boolean isPipelineBypassAllowed(final String methodName) {
+    if (this.plugins == null
+        || this.pluginService == null
+        || this.telemetryFactory.isTracingEnabled()
+        || this.pendingNodeListChangesNotifier != null) {
+      return false;
+    }
+
+    final int defaultPluginIndex = this.plugins.size() - 1;
+    return this.getSubscriptionMask(methodName) == (1L << defaultPluginIndex)
+        && this.plugins.get(defaultPluginIndex) instanceof DefaultConnectionPlugin;
+  }
+
+  /**
+   * Same as {@link #isPipelineBypassAllowed(String)} for a registered JDBC method.
+   *
+   * @param jdbcMethod the JDBC method
+   * @return true if the plugin pipeline can be skipped for the given method
+   */
+  public boolean isPipelineBypassAllowed(final JdbcMethod jdbcMethod) {
+    if (this.plugins == null
+        || this.pluginService == null
+        || this.telemetryFactory.isTracingEnabled()
+        || this.pendingNodeListChangesNotifier != null) {
+      return false;
     }
 
-    return pluginChainFunc.call(pluginPipeline, jdbcMethodFunc, pluginToSkip);
+    final int defaultPluginIndex = this.plugins.size() - 1;
+    return this.getSubscriptionMask(jdbcMethod) == (1L << defaultPluginIndex)
+        && this.plugins.get(defaultPluginIndex) instanceof DefaultConnectionPlugin;
   }
 
+  public boolean isCurrentConnection(final @Nullable Connection connection) {
+    return connection != null && connection == this.pluginService.getCurrentConnection();
+  }
 
-  protected <T, E extends Exception> T executeWithTelemetry(
-      final @NonNull JdbcCallable<T, E> execution,
-      final @NonNull String pluginName) throws E {
-    final TelemetryContext context = telemetryFactory.openTelemetryContext(
-        pluginName, TelemetryTraceLevel.NESTED);
-    try {
-      return execution.call();
-    } finally {
-      context.closeContext();
+  protected long getSubscriptionMask(final @NonNull String methodName) {
+    Long mask = this.subscriptionMaskMap.get(methodName);
+    if (mask == null) {
+      mask = this.makeSubscriptionMask(methodName);
+      this.subscriptionMaskMap.putIfAbsent(methodName, mask);
     }
+    return mask;
   }
 
-  @Nullable
-  protected <T, E extends Exception> PluginChainJdbcCallable<T, E> makePluginChainFunc(
-      final @NonNull String methodName) {
+  protected long getSubscriptionMask(final @NonNull JdbcMethod jdbcMethod) {
+    Long mask = this.subscriptionMasksByMethod[jdbcMethod.ordinal()];
+    if (mask == null) {
+      mask = this.makeSubscriptionMask(jdbcMethod.methodName);
+      this.subscriptionMasksByMethod[jdbcMethod.ordinal()] = mask;
+    }
+    return mask;
+  }
 
-    PluginChainJdbcCallable<T, E> pluginChainFunc = null;
+  protected long makeSubscriptionMask(final @NonNull String methodName) {
+    if (this.plugins.size() > Long.SIZE) {
+      // The bitmap can't represent such a long chain. Mark all positions as subscribed.
+      return -1L;
+    }
 
-    for (int i = this.plugins.size() - 1; i >= 0; i--) {
+    long mask = 0L;
+    for (int i = 0; i < this.plugins.size(); i++) {
       final ConnectionPlugin plugin = this.plugins.get(i);
       final Set<String> pluginSubscribedMethods = plugin.getSubscribedMethods();
-      final String pluginName = pluginNameByClass.getOrDefault(plugin.getClass(), plugin.getClass().getSimpleName());
       final boolean isSubscribed = pluginSubscribedMethods.contains(ALL_METHODS)
           || pluginSubscribedMethods.contains(methodName);
 
-      if (isSubscribed) {
-        if (pluginChainFunc == null) {
-          // This case is for DefaultConnectionPlugin that always terminates the list of plugins.
-          // Default plugin can't be skipped.
-          pluginChainFunc = (pipelineFunc, jdbcFunc, pluginToSkip) ->
-              executeWithTelemetry(() -> pipelineFunc.call(plugin, jdbcFunc), pluginName);
-        } else {
-          final PluginChainJdbcCallable<T, E> finalPluginChainFunc = pluginChainFunc;
-          pluginChainFunc = (pipelineFunc, jdbcFunc, pluginToSkip) -> {
-            if (pluginToSkip == plugin) {
-              return finalPluginChainFunc.call(pipelineFunc, jdbcFunc, pluginToSkip);
-            } else {
-              return executeWithTelemetry(
-                  () -> pipelineFunc.call(
-                      plugin,
-                      () -> finalPluginChainFunc.call(pipelineFunc, jdbcFunc, pluginToSkip)),
-                  pluginName);
-            }
-          };
-        }
+      if (isSubscribed && !plugin.isPassive(methodName)) {
+        mask |= 1L << i;
       }
     }
-    return pluginChainFunc;
+    return mask;
   }
 
   protected <E extends Exception> void notifySubscribedPlugins(
@@ -320,6 +533,32 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     return this.telemetryFactory;
   }
 
+  /**
+   * Opens the telemetry context of the target driver call if the given plugin is {@link DefaultConnectionPlugin},
+   * the plugin calling the target driver. The context is opened by the plugin chain rather than by the plugin
+   * itself, so calls that aren't traced don't open it.
+   *
+   * @param plugin the plugin that is about to be called
+   * @return the opened context, or null if the plugin doesn't call the target driver
+   */
+  protected @Nullable TelemetryContext openTargetTelemetryContext(final ConnectionPlugin plugin) {
+    if (!(plugin instanceof DefaultConnectionPlugin)) {
+      return null;
+    }
+    return this.telemetryFactory.openTelemetryContext(
+        this.pluginService == null ? null : this.pluginService.getTargetName(), TelemetryTraceLevel.NESTED);
+  }
+
+  /**
+   * Returns the number of rows result sets of this connection read ahead, see
+   * {@link PropertyDefinition#RESULT_SET_PREFETCH_SIZE}.
+   *
+   * @return the number of rows to prefetch, 0 if prefetching is disabled
+   */
+  public int getResultSetPrefetchSize() {
+    return this.resultSetPrefetchSize;
+  }
+
   public <T, E extends Exception> T execute(
       final Class<T> resultType,
       final Class<E> exceptionClass,
@@ -329,17 +568,17 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
       final Object[] jdbcMethodArgs)
       throws E {
 
+    final JdbcMethod jdbcMethod = JdbcMethod.fromMethodName(methodName);
+    if (jdbcMethod != null) {
+      return this.execute(resultType, exceptionClass, methodInvokeOn, jdbcMethod, jdbcMethodFunc, jdbcMethodArgs);
+    }
+
+    final boolean isAsynchronous = AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName);
+    this.notifyPendingNodeListChanges(isAsynchronous);
+
     // The target driver may block on Statement.getConnection().
-    if (!AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
-      final Connection conn = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
-      if (conn != null
-          && conn != this.pluginService.getCurrentConnection()
-          && !sqlMethodAnalyzer.isMethodClosingSqlObject(methodName)) {
-        throw WrapperUtils.wrapExceptionIfNeeded(
-            exceptionClass,
-            new SQLException(
-                Messages.get("ConnectionPluginManager.invokedAgainstOldConnection", new Object[] {methodInvokeOn})));
-      }
+    if (!isAsynchronous && !sqlMethodAnalyzer.isMethodClosingSqlObject(methodName)) {
+      this.checkInvokedOnCurrentConnection(exceptionClass, methodInvokeOn);
     }
 
     return executeWithSubscribedPlugins(
@@ -351,6 +590,200 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
         null);
   }
 
+  /**
+   * Executes a registered JDBC method through the plugins subscribed to it. Plugins receive
+   * {@link JdbcMethod#methodName}, so the string based {@link ConnectionPlugin} API stays unchanged.
+   *
+   * @param resultType      the result type of the JDBC method
+   * @param exceptionClass  the exception type the JDBC method may throw
+   * @param methodInvokeOn  the object the JDBC method is invoked on
+   * @param jdbcMethod      the JDBC method
+   * @param jdbcMethodFunc  the function calling the JDBC method on the target driver object
+   * @param jdbcMethodArgs  the arguments of the JDBC method
+   * @param <T>             the result type
+   * @param <E>             the exception type
+   * @return the result of the JDBC method
+   * @throws E if the JDBC method or any of the plugins fail
+   */
+  public <T, E extends Exception> T execute(
+      final Class<T> resultType,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+    return this.execute(resultType, exceptionClass, methodInvokeOn, jdbcMethod, jdbcMethodFunc, jdbcMethodArgs, true);
+  }
+
+  /**
+   * Same as {@link #execute(Class, Class, Object, JdbcMethod, JdbcCallable, Object[])}. If {@code isTraced} is
+   * false, no telemetry context is opened for the plugins handling the call.
+   *
+   * @param resultType      the result type of the JDBC method
+   * @param exceptionClass  the exception type the JDBC method may throw
+   * @param methodInvokeOn  the object the JDBC method is invoked on
+   * @param jdbcMethod      the JDBC method
+   * @param jdbcMethodFunc  the function calling the JDBC method on the target driver object
+   * @param jdbcMethodArgs  the arguments of the JDBC method
+   * @param isTraced        true if the call has been sampled for tracing, see
+   *                        {@link TelemetryFactory#shouldTrace(JdbcMethod)}
+   * @param <T>             the result type
+   * @param <E>             the exception type
+   * @return the result of the JDBC method
+   * @throws E if the JDBC method or any of the plugins fail
+   */
+  public <T, E extends Exception> T execute(
+      final Class<T> resultType,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs,
+      final boolean isTraced)
+      throws E {
+
+    this.notifyPendingNodeListChanges(jdbcMethod.isAsynchronous);
+
+    // The target driver may block on Statement.getConnection().
+    if (!jdbcMethod.isAsynchronous && !jdbcMethod.isClosing) {
+      this.checkInvokedOnCurrentConnection(exceptionClass, methodInvokeOn);
+    }
+
+    final String methodName = jdbcMethod.methodName;
+    return executeWithSubscribedPlugins(
+        jdbcMethod,
+        (plugin, func) ->
+            plugin.execute(
+                resultType, exceptionClass, methodInvokeOn, methodName, func, jdbcMethodArgs),
+        jdbcMethodFunc,
+        null,
+        isTraced);
+  }
+
+  /**
+   * Executes a registered JDBC method returning {@code int} through the plugins subscribed to it. Plugins
+   * are called through {@link ConnectionPlugin#executeInt}, so the result isn't boxed unless a plugin
+   * relies on the default implementation of that method. Plugins that are passive for the method are
+   * skipped.
+   *
+   * @param exceptionClass  the exception type the JDBC method may throw
+   * @param methodInvokeOn  the object the JDBC method is invoked on
+   * @param jdbcMethod      the JDBC method
+   * @param jdbcMethodFunc  the function calling the JDBC method on the target driver object
+   * @param jdbcMethodArgs  the arguments of the JDBC method
+   * @param isTraced        true if the call has been sampled for tracing, see
+   *                        {@link TelemetryFactory#shouldTrace(JdbcMethod)}
+   * @param <E>             the exception type
+   * @return the result of the JDBC method
+   * @throws E if the JDBC method or any of the plugins fail
+   */
+  public <E extends Exception> int executeInt(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final IntJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs,
+      final boolean isTraced)
+      throws E {
+
+    final PluginChain pluginChain = this.getActivePluginChain(exceptionClass, methodInvokeOn, jdbcMethod);
+    return new IntPluginChainCursor<>(
+        pluginChain, exceptionClass, methodInvokeOn, jdbcMethod.methodName, jdbcMethodFunc, jdbcMethodArgs, isTraced)
+        .call();
+  }
+
+  /**
+   * Same as {@link #executeInt(Class, Object, JdbcMethod, IntJdbcCallable, Object[], boolean)} for JDBC
+   * methods returning {@code long}.
+   */
+  public <E extends Exception> long executeLong(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final LongJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs,
+      final boolean isTraced)
+      throws E {
+
+    final PluginChain pluginChain = this.getActivePluginChain(exceptionClass, methodInvokeOn, jdbcMethod);
+    return new LongPluginChainCursor<>(
+        pluginChain, exceptionClass, methodInvokeOn, jdbcMethod.methodName, jdbcMethodFunc, jdbcMethodArgs, isTraced)
+        .call();
+  }
+
+  /**
+   * Same as {@link #executeInt(Class, Object, JdbcMethod, IntJdbcCallable, Object[], boolean)} for JDBC
+   * methods returning {@code double}.
+   */
+  public <E extends Exception> double executeDouble(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final DoubleJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs,
+      final boolean isTraced)
+      throws E {
+
+    final PluginChain pluginChain = this.getActivePluginChain(exceptionClass, methodInvokeOn, jdbcMethod);
+    return new DoublePluginChainCursor<>(
+        pluginChain, exceptionClass, methodInvokeOn, jdbcMethod.methodName, jdbcMethodFunc, jdbcMethodArgs, isTraced)
+        .call();
+  }
+
+  /**
+   * Same as {@link #executeInt(Class, Object, JdbcMethod, IntJdbcCallable, Object[], boolean)} for JDBC
+   * methods returning {@code boolean}.
+   */
+  public <E extends Exception> boolean executeBoolean(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final BooleanJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs,
+      final boolean isTraced)
+      throws E {
+
+    final PluginChain pluginChain = this.getActivePluginChain(exceptionClass, methodInvokeOn, jdbcMethod);
+    return new BooleanPluginChainCursor<>(
+        pluginChain, exceptionClass, methodInvokeOn, jdbcMethod.methodName, jdbcMethodFunc, jdbcMethodArgs, isTraced)
+        .call();
+  }
+
+  protected <E extends Exception> PluginChain getActivePluginChain(
+      final Class<E> exceptionClass, final Object methodInvokeOn, final JdbcMethod jdbcMethod) throws E {
+
+    this.notifyPendingNodeListChanges(jdbcMethod.isAsynchronous);
+
+    // The target driver may block on Statement.getConnection().
+    if (!jdbcMethod.isAsynchronous && !jdbcMethod.isClosing) {
+      this.checkInvokedOnCurrentConnection(exceptionClass, methodInvokeOn);
+    }
+
+    PluginChain pluginChain = this.activePluginChainsByMethod[jdbcMethod.ordinal()];
+    if (pluginChain == null) {
+      pluginChain = this.makePluginChain(jdbcMethod.methodName, true);
+      this.activePluginChainsByMethod[jdbcMethod.ordinal()] = pluginChain;
+    }
+
+    if (pluginChain.plugins.length == 0) {
+      throw new RuntimeException("Error processing this JDBC call.");
+    }
+    return pluginChain;
+  }
+
+  protected <E extends Exception> void checkInvokedOnCurrentConnection(
+      final Class<E> exceptionClass, final Object methodInvokeOn) throws E {
+
+    final Connection conn = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
+    if (conn != null && conn != this.pluginService.getCurrentConnection()) {
+      throw WrapperUtils.wrapExceptionIfNeeded(
+          exceptionClass,
+          new SQLException(
+              Messages.get("ConnectionPluginManager.invokedAgainstOldConnection", new Object[] {methodInvokeOn})));
+    }
+  }
+
   /**
    * Establishes a connection to the given host using the given driver protocol and properties. If a
    * non-default {@link ConnectionProvider} has been set with
@@ -577,6 +1010,32 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     return result;
   }
 
+  /**
+   * Requests host list changes computed on a background thread to be notified to the plugins at the start of the
+   * next JDBC call made on the connection.
+   *
+   * @param notifier notifies the plugins of the pending changes
+   */
+  public void notifyNodeListChangedOnNextCall(final @NonNull Runnable notifier) {
+    this.pendingNodeListChangesNotifier = notifier;
+  }
+
+  /**
+   * Notifies the plugins of the pending host list changes, if any. Asynchronous methods, like
+   * {@link java.sql.Statement#cancel()}, may be called by another thread than the one using the connection, so they
+   * leave the changes to the next call.
+   *
+   * @param isAsynchronous whether the JDBC method being called is asynchronous
+   */
+  protected void notifyPendingNodeListChanges(final boolean isAsynchronous) {
+    final Runnable notifier = this.pendingNodeListChangesNotifier;
+    if (notifier != null && !isAsynchronous) {
+      // Cleared first: changes computed while notifying are picked up by the following call.
+      this.pendingNodeListChangesNotifier = null;
+      notifier.run();
+    }
+  }
+
   public void notifyNodeListChanged(@NonNull final Map<String, EnumSet<NodeChangeOptions>> changes) {
 
     notifySubscribedPlugins(
@@ -654,11 +1113,281 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     T call(final @NonNull ConnectionPlugin plugin, final @Nullable JdbcCallable<T, E> jdbcMethodFunc) throws E;
   }
 
-  protected interface PluginChainJdbcCallable<T, E extends Exception> {
+  protected static final class PluginChain {
+
+    protected final ConnectionPlugin[] plugins;
+    protected final String[] pluginNames;
+
+    PluginChain(final ConnectionPlugin[] plugins, final String[] pluginNames) {
+      this.plugins = plugins;
+      this.pluginNames = pluginNames;
+    }
+  }
+
+  /**
+   * Walks a compiled {@link PluginChain} for a single JDBC call. The cursor is handed to every plugin as the
+   * function that continues the call down the chain, so a call costs one cursor instead of a closure per
+   * plugin.
+   */
+  protected final class PluginChainCursor<T, E extends Exception> implements JdbcCallable<T, E> {
+
+    private final PluginChain pluginChain;
+    private final PluginPipeline<T, E> pluginPipeline;
+    private final JdbcCallable<T, E> jdbcMethodFunc;
+    private final @Nullable ConnectionPlugin pluginToSkip;
+    private final boolean isTraced;
+    private int position;
+
+    PluginChainCursor(
+        final PluginChain pluginChain,
+        final PluginPipeline<T, E> pluginPipeline,
+        final JdbcCallable<T, E> jdbcMethodFunc,
+        final @Nullable ConnectionPlugin pluginToSkip,
+        final boolean isTraced) {
+      this.pluginChain = pluginChain;
+      this.pluginPipeline = pluginPipeline;
+      this.jdbcMethodFunc = jdbcMethodFunc;
+      this.pluginToSkip = pluginToSkip;
+      this.isTraced = isTraced;
+    }
+
+    @Override
+    public T call() throws E {
+      final int startPosition = this.position;
+      try {
+        return this.proceed();
+      } finally {
+        // A plugin may call the rest of the chain more than once, so the next call should start from
+        // the same position.
+        this.position = startPosition;
+      }
+    }
+
+    private T proceed() throws E {
+      final ConnectionPlugin[] plugins = this.pluginChain.plugins;
+      final int lastPosition = plugins.length - 1;
+
+      // The last plugin in the chain is DefaultConnectionPlugin that can't be skipped.
+      while (this.position < lastPosition && plugins[this.position] == this.pluginToSkip) {
+        this.position++;
+      }
+
+      final int currentPosition = this.position++;
+      final JdbcCallable<T, E> next = currentPosition == lastPosition ? this.jdbcMethodFunc : this;
+      if (!this.isTraced) {
+        return this.pluginPipeline.call(plugins[currentPosition], next);
+      }
+
+      final TelemetryContext context = telemetryFactory.openTelemetryContext(
+          this.pluginChain.pluginNames[currentPosition], TelemetryTraceLevel.NESTED);
+      final TelemetryContext targetContext = openTargetTelemetryContext(plugins[currentPosition]);
+      try {
+        return this.pluginPipeline.call(plugins[currentPosition], next);
+      } finally {
+        if (targetContext != null) {
+          targetContext.closeContext();
+        }
+        context.closeContext();
+      }
+    }
+  }
+
+  /**
+   * Base class of the cursors walking a compiled {@link PluginChain} for a JDBC method returning a primitive
+   * value. See {@link PluginChainCursor}.
+   */
+  protected abstract class PrimitivePluginChainCursor<E extends Exception> {
+
+    protected final PluginChain pluginChain;
+    protected final Class<E> exceptionClass;
+    protected final Object methodInvokeOn;
+    protected final String methodName;
+    protected final Object[] jdbcMethodArgs;
+    protected final boolean isTraced;
+    protected int position;
+
+    PrimitivePluginChainCursor(
+        final PluginChain pluginChain,
+        final Class<E> exceptionClass,
+        final Object methodInvokeOn,
+        final String methodName,
+        final Object[] jdbcMethodArgs,
+        final boolean isTraced) {
+      this.pluginChain = pluginChain;
+      this.exceptionClass = exceptionClass;
+      this.methodInvokeOn = methodInvokeOn;
+      this.methodName = methodName;
+      this.jdbcMethodArgs = jdbcMethodArgs;
+      this.isTraced = isTraced;
+    }
+
+    protected boolean isLastPosition(final int position) {
+      return position == this.pluginChain.plugins.length - 1;
+    }
 
-    T call(
-        final @NonNull PluginPipeline<T, E> pipelineFunc,
-        final @NonNull JdbcCallable<T, E> jdbcMethodFunc,
-        final @Nullable ConnectionPlugin pluginToSkip) throws E;
+    protected @Nullable TelemetryContext openTelemetryContext(final int position) {
+      if (!this.isTraced) {
+        return null;
+      }
+      return telemetryFactory.openTelemetryContext(
+          this.pluginChain.pluginNames[position], TelemetryTraceLevel.NESTED);
+    }
+
+    protected @Nullable TelemetryContext openTargetTelemetryContext(final int position) {
+      if (!this.isTraced) {
+        return null;
+      }
+      return ConnectionPluginManager.this.openTargetTelemetryContext(this.pluginChain.plugins[position]);
+    }
+
+    protected void closeTelemetryContexts(
+        final @Nullable TelemetryContext context, final @Nullable TelemetryContext targetContext) {
+      if (targetContext != null) {
+        targetContext.closeContext();
+      }
+      if (context != null) {
+        context.closeContext();
+      }
+    }
+  }
+
+  protected final class IntPluginChainCursor<E extends Exception>
+      extends PrimitivePluginChainCursor<E> implements IntJdbcCallable<E> {
+
+    private final IntJdbcCallable<E> jdbcMethodFunc;
+
+    IntPluginChainCursor(
+        final PluginChain pluginChain,
+        final Class<E> exceptionClass,
+        final Object methodInvokeOn,
+        final String methodName,
+        final IntJdbcCallable<E> jdbcMethodFunc,
+        final Object[] jdbcMethodArgs,
+        final boolean isTraced) {
+      super(pluginChain, exceptionClass, methodInvokeOn, methodName, jdbcMethodArgs, isTraced);
+      this.jdbcMethodFunc = jdbcMethodFunc;
+    }
+
+    @Override
+    public int call() throws E {
+      final int currentPosition = this.position++;
+      final IntJdbcCallable<E> next = this.isLastPosition(currentPosition) ? this.jdbcMethodFunc : this;
+      final TelemetryContext context = this.openTelemetryContext(currentPosition);
+      final TelemetryContext targetContext = this.openTargetTelemetryContext(currentPosition);
+      try {
+        return this.pluginChain.plugins[currentPosition].executeInt(
+            this.exceptionClass, this.methodInvokeOn, this.methodName, next, this.jdbcMethodArgs);
+      } finally {
+        // A plugin may call the rest of the chain more than once, so the next call should start from
+        // the same position.
+        this.position = currentPosition;
+        this.closeTelemetryContexts(context, targetContext);
+      }
+    }
+  }
+
+  protected final class LongPluginChainCursor<E extends Exception>
+      extends PrimitivePluginChainCursor<E> implements LongJdbcCallable<E> {
+
+    private final LongJdbcCallable<E> jdbcMethodFunc;
+
+    LongPluginChainCursor(
+        final PluginChain pluginChain,
+        final Class<E> exceptionClass,
+        final Object methodInvokeOn,
+        final String methodName,
+        final LongJdbcCallable<E> jdbcMethodFunc,
+        final Object[] jdbcMethodArgs,
+        final boolean isTraced) {
+      super(pluginChain, exceptionClass, methodInvokeOn, methodName, jdbcMethodArgs, isTraced);
+      this.jdbcMethodFunc = jdbcMethodFunc;
+    }
+
+    @Override
+    public long call() throws E {
+      final int currentPosition = this.position++;
+      final LongJdbcCallable<E> next = this.isLastPosition(currentPosition) ? this.jdbcMethodFunc : this;
+      final TelemetryContext context = this.openTelemetryContext(currentPosition);
+      final TelemetryContext targetContext = this.openTargetTelemetryContext(currentPosition);
+      try {
+        return this.pluginChain.plugins[currentPosition].executeLong(
+            this.exceptionClass, this.methodInvokeOn, this.methodName, next, this.jdbcMethodArgs);
+      } finally {
+        // A plugin may call the rest of the chain more than once, so the next call should start from
+        // the same position.
+        this.position = currentPosition;
+        this.closeTelemetryContexts(context, targetContext);
+      }
+    }
+  }
+
+  protected final class DoublePluginChainCursor<E extends Exception>
+      extends PrimitivePluginChainCursor<E> implements DoubleJdbcCallable<E> {
+
+    private final DoubleJdbcCallable<E> jdbcMethodFunc;
+
+    DoublePluginChainCursor(
+        final PluginChain pluginChain,
+        final Class<E> exceptionClass,
+        final Object methodInvokeOn,
+        final String methodName,
+        final DoubleJdbcCallable<E> jdbcMethodFunc,
+        final Object[] jdbcMethodArgs,
+        final boolean isTraced) {
+      super(pluginChain, exceptionClass, methodInvokeOn, methodName, jdbcMethodArgs, isTraced);
+      this.jdbcMethodFunc = jdbcMethodFunc;
+    }
+
+    @Override
+    public double call() throws E {
+      final int currentPosition = this.position++;
+      final DoubleJdbcCallable<E> next = this.isLastPosition(currentPosition) ? this.jdbcMethodFunc : this;
+      final TelemetryContext context = this.openTelemetryContext(currentPosition);
+      final TelemetryContext targetContext = this.openTargetTelemetryContext(currentPosition);
+      try {
+        return this.pluginChain.plugins[currentPosition].executeDouble(
+            this.exceptionClass, this.methodInvokeOn, this.methodName, next, this.jdbcMethodArgs);
+      } finally {
+        // A plugin may call the rest of the chain more than once, so the next call should start from
+        // the same position.
+        this.position = currentPosition;
+        this.closeTelemetryContexts(context, targetContext);
+      }
+    }
+  }
+
+  protected final class BooleanPluginChainCursor<E extends Exception>
+      extends PrimitivePluginChainCursor<E> implements BooleanJdbcCallable<E> {
+
+    private final BooleanJdbcCallable<E> jdbcMethodFunc;
+
+    BooleanPluginChainCursor(
+        final PluginChain pluginChain,
+        final Class<E> exceptionClass,
+        final Object methodInvokeOn,
+        final String methodName,
+        final BooleanJdbcCallable<E> jdbcMethodFunc,
+        final Object[] jdbcMethodArgs,
+        final boolean isTraced) {
+      super(pluginChain, exceptionClass, methodInvokeOn, methodName, jdbcMethodArgs, isTraced);
+      this.jdbcMethodFunc = jdbcMethodFunc;
+    }
+
+    @Override
+    public boolean call() throws E {
+      final int currentPosition = this.position++;
+      final BooleanJdbcCallable<E> next = this.isLastPosition(currentPosition) ? this.jdbcMethodFunc : this;
+      final TelemetryContext context = this.openTelemetryContext(currentPosition);
+      final TelemetryContext targetContext = this.openTargetTelemetryContext(currentPosition);
+      try {
+        return this.pluginChain.plugins[currentPosition].executeBoolean(
+            this.exceptionClass, this.methodInvokeOn, this.methodName, next, this.jdbcMethodArgs);
+      } finally {
+        // A plugin may call the rest of the chain more than once, so the next call should start from
+        // the same position.
+        this.position = currentPosition;
+        this.closeTelemetryContexts(context, targetContext);
+      }
+    }
   }
 }
@@ -23,6 +23,7 @@ import java.util.Properties;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.dialect.Dialect;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
 
 /**
@@ -70,6 +71,28 @@ public interface ConnectionProvider {
       @NonNull List<HostSpec> hosts, @NonNull HostRole role, @NonNull String strategy, @Nullable Properties props)
       throws SQLException, UnsupportedOperationException;
 
+  /**
+   * Return a reader or a writer node from a topology snapshot using the specified strategy. Connection providers
+   * should override this method to pass the snapshot to their {@link HostSelector}.
+   *
+   * @param topology the hosts to select from, with their precomputed indexes
+   * @param role     determines if the connection provider should return a writer or a reader
+   * @param strategy the strategy determining how the {@link HostSpec} should be selected, e.g.,
+   *                 random or round-robin
+   * @param props    any properties that are required by the provided strategy to select a host
+   * @return the {@link HostSpec} selected using the specified strategy
+   * @throws SQLException                  if an error occurred while returning the hosts
+   * @throws UnsupportedOperationException if the strategy is unsupported by the provider
+   */
+  default HostSpec getHostSpecByStrategy(
+      @NonNull TopologySnapshot topology,
+      @NonNull HostRole role,
+      @NonNull String strategy,
+      @Nullable Properties props)
+      throws SQLException, UnsupportedOperationException {
+    return this.getHostSpecByStrategy(topology.getHosts(), role, strategy, props);
+  }
+
   /**
    * Called once per connection that needs to be created.
    *
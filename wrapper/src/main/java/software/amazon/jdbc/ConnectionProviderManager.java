@@ -23,6 +23,7 @@ import java.util.Properties;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.cleanup.CanReleaseResources;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 
 public class ConnectionProviderManager {
 
@@ -163,6 +164,50 @@ public class ConnectionProviderManager {
     return this.defaultProvider.getHostSpecByStrategy(hosts, role, strategy, props);
   }
 
+  /**
+   * Select a {@link HostSpec} with the desired role from a topology snapshot using the requested
+   * strategy. Same as {@link #getHostSpecByStrategy(List, HostRole, String, Properties)}, except
+   * that the host selectors can use the precomputed indexes of the snapshot.
+   *
+   * @param topology the hosts to select from
+   * @param role     the desired role of the host - either a writer or a reader
+   * @param strategy the strategy that should be used to select a {@link HostSpec} from the host
+   *                 list (eg "random")
+   * @param props    any properties that are required by the provided strategy to select a host
+   * @return a {@link HostSpec} with the requested role
+   * @throws SQLException                  if the available {@link ConnectionProvider} instances
+   *                                       cannot find a host in the host list matching the
+   *                                       requested role or an error occurs while selecting a host
+   * @throws UnsupportedOperationException if the available {@link ConnectionProvider} instances do
+   *                                       not support the requested strategy
+   */
+  public HostSpec getHostSpecByStrategy(
+      TopologySnapshot topology, HostRole role, String strategy, Properties props)
+      throws SQLException, UnsupportedOperationException {
+    HostSpec host = null;
+    final ConnectionProvider customConnectionProvider = Driver.getCustomConnectionProvider();
+    try {
+      if (customConnectionProvider != null && customConnectionProvider.acceptsStrategy(role, strategy)) {
+        host = customConnectionProvider.getHostSpecByStrategy(topology, role, strategy, props);
+      }
+    } catch (UnsupportedOperationException e) {
+      // The custom provider does not support the provided strategy, ignore it and try with the other providers.
+    }
+
+    if (host != null) {
+      return host;
+    }
+
+    if (this.effectiveConnProvider != null && this.effectiveConnProvider.acceptsStrategy(role, strategy)) {
+      host = this.effectiveConnProvider.getHostSpecByStrategy(topology, role, strategy, props);
+      if (host != null) {
+        return host;
+      }
+    }
+
+    return this.defaultProvider.getHostSpecByStrategy(topology, role, strategy, props);
+  }
+
   /**
    * Clears the non-default {@link ConnectionProvider} if it has been set. The default
    * ConnectionProvider will be used if the non-default ConnectionProvider has not been set or has
@@ -60,6 +60,7 @@ import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
 import software.amazon.jdbc.targetdriverdialect.TargetDriverDialectManager;
 import software.amazon.jdbc.util.ConnectionUrlParser;
 import software.amazon.jdbc.util.DriverInfo;
+import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.RdsUtils;
@@ -97,6 +98,9 @@ public class Driver implements java.sql.Driver {
   private static final AtomicReference<ConnectionInitFunc> connectionInitFunc =
       new AtomicReference<>(null);
 
+  private static final AtomicReference<ExecutorFactory> customExecutorFactory =
+      new AtomicReference<>(null);
+
   static {
     try {
       register();
@@ -387,6 +391,25 @@ public class Driver implements java.sql.Driver {
     connectionInitFunc.set(null);
   }
 
+  /**
+   * Sets the {@link ExecutorFactory} creating the threads of failover connection attempts and monitoring
+   * checks. By default, the driver uses virtual threads when the JVM supports them and platform threads
+   * otherwise.
+   *
+   * @param executorFactory the {@link ExecutorFactory} to use
+   */
+  public static void setCustomExecutorFactory(final @NonNull ExecutorFactory executorFactory) {
+    customExecutorFactory.set(executorFactory);
+  }
+
+  public static ExecutorFactory getCustomExecutorFactory() {
+    return customExecutorFactory.get();
+  }
+
+  public static void resetCustomExecutorFactory() {
+    customExecutorFactory.set(null);
+  }
+
   public static void clearCaches() {
     RdsUtils.clearCache();
     RdsHostListProvider.clearAll();
@@ -402,6 +425,7 @@ public class Driver implements java.sql.Driver {
     IamAuthCacheHolder.clearCache();
     LimitlessRouterServiceImpl.clearCache();
     RoundRobinHostSelector.clearCache();
+    WeightedRoundRobinHostSelector.clearCache();
     FastestResponseStrategyPlugin.clearCache();
   }
 
@@ -30,6 +30,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.dialect.Dialect;
 import software.amazon.jdbc.exceptions.SQLLoginException;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.targetdriverdialect.ConnectInfo;
 import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
 import software.amazon.jdbc.util.Messages;
@@ -51,6 +52,8 @@ public class DriverConnectionProvider implements ConnectionProvider {
           put(HighestWeightHostSelector.STRATEGY_HIGHEST_WEIGHT, new HighestWeightHostSelector());
           put(RandomHostSelector.STRATEGY_RANDOM, new RandomHostSelector());
           put(RoundRobinHostSelector.STRATEGY_ROUND_ROBIN, new RoundRobinHostSelector());
+          put(WeightedRoundRobinHostSelector.STRATEGY_WEIGHTED_ROUND_ROBIN, new WeightedRoundRobinHostSelector());
+          put(WeightedRandomHostSelector.STRATEGY_WEIGHTED_RANDOM, new WeightedRandomHostSelector());
         }
       });
 
@@ -100,6 +103,23 @@ public class DriverConnectionProvider implements ConnectionProvider {
     return acceptedStrategies.get(strategy).getHost(hosts, role, props);
   }
 
+  @Override
+  public HostSpec getHostSpecByStrategy(
+      @NonNull TopologySnapshot topology,
+      @NonNull HostRole role,
+      @NonNull String strategy,
+      @Nullable Properties props)
+      throws SQLException {
+    if (!acceptedStrategies.containsKey(strategy)) {
+      throw new UnsupportedOperationException(
+          Messages.get(
+              "ConnectionProvider.unsupportedHostSpecSelectorStrategy",
+              new Object[] {strategy, DriverConnectionProvider.class}));
+    }
+
+    return acceptedStrategies.get(strategy).getHost(topology, role, props);
+  }
+
   /**
    * Called once per connection that needs to be created.
    *
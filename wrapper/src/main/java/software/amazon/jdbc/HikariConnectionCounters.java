@@ -0,0 +1,184 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Counts the active connections of the internal connection pools of each host, so that the least connections
+ * strategy can read them directly instead of going through every pool.
+ *
+ * <p>The counters are updated when a connection is borrowed from a pool and returned to it, by a Hikari metrics
+ * tracker registered with {@link #track(String, HikariConfig)}. Hikari doesn't allow a metrics tracker when the
+ * pool configuration sets a metric registry: the active connections of these pools are read from the pool when
+ * counting, after registering them with {@link #addUntrackedPool(String, HikariDataSource)}.
+ */
+public class HikariConnectionCounters {
+
+  protected final Map<String, HostCounter> hostCounters = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a metrics tracker counting the active connections of a new pool.
+   *
+   * @param url the URL of the host of the pool
+   * @param config the configuration of the pool, before the pool is created
+   * @return true if the connections of the pool are counted, false if the configuration sets a metric registry
+   */
+  public boolean track(final String url, final HikariConfig config) {
+    if (config.getMetricRegistry() != null) {
+      return false;
+    }
+    MetricsTrackerFactory delegateFactory = config.getMetricsTrackerFactory();
+    if (delegateFactory instanceof CountingMetricsTrackerFactory) {
+      // The pool configurator returned a configuration used by another pool.
+      delegateFactory = ((CountingMetricsTrackerFactory) delegateFactory).delegate;
+    }
+    config.setMetricsTrackerFactory(new CountingMetricsTrackerFactory(this.getHostCounter(url), delegateFactory));
+    return true;
+  }
+
+  public void addUntrackedPool(final String url, final HikariDataSource dataSource) {
+    this.getHostCounter(url).untrackedPools.add(dataSource);
+  }
+
+  /**
+   * Returns the number of connections borrowed from the pools of a host.
+   *
+   * @param url the URL of the host
+   * @return the number of active connections
+   */
+  public int getActiveConnections(final String url) {
+    final HostCounter hostCounter = this.hostCounters.get(url);
+    return hostCounter == null ? 0 : hostCounter.getActiveConnections();
+  }
+
+  public void clear() {
+    this.hostCounters.clear();
+  }
+
+  protected HostCounter getHostCounter(final String url) {
+    return this.hostCounters.computeIfAbsent(url, (key) -> new HostCounter());
+  }
+
+  protected static class HostCounter {
+    final AtomicInteger activeConnections = new AtomicInteger();
+    final Set<HikariDataSource> untrackedPools = ConcurrentHashMap.newKeySet();
+
+    int getActiveConnections() {
+      int count = this.activeConnections.get();
+      if (!this.untrackedPools.isEmpty()) {
+        for (final HikariDataSource pool : this.untrackedPools) {
+          if (pool.isClosed()) {
+            this.untrackedPools.remove(pool);
+            continue;
+          }
+          final HikariPoolMXBean poolMXBean = pool.getHikariPoolMXBean();
+          count += poolMXBean == null ? 0 : poolMXBean.getActiveConnections();
+        }
+      }
+      return Math.max(0, count);
+    }
+  }
+
+  protected static class CountingMetricsTrackerFactory implements MetricsTrackerFactory {
+    private final HostCounter hostCounter;
+    private final @Nullable MetricsTrackerFactory delegate;
+
+    CountingMetricsTrackerFactory(final HostCounter hostCounter, final @Nullable MetricsTrackerFactory delegate) {
+      this.hostCounter = hostCounter;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public IMetricsTracker create(final String poolName, final PoolStats poolStats) {
+      return new CountingMetricsTracker(
+          this.hostCounter, this.delegate == null ? null : this.delegate.create(poolName, poolStats));
+    }
+  }
+
+  /**
+   * Counts the connections borrowed from a pool and forwards the metrics to the tracker configured by the
+   * application, if any.
+   */
+  protected static class CountingMetricsTracker implements IMetricsTracker {
+    private final HostCounter hostCounter;
+    private final @Nullable IMetricsTracker delegate;
+    // The active connections of this pool, removed from the host counter when the pool is closed.
+    private final AtomicInteger poolActiveConnections = new AtomicInteger();
+    private volatile boolean closed;
+
+    CountingMetricsTracker(final HostCounter hostCounter, final @Nullable IMetricsTracker delegate) {
+      this.hostCounter = hostCounter;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(final long connectionCreatedMillis) {
+      if (this.delegate != null) {
+        this.delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+      }
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+      if (!this.closed) {
+        this.poolActiveConnections.incrementAndGet();
+        this.hostCounter.activeConnections.incrementAndGet();
+      }
+      if (this.delegate != null) {
+        this.delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+      }
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(final long elapsedBorrowedMillis) {
+      if (!this.closed && this.poolActiveConnections.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+        this.hostCounter.activeConnections.decrementAndGet();
+      }
+      if (this.delegate != null) {
+        this.delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+      }
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+      if (this.delegate != null) {
+        this.delegate.recordConnectionTimeout();
+      }
+    }
+
+    @Override
+    public void close() {
+      this.closed = true;
+      // Connections still borrowed from a closed pool are no longer counted.
+      this.hostCounter.activeConnections.addAndGet(-this.poolActiveConnections.getAndSet(0));
+      if (this.delegate != null) {
+        this.delegate.close();
+      }
+    }
+  }
+}
@@ -18,6 +18,7 @@ package software.amazon.jdbc;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.sql.Connection;
@@ -30,12 +31,15 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.cleanup.CanReleaseResources;
 import software.amazon.jdbc.dialect.Dialect;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.targetdriverdialect.ConnectInfo;
 import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
 import software.amazon.jdbc.util.Messages;
@@ -44,6 +48,12 @@ import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.RdsUrlType;
 import software.amazon.jdbc.util.RdsUtils;
 import software.amazon.jdbc.util.SlidingExpirationCache;
+import software.amazon.jdbc.util.SlidingExpirationCache.EvictionPolicy;
+import software.amazon.jdbc.util.telemetry.DefaultTelemetryFactory;
+import software.amazon.jdbc.util.telemetry.NullTelemetryGauge;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryGauge;
 import software.amazon.jdbc.wrapper.HighestWeightHostSelector;
 
 public class HikariPooledConnectionProvider implements PooledConnectionProvider,
@@ -58,15 +68,24 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
           put(HighestWeightHostSelector.STRATEGY_HIGHEST_WEIGHT, new HighestWeightHostSelector());
           put(RandomHostSelector.STRATEGY_RANDOM, new RandomHostSelector());
           put(RoundRobinHostSelector.STRATEGY_ROUND_ROBIN, new RoundRobinHostSelector());
+          put(WeightedRoundRobinHostSelector.STRATEGY_WEIGHTED_ROUND_ROBIN, new WeightedRoundRobinHostSelector());
+          put(WeightedRandomHostSelector.STRATEGY_WEIGHTED_RANDOM, new WeightedRandomHostSelector());
         }
       });
 
   protected static final RdsUtils rdsUtils = new RdsUtils();
   protected static long poolExpirationCheckNanos = TimeUnit.MINUTES.toNanos(30);
+  protected static final AtomicReference<TelemetryGauge> poolCountGauge = new AtomicReference<>(null);
+  protected static final AtomicReference<TelemetryGauge> totalConnectionsGauge = new AtomicReference<>(null);
+  protected static final AtomicReference<TelemetryCounter> evictionCounter = new AtomicReference<>(null);
   protected final HikariPoolConfigurator poolConfigurator;
   protected final HikariPoolMapping poolMapping;
   protected final AcceptsUrlFunc acceptsUrlFunc;
   protected final LeastConnectionsHostSelector leastConnectionsHostSelector;
+  protected final LeastConnectionsHostSelector leastConnectionsTwoChoicesHostSelector;
+  protected int maxPools = 0;
+  protected int maxTotalConnections = 0;
+  protected EvictionPolicy poolEvictionPolicy = EvictionPolicy.LEAST_RECENTLY_USED;
 
   static {
     HikariPoolsHolder.databasePools.setShouldDisposeFunc(
@@ -120,7 +139,10 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
     this.poolConfigurator = hikariPoolConfigurator;
     this.poolMapping = mapping;
     this.acceptsUrlFunc = null;
-    this.leastConnectionsHostSelector = new LeastConnectionsHostSelector(HikariPoolsHolder.databasePools);
+    this.leastConnectionsHostSelector = new LeastConnectionsHostSelector(
+        HikariPoolsHolder.databasePools, HikariPoolsHolder.connectionCounters, false);
+    this.leastConnectionsTwoChoicesHostSelector = new LeastConnectionsHostSelector(
+        HikariPoolsHolder.databasePools, HikariPoolsHolder.connectionCounters, true);
   }
 
   /**
@@ -158,7 +180,10 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
     this.acceptsUrlFunc = null;
     poolExpirationCheckNanos = poolExpirationNanos;
     HikariPoolsHolder.databasePools.setCleanupIntervalNanos(poolCleanupNanos);
-    this.leastConnectionsHostSelector = new LeastConnectionsHostSelector(HikariPoolsHolder.databasePools);
+    this.leastConnectionsHostSelector = new LeastConnectionsHostSelector(
+        HikariPoolsHolder.databasePools, HikariPoolsHolder.connectionCounters, false);
+    this.leastConnectionsTwoChoicesHostSelector = new LeastConnectionsHostSelector(
+        HikariPoolsHolder.databasePools, HikariPoolsHolder.connectionCounters, true);
   }
 
   /**
@@ -200,10 +225,63 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
     this.acceptsUrlFunc = acceptsUrlFunc;
     poolExpirationCheckNanos = poolExpirationNanos;
     HikariPoolsHolder.databasePools.setCleanupIntervalNanos(poolCleanupNanos);
-    this.leastConnectionsHostSelector = new LeastConnectionsHostSelector(HikariPoolsHolder.databasePools);
+    this.leastConnectionsHostSelector = new LeastConnectionsHostSelector(
+        HikariPoolsHolder.databasePools, HikariPoolsHolder.connectionCounters, false);
+    this.leastConnectionsTwoChoicesHostSelector = new LeastConnectionsHostSelector(
+        HikariPoolsHolder.databasePools, HikariPoolsHolder.connectionCounters, true);
   }
 
 
+  /**
+   * {@link HikariPooledConnectionProvider} constructor. This class can be passed to
+   * {@link Driver#setCustomConnectionProvider(ConnectionProvider)} to enable internal connection pools for
+   * each database instance in a cluster. By maintaining internal connection pools, the driver can
+   * improve performance by reusing old {@link Connection} objects.
+   *
+   * @param hikariPoolConfigurator a function that returns a {@link HikariConfig} with specific
+   *                               Hikari configurations. By default, the
+   *                               {@link HikariPooledConnectionProvider} will configure the
+   *                               jdbcUrl, exceptionOverrideClassName, username, and password. Any
+   *                               additional configuration should be defined by passing in this
+   *                               parameter. If no additional configuration is desired, pass in a
+   *                               {@link HikariPoolConfigurator} that returns an empty
+   *                               HikariConfig.
+   * @param mapping                a function that returns a String key used for the internal
+   *                               connection pool keys. An internal connection pool will be
+   *                               generated for each unique key returned by this function.
+   * @param acceptsUrlFunc         a function that defines when an internal connection pool should be created for a
+   *                               requested connection. An internal connection pool will be created when the connect
+   *                               pipeline is being executed and this function returns <code>true</code>.
+   * @param poolExpirationNanos    the amount of time that a pool should sit in the cache before
+   *                               being marked as expired for cleanup, in nanoseconds. Expired
+   *                               pools can still be used and will not be closed unless there
+   *                               are no active connections.
+   * @param poolCleanupNanos       the interval defining how often expired connection pools
+   *                               should be cleaned up, in nanoseconds. Note that expired pools
+   *                               will not be closed unless there are no active connections.
+   * @param maxPools               the maximum number of connection pools, or 0 for no limit. When a new pool
+   *                               exceeds this limit, pools without active connections are closed in the order
+   *                               defined by the eviction policy.
+   * @param maxTotalConnections    the maximum number of connections, idle or active, across all connection pools,
+   *                               or 0 for no limit. When a new pool exceeds this limit, pools without active
+   *                               connections are closed in the order defined by the eviction policy.
+   * @param evictionPolicy         the order in which pools are closed when a limit is exceeded
+   */
+  public HikariPooledConnectionProvider(
+      HikariPoolConfigurator hikariPoolConfigurator,
+      HikariPoolMapping mapping,
+      AcceptsUrlFunc acceptsUrlFunc,
+      long poolExpirationNanos,
+      long poolCleanupNanos,
+      int maxPools,
+      int maxTotalConnections,
+      EvictionPolicy evictionPolicy) {
+    this(hikariPoolConfigurator, mapping, acceptsUrlFunc, poolExpirationNanos, poolCleanupNanos);
+    this.maxPools = maxPools;
+    this.maxTotalConnections = maxTotalConnections;
+    this.poolEvictionPolicy = evictionPolicy;
+  }
+
   @Override
   public boolean acceptsUrl(
       @NonNull String protocol, @NonNull HostSpec hostSpec, @NonNull Properties props) {
@@ -218,7 +296,8 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
   @Override
   public boolean acceptsStrategy(@NonNull HostRole role, @NonNull String strategy) {
     return acceptedStrategies.containsKey(strategy)
-        || LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS.equals(strategy);
+        || LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS.equals(strategy)
+        || LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS_TWO_CHOICES.equals(strategy);
   }
 
   @Override
@@ -235,11 +314,34 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
     }
     if (LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS.equals(strategy)) {
       return this.leastConnectionsHostSelector.getHost(hosts, role, props);
+    } else if (LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS_TWO_CHOICES.equals(strategy)) {
+      return this.leastConnectionsTwoChoicesHostSelector.getHost(hosts, role, props);
     } else {
       return acceptedStrategies.get(strategy).getHost(hosts, role, props);
     }
   }
 
+  @Override
+  public HostSpec getHostSpecByStrategy(
+      @NonNull TopologySnapshot topology,
+      @NonNull HostRole role,
+      @NonNull String strategy,
+      @Nullable Properties props) throws SQLException {
+    if (!acceptsStrategy(role, strategy)) {
+      throw new UnsupportedOperationException(
+          Messages.get(
+              "ConnectionProvider.unsupportedHostSpecSelectorStrategy",
+              new Object[] {strategy, DataSourceConnectionProvider.class}));
+    }
+    if (LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS.equals(strategy)) {
+      return this.leastConnectionsHostSelector.getHost(topology, role, props);
+    } else if (LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS_TWO_CHOICES.equals(strategy)) {
+      return this.leastConnectionsTwoChoicesHostSelector.getHost(topology, role, props);
+    } else {
+      return acceptedStrategies.get(strategy).getHost(topology, role, props);
+    }
+  }
+
   @Override
   public Connection connect(
       @NonNull String protocol,
@@ -278,15 +380,98 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
     final HostSpec finalHostSpec = connectionHostSpec;
     dialect.prepareConnectProperties(copy, protocol, finalHostSpec);
 
-    final HikariDataSource ds = (HikariDataSource) HikariPoolsHolder.databasePools.computeIfAbsent(
-        Pair.create(hostSpec.getUrl(), getPoolKey(finalHostSpec, copy)),
-        (lambdaPoolKey) -> createHikariDataSource(protocol, finalHostSpec, copy, targetDriverDialect),
+    initTelemetry(props);
+
+    final AtomicBoolean isNewPool = new AtomicBoolean(false);
+    final Pair poolKey = Pair.create(hostSpec.getUrl(), getPoolKey(finalHostSpec, copy));
+    // The pool is pinned until a connection is borrowed from it, so that it isn't evicted by another thread in the
+    // meantime. A new pool has no active connection yet, and is the first to be evicted when pools are evicted in
+    // least frequently used order.
+    final HikariDataSource ds = (HikariDataSource) HikariPoolsHolder.databasePools.computeIfAbsentAndPin(
+        poolKey,
+        (lambdaPoolKey) -> {
+          isNewPool.set(true);
+          return createHikariDataSource(protocol, finalHostSpec, copy, targetDriverDialect, hostSpec.getUrl());
+        },
         poolExpirationCheckNanos
     );
 
-    ds.setPassword(copy.getProperty(PropertyDefinition.PASSWORD.name));
+    final Connection conn;
+    try {
+      ds.setPassword(copy.getProperty(PropertyDefinition.PASSWORD.name));
+      conn = ds.getConnection();
+    } finally {
+      HikariPoolsHolder.databasePools.unpin(poolKey, ds);
+    }
+
+    if (isNewPool.get()) {
+      // The new pool has an active connection at this point, so it can't be evicted.
+      evictPools();
+    }
+    return conn;
+  }
+
+  /**
+   * Closes connection pools without active connections until the number of pools and the total number of pooled
+   * connections are within the limits of this provider.
+   *
+   * @return the number of closed pools
+   */
+  protected int evictPools() {
+    if (this.maxPools <= 0 && this.maxTotalConnections <= 0) {
+      return 0;
+    }
+    final int evicted = HikariPoolsHolder.databasePools.evict(
+        this.maxPools,
+        this.maxTotalConnections,
+        HikariPooledConnectionProvider::getTotalConnections,
+        this.poolEvictionPolicy);
+    if (evicted > 0) {
+      final TelemetryCounter counter = evictionCounter.get();
+      if (counter != null) {
+        counter.add(evicted);
+      }
+      LOGGER.finest(() -> Messages.get(
+          "HikariPooledConnectionProvider.poolsEvicted",
+          new Object[] {evicted, getHostCount(), getTotalConnectionCount()}));
+    }
+    return evicted;
+  }
+
+  /**
+   * Registers the gauges reporting the pools of all the connections, and the counter of evicted pools. They are
+   * registered once, with the telemetry settings of the first connection that has telemetry enabled.
+   *
+   * @param props the properties of the connection being opened
+   */
+  protected void initTelemetry(final Properties props) {
+    if (poolCountGauge.get() != null || !PropertyDefinition.ENABLE_TELEMETRY.getBoolean(props)) {
+      return;
+    }
+    synchronized (poolCountGauge) {
+      if (poolCountGauge.get() != null) {
+        return;
+      }
+      final TelemetryFactory telemetryFactory = new DefaultTelemetryFactory(props);
+      final TelemetryGauge countGauge = telemetryFactory.createGauge(
+          "hikariPools.count", () -> (long) HikariPoolsHolder.databasePools.size());
+      if (countGauge instanceof NullTelemetryGauge) {
+        // No metrics backend is configured for this connection.
+        return;
+      }
+      totalConnectionsGauge.set(telemetryFactory.createGauge(
+          "hikariPools.connections.total", HikariPooledConnectionProvider::getTotalConnectionCount));
+      evictionCounter.set(telemetryFactory.createCounter("hikariPools.eviction"));
+      poolCountGauge.set(countGauge);
+    }
+  }
 
-    return ds.getConnection();
+  protected static long getTotalConnections(final AutoCloseable pool) {
+    if (!(pool instanceof HikariDataSource)) {
+      return 0;
+    }
+    final HikariPoolMXBean poolMXBean = ((HikariDataSource) pool).getHikariPoolMXBean();
+    return poolMXBean == null ? 0 : poolMXBean.getTotalConnections();
   }
 
   // The pool key should always be retrieved using this method, because the username
@@ -372,6 +557,19 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
     return HikariPoolsHolder.databasePools.size();
   }
 
+  /**
+   * Returns the number of connections, idle or active, across all connection pools.
+   *
+   * @return the number of pooled connections
+   */
+  public static long getTotalConnectionCount() {
+    long totalConnections = 0;
+    for (final AutoCloseable pool : HikariPoolsHolder.databasePools.getEntries().values()) {
+      totalConnections += getTotalConnections(pool);
+    }
+    return totalConnections;
+  }
+
   /**
    * Returns a set containing every host URL for which there are one or more connection pool(s).
    *
@@ -416,15 +614,32 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
     });
   }
 
+  /**
+   * Creates the connection pool of a host.
+   *
+   * @param protocol the connection protocol
+   * @param hostSpec the host the pool connects to
+   * @param props the connection properties
+   * @param targetDriverDialect the target driver dialect
+   * @param poolUrl the URL of the host in the pool key, which may differ from the URL of {@code hostSpec} for the
+   *     green instances of a blue/green deployment. The active connections of the pool are counted for this URL.
+   * @return the connection pool
+   */
   HikariDataSource createHikariDataSource(
       final String protocol,
       final HostSpec hostSpec,
       final Properties props,
-      final @NonNull TargetDriverDialect targetDriverDialect) {
+      final @NonNull TargetDriverDialect targetDriverDialect,
+      final String poolUrl) {
 
     HikariConfig config = poolConfigurator.configurePool(hostSpec, props);
     configurePool(config, protocol, hostSpec, props, targetDriverDialect);
-    return new HikariDataSource(config);
+    final boolean tracked = HikariPoolsHolder.connectionCounters.track(poolUrl, config);
+    final HikariDataSource dataSource = new HikariDataSource(config);
+    if (!tracked) {
+      HikariPoolsHolder.connectionCounters.addUntrackedPool(poolUrl, dataSource);
+    }
+    return dataSource;
   }
 
   // For testing purposes only
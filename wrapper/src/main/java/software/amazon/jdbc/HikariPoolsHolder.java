@@ -31,6 +31,7 @@ public class HikariPoolsHolder {
             }
           }
       );
+  static final HikariConnectionCounters connectionCounters = new HikariConnectionCounters();
 
   public static void closeAllPools() {
     databasePools.getEntries().forEach((poolKey, pool) -> {
@@ -41,6 +42,6 @@ public class HikariPoolsHolder {
       }
     });
     databasePools.clear();
-
+    connectionCounters.clear();
   }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.util.StringUtils;
+
+/**
+ * Computes the changes between two host lists, as reported to the connection plugins by
+ * {@link ConnectionPlugin#notifyNodeListChanged(Map)}.
+ *
+ * <p>Hosts are matched by host ID, or by URL when they don't have a host ID, so that a host whose endpoint changed
+ * is reported as changed rather than deleted and added. The changes are keyed by the URL of the host in the previous
+ * list, or in the new list for added hosts. The previous hosts are indexed once and the new hosts are walked once.
+ */
+public final class HostListDiff {
+
+  private HostListDiff() {
+  }
+
+  /**
+   * Computes the changes between two host lists.
+   *
+   * @param oldHosts the previous host list
+   * @param newHosts the new host list
+   * @param compare returns the changes of a host that is in both lists, or an empty set if it didn't change
+   * @return the changes of each added, deleted or changed host, keyed by host URL
+   */
+  public static Map<String, EnumSet<NodeChangeOptions>> compute(
+      final @Nullable List<HostSpec> oldHosts,
+      final @Nullable List<HostSpec> newHosts,
+      final BiFunction<HostSpec, HostSpec, EnumSet<NodeChangeOptions>> compare) {
+
+    final Map<String, HostSpec> oldHostsByKey = new HashMap<>();
+    final Map<String, HostSpec> oldHostsByUrl = new HashMap<>();
+    if (oldHosts != null) {
+      for (final HostSpec host : oldHosts) {
+        oldHostsByKey.putIfAbsent(getKey(host), host);
+        oldHostsByUrl.putIfAbsent(host.getUrl(), host);
+      }
+    }
+
+    final Map<String, EnumSet<NodeChangeOptions>> changes = new HashMap<>();
+    if (newHosts != null) {
+      final Set<String> newHostKeys = new HashSet<>();
+      for (final HostSpec newHost : newHosts) {
+        final String key = getKey(newHost);
+        if (!newHostKeys.add(key)) {
+          // A duplicate of a host already compared.
+          continue;
+        }
+        HostSpec oldHost = oldHostsByKey.get(key);
+        if (oldHost == null) {
+          // The host ID may have been set or cleared since the previous list.
+          oldHost = oldHostsByUrl.get(newHost.getUrl());
+        }
+        if (oldHost == null) {
+          changes.put(newHost.getUrl(), EnumSet.of(NodeChangeOptions.NODE_ADDED));
+          continue;
+        }
+        oldHostsByKey.remove(getKey(oldHost), oldHost);
+        oldHostsByUrl.remove(oldHost.getUrl(), oldHost);
+        final EnumSet<NodeChangeOptions> hostChanges = compare.apply(oldHost, newHost);
+        if (!hostChanges.isEmpty()) {
+          changes.put(oldHost.getUrl(), hostChanges);
+        }
+      }
+    }
+
+    // The previous hosts that are not in the new list.
+    for (final HostSpec oldHost : oldHostsByKey.values()) {
+      if (oldHostsByUrl.get(oldHost.getUrl()) == oldHost) {
+        changes.putIfAbsent(oldHost.getUrl(), EnumSet.of(NodeChangeOptions.NODE_DELETED));
+      }
+    }
+    return changes;
+  }
+
+  private static String getKey(final HostSpec host) {
+    // Host IDs and URLs can't be mistaken for each other: URLs always end with a slash.
+    return StringUtils.isNullOrEmpty(host.getHostId()) ? host.getUrl() : host.getHostId();
+  }
+}
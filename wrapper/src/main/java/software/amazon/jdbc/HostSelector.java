@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Properties;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 
 public interface HostSelector {
 
@@ -36,4 +37,20 @@ public interface HostSelector {
    */
   HostSpec getHost(
       @NonNull List<HostSpec> hosts, @NonNull HostRole role, @Nullable Properties props) throws SQLException;
+
+  /**
+   * Selects a host with the requested role from a topology snapshot. Host selectors should override this method
+   * to use the indexes of the snapshot instead of filtering its host list.
+   *
+   * @param topology the hosts to pick from, with their precomputed indexes.
+   * @param role     the desired host role - either a writer or a reader.
+   * @param props    connection properties that may be needed by the host selector in order to choose a host.
+   * @return a host matching the requested role
+   * @throws SQLException if the topology does not contain any hosts matching the requested role or
+   *                      an error occurs while selecting a host
+   */
+  default HostSpec getHost(
+      @NonNull TopologySnapshot topology, @NonNull HostRole role, @Nullable Properties props) throws SQLException {
+    return this.getHost(topology.getHosts(), role, props);
+  }
 }
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.hostavailability.HostAvailabilityStrategy;
 import software.amazon.jdbc.util.StringUtils;
@@ -36,6 +37,10 @@ public class HostSpec {
   public static final int NO_PORT = -1;
   public static final long DEFAULT_WEIGHT = 100;
 
+  // Incremented when the availability of any host changes. Host specs are shared by connections and monitors, so
+  // data derived from the availability of hosts can use it to tell whether it's stale.
+  private static final AtomicLong availabilityVersion = new AtomicLong();
+
   protected final String host;
   protected final int port;
   protected volatile HostAvailability availability;
@@ -119,10 +124,25 @@ public class HostSpec {
   }
 
   public void setAvailability(final HostAvailability availability) {
+    final HostAvailability previousAvailability = this.getAvailability();
     this.availability = availability;
     if (this.hostAvailabilityStrategy != null) {
       this.hostAvailabilityStrategy.setHostAvailability(availability);
     }
+    if (this.getAvailability() != previousAvailability) {
+      availabilityVersion.incrementAndGet();
+    }
+  }
+
+  /**
+   * Returns a version that is incremented when the availability of any host changes through
+   * {@link #setAvailability}. A host availability strategy may still make an unavailable host available again once
+   * its backoff time has elapsed, without a new version.
+   *
+   * @return the current availability version
+   */
+  public static long getAvailabilityVersion() {
+    return availabilityVersion.get();
   }
 
   public HostAvailabilityStrategy getHostAvailabilityStrategy() {
@@ -131,6 +151,7 @@ public class HostSpec {
 
   public void setHostAvailabilityStrategy(final HostAvailabilityStrategy hostAvailabilityStrategy) {
     this.hostAvailabilityStrategy = hostAvailabilityStrategy;
+    availabilityVersion.incrementAndGet();
   }
 
   public Timestamp getLastUpdateTime() {
@@ -0,0 +1,745 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.util.AsynchronousMethodsHelper;
+import software.amazon.jdbc.util.SubscribedMethodHelper;
+
+/**
+ * Registry of the JDBC methods invoked through the wrapper classes. Every constant carries the method name
+ * that is passed to {@link ConnectionPlugin#execute} along with a set of flags that are calculated once,
+ * so the driver doesn't need to look the method name up in a list or a set on every JDBC call.
+ *
+ * <p>The method name strings held by the constants are the same instances for all the calls, so plugins that
+ * compare method names with {@link String#equals} get an identity match.
+ */
+public enum JdbcMethod {
+  ARRAY_FREE("Array.free"),
+  ARRAY_GET_ARRAY("Array.getArray"),
+  ARRAY_GET_BASE_TYPE("Array.getBaseType"),
+  ARRAY_GET_BASE_TYPE_NAME("Array.getBaseTypeName"),
+  ARRAY_GET_RESULT_SET("Array.getResultSet"),
+
+  BLOB_FREE("Blob.free"),
+  BLOB_GET_BINARY_STREAM("Blob.getBinaryStream"),
+  BLOB_GET_BYTES("Blob.getBytes"),
+  BLOB_LENGTH("Blob.length"),
+  BLOB_POSITION("Blob.position"),
+  BLOB_SET_BINARY_STREAM("Blob.setBinaryStream"),
+  BLOB_SET_BYTES("Blob.setBytes"),
+  BLOB_TRUNCATE("Blob.truncate"),
+
+  CALLABLE_STATEMENT_ADD_BATCH("CallableStatement.addBatch"),
+  CALLABLE_STATEMENT_CANCEL("CallableStatement.cancel"),
+  CALLABLE_STATEMENT_CLEAR_BATCH("CallableStatement.clearBatch"),
+  CALLABLE_STATEMENT_CLEAR_PARAMETERS("CallableStatement.clearParameters"),
+  CALLABLE_STATEMENT_CLEAR_WARNINGS("CallableStatement.clearWarnings"),
+  CALLABLE_STATEMENT_CLOSE("CallableStatement.close"),
+  CALLABLE_STATEMENT_CLOSE_ON_COMPLETION("CallableStatement.closeOnCompletion"),
+  CALLABLE_STATEMENT_EXECUTE("CallableStatement.execute"),
+  CALLABLE_STATEMENT_EXECUTE_BATCH("CallableStatement.executeBatch"),
+  CALLABLE_STATEMENT_EXECUTE_LARGE_UPDATE("CallableStatement.executeLargeUpdate"),
+  CALLABLE_STATEMENT_EXECUTE_QUERY("CallableStatement.executeQuery"),
+  CALLABLE_STATEMENT_EXECUTE_UPDATE("CallableStatement.executeUpdate"),
+  CALLABLE_STATEMENT_GET_ARRAY("CallableStatement.getArray"),
+  CALLABLE_STATEMENT_GET_BIG_DECIMAL("CallableStatement.getBigDecimal"),
+  CALLABLE_STATEMENT_GET_BLOB("CallableStatement.getBlob"),
+  CALLABLE_STATEMENT_GET_BOOLEAN("CallableStatement.getBoolean"),
+  CALLABLE_STATEMENT_GET_BYTE("CallableStatement.getByte"),
+  CALLABLE_STATEMENT_GET_BYTES("CallableStatement.getBytes"),
+  CALLABLE_STATEMENT_GET_CHARACTER_STREAM("CallableStatement.getCharacterStream"),
+  CALLABLE_STATEMENT_GET_CLOB("CallableStatement.getClob"),
+  CALLABLE_STATEMENT_GET_CONNECTION("CallableStatement.getConnection"),
+  CALLABLE_STATEMENT_GET_DATE("CallableStatement.getDate"),
+  CALLABLE_STATEMENT_GET_DOUBLE("CallableStatement.getDouble"),
+  CALLABLE_STATEMENT_GET_FETCH_DIRECTION("CallableStatement.getFetchDirection"),
+  CALLABLE_STATEMENT_GET_FETCH_SIZE("CallableStatement.getFetchSize"),
+  CALLABLE_STATEMENT_GET_FLOAT("CallableStatement.getFloat"),
+  CALLABLE_STATEMENT_GET_GENERATED_KEYS("CallableStatement.getGeneratedKeys"),
+  CALLABLE_STATEMENT_GET_INT("CallableStatement.getInt"),
+  CALLABLE_STATEMENT_GET_LONG("CallableStatement.getLong"),
+  CALLABLE_STATEMENT_GET_MAX_FIELD_SIZE("CallableStatement.getMaxFieldSize"),
+  CALLABLE_STATEMENT_GET_MAX_ROWS("CallableStatement.getMaxRows"),
+  CALLABLE_STATEMENT_GET_META_DATA("CallableStatement.getMetaData"),
+  CALLABLE_STATEMENT_GET_MORE_RESULTS("CallableStatement.getMoreResults"),
+  CALLABLE_STATEMENT_GET_N_CHARACTER_STREAM("CallableStatement.getNCharacterStream"),
+  CALLABLE_STATEMENT_GET_N_CLOB("CallableStatement.getNClob"),
+  CALLABLE_STATEMENT_GET_N_STRING("CallableStatement.getNString"),
+  CALLABLE_STATEMENT_GET_OBJECT("CallableStatement.getObject"),
+  CALLABLE_STATEMENT_GET_PARAMETER_META_DATA("CallableStatement.getParameterMetaData"),
+  CALLABLE_STATEMENT_GET_QUERY_TIMEOUT("CallableStatement.getQueryTimeout"),
+  CALLABLE_STATEMENT_GET_REF("CallableStatement.getRef"),
+  CALLABLE_STATEMENT_GET_RESULT_SET("CallableStatement.getResultSet"),
+  CALLABLE_STATEMENT_GET_RESULT_SET_CONCURRENCY("CallableStatement.getResultSetConcurrency"),
+  CALLABLE_STATEMENT_GET_RESULT_SET_HOLDABILITY("CallableStatement.getResultSetHoldability"),
+  CALLABLE_STATEMENT_GET_RESULT_SET_TYPE("CallableStatement.getResultSetType"),
+  CALLABLE_STATEMENT_GET_ROW_ID("CallableStatement.getRowId"),
+  CALLABLE_STATEMENT_GET_SQLXML("CallableStatement.getSQLXML"),
+  CALLABLE_STATEMENT_GET_SHORT("CallableStatement.getShort"),
+  CALLABLE_STATEMENT_GET_STRING("CallableStatement.getString"),
+  CALLABLE_STATEMENT_GET_TIME("CallableStatement.getTime"),
+  CALLABLE_STATEMENT_GET_TIMESTAMP("CallableStatement.getTimestamp"),
+  CALLABLE_STATEMENT_GET_URL("CallableStatement.getURL"),
+  CALLABLE_STATEMENT_GET_UPDATE_COUNT("CallableStatement.getUpdateCount"),
+  CALLABLE_STATEMENT_GET_WARNINGS("CallableStatement.getWarnings"),
+  CALLABLE_STATEMENT_IS_CLOSE_ON_COMPLETION("CallableStatement.isCloseOnCompletion"),
+  CALLABLE_STATEMENT_IS_CLOSED("CallableStatement.isClosed"),
+  CALLABLE_STATEMENT_IS_POOLABLE("CallableStatement.isPoolable"),
+  CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER("CallableStatement.registerOutParameter"),
+  CALLABLE_STATEMENT_SET_ARRAY("CallableStatement.setArray"),
+  CALLABLE_STATEMENT_SET_ASCII_STREAM("CallableStatement.setAsciiStream"),
+  CALLABLE_STATEMENT_SET_BIG_DECIMAL("CallableStatement.setBigDecimal"),
+  CALLABLE_STATEMENT_SET_BINARY_STREAM("CallableStatement.setBinaryStream"),
+  CALLABLE_STATEMENT_SET_BLOB("CallableStatement.setBlob"),
+  CALLABLE_STATEMENT_SET_BOOLEAN("CallableStatement.setBoolean"),
+  CALLABLE_STATEMENT_SET_BYTE("CallableStatement.setByte"),
+  CALLABLE_STATEMENT_SET_BYTES("CallableStatement.setBytes"),
+  CALLABLE_STATEMENT_SET_CHARACTER_STREAM("CallableStatement.setCharacterStream"),
+  CALLABLE_STATEMENT_SET_CLOB("CallableStatement.setClob"),
+  CALLABLE_STATEMENT_SET_CURSOR_NAME("CallableStatement.setCursorName"),
+  CALLABLE_STATEMENT_SET_DATE("CallableStatement.setDate"),
+  CALLABLE_STATEMENT_SET_DOUBLE("CallableStatement.setDouble"),
+  CALLABLE_STATEMENT_SET_ESCAPE_PROCESSING("CallableStatement.setEscapeProcessing"),
+  CALLABLE_STATEMENT_SET_FETCH_DIRECTION("CallableStatement.setFetchDirection"),
+  CALLABLE_STATEMENT_SET_FETCH_SIZE("CallableStatement.setFetchSize"),
+  CALLABLE_STATEMENT_SET_FLOAT("CallableStatement.setFloat"),
+  CALLABLE_STATEMENT_SET_INT("CallableStatement.setInt"),
+  CALLABLE_STATEMENT_SET_LONG("CallableStatement.setLong"),
+  CALLABLE_STATEMENT_SET_MAX_FIELD_SIZE("CallableStatement.setMaxFieldSize"),
+  CALLABLE_STATEMENT_SET_MAX_ROWS("CallableStatement.setMaxRows"),
+  CALLABLE_STATEMENT_SET_N_CHARACTER_STREAM("CallableStatement.setNCharacterStream"),
+  CALLABLE_STATEMENT_SET_N_CLOB("CallableStatement.setNClob"),
+  CALLABLE_STATEMENT_SET_N_STRING("CallableStatement.setNString"),
+  CALLABLE_STATEMENT_SET_NULL("CallableStatement.setNull"),
+  CALLABLE_STATEMENT_SET_OBJECT("CallableStatement.setObject"),
+  CALLABLE_STATEMENT_SET_POOLABLE("CallableStatement.setPoolable"),
+  CALLABLE_STATEMENT_SET_QUERY_TIMEOUT("CallableStatement.setQueryTimeout"),
+  CALLABLE_STATEMENT_SET_REF("CallableStatement.setRef"),
+  CALLABLE_STATEMENT_SET_ROW_ID("CallableStatement.setRowId"),
+  CALLABLE_STATEMENT_SET_SQLXML("CallableStatement.setSQLXML"),
+  CALLABLE_STATEMENT_SET_SHORT("CallableStatement.setShort"),
+  CALLABLE_STATEMENT_SET_STRING("CallableStatement.setString"),
+  CALLABLE_STATEMENT_SET_TIME("CallableStatement.setTime"),
+  CALLABLE_STATEMENT_SET_TIMESTAMP("CallableStatement.setTimestamp"),
+  CALLABLE_STATEMENT_SET_URL("CallableStatement.setURL"),
+  CALLABLE_STATEMENT_SET_UNICODE_STREAM("CallableStatement.setUnicodeStream"),
+  CALLABLE_STATEMENT_WAS_NULL("CallableStatement.wasNull"),
+
+  CLOB_FREE("Clob.free"),
+  CLOB_GET_ASCII_STREAM("Clob.getAsciiStream"),
+  CLOB_GET_CHARACTER_STREAM("Clob.getCharacterStream"),
+  CLOB_GET_SUB_STRING("Clob.getSubString"),
+  CLOB_LENGTH("Clob.length"),
+  CLOB_POSITION("Clob.position"),
+  CLOB_SET_ASCII_STREAM("Clob.setAsciiStream"),
+  CLOB_SET_CHARACTER_STREAM("Clob.setCharacterStream"),
+  CLOB_SET_STRING("Clob.setString"),
+  CLOB_TRUNCATE("Clob.truncate"),
+
+  CONNECTION_ABORT("Connection.abort"),
+  CONNECTION_CLEAR_WARNINGS("Connection.clearWarnings"),
+  CONNECTION_CLOSE("Connection.close"),
+  CONNECTION_COMMIT("Connection.commit"),
+  CONNECTION_CREATE_ARRAY_OF("Connection.createArrayOf"),
+  CONNECTION_CREATE_BLOB("Connection.createBlob"),
+  CONNECTION_CREATE_CLOB("Connection.createClob"),
+  CONNECTION_CREATE_N_CLOB("Connection.createNClob"),
+  CONNECTION_CREATE_SQLXML("Connection.createSQLXML"),
+  CONNECTION_CREATE_STATEMENT("Connection.createStatement"),
+  CONNECTION_CREATE_STRUCT("Connection.createStruct"),
+  CONNECTION_GET_AUTO_COMMIT("Connection.getAutoCommit"),
+  CONNECTION_GET_CATALOG("Connection.getCatalog"),
+  CONNECTION_GET_CLIENT_INFO("Connection.getClientInfo"),
+  CONNECTION_GET_HOLDABILITY("Connection.getHoldability"),
+  CONNECTION_GET_META_DATA("Connection.getMetaData"),
+  CONNECTION_GET_NETWORK_TIMEOUT("Connection.getNetworkTimeout"),
+  CONNECTION_GET_SCHEMA("Connection.getSchema"),
+  CONNECTION_GET_TRANSACTION_ISOLATION("Connection.getTransactionIsolation"),
+  CONNECTION_GET_TYPE_MAP("Connection.getTypeMap"),
+  CONNECTION_GET_WARNINGS("Connection.getWarnings"),
+  CONNECTION_IS_CLOSED("Connection.isClosed"),
+  CONNECTION_IS_READ_ONLY("Connection.isReadOnly"),
+  CONNECTION_IS_VALID("Connection.isValid"),
+  CONNECTION_NATIVE_SQL("Connection.nativeSQL"),
+  CONNECTION_PREPARE_CALL("Connection.prepareCall"),
+  CONNECTION_PREPARE_STATEMENT("Connection.prepareStatement"),
+  CONNECTION_RELEASE_SAVEPOINT("Connection.releaseSavepoint"),
+  CONNECTION_ROLLBACK("Connection.rollback"),
+  CONNECTION_SET_AUTO_COMMIT("Connection.setAutoCommit"),
+  CONNECTION_SET_CATALOG("Connection.setCatalog"),
+  CONNECTION_SET_CLIENT_INFO("Connection.setClientInfo"),
+  CONNECTION_SET_HOLDABILITY("Connection.setHoldability"),
+  CONNECTION_SET_NETWORK_TIMEOUT("Connection.setNetworkTimeout"),
+  CONNECTION_SET_READ_ONLY("Connection.setReadOnly"),
+  CONNECTION_SET_SAVEPOINT("Connection.setSavepoint"),
+  CONNECTION_SET_SCHEMA("Connection.setSchema"),
+  CONNECTION_SET_TRANSACTION_ISOLATION("Connection.setTransactionIsolation"),
+  CONNECTION_SET_TYPE_MAP("Connection.setTypeMap"),
+
+  DATABASE_META_DATA_ALL_PROCEDURES_ARE_CALLABLE("DatabaseMetaData.allProceduresAreCallable"),
+  DATABASE_META_DATA_ALL_TABLES_ARE_SELECTABLE("DatabaseMetaData.allTablesAreSelectable"),
+  DATABASE_META_DATA_AUTO_COMMIT_FAILURE_CLOSES_ALL_RESULT_SETS("DatabaseMetaData.autoCommitFailureClosesAllResultSets"),
+  DATABASE_META_DATA_DATA_DEFINITION_CAUSES_TRANSACTION_COMMIT("DatabaseMetaData.dataDefinitionCausesTransactionCommit"),
+  DATABASE_META_DATA_DATA_DEFINITION_IGNORED_IN_TRANSACTIONS("DatabaseMetaData.dataDefinitionIgnoredInTransactions"),
+  DATABASE_META_DATA_DELETES_ARE_DETECTED("DatabaseMetaData.deletesAreDetected"),
+  DATABASE_META_DATA_DOES_MAX_ROW_SIZE_INCLUDE_BLOBS("DatabaseMetaData.doesMaxRowSizeIncludeBlobs"),
+  DATABASE_META_DATA_GENERATED_KEY_ALWAYS_RETURNED("DatabaseMetaData.generatedKeyAlwaysReturned"),
+  DATABASE_META_DATA_GET_ATTRIBUTES("DatabaseMetaData.getAttributes"),
+  DATABASE_META_DATA_GET_BEST_ROW_IDENTIFIER("DatabaseMetaData.getBestRowIdentifier"),
+  DATABASE_META_DATA_GET_CATALOG_SEPARATOR("DatabaseMetaData.getCatalogSeparator"),
+  DATABASE_META_DATA_GET_CATALOG_TERM("DatabaseMetaData.getCatalogTerm"),
+  DATABASE_META_DATA_GET_CATALOGS("DatabaseMetaData.getCatalogs"),
+  DATABASE_META_DATA_GET_CLIENT_INFO_PROPERTIES("DatabaseMetaData.getClientInfoProperties"),
+  DATABASE_META_DATA_GET_COLUMN_PRIVILEGES("DatabaseMetaData.getColumnPrivileges"),
+  DATABASE_META_DATA_GET_COLUMNS("DatabaseMetaData.getColumns"),
+  DATABASE_META_DATA_GET_CONNECTION("DatabaseMetaData.getConnection"),
+  DATABASE_META_DATA_GET_CROSS_REFERENCE("DatabaseMetaData.getCrossReference"),
+  DATABASE_META_DATA_GET_DATABASE_MAJOR_VERSION("DatabaseMetaData.getDatabaseMajorVersion"),
+  DATABASE_META_DATA_GET_DATABASE_MINOR_VERSION("DatabaseMetaData.getDatabaseMinorVersion"),
+  DATABASE_META_DATA_GET_DATABASE_PRODUCT_NAME("DatabaseMetaData.getDatabaseProductName"),
+  DATABASE_META_DATA_GET_DATABASE_PRODUCT_VERSION("DatabaseMetaData.getDatabaseProductVersion"),
+  DATABASE_META_DATA_GET_DEFAULT_TRANSACTION_ISOLATION("DatabaseMetaData.getDefaultTransactionIsolation"),
+  DATABASE_META_DATA_GET_DRIVER_NAME("DatabaseMetaData.getDriverName"),
+  DATABASE_META_DATA_GET_EXPORTED_KEYS("DatabaseMetaData.getExportedKeys"),
+  DATABASE_META_DATA_GET_EXTRA_NAME_CHARACTERS("DatabaseMetaData.getExtraNameCharacters"),
+  DATABASE_META_DATA_GET_FUNCTION_COLUMNS("DatabaseMetaData.getFunctionColumns"),
+  DATABASE_META_DATA_GET_FUNCTIONS("DatabaseMetaData.getFunctions"),
+  DATABASE_META_DATA_GET_IDENTIFIER_QUOTE_STRING("DatabaseMetaData.getIdentifierQuoteString"),
+  DATABASE_META_DATA_GET_IMPORTED_KEYS("DatabaseMetaData.getImportedKeys"),
+  DATABASE_META_DATA_GET_INDEX_INFO("DatabaseMetaData.getIndexInfo"),
+  DATABASE_META_DATA_GET_JDBC_MAJOR_VERSION("DatabaseMetaData.getJDBCMajorVersion"),
+  DATABASE_META_DATA_GET_JDBC_MINOR_VERSION("DatabaseMetaData.getJDBCMinorVersion"),
+  DATABASE_META_DATA_GET_MAX_BINARY_LITERAL_LENGTH("DatabaseMetaData.getMaxBinaryLiteralLength"),
+  DATABASE_META_DATA_GET_MAX_CATALOG_NAME_LENGTH("DatabaseMetaData.getMaxCatalogNameLength"),
+  DATABASE_META_DATA_GET_MAX_CHAR_LITERAL_LENGTH("DatabaseMetaData.getMaxCharLiteralLength"),
+  DATABASE_META_DATA_GET_MAX_COLUMN_NAME_LENGTH("DatabaseMetaData.getMaxColumnNameLength"),
+  DATABASE_META_DATA_GET_MAX_COLUMNS_IN_GROUP_BY("DatabaseMetaData.getMaxColumnsInGroupBy"),
+  DATABASE_META_DATA_GET_MAX_COLUMNS_IN_INDEX("DatabaseMetaData.getMaxColumnsInIndex"),
+  DATABASE_META_DATA_GET_MAX_COLUMNS_IN_ORDER_BY("DatabaseMetaData.getMaxColumnsInOrderBy"),
+  DATABASE_META_DATA_GET_MAX_COLUMNS_IN_SELECT("DatabaseMetaData.getMaxColumnsInSelect"),
+  DATABASE_META_DATA_GET_MAX_COLUMNS_IN_TABLE("DatabaseMetaData.getMaxColumnsInTable"),
+  DATABASE_META_DATA_GET_MAX_CONNECTIONS("DatabaseMetaData.getMaxConnections"),
+  DATABASE_META_DATA_GET_MAX_CURSOR_NAME_LENGTH("DatabaseMetaData.getMaxCursorNameLength"),
+  DATABASE_META_DATA_GET_MAX_INDEX_LENGTH("DatabaseMetaData.getMaxIndexLength"),
+  DATABASE_META_DATA_GET_MAX_LOGICAL_LOB_SIZE("DatabaseMetaData.getMaxLogicalLobSize"),
+  DATABASE_META_DATA_GET_MAX_PROCEDURE_NAME_LENGTH("DatabaseMetaData.getMaxProcedureNameLength"),
+  DATABASE_META_DATA_GET_MAX_ROW_SIZE("DatabaseMetaData.getMaxRowSize"),
+  DATABASE_META_DATA_GET_MAX_SCHEMA_NAME_LENGTH("DatabaseMetaData.getMaxSchemaNameLength"),
+  DATABASE_META_DATA_GET_MAX_STATEMENT_LENGTH("DatabaseMetaData.getMaxStatementLength"),
+  DATABASE_META_DATA_GET_MAX_STATEMENTS("DatabaseMetaData.getMaxStatements"),
+  DATABASE_META_DATA_GET_MAX_TABLE_NAME_LENGTH("DatabaseMetaData.getMaxTableNameLength"),
+  DATABASE_META_DATA_GET_MAX_TABLES_IN_SELECT("DatabaseMetaData.getMaxTablesInSelect"),
+  DATABASE_META_DATA_GET_MAX_USER_NAME_LENGTH("DatabaseMetaData.getMaxUserNameLength"),
+  DATABASE_META_DATA_GET_NUMERIC_FUNCTIONS("DatabaseMetaData.getNumericFunctions"),
+  DATABASE_META_DATA_GET_PRIMARY_KEYS("DatabaseMetaData.getPrimaryKeys"),
+  DATABASE_META_DATA_GET_PROCEDURE_COLUMNS("DatabaseMetaData.getProcedureColumns"),
+  DATABASE_META_DATA_GET_PROCEDURE_TERM("DatabaseMetaData.getProcedureTerm"),
+  DATABASE_META_DATA_GET_PROCEDURES("DatabaseMetaData.getProcedures"),
+  DATABASE_META_DATA_GET_PSEUDO_COLUMNS("DatabaseMetaData.getPseudoColumns"),
+  DATABASE_META_DATA_GET_RESULT_SET_HOLDABILITY("DatabaseMetaData.getResultSetHoldability"),
+  DATABASE_META_DATA_GET_ROW_ID_LIFETIME("DatabaseMetaData.getRowIdLifetime"),
+  DATABASE_META_DATA_GET_SQL_KEYWORDS("DatabaseMetaData.getSQLKeywords"),
+  DATABASE_META_DATA_GET_SQL_STATE_TYPE("DatabaseMetaData.getSQLStateType"),
+  DATABASE_META_DATA_GET_SCHEMA_TERM("DatabaseMetaData.getSchemaTerm"),
+  DATABASE_META_DATA_GET_SCHEMAS("DatabaseMetaData.getSchemas"),
+  DATABASE_META_DATA_GET_SEARCH_STRING_ESCAPE("DatabaseMetaData.getSearchStringEscape"),
+  DATABASE_META_DATA_GET_STRING_FUNCTIONS("DatabaseMetaData.getStringFunctions"),
+  DATABASE_META_DATA_GET_SUPER_TABLES("DatabaseMetaData.getSuperTables"),
+  DATABASE_META_DATA_GET_SUPER_TYPES("DatabaseMetaData.getSuperTypes"),
+  DATABASE_META_DATA_GET_SYSTEM_FUNCTIONS("DatabaseMetaData.getSystemFunctions"),
+  DATABASE_META_DATA_GET_TABLE_PRIVILEGES("DatabaseMetaData.getTablePrivileges"),
+  DATABASE_META_DATA_GET_TABLE_TYPES("DatabaseMetaData.getTableTypes"),
+  DATABASE_META_DATA_GET_TABLES("DatabaseMetaData.getTables"),
+  DATABASE_META_DATA_GET_TIME_DATE_FUNCTIONS("DatabaseMetaData.getTimeDateFunctions"),
+  DATABASE_META_DATA_GET_TYPE_INFO("DatabaseMetaData.getTypeInfo"),
+  DATABASE_META_DATA_GET_UD_TS("DatabaseMetaData.getUDTs"),
+  DATABASE_META_DATA_GET_URL("DatabaseMetaData.getURL"),
+  DATABASE_META_DATA_GET_USER_NAME("DatabaseMetaData.getUserName"),
+  DATABASE_META_DATA_GET_VERSION_COLUMNS("DatabaseMetaData.getVersionColumns"),
+  DATABASE_META_DATA_INSERTS_ARE_DETECTED("DatabaseMetaData.insertsAreDetected"),
+  DATABASE_META_DATA_IS_CATALOG_AT_START("DatabaseMetaData.isCatalogAtStart"),
+  DATABASE_META_DATA_IS_READ_ONLY("DatabaseMetaData.isReadOnly"),
+  DATABASE_META_DATA_LOCATORS_UPDATE_COPY("DatabaseMetaData.locatorsUpdateCopy"),
+  DATABASE_META_DATA_NULL_PLUS_NON_NULL_IS_NULL("DatabaseMetaData.nullPlusNonNullIsNull"),
+  DATABASE_META_DATA_NULLS_ARE_SORTED_AT_END("DatabaseMetaData.nullsAreSortedAtEnd"),
+  DATABASE_META_DATA_NULLS_ARE_SORTED_AT_START("DatabaseMetaData.nullsAreSortedAtStart"),
+  DATABASE_META_DATA_NULLS_ARE_SORTED_HIGH("DatabaseMetaData.nullsAreSortedHigh"),
+  DATABASE_META_DATA_NULLS_ARE_SORTED_LOW("DatabaseMetaData.nullsAreSortedLow"),
+  DATABASE_META_DATA_OTHERS_DELETES_ARE_VISIBLE("DatabaseMetaData.othersDeletesAreVisible"),
+  DATABASE_META_DATA_OTHERS_INSERTS_ARE_VISIBLE("DatabaseMetaData.othersInsertsAreVisible"),
+  DATABASE_META_DATA_OTHERS_UPDATES_ARE_VISIBLE("DatabaseMetaData.othersUpdatesAreVisible"),
+  DATABASE_META_DATA_OWN_DELETES_ARE_VISIBLE("DatabaseMetaData.ownDeletesAreVisible"),
+  DATABASE_META_DATA_OWN_INSERTS_ARE_VISIBLE("DatabaseMetaData.ownInsertsAreVisible"),
+  DATABASE_META_DATA_OWN_UPDATES_ARE_VISIBLE("DatabaseMetaData.ownUpdatesAreVisible"),
+  DATABASE_META_DATA_STORES_LOWER_CASE_IDENTIFIERS("DatabaseMetaData.storesLowerCaseIdentifiers"),
+  DATABASE_META_DATA_STORES_LOWER_CASE_QUOTED_IDENTIFIERS("DatabaseMetaData.storesLowerCaseQuotedIdentifiers"),
+  DATABASE_META_DATA_STORES_MIXED_CASE_IDENTIFIERS("DatabaseMetaData.storesMixedCaseIdentifiers"),
+  DATABASE_META_DATA_STORES_MIXED_CASE_QUOTED_IDENTIFIERS("DatabaseMetaData.storesMixedCaseQuotedIdentifiers"),
+  DATABASE_META_DATA_STORES_UPPER_CASE_IDENTIFIERS("DatabaseMetaData.storesUpperCaseIdentifiers"),
+  DATABASE_META_DATA_STORES_UPPER_CASE_QUOTED_IDENTIFIERS("DatabaseMetaData.storesUpperCaseQuotedIdentifiers"),
+  DATABASE_META_DATA_SUPPORTS_ALTER_TABLE_WITH_ADD_COLUMN("DatabaseMetaData.supportsAlterTableWithAddColumn"),
+  DATABASE_META_DATA_SUPPORTS_ALTER_TABLE_WITH_DROP_COLUMN("DatabaseMetaData.supportsAlterTableWithDropColumn"),
+  DATABASE_META_DATA_SUPPORTS_BATCH_UPDATES("DatabaseMetaData.supportsBatchUpdates"),
+  DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_DATA_MANIPULATION("DatabaseMetaData.supportsCatalogsInDataManipulation"),
+  DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_INDEX_DEFINITIONS("DatabaseMetaData.supportsCatalogsInIndexDefinitions"),
+  DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_PRIVILEGE_DEFINITIONS("DatabaseMetaData.supportsCatalogsInPrivilegeDefinitions"),
+  DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_PROCEDURE_CALLS("DatabaseMetaData.supportsCatalogsInProcedureCalls"),
+  DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_TABLE_DEFINITIONS("DatabaseMetaData.supportsCatalogsInTableDefinitions"),
+  DATABASE_META_DATA_SUPPORTS_COLUMN_ALIASING("DatabaseMetaData.supportsColumnAliasing"),
+  DATABASE_META_DATA_SUPPORTS_CONVERT("DatabaseMetaData.supportsConvert"),
+  DATABASE_META_DATA_SUPPORTS_CORE_SQL_GRAMMAR("DatabaseMetaData.supportsCoreSQLGrammar"),
+  DATABASE_META_DATA_SUPPORTS_CORRELATED_SUBQUERIES("DatabaseMetaData.supportsCorrelatedSubqueries"),
+  DATABASE_META_DATA_SUPPORTS_DATA_DEFINITION_AND_DATA_MANIPULATION_TRANSACTIONS("DatabaseMetaData.supportsDataDefinitionAndDataManipulationTransactions"),
+  DATABASE_META_DATA_SUPPORTS_DATA_MANIPULATION_TRANSACTIONS_ONLY("DatabaseMetaData.supportsDataManipulationTransactionsOnly"),
+  DATABASE_META_DATA_SUPPORTS_DIFFERENT_TABLE_CORRELATION_NAMES("DatabaseMetaData.supportsDifferentTableCorrelationNames"),
+  DATABASE_META_DATA_SUPPORTS_EXPRESSIONS_IN_ORDER_BY("DatabaseMetaData.supportsExpressionsInOrderBy"),
+  DATABASE_META_DATA_SUPPORTS_EXTENDED_SQL_GRAMMAR("DatabaseMetaData.supportsExtendedSQLGrammar"),
+  DATABASE_META_DATA_SUPPORTS_FULL_OUTER_JOINS("DatabaseMetaData.supportsFullOuterJoins"),
+  DATABASE_META_DATA_SUPPORTS_GET_GENERATED_KEYS("DatabaseMetaData.supportsGetGeneratedKeys"),
+  DATABASE_META_DATA_SUPPORTS_GROUP_BY("DatabaseMetaData.supportsGroupBy"),
+  DATABASE_META_DATA_SUPPORTS_GROUP_BY_BEYOND_SELECT("DatabaseMetaData.supportsGroupByBeyondSelect"),
+  DATABASE_META_DATA_SUPPORTS_GROUP_BY_UNRELATED("DatabaseMetaData.supportsGroupByUnrelated"),
+  DATABASE_META_DATA_SUPPORTS_INTEGRITY_ENHANCEMENT_FACILITY("DatabaseMetaData.supportsIntegrityEnhancementFacility"),
+  DATABASE_META_DATA_SUPPORTS_LIKE_ESCAPE_CLAUSE("DatabaseMetaData.supportsLikeEscapeClause"),
+  DATABASE_META_DATA_SUPPORTS_LIMITED_OUTER_JOINS("DatabaseMetaData.supportsLimitedOuterJoins"),
+  DATABASE_META_DATA_SUPPORTS_MINIMUM_SQL_GRAMMAR("DatabaseMetaData.supportsMinimumSQLGrammar"),
+  DATABASE_META_DATA_SUPPORTS_MIXED_CASE_IDENTIFIERS("DatabaseMetaData.supportsMixedCaseIdentifiers"),
+  DATABASE_META_DATA_SUPPORTS_MIXED_CASE_QUOTED_IDENTIFIERS("DatabaseMetaData.supportsMixedCaseQuotedIdentifiers"),
+  DATABASE_META_DATA_SUPPORTS_MULTIPLE_OPEN_RESULTS("DatabaseMetaData.supportsMultipleOpenResults"),
+  DATABASE_META_DATA_SUPPORTS_MULTIPLE_RESULT_SETS("DatabaseMetaData.supportsMultipleResultSets"),
+  DATABASE_META_DATA_SUPPORTS_MULTIPLE_TRANSACTIONS("DatabaseMetaData.supportsMultipleTransactions"),
+  DATABASE_META_DATA_SUPPORTS_NAMED_PARAMETERS("DatabaseMetaData.supportsNamedParameters"),
+  DATABASE_META_DATA_SUPPORTS_NON_NULLABLE_COLUMNS("DatabaseMetaData.supportsNonNullableColumns"),
+  DATABASE_META_DATA_SUPPORTS_OPEN_CURSORS_ACROSS_COMMIT("DatabaseMetaData.supportsOpenCursorsAcrossCommit"),
+  DATABASE_META_DATA_SUPPORTS_OPEN_CURSORS_ACROSS_ROLLBACK("DatabaseMetaData.supportsOpenCursorsAcrossRollback"),
+  DATABASE_META_DATA_SUPPORTS_OPEN_STATEMENTS_ACROSS_COMMIT("DatabaseMetaData.supportsOpenStatementsAcrossCommit"),
+  DATABASE_META_DATA_SUPPORTS_OPEN_STATEMENTS_ACROSS_ROLLBACK("DatabaseMetaData.supportsOpenStatementsAcrossRollback"),
+  DATABASE_META_DATA_SUPPORTS_ORDER_BY_UNRELATED("DatabaseMetaData.supportsOrderByUnrelated"),
+  DATABASE_META_DATA_SUPPORTS_OUTER_JOINS("DatabaseMetaData.supportsOuterJoins"),
+  DATABASE_META_DATA_SUPPORTS_POSITIONED_DELETE("DatabaseMetaData.supportsPositionedDelete"),
+  DATABASE_META_DATA_SUPPORTS_POSITIONED_UPDATE("DatabaseMetaData.supportsPositionedUpdate"),
+  DATABASE_META_DATA_SUPPORTS_REF_CURSORS("DatabaseMetaData.supportsRefCursors"),
+  DATABASE_META_DATA_SUPPORTS_RESULT_SET_CONCURRENCY("DatabaseMetaData.supportsResultSetConcurrency"),
+  DATABASE_META_DATA_SUPPORTS_RESULT_SET_HOLDABILITY("DatabaseMetaData.supportsResultSetHoldability"),
+  DATABASE_META_DATA_SUPPORTS_RESULT_SET_TYPE("DatabaseMetaData.supportsResultSetType"),
+  DATABASE_META_DATA_SUPPORTS_SAVEPOINTS("DatabaseMetaData.supportsSavepoints"),
+  DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_DATA_MANIPULATION("DatabaseMetaData.supportsSchemasInDataManipulation"),
+  DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_INDEX_DEFINITIONS("DatabaseMetaData.supportsSchemasInIndexDefinitions"),
+  DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_PRIVILEGE_DEFINITIONS("DatabaseMetaData.supportsSchemasInPrivilegeDefinitions"),
+  DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_PROCEDURE_CALLS("DatabaseMetaData.supportsSchemasInProcedureCalls"),
+  DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_TABLE_DEFINITIONS("DatabaseMetaData.supportsSchemasInTableDefinitions"),
+  DATABASE_META_DATA_SUPPORTS_SELECT_FOR_UPDATE("DatabaseMetaData.supportsSelectForUpdate"),
+  DATABASE_META_DATA_SUPPORTS_STATEMENT_POOLING("DatabaseMetaData.supportsStatementPooling"),
+  DATABASE_META_DATA_SUPPORTS_STORED_FUNCTIONS_USING_CALL_SYNTAX("DatabaseMetaData.supportsStoredFunctionsUsingCallSyntax"),
+  DATABASE_META_DATA_SUPPORTS_STORED_PROCEDURES("DatabaseMetaData.supportsStoredProcedures"),
+  DATABASE_META_DATA_SUPPORTS_SUBQUERIES_IN_COMPARISONS("DatabaseMetaData.supportsSubqueriesInComparisons"),
+  DATABASE_META_DATA_SUPPORTS_SUBQUERIES_IN_EXISTS("DatabaseMetaData.supportsSubqueriesInExists"),
+  DATABASE_META_DATA_SUPPORTS_SUBQUERIES_IN_INS("DatabaseMetaData.supportsSubqueriesInIns"),
+  DATABASE_META_DATA_SUPPORTS_SUBQUERIES_IN_QUANTIFIEDS("DatabaseMetaData.supportsSubqueriesInQuantifieds"),
+  DATABASE_META_DATA_SUPPORTS_TABLE_CORRELATION_NAMES("DatabaseMetaData.supportsTableCorrelationNames"),
+  DATABASE_META_DATA_SUPPORTS_TRANSACTION_ISOLATION_LEVEL("DatabaseMetaData.supportsTransactionIsolationLevel"),
+  DATABASE_META_DATA_SUPPORTS_TRANSACTIONS("DatabaseMetaData.supportsTransactions"),
+  DATABASE_META_DATA_SUPPORTS_UNION("DatabaseMetaData.supportsUnion"),
+  DATABASE_META_DATA_SUPPORTS_UNION_ALL("DatabaseMetaData.supportsUnionAll"),
+  DATABASE_META_DATA_UPDATES_ARE_DETECTED("DatabaseMetaData.updatesAreDetected"),
+  DATABASE_META_DATA_USES_LOCAL_FILE_PER_TABLE("DatabaseMetaData.usesLocalFilePerTable"),
+  DATABASE_META_DATA_USES_LOCAL_FILES("DatabaseMetaData.usesLocalFiles"),
+
+  N_CLOB_FREE("NClob.free"),
+  N_CLOB_GET_ASCII_STREAM("NClob.getAsciiStream"),
+  N_CLOB_GET_CHARACTER_STREAM("NClob.getCharacterStream"),
+  N_CLOB_GET_SUB_STRING("NClob.getSubString"),
+  N_CLOB_LENGTH("NClob.length"),
+  N_CLOB_POSITION("NClob.position"),
+  N_CLOB_SET_ASCII_STREAM("NClob.setAsciiStream"),
+  N_CLOB_SET_CHARACTER_STREAM("NClob.setCharacterStream"),
+  N_CLOB_SET_STRING("NClob.setString"),
+  N_CLOB_TRUNCATE("NClob.truncate"),
+
+  PARAMETER_META_DATA_GET_PARAMETER_CLASS_NAME("ParameterMetaData.getParameterClassName"),
+  PARAMETER_META_DATA_GET_PARAMETER_COUNT("ParameterMetaData.getParameterCount"),
+  PARAMETER_META_DATA_GET_PARAMETER_MODE("ParameterMetaData.getParameterMode"),
+  PARAMETER_META_DATA_GET_PARAMETER_TYPE("ParameterMetaData.getParameterType"),
+  PARAMETER_META_DATA_GET_PARAMETER_TYPE_NAME("ParameterMetaData.getParameterTypeName"),
+  PARAMETER_META_DATA_GET_PRECISION("ParameterMetaData.getPrecision"),
+  PARAMETER_META_DATA_GET_SCALE("ParameterMetaData.getScale"),
+  PARAMETER_META_DATA_IS_NULLABLE("ParameterMetaData.isNullable"),
+  PARAMETER_META_DATA_IS_SIGNED("ParameterMetaData.isSigned"),
+
+  PREPARED_STATEMENT_ADD_BATCH("PreparedStatement.addBatch"),
+  PREPARED_STATEMENT_CANCEL("PreparedStatement.cancel"),
+  PREPARED_STATEMENT_CLEAR_BATCH("PreparedStatement.clearBatch"),
+  PREPARED_STATEMENT_CLEAR_PARAMETERS("PreparedStatement.clearParameters"),
+  PREPARED_STATEMENT_CLEAR_WARNINGS("PreparedStatement.clearWarnings"),
+  PREPARED_STATEMENT_CLOSE("PreparedStatement.close"),
+  PREPARED_STATEMENT_CLOSE_ON_COMPLETION("PreparedStatement.closeOnCompletion"),
+  PREPARED_STATEMENT_EXECUTE("PreparedStatement.execute"),
+  PREPARED_STATEMENT_EXECUTE_BATCH("PreparedStatement.executeBatch"),
+  PREPARED_STATEMENT_EXECUTE_LARGE_UPDATE("PreparedStatement.executeLargeUpdate"),
+  PREPARED_STATEMENT_EXECUTE_QUERY("PreparedStatement.executeQuery"),
+  PREPARED_STATEMENT_EXECUTE_UPDATE("PreparedStatement.executeUpdate"),
+  PREPARED_STATEMENT_GET_CONNECTION("PreparedStatement.getConnection"),
+  PREPARED_STATEMENT_GET_FETCH_DIRECTION("PreparedStatement.getFetchDirection"),
+  PREPARED_STATEMENT_GET_FETCH_SIZE("PreparedStatement.getFetchSize"),
+  PREPARED_STATEMENT_GET_GENERATED_KEYS("PreparedStatement.getGeneratedKeys"),
+  PREPARED_STATEMENT_GET_MAX_FIELD_SIZE("PreparedStatement.getMaxFieldSize"),
+  PREPARED_STATEMENT_GET_MAX_ROWS("PreparedStatement.getMaxRows"),
+  PREPARED_STATEMENT_GET_META_DATA("PreparedStatement.getMetaData"),
+  PREPARED_STATEMENT_GET_MORE_RESULTS("PreparedStatement.getMoreResults"),
+  PREPARED_STATEMENT_GET_PARAMETER_META_DATA("PreparedStatement.getParameterMetaData"),
+  PREPARED_STATEMENT_GET_QUERY_TIMEOUT("PreparedStatement.getQueryTimeout"),
+  PREPARED_STATEMENT_GET_RESULT_SET("PreparedStatement.getResultSet"),
+  PREPARED_STATEMENT_GET_RESULT_SET_CONCURRENCY("PreparedStatement.getResultSetConcurrency"),
+  PREPARED_STATEMENT_GET_RESULT_SET_HOLDABILITY("PreparedStatement.getResultSetHoldability"),
+  PREPARED_STATEMENT_GET_RESULT_SET_TYPE("PreparedStatement.getResultSetType"),
+  PREPARED_STATEMENT_GET_UPDATE_COUNT("PreparedStatement.getUpdateCount"),
+  PREPARED_STATEMENT_GET_WARNINGS("PreparedStatement.getWarnings"),
+  PREPARED_STATEMENT_IS_CLOSE_ON_COMPLETION("PreparedStatement.isCloseOnCompletion"),
+  PREPARED_STATEMENT_IS_CLOSED("PreparedStatement.isClosed"),
+  PREPARED_STATEMENT_IS_POOLABLE("PreparedStatement.isPoolable"),
+  PREPARED_STATEMENT_SET_ARRAY("PreparedStatement.setArray"),
+  PREPARED_STATEMENT_SET_ASCII_STREAM("PreparedStatement.setAsciiStream"),
+  PREPARED_STATEMENT_SET_BIG_DECIMAL("PreparedStatement.setBigDecimal"),
+  PREPARED_STATEMENT_SET_BINARY_STREAM("PreparedStatement.setBinaryStream"),
+  PREPARED_STATEMENT_SET_BLOB("PreparedStatement.setBlob"),
+  PREPARED_STATEMENT_SET_BOOLEAN("PreparedStatement.setBoolean"),
+  PREPARED_STATEMENT_SET_BYTE("PreparedStatement.setByte"),
+  PREPARED_STATEMENT_SET_BYTES("PreparedStatement.setBytes"),
+  PREPARED_STATEMENT_SET_CHARACTER_STREAM("PreparedStatement.setCharacterStream"),
+  PREPARED_STATEMENT_SET_CLOB("PreparedStatement.setClob"),
+  PREPARED_STATEMENT_SET_CURSOR_NAME("PreparedStatement.setCursorName"),
+  PREPARED_STATEMENT_SET_DATE("PreparedStatement.setDate"),
+  PREPARED_STATEMENT_SET_DOUBLE("PreparedStatement.setDouble"),
+  PREPARED_STATEMENT_SET_ESCAPE_PROCESSING("PreparedStatement.setEscapeProcessing"),
+  PREPARED_STATEMENT_SET_FETCH_DIRECTION("PreparedStatement.setFetchDirection"),
+  PREPARED_STATEMENT_SET_FETCH_SIZE("PreparedStatement.setFetchSize"),
+  PREPARED_STATEMENT_SET_FLOAT("PreparedStatement.setFloat"),
+  PREPARED_STATEMENT_SET_INT("PreparedStatement.setInt"),
+  PREPARED_STATEMENT_SET_LONG("PreparedStatement.setLong"),
+  PREPARED_STATEMENT_SET_MAX_FIELD_SIZE("PreparedStatement.setMaxFieldSize"),
+  PREPARED_STATEMENT_SET_MAX_ROWS("PreparedStatement.setMaxRows"),
+  PREPARED_STATEMENT_SET_N_CHARACTER_STREAM("PreparedStatement.setNCharacterStream"),
+  PREPARED_STATEMENT_SET_N_CLOB("PreparedStatement.setNClob"),
+  PREPARED_STATEMENT_SET_N_STRING("PreparedStatement.setNString"),
+  PREPARED_STATEMENT_SET_NULL("PreparedStatement.setNull"),
+  PREPARED_STATEMENT_SET_OBJECT("PreparedStatement.setObject"),
+  PREPARED_STATEMENT_SET_POOLABLE("PreparedStatement.setPoolable"),
+  PREPARED_STATEMENT_SET_QUERY_TIMEOUT("PreparedStatement.setQueryTimeout"),
+  PREPARED_STATEMENT_SET_REF("PreparedStatement.setRef"),
+  PREPARED_STATEMENT_SET_ROW_ID("PreparedStatement.setRowId"),
+  PREPARED_STATEMENT_SET_SQLXML("PreparedStatement.setSQLXML"),
+  PREPARED_STATEMENT_SET_SHORT("PreparedStatement.setShort"),
+  PREPARED_STATEMENT_SET_STRING("PreparedStatement.setString"),
+  PREPARED_STATEMENT_SET_TIME("PreparedStatement.setTime"),
+  PREPARED_STATEMENT_SET_TIMESTAMP("PreparedStatement.setTimestamp"),
+  PREPARED_STATEMENT_SET_URL("PreparedStatement.setURL"),
+  PREPARED_STATEMENT_SET_UNICODE_STREAM("PreparedStatement.setUnicodeStream"),
+
+  REF_GET_BASE_TYPE_NAME("Ref.getBaseTypeName"),
+  REF_GET_OBJECT("Ref.getObject"),
+  REF_SET_OBJECT("Ref.setObject"),
+
+  RESULT_SET_ABSOLUTE("ResultSet.absolute"),
+  RESULT_SET_AFTER_LAST("ResultSet.afterLast"),
+  RESULT_SET_BEFORE_FIRST("ResultSet.beforeFirst"),
+  RESULT_SET_CANCEL_ROW_UPDATES("ResultSet.cancelRowUpdates"),
+  RESULT_SET_CLEAR_WARNINGS("ResultSet.clearWarnings"),
+  RESULT_SET_CLOSE("ResultSet.close"),
+  RESULT_SET_DELETE_ROW("ResultSet.deleteRow"),
+  RESULT_SET_FIND_COLUMN("ResultSet.findColumn"),
+  RESULT_SET_FIRST("ResultSet.first"),
+  RESULT_SET_GET_ARRAY("ResultSet.getArray"),
+  RESULT_SET_GET_ASCII_STREAM("ResultSet.getAsciiStream"),
+  RESULT_SET_GET_BIG_DECIMAL("ResultSet.getBigDecimal"),
+  RESULT_SET_GET_BINARY_STREAM("ResultSet.getBinaryStream"),
+  RESULT_SET_GET_BLOB("ResultSet.getBlob"),
+  RESULT_SET_GET_BOOLEAN("ResultSet.getBoolean"),
+  RESULT_SET_GET_BYTE("ResultSet.getByte"),
+  RESULT_SET_GET_BYTES("ResultSet.getBytes"),
+  RESULT_SET_GET_CHARACTER_STREAM("ResultSet.getCharacterStream"),
+  RESULT_SET_GET_CLOB("ResultSet.getClob"),
+  RESULT_SET_GET_CONCURRENCY("ResultSet.getConcurrency"),
+  RESULT_SET_GET_CURSOR_NAME("ResultSet.getCursorName"),
+  RESULT_SET_GET_DATE("ResultSet.getDate"),
+  RESULT_SET_GET_DOUBLE("ResultSet.getDouble"),
+  RESULT_SET_GET_FETCH_DIRECTION("ResultSet.getFetchDirection"),
+  RESULT_SET_GET_FETCH_SIZE("ResultSet.getFetchSize"),
+  RESULT_SET_GET_FLOAT("ResultSet.getFloat"),
+  RESULT_SET_GET_HOLDABILITY("ResultSet.getHoldability"),
+  RESULT_SET_GET_INT("ResultSet.getInt"),
+  RESULT_SET_GET_LONG("ResultSet.getLong"),
+  RESULT_SET_GET_META_DATA("ResultSet.getMetaData"),
+  RESULT_SET_GET_N_CHARACTER_STREAM("ResultSet.getNCharacterStream"),
+  RESULT_SET_GET_N_CLOB("ResultSet.getNClob"),
+  RESULT_SET_GET_N_STRING("ResultSet.getNString"),
+  RESULT_SET_GET_OBJECT("ResultSet.getObject"),
+  RESULT_SET_GET_REF("ResultSet.getRef"),
+  RESULT_SET_GET_ROW("ResultSet.getRow"),
+  RESULT_SET_GET_ROW_ID("ResultSet.getRowId"),
+  RESULT_SET_GET_SQLXML("ResultSet.getSQLXML"),
+  RESULT_SET_GET_SHORT("ResultSet.getShort"),
+  RESULT_SET_GET_STATEMENT("ResultSet.getStatement"),
+  RESULT_SET_GET_STRING("ResultSet.getString"),
+  RESULT_SET_GET_TIME("ResultSet.getTime"),
+  RESULT_SET_GET_TIMESTAMP("ResultSet.getTimestamp"),
+  RESULT_SET_GET_TYPE("ResultSet.getType"),
+  RESULT_SET_GET_URL("ResultSet.getURL"),
+  RESULT_SET_GET_UNICODE_STREAM("ResultSet.getUnicodeStream"),
+  RESULT_SET_GET_WARNINGS("ResultSet.getWarnings"),
+  RESULT_SET_INSERT_ROW("ResultSet.insertRow"),
+  RESULT_SET_IS_AFTER_LAST("ResultSet.isAfterLast"),
+  RESULT_SET_IS_BEFORE_FIRST("ResultSet.isBeforeFirst"),
+  RESULT_SET_IS_CLOSED("ResultSet.isClosed"),
+  RESULT_SET_IS_FIRST("ResultSet.isFirst"),
+  RESULT_SET_IS_LAST("ResultSet.isLast"),
+  RESULT_SET_LAST("ResultSet.last"),
+  RESULT_SET_MOVE_TO_CURRENT_ROW("ResultSet.moveToCurrentRow"),
+  RESULT_SET_MOVE_TO_INSERT_ROW("ResultSet.moveToInsertRow"),
+  RESULT_SET_NEXT("ResultSet.next"),
+  RESULT_SET_PREVIOUS("ResultSet.previous"),
+  RESULT_SET_REFRESH_ROW("ResultSet.refreshRow"),
+  RESULT_SET_RELATIVE("ResultSet.relative"),
+  RESULT_SET_ROW_DELETED("ResultSet.rowDeleted"),
+  RESULT_SET_ROW_INSERTED("ResultSet.rowInserted"),
+  RESULT_SET_ROW_UPDATED("ResultSet.rowUpdated"),
+  RESULT_SET_SET_FETCH_DIRECTION("ResultSet.setFetchDirection"),
+  RESULT_SET_SET_FETCH_SIZE("ResultSet.setFetchSize"),
+  RESULT_SET_UPDATE_ARRAY("ResultSet.updateArray"),
+  RESULT_SET_UPDATE_ASCII_STREAM("ResultSet.updateAsciiStream"),
+  RESULT_SET_UPDATE_BIG_DECIMAL("ResultSet.updateBigDecimal"),
+  RESULT_SET_UPDATE_BINARY_STREAM("ResultSet.updateBinaryStream"),
+  RESULT_SET_UPDATE_BLOB("ResultSet.updateBlob"),
+  RESULT_SET_UPDATE_BOOLEAN("ResultSet.updateBoolean"),
+  RESULT_SET_UPDATE_BYTE("ResultSet.updateByte"),
+  RESULT_SET_UPDATE_BYTES("ResultSet.updateBytes"),
+  RESULT_SET_UPDATE_CHARACTER_STREAM("ResultSet.updateCharacterStream"),
+  RESULT_SET_UPDATE_CLOB("ResultSet.updateClob"),
+  RESULT_SET_UPDATE_DATE("ResultSet.updateDate"),
+  RESULT_SET_UPDATE_DOUBLE("ResultSet.updateDouble"),
+  RESULT_SET_UPDATE_FLOAT("ResultSet.updateFloat"),
+  RESULT_SET_UPDATE_INT("ResultSet.updateInt"),
+  RESULT_SET_UPDATE_LONG("ResultSet.updateLong"),
+  RESULT_SET_UPDATE_N_CHARACTER_STREAM("ResultSet.updateNCharacterStream"),
+  RESULT_SET_UPDATE_N_CLOB("ResultSet.updateNClob"),
+  RESULT_SET_UPDATE_N_STRING("ResultSet.updateNString"),
+  RESULT_SET_UPDATE_NULL("ResultSet.updateNull"),
+  RESULT_SET_UPDATE_OBJECT("ResultSet.updateObject"),
+  RESULT_SET_UPDATE_REF("ResultSet.updateRef"),
+  RESULT_SET_UPDATE_ROW("ResultSet.updateRow"),
+  RESULT_SET_UPDATE_ROW_ID("ResultSet.updateRowId"),
+  RESULT_SET_UPDATE_SQLXML("ResultSet.updateSQLXML"),
+  RESULT_SET_UPDATE_SHORT("ResultSet.updateShort"),
+  RESULT_SET_UPDATE_STRING("ResultSet.updateString"),
+  RESULT_SET_UPDATE_TIME("ResultSet.updateTime"),
+  RESULT_SET_UPDATE_TIMESTAMP("ResultSet.updateTimestamp"),
+  RESULT_SET_WAS_NULL("ResultSet.wasNull"),
+
+  RESULT_SET_META_DATA_GET_CATALOG_NAME("ResultSetMetaData.getCatalogName"),
+  RESULT_SET_META_DATA_GET_COLUMN_CLASS_NAME("ResultSetMetaData.getColumnClassName"),
+  RESULT_SET_META_DATA_GET_COLUMN_COUNT("ResultSetMetaData.getColumnCount"),
+  RESULT_SET_META_DATA_GET_COLUMN_DISPLAY_SIZE("ResultSetMetaData.getColumnDisplaySize"),
+  RESULT_SET_META_DATA_GET_COLUMN_LABEL("ResultSetMetaData.getColumnLabel"),
+  RESULT_SET_META_DATA_GET_COLUMN_NAME("ResultSetMetaData.getColumnName"),
+  RESULT_SET_META_DATA_GET_COLUMN_TYPE("ResultSetMetaData.getColumnType"),
+  RESULT_SET_META_DATA_GET_COLUMN_TYPE_NAME("ResultSetMetaData.getColumnTypeName"),
+  RESULT_SET_META_DATA_GET_PRECISION("ResultSetMetaData.getPrecision"),
+  RESULT_SET_META_DATA_GET_SCALE("ResultSetMetaData.getScale"),
+  RESULT_SET_META_DATA_GET_SCHEMA_NAME("ResultSetMetaData.getSchemaName"),
+  RESULT_SET_META_DATA_GET_TABLE_NAME("ResultSetMetaData.getTableName"),
+  RESULT_SET_META_DATA_IS_AUTO_INCREMENT("ResultSetMetaData.isAutoIncrement"),
+  RESULT_SET_META_DATA_IS_CASE_SENSITIVE("ResultSetMetaData.isCaseSensitive"),
+  RESULT_SET_META_DATA_IS_CURRENCY("ResultSetMetaData.isCurrency"),
+  RESULT_SET_META_DATA_IS_DEFINITELY_WRITABLE("ResultSetMetaData.isDefinitelyWritable"),
+  RESULT_SET_META_DATA_IS_NULLABLE("ResultSetMetaData.isNullable"),
+  RESULT_SET_META_DATA_IS_READ_ONLY("ResultSetMetaData.isReadOnly"),
+  RESULT_SET_META_DATA_IS_SEARCHABLE("ResultSetMetaData.isSearchable"),
+  RESULT_SET_META_DATA_IS_SIGNED("ResultSetMetaData.isSigned"),
+  RESULT_SET_META_DATA_IS_WRITABLE("ResultSetMetaData.isWritable"),
+
+  SQL_DATA_GET_SQL_TYPE_NAME("SQLData.getSQLTypeName"),
+  SQL_DATA_READ_SQL("SQLData.readSQL"),
+  SQL_DATA_WRITE_SQL("SQLData.writeSQL"),
+
+  SQL_INPUT_READ_ARRAY("SQLInput.readArray"),
+  SQL_INPUT_READ_ASCII_STREAM("SQLInput.readAsciiStream"),
+  SQL_INPUT_READ_BIG_DECIMAL("SQLInput.readBigDecimal"),
+  SQL_INPUT_READ_BINARY_STREAM("SQLInput.readBinaryStream"),
+  SQL_INPUT_READ_BLOB("SQLInput.readBlob"),
+  SQL_INPUT_READ_BOOLEAN("SQLInput.readBoolean"),
+  SQL_INPUT_READ_BYTE("SQLInput.readByte"),
+  SQL_INPUT_READ_BYTES("SQLInput.readBytes"),
+  SQL_INPUT_READ_CHARACTER_STREAM("SQLInput.readCharacterStream"),
+  SQL_INPUT_READ_CLOB("SQLInput.readClob"),
+  SQL_INPUT_READ_DATE("SQLInput.readDate"),
+  SQL_INPUT_READ_DOUBLE("SQLInput.readDouble"),
+  SQL_INPUT_READ_FLOAT("SQLInput.readFloat"),
+  SQL_INPUT_READ_INT("SQLInput.readInt"),
+  SQL_INPUT_READ_LONG("SQLInput.readLong"),
+  SQL_INPUT_READ_N_CLOB("SQLInput.readNClob"),
+  SQL_INPUT_READ_N_STRING("SQLInput.readNString"),
+  SQL_INPUT_READ_OBJECT("SQLInput.readObject"),
+  SQL_INPUT_READ_REF("SQLInput.readRef"),
+  SQL_INPUT_READ_ROW_ID("SQLInput.readRowId"),
+  SQL_INPUT_READ_SQLXML("SQLInput.readSQLXML"),
+  SQL_INPUT_READ_SHORT("SQLInput.readShort"),
+  SQL_INPUT_READ_STRING("SQLInput.readString"),
+  SQL_INPUT_READ_TIME("SQLInput.readTime"),
+  SQL_INPUT_READ_TIMESTAMP("SQLInput.readTimestamp"),
+  SQL_INPUT_READ_URL("SQLInput.readURL"),
+  SQL_INPUT_WAS_NULL("SQLInput.wasNull"),
+
+  SQL_OUTPUT_WRITE_ARRAY("SQLOutput.writeArray"),
+  SQL_OUTPUT_WRITE_ASCII_STREAM("SQLOutput.writeAsciiStream"),
+  SQL_OUTPUT_WRITE_BIG_DECIMAL("SQLOutput.writeBigDecimal"),
+  SQL_OUTPUT_WRITE_BINARY_STREAM("SQLOutput.writeBinaryStream"),
+  SQL_OUTPUT_WRITE_BLOB("SQLOutput.writeBlob"),
+  SQL_OUTPUT_WRITE_BOOLEAN("SQLOutput.writeBoolean"),
+  SQL_OUTPUT_WRITE_BYTE("SQLOutput.writeByte"),
+  SQL_OUTPUT_WRITE_BYTES("SQLOutput.writeBytes"),
+  SQL_OUTPUT_WRITE_CHARACTER_STREAM("SQLOutput.writeCharacterStream"),
+  SQL_OUTPUT_WRITE_CLOB("SQLOutput.writeClob"),
+  SQL_OUTPUT_WRITE_DATE("SQLOutput.writeDate"),
+  SQL_OUTPUT_WRITE_DOUBLE("SQLOutput.writeDouble"),
+  SQL_OUTPUT_WRITE_FLOAT("SQLOutput.writeFloat"),
+  SQL_OUTPUT_WRITE_INT("SQLOutput.writeInt"),
+  SQL_OUTPUT_WRITE_LONG("SQLOutput.writeLong"),
+  SQL_OUTPUT_WRITE_N_CLOB("SQLOutput.writeNClob"),
+  SQL_OUTPUT_WRITE_N_STRING("SQLOutput.writeNString"),
+  SQL_OUTPUT_WRITE_OBJECT("SQLOutput.writeObject"),
+  SQL_OUTPUT_WRITE_REF("SQLOutput.writeRef"),
+  SQL_OUTPUT_WRITE_ROW_ID("SQLOutput.writeRowId"),
+  SQL_OUTPUT_WRITE_SQLXML("SQLOutput.writeSQLXML"),
+  SQL_OUTPUT_WRITE_SHORT("SQLOutput.writeShort"),
+  SQL_OUTPUT_WRITE_STRING("SQLOutput.writeString"),
+  SQL_OUTPUT_WRITE_STRUCT("SQLOutput.writeStruct"),
+  SQL_OUTPUT_WRITE_TIME("SQLOutput.writeTime"),
+  SQL_OUTPUT_WRITE_TIMESTAMP("SQLOutput.writeTimestamp"),
+  SQL_OUTPUT_WRITE_URL("SQLOutput.writeURL"),
+
+  SQL_TYPE_GET_NAME("SQLType.getName"),
+  SQL_TYPE_GET_VENDOR("SQLType.getVendor"),
+  SQL_TYPE_GET_VENDOR_TYPE_NUMBER("SQLType.getVendorTypeNumber"),
+
+  SAVEPOINT_GET_SAVEPOINT_ID("Savepoint.getSavepointId"),
+  SAVEPOINT_GET_SAVEPOINT_NAME("Savepoint.getSavepointName"),
+
+  STATEMENT_ADD_BATCH("Statement.addBatch"),
+  STATEMENT_CANCEL("Statement.cancel"),
+  STATEMENT_CLEAR_BATCH("Statement.clearBatch"),
+  STATEMENT_CLEAR_WARNINGS("Statement.clearWarnings"),
+  STATEMENT_CLOSE("Statement.close"),
+  STATEMENT_CLOSE_ON_COMPLETION("Statement.closeOnCompletion"),
+  STATEMENT_EXECUTE("Statement.execute"),
+  STATEMENT_EXECUTE_BATCH("Statement.executeBatch"),
+  STATEMENT_EXECUTE_QUERY("Statement.executeQuery"),
+  STATEMENT_EXECUTE_UPDATE("Statement.executeUpdate"),
+  STATEMENT_GET_CONNECTION("Statement.getConnection"),
+  STATEMENT_GET_FETCH_DIRECTION("Statement.getFetchDirection"),
+  STATEMENT_GET_FETCH_SIZE("Statement.getFetchSize"),
+  STATEMENT_GET_GENERATED_KEYS("Statement.getGeneratedKeys"),
+  STATEMENT_GET_MAX_FIELD_SIZE("Statement.getMaxFieldSize"),
+  STATEMENT_GET_MAX_ROWS("Statement.getMaxRows"),
+  STATEMENT_GET_MORE_RESULTS("Statement.getMoreResults"),
+  STATEMENT_GET_QUERY_TIMEOUT("Statement.getQueryTimeout"),
+  STATEMENT_GET_RESULT_SET("Statement.getResultSet"),
+  STATEMENT_GET_RESULT_SET_CONCURRENCY("Statement.getResultSetConcurrency"),
+  STATEMENT_GET_RESULT_SET_HOLDABILITY("Statement.getResultSetHoldability"),
+  STATEMENT_GET_RESULT_SET_TYPE("Statement.getResultSetType"),
+  STATEMENT_GET_UPDATE_COUNT("Statement.getUpdateCount"),
+  STATEMENT_GET_WARNINGS("Statement.getWarnings"),
+  STATEMENT_IS_CLOSE_ON_COMPLETION("Statement.isCloseOnCompletion"),
+  STATEMENT_IS_CLOSED("Statement.isClosed"),
+  STATEMENT_IS_POOLABLE("Statement.isPoolable"),
+  STATEMENT_SET_CURSOR_NAME("Statement.setCursorName"),
+  STATEMENT_SET_ESCAPE_PROCESSING("Statement.setEscapeProcessing"),
+  STATEMENT_SET_FETCH_DIRECTION("Statement.setFetchDirection"),
+  STATEMENT_SET_FETCH_SIZE("Statement.setFetchSize"),
+  STATEMENT_SET_MAX_FIELD_SIZE("Statement.setMaxFieldSize"),
+  STATEMENT_SET_MAX_ROWS("Statement.setMaxRows"),
+  STATEMENT_SET_POOLABLE("Statement.setPoolable"),
+  STATEMENT_SET_QUERY_TIMEOUT("Statement.setQueryTimeout"),
+
+  STRUCT_GET_ATTRIBUTES("Struct.getAttributes"),
+  STRUCT_GET_SQL_TYPE_NAME("Struct.getSQLTypeName");
+
+  private static final Map<String, JdbcMethod> methodsByName = new HashMap<>();
+
+  static {
+    for (final JdbcMethod jdbcMethod : values()) {
+      methodsByName.put(jdbcMethod.methodName, jdbcMethod);
+    }
+  }
+
+  /**
+   * The method name in the format used by {@link ConnectionPlugin#getSubscribedMethods()}, eg
+   * "ResultSet.getInt".
+   */
+  public final String methodName;
+
+  /**
+   * True if the method can be called while another JDBC call is in progress on the same connection, eg
+   * {@code Statement.cancel}. Such methods are executed without taking the plugin manager lock.
+   */
+  public final boolean isAsynchronous;
+
+  /**
+   * True if the method closes the SQL object it is called on. Such methods are allowed on objects that belong
+   * to a connection that is no longer current.
+   */
+  public final boolean isClosing;
+
+  /**
+   * True if the method may start or end a database transaction, or change the auto-commit mode.
+   */
+  public final boolean isTransactionAffecting;
+
+  /**
+   * True if the method may send a request to the database server.
+   */
+  public final boolean isNetworkBound;
+
+  JdbcMethod(final String methodName) {
+    this.methodName = methodName;
+    this.isAsynchronous = AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName);
+    this.isClosing = methodName.endsWith(".close") || methodName.endsWith(".abort");
+    this.isTransactionAffecting = methodName.equals("Connection.commit")
+        || methodName.equals("Connection.rollback")
+        || methodName.equals("Connection.close")
+        || methodName.equals("Connection.abort")
+        || methodName.equals("Connection.setAutoCommit")
+        || methodName.contains("Statement.execute");
+    this.isNetworkBound = SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(methodName);
+  }
+
+  /**
+   * Returns the registered method with the given name.
+   *
+   * @param methodName the method name, eg "ResultSet.getInt"
+   * @return the matching {@link JdbcMethod}, or null if the method isn't registered
+   */
+  public static @Nullable JdbcMethod fromMethodName(final @Nullable String methodName) {
+    return methodName == null ? null : methodsByName.get(methodName);
+  }
+
+  @Override
+  public String toString() {
+    return this.methodName;
+  }
+}
@@ -21,21 +21,46 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.Pair;
 import software.amazon.jdbc.util.SlidingExpirationCache;
 
 public class LeastConnectionsHostSelector implements HostSelector {
   public static final String STRATEGY_LEAST_CONNECTIONS = "leastConnections";
+  // Compares the active connections of two random hosts instead of all hosts, for very large reader fleets.
+  public static final String STRATEGY_LEAST_CONNECTIONS_TWO_CHOICES = "leastConnectionsTwoChoices";
+
   private final SlidingExpirationCache<Pair, AutoCloseable> databasePools;
+  private final @Nullable HikariConnectionCounters connectionCounters;
+  private final boolean twoChoices;
 
   public LeastConnectionsHostSelector(
       SlidingExpirationCache<Pair, AutoCloseable> databasePools) {
+    this(databasePools, null, false);
+  }
+
+  /**
+   * Creates a least connections host selector.
+   *
+   * @param databasePools the internal connection pools, used to count the active connections of a host when
+   *     connection counters aren't provided
+   * @param connectionCounters the active connections of each host, maintained by the connection provider
+   * @param twoChoices true to select the host with the fewest active connections among two random hosts, false
+   *     to select it among all hosts
+   */
+  public LeastConnectionsHostSelector(
+      SlidingExpirationCache<Pair, AutoCloseable> databasePools,
+      @Nullable HikariConnectionCounters connectionCounters,
+      boolean twoChoices) {
     this.databasePools = databasePools;
+    this.connectionCounters = connectionCounters;
+    this.twoChoices = twoChoices;
   }
 
   @Override
@@ -46,24 +71,55 @@ public class LeastConnectionsHostSelector implements HostSelector {
     final List<HostSpec> eligibleHosts = hosts.stream()
         .filter(hostSpec ->
             role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE))
-        .sorted((hostSpec1, hostSpec2) ->
-            getNumConnections(hostSpec1, this.databasePools) - getNumConnections(hostSpec2, this.databasePools))
         .collect(Collectors.toList());
+    return this.selectHost(eligibleHosts, role);
+  }
 
-    if (eligibleHosts.size() == 0) {
+  @Override
+  public HostSpec getHost(
+      @NonNull final TopologySnapshot topology,
+      @NonNull final HostRole role,
+      @Nullable final Properties props) throws SQLException {
+    return this.selectHost(topology.getEligibleHosts(role), role);
+  }
+
+  private HostSpec selectHost(final List<HostSpec> eligibleHosts, final HostRole role) throws SQLException {
+    if (eligibleHosts.isEmpty()) {
       throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
     }
 
-    return eligibleHosts.get(0);
+    if (this.twoChoices && eligibleHosts.size() > 2) {
+      final ThreadLocalRandom random = ThreadLocalRandom.current();
+      final int first = random.nextInt(eligibleHosts.size());
+      // A second host distinct from the first one.
+      final int second = (first + 1 + random.nextInt(eligibleHosts.size() - 1)) % eligibleHosts.size();
+      final HostSpec firstHost = eligibleHosts.get(first);
+      final HostSpec secondHost = eligibleHosts.get(second);
+      return this.getNumConnections(secondHost) < this.getNumConnections(firstHost) ? secondHost : firstHost;
+    }
+
+    // The first host with the fewest connections.
+    HostSpec selectedHost = null;
+    int selectedHostConnections = Integer.MAX_VALUE;
+    for (final HostSpec hostSpec : eligibleHosts) {
+      final int numConnections = this.getNumConnections(hostSpec);
+      if (selectedHost == null || numConnections < selectedHostConnections) {
+        selectedHost = hostSpec;
+        selectedHostConnections = numConnections;
+      }
+    }
+    return selectedHost;
   }
 
-  private int getNumConnections(
-      final HostSpec hostSpec,
-      final SlidingExpirationCache<Pair, AutoCloseable> databasePools) {
+  private int getNumConnections(final HostSpec hostSpec) {
+    if (this.connectionCounters != null) {
+      return this.connectionCounters.getActiveConnections(hostSpec.getUrl());
+    }
+
     int numConnections = 0;
     final String url = hostSpec.getUrl();
     for (final Map.Entry<Pair, AutoCloseable> entry :
-        databasePools.getEntries().entrySet()) {
+        this.databasePools.getEntries().entrySet()) {
       if (!url.equals(entry.getKey().getValue1())) {
         continue;
       }
@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import software.amazon.jdbc.util.Messages;
+
+/**
+ * Compares refreshed host lists on a background thread, so that the application thread refreshing the host list
+ * doesn't wait for the comparison. The plugins are notified of the changes by the connection's own thread, see
+ * {@link PluginServiceImpl#notifyPendingNodeListChanges()}.
+ *
+ * <p>Comparisons run one at a time, in the order they are dispatched, so that each connection's changes are queued
+ * in order.
+ */
+public class NodeListChangeDispatcher {
+
+  private static final Logger LOGGER = Logger.getLogger(NodeListChangeDispatcher.class.getName());
+
+  private static final ExecutorService notificationExecutor = Executors.newSingleThreadExecutor(runnableTarget -> {
+    final Thread notificationThread = new Thread(runnableTarget, "aws-advanced-jdbc-wrapper-node-list-changes");
+    notificationThread.setDaemon(true);
+    return notificationThread;
+  });
+
+  private NodeListChangeDispatcher() {
+  }
+
+  public static void dispatch(final Runnable notification) {
+    notificationExecutor.execute(() -> {
+      try {
+        notification.run();
+      } catch (final RuntimeException ex) {
+        LOGGER.log(Level.WARNING, Messages.get("NodeListChangeDispatcher.notificationFailed"), ex);
+      }
+    });
+  }
+}
@@ -27,6 +27,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.dialect.Dialect;
 import software.amazon.jdbc.exceptions.ExceptionHandler;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.states.SessionStateService;
 import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
@@ -78,6 +79,15 @@ public interface PluginService extends ExceptionHandler {
    */
   List<HostSpec> getHosts();
 
+  /**
+   * Returns the allowed hosts, as returned by {@link #getHosts()}, with the indexes used by host selectors.
+   *
+   * @return a topology snapshot of the allowed hosts
+   */
+  default TopologySnapshot getHostsSnapshot() {
+    return new TopologySnapshot(null, -1, this.getHosts());
+  }
+
   HostSpec getInitialConnectionHostSpec();
 
   /**
@@ -25,10 +25,11 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -47,6 +48,7 @@ import software.amazon.jdbc.exceptions.ExceptionManager;
 import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.hostavailability.HostAvailabilityStrategyFactory;
 import software.amazon.jdbc.hostlistprovider.StaticHostListProvider;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.profile.ConfigurationProfile;
 import software.amazon.jdbc.states.SessionStateService;
 import software.amazon.jdbc.states.SessionStateServiceImpl;
@@ -68,8 +70,12 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
   private final String originalUrl;
   private final String driverProtocol;
   protected volatile HostListProvider hostListProvider;
+  // The version of the last topology snapshot applied to the host list, see refreshHostListFromSnapshot().
+  protected long topologyVersion = -1;
   protected List<HostSpec> allHosts = new ArrayList<>();
   protected AtomicReference<AllowedAndBlockedHosts> allowedAndBlockedHosts = new AtomicReference<>();
+  // The allowed hosts with their host selection indexes, see getHostsSnapshot().
+  protected volatile @Nullable HostsSnapshot hostsSnapshot;
   protected Connection currentConnection;
   protected HostSpec currentHostSpec;
   protected HostSpec initialConnectionHostSpec;
@@ -85,6 +91,12 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
   protected final SessionStateService sessionStateService;
 
   protected final ReentrantLock connectionSwitchLock = new ReentrantLock();
+  protected final boolean asyncNodeListChangeNotification;
+  // Host list changes computed by the NodeListChangeDispatcher, waiting to be notified to the plugins on the
+  // connection's own thread, see notifyPendingNodeListChanges().
+  protected final Queue<Map<String, EnumSet<NodeChangeOptions>>> pendingNodeListChanges =
+      new ConcurrentLinkedQueue<>();
+  private final Runnable pendingNodeListChangesNotifier = this::notifyPendingNodeListChanges;
 
   public PluginServiceImpl(
       @NonNull final ConnectionPluginManager pluginManager,
@@ -139,6 +151,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     this.driverProtocol = targetDriverProtocol;
     this.configurationProfile = configurationProfile;
     this.exceptionManager = exceptionManager;
+    this.asyncNodeListChangeNotification = PropertyDefinition.ASYNC_NODE_LIST_CHANGE_NOTIFICATION.getBoolean(props);
     this.dialectProvider = dialectProvider != null ? dialectProvider : new DialectManager(this);
     this.targetDriverDialect = targetDriverDialect;
     this.connectionProviderManager = new ConnectionProviderManager(
@@ -401,12 +414,45 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
 
   @Override
   public List<HostSpec> getHosts() {
-    AllowedAndBlockedHosts hostPermissions = this.allowedAndBlockedHosts.get();
+    return this.getAllowedHosts(this.allHosts, this.allowedAndBlockedHosts.get());
+  }
+
+  /**
+   * Returns the allowed hosts with their host selection indexes. The snapshot is cached until the host list, the
+   * allowed and blocked hosts, or the availability of a host changes. Hosts are shared with monitors and other
+   * connections that may change their availability, so the cache is keyed on {@link HostSpec#getAvailabilityVersion()}
+   * rather than on the changes made through this service.
+   *
+   * @return a topology snapshot of the allowed hosts
+   */
+  @Override
+  public TopologySnapshot getHostsSnapshot() {
+    // The version is read first, so that a change made while the snapshot is created invalidates it.
+    final long availabilityVersion = HostSpec.getAvailabilityVersion();
+    final List<HostSpec> currentHosts = this.allHosts;
+    final AllowedAndBlockedHosts hostPermissions = this.allowedAndBlockedHosts.get();
+    final HostsSnapshot cachedSnapshot = this.hostsSnapshot;
+    if (cachedSnapshot != null
+        && cachedSnapshot.allHosts == currentHosts
+        && cachedSnapshot.allowedAndBlockedHosts == hostPermissions
+        && cachedSnapshot.availabilityVersion == availabilityVersion
+        && !cachedSnapshot.hasUnavailableHostBecomeAvailable()) {
+      return cachedSnapshot.topology;
+    }
+
+    final TopologySnapshot topology = new TopologySnapshot(
+        null, this.topologyVersion, this.getAllowedHosts(currentHosts, hostPermissions));
+    this.hostsSnapshot = new HostsSnapshot(currentHosts, hostPermissions, availabilityVersion, topology);
+    return topology;
+  }
+
+  protected List<HostSpec> getAllowedHosts(
+      final List<HostSpec> allHosts, final @Nullable AllowedAndBlockedHosts hostPermissions) {
     if (hostPermissions == null) {
-      return this.allHosts;
+      return allHosts;
     }
 
-    List<HostSpec> hosts = this.allHosts;
+    List<HostSpec> hosts = allHosts;
     Set<String> allowedHostIds = hostPermissions.getAllowedHostIds();
     Set<String> blockedHostIds = hostPermissions.getBlockedHostIds();
 
@@ -431,6 +477,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     if (hostAliases.isEmpty()) {
       return;
     }
+    this.notifyPendingNodeListChanges();
 
     final List<HostSpec> hostsToChange = this.getAllHosts().stream()
         .filter((host) -> hostAliases.contains(host.asAlias())
@@ -461,6 +508,8 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     }
 
     if (!changes.isEmpty()) {
+      // The availability of the hosts is part of the host selection indexes.
+      this.hostsSnapshot = null;
       this.pluginManager.notifyNodeListChanged(changes);
     }
   }
@@ -482,24 +531,94 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
 
   @Override
   public void refreshHostList() throws SQLException {
+    this.notifyPendingNodeListChanges();
+    if (this.refreshHostListFromSnapshot()) {
+      return;
+    }
     final List<HostSpec> updatedHostList = this.getHostListProvider().refresh();
     if (!Objects.equals(updatedHostList, this.allHosts)) {
-      updateHostAvailability(updatedHostList);
-      setNodeList(this.allHosts, updatedHostList);
+      this.updateNodeList(updatedHostList);
     }
   }
 
   @Override
   public void refreshHostList(final Connection connection) throws SQLException {
+    this.notifyPendingNodeListChanges();
+    if (this.refreshHostListFromSnapshot()) {
+      return;
+    }
     final List<HostSpec> updatedHostList = this.getHostListProvider().refresh(connection);
     if (!Objects.equals(updatedHostList, this.allHosts)) {
-      updateHostAvailability(updatedHostList);
+      this.updateNodeList(updatedHostList);
+    }
+  }
+
+  /**
+   * Updates the host list with the latest topology pushed to the host list provider, if it supports it. The host
+   * lists are only compared when the version of the topology has changed since the previous update.
+   *
+   * @return true if the host list provider has a pushed topology, false if it should be refreshed instead
+   */
+  protected boolean refreshHostListFromSnapshot() {
+    final HostListProvider hostListProvider = this.getHostListProvider();
+    if (!(hostListProvider instanceof VersionedHostListProvider)) {
+      return false;
+    }
+    final TopologySnapshot snapshot = ((VersionedHostListProvider) hostListProvider).getTopologySnapshot();
+    if (snapshot == null) {
+      return false;
+    }
+    if (snapshot.getVersion() != this.topologyVersion) {
+      this.topologyVersion = snapshot.getVersion();
+      // With asynchronous notifications, the host lists are compared on the background thread.
+      this.updateNodeList(snapshot.getHosts());
+    }
+    return true;
+  }
+
+  /**
+   * Applies a refreshed host list. The changes are computed and notified to the plugins on the calling thread, unless
+   * {@link PropertyDefinition#ASYNC_NODE_LIST_CHANGE_NOTIFICATION} is enabled. In that case the host list is replaced
+   * right away and the changes are computed on a background thread. The plugins are still notified on the
+   * connection's own thread, at the start of its next JDBC call or host list refresh, see
+   * {@link #notifyPendingNodeListChanges()}.
+   *
+   * @param updatedHostList the refreshed host list
+   */
+  protected void updateNodeList(final List<HostSpec> updatedHostList) {
+    updateHostAvailability(updatedHostList);
+    if (!this.asyncNodeListChangeNotification) {
       setNodeList(this.allHosts, updatedHostList);
+      return;
+    }
+
+    final List<HostSpec> oldHosts = this.allHosts;
+    this.allHosts = updatedHostList;
+    NodeListChangeDispatcher.dispatch(() -> {
+      final Map<String, EnumSet<NodeChangeOptions>> changes =
+          HostListDiff.compute(oldHosts, updatedHostList, this::compare);
+      if (!changes.isEmpty()) {
+        this.pendingNodeListChanges.add(changes);
+        this.pluginManager.notifyNodeListChangedOnNextCall(this.pendingNodeListChangesNotifier);
+      }
+    });
+  }
+
+  /**
+   * Notifies the plugins of the host list changes computed in the background, in the order they were computed.
+   * Plugins expect to be called by the thread using the connection, so the changes aren't notified by the background
+   * thread itself.
+   */
+  protected void notifyPendingNodeListChanges() {
+    Map<String, EnumSet<NodeChangeOptions>> changes;
+    while ((changes = this.pendingNodeListChanges.poll()) != null) {
+      this.pluginManager.notifyNodeListChanged(changes);
     }
   }
 
   @Override
   public void forceRefreshHostList() throws SQLException {
+    this.notifyPendingNodeListChanges();
     final List<HostSpec> updatedHostList = this.getHostListProvider().forceRefresh();
     if (updatedHostList != null) {
       updateHostAvailability(updatedHostList);
@@ -509,6 +628,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
 
   @Override
   public void forceRefreshHostList(final Connection connection) throws SQLException {
+    this.notifyPendingNodeListChanges();
     final List<HostSpec> updatedHostList = this.getHostListProvider().forceRefresh(connection);
     if (updatedHostList != null) {
       updateHostAvailability(updatedHostList);
@@ -527,6 +647,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
               new Object[]{hostListProvider.getClass().getName()}));
     }
 
+    this.notifyPendingNodeListChanges();
     try {
       final List<HostSpec> updatedHostList =
           ((BlockingHostListProvider) hostListProvider).forceRefresh(shouldVerifyWriter, timeoutMs);
@@ -545,36 +666,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
   void setNodeList(@Nullable final List<HostSpec> oldHosts,
       @Nullable final List<HostSpec> newHosts) {
 
-    final Map<String, HostSpec> oldHostMap = oldHosts == null
-        ? new HashMap<>()
-        : oldHosts.stream().collect(Collectors.toMap(HostSpec::getUrl, (value) -> value));
-
-    final Map<String, HostSpec> newHostMap = newHosts == null
-        ? new HashMap<>()
-        : newHosts.stream().collect(Collectors.toMap(HostSpec::getUrl, (value) -> value));
-
-    final Map<String, EnumSet<NodeChangeOptions>> changes = new HashMap<>();
-
-    for (final Entry<String, HostSpec> entry : oldHostMap.entrySet()) {
-      final HostSpec correspondingNewHost = newHostMap.get(entry.getKey());
-      if (correspondingNewHost == null) {
-        // host deleted
-        changes.put(entry.getKey(), EnumSet.of(NodeChangeOptions.NODE_DELETED));
-      } else {
-        // host maybe changed
-        final EnumSet<NodeChangeOptions> hostChanges = compare(entry.getValue(), correspondingNewHost);
-        if (!hostChanges.isEmpty()) {
-          changes.put(entry.getKey(), hostChanges);
-        }
-      }
-    }
-
-    for (final Entry<String, HostSpec> entry : newHostMap.entrySet()) {
-      if (!oldHostMap.containsKey(entry.getKey())) {
-        // host added
-        changes.put(entry.getKey(), EnumSet.of(NodeChangeOptions.NODE_ADDED));
-      }
-    }
+    final Map<String, EnumSet<NodeChangeOptions>> changes = HostListDiff.compute(oldHosts, newHosts, this::compare);
 
     if (!changes.isEmpty()) {
       this.allHosts = newHosts != null ? newHosts : new ArrayList<>();
@@ -790,4 +882,42 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
   public static void clearCache() {
     hostAvailabilityExpiringCache.clear();
   }
+
+  protected static class HostsSnapshot {
+    final List<HostSpec> allHosts;
+    final @Nullable AllowedAndBlockedHosts allowedAndBlockedHosts;
+    final long availabilityVersion;
+    final TopologySnapshot topology;
+    // The hosts that weren't available when the snapshot was created. A host availability strategy may make them
+    // available again after a backoff time, without a new availability version.
+    final List<HostSpec> unavailableHosts;
+
+    HostsSnapshot(
+        final List<HostSpec> allHosts,
+        final @Nullable AllowedAndBlockedHosts allowedAndBlockedHosts,
+        final long availabilityVersion,
+        final TopologySnapshot topology) {
+      this.allHosts = allHosts;
+      this.allowedAndBlockedHosts = allowedAndBlockedHosts;
+      this.availabilityVersion = availabilityVersion;
+      this.topology = topology;
+      // The hosts left out of the eligible hosts of their role, as evaluated by the topology snapshot.
+      final List<HostSpec> unavailable = new ArrayList<>();
+      for (final HostSpec host : topology.getHosts()) {
+        if (!topology.getEligibleHosts(host.getRole()).contains(host)) {
+          unavailable.add(host);
+        }
+      }
+      this.unavailableHosts = unavailable;
+    }
+
+    boolean hasUnavailableHostBecomeAvailable() {
+      for (final HostSpec host : this.unavailableHosts) {
+        if (host.getAvailability() == HostAvailability.AVAILABLE) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
 }
@@ -39,6 +39,19 @@ public class PropertyDefinition {
           "wrapperLogUnclosedConnections", "false",
           "Allows the driver to track a point in the code where connection has been opened and never closed after");
 
+  public static final AwsWrapperProperty SINGLE_THREADED_CONNECTION =
+      new AwsWrapperProperty(
+          "wrapperSingleThreadedConnection", "false",
+          "Declares that a connection and its statements and result sets are used by one thread at a time. The driver"
+          + " then checks thread ownership instead of taking a lock on every JDBC call. Only methods that may be"
+          + " called from another thread, like Statement.cancel and Connection.abort, take the lock.");
+
+  public static final AwsWrapperProperty RESULT_SET_PREFETCH_SIZE =
+      new AwsWrapperProperty(
+          "wrapperResultSetPrefetchSize", "0",
+          "The number of rows read ahead in a single call through the plugins when iterating forward only, read only"
+          + " result sets. Getters are then served from the prefetched rows. Set to 0 to disable prefetching.");
+
   public static final AwsWrapperProperty LOGGER_LEVEL =
       new AwsWrapperProperty(
           "wrapperLoggerLevel",
@@ -106,6 +119,27 @@ public class PropertyDefinition {
               "OTLP", "NONE"
           });
 
+  public static final AwsWrapperProperty TELEMETRY_SAMPLING_RATE =
+      new AwsWrapperProperty(
+          "telemetrySamplingRate", "1.0",
+          "Fraction of JDBC calls that are traced, from 0.0 to 1.0. The decision is made once per JDBC call.");
+
+  public static final AwsWrapperProperty TELEMETRY_INCLUDED_METHODS =
+      new AwsWrapperProperty(
+          "telemetryIncludedMethods", null,
+          "Comma separated list of JDBC methods to trace, eg 'Statement.executeQuery,Connection.commit'."
+          + " All methods are traced if the list is empty.");
+
+  public static final AwsWrapperProperty TELEMETRY_EXCLUDED_METHODS =
+      new AwsWrapperProperty(
+          "telemetryExcludedMethods", null,
+          "Comma separated list of JDBC methods that are never traced, eg 'ResultSet.next'.");
+
+  public static final AwsWrapperProperty TELEMETRY_NETWORK_BOUND_METHODS_ONLY =
+      new AwsWrapperProperty(
+          "telemetryNetworkBoundMethodsOnly", "false",
+          "Trace only JDBC methods that may send a request to the database, like Statement.executeQuery.");
+
   public static final AwsWrapperProperty AWS_PROFILE =
       new AwsWrapperProperty(
           "awsProfile", null, "Name of the AWS Profile to use for IAM/SecretsManager auth.");
@@ -172,6 +206,17 @@ public class PropertyDefinition {
               "true", "false"
           });
 
+  public static final AwsWrapperProperty ASYNC_NODE_LIST_CHANGE_NOTIFICATION =
+      new AwsWrapperProperty(
+          "asyncNodeListChangeNotification",
+          "false",
+          "Enables comparing refreshed host lists on a background thread. The connection plugins are notified"
+            + " of the changes the next time the host list is refreshed.",
+          false,
+          new String[] {
+              "true", "false"
+          });
+
   private static final Map<String, AwsWrapperProperty> PROPS_BY_NAME =
       new ConcurrentHashMap<>();
   private static final Map<String, AwsWrapperProperty> PROPS_BY_NAME_LOWERCASE =
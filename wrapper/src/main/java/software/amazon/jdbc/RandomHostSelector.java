@@ -17,13 +17,14 @@
 package software.amazon.jdbc;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
-import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.Messages;
 
 public class RandomHostSelector implements HostSelector {
@@ -35,15 +36,36 @@ public class RandomHostSelector implements HostSelector {
       @NonNull final List<HostSpec> hosts,
       @NonNull final HostRole role,
       @Nullable final Properties props) throws SQLException {
-    final List<HostSpec> eligibleHosts = hosts.stream()
-        .filter(hostSpec ->
-            role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE))
-        .collect(Collectors.toList());
-    if (eligibleHosts.size() == 0) {
+    // A single pass, so that the selection is made among the hosts found eligible even if their availability
+    // changes meanwhile.
+    final List<HostSpec> eligibleHosts = new ArrayList<>();
+    for (final HostSpec hostSpec : hosts) {
+      if (isEligible(hostSpec, role)) {
+        eligibleHosts.add(hostSpec);
+      }
+    }
+    if (eligibleHosts.isEmpty()) {
       throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
     }
 
-    final int randomIndex = new Random().nextInt(eligibleHosts.size());
-    return eligibleHosts.get(randomIndex);
+    return eligibleHosts.get(ThreadLocalRandom.current().nextInt(eligibleHosts.size()));
+  }
+
+  @Override
+  public HostSpec getHost(
+      @NonNull final TopologySnapshot topology,
+      @NonNull final HostRole role,
+      @Nullable final Properties props) throws SQLException {
+
+    final List<HostSpec> eligibleHosts = topology.getEligibleHosts(role);
+    if (eligibleHosts.isEmpty()) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
+
+    return eligibleHosts.get(ThreadLocalRandom.current().nextInt(eligibleHosts.size()));
+  }
+
+  private static boolean isEligible(final HostSpec hostSpec, final HostRole role) {
+    return role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE);
   }
 }
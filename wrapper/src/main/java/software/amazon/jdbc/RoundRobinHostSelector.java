@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.CacheMap;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.StringUtils;
@@ -84,50 +85,78 @@ public class RoundRobinHostSelector implements HostSelector {
           .sorted(Comparator.comparing(HostSpec::getHost))
           .collect(Collectors.toList());
 
-      if (eligibleHosts.isEmpty()) {
-        throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
-      }
+      return this.getNextHost(eligibleHosts, role, props);
+    } finally {
+      lock.unlock();
+    }
+  }
 
-      // Create new cache entries for provided hosts if necessary. All hosts point to the same cluster info.
-      createCacheEntryForHosts(eligibleHosts, props);
-      final String currentClusterInfoKey = eligibleHosts.get(0).getHost();
-      final RoundRobinClusterInfo clusterInfo = roundRobinCache.get(currentClusterInfoKey);
+  @Override
+  public HostSpec getHost(
+      final @NonNull TopologySnapshot topology,
+      final @NonNull HostRole role,
+      final @Nullable Properties props) throws SQLException {
+    lock.lock();
+    try {
+      return this.getNextHost(topology.getEligibleHostsSortedByHost(role), role, props);
+    } finally {
+      lock.unlock();
+    }
+  }
 
-      final HostSpec lastHost = clusterInfo.lastHost;
-      int lastHostIndex = -1;
+  /**
+   * Returns the next host in round-robin order. Must be called with the lock held.
+   *
+   * @param eligibleHosts the available hosts with the requested role, sorted by host name
+   * @param role the requested role
+   * @param props the connection properties
+   * @return the next host
+   * @throws SQLException if no host is eligible or the weight properties are invalid
+   */
+  private HostSpec getNextHost(
+      final @NonNull List<HostSpec> eligibleHosts,
+      final @NonNull HostRole role,
+      final @Nullable Properties props) throws SQLException {
+    if (eligibleHosts.isEmpty()) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
 
-      // Check if lastHost is in list of eligible hosts. Update lastHostIndex.
-      if (lastHost != null) {
-        for (int i = 0; i < eligibleHosts.size(); i++) {
-          if (eligibleHosts.get(i).getHost().equals(lastHost.getHost())) {
-            lastHostIndex = i;
-          }
+    // Create new cache entries for provided hosts if necessary. All hosts point to the same cluster info.
+    createCacheEntryForHosts(eligibleHosts, props);
+    final String currentClusterInfoKey = eligibleHosts.get(0).getHost();
+    final RoundRobinClusterInfo clusterInfo = roundRobinCache.get(currentClusterInfoKey);
+
+    final HostSpec lastHost = clusterInfo.lastHost;
+    int lastHostIndex = -1;
+
+    // Check if lastHost is in list of eligible hosts. Update lastHostIndex.
+    if (lastHost != null) {
+      for (int i = 0; i < eligibleHosts.size(); i++) {
+        if (eligibleHosts.get(i).getHost().equals(lastHost.getHost())) {
+          lastHostIndex = i;
         }
       }
+    }
 
-      final int targetHostIndex;
-      // If the host is weighted and the lastHost is in the eligibleHosts list.
-      if (clusterInfo.weightCounter > 0 && lastHostIndex != -1) {
-        targetHostIndex = lastHostIndex;
+    final int targetHostIndex;
+    // If the host is weighted and the lastHost is in the eligibleHosts list.
+    if (clusterInfo.weightCounter > 0 && lastHostIndex != -1) {
+      targetHostIndex = lastHostIndex;
+    } else {
+      if (lastHostIndex != -1 && lastHostIndex != eligibleHosts.size() - 1) {
+        targetHostIndex = lastHostIndex + 1;
       } else {
-        if (lastHostIndex != -1 && lastHostIndex != eligibleHosts.size() - 1) {
-          targetHostIndex = lastHostIndex + 1;
-        } else {
-          targetHostIndex = 0;
-        }
-
-        final Integer weight = clusterInfo.clusterWeightsMap.get(eligibleHosts.get(targetHostIndex).getHostId());
-        clusterInfo.weightCounter = weight == null ? clusterInfo.defaultWeight : weight;
+        targetHostIndex = 0;
       }
 
-      clusterInfo.weightCounter--;
-      clusterInfo.lastHost = eligibleHosts.get(targetHostIndex);
+      final Integer weight = clusterInfo.clusterWeightsMap.get(eligibleHosts.get(targetHostIndex).getHostId());
+      clusterInfo.weightCounter = weight == null ? clusterInfo.defaultWeight : weight;
+    }
 
-      return eligibleHosts.get(targetHostIndex);
+    clusterInfo.weightCounter--;
+    clusterInfo.lastHost = eligibleHosts.get(targetHostIndex);
 
-    } finally {
-      lock.unlock();
-    }
+    return eligibleHosts.get(targetHostIndex);
   }
 
   private void createCacheEntryForHosts(
@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.amazon.jdbc;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
+
+public interface VersionedHostListProvider extends HostListProvider {
+
+  /**
+   * Returns the latest topology pushed to this provider by a topology monitor. Unlike {@link #refresh()}, it doesn't
+   * query the database or wait for the monitor.
+   *
+   * @return the latest topology, or null if no topology has been pushed yet. In that case, {@link #refresh()} should
+   *     be used instead.
+   */
+  @Nullable TopologySnapshot getTopologySnapshot();
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
+import software.amazon.jdbc.util.AliasTable;
+import software.amazon.jdbc.util.Messages;
+
+/**
+ * Selects a random host, with a probability proportional to its {@link HostSpec#getWeight() weight}.
+ *
+ * <p>Selecting from a {@link TopologySnapshot} samples the alias table built with the snapshot, so a selection
+ * runs in O(1) and doesn't allocate. Selecting from a host list builds the alias table of the eligible hosts on
+ * every call.
+ */
+public class WeightedRandomHostSelector implements HostSelector {
+
+  public static final String STRATEGY_WEIGHTED_RANDOM = "weightedRandom";
+
+  @Override
+  public HostSpec getHost(
+      @NonNull final List<HostSpec> hosts,
+      @NonNull final HostRole role,
+      @Nullable final Properties props) throws SQLException {
+    final List<HostSpec> eligibleHosts = new ArrayList<>();
+    for (final HostSpec hostSpec : hosts) {
+      if (role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE)) {
+        eligibleHosts.add(hostSpec);
+      }
+    }
+    if (eligibleHosts.isEmpty()) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
+
+    final long[] weights = new long[eligibleHosts.size()];
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = eligibleHosts.get(i).getWeight();
+    }
+    return eligibleHosts.get(new AliasTable(weights).sample(ThreadLocalRandom.current()));
+  }
+
+  @Override
+  public HostSpec getHost(
+      @NonNull final TopologySnapshot topology,
+      @NonNull final HostRole role,
+      @Nullable final Properties props) throws SQLException {
+    final HostSpec host = topology.getWeightedRandomHost(role, ThreadLocalRandom.current());
+    if (host == null) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
+    return host;
+  }
+}
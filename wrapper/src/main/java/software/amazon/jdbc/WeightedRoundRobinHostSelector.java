@@ -0,0 +1,292 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
+import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.StringUtils;
+
+/**
+ * A weighted round-robin host selector that spreads the connections to a host over the whole cycle, instead of
+ * directing them to the host in a row like {@link RoundRobinHostSelector}. For example, with the weights
+ * {@code a:5,b:1,c:1}, hosts are selected in the order {@code a a b a c a a}.
+ *
+ * <p>The order of a cycle is computed once for a set of eligible hosts and weights, using the smooth weighted
+ * round-robin algorithm of nginx. The state holding it is attached to the topology snapshot it has been computed for,
+ * so that selecting a host from the same snapshot again only increments an atomic counter, and threads connecting to
+ * the same or to different clusters don't wait for each other. The latest state of each cluster is kept, so that
+ * snapshots of the same topology reuse it and new snapshots continue the cycle from the same position.
+ *
+ * <p>Weights are configured with the same properties as {@link RoundRobinHostSelector}.
+ */
+public class WeightedRoundRobinHostSelector implements HostSelector {
+
+  public static final String STRATEGY_WEIGHTED_ROUND_ROBIN = "weightedRoundRobin";
+
+  // Weights are scaled down when a cycle would be longer than this.
+  static final int MAX_CYCLE_LENGTH = 1 << 14;
+  // States that haven't been used by a new snapshot for this long are removed when a new state is published.
+  static final long STATE_EXPIRATION_NANO = TimeUnit.MINUTES.toNanos(30);
+
+  private static final int DEFAULT_WEIGHT = 1;
+  // The keys of the states attached to topology snapshots, indexed by HostRole.ordinal().
+  private static final String[] SNAPSHOT_STATE_KEYS = Arrays.stream(HostRole.values())
+      .map(role -> STRATEGY_WEIGHTED_ROUND_ROBIN + "." + role)
+      .toArray(String[]::new);
+
+  // The latest state of each cluster and role, see getClusterKey().
+  protected static final Map<String, ClusterState> clusterStates = new ConcurrentHashMap<>();
+
+  @Override
+  public HostSpec getHost(
+      final @NonNull List<HostSpec> hosts,
+      final @NonNull HostRole role,
+      final @Nullable Properties props) throws SQLException {
+    final List<HostSpec> eligibleHosts = hosts.stream()
+        .filter(hostSpec ->
+            role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE))
+        .sorted(Comparator.comparing(HostSpec::getHost))
+        .collect(Collectors.toList());
+    if (eligibleHosts.isEmpty()) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
+    return this.getClusterState(null, -1, eligibleHosts, role, props).next();
+  }
+
+  @Override
+  public HostSpec getHost(
+      final @NonNull TopologySnapshot topology,
+      final @NonNull HostRole role,
+      final @Nullable Properties props) throws SQLException {
+    final List<HostSpec> eligibleHosts = topology.getEligibleHostsSortedByHost(role);
+    if (eligibleHosts.isEmpty()) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
+
+    final String stateKey = SNAPSHOT_STATE_KEYS[role.ordinal()];
+    ClusterState state = (ClusterState) topology.getSelectorState(stateKey);
+    if (state == null || !state.hasSameWeights(props)) {
+      state = this.getClusterState(topology.getClusterId(), topology.getVersion(), eligibleHosts, role, props);
+      topology.setSelectorState(stateKey, state);
+    }
+    return state.next();
+  }
+
+  /**
+   * Returns the latest state of a cluster if it has been computed for the same hosts and weights. Otherwise, creates
+   * a new state that continues from the position of the latest one. The new state is published as the latest state
+   * of the cluster only if its topology version is different, so that connections seeing the same topology with
+   * different available hosts don't keep replacing each other's state.
+   */
+  private ClusterState getClusterState(
+      final @Nullable String clusterId,
+      final long version,
+      final List<HostSpec> eligibleHosts,
+      final HostRole role,
+      final @Nullable Properties props) throws SQLException {
+    final String clusterKey = getClusterKey(clusterId, eligibleHosts, role);
+    final ClusterState latestState = clusterStates.get(clusterKey);
+    final long currentTimeNano = System.nanoTime();
+    if (latestState != null
+        && latestState.hasSameWeights(props)
+        && (latestState.hosts == eligibleHosts || latestState.hosts.equals(eligibleHosts))) {
+      latestState.lastUsedTimeNano = currentTimeNano;
+      return latestState;
+    }
+
+    final ClusterState state = new ClusterState(
+        eligibleHosts,
+        getHostWeightPairs(props),
+        getDefaultWeight(props),
+        version,
+        latestState == null ? new AtomicLong() : latestState.position);
+    if (latestState == null || version < 0 || latestState.version != version) {
+      clusterStates.values().removeIf(
+          clusterState -> currentTimeNano - clusterState.lastUsedTimeNano > STATE_EXPIRATION_NANO);
+      clusterStates.put(clusterKey, state);
+    }
+    return state;
+  }
+
+  /**
+   * Returns the key of the states of a cluster: its cluster ID if it's known, the first eligible host otherwise.
+   */
+  private static String getClusterKey(
+      final @Nullable String clusterId, final List<HostSpec> eligibleHosts, final HostRole role) {
+    return (clusterId == null ? eligibleHosts.get(0).getHost() : clusterId) + "/" + role;
+  }
+
+  private static @Nullable String getHostWeightPairs(final @Nullable Properties props) {
+    return props == null ? null : RoundRobinHostSelector.ROUND_ROBIN_HOST_WEIGHT_PAIRS.getString(props);
+  }
+
+  private static @Nullable String getDefaultWeight(final @Nullable Properties props) {
+    return props == null ? null : RoundRobinHostSelector.ROUND_ROBIN_DEFAULT_WEIGHT.getString(props);
+  }
+
+  public static void clearCache() {
+    clusterStates.clear();
+  }
+
+  static int[] getWeights(
+      final List<HostSpec> hosts,
+      final @Nullable String hostWeightPairs,
+      final @Nullable String defaultWeightValue) throws SQLException {
+    int defaultWeight = DEFAULT_WEIGHT;
+    if (!StringUtils.isNullOrEmpty(defaultWeightValue)) {
+      try {
+        defaultWeight = Integer.parseInt(defaultWeightValue);
+      } catch (NumberFormatException e) {
+        throw new SQLException(Messages.get("HostSelector.roundRobinInvalidDefaultWeight"));
+      }
+      if (defaultWeight < DEFAULT_WEIGHT) {
+        throw new SQLException(Messages.get("HostSelector.roundRobinInvalidDefaultWeight"));
+      }
+    }
+
+    final Map<String, Integer> weightsByHostId = new HashMap<>();
+    if (!StringUtils.isNullOrEmpty(hostWeightPairs)) {
+      for (final String pair : hostWeightPairs.split(",")) {
+        final Matcher matcher = RoundRobinHostSelector.HOST_WEIGHT_PAIRS_PATTERN.matcher(pair);
+        if (!matcher.matches()) {
+          throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
+        }
+        final String hostName = matcher.group("host").trim();
+        final String hostWeight = matcher.group("weight").trim();
+        if (hostName.isEmpty() || hostWeight.isEmpty()) {
+          throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
+        }
+        try {
+          final int weight = Integer.parseInt(hostWeight);
+          if (weight < DEFAULT_WEIGHT) {
+            throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
+          }
+          weightsByHostId.put(hostName, weight);
+        } catch (NumberFormatException e) {
+          throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
+        }
+      }
+    }
+
+    final int[] weights = new int[hosts.size()];
+    for (int i = 0; i < weights.length; i++) {
+      final Integer weight = weightsByHostId.get(hosts.get(i).getHostId());
+      weights[i] = weight == null ? defaultWeight : weight;
+    }
+    return weights;
+  }
+
+  /**
+   * Computes the order in which hosts are selected during a cycle with the smooth weighted round-robin algorithm:
+   * at each step, every host gains its weight, the host with the greatest current weight is selected and loses
+   * the total weight. Each host is selected as many times as its weight, evenly spread over the cycle.
+   *
+   * @param weights the weight of each host, greater than or equal to 1
+   * @return the index of the host selected at each step of the cycle
+   */
+  static int[] getCycle(final int[] weights) {
+    final long[] reducedWeights = new long[weights.length];
+    long gcd = 0;
+    for (final int weight : weights) {
+      gcd = gcd(gcd, weight);
+    }
+    long totalWeight = 0;
+    for (int i = 0; i < weights.length; i++) {
+      reducedWeights[i] = weights[i] / gcd;
+      totalWeight += reducedWeights[i];
+    }
+
+    if (totalWeight > MAX_CYCLE_LENGTH) {
+      // Keeps the proportions approximately, hosts are still selected at least once per cycle.
+      final long originalTotalWeight = totalWeight;
+      totalWeight = 0;
+      for (int i = 0; i < reducedWeights.length; i++) {
+        reducedWeights[i] = Math.max(1, reducedWeights[i] * MAX_CYCLE_LENGTH / originalTotalWeight);
+        totalWeight += reducedWeights[i];
+      }
+    }
+
+    final int[] cycle = new int[(int) totalWeight];
+    final long[] currentWeights = new long[reducedWeights.length];
+    for (int step = 0; step < cycle.length; step++) {
+      int selected = 0;
+      for (int i = 0; i < currentWeights.length; i++) {
+        currentWeights[i] += reducedWeights[i];
+        if (currentWeights[i] > currentWeights[selected]) {
+          selected = i;
+        }
+      }
+      currentWeights[selected] -= totalWeight;
+      cycle[step] = selected;
+    }
+    return cycle;
+  }
+
+  private static long gcd(final long a, final long b) {
+    return b == 0 ? a : gcd(b, a % b);
+  }
+
+  protected static class ClusterState {
+    final List<HostSpec> hosts;
+    final @Nullable String hostWeightPairs;
+    final @Nullable String defaultWeight;
+    final long version;
+    final int[] cycle;
+    final AtomicLong position;
+    volatile long lastUsedTimeNano = System.nanoTime();
+
+    ClusterState(
+        final List<HostSpec> hosts,
+        final @Nullable String hostWeightPairs,
+        final @Nullable String defaultWeight,
+        final long version,
+        final AtomicLong position) throws SQLException {
+      this.hosts = hosts;
+      this.hostWeightPairs = hostWeightPairs;
+      this.defaultWeight = defaultWeight;
+      this.version = version;
+      this.cycle = getCycle(getWeights(hosts, hostWeightPairs, defaultWeight));
+      this.position = position;
+    }
+
+    boolean hasSameWeights(final @Nullable Properties props) {
+      return Objects.equals(this.hostWeightPairs, getHostWeightPairs(props))
+          && Objects.equals(this.defaultWeight, getDefaultWeight(props));
+    }
+
+    HostSpec next() {
+      final long step = this.position.getAndIncrement();
+      return this.hosts.get(this.cycle[(int) Math.floorMod(step, (long) this.cycle.length)]);
+    }
+  }
+}
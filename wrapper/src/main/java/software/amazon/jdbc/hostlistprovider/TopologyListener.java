@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.amazon.jdbc.hostlistprovider;
+
+/**
+ * A listener notified by a topology monitor each time it fetches a new topology.
+ */
+@FunctionalInterface
+public interface TopologyListener {
+
+  /**
+   * Called on the monitoring thread with each new topology, in increasing version order. Implementations should
+   * return quickly, for example by storing the snapshot for later use.
+   *
+   * @param topologySnapshot the new topology
+   */
+  void onTopologyChanged(TopologySnapshot topologySnapshot);
+}
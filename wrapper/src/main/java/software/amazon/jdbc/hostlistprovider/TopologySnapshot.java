@@ -0,0 +1,291 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.util.AliasTable;
+
+/**
+ * An immutable topology of a cluster, as fetched by a topology monitor.
+ *
+ * <p>Each snapshot has a version that is greater than the version of all the snapshots created before it, so that
+ * consumers can tell whether the topology has been updated by comparing versions instead of host lists.
+ *
+ * <p>The indexes used to select a host are built once, when the snapshot is created: the hosts grouped by role,
+ * the available hosts of each role with their cumulative weights and alias table, and the position of each host by
+ * host ID. Host selectors can use them instead of filtering the host list on every connection. The indexes reflect the
+ * availability of the hosts when the snapshot is created, a new snapshot should be created when it changes.
+ *
+ * <p>Host selectors can also attach their own state to a snapshot, see {@link #getSelectorState(String)}, to compute
+ * it once per snapshot rather than on every connection.
+ */
+public class TopologySnapshot {
+
+  private static final Comparator<HostSpec> HOST_NAME_COMPARATOR = Comparator.comparing(HostSpec::getHost);
+
+  private final @Nullable String clusterId;
+  private final long version;
+  private final List<HostSpec> hosts;
+  private final long createdTimeNano;
+  private final @Nullable HostSpec writer;
+  private final List<HostSpec> readers;
+  private final Map<String, Integer> hostIndexes;
+  // The available hosts of each role, indexed by HostRole.ordinal().
+  private final EligibleHosts[] eligibleHosts;
+  private final Map<String, Object> selectorStates = new ConcurrentHashMap<>();
+
+  public TopologySnapshot(final @Nullable String clusterId, final long version, final List<HostSpec> hosts) {
+    this.clusterId = clusterId;
+    this.version = version;
+    this.hosts = Collections.unmodifiableList(new ArrayList<>(hosts));
+    this.createdTimeNano = System.nanoTime();
+
+    this.hostIndexes = new HashMap<>();
+    final List<HostSpec> readerList = new ArrayList<>();
+    final List<List<HostSpec>> availableHostsByRole = new ArrayList<>();
+    for (int i = 0; i < HostRole.values().length; i++) {
+      availableHostsByRole.add(new ArrayList<>());
+    }
+    HostSpec writerHost = null;
+    for (int i = 0; i < this.hosts.size(); i++) {
+      final HostSpec host = this.hosts.get(i);
+      this.hostIndexes.putIfAbsent(host.getHostId(), i);
+      if (host.getRole() == HostRole.WRITER && writerHost == null) {
+        writerHost = host;
+      } else if (host.getRole() == HostRole.READER) {
+        readerList.add(host);
+      }
+      if (host.getAvailability() == HostAvailability.AVAILABLE) {
+        availableHostsByRole.get(host.getRole().ordinal()).add(host);
+      }
+    }
+    this.writer = writerHost;
+    this.readers = Collections.unmodifiableList(readerList);
+    this.eligibleHosts = new EligibleHosts[availableHostsByRole.size()];
+    for (int i = 0; i < this.eligibleHosts.length; i++) {
+      this.eligibleHosts[i] = new EligibleHosts(availableHostsByRole.get(i));
+    }
+  }
+
+  public @Nullable String getClusterId() {
+    return this.clusterId;
+  }
+
+  public long getVersion() {
+    return this.version;
+  }
+
+  /**
+   * Returns the hosts of the cluster. The writer, if any, is at position 0.
+   *
+   * @return an unmodifiable list of hosts
+   */
+  public List<HostSpec> getHosts() {
+    return this.hosts;
+  }
+
+  public long getCreatedTimeNano() {
+    return this.createdTimeNano;
+  }
+
+  /**
+   * Returns the first host with the writer role.
+   *
+   * @return the writer, or null if the topology has no writer
+   */
+  public @Nullable HostSpec getWriter() {
+    return this.writer;
+  }
+
+  /**
+   * Returns the hosts with the reader role, whatever their availability.
+   *
+   * @return an unmodifiable list of readers, in topology order
+   */
+  public List<HostSpec> getReaders() {
+    return this.readers;
+  }
+
+  public List<HostSpec> getAvailableReaders() {
+    return this.getEligibleHosts(HostRole.READER);
+  }
+
+  /**
+   * Returns the position of a host in {@link #getHosts()}.
+   *
+   * @param hostId the host ID
+   * @return the position of the host, or -1 if the topology doesn't contain it
+   */
+  public int getHostIndex(final String hostId) {
+    final Integer index = this.hostIndexes.get(hostId);
+    return index == null ? -1 : index;
+  }
+
+  public @Nullable HostSpec getHostById(final String hostId) {
+    final int index = this.getHostIndex(hostId);
+    return index < 0 ? null : this.hosts.get(index);
+  }
+
+  /**
+   * Returns the hosts a host selector can choose from: the available hosts with the given role.
+   *
+   * @param role the host role
+   * @return an unmodifiable list of hosts, in topology order
+   */
+  public List<HostSpec> getEligibleHosts(final HostRole role) {
+    return this.eligibleHosts[role.ordinal()].hosts;
+  }
+
+  /**
+   * Returns the same hosts as {@link #getEligibleHosts(HostRole)}, sorted by host name.
+   *
+   * @param role the host role
+   * @return an unmodifiable list of hosts
+   */
+  public List<HostSpec> getEligibleHostsSortedByHost(final HostRole role) {
+    return this.eligibleHosts[role.ordinal()].hostsSortedByHost;
+  }
+
+  /**
+   * Returns the eligible host with the greatest weight. The first one in topology order wins a tie.
+   *
+   * @param role the host role
+   * @return the host, or null if no host is eligible
+   */
+  public @Nullable HostSpec getHighestWeightHost(final HostRole role) {
+    return this.eligibleHosts[role.ordinal()].highestWeightHost;
+  }
+
+  /**
+   * Returns the sum of the weights of the eligible hosts. Negative weights count as 0.
+   *
+   * @param role the host role
+   * @return the total weight
+   */
+  public long getTotalWeight(final HostRole role) {
+    final long[] cumulativeWeights = this.eligibleHosts[role.ordinal()].cumulativeWeights;
+    return cumulativeWeights.length == 0 ? 0 : cumulativeWeights[cumulativeWeights.length - 1];
+  }
+
+  /**
+   * Returns the eligible host covering a point of the weight range, so that picking a uniformly distributed point
+   * between 0 and {@link #getTotalWeight(HostRole)} picks each host with a probability proportional to its weight.
+   * Runs in O(log n).
+   *
+   * @param role the host role
+   * @param weightPoint a point between 0 (inclusive) and the total weight (exclusive)
+   * @return the host, or null if no host is eligible or the point is out of range
+   */
+  public @Nullable HostSpec getHostByWeight(final HostRole role, final long weightPoint) {
+    final EligibleHosts eligible = this.eligibleHosts[role.ordinal()];
+    final long[] cumulativeWeights = eligible.cumulativeWeights;
+    if (weightPoint < 0 || cumulativeWeights.length == 0
+        || weightPoint >= cumulativeWeights[cumulativeWeights.length - 1]) {
+      return null;
+    }
+    // Finds the first host whose cumulative weight is greater than the point.
+    int low = 0;
+    int high = cumulativeWeights.length - 1;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (cumulativeWeights[middle] > weightPoint) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return eligible.hosts.get(low);
+  }
+
+  /**
+   * Picks an eligible host at random, with a probability proportional to its weight, in O(1). Negative weights count
+   * as 0. When all eligible hosts have a weight of 0, each one is equally likely to be picked.
+   *
+   * @param role the host role
+   * @param random the source of randomness, such as {@link java.util.concurrent.ThreadLocalRandom#current()}
+   * @return the host, or null if no host is eligible
+   */
+  public @Nullable HostSpec getWeightedRandomHost(final HostRole role, final Random random) {
+    final EligibleHosts eligible = this.eligibleHosts[role.ordinal()];
+    final int index = eligible.aliasTable.sample(random);
+    return index < 0 ? null : eligible.hosts.get(index);
+  }
+
+  /**
+   * Returns the state attached to this snapshot by a host selector.
+   *
+   * @param key the key of the state, unique to the host selector
+   * @return the state, or null if none has been attached yet
+   */
+  public @Nullable Object getSelectorState(final String key) {
+    return this.selectorStates.get(key);
+  }
+
+  public void setSelectorState(final String key, final Object state) {
+    this.selectorStates.put(key, state);
+  }
+
+  @Override
+  public String toString() {
+    return "TopologySnapshot [clusterId=" + this.clusterId + ", version=" + this.version
+        + ", hosts=" + this.hosts.size() + "]";
+  }
+
+  private static class EligibleHosts {
+    final List<HostSpec> hosts;
+    final List<HostSpec> hostsSortedByHost;
+    final long[] cumulativeWeights;
+    final @Nullable HostSpec highestWeightHost;
+    final AliasTable aliasTable;
+
+    EligibleHosts(final List<HostSpec> hosts) {
+      final HostSpec[] hostArray = hosts.toArray(new HostSpec[0]);
+      this.hosts = Collections.unmodifiableList(Arrays.asList(hostArray));
+
+      final HostSpec[] sortedHostArray = hostArray.clone();
+      Arrays.sort(sortedHostArray, HOST_NAME_COMPARATOR);
+      this.hostsSortedByHost = Collections.unmodifiableList(Arrays.asList(sortedHostArray));
+
+      this.cumulativeWeights = new long[hostArray.length];
+      final long[] weights = new long[hostArray.length];
+      long totalWeight = 0;
+      HostSpec highestWeight = null;
+      for (int i = 0; i < hostArray.length; i++) {
+        weights[i] = hostArray[i].getWeight();
+        totalWeight += Math.max(0, hostArray[i].getWeight());
+        this.cumulativeWeights[i] = totalWeight;
+        if (highestWeight == null || hostArray[i].getWeight() > highestWeight.getWeight()) {
+          highestWeight = hostArray[i];
+        }
+      }
+      this.highestWeightHost = highestWeight;
+      this.aliasTable = new AliasTable(weights);
+    }
+  }
+}
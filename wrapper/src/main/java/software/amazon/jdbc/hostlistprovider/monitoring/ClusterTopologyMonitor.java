@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.concurrent.TimeoutException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.hostlistprovider.TopologyListener;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 
 public interface ClusterTopologyMonitor extends AutoCloseable, Runnable {
 
@@ -34,4 +36,21 @@ public interface ClusterTopologyMonitor extends AutoCloseable, Runnable {
 
   List<HostSpec> forceRefresh(final @Nullable Connection connection, final long timeoutMs)
       throws SQLException, TimeoutException;
+
+  /**
+   * Returns the latest topology fetched by this monitor.
+   *
+   * @return the latest topology, or null if no topology has been fetched yet
+   */
+  @Nullable TopologySnapshot getTopologySnapshot();
+
+  /**
+   * Registers a listener notified with each new topology fetched by this monitor. Listeners are weakly referenced,
+   * so a listener that is no longer used elsewhere is unregistered automatically.
+   *
+   * @param listener the listener to register
+   */
+  void subscribe(final TopologyListener listener);
+
+  void unsubscribe(final TopologyListener listener);
 }
@@ -24,10 +24,13 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -49,6 +52,8 @@ import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologyListener;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.CacheMap;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
@@ -66,6 +71,9 @@ public class ClusterTopologyMonitorImpl implements ClusterTopologyMonitor {
   protected static final RdsUtils rdsHelper = new RdsUtils();
 
 
+  // Shared by all monitors, so that versions keep increasing when a cluster gets a new monitor.
+  protected static final AtomicLong topologyVersion = new AtomicLong();
+
   protected static final int defaultTopologyQueryTimeoutMs = 1000;
   protected static final int closeConnectionNetworkTimeoutMs = 500;
 
@@ -107,6 +115,11 @@ public class ClusterTopologyMonitorImpl implements ClusterTopologyMonitor {
   protected final AtomicReference<HostSpec> nodeThreadsWriterHostSpec = new AtomicReference<>(null);
   protected final AtomicReference<Connection> nodeThreadsReaderConnection = new AtomicReference<>(null);
   protected final AtomicReference<List<HostSpec>> nodeThreadsLatestTopology = new AtomicReference<>(null);
+  protected final AtomicReference<TopologySnapshot> topologySnapshot = new AtomicReference<>(null);
+  protected final Set<TopologyListener> topologyListeners =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+  protected final ReentrantLock topologyListenersLock = new ReentrantLock();
+  protected long lastNotifiedTopologyVersion = -1;
 
 
   protected final ExecutorService monitorExecutor = Executors.newSingleThreadExecutor(runnableTarget -> {
@@ -221,6 +234,21 @@ public class ClusterTopologyMonitorImpl implements ClusterTopologyMonitor {
     return this.fetchTopologyAndUpdateCache(connection);
   }
 
+  @Override
+  public @Nullable TopologySnapshot getTopologySnapshot() {
+    return this.topologySnapshot.get();
+  }
+
+  @Override
+  public void subscribe(final TopologyListener listener) {
+    this.topologyListeners.add(listener);
+  }
+
+  @Override
+  public void unsubscribe(final TopologyListener listener) {
+    this.topologyListeners.remove(listener);
+  }
+
   protected List<HostSpec> waitTillTopologyGetsUpdated(final long timeoutMs) throws TimeoutException {
 
     List<HostSpec> currentHosts = this.topologyMap.get(this.clusterId);
@@ -641,8 +669,18 @@ public class ClusterTopologyMonitorImpl implements ClusterTopologyMonitor {
   }
 
   protected void updateTopologyCache(final @NonNull List<HostSpec> hosts) {
+    TopologySnapshot snapshot = null;
     synchronized (this.requestToUpdateTopology) {
       this.topologyMap.put(this.clusterId, hosts, this.topologyCacheExpirationNano);
+
+      // A new version is only created when the topology has changed, so that consumers can compare versions only.
+      final TopologySnapshot previousSnapshot = this.topologySnapshot.get();
+      if (previousSnapshot == null
+          || !this.clusterId.equals(previousSnapshot.getClusterId())
+          || !previousSnapshot.getHosts().equals(hosts)) {
+        snapshot = new TopologySnapshot(this.clusterId, topologyVersion.incrementAndGet(), hosts);
+        this.topologySnapshot.set(snapshot);
+      }
       synchronized (this.topologyUpdated) {
         this.requestToUpdateTopology.set(false);
 
@@ -650,6 +688,35 @@ public class ClusterTopologyMonitorImpl implements ClusterTopologyMonitor {
         this.topologyUpdated.notifyAll();
       }
     }
+    if (snapshot != null) {
+      this.notifyTopologyListeners(snapshot);
+    }
+  }
+
+  protected void notifyTopologyListeners(final TopologySnapshot snapshot) {
+    // Node monitoring threads may update the topology concurrently: deliver snapshots in version order and skip
+    // the ones that are older than a snapshot already delivered.
+    this.topologyListenersLock.lock();
+    try {
+      if (snapshot.getVersion() <= this.lastNotifiedTopologyVersion) {
+        return;
+      }
+      this.lastNotifiedTopologyVersion = snapshot.getVersion();
+
+      final List<TopologyListener> listeners;
+      synchronized (this.topologyListeners) {
+        listeners = new ArrayList<>(this.topologyListeners);
+      }
+      for (final TopologyListener listener : listeners) {
+        try {
+          listener.onTopologyChanged(snapshot);
+        } catch (Exception ex) {
+          LOGGER.finest(Messages.get("ClusterTopologyMonitorImpl.topologyListenerError", new Object[]{ex}));
+        }
+      }
+    } finally {
+      this.topologyListenersLock.unlock();
+    }
   }
 
   // Returns a writer node ID if connected to a writer node. Returns null otherwise.
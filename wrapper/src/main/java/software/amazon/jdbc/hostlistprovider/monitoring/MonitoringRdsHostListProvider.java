@@ -22,19 +22,25 @@ import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.AwsWrapperProperty;
 import software.amazon.jdbc.BlockingHostListProvider;
 import software.amazon.jdbc.HostListProviderService;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.VersionedHostListProvider;
 import software.amazon.jdbc.cleanup.CanReleaseResources;
 import software.amazon.jdbc.hostlistprovider.RdsHostListProvider;
+import software.amazon.jdbc.hostlistprovider.TopologyListener;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.SlidingExpirationCacheWithCleanupThread;
+import software.amazon.jdbc.util.StringUtils;
 
 public class MonitoringRdsHostListProvider extends RdsHostListProvider
-    implements BlockingHostListProvider, CanReleaseResources {
+    implements BlockingHostListProvider, VersionedHostListProvider, TopologyListener, CanReleaseResources {
 
   private static final Logger LOGGER = Logger.getLogger(MonitoringRdsHostListProvider.class.getName());
 
@@ -68,6 +74,8 @@ public class MonitoringRdsHostListProvider extends RdsHostListProvider
   protected final PluginService pluginService;
   protected final long highRefreshRateNano;
   protected final String writerTopologyQuery;
+  protected final AtomicReference<TopologySnapshot> topologySnapshot = new AtomicReference<>(null);
+  protected volatile @Nullable ClusterTopologyMonitor subscribedMonitor;
 
   public MonitoringRdsHostListProvider(
       final Properties properties,
@@ -159,8 +167,52 @@ public class MonitoringRdsHostListProvider extends RdsHostListProvider
     return monitor.forceRefresh(shouldVerifyWriter, timeoutMs);
   }
 
+  @Override
+  public @Nullable TopologySnapshot getTopologySnapshot() {
+    if (!this.isInitialized) {
+      return null;
+    }
+
+    // A suggested primary cluster ID is picked up by the regular refresh.
+    final String suggestedPrimaryClusterId = suggestedPrimaryClusterIdCache.get(this.clusterId);
+    if (!StringUtils.isNullOrEmpty(suggestedPrimaryClusterId) && !this.clusterId.equals(suggestedPrimaryClusterId)) {
+      return null;
+    }
+
+    final ClusterTopologyMonitor monitor = monitors.get(this.clusterId, MONITOR_EXPIRATION_NANO);
+    if (monitor == null) {
+      return null;
+    }
+    if (monitor != this.subscribedMonitor) {
+      // The monitor of the cluster has been created or replaced since the last call.
+      final ClusterTopologyMonitor previousMonitor = this.subscribedMonitor;
+      if (previousMonitor != null) {
+        previousMonitor.unsubscribe(this);
+      }
+      this.subscribedMonitor = monitor;
+      monitor.subscribe(this);
+      final TopologySnapshot monitorSnapshot = monitor.getTopologySnapshot();
+      if (monitorSnapshot != null) {
+        this.onTopologyChanged(monitorSnapshot);
+      }
+    }
+
+    final TopologySnapshot snapshot = this.topologySnapshot.get();
+    return snapshot != null && this.clusterId.equals(snapshot.getClusterId()) ? snapshot : null;
+  }
+
+  @Override
+  public void onTopologyChanged(final TopologySnapshot snapshot) {
+    this.topologySnapshot.accumulateAndGet(snapshot,
+        (current, update) -> current == null || update.getVersion() > current.getVersion() ? update : current);
+  }
+
   @Override
   public void releaseResources() {
-    // do nothing
+    final ClusterTopologyMonitor monitor = this.subscribedMonitor;
+    if (monitor != null) {
+      monitor.unsubscribe(this);
+      this.subscribedMonitor = null;
+    }
   }
 }
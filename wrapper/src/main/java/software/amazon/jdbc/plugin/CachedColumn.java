@@ -0,0 +1,525 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.plugin;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A column of a {@link DataCacheConnectionPlugin.CachedResultSet}. Columns are filled row by row with
+ * {@link #add(Object)}, which returns the column that holds the values from then on:
+ * <ul>
+ *   <li>Integer, Long, Double and Boolean values are kept in primitive arrays while every value of the column
+ *   has the same type.</li>
+ *   <li>Strings are dictionary encoded while the column has few distinct values.</li>
+ *   <li>Any other column keeps references to the values.</li>
+ * </ul>
+ * {@link #get(int)} returns values equal to the ones that have been added.
+ */
+public abstract class CachedColumn {
+
+  protected static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The maximum number of distinct values of a dictionary encoded string column.
+   */
+  protected static final int MAX_DICTIONARY_SIZE = 1024;
+
+  /**
+   * The approximate size of an object header and its fields, used by {@link #estimateSize()}.
+   */
+  protected static final long OBJECT_OVERHEAD = 16;
+
+  protected int size;
+
+  public static CachedColumn newColumn() {
+    return new NullColumn();
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Appends a value to the column.
+   *
+   * @param value the value to append
+   * @return the column holding the values from now on, which may be a different representation than this one
+   */
+  public abstract CachedColumn add(@Nullable Object value);
+
+  public abstract @Nullable Object get(int row);
+
+  public boolean isNull(final int row) {
+    return this.get(row) == null;
+  }
+
+  /**
+   * Returns the value of a numeric column as a long without boxing it. Callers should check
+   * {@link #isNull(int)} first.
+   *
+   * @param row the row index, starting from 0
+   * @return the value as a long
+   * @throws ClassCastException if the value isn't a number
+   */
+  public long getLong(final int row) {
+    return ((Number) this.get(row)).longValue();
+  }
+
+  /**
+   * Same as {@link #getLong(int)} for double values.
+   *
+   * @param row the row index, starting from 0
+   * @return the value as a double
+   * @throws ClassCastException if the value isn't a number
+   */
+  public double getDouble(final int row) {
+    return ((Number) this.get(row)).doubleValue();
+  }
+
+  /**
+   * Releases the capacity reserved for values that haven't been added. Called once the column is complete.
+   */
+  public abstract void trimToSize();
+
+  /**
+   * Returns an approximation of the number of bytes retained by the column, including the values it references.
+   *
+   * @return the estimated size in bytes
+   */
+  public abstract long estimateSize();
+
+  protected static long estimateBitsSize(final @Nullable BitSet bits) {
+    return bits == null ? 0 : OBJECT_OVERHEAD + bits.size() / 8;
+  }
+
+  protected static long estimateValueSize(final @Nullable Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String) {
+      return OBJECT_OVERHEAD * 2 + 2L * ((String) value).length();
+    }
+    if (value instanceof byte[]) {
+      return OBJECT_OVERHEAD + ((byte[]) value).length;
+    }
+    return OBJECT_OVERHEAD;
+  }
+
+  protected static int grow(final int capacity, final int required) {
+    return Math.max(required, capacity + (capacity >> 1) + 1);
+  }
+
+  protected static BitSet setNull(final @Nullable BitSet nulls, final int row) {
+    final BitSet result = nulls == null ? new BitSet() : nulls;
+    result.set(row);
+    return result;
+  }
+
+  /**
+   * Copies the values of this column into a column keeping references.
+   *
+   * @return the new column
+   */
+  protected ObjectColumn inflate() {
+    final ObjectColumn column = new ObjectColumn(Math.max(INITIAL_CAPACITY, this.size * 2));
+    for (int row = 0; row < this.size; row++) {
+      column.values[row] = this.get(row);
+    }
+    column.size = this.size;
+    return column;
+  }
+
+  /**
+   * A column that has only received nulls so far.
+   */
+  protected static final class NullColumn extends CachedColumn {
+
+    @Override
+    public CachedColumn add(final @Nullable Object value) {
+      if (value == null) {
+        this.size++;
+        return this;
+      }
+
+      final CachedColumn column;
+      if (value instanceof Integer) {
+        column = new IntColumn();
+      } else if (value instanceof Long) {
+        column = new LongColumn();
+      } else if (value instanceof Double) {
+        column = new DoubleColumn();
+      } else if (value instanceof Boolean) {
+        column = new BooleanColumn();
+      } else if (value instanceof String) {
+        column = new StringColumn();
+      } else {
+        column = new ObjectColumn(INITIAL_CAPACITY);
+      }
+
+      CachedColumn result = column;
+      for (int row = 0; row < this.size; row++) {
+        result = result.add(null);
+      }
+      return result.add(value);
+    }
+
+    @Override
+    public @Nullable Object get(final int row) {
+      return null;
+    }
+
+    @Override
+    public void trimToSize() {
+      // Nothing is stored.
+    }
+
+    @Override
+    public long estimateSize() {
+      return OBJECT_OVERHEAD;
+    }
+  }
+
+  protected static final class ObjectColumn extends CachedColumn {
+
+    protected Object[] values;
+
+    ObjectColumn(final int capacity) {
+      this.values = new Object[capacity];
+    }
+
+    @Override
+    public CachedColumn add(final @Nullable Object value) {
+      if (this.size == this.values.length) {
+        this.values = Arrays.copyOf(this.values, grow(this.values.length, this.size + 1));
+      }
+      this.values[this.size++] = value;
+      return this;
+    }
+
+    @Override
+    public @Nullable Object get(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public void trimToSize() {
+      this.values = Arrays.copyOf(this.values, this.size);
+    }
+
+    @Override
+    public long estimateSize() {
+      long result = OBJECT_OVERHEAD * 2 + 8L * this.values.length;
+      for (int row = 0; row < this.size; row++) {
+        result += estimateValueSize(this.values[row]);
+      }
+      return result;
+    }
+
+    @Override
+    protected ObjectColumn inflate() {
+      return this;
+    }
+  }
+
+  protected static final class IntColumn extends CachedColumn {
+
+    protected int[] values = new int[INITIAL_CAPACITY];
+    protected @Nullable BitSet nulls;
+
+    @Override
+    public CachedColumn add(final @Nullable Object value) {
+      if (value != null && !(value instanceof Integer)) {
+        return this.inflate().add(value);
+      }
+      if (this.size == this.values.length) {
+        this.values = Arrays.copyOf(this.values, grow(this.values.length, this.size + 1));
+      }
+      if (value == null) {
+        this.nulls = setNull(this.nulls, this.size);
+      } else {
+        this.values[this.size] = (Integer) value;
+      }
+      this.size++;
+      return this;
+    }
+
+    @Override
+    public @Nullable Object get(final int row) {
+      return this.isNull(row) ? null : this.values[row];
+    }
+
+    @Override
+    public boolean isNull(final int row) {
+      return this.nulls != null && this.nulls.get(row);
+    }
+
+    @Override
+    public long getLong(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public void trimToSize() {
+      this.values = Arrays.copyOf(this.values, this.size);
+    }
+
+    @Override
+    public long estimateSize() {
+      return OBJECT_OVERHEAD * 2 + 4L * this.values.length + estimateBitsSize(this.nulls);
+    }
+  }
+
+  protected static final class LongColumn extends CachedColumn {
+
+    protected long[] values = new long[INITIAL_CAPACITY];
+    protected @Nullable BitSet nulls;
+
+    @Override
+    public CachedColumn add(final @Nullable Object value) {
+      if (value != null && !(value instanceof Long)) {
+        return this.inflate().add(value);
+      }
+      if (this.size == this.values.length) {
+        this.values = Arrays.copyOf(this.values, grow(this.values.length, this.size + 1));
+      }
+      if (value == null) {
+        this.nulls = setNull(this.nulls, this.size);
+      } else {
+        this.values[this.size] = (Long) value;
+      }
+      this.size++;
+      return this;
+    }
+
+    @Override
+    public @Nullable Object get(final int row) {
+      return this.isNull(row) ? null : this.values[row];
+    }
+
+    @Override
+    public boolean isNull(final int row) {
+      return this.nulls != null && this.nulls.get(row);
+    }
+
+    @Override
+    public long getLong(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public void trimToSize() {
+      this.values = Arrays.copyOf(this.values, this.size);
+    }
+
+    @Override
+    public long estimateSize() {
+      return OBJECT_OVERHEAD * 2 + 8L * this.values.length + estimateBitsSize(this.nulls);
+    }
+  }
+
+  protected static final class DoubleColumn extends CachedColumn {
+
+    protected double[] values = new double[INITIAL_CAPACITY];
+    protected @Nullable BitSet nulls;
+
+    @Override
+    public CachedColumn add(final @Nullable Object value) {
+      if (value != null && !(value instanceof Double)) {
+        return this.inflate().add(value);
+      }
+      if (this.size == this.values.length) {
+        this.values = Arrays.copyOf(this.values, grow(this.values.length, this.size + 1));
+      }
+      if (value == null) {
+        this.nulls = setNull(this.nulls, this.size);
+      } else {
+        this.values[this.size] = (Double) value;
+      }
+      this.size++;
+      return this;
+    }
+
+    @Override
+    public @Nullable Object get(final int row) {
+      return this.isNull(row) ? null : this.values[row];
+    }
+
+    @Override
+    public boolean isNull(final int row) {
+      return this.nulls != null && this.nulls.get(row);
+    }
+
+    @Override
+    public long getLong(final int row) {
+      return (long) this.values[row];
+    }
+
+    @Override
+    public double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public void trimToSize() {
+      this.values = Arrays.copyOf(this.values, this.size);
+    }
+
+    @Override
+    public long estimateSize() {
+      return OBJECT_OVERHEAD * 2 + 8L * this.values.length + estimateBitsSize(this.nulls);
+    }
+  }
+
+  protected static final class BooleanColumn extends CachedColumn {
+
+    protected final BitSet values = new BitSet();
+    protected @Nullable BitSet nulls;
+
+    @Override
+    public CachedColumn add(final @Nullable Object value) {
+      if (value != null && !(value instanceof Boolean)) {
+        return this.inflate().add(value);
+      }
+      if (value == null) {
+        this.nulls = setNull(this.nulls, this.size);
+      } else if ((Boolean) value) {
+        this.values.set(this.size);
+      }
+      this.size++;
+      return this;
+    }
+
+    @Override
+    public @Nullable Object get(final int row) {
+      return this.isNull(row) ? null : this.values.get(row);
+    }
+
+    @Override
+    public boolean isNull(final int row) {
+      return this.nulls != null && this.nulls.get(row);
+    }
+
+    @Override
+    public long getLong(final int row) {
+      return this.values.get(row) ? 1 : 0;
+    }
+
+    @Override
+    public double getDouble(final int row) {
+      return this.values.get(row) ? 1 : 0;
+    }
+
+    @Override
+    public void trimToSize() {
+      // BitSet only grows as far as the highest set bit.
+    }
+
+    @Override
+    public long estimateSize() {
+      return OBJECT_OVERHEAD + estimateBitsSize(this.values) + estimateBitsSize(this.nulls);
+    }
+  }
+
+  /**
+   * A dictionary encoded string column. Each row holds the index of its value in the dictionary, or -1 for
+   * nulls. The column switches to keeping references once it has more than {@link #MAX_DICTIONARY_SIZE}
+   * distinct values.
+   */
+  protected static final class StringColumn extends CachedColumn {
+
+    protected short[] codes = new short[INITIAL_CAPACITY];
+    protected String[] dictionary = new String[INITIAL_CAPACITY];
+    protected int dictionarySize;
+    // Only needed while the column is filled.
+    protected @Nullable Map<String, Short> codeByValue = new HashMap<>();
+
+    @Override
+    public CachedColumn add(final @Nullable Object value) {
+      if (value != null && !(value instanceof String)) {
+        return this.inflate().add(value);
+      }
+
+      final short code;
+      if (value == null) {
+        code = -1;
+      } else {
+        final Short existingCode = this.codeByValue.get(value);
+        if (existingCode != null) {
+          code = existingCode;
+        } else if (this.dictionarySize == MAX_DICTIONARY_SIZE) {
+          return this.inflate().add(value);
+        } else {
+          if (this.dictionarySize == this.dictionary.length) {
+            this.dictionary = Arrays.copyOf(
+                this.dictionary, Math.min(MAX_DICTIONARY_SIZE, grow(this.dictionary.length, this.dictionarySize + 1)));
+          }
+          code = (short) this.dictionarySize;
+          this.dictionary[this.dictionarySize++] = (String) value;
+          this.codeByValue.put((String) value, code);
+        }
+      }
+
+      if (this.size == this.codes.length) {
+        this.codes = Arrays.copyOf(this.codes, grow(this.codes.length, this.size + 1));
+      }
+      this.codes[this.size++] = code;
+      return this;
+    }
+
+    @Override
+    public @Nullable Object get(final int row) {
+      final short code = this.codes[row];
+      return code < 0 ? null : this.dictionary[code];
+    }
+
+    @Override
+    public boolean isNull(final int row) {
+      return this.codes[row] < 0;
+    }
+
+    @Override
+    public void trimToSize() {
+      this.codes = Arrays.copyOf(this.codes, this.size);
+      this.dictionary = Arrays.copyOf(this.dictionary, this.dictionarySize);
+      this.codeByValue = null;
+    }
+
+    @Override
+    public long estimateSize() {
+      long result = OBJECT_OVERHEAD * 3 + 2L * this.codes.length + 8L * this.dictionary.length;
+      for (int code = 0; code < this.dictionarySize; code++) {
+        result += estimateValueSize(this.dictionary[code]);
+      }
+      return result;
+    }
+  }
+}
@@ -23,6 +23,7 @@ import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.Date;
 import java.sql.NClob;
 import java.sql.Ref;
@@ -35,17 +36,22 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.AwsWrapperProperty;
 import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.PluginService;
@@ -63,15 +69,73 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
   private static final Set<String> subscribedMethods = Collections.unmodifiableSet(new HashSet<>(
       Arrays.asList("Statement.executeQuery", "Statement.execute",
           "PreparedStatement.execute", "PreparedStatement.executeQuery",
-          "CallableStatement.execute", "CallableStatement.executeQuery")));
+          "CallableStatement.execute", "CallableStatement.executeQuery",
+          "Statement.executeUpdate", "Statement.executeLargeUpdate",
+          "PreparedStatement.executeUpdate", "PreparedStatement.executeLargeUpdate",
+          "CallableStatement.executeUpdate", "CallableStatement.executeLargeUpdate",
+          "Statement.addBatch", "Statement.clearBatch", "Statement.executeBatch", "Statement.executeLargeBatch",
+          "PreparedStatement.addBatch", "PreparedStatement.clearBatch",
+          "PreparedStatement.executeBatch", "PreparedStatement.executeLargeBatch",
+          "CallableStatement.addBatch", "CallableStatement.clearBatch",
+          "CallableStatement.executeBatch", "CallableStatement.executeLargeBatch",
+          "Connection.prepareStatement", "Connection.prepareCall",
+          "Connection.commit", "Connection.rollback", "Connection.setAutoCommit",
+          "Connection.close", "Connection.abort")));
+
+  private static final Pattern tableListPattern = Pattern.compile("\\b(?:FROM|JOIN)\\b", Pattern.CASE_INSENSITIVE);
+  // A table name, an optional alias and an optional comma introducing the next table of the list. A parenthesis
+  // after the name means a table function.
+  private static final Pattern tableReferencePattern = Pattern.compile(
+      "\\s*([\\w.$\"`\\[\\]]+)(\\s*\\()?(?:\\s+(?:AS\\s+)?[\\w\"`\\[\\]]+)?\\s*(,)?",
+      Pattern.CASE_INSENSITIVE);
+  private static final Pattern commonTableExpressionPattern = Pattern.compile(
+      "^\\s*WITH\\b", Pattern.CASE_INSENSITIVE);
+  // Keywords that can follow FROM or JOIN instead of a table name.
+  private static final Set<String> tableListKeywords = Collections.unmodifiableSet(new HashSet<>(
+      Arrays.asList("lateral", "only", "select", "table", "unnest", "values")));
+  private static final Pattern writeTablePattern = Pattern.compile(
+      "^\\s*(?:INSERT\\s+(?:IGNORE\\s+)?INTO|REPLACE\\s+INTO|UPDATE|DELETE\\s+FROM|MERGE\\s+INTO"
+          + "|TRUNCATE(?:\\s+TABLE)?|DROP\\s+TABLE(?:\\s+IF\\s+EXISTS)?|ALTER\\s+TABLE)"
+          + "\\s+([\\w.$\"`\\[\\]]+)",
+      Pattern.CASE_INSENSITIVE);
 
   public static final AwsWrapperProperty DATA_CACHE_TRIGGER_CONDITION = new AwsWrapperProperty(
       "dataCacheTriggerCondition", "false",
       "A regular expression that, if it's matched, allows the plugin to cache SQL results.");
 
-  protected static final Map<String, ResultSet> dataCache = new ConcurrentHashMap<>();
+  public static final AwsWrapperProperty DATA_CACHE_EXPIRATION_TIME_MS = new AwsWrapperProperty(
+      "dataCacheExpirationTimeMs", "0",
+      "The time in milliseconds after which a cached query result expires. Set to 0 to keep results until they "
+          + "are evicted or invalidated.");
+
+  public static final AwsWrapperProperty DATA_CACHE_LOAD_WAIT_TIME_MS = new AwsWrapperProperty(
+      "dataCacheLoadWaitTimeMs", "5000",
+      "The maximum time in milliseconds to wait for another connection running the same query to cache its "
+          + "result. The query is run again once the time has elapsed.");
+
+  public static final AwsWrapperProperty DATA_CACHE_MAX_ENTRIES = new AwsWrapperProperty(
+      "dataCacheMaxEntries", String.valueOf(QueryResultCache.DEFAULT_MAX_ENTRIES),
+      "The maximum number of query results kept in the cache shared by all connections. Set to 0 for no limit.");
+
+  public static final AwsWrapperProperty DATA_CACHE_MAX_SIZE_BYTES = new AwsWrapperProperty(
+      "dataCacheMaxSizeBytes", "0",
+      "The maximum estimated size in bytes of the query results kept in the cache shared by all connections. "
+          + "Set to 0 for no limit.");
+
+  protected static final QueryResultCache dataCache = new QueryResultCache();
 
   protected final String dataCacheTriggerCondition;
+  protected final long expirationTimeNanos;
+  protected final long loadWaitTimeNanos;
+  protected final PluginService pluginService;
+
+  // Tables written by the statements added to a batch, by target statement. They are invalidated once the batch
+  // is executed.
+  protected final Map<Object, Set<String>> pendingBatchTables = Collections.synchronizedMap(new WeakHashMap<>());
+  // Tables written by prepared statements, by target statement. Prepared statements are executed without SQL.
+  protected final Map<Object, String> preparedStatementTables = Collections.synchronizedMap(new WeakHashMap<>());
+  // Tables written by the current transaction. They are invalidated again when the transaction ends.
+  protected final Set<String> transactionTables = new HashSet<>();
 
   static {
     PropertyDefinition.registerPluginProperties(DataCacheConnectionPlugin.class);
@@ -81,22 +145,59 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
   private final TelemetryCounter hitCounter;
   private final TelemetryCounter missCounter;
   private final TelemetryCounter totalCallsCounter;
+  private final TelemetryCounter evictionCounter;
+  private final TelemetryCounter invalidationCounter;
   private final TelemetryGauge cacheSizeGauge;
+  private final TelemetryGauge cacheSizeBytesGauge;
 
   public DataCacheConnectionPlugin(final PluginService pluginService, final Properties props) {
+    this.pluginService = pluginService;
     this.telemetryFactory = pluginService.getTelemetryFactory();
     this.dataCacheTriggerCondition = DATA_CACHE_TRIGGER_CONDITION.getString(props);
+    this.expirationTimeNanos = TimeUnit.MILLISECONDS.toNanos(DATA_CACHE_EXPIRATION_TIME_MS.getLong(props));
+    this.loadWaitTimeNanos = TimeUnit.MILLISECONDS.toNanos(DATA_CACHE_LOAD_WAIT_TIME_MS.getLong(props));
+    // The cache is shared, so the limits are only changed by connections configuring them.
+    if (props.containsKey(DATA_CACHE_MAX_ENTRIES.name) || props.containsKey(DATA_CACHE_MAX_SIZE_BYTES.name)) {
+      dataCache.setLimits(DATA_CACHE_MAX_ENTRIES.getInteger(props), DATA_CACHE_MAX_SIZE_BYTES.getLong(props));
+    }
 
     this.hitCounter = telemetryFactory.createCounter("dataCache.cache.hit");
     this.missCounter = telemetryFactory.createCounter("dataCache.cache.miss");
     this.totalCallsCounter = telemetryFactory.createCounter("dataCache.cache.totalCalls");
+    this.evictionCounter = telemetryFactory.createCounter("dataCache.cache.eviction");
+    this.invalidationCounter = telemetryFactory.createCounter("dataCache.cache.invalidation");
     this.cacheSizeGauge = telemetryFactory.createGauge("dataCache.cache.size", () -> (long) dataCache.size());
+    this.cacheSizeBytesGauge = telemetryFactory.createGauge("dataCache.cache.sizeBytes", dataCache::getTotalSize);
   }
 
   public static void clearCache() {
     dataCache.clear();
   }
 
+  /**
+   * Sets the limits of the cache shared by all connections. The least recently used results are evicted first.
+   * By default, the cache holds up to {@value QueryResultCache#DEFAULT_MAX_ENTRIES} results of any size. The limits
+   * can also be set with {@link #DATA_CACHE_MAX_ENTRIES} and {@link #DATA_CACHE_MAX_SIZE_BYTES}.
+   *
+   * @param maxEntries the maximum number of query results kept in the cache, or 0 for no limit
+   * @param maxSizeBytes the maximum estimated size in bytes of the query results kept in the cache, or 0 for no
+   *     limit
+   */
+  public static void setCacheLimits(final int maxEntries, final long maxSizeBytes) {
+    dataCache.setLimits(maxEntries, maxSizeBytes);
+  }
+
+  /**
+   * Removes the cached results of the queries reading from a table. Writes issued through a connection using
+   * this plugin invalidate the tables they modify automatically.
+   *
+   * @param tableName the table name. The schema, quotes and case are ignored.
+   * @return the number of cached results that have been removed
+   */
+  public static int invalidateTable(final String tableName) {
+    return dataCache.invalidateTable(tableName);
+  }
+
   @Override
   public Set<String> getSubscribedMethods() {
     return subscribedMethods;
@@ -112,54 +213,199 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
       final Object[] jdbcMethodArgs)
       throws E {
 
-    if (StringUtils.isNullOrEmpty(this.dataCacheTriggerCondition) || resultClass != ResultSet.class) {
+    if (StringUtils.isNullOrEmpty(this.dataCacheTriggerCondition)) {
       return jdbcMethodFunc.call();
     }
 
-    totalCallsCounter.inc();
+    switch (methodName) {
+      case "Connection.commit":
+      case "Connection.close":
+      case "Connection.abort":
+        return this.executeEndingTransaction(jdbcMethodFunc, true);
+      case "Connection.rollback":
+        // Rolling back to a savepoint doesn't end the transaction.
+        return this.executeEndingTransaction(jdbcMethodFunc, jdbcMethodArgs == null || jdbcMethodArgs.length == 0);
+      case "Connection.setAutoCommit":
+        // Enabling auto-commit commits the current transaction.
+        return this.executeEndingTransaction(
+            jdbcMethodFunc,
+            jdbcMethodArgs != null && jdbcMethodArgs.length > 0 && Boolean.TRUE.equals(jdbcMethodArgs[0]));
+      case "Connection.prepareStatement":
+      case "Connection.prepareCall":
+        return this.executePrepare(jdbcMethodFunc, getQuery(jdbcMethodArgs));
+      case "Statement.clearBatch":
+      case "PreparedStatement.clearBatch":
+      case "CallableStatement.clearBatch":
+        this.pendingBatchTables.remove(methodInvokeOn);
+        return jdbcMethodFunc.call();
+      case "Statement.executeBatch":
+      case "Statement.executeLargeBatch":
+      case "PreparedStatement.executeBatch":
+      case "PreparedStatement.executeLargeBatch":
+      case "CallableStatement.executeBatch":
+      case "CallableStatement.executeLargeBatch":
+        return this.executeWrite(jdbcMethodFunc, this.removePendingBatchTables(methodInvokeOn));
+      default:
+        break;
+    }
 
-    ResultSet result;
-    boolean needToCache = false;
     final String sql = getQuery(jdbcMethodArgs);
+    // Prepared statements are executed without SQL. They run the statement they have been prepared with.
+    final String modifiedTable = sql == null
+        ? this.preparedStatementTables.get(methodInvokeOn)
+        : getModifiedTableName(sql);
+    if (methodName.endsWith(".addBatch")) {
+      // The statement is only queued. The table is invalidated when the batch is executed.
+      if (modifiedTable != null) {
+        this.pendingBatchTables.computeIfAbsent(methodInvokeOn, statement -> new HashSet<>()).add(modifiedTable);
+      }
+      return jdbcMethodFunc.call();
+    }
+    if (modifiedTable != null) {
+      return this.executeWrite(jdbcMethodFunc, Collections.singleton(modifiedTable));
+    }
 
-    if (!StringUtils.isNullOrEmpty(sql) && sql.matches(this.dataCacheTriggerCondition)) {
-      result = dataCache.get(sql);
-      if (result == null) {
-        needToCache = true;
-        missCounter.inc();
-        LOGGER.finest(
-            () -> Messages.get(
-                "DataCacheConnectionPlugin.queryResultsCached",
-                new Object[]{methodName, sql}));
-      } else {
+    if (resultClass != ResultSet.class) {
+      return jdbcMethodFunc.call();
+    }
+
+    totalCallsCounter.inc();
+
+    if (StringUtils.isNullOrEmpty(sql) || !sql.matches(this.dataCacheTriggerCondition)) {
+      return jdbcMethodFunc.call();
+    }
+
+    final CachedResultSet cachedResultSet = dataCache.get(sql);
+    if (cachedResultSet != null) {
+      hitCounter.inc();
+      return resultClass.cast(cachedResultSet.newCursor());
+    }
+
+    // A result can only be invalidated if all the tables it reads from are known.
+    final Set<String> tableNames = getTableNames(sql);
+    if (tableNames == null) {
+      LOGGER.finest(() -> Messages.get("DataCacheConnectionPlugin.unknownTables", new Object[]{sql}));
+      missCounter.inc();
+      return jdbcMethodFunc.call();
+    }
+
+    final CompletableFuture<@Nullable CachedResultSet> load = dataCache.startLoading(sql);
+    if (load == null) {
+      // Another connection is running the same query. Wait for its result rather than running it again.
+      final CompletableFuture<@Nullable CachedResultSet> pendingLoad = dataCache.getPendingLoad(sql);
+      final CachedResultSet loadedResultSet =
+          pendingLoad == null ? dataCache.get(sql) : dataCache.awaitLoading(pendingLoad, this.loadWaitTimeNanos);
+      if (loadedResultSet != null) {
         hitCounter.inc();
-        try {
-          result.beforeFirst();
-        } catch (final SQLException ex) {
-          if (exceptionClass.isAssignableFrom(ex.getClass())) {
-            throw exceptionClass.cast(ex);
-          }
-          throw new RuntimeException(ex);
-        }
-        return resultClass.cast(result);
+        return resultClass.cast(loadedResultSet.newCursor());
       }
+      missCounter.inc();
+      return jdbcMethodFunc.call();
     }
 
-    result = (ResultSet) jdbcMethodFunc.call();
+    missCounter.inc();
+    LOGGER.finest(
+        () -> Messages.get(
+            "DataCacheConnectionPlugin.queryResultsCached",
+            new Object[]{methodName, sql}));
 
-    if (needToCache) {
-      final ResultSet cachedResultSet;
+    CachedResultSet loadedResultSet = null;
+    try {
+      final long invalidationCount = dataCache.getInvalidationCount();
+      final ResultSet result = (ResultSet) jdbcMethodFunc.call();
       try {
-        cachedResultSet = new CachedResultSet(result);
-        dataCache.put(sql, cachedResultSet);
-        cachedResultSet.beforeFirst();
-        return resultClass.cast(cachedResultSet);
+        loadedResultSet = new CachedResultSet(result);
       } catch (final SQLException ex) {
         // ignore exception
+        return resultClass.cast(result);
       }
+      final int evicted =
+          dataCache.put(sql, loadedResultSet, tableNames, this.expirationTimeNanos, invalidationCount);
+      if (evicted > 0) {
+        evictionCounter.add(evicted);
+      }
+      return resultClass.cast(loadedResultSet.newCursor());
+    } finally {
+      dataCache.finishLoading(sql, load, loadedResultSet);
     }
+  }
 
-    return resultClass.cast(result);
+  /**
+   * Runs a write and invalidates the tables it modifies. Inside a transaction, the tables are marked as written
+   * before the write runs, so that results read by other connections until the transaction ends aren't cached.
+   */
+  protected <T, E extends Exception> T executeWrite(
+      final JdbcCallable<T, E> jdbcMethodFunc, final Set<String> modifiedTables) throws E {
+    if (modifiedTables.isEmpty()) {
+      return jdbcMethodFunc.call();
+    }
+
+    final boolean isInTransaction = this.isInTransaction();
+    if (isInTransaction) {
+      for (final String table : modifiedTables) {
+        if (this.transactionTables.add(table)) {
+          this.countInvalidations(dataCache.beginTransactionalWrite(table));
+        }
+      }
+    }
+    try {
+      return jdbcMethodFunc.call();
+    } finally {
+      for (final String table : modifiedTables) {
+        this.countInvalidations(dataCache.invalidateTable(table));
+      }
+    }
+  }
+
+  /**
+   * Prepares a statement and remembers the table it writes to, so that executing it invalidates the table.
+   */
+  protected <T, E extends Exception> T executePrepare(
+      final JdbcCallable<T, E> jdbcMethodFunc, final @Nullable String sql) throws E {
+    final T statement = jdbcMethodFunc.call();
+    final String modifiedTable = getModifiedTableName(sql);
+    if (statement != null && modifiedTable != null) {
+      this.preparedStatementTables.put(statement, modifiedTable);
+    }
+    return statement;
+  }
+
+  protected Set<String> removePendingBatchTables(final Object statement) {
+    final Set<String> batchTables = this.pendingBatchTables.remove(statement);
+    return batchTables == null ? Collections.emptySet() : batchTables;
+  }
+
+  protected <T, E extends Exception> T executeEndingTransaction(
+      final JdbcCallable<T, E> jdbcMethodFunc, final boolean isEndingTransaction) throws E {
+    try {
+      return jdbcMethodFunc.call();
+    } finally {
+      if (isEndingTransaction) {
+        for (final String table : this.transactionTables) {
+          this.countInvalidations(dataCache.endTransactionalWrite(table));
+        }
+        this.transactionTables.clear();
+      }
+    }
+  }
+
+  protected boolean isInTransaction() {
+    if (this.pluginService.isInTransaction()) {
+      return true;
+    }
+    try {
+      final Connection connection = this.pluginService.getCurrentConnection();
+      return connection != null && !connection.getAutoCommit();
+    } catch (final SQLException e) {
+      // Assume a transaction, so that the results aren't cached until it's known to be over.
+      return true;
+    }
+  }
+
+  protected void countInvalidations(final int removed) {
+    if (removed > 0) {
+      this.invalidationCounter.add(removed);
+    }
   }
 
   protected String getQuery(final Object[] jdbcMethodArgs) {
@@ -171,51 +417,223 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
     return null;
   }
 
-  public static class CachedRow {
-    protected final HashMap<Integer, Object> columnByIndex = new HashMap<>();
-    protected final HashMap<String, Object> columnByName = new HashMap<>();
-
-    public void put(final int columnIndex, final String columnName, final Object columnValue) {
-      columnByIndex.put(columnIndex, columnValue);
-      columnByName.put(columnName, columnValue);
+  /**
+   * Returns the names of the tables a query reads from, as listed after its FROM and JOIN keywords, including
+   * comma separated table lists and the tables of subqueries.
+   *
+   * @param sql the query
+   * @return the normalized table names, or null if the tables can't all be found. That's the case for common table
+   *     expressions, derived tables and table functions.
+   */
+  protected static @Nullable Set<String> getTableNames(final String sql) {
+    if (commonTableExpressionPattern.matcher(sql).find()) {
+      return null;
+    }
+    final Set<String> tableNames = new HashSet<>();
+    final Matcher tableList = tableListPattern.matcher(sql);
+    final Matcher tableReference = tableReferencePattern.matcher(sql);
+    while (tableList.find()) {
+      int position = tableList.end();
+      boolean hasNextTable = true;
+      while (hasNextTable) {
+        if (!tableReference.region(position, sql.length()).lookingAt() || tableReference.group(2) != null) {
+          return null;
+        }
+        final String tableName = normalizeTableName(tableReference.group(1));
+        if (tableListKeywords.contains(tableName)) {
+          return null;
+        }
+        tableNames.add(tableName);
+        hasNextTable = tableReference.group(3) != null;
+        position = tableReference.end();
+      }
     }
+    return tableNames;
+  }
 
-    @SuppressWarnings("unused")
-    public Object get(final int columnIndex) {
-      return columnByIndex.get(columnIndex);
-    }
+  /**
+   * Returns the name of the table modified by a statement.
+   *
+   * @param sql the statement
+   * @return the normalized table name, or null if the statement isn't a write
+   */
+  protected static @Nullable String getModifiedTableName(final @Nullable String sql) {
+    if (StringUtils.isNullOrEmpty(sql)) {
+      return null;
+    }
+    final Matcher matcher = writeTablePattern.matcher(sql);
+    return matcher.find() ? normalizeTableName(matcher.group(1)) : null;
+  }
 
-    @SuppressWarnings("unused")
-    public Object get(final String columnName) {
-      return columnByName.get(columnName);
-    }
+  /**
+   * Removes the schema, quotes and case from a table name.
+   */
+  protected static String normalizeTableName(final String tableName) {
+    final String name = tableName.substring(tableName.lastIndexOf('.') + 1);
+    return name.replaceAll("[\"`\\[\\]]", "").toLowerCase(Locale.ROOT);
   }
 
   @SuppressWarnings({"RedundantThrows", "checkstyle:OverloadMethodsDeclarationOrder"})
   public static class CachedResultSet implements ResultSet {
 
-    protected ArrayList<CachedRow> rows;
+    protected final CachedColumn[] columns;
+    // A single map shared by all rows. If several columns have the same name, the last one wins.
+    protected final Map<String, Integer> columnIndexByName;
+    protected final int rowCount;
     protected int currentRow;
+    protected boolean wasNull;
 
     public CachedResultSet(final ResultSet resultSet) throws SQLException {
 
       final ResultSetMetaData md = resultSet.getMetaData();
-      final int columns = md.getColumnCount();
-      rows = new ArrayList<>();
+      final int columnCount = md.getColumnCount();
+      columns = new CachedColumn[columnCount];
+      columnIndexByName = new HashMap<>();
+      for (int i = 1; i <= columnCount; ++i) {
+        columns[i - 1] = CachedColumn.newColumn();
+        columnIndexByName.put(md.getColumnName(i), i);
+      }
 
+      int rows = 0;
       while (resultSet.next()) {
-        final CachedRow row = new CachedRow();
-        for (int i = 1; i <= columns; ++i) {
-          row.put(i, md.getColumnName(i), resultSet.getObject(i));
+        for (int i = 0; i < columnCount; ++i) {
+          columns[i] = columns[i].add(resultSet.getObject(i + 1));
         }
-        rows.add(row);
+        rows++;
       }
+      for (final CachedColumn column : columns) {
+        column.trimToSize();
+      }
+      rowCount = rows;
       currentRow = -1;
     }
 
+    /**
+     * Creates a result set reading the same rows as another one, with its own cursor.
+     */
+    protected CachedResultSet(final CachedResultSet resultSet) {
+      this.columns = resultSet.columns;
+      this.columnIndexByName = resultSet.columnIndexByName;
+      this.rowCount = resultSet.rowCount;
+      this.currentRow = -1;
+    }
+
+    /**
+     * Returns a result set positioned before the first row that shares the rows of this one. Cached result sets
+     * are handed out through new cursors, so that connections reading the same result don't move each
+     * other's position.
+     *
+     * @return a new result set over the same rows
+     */
+    public CachedResultSet newCursor() {
+      return new CachedResultSet(this);
+    }
+
+    /**
+     * Returns an approximation of the number of bytes retained by the rows of this result set.
+     *
+     * @return the estimated size in bytes
+     */
+    public long estimateSize() {
+      long result = 0;
+      for (final CachedColumn column : this.columns) {
+        result += column.estimateSize();
+      }
+      for (final String name : this.columnIndexByName.keySet()) {
+        result += CachedColumn.estimateValueSize(name) + CachedColumn.OBJECT_OVERHEAD * 2;
+      }
+      return result;
+    }
+
+    /**
+     * Returns the column holding the value at the current row, or null if the cursor isn't on a row or the
+     * column doesn't exist.
+     */
+    protected @Nullable CachedColumn getColumn(final int columnIndex) {
+      if (this.currentRow < 0 || this.currentRow >= this.rowCount
+          || columnIndex < 1 || columnIndex > this.columns.length) {
+        return null; // out of boundaries
+      }
+      return this.columns[columnIndex - 1];
+    }
+
+    protected @Nullable CachedColumn getColumn(final String columnLabel) {
+      final Integer columnIndex = this.columnIndexByName.get(columnLabel);
+      return columnIndex == null ? null : this.getColumn(columnIndex);
+    }
+
+    protected boolean readNull(final @Nullable CachedColumn column) {
+      this.wasNull = column == null || column.isNull(this.currentRow);
+      return this.wasNull;
+    }
+
+    protected long readLong(final @Nullable CachedColumn column) throws SQLException {
+      if (this.readNull(column)) {
+        return 0;
+      }
+      try {
+        return column.getLong(this.currentRow);
+      } catch (final ClassCastException e) {
+        throw this.unsupportedConversion(column, long.class);
+      }
+    }
+
+    protected long readIntegral(
+        final @Nullable CachedColumn column, final long minValue, final long maxValue, final Class<?> type)
+        throws SQLException {
+      final long value = this.readLong(column);
+      if (value < minValue || value > maxValue) {
+        // Drivers reject values that don't fit rather than narrowing them.
+        throw new SQLException(
+            Messages.get(
+                "DataCacheConnectionPlugin.valueOutOfRange",
+                new Object[] {String.valueOf(value), type.getName()}),
+            "22003");
+      }
+      return value;
+    }
+
+    protected double readDouble(final @Nullable CachedColumn column) throws SQLException {
+      if (this.readNull(column)) {
+        return 0;
+      }
+      try {
+        return column.getDouble(this.currentRow);
+      } catch (final ClassCastException e) {
+        throw this.unsupportedConversion(column, double.class);
+      }
+    }
+
+    protected boolean readBoolean(final @Nullable CachedColumn column) throws SQLException {
+      if (this.readNull(column)) {
+        return false;
+      }
+      final Object value = column.get(this.currentRow);
+      if (value instanceof Boolean) {
+        return (Boolean) value;
+      }
+      if (value instanceof Number) {
+        return column.getDouble(this.currentRow) != 0;
+      }
+      throw this.unsupportedConversion(column, boolean.class);
+    }
+
+    protected @Nullable String readString(final @Nullable CachedColumn column) {
+      if (this.readNull(column)) {
+        return null;
+      }
+      return column.get(this.currentRow).toString();
+    }
+
+    protected SQLException unsupportedConversion(final CachedColumn column, final Class<?> type) {
+      return new SQLException(Messages.get(
+          "DataCacheConnectionPlugin.unsupportedConversion",
+          new Object[] {column.get(this.currentRow).getClass().getName(), type.getName()}));
+    }
+
     @Override
     public boolean next() throws SQLException {
-      if (rows.size() == 0 || isLast()) {
+      if (rowCount == 0 || isLast()) {
         return false;
       }
       currentRow++;
@@ -224,52 +642,52 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public void close() throws SQLException {
-      currentRow = rows.size() - 1;
+      currentRow = rowCount - 1;
     }
 
     @Override
     public boolean wasNull() throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.wasNull;
     }
 
     @Override
     public String getString(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.readString(this.getColumn(columnIndex));
     }
 
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.readBoolean(this.getColumn(columnIndex));
     }
 
     @Override
     public byte getByte(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return (byte) this.readIntegral(this.getColumn(columnIndex), Byte.MIN_VALUE, Byte.MAX_VALUE, byte.class);
     }
 
     @Override
     public short getShort(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return (short) this.readIntegral(this.getColumn(columnIndex), Short.MIN_VALUE, Short.MAX_VALUE, short.class);
     }
 
     @Override
     public int getInt(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return (int) this.readIntegral(this.getColumn(columnIndex), Integer.MIN_VALUE, Integer.MAX_VALUE, int.class);
     }
 
     @Override
     public long getLong(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.readLong(this.getColumn(columnIndex));
     }
 
     @Override
     public float getFloat(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return (float) this.readDouble(this.getColumn(columnIndex));
     }
 
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.readDouble(this.getColumn(columnIndex));
     }
 
     @Override
@@ -316,42 +734,42 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public String getString(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.readString(this.getColumn(columnLabel));
     }
 
     @Override
     public boolean getBoolean(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.readBoolean(this.getColumn(columnLabel));
     }
 
     @Override
     public byte getByte(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return (byte) this.readIntegral(this.getColumn(columnLabel), Byte.MIN_VALUE, Byte.MAX_VALUE, byte.class);
     }
 
     @Override
     public short getShort(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return (short) this.readIntegral(this.getColumn(columnLabel), Short.MIN_VALUE, Short.MAX_VALUE, short.class);
     }
 
     @Override
     public int getInt(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return (int) this.readIntegral(this.getColumn(columnLabel), Integer.MIN_VALUE, Integer.MAX_VALUE, int.class);
     }
 
     @Override
     public long getLong(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.readLong(this.getColumn(columnLabel));
     }
 
     @Override
     public float getFloat(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return (float) this.readDouble(this.getColumn(columnLabel));
     }
 
     @Override
     public double getDouble(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.readDouble(this.getColumn(columnLabel));
     }
 
     @Override
@@ -418,31 +836,24 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public Object getObject(final int columnIndex) throws SQLException {
-      if (this.currentRow < 0 || this.currentRow >= this.rows.size()) {
-        return null; // out of boundaries
-      }
-      final CachedRow row = this.rows.get(this.currentRow);
-      if (!row.columnByIndex.containsKey(columnIndex)) {
-        return null; // column index out of boundaries
-      }
-      return row.columnByIndex.get(columnIndex);
+      final CachedColumn column = this.getColumn(columnIndex);
+      return this.readNull(column) ? null : column.get(this.currentRow);
     }
 
     @Override
     public Object getObject(final String columnLabel) throws SQLException {
-      if (this.currentRow < 0 || this.currentRow >= this.rows.size()) {
-        return null; // out of boundaries
-      }
-      final CachedRow row = this.rows.get(this.currentRow);
-      if (!row.columnByName.containsKey(columnLabel)) {
-        return null; // column name not found
-      }
-      return row.columnByName.get(columnLabel);
+      final CachedColumn column = this.getColumn(columnLabel);
+      return this.readNull(column) ? null : column.get(this.currentRow);
     }
 
     @Override
     public int findColumn(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Integer columnIndex = this.columnIndexByName.get(columnLabel);
+      if (columnIndex == null) {
+        throw new SQLException(
+            Messages.get("DataCacheConnectionPlugin.invalidColumnLabel", new Object[] {columnLabel}));
+      }
+      return columnIndex;
     }
 
     @Override
@@ -472,17 +883,17 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public boolean isAfterLast() throws SQLException {
-      return this.currentRow >= this.rows.size();
+      return this.currentRow >= this.rowCount;
     }
 
     @Override
     public boolean isFirst() throws SQLException {
-      return this.currentRow == 0 && this.rows.size() > 0;
+      return this.currentRow == 0 && this.rowCount > 0;
     }
 
     @Override
     public boolean isLast() throws SQLException {
-      return this.currentRow == (this.rows.size() - 1) && this.rows.size() > 0;
+      return this.currentRow == (this.rowCount - 1) && this.rowCount > 0;
     }
 
     @Override
@@ -492,18 +903,18 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public void afterLast() throws SQLException {
-      this.currentRow = this.rows.size();
+      this.currentRow = this.rowCount;
     }
 
     @Override
     public boolean first() throws SQLException {
       this.currentRow = 0;
-      return this.currentRow < this.rows.size();
+      return this.currentRow < this.rowCount;
     }
 
     @Override
     public boolean last() throws SQLException {
-      this.currentRow = this.rows.size() - 1;
+      this.currentRow = this.rowCount - 1;
       return this.currentRow >= 0;
     }
 
@@ -517,21 +928,21 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
       if (row > 0) {
         this.currentRow = row - 1;
       } else {
-        this.currentRow = this.rows.size() + row;
+        this.currentRow = this.rowCount + row;
       }
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.rowCount;
     }
 
     @Override
     public boolean relative(final int rows) throws SQLException {
       this.currentRow += rows;
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.rowCount;
     }
 
     @Override
     public boolean previous() throws SQLException {
       this.currentRow--;
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.rowCount;
     }
 
     @Override
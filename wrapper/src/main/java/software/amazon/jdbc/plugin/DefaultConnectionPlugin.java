@@ -31,18 +31,23 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.BooleanJdbcCallable;
 import software.amazon.jdbc.ConnectionPlugin;
 import software.amazon.jdbc.ConnectionProvider;
 import software.amazon.jdbc.ConnectionProviderManager;
+import software.amazon.jdbc.DoubleJdbcCallable;
 import software.amazon.jdbc.HostListProviderService;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.IntJdbcCallable;
 import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.LongJdbcCallable;
 import software.amazon.jdbc.NodeChangeOptions;
 import software.amazon.jdbc.OldConnectionSuggestedAction;
 import software.amazon.jdbc.PluginManagerService;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.SqlMethodAnalyzer;
 import software.amazon.jdbc.util.WrapperUtils;
@@ -119,23 +124,93 @@ public final class DefaultConnectionPlugin implements ConnectionPlugin {
     LOGGER.finest(
         () -> Messages.get("DefaultConnectionPlugin.executingMethod", new Object[] {methodName}));
 
-    TelemetryFactory telemetryFactory = this.pluginService.getTelemetryFactory();
-    TelemetryContext telemetryContext = telemetryFactory.openTelemetryContext(
-        this.pluginService.getTargetName(), TelemetryTraceLevel.NESTED);
+    // The telemetry context of the target driver call is opened by the plugin chain, and only if the call is traced.
+    final T result = jdbcMethodFunc.call();
 
-    T result;
-    try {
-      result = jdbcMethodFunc.call();
-    } finally {
-      telemetryContext.closeContext();
-    }
+    this.analyzeTransaction(methodInvokeOn, methodName, jdbcMethodArgs);
+    return result;
+  }
+
+  @Override
+  public <E extends Exception> int executeInt(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final IntJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    LOGGER.finest(
+        () -> Messages.get("DefaultConnectionPlugin.executingMethod", new Object[] {methodName}));
+
+    final int result = jdbcMethodFunc.call();
 
+    this.analyzeTransaction(methodInvokeOn, methodName, jdbcMethodArgs);
+    return result;
+  }
+
+  @Override
+  public <E extends Exception> long executeLong(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final LongJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    LOGGER.finest(
+        () -> Messages.get("DefaultConnectionPlugin.executingMethod", new Object[] {methodName}));
+
+    final long result = jdbcMethodFunc.call();
+
+    this.analyzeTransaction(methodInvokeOn, methodName, jdbcMethodArgs);
+    return result;
+  }
+
+  @Override
+  public <E extends Exception> double executeDouble(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final DoubleJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    LOGGER.finest(
+        () -> Messages.get("DefaultConnectionPlugin.executingMethod", new Object[] {methodName}));
+
+    final double result = jdbcMethodFunc.call();
+
+    this.analyzeTransaction(methodInvokeOn, methodName, jdbcMethodArgs);
+    return result;
+  }
+
+  @Override
+  public <E extends Exception> boolean executeBoolean(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final BooleanJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    LOGGER.finest(
+        () -> Messages.get("DefaultConnectionPlugin.executingMethod", new Object[] {methodName}));
+
+    final boolean result = jdbcMethodFunc.call();
+
+    this.analyzeTransaction(methodInvokeOn, methodName, jdbcMethodArgs);
+    return result;
+  }
+
+  private void analyzeTransaction(
+      final Object methodInvokeOn, final String methodName, final Object[] jdbcMethodArgs) {
     final Connection currentConn = this.pluginService.getCurrentConnection();
     final Connection boundConnection = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
     if (boundConnection != null && boundConnection != currentConn) {
       // The method being invoked is using an old connection, so transaction/autocommit analysis should be skipped.
       // ConnectionPluginManager#execute blocks all methods invoked using old connections except for close/abort.
-      return result;
+      return;
     }
 
     if (sqlMethodAnalyzer.doesOpenTransaction(currentConn, methodName, jdbcMethodArgs)) {
@@ -158,8 +233,6 @@ public final class DefaultConnectionPlugin implements ConnectionPlugin {
         }
       }
     }
-
-    return result;
   }
 
   @Override
@@ -239,9 +312,20 @@ public final class DefaultConnectionPlugin implements ConnectionPlugin {
   @Override
   public HostSpec getHostSpecByStrategy(HostRole role, String strategy)
       throws SQLException {
-    List<HostSpec> hosts = this.pluginService.getHosts();
+    if (HostRole.UNKNOWN.equals(role)) {
+      // Users must request either a writer or a reader role.
+      throw new SQLException("DefaultConnectionPlugin.unknownRoleRequested");
+    }
+
+    // The snapshot is rebuilt only when the hosts change, so that host selectors don't filter the host list on
+    // every call.
+    final TopologySnapshot topology = this.pluginService.getHostsSnapshot();
+    if (topology.getHosts().isEmpty()) {
+      throw new SQLException(Messages.get("DefaultConnectionPlugin.noHostsAvailable"));
+    }
 
-    return this.getHostSpecByStrategy(hosts, role, strategy);
+    return this.connProviderManager.getHostSpecByStrategy(
+        topology, role, strategy, this.pluginService.getProperties());
   }
 
   @Override
@@ -20,7 +20,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.logging.Logger;
+import software.amazon.jdbc.BooleanJdbcCallable;
+import software.amazon.jdbc.DoubleJdbcCallable;
+import software.amazon.jdbc.IntJdbcCallable;
 import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.LongJdbcCallable;
 import software.amazon.jdbc.util.Messages;
 
 public class ExecutionTimeConnectionPlugin extends AbstractConnectionPlugin {
@@ -51,14 +55,90 @@ public class ExecutionTimeConnectionPlugin extends AbstractConnectionPlugin {
 
     final T result = jdbcMethodFunc.call();
 
+    this.recordExecutionTime(methodName, startTime);
+
+    return result;
+  }
+
+  @Override
+  public <E extends Exception> int executeInt(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final IntJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final long startTime = System.nanoTime();
+
+    final int result = jdbcMethodFunc.call();
+
+    this.recordExecutionTime(methodName, startTime);
+
+    return result;
+  }
+
+  @Override
+  public <E extends Exception> long executeLong(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final LongJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final long startTime = System.nanoTime();
+
+    final long result = jdbcMethodFunc.call();
+
+    this.recordExecutionTime(methodName, startTime);
+
+    return result;
+  }
+
+  @Override
+  public <E extends Exception> double executeDouble(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final DoubleJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final long startTime = System.nanoTime();
+
+    final double result = jdbcMethodFunc.call();
+
+    this.recordExecutionTime(methodName, startTime);
+
+    return result;
+  }
+
+  @Override
+  public <E extends Exception> boolean executeBoolean(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final BooleanJdbcCallable<E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final long startTime = System.nanoTime();
+
+    final boolean result = jdbcMethodFunc.call();
+
+    this.recordExecutionTime(methodName, startTime);
+
+    return result;
+  }
+
+  private void recordExecutionTime(final String methodName, final long startTime) {
     final long elapsedTimeNanos = System.nanoTime() - startTime;
     LOGGER.fine(
         () -> Messages.get(
             "ExecutionTimeConnectionPlugin.executionTime",
             new Object[] {methodName, elapsedTimeNanos}));
     executionTime += elapsedTimeNanos;
-
-    return result;
   }
 
   public static void resetExecutionTime() {
@@ -0,0 +1,408 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultSet;
+
+/**
+ * A bounded cache of query results used by {@link DataCacheConnectionPlugin}.
+ *
+ * <p>Lookups don't lock: entries are kept in a concurrent map and a hit only marks its entry as used. Once the
+ * cache holds more entries or more estimated bytes than allowed by {@link #setLimits(int, long)}, entries are
+ * evicted in insertion order, except that entries used since they were queued get a second chance and are queued
+ * again. Only adding entries and evicting them is serialized. Each entry has its own expiration time and is
+ * indexed by the tables its query reads from, so that writes to a table invalidate the entries depending on it
+ * without scanning the cache. Results of queries reading from a table written by an open transaction aren't
+ * cached until the transaction ends, see {@link #beginTransactionalWrite(String)}.
+ *
+ * <p>Concurrent misses on the same query are loaded once: the first caller registers a pending load with
+ * {@link #startLoading(String)} and the other callers wait for it with
+ * {@link #awaitLoading(CompletableFuture, long)}.
+ */
+public class QueryResultCache {
+
+  protected static final long CLEANUP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+  public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+  protected final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+  // The entries of the queries reading from each table, by normalized table name.
+  protected final Map<String, Set<CacheEntry>> entriesByTable = new ConcurrentHashMap<>();
+  // Entries in the order they are considered for eviction. Removed entries are skipped when they are polled.
+  protected final Queue<CacheEntry> evictionQueue = new ConcurrentLinkedQueue<>();
+  protected final AtomicInteger evictionQueueLength = new AtomicInteger();
+  protected final Object evictionLock = new Object();
+  protected final Map<String, CompletableFuture<@Nullable CachedResultSet>> pendingLoads =
+      new ConcurrentHashMap<>();
+  // Incremented by every invalidation. Loads that started before an invalidation aren't cached.
+  protected final AtomicLong invalidationCount = new AtomicLong();
+  // The number of open transactions that have written to each table, by normalized table name.
+  protected final Map<String, Integer> openTransactionWrites = new ConcurrentHashMap<>();
+  protected final AtomicLong totalSize = new AtomicLong();
+  protected volatile int maxEntries = DEFAULT_MAX_ENTRIES;
+  protected volatile long maxSizeBytes;
+  protected long cleanupTimeNanos = System.nanoTime() + CLEANUP_INTERVAL_NANOS;
+
+  /**
+   * Returns the cached result of a query.
+   *
+   * @param sql the query
+   * @return the cached result, or null if there is none or it has expired
+   */
+  public @Nullable CachedResultSet get(final String sql) {
+    final CacheEntry entry = this.entries.get(sql);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime())) {
+      this.removeEntry(entry);
+      return null;
+    }
+    // Avoid writing to entries that are already marked, so that concurrent hits don't contend.
+    if (!entry.isUsed) {
+      entry.isUsed = true;
+    }
+    return entry.resultSet;
+  }
+
+  /**
+   * Registers a pending load of a query.
+   *
+   * @param sql the query
+   * @return a pending load to complete with {@link #finishLoading}, or null if another caller is already loading
+   *     the query. In that case the caller should use {@link #getPendingLoad(String)} and wait for it.
+   */
+  public @Nullable CompletableFuture<@Nullable CachedResultSet> startLoading(final String sql) {
+    final CompletableFuture<@Nullable CachedResultSet> load = new CompletableFuture<>();
+    return this.pendingLoads.putIfAbsent(sql, load) == null ? load : null;
+  }
+
+  public @Nullable CompletableFuture<@Nullable CachedResultSet> getPendingLoad(final String sql) {
+    return this.pendingLoads.get(sql);
+  }
+
+  /**
+   * Completes a pending load and releases the callers waiting for it.
+   *
+   * @param sql the query
+   * @param load the pending load returned by {@link #startLoading(String)}
+   * @param resultSet the loaded result, or null if the query failed or its result couldn't be cached
+   */
+  public void finishLoading(
+      final String sql,
+      final CompletableFuture<@Nullable CachedResultSet> load,
+      final @Nullable CachedResultSet resultSet) {
+    this.pendingLoads.remove(sql, load);
+    load.complete(resultSet);
+  }
+
+  /**
+   * Waits for another caller to load a query.
+   *
+   * @param load the pending load
+   * @param timeoutNanos the maximum time to wait
+   * @return the loaded result, or null if the load failed, didn't complete in time or the thread has been
+   *     interrupted. The caller should then run the query itself.
+   */
+  public @Nullable CachedResultSet awaitLoading(
+      final CompletableFuture<@Nullable CachedResultSet> load, final long timeoutNanos) {
+    try {
+      return load.get(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (final ExecutionException | TimeoutException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Sets the limits of the cache, then evicts entries until the cache fits them.
+   *
+   * @param maxEntries the maximum number of entries, or 0 for no limit
+   * @param maxSizeBytes the maximum estimated size of all entries, or 0 for no limit
+   * @return the number of entries that have been evicted
+   */
+  public int setLimits(final int maxEntries, final long maxSizeBytes) {
+    synchronized (this.evictionLock) {
+      this.maxEntries = Math.max(0, maxEntries);
+      this.maxSizeBytes = Math.max(0, maxSizeBytes);
+      return this.evictEntries(null);
+    }
+  }
+
+  public long getInvalidationCount() {
+    return this.invalidationCount.get();
+  }
+
+  /**
+   * Adds the result of a query, then evicts entries until the cache fits its limits.
+   *
+   * @param sql the query
+   * @param resultSet the result of the query
+   * @param tableNames the tables the query reads from
+   * @param expirationTimeNanos how long the entry stays valid, or 0 if it doesn't expire
+   * @param loadStartInvalidationCount the value of {@link #getInvalidationCount()} before the query has been
+   *     executed. The result isn't cached if an invalidation happened since, or if one of the tables has been
+   *     written by a transaction that is still open.
+   * @return the number of entries that have been evicted
+   */
+  public int put(
+      final String sql,
+      final CachedResultSet resultSet,
+      final Set<String> tableNames,
+      final long expirationTimeNanos,
+      final long loadStartInvalidationCount) {
+
+    final long size = resultSet.estimateSize();
+    final long now = System.nanoTime();
+    final long expirationNanos = expirationTimeNanos > 0 ? now + expirationTimeNanos : 0;
+    synchronized (this.evictionLock) {
+      if (this.maxSizeBytes > 0 && size > this.maxSizeBytes) {
+        return 0;
+      }
+      final CacheEntry entry = new CacheEntry(sql, resultSet, tableNames, size, expirationNanos);
+      final CacheEntry previous = this.entries.put(sql, entry);
+      if (previous != null) {
+        this.unindexEntry(previous);
+      }
+      this.totalSize.addAndGet(size);
+      for (final String tableName : entry.tableNames) {
+        // Added inside compute(), so that the set can't be dropped concurrently by unindexEntry().
+        this.entriesByTable.compute(tableName, (name, tableEntries) -> {
+          final Set<CacheEntry> updatedEntries = tableEntries == null ? ConcurrentHashMap.newKeySet() : tableEntries;
+          updatedEntries.add(entry);
+          return updatedEntries;
+        });
+      }
+
+      // The entry is indexed before the checks, so that an invalidation running concurrently either is seen
+      // here or finds the entry.
+      if (this.invalidationCount.get() != loadStartInvalidationCount || this.isWrittenByOpenTransaction(entry)) {
+        this.removeEntry(entry);
+        return 0;
+      }
+
+      this.evictionQueue.add(entry);
+      if (this.evictionQueueLength.incrementAndGet() > 2 * this.entries.size() + 16) {
+        this.compactEvictionQueue();
+      }
+      this.removeExpiredEntries(now);
+      return this.evictEntries(entry);
+    }
+  }
+
+  protected boolean isWrittenByOpenTransaction(final CacheEntry entry) {
+    for (final String tableName : entry.tableNames) {
+      if (this.openTransactionWrites.containsKey(tableName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Evicts entries in queue order until the cache fits its limits. Entries used since they were queued are
+   * queued again instead, and so is the entry that has just been added. Called while holding the eviction lock.
+   *
+   * @param addedEntry the entry that has just been added, or null
+   * @return the number of entries that have been evicted
+   */
+  protected int evictEntries(final @Nullable CacheEntry addedEntry) {
+    int evicted = 0;
+    // Used entries are only queued again once, so two passes over the queue are enough.
+    int polls = 2 * this.evictionQueueLength.get() + 1;
+    while (polls-- > 0
+        && ((this.maxEntries > 0 && this.entries.size() > this.maxEntries)
+        || (this.maxSizeBytes > 0 && this.totalSize.get() > this.maxSizeBytes))) {
+      final CacheEntry entry = this.evictionQueue.poll();
+      if (entry == null) {
+        break;
+      }
+      this.evictionQueueLength.decrementAndGet();
+      if (this.entries.get(entry.sql) != entry) {
+        // The entry has already been removed.
+        continue;
+      }
+      if (entry.isUsed || entry == addedEntry) {
+        entry.isUsed = false;
+        this.evictionQueue.add(entry);
+        this.evictionQueueLength.incrementAndGet();
+        continue;
+      }
+      if (this.removeEntry(entry)) {
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  protected void compactEvictionQueue() {
+    this.evictionQueue.removeIf(entry -> this.entries.get(entry.sql) != entry);
+    this.evictionQueueLength.set(this.evictionQueue.size());
+  }
+
+  /**
+   * Removes the entries of the queries reading from a table.
+   *
+   * @param tableName the table name, compared without schema and case-insensitively
+   * @return the number of entries that have been removed
+   */
+  public int invalidateTable(final String tableName) {
+    return this.removeTableEntries(DataCacheConnectionPlugin.normalizeTableName(tableName));
+  }
+
+  /**
+   * Invalidates a table written by a transaction that is still open. Results of queries reading from the table
+   * aren't cached until {@link #endTransactionalWrite(String)} is called, so that data read before the
+   * transaction commits doesn't stay in the cache.
+   *
+   * @param tableName the table name, compared without schema and case-insensitively
+   * @return the number of entries that have been removed
+   */
+  public int beginTransactionalWrite(final String tableName) {
+    final String normalizedName = DataCacheConnectionPlugin.normalizeTableName(tableName);
+    this.openTransactionWrites.merge(normalizedName, 1, Integer::sum);
+    return this.removeTableEntries(normalizedName);
+  }
+
+  /**
+   * Invalidates a table written by a transaction that has been committed or rolled back, and allows caching the
+   * results of queries reading from it again once no other open transaction has written to it.
+   *
+   * @param tableName the table name passed to {@link #beginTransactionalWrite(String)}
+   * @return the number of entries that have been removed
+   */
+  public int endTransactionalWrite(final String tableName) {
+    final String normalizedName = DataCacheConnectionPlugin.normalizeTableName(tableName);
+    this.openTransactionWrites.computeIfPresent(normalizedName, (name, count) -> count > 1 ? count - 1 : null);
+    return this.removeTableEntries(normalizedName);
+  }
+
+  protected int removeTableEntries(final String normalizedName) {
+    // Loads that started before this point aren't cached, see put().
+    this.invalidationCount.incrementAndGet();
+    final Set<CacheEntry> tableEntries = this.entriesByTable.get(normalizedName);
+    if (tableEntries == null) {
+      return 0;
+    }
+    int removed = 0;
+    for (final CacheEntry entry : tableEntries) {
+      if (this.removeEntry(entry)) {
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  public void clear() {
+    synchronized (this.evictionLock) {
+      this.invalidationCount.incrementAndGet();
+      for (final CacheEntry entry : this.entries.values()) {
+        this.removeEntry(entry);
+      }
+      this.evictionQueue.clear();
+      this.evictionQueueLength.set(0);
+    }
+  }
+
+  public int size() {
+    return this.entries.size();
+  }
+
+  public long getTotalSize() {
+    return this.totalSize.get();
+  }
+
+  /**
+   * Removes an entry if it's still cached.
+   *
+   * @param entry the entry
+   * @return true if the entry has been removed by this call
+   */
+  protected boolean removeEntry(final CacheEntry entry) {
+    if (!this.entries.remove(entry.sql, entry)) {
+      return false;
+    }
+    this.unindexEntry(entry);
+    return true;
+  }
+
+  protected void unindexEntry(final CacheEntry entry) {
+    this.totalSize.addAndGet(-entry.size);
+    for (final String tableName : entry.tableNames) {
+      this.entriesByTable.computeIfPresent(tableName, (name, tableEntries) -> {
+        tableEntries.remove(entry);
+        return tableEntries.isEmpty() ? null : tableEntries;
+      });
+    }
+  }
+
+  protected void removeExpiredEntries(final long now) {
+    if (this.cleanupTimeNanos > now) {
+      return;
+    }
+    this.cleanupTimeNanos = now + CLEANUP_INTERVAL_NANOS;
+    final Iterator<CacheEntry> iterator = this.entries.values().iterator();
+    while (iterator.hasNext()) {
+      final CacheEntry entry = iterator.next();
+      if (entry.isExpired(now)) {
+        this.removeEntry(entry);
+      }
+    }
+  }
+
+  protected static class CacheEntry {
+    final String sql;
+    final CachedResultSet resultSet;
+    final Set<String> tableNames;
+    final long size;
+    final long expirationTimeNanos;
+    // Set by lookups and cleared when the entry is queued again for eviction.
+    volatile boolean isUsed;
+
+    CacheEntry(
+        final String sql,
+        final CachedResultSet resultSet,
+        final Set<String> tableNames,
+        final long size,
+        final long expirationTimeNanos) {
+      this.sql = sql;
+      this.resultSet = resultSet;
+      this.tableNames = Collections.unmodifiableSet(tableNames);
+      this.size = size;
+      this.expirationTimeNanos = expirationTimeNanos;
+    }
+
+    boolean isExpired(final long now) {
+      return this.expirationTimeNanos != 0 && now - this.expirationTimeNanos > 0;
+    }
+  }
+}
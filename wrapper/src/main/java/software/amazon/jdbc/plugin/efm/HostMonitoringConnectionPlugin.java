@@ -75,6 +75,18 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
           "3",
           "Number of failed connection checks before considering database node unhealthy.");
 
+  public static final String IS_VALID_PROBE_MODE = "isValid";
+  public static final String SOCKET_PROBE_MODE = "socket";
+
+  public static final AwsWrapperProperty FAILURE_DETECTION_PROBE_MODE =
+      new AwsWrapperProperty(
+          "failureDetectionProbeMode",
+          IS_VALID_PROBE_MODE,
+          "How to check a database node: with Connection.isValid() on a monitoring connection ('isValid'), "
+              + "or by opening a TCP socket, using a monitoring connection only when the socket fails ('socket').",
+          false,
+          new String[] {IS_VALID_PROBE_MODE, SOCKET_PROBE_MODE});
+
   private static final Set<String> subscribedMethods =
       Collections.unmodifiableSet(new HashSet<>(Collections.singletonList("*")));
 
@@ -127,6 +139,12 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
     return subscribedMethods;
   }
 
+  @Override
+  public boolean isPassive(final String methodName) {
+    // Only network bound methods are monitored. Other methods are passed through as is.
+    return !SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(methodName);
+  }
+
   /**
    * Executes the given SQL function with {@link MonitorImpl} if connection monitoring is enabled.
    * Otherwise, executes the SQL function directly.
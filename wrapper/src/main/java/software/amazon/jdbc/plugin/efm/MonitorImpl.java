@@ -29,6 +29,7 @@ import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
+import software.amazon.jdbc.util.SocketProber;
 import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
@@ -69,6 +70,8 @@ public class MonitorImpl implements Monitor {
   private volatile long contextLastUsedTimestampNano;
   private volatile boolean stopped = false;
   private Connection monitoringConn = null;
+  // The port checked by the socket probe, or NO_PORT if the server is only checked with a monitoring connection.
+  private final int socketProbePort;
   private long nodeCheckTimeoutMillis = MIN_CONNECTION_CHECK_TIMEOUT_MILLIS;
 
   private final TelemetryGauge contextsSizeGauge;
@@ -100,6 +103,10 @@ public class MonitorImpl implements Monitor {
     this.properties = properties;
     this.monitorDisposalTimeMillis = monitorDisposalTimeMillis;
     this.threadContainer = threadContainer;
+    this.socketProbePort = HostMonitoringConnectionPlugin.SOCKET_PROBE_MODE.equalsIgnoreCase(
+        HostMonitoringConnectionPlugin.FAILURE_DETECTION_PROBE_MODE.getString(properties))
+        ? (hostSpec.isPortSpecified() ? hostSpec.getPort() : pluginService.getDialect().getDefaultPort())
+        : HostSpec.NO_PORT;
 
     this.contextLastUsedTimestampNano = this.getCurrentTimeNano();
     this.contextsSizeGauge = telemetryFactory.createGauge("efm.activeContexts.queue.size",
@@ -177,9 +184,10 @@ public class MonitorImpl implements Monitor {
             }
           }
 
+          // The socket probe doesn't keep a monitoring connection to open in advance.
           if (!this.activeContexts.isEmpty()
-              || this.monitoringConn == null
-              || this.monitoringConn.isClosed()) {
+              || (this.socketProbePort == HostSpec.NO_PORT
+                  && (this.monitoringConn == null || this.monitoringConn.isClosed()))) {
 
             final long statusCheckStartTimeNano = this.getCurrentTimeNano();
             this.contextLastUsedTimestampNano = statusCheckStartTimeNano;
@@ -286,13 +294,7 @@ public class MonitorImpl implements Monitor {
     } finally {
       threadContainer.releaseResource(this);
       this.stopped = true;
-      if (this.monitoringConn != null) {
-        try {
-          this.monitoringConn.close();
-        } catch (final SQLException ex) {
-          // ignore
-        }
-      }
+      this.closeMonitoringConnection();
     }
 
     LOGGER.finest(() -> Messages.get(
@@ -301,7 +303,8 @@ public class MonitorImpl implements Monitor {
   }
 
   /**
-   * Check the status of the monitored server by sending a ping.
+   * Check the status of the monitored server by sending a ping. In the socket probe mode, the server is first
+   * checked by opening a TCP socket, and the monitoring connection is only used when the socket fails.
    *
    * @param shortestFailureDetectionIntervalMillis The shortest failure detection interval used by
    *                                               all the connections to this server. This value is
@@ -316,6 +319,18 @@ public class MonitorImpl implements Monitor {
 
     long startNano = this.getCurrentTimeNano();
     try {
+      if (this.socketProbePort != HostSpec.NO_PORT) {
+        final long socketTimeoutMillis =
+            Math.max(MIN_CONNECTION_CHECK_TIMEOUT_MILLIS, shortestFailureDetectionIntervalMillis / 2);
+        if (SocketProber.isReachable(
+            this.hostSpec.getHost(), this.socketProbePort, TimeUnit.MILLISECONDS.toNanos(socketTimeoutMillis))) {
+          // The monitoring connection is only needed while the socket probe fails.
+          this.closeMonitoringConnection();
+          return new ConnectionStatus(true, this.getCurrentTimeNano() - startNano);
+        }
+        LOGGER.finest(() -> Messages.get("MonitorImpl.socketProbeFailed", new Object[] {this.hostSpec.getHost()}));
+      }
+
       if (this.monitoringConn == null || this.monitoringConn.isClosed()) {
         // open a new connection
         final Properties monitoringConnProperties = PropertyUtils.copyProperties(this.properties);
@@ -356,6 +371,18 @@ public class MonitorImpl implements Monitor {
     }
   }
 
+  private void closeMonitoringConnection() {
+    final Connection conn = this.monitoringConn;
+    this.monitoringConn = null;
+    if (conn != null) {
+      try {
+        conn.close();
+      } catch (final SQLException ex) {
+        // ignore
+      }
+    }
+  }
+
   // This method helps to organize unit tests.
   long getCurrentTimeNano() {
     return System.nanoTime();
@@ -0,0 +1,192 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.util.LatencyHistogram;
+import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.StringUtils;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+
+/**
+ * Aborts the connections to an unhealthy host on a driver-wide pool of daemon threads, so that a monitor doesn't
+ * abort the connections of its host one at a time.
+ *
+ * <p>Each connection is aborted by its own task, spreading the connections of a host over all the threads of the
+ * pool. The work the target driver defers in {@link Connection#abort(Executor)} runs on a second pool of the same
+ * size, so that it doesn't queue behind the aborts. Every connection has a deadline: connections closed after their
+ * deadline are counted and logged, and the time from the failure detection to the close of each connection is
+ * recorded in a {@link LatencyHistogram}.
+ *
+ * <p>The pool size defaults to four times the number of available processors, with a minimum of 16, and can be
+ * changed with the {@value #POOL_SIZE_PROPERTY} system property. Idle threads are released after a while.
+ */
+public class AbortDispatcher {
+
+  private static final Logger LOGGER = Logger.getLogger(AbortDispatcher.class.getName());
+
+  public static final String POOL_SIZE_PROPERTY = "software.amazon.jdbc.plugin.efm2.AbortDispatcher.poolSize";
+
+  private static final long THREAD_KEEP_ALIVE_SEC = 60;
+
+  protected static final ThreadPoolExecutor executor = createExecutor("aws-jdbc-efm2-abort-");
+  protected static final ThreadPoolExecutor driverAbortExecutor = createExecutor("aws-jdbc-efm2-driver-abort-");
+
+  private final HostSpec hostSpec;
+  private final @Nullable TelemetryCounter missedDeadlinesCounter;
+  private final LatencyHistogram abortLatency = new LatencyHistogram();
+  private final LongAdder missedDeadlines = new LongAdder();
+
+  public AbortDispatcher(final @NonNull HostSpec hostSpec, final @Nullable TelemetryCounter missedDeadlinesCounter) {
+    this.hostSpec = hostSpec;
+    this.missedDeadlinesCounter = missedDeadlinesCounter;
+  }
+
+  /**
+   * Returns the executor to hand to {@link Connection#abort(Executor)}, separate from the one aborting the connections.
+   *
+   * @return the shared executor for the target driver abort work
+   */
+  public static Executor getExecutor() {
+    return driverAbortExecutor;
+  }
+
+  public static int getPoolSize() {
+    return executor.getMaximumPoolSize();
+  }
+
+  /**
+   * Schedules the abort of connections to the host of this dispatcher, without waiting for them to be aborted.
+   *
+   * @param connections the connections to abort
+   * @param detectionTimeNano the time the host failure was detected
+   * @param deadlineNano the time by which the connections should be aborted
+   */
+  public void abort(
+      final @NonNull Collection<Connection> connections,
+      final long detectionTimeNano,
+      final long deadlineNano) {
+    for (final Connection connection : connections) {
+      try {
+        executor.execute(() -> this.abortConnection(connection, detectionTimeNano, deadlineNano));
+      } catch (final RejectedExecutionException ex) {
+        this.abortConnection(connection, detectionTimeNano, deadlineNano);
+      }
+    }
+  }
+
+  /**
+   * Returns the time from the failure detection to the close of the connections dispatched so far.
+   *
+   * @return the abort latency histogram
+   */
+  public LatencyHistogram getAbortLatency() {
+    return this.abortLatency;
+  }
+
+  public long getMissedDeadlines() {
+    return this.missedDeadlines.sum();
+  }
+
+  protected void abortConnection(
+      final @NonNull Connection connection,
+      final long detectionTimeNano,
+      final long deadlineNano) {
+    try {
+      connection.abort(driverAbortExecutor);
+    } catch (final SQLException sqlEx) {
+      LOGGER.finest(
+          () -> Messages.get(
+              "MonitorConnectionContext.exceptionAbortingConnection",
+              new Object[] {sqlEx.getMessage()}));
+    }
+
+    try {
+      connection.close();
+    } catch (final SQLException sqlEx) {
+      // ignore
+      LOGGER.finest(
+          () -> Messages.get(
+              "MonitorConnectionContext.exceptionAbortingConnection",
+              new Object[] {sqlEx.getMessage()}));
+    }
+
+    final long closeTimeNano = System.nanoTime();
+    this.abortLatency.record(closeTimeNano - detectionTimeNano);
+    if (closeTimeNano > deadlineNano) {
+      this.missedDeadlines.increment();
+      if (this.missedDeadlinesCounter != null) {
+        this.missedDeadlinesCounter.inc();
+      }
+      LOGGER.fine(
+          () -> Messages.get(
+              "AbortDispatcher.deadlineMissed",
+              new Object[] {
+                  this.hostSpec.getHost(),
+                  TimeUnit.NANOSECONDS.toMillis(closeTimeNano - detectionTimeNano),
+                  TimeUnit.NANOSECONDS.toMillis(closeTimeNano - deadlineNano)}));
+    }
+  }
+
+  private static ThreadPoolExecutor createExecutor(final String threadNamePrefix) {
+    final int poolSize = getConfiguredPoolSize();
+    final AtomicInteger threadNumber = new AtomicInteger();
+    final ThreadPoolExecutor result = new ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        THREAD_KEEP_ALIVE_SEC,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        runnableTarget -> {
+          final Thread abortThread = new Thread(runnableTarget);
+          abortThread.setDaemon(true);
+          abortThread.setName(threadNamePrefix + threadNumber.incrementAndGet());
+          return abortThread;
+        });
+    result.allowCoreThreadTimeOut(true);
+    return result;
+  }
+
+  private static int getConfiguredPoolSize() {
+    final int defaultPoolSize = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+    final String poolSize = System.getProperty(POOL_SIZE_PROPERTY);
+    if (StringUtils.isNullOrEmpty(poolSize)) {
+      return defaultPoolSize;
+    }
+    try {
+      return Math.max(1, Integer.parseInt(poolSize.trim()));
+    } catch (final NumberFormatException ex) {
+      LOGGER.warning(() -> Messages.get(
+          "AbortDispatcher.invalidPoolSize",
+          new Object[] {POOL_SIZE_PROPERTY, poolSize, defaultPoolSize}));
+      return defaultPoolSize;
+    }
+  }
+}
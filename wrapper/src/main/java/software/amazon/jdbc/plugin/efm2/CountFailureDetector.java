@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+/**
+ * Considers a host unhealthy once its status checks kept failing for {@code failureDetectionCount - 1}
+ * failure detection intervals.
+ */
+public class CountFailureDetector implements FailureDetector {
+
+  private final long maxInvalidNodeDurationNano;
+  private long invalidNodeStartTimeNano;
+
+  public CountFailureDetector(final long failureDetectionIntervalNano, final int failureDetectionCount) {
+    this.maxInvalidNodeDurationNano = failureDetectionIntervalNano * Math.max(0, failureDetectionCount - 1);
+  }
+
+  @Override
+  public boolean isHostUnhealthy(
+      final boolean isValid,
+      final long statusCheckStartTimeNano,
+      final long statusCheckEndTimeNano) {
+    if (isValid) {
+      this.invalidNodeStartTimeNano = 0;
+      return false;
+    }
+
+    if (this.invalidNodeStartTimeNano == 0) {
+      this.invalidNodeStartTimeNano = statusCheckStartTimeNano;
+    }
+    return statusCheckEndTimeNano - this.invalidNodeStartTimeNano >= this.maxInvalidNodeDurationNano;
+  }
+}
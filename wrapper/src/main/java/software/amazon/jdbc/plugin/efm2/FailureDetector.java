@@ -0,0 +1,35 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+/**
+ * Decides from the results of the status checks of a host whether the host should be considered unhealthy.
+ *
+ * <p>A detector is used by a single monitor and is only called from the task probing the host.
+ */
+public interface FailureDetector {
+
+  /**
+   * Evaluates the result of a status check of the host.
+   *
+   * @param isValid whether the host responded
+   * @param statusCheckStartTimeNano the time the status check started
+   * @param statusCheckEndTimeNano the time the status check ended
+   * @return true if the host should be considered unhealthy
+   */
+  boolean isHostUnhealthy(boolean isValid, long statusCheckStartTimeNano, long statusCheckEndTimeNano);
+}
@@ -74,6 +74,37 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
           "3",
           "Number of failed connection checks before considering database node unhealthy.");
 
+  public static final String IS_VALID_PROBE_MODE = "isValid";
+  public static final String SOCKET_PROBE_MODE = "socket";
+
+  public static final AwsWrapperProperty FAILURE_DETECTION_PROBE_MODE =
+      new AwsWrapperProperty(
+          "failureDetectionProbeMode",
+          IS_VALID_PROBE_MODE,
+          "How to check a database node: with Connection.isValid() on a monitoring connection ('isValid'), "
+              + "or by opening a TCP socket, using a monitoring connection only when the socket fails ('socket').",
+          false,
+          new String[] {IS_VALID_PROBE_MODE, SOCKET_PROBE_MODE});
+
+  public static final String COUNT_FAILURE_DETECTION_MODE = "count";
+  public static final String PHI_ACCRUAL_FAILURE_DETECTION_MODE = "phiAccrual";
+
+  public static final AwsWrapperProperty FAILURE_DETECTION_MODE =
+      new AwsWrapperProperty(
+          "failureDetectionMode",
+          COUNT_FAILURE_DETECTION_MODE,
+          "How to decide that a database node is unhealthy: after a number of failed connection checks ('count'), "
+              + "or once its phi-accrual suspicion level reaches a threshold ('phiAccrual').",
+          false,
+          new String[] {COUNT_FAILURE_DETECTION_MODE, PHI_ACCRUAL_FAILURE_DETECTION_MODE});
+
+  public static final AwsWrapperProperty FAILURE_DETECTION_PHI_THRESHOLD =
+      new AwsWrapperProperty(
+          "failureDetectionPhiThreshold",
+          "8.0",
+          "Phi-accrual suspicion level at which a database node is considered unhealthy, "
+              + "when failureDetectionMode is 'phiAccrual'.");
+
   private static final Set<String> subscribedMethods =
       Collections.unmodifiableSet(new HashSet<>(Collections.singletonList("*")));
 
@@ -126,6 +157,12 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
     return subscribedMethods;
   }
 
+  @Override
+  public boolean isPassive(final String methodName) {
+    // Only network bound methods are monitored. Other methods are passed through as is.
+    return !SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(methodName);
+  }
+
   /**
    * Executes the given SQL function with {@link MonitorImpl} if connection monitoring is enabled.
    * Otherwise, executes the SQL function directly.
@@ -227,6 +264,12 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
       final @NonNull JdbcCallable<Connection, SQLException> connectFunc)
       throws SQLException {
 
+    if (FAILURE_DETECTION_ENABLED.getBoolean(props)
+        && PHI_ACCRUAL_FAILURE_DETECTION_MODE.equalsIgnoreCase(FAILURE_DETECTION_MODE.getString(props))) {
+      // Reject an invalid threshold before connecting, instead of when the connection is first monitored.
+      getFailureDetectionPhiThreshold(props);
+    }
+
     final Connection conn = connectFunc.call();
 
     if (conn != null) {
@@ -240,6 +283,43 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
     return conn;
   }
 
+  /**
+   * Returns how a database node is checked, falling back to {@link #IS_VALID_PROBE_MODE} for unknown modes.
+   *
+   * @param props the connection properties
+   * @return {@link #SOCKET_PROBE_MODE} or {@link #IS_VALID_PROBE_MODE}
+   */
+  static String getFailureDetectionProbeMode(final Properties props) {
+    return SOCKET_PROBE_MODE.equalsIgnoreCase(FAILURE_DETECTION_PROBE_MODE.getString(props))
+        ? SOCKET_PROBE_MODE
+        : IS_VALID_PROBE_MODE;
+  }
+
+  /**
+   * Returns the phi-accrual suspicion level at which a database node is considered unhealthy.
+   *
+   * @param props the connection properties
+   * @return the configured threshold
+   * @throws SQLException if the threshold isn't a positive number
+   */
+  static double getFailureDetectionPhiThreshold(final Properties props) throws SQLException {
+    final String value = FAILURE_DETECTION_PHI_THRESHOLD.getString(props);
+    double threshold = Double.NaN;
+    if (value != null) {
+      try {
+        threshold = Double.parseDouble(value.trim());
+      } catch (final NumberFormatException ex) {
+        // rejected below
+      }
+    }
+    if (!(threshold > 0) || Double.isInfinite(threshold)) {
+      throw new SQLException(Messages.get(
+          "HostMonitoringConnectionPlugin.invalidPhiThreshold",
+          new Object[] {FAILURE_DETECTION_PHI_THRESHOLD.name, value}));
+    }
+    return threshold;
+  }
+
   public HostSpec getMonitoringHostSpec() {
     if (this.monitoringHostSpec == null) {
       this.monitoringHostSpec = this.pluginService.getCurrentHostSpec();
@@ -0,0 +1,328 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.MonitoringScheduler;
+import software.amazon.jdbc.util.MonitoringScheduler.ScheduledTask;
+import software.amazon.jdbc.util.PropertyUtils;
+import software.amazon.jdbc.util.SocketProber;
+import software.amazon.jdbc.util.telemetry.TelemetryContext;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
+
+/**
+ * Checks the health of a host with a single monitoring connection, on behalf of all the monitors of the host.
+ *
+ * <p>Monitors are created for each combination of failure detection settings, so that connections with different
+ * settings have their own thresholds. They all share the probe of their host: it runs at the finest failure
+ * detection interval of its listeners and passes each result to all of them, each listener evaluating its own
+ * thresholds. A host is then checked by one connection and one schedule, whatever the number of applications and
+ * settings monitoring it in the JVM.
+ */
+public class HostProbe {
+
+  private static final Logger LOGGER = Logger.getLogger(HostProbe.class.getName());
+  private static final long THREAD_SLEEP_NANO = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final String MONITORING_PROPERTY_PREFIX = "monitoring-";
+
+  // Probes are keyed by probe mode, probe port and host, see getProbeKey().
+  protected static final Map<String, HostProbe> probes = new ConcurrentHashMap<>();
+
+  private final PluginService pluginService;
+  private final TelemetryFactory telemetryFactory;
+  private final HostSpec hostSpec;
+  private final Properties properties;
+  private final String probeKey;
+  private final Set<Listener> listeners = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  private final ScheduledTask probeTask;
+  // The port checked by the socket probe, or NO_PORT if the host is only checked with a monitoring connection.
+  private final int socketProbePort;
+  private volatile @Nullable Connection monitoringConn;
+
+  /**
+   * Receives the results of the probe of a host.
+   */
+  public interface Listener {
+
+    /**
+     * Returns the interval between two checks of the host required by this listener.
+     *
+     * @return the interval in nanoseconds
+     */
+    long getProbeIntervalNano();
+
+    /**
+     * Returns whether this listener currently needs the host to be checked, for instance because it has
+     * connections to monitor.
+     *
+     * @return true if the host should be checked
+     */
+    boolean needsProbe();
+
+    /**
+     * Processes the result of a check of the host. Called on the probe task, one result at a time.
+     *
+     * @param isValid whether the host responded
+     * @param checkStartTimeNano the time the check started
+     * @param checkEndTimeNano the time the check ended
+     */
+    void onProbeResult(boolean isValid, long checkStartTimeNano, long checkEndTimeNano);
+  }
+
+  protected HostProbe(
+      final @NonNull PluginService pluginService,
+      final @NonNull HostSpec hostSpec,
+      final @NonNull Properties properties,
+      final @NonNull String probeKey,
+      final int socketProbePort) {
+    this.pluginService = pluginService;
+    this.telemetryFactory = pluginService.getTelemetryFactory();
+    this.hostSpec = hostSpec;
+    this.properties = properties;
+    this.probeKey = probeKey;
+    this.socketProbePort = socketProbePort;
+
+    LOGGER.finest(() -> Messages.get("HostProbe.started", new Object[] {this.hostSpec.getHost()}));
+    this.probeTask = MonitoringScheduler.schedule(
+        "efm2 host probe " + this.hostSpec.getHost(), this::probe, 0, this.telemetryFactory);
+  }
+
+  /**
+   * Adds a listener to the probe of a host, creating the probe if the host isn't checked yet. Listeners share a probe
+   * only if they check the host the same way: a socket probe and a probe that only uses the monitoring connection
+   * are separate, as are socket probes of different ports.
+   *
+   * @param pluginService the plugin service used to open the monitoring connection
+   * @param hostSpec the host to check
+   * @param properties the properties of the monitoring connection
+   * @param listener the listener
+   * @return the probe of the host
+   */
+  public static HostProbe subscribe(
+      final @NonNull PluginService pluginService,
+      final @NonNull HostSpec hostSpec,
+      final @NonNull Properties properties,
+      final @NonNull Listener listener) {
+    final int socketProbePort = getSocketProbePort(pluginService, hostSpec, properties);
+    final String probeKey = getProbeKey(hostSpec, properties, socketProbePort);
+    return probes.compute(probeKey, (key, probe) -> {
+      final HostProbe hostProbe = probe == null
+          ? new HostProbe(pluginService, hostSpec, properties, probeKey, socketProbePort)
+          : probe;
+      hostProbe.listeners.add(listener);
+      return hostProbe;
+    });
+  }
+
+  /**
+   * Removes a listener. The probe is stopped once it has no listener left.
+   *
+   * @param listener the listener to remove
+   */
+  public void unsubscribe(final @NonNull Listener listener) {
+    final AtomicBoolean lastListener = new AtomicBoolean(false);
+    probes.computeIfPresent(this.probeKey, (key, probe) -> {
+      if (probe != this) {
+        return probe;
+      }
+      this.listeners.remove(listener);
+      if (!this.listeners.isEmpty()) {
+        return probe;
+      }
+      // Removed from the map before being stopped, so that new listeners get a new probe.
+      lastListener.set(true);
+      return null;
+    });
+    if (lastListener.get()) {
+      this.close();
+    }
+  }
+
+  public int getListenerCount() {
+    return this.listeners.size();
+  }
+
+  protected void close() {
+    this.stopped.set(true);
+    this.probeTask.cancel();
+    try {
+      // Waiting for 30s gives a status check in progress enough time to complete.
+      if (!this.probeTask.awaitTermination(30, TimeUnit.SECONDS)) {
+        this.probeTask.cancel(true);
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      this.probeTask.cancel(true);
+    }
+    this.closeMonitoringConnection();
+    LOGGER.finest(() -> Messages.get("HostProbe.stopped", new Object[] {this.hostSpec.getHost()}));
+  }
+
+  /**
+   * Checks the host if a listener needs it, and passes the result to every listener.
+   *
+   * @return the delay in nanoseconds before the next check, or -1 once the probe is stopped
+   */
+  protected long probe() {
+    if (this.stopped.get()) {
+      this.closeMonitoringConnection();
+      return -1;
+    }
+
+    long intervalNano = Long.MAX_VALUE;
+    boolean needsProbe = false;
+    for (final Listener listener : this.listeners) {
+      intervalNano = Math.min(intervalNano, listener.getProbeIntervalNano());
+      needsProbe |= listener.needsProbe();
+    }
+    if (!needsProbe) {
+      return THREAD_SLEEP_NANO;
+    }
+
+    final long checkStartTimeNano = this.getCurrentTimeNano();
+    final boolean isValid = this.checkConnectionStatus(intervalNano);
+    final long checkEndTimeNano = this.getCurrentTimeNano();
+
+    for (final Listener listener : this.listeners) {
+      if (this.stopped.get()) {
+        return -1;
+      }
+      try {
+        listener.onProbeResult(isValid, checkStartTimeNano, checkEndTimeNano);
+      } catch (final Exception ex) {
+        // A failing listener doesn't prevent the other listeners from being notified.
+        LOGGER.log(
+            Level.FINEST,
+            Messages.get("HostProbe.listenerFailed", new Object[] {this.hostSpec.getHost()}),
+            ex);
+      }
+    }
+
+    return Math.max(THREAD_SLEEP_NANO, intervalNano - (checkEndTimeNano - checkStartTimeNano));
+  }
+
+  // This method helps to organize unit tests.
+  long getCurrentTimeNano() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Check the status of the monitored server by establishing a connection and sending a ping. In the socket probe
+   * mode, the server is first checked by opening a TCP socket, and the monitoring connection is only used when the
+   * socket fails.
+   *
+   * @param intervalNano the interval between two checks
+   * @return True, if the server is still alive.
+   */
+  boolean checkConnectionStatus(final long intervalNano) {
+    final TelemetryContext connectContext = telemetryFactory.openTelemetryContext(
+        "connection status check", TelemetryTraceLevel.FORCE_TOP_LEVEL);
+    connectContext.setAttribute("url", this.hostSpec.getHost());
+
+    try {
+      if (this.socketProbePort != HostSpec.NO_PORT) {
+        final long socketTimeoutNano = Math.max(THREAD_SLEEP_NANO, (intervalNano - THREAD_SLEEP_NANO) / 2);
+        if (SocketProber.isReachable(this.hostSpec.getHost(), this.socketProbePort, socketTimeoutNano)) {
+          // The monitoring connection is only needed while the socket probe fails.
+          this.closeMonitoringConnection();
+          return true;
+        }
+        LOGGER.finest(() -> Messages.get("HostProbe.socketProbeFailed", new Object[] {this.hostSpec.getHost()}));
+      }
+
+      final Connection conn = this.monitoringConn;
+      if (conn == null || conn.isClosed()) {
+        // open a new connection
+        final Properties monitoringConnProperties = PropertyUtils.copyProperties(this.properties);
+
+        this.properties.stringPropertyNames().stream()
+            .filter(p -> p.startsWith(MONITORING_PROPERTY_PREFIX))
+            .forEach(
+                p -> {
+                  monitoringConnProperties.put(
+                      p.substring(MONITORING_PROPERTY_PREFIX.length()),
+                      this.properties.getProperty(p));
+                  monitoringConnProperties.remove(p);
+                });
+
+        LOGGER.finest(() -> "Opening a monitoring connection to " + this.hostSpec.getUrl());
+        this.monitoringConn = this.pluginService.forceConnect(this.hostSpec, monitoringConnProperties);
+        LOGGER.finest(() -> "Opened monitoring connection: " + this.monitoringConn);
+        return true;
+      }
+
+      // Some drivers, like MySQL Connector/J, execute isValid() in a double of specified timeout time.
+      final int validTimeout = (int) TimeUnit.NANOSECONDS.toSeconds(intervalNano - THREAD_SLEEP_NANO) / 2;
+      return conn.isValid(validTimeout);
+
+    } catch (final SQLException sqlEx) {
+      return false;
+
+    } finally {
+      connectContext.closeContext();
+    }
+  }
+
+  private static String getProbeKey(
+      final HostSpec hostSpec,
+      final Properties properties,
+      final int socketProbePort) {
+    return String.format("%s:%d:%s",
+        HostMonitoringConnectionPlugin.getFailureDetectionProbeMode(properties),
+        socketProbePort,
+        hostSpec.getUrl());
+  }
+
+  private static int getSocketProbePort(
+      final PluginService pluginService,
+      final HostSpec hostSpec,
+      final Properties properties) {
+    if (!HostMonitoringConnectionPlugin.SOCKET_PROBE_MODE.equals(
+        HostMonitoringConnectionPlugin.getFailureDetectionProbeMode(properties))) {
+      return HostSpec.NO_PORT;
+    }
+    return hostSpec.isPortSpecified() ? hostSpec.getPort() : pluginService.getDialect().getDefaultPort();
+  }
+
+  private void closeMonitoringConnection() {
+    final Connection conn = this.monitoringConn;
+    this.monitoringConn = null;
+    if (conn != null) {
+      try {
+        conn.close();
+      } catch (final SQLException ex) {
+        // ignore
+      }
+    }
+  }
+}
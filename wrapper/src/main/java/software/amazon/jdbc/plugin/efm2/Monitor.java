@@ -17,10 +17,10 @@
 package software.amazon.jdbc.plugin.efm2;
 
 /**
- * Interface for monitors. This class uses background threads to monitor servers with one or more
+ * Interface for monitors. This class uses background tasks to monitor servers with one or more
  * connections for more efficient failure detection during method execution.
  */
-public interface Monitor extends AutoCloseable, Runnable {
+public interface Monitor extends AutoCloseable {
 
   void startMonitoring(MonitorConnectionContext context);
 
@@ -26,9 +26,6 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
@@ -37,26 +34,27 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.util.LatencyHistogram;
 import software.amazon.jdbc.util.Messages;
-import software.amazon.jdbc.util.PropertyUtils;
+import software.amazon.jdbc.util.MonitoringScheduler;
+import software.amazon.jdbc.util.MonitoringScheduler.ScheduledTask;
 import software.amazon.jdbc.util.StringUtils;
-import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryGauge;
-import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
 
 /**
- * This class uses a background thread to monitor a particular server with one or more active {@link
- * Connection}.
+ * This class uses background tasks to monitor a particular server with one or more active {@link
+ * Connection}. The tasks run on the shared {@link MonitoringScheduler}.
+ *
+ * <p>The server is checked by the {@link HostProbe} shared by all the monitors of the server. This monitor
+ * evaluates its failure detection settings against the results of the probe, and aborts its connections when the
+ * server is considered unhealthy.
  */
-public class MonitorImpl implements Monitor {
+public class MonitorImpl implements Monitor, HostProbe.Listener {
 
   private static final Logger LOGGER = Logger.getLogger(MonitorImpl.class.getName());
-  private static final long THREAD_SLEEP_NANO = TimeUnit.MILLISECONDS.toNanos(100);
-  private static final String MONITORING_PROPERTY_PREFIX = "monitoring-";
-
-  protected static final Executor ABORT_EXECUTOR = Executors.newSingleThreadExecutor();
+  private static final long NEW_CONTEXTS_CHECK_INTERVAL_NANO = TimeUnit.SECONDS.toNanos(1);
 
   private final Queue<WeakReference<MonitorConnectionContext>> activeContexts = new ConcurrentLinkedQueue<>();
   private final Map<Long, Queue<WeakReference<MonitorConnectionContext>>> newContexts =
@@ -66,25 +64,25 @@ public class MonitorImpl implements Monitor {
   private final Properties properties;
   private final HostSpec hostSpec;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
-  private Connection monitoringConn = null;
-  private final ExecutorService threadPool = Executors.newFixedThreadPool(2, runnableTarget -> {
-    final Thread monitoringThread = new Thread(runnableTarget);
-    monitoringThread.setDaemon(true);
-    return monitoringThread;
-  });
+  private final ScheduledTask newContextsTask;
+  private final HostProbe hostProbe;
+  private final AbortDispatcher abortDispatcher;
 
   private final long failureDetectionTimeNano;
   private final long failureDetectionIntervalNano;
-  private final int failureDetectionCount;
+  private final FailureDetector failureDetector;
 
-  private long invalidNodeStartTimeNano;
+  // Only accessed by the host probe task, whose iterations never overlap.
   private long failureCount;
-  private boolean nodeUnhealthy = false;
+  private volatile boolean nodeUnhealthy = false;
 
 
   private final TelemetryGauge newContextsSizeGauge;
   private final TelemetryGauge activeContextsSizeGauge;
   private final TelemetryGauge nodeHealtyGauge;
+  private final TelemetryGauge abortLatencyP50Gauge;
+  private final TelemetryGauge abortLatencyP99Gauge;
+  private final TelemetryGauge abortLatencyMaxGauge;
   private final TelemetryCounter abortedConnectionsCounter;
 
   /**
@@ -115,7 +113,7 @@ public class MonitorImpl implements Monitor {
     this.properties = properties;
     this.failureDetectionTimeNano = TimeUnit.MILLISECONDS.toNanos(failureDetectionTimeMillis);
     this.failureDetectionIntervalNano = TimeUnit.MILLISECONDS.toNanos(failureDetectionIntervalMillis);
-    this.failureDetectionCount = failureDetectionCount;
+    this.failureDetector = createFailureDetector(properties, this.failureDetectionIntervalNano, failureDetectionCount);
     this.abortedConnectionsCounter = abortedConnectionsCounter;
 
     final String hostId = StringUtils.isNullOrEmpty(this.hostSpec.getHostId())
@@ -134,9 +132,33 @@ public class MonitorImpl implements Monitor {
         String.format("efm2.nodeHealthy.%s", hostId),
         () -> this.nodeUnhealthy ? 0L : 1L);
 
-    this.threadPool.submit(this::newContextRun); // task to handle new contexts
-    this.threadPool.submit(this); // task to handle active monitoring contexts
-    this.threadPool.shutdown(); // No more tasks are accepted by pool.
+    this.abortDispatcher = new AbortDispatcher(
+        this.hostSpec,
+        telemetryFactory.createCounter(String.format("efm2.abortDeadlineMissed.%s", hostId)));
+    final LatencyHistogram abortLatency = this.abortDispatcher.getAbortLatency();
+
+    this.abortLatencyP50Gauge = telemetryFactory.createGauge(
+        String.format("efm2.abortLatencyMillis.p50.%s", hostId),
+        () -> TimeUnit.NANOSECONDS.toMillis(abortLatency.getPercentileNano(50)));
+
+    this.abortLatencyP99Gauge = telemetryFactory.createGauge(
+        String.format("efm2.abortLatencyMillis.p99.%s", hostId),
+        () -> TimeUnit.NANOSECONDS.toMillis(abortLatency.getPercentileNano(99)));
+
+    this.abortLatencyMaxGauge = telemetryFactory.createGauge(
+        String.format("efm2.abortLatencyMillis.max.%s", hostId),
+        () -> TimeUnit.NANOSECONDS.toMillis(abortLatency.getMaxNano()));
+
+    LOGGER.finest(() -> Messages.get(
+        "MonitorImpl.startMonitoringThreadNewContext",
+        new Object[]{this.hostSpec.getHost()}));
+    this.newContextsTask = MonitoringScheduler.schedule(
+        "efm2 new contexts " + this.hostSpec.getHost(), this::checkNewContexts, 0, this.telemetryFactory);
+
+    LOGGER.finest(() -> Messages.get(
+        "MonitorImpl.startMonitoringThread",
+        new Object[]{this.hostSpec.getHost()}));
+    this.hostProbe = HostProbe.subscribe(this.pluginService, this.hostSpec, this.properties, this);
   }
 
   @Override
@@ -147,10 +169,11 @@ public class MonitorImpl implements Monitor {
   @Override
   public void close() throws Exception {
     this.stopped.set(true);
+    this.newContextsTask.cancel();
+    this.hostProbe.unsubscribe(this);
 
-    // Waiting for 30s gives a thread enough time to exit monitoring loop and close database connection.
-    if (!this.threadPool.awaitTermination(30, TimeUnit.SECONDS)) {
-      this.threadPool.shutdownNow();
+    if (!this.newContextsTask.awaitTermination(30, TimeUnit.SECONDS)) {
+      this.newContextsTask.cancel(true);
     }
     LOGGER.finest(() -> Messages.get(
         "MonitorImpl.stopped",
@@ -192,43 +215,46 @@ public class MonitorImpl implements Monitor {
     return System.nanoTime();
   }
 
-  public void newContextRun() {
-
-    LOGGER.finest(() -> Messages.get(
-        "MonitorImpl.startMonitoringThreadNewContext",
-        new Object[]{this.hostSpec.getHost()}));
+  /**
+   * Moves the new contexts whose monitoring start time has come to the active contexts.
+   *
+   * @return the delay in nanoseconds before the next check, or -1 once the monitor is stopped
+   */
+  protected long checkNewContexts() {
+    if (this.stopped.get()) {
+      LOGGER.finest(() -> Messages.get(
+          "MonitorImpl.stopMonitoringThreadNewContext",
+          new Object[]{this.hostSpec.getHost()}));
+      return -1;
+    }
 
     try {
-      while (!this.stopped.get()) {
-
-        final long currentTimeNano = this.getCurrentTimeNano();
-
-        final ArrayList<Long> processedKeys = new ArrayList<>();
-        this.newContexts.entrySet().stream()
-            // Get entries with key (that is a time in nanos) less or equal than current time.
-            .filter(entry -> entry.getKey() < currentTimeNano)
-            .forEach(entry -> {
-              final Queue<WeakReference<MonitorConnectionContext>> queue = entry.getValue();
-              processedKeys.add(entry.getKey());
-              // Each value of found entry is a queue of monitoring contexts awaiting active monitoring.
-              // Add all contexts to an active monitoring contexts queue.
-              // Ignore disposed contexts.
-              WeakReference<MonitorConnectionContext> contextWeakRef;
-              while ((contextWeakRef = queue.poll()) != null) {
-                MonitorConnectionContext context = contextWeakRef.get();
-                if (context != null && context.isActive()) {
-                  this.activeContexts.add(contextWeakRef);
-                }
+      final long currentTimeNano = this.getCurrentTimeNano();
+
+      final ArrayList<Long> processedKeys = new ArrayList<>();
+      this.newContexts.entrySet().stream()
+          // Get entries with key (that is a time in nanos) less or equal than current time.
+          .filter(entry -> entry.getKey() < currentTimeNano)
+          .forEach(entry -> {
+            final Queue<WeakReference<MonitorConnectionContext>> queue = entry.getValue();
+            processedKeys.add(entry.getKey());
+            // Each value of found entry is a queue of monitoring contexts awaiting active monitoring.
+            // Add all contexts to an active monitoring contexts queue.
+            // Ignore disposed contexts.
+            WeakReference<MonitorConnectionContext> contextWeakRef;
+            while ((contextWeakRef = queue.poll()) != null) {
+              MonitorConnectionContext context = contextWeakRef.get();
+              if (context != null && context.isActive()) {
+                this.activeContexts.add(contextWeakRef);
               }
-            });
-        processedKeys.forEach(this.newContexts::remove);
+            }
+          });
+      processedKeys.forEach(this.newContexts::remove);
+
+      return NEW_CONTEXTS_CHECK_INTERVAL_NANO;
 
-        TimeUnit.SECONDS.sleep(1);
-      }
-    } catch (final InterruptedException intEx) {
-      // do nothing; just exit the thread
     } catch (final Exception ex) {
-      // this should not be reached; log and exit thread
+      // this should not be reached; log and stop the task
       if (LOGGER.isLoggable(Level.FINEST)) {
         LOGGER.log(
             Level.FINEST,
@@ -237,145 +263,84 @@ public class MonitorImpl implements Monitor {
                 new Object[]{this.hostSpec.getHost()}),
             ex); // We want to print full trace stack of the exception.
       }
+      LOGGER.finest(() -> Messages.get(
+          "MonitorImpl.stopMonitoringThreadNewContext",
+          new Object[]{this.hostSpec.getHost()}));
+      return -1;
     }
-
-    LOGGER.finest(() -> Messages.get(
-        "MonitorImpl.stopMonitoringThreadNewContext",
-        new Object[]{this.hostSpec.getHost()}));
   }
 
   @Override
-  public void run() {
-
-    LOGGER.finest(() -> Messages.get(
-        "MonitorImpl.startMonitoringThread",
-        new Object[]{this.hostSpec.getHost()}));
-
-    try {
-      while (!this.stopped.get()) {
-
-        if (this.activeContexts.isEmpty() && !this.nodeUnhealthy) {
-          TimeUnit.NANOSECONDS.sleep(THREAD_SLEEP_NANO);
-          continue;
-        }
+  public long getProbeIntervalNano() {
+    return this.failureDetectionIntervalNano;
+  }
 
-        final long statusCheckStartTimeNano = this.getCurrentTimeNano();
-        final boolean isValid = this.checkConnectionStatus();
-        final long statusCheckEndTimeNano = this.getCurrentTimeNano();
+  @Override
+  public boolean needsProbe() {
+    return !this.stopped.get() && (!this.activeContexts.isEmpty() || this.nodeUnhealthy);
+  }
 
-        this.updateNodeHealthStatus(isValid, statusCheckStartTimeNano, statusCheckEndTimeNano);
+  /**
+   * Evaluates the result of a status check of the monitored server and aborts the connections of the active
+   * contexts if the server is unhealthy.
+   *
+   * @param isValid whether the server responded
+   * @param statusCheckStartTimeNano the time the status check started
+   * @param statusCheckEndTimeNano the time the status check ended
+   */
+  @Override
+  public void onProbeResult(
+      final boolean isValid,
+      final long statusCheckStartTimeNano,
+      final long statusCheckEndTimeNano) {
+    if (this.stopped.get()) {
+      return;
+    }
 
-        if (this.nodeUnhealthy) {
-          this.pluginService.setAvailability(this.hostSpec.asAliases(), HostAvailability.NOT_AVAILABLE);
-        }
+    this.updateNodeHealthStatus(isValid, statusCheckStartTimeNano, statusCheckEndTimeNano);
 
-        final List<WeakReference<MonitorConnectionContext>> tmpActiveContexts = new ArrayList<>();
-        WeakReference<MonitorConnectionContext> monitorContextWeakRef;
-
-        while ((monitorContextWeakRef = this.activeContexts.poll()) != null) {
-          if (this.stopped.get()) {
-            break;
-          }
-
-          MonitorConnectionContext monitorContext = monitorContextWeakRef.get();
-          if (monitorContext == null) {
-            continue;
-          }
-
-          if (this.nodeUnhealthy) {
-            // Kill connection.
-            monitorContext.setNodeUnhealthy(true);
-            final Connection connectionToAbort = monitorContext.getConnection();
-            monitorContext.setInactive();
-            if (connectionToAbort != null) {
-              this.abortConnection(connectionToAbort);
-              this.abortedConnectionsCounter.inc();
-            }
-          } else if (monitorContext.isActive()) {
-            tmpActiveContexts.add(monitorContextWeakRef);
-          }
-        }
+    if (this.nodeUnhealthy) {
+      this.pluginService.setAvailability(this.hostSpec.asAliases(), HostAvailability.NOT_AVAILABLE);
+    }
 
-        // activeContexts is empty now and tmpActiveContexts contains all yet active contexts
-        // Add active contexts back to the queue.
-        this.activeContexts.addAll(tmpActiveContexts);
+    final List<WeakReference<MonitorConnectionContext>> tmpActiveContexts = new ArrayList<>();
+    final List<Connection> connectionsToAbort = new ArrayList<>();
+    WeakReference<MonitorConnectionContext> monitorContextWeakRef;
 
-        long delayNano = this.failureDetectionIntervalNano - (statusCheckEndTimeNano - statusCheckStartTimeNano);
-        if (delayNano < THREAD_SLEEP_NANO) {
-          delayNano = THREAD_SLEEP_NANO;
-        }
-        TimeUnit.NANOSECONDS.sleep(delayNano);
+    while ((monitorContextWeakRef = this.activeContexts.poll()) != null) {
+      if (this.stopped.get()) {
+        break;
       }
-    } catch (final InterruptedException intEx) {
-      // do nothing
-    } catch (final Exception ex) {
-      // this should not be reached; log and exit thread
-      if (LOGGER.isLoggable(Level.FINEST)) {
-        LOGGER.log(
-            Level.FINEST,
-            Messages.get(
-                "MonitorImpl.exceptionDuringMonitoringStop",
-                new Object[]{this.hostSpec.getHost()}),
-            ex); // We want to print full trace stack of the exception.
+
+      MonitorConnectionContext monitorContext = monitorContextWeakRef.get();
+      if (monitorContext == null) {
+        continue;
       }
-    } finally {
-      this.stopped.set(true);
-      if (this.monitoringConn != null) {
-        try {
-          this.monitoringConn.close();
-        } catch (final SQLException ex) {
-          // ignore
+
+      if (this.nodeUnhealthy) {
+        // Kill connection.
+        monitorContext.setNodeUnhealthy(true);
+        final Connection connectionToAbort = monitorContext.getConnection();
+        monitorContext.setInactive();
+        if (connectionToAbort != null) {
+          connectionsToAbort.add(connectionToAbort);
+          this.abortedConnectionsCounter.inc();
         }
+      } else if (monitorContext.isActive()) {
+        tmpActiveContexts.add(monitorContextWeakRef);
       }
     }
 
-    LOGGER.finest(() -> Messages.get(
-        "MonitorImpl.stopMonitoringThread",
-        new Object[]{this.hostSpec.getHost()}));
-  }
-
-  /**
-   * Check the status of the monitored server by establishing a connection and sending a ping.
-   *
-   * @return True, if the server is still alive.
-   */
-  boolean checkConnectionStatus() {
-    TelemetryContext connectContext = telemetryFactory.openTelemetryContext(
-        "connection status check", TelemetryTraceLevel.FORCE_TOP_LEVEL);
-    connectContext.setAttribute("url", this.hostSpec.getHost());
-
-    try {
-      if (this.monitoringConn == null || this.monitoringConn.isClosed()) {
-        // open a new connection
-        final Properties monitoringConnProperties = PropertyUtils.copyProperties(this.properties);
-
-        this.properties.stringPropertyNames().stream()
-            .filter(p -> p.startsWith(MONITORING_PROPERTY_PREFIX))
-            .forEach(
-                p -> {
-                  monitoringConnProperties.put(
-                      p.substring(MONITORING_PROPERTY_PREFIX.length()),
-                      this.properties.getProperty(p));
-                  monitoringConnProperties.remove(p);
-                });
-
-        LOGGER.finest(() -> "Opening a monitoring connection to " + this.hostSpec.getUrl());
-        this.monitoringConn = this.pluginService.forceConnect(this.hostSpec, monitoringConnProperties);
-        LOGGER.finest(() -> "Opened monitoring connection: " + this.monitoringConn);
-        return true;
-      }
-
-      // Some drivers, like MySQL Connector/J, execute isValid() in a double of specified timeout time.
-      final int validTimeout = (int) TimeUnit.NANOSECONDS.toSeconds(
-          this.failureDetectionIntervalNano - THREAD_SLEEP_NANO) / 2;
-      final boolean isValid = this.monitoringConn.isValid(validTimeout);
-      return isValid;
+    // activeContexts is empty now and tmpActiveContexts contains all yet active contexts
+    // Add active contexts back to the queue.
+    this.activeContexts.addAll(tmpActiveContexts);
 
-    } catch (final SQLException sqlEx) {
-      return false;
-
-    } finally {
-      connectContext.closeContext();
+    if (!connectionsToAbort.isEmpty()) {
+      // The connections should be aborted before the next status check of the host.
+      this.abortDispatcher.abort(
+          connectionsToAbort,
+          statusCheckEndTimeNano,
+          statusCheckEndTimeNano + this.failureDetectionIntervalNano);
     }
   }
 
@@ -384,18 +349,13 @@ public class MonitorImpl implements Monitor {
       final long statusCheckStartNano,
       final long statusCheckEndNano) {
 
+    final boolean unhealthy =
+        this.failureDetector.isHostUnhealthy(connectionValid, statusCheckStartNano, statusCheckEndNano);
+
     if (!connectionValid) {
       this.failureCount++;
 
-      if (this.invalidNodeStartTimeNano == 0) {
-        this.invalidNodeStartTimeNano = statusCheckStartNano;
-      }
-
-      final long invalidNodeDurationNano = statusCheckEndNano - this.invalidNodeStartTimeNano;
-      final long maxInvalidNodeDurationNano =
-          this.failureDetectionIntervalNano * Math.max(0, this.failureDetectionCount - 1);
-
-      if (invalidNodeDurationNano >= maxInvalidNodeDurationNano) {
+      if (unhealthy) {
         LOGGER.fine(() -> Messages.get("MonitorConnectionContext.hostDead", new Object[] {this.hostSpec.getHost()}));
         this.nodeUnhealthy = true;
         return;
@@ -416,21 +376,31 @@ public class MonitorImpl implements Monitor {
     }
 
     this.failureCount = 0;
-    this.invalidNodeStartTimeNano = 0;
     this.nodeUnhealthy = false;
   }
 
-  private void abortConnection(final @NonNull Connection connectionToAbort) {
-    try {
-      connectionToAbort.abort(ABORT_EXECUTOR);
-      connectionToAbort.close();
-    } catch (final SQLException sqlEx) {
-      // ignore
-      LOGGER.finest(
-          () -> Messages.get(
-              "MonitorConnectionContext.exceptionAbortingConnection",
-              new Object[] {sqlEx.getMessage()}));
+  private static FailureDetector createFailureDetector(
+      final Properties properties,
+      final long failureDetectionIntervalNano,
+      final int failureDetectionCount) {
+    final String mode = HostMonitoringConnectionPlugin.FAILURE_DETECTION_MODE.getString(properties);
+    if (HostMonitoringConnectionPlugin.PHI_ACCRUAL_FAILURE_DETECTION_MODE.equalsIgnoreCase(mode)) {
+      final double threshold;
+      try {
+        threshold = HostMonitoringConnectionPlugin.getFailureDetectionPhiThreshold(properties);
+      } catch (final SQLException ex) {
+        // The threshold is validated when connecting, unless the properties changed since.
+        throw new IllegalArgumentException(ex.getMessage(), ex);
+      }
+      return new PhiAccrualFailureDetector(
+          threshold,
+          failureDetectionIntervalNano,
+          PhiAccrualFailureDetector.DEFAULT_WINDOW_SIZE);
+    }
+    if (!HostMonitoringConnectionPlugin.COUNT_FAILURE_DETECTION_MODE.equalsIgnoreCase(mode)) {
+      LOGGER.warning(() -> Messages.get("MonitorImpl.unknownFailureDetectionMode", new Object[] {mode}));
     }
+    return new CountFailureDetector(failureDetectionIntervalNano, failureDetectionCount);
   }
 
 }
@@ -19,8 +19,6 @@ package software.amazon.jdbc.plugin.efm2;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -47,8 +45,6 @@ public class MonitorServiceImpl implements MonitorService {
 
   protected static final long CACHE_CLEANUP_NANO = TimeUnit.MINUTES.toNanos(1);
 
-  protected static final Executor ABORT_EXECUTOR = Executors.newSingleThreadExecutor();
-
   protected static final SlidingExpirationCacheWithCleanupThread<String, Monitor> monitors =
       new SlidingExpirationCacheWithCleanupThread<>(
           Monitor::canDispose,
@@ -135,7 +131,7 @@ public class MonitorServiceImpl implements MonitorService {
     if (context.shouldAbort()) {
       context.setInactive();
       try {
-        connectionToAbort.abort(ABORT_EXECUTOR);
+        connectionToAbort.abort(AbortDispatcher.getExecutor());
         connectionToAbort.close();
         this.abortedConnectionsCounter.inc();
       } catch (final SQLException sqlEx) {
@@ -172,10 +168,13 @@ public class MonitorServiceImpl implements MonitorService {
       final int failureDetectionIntervalMillis,
       final int failureDetectionCount) {
 
-    final String monitorKey = String.format("%d:%d:%d:%s",
+    final String monitorKey = String.format("%d:%d:%d:%s:%s:%s:%s",
         failureDetectionTimeMillis,
         failureDetectionIntervalMillis,
         failureDetectionCount,
+        HostMonitoringConnectionPlugin.FAILURE_DETECTION_MODE.getString(properties),
+        HostMonitoringConnectionPlugin.FAILURE_DETECTION_PHI_THRESHOLD.getString(properties),
+        HostMonitoringConnectionPlugin.getFailureDetectionProbeMode(properties),
         hostSpec.getUrl());
 
     final long cacheExpirationNano = TimeUnit.MILLISECONDS.toNanos(
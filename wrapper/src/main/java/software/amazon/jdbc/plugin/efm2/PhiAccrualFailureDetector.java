@@ -0,0 +1,158 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+/**
+ * Considers a host unhealthy once its phi-accrual suspicion level reaches a threshold, adapting to the actual
+ * behavior of the network instead of relying on a fixed number of failed status checks.
+ *
+ * <p>Every successful status check of the host is a heartbeat. The detector keeps the intervals between the last
+ * heartbeats in a ring buffer, and models them with a normal distribution whose mean and variance are kept up to
+ * date as intervals are added, so that a failed check doesn't visit the window. When a status check fails, the
+ * suspicion level phi is {@code -log10} of the probability of waiting longer than the time since the last
+ * heartbeat: a phi of 1 means a 10% chance of being wrong when considering the host unhealthy, a phi of 8 a
+ * 0.000001% chance. The intervals covering failed checks are part of the window, so the detector needs more
+ * evidence on lossy networks, and less on stable ones.
+ *
+ * <p>The standard deviation is at least a tenth of the failure detection interval, which keeps a single slow
+ * status check from being enough on a very stable network. Until the first heartbeats are recorded, the intervals
+ * are assumed to be equal to the failure detection interval. The time during which the host is considered
+ * unhealthy isn't recorded, nor the time the host isn't probed because no connection is monitored.
+ */
+public class PhiAccrualFailureDetector implements FailureDetector {
+
+  // A smaller window makes the detector too confident after a run of heartbeats without losses on a lossy network.
+  public static final int DEFAULT_WINDOW_SIZE = 1000;
+
+  // Status checks further apart than this many failure detection intervals mean the host wasn't probed meanwhile.
+  private static final int IDLE_INTERVALS = 2;
+
+  private final double threshold;
+  private final long failureDetectionIntervalNano;
+  private final double minStdDeviationNano;
+  private final long[] intervals;
+  private int intervalCount;
+  private int nextIntervalIndex;
+  private long intervalSumNano;
+  // The sum of the squared differences between the intervals and the failure detection interval. Differences are
+  // used instead of the intervals themselves to keep the variance accurate. Recomputed each time the ring buffer
+  // wraps around, so that rounding errors don't accumulate.
+  private double squaredDeviationSum;
+
+  private long lastHeartbeatTimeNano;
+  private long lastStatusCheckEndTimeNano;
+  private boolean hostUnhealthy;
+
+  public PhiAccrualFailureDetector(
+      final double threshold,
+      final long failureDetectionIntervalNano,
+      final int windowSize) {
+    this.threshold = threshold;
+    this.failureDetectionIntervalNano = failureDetectionIntervalNano;
+    this.minStdDeviationNano = failureDetectionIntervalNano / 10.0;
+    this.intervals = new long[Math.max(1, windowSize)];
+  }
+
+  @Override
+  public boolean isHostUnhealthy(
+      final boolean isValid,
+      final long statusCheckStartTimeNano,
+      final long statusCheckEndTimeNano) {
+    if (this.lastStatusCheckEndTimeNano != 0
+        && statusCheckStartTimeNano - this.lastStatusCheckEndTimeNano
+            > IDLE_INTERVALS * this.failureDetectionIntervalNano) {
+      this.lastHeartbeatTimeNano = 0;
+    }
+    this.lastStatusCheckEndTimeNano = statusCheckEndTimeNano;
+
+    if (isValid) {
+      if (this.lastHeartbeatTimeNano != 0 && !this.hostUnhealthy) {
+        this.addInterval(statusCheckEndTimeNano - this.lastHeartbeatTimeNano);
+      }
+      this.lastHeartbeatTimeNano = statusCheckEndTimeNano;
+      this.hostUnhealthy = false;
+      return false;
+    }
+
+    if (this.lastHeartbeatTimeNano == 0) {
+      this.lastHeartbeatTimeNano = statusCheckStartTimeNano;
+    }
+    this.hostUnhealthy = this.hostUnhealthy || this.getPhi(statusCheckEndTimeNano) >= this.threshold;
+    return this.hostUnhealthy;
+  }
+
+  /**
+   * Returns the suspicion level of the host at the given time.
+   *
+   * @param timeNano the time to evaluate the suspicion level at
+   * @return the suspicion level, 0 if there is no heartbeat to measure the time from
+   */
+  public double getPhi(final long timeNano) {
+    if (this.lastHeartbeatTimeNano == 0) {
+      return 0;
+    }
+
+    double mean = this.failureDetectionIntervalNano;
+    double variance = 0;
+    if (this.intervalCount > 0) {
+      mean = (double) this.intervalSumNano / this.intervalCount;
+      final double meanDeviation = mean - this.failureDetectionIntervalNano;
+      variance = Math.max(0, this.squaredDeviationSum / this.intervalCount - meanDeviation * meanDeviation);
+    }
+
+    return phi(timeNano - this.lastHeartbeatTimeNano, mean, Math.max(Math.sqrt(variance), this.minStdDeviationNano));
+  }
+
+  /**
+   * Computes {@code -log10} of the probability that a normally distributed interval is longer than the elapsed
+   * time, using a logistic approximation of the cumulative distribution function.
+   */
+  static double phi(final double elapsedNano, final double meanNano, final double stdDeviationNano) {
+    final double y = (elapsedNano - meanNano) / stdDeviationNano;
+    final double e = Math.exp(-y * (1.5976 + 0.070566 * y * y));
+    if (elapsedNano > meanNano) {
+      return -Math.log10(e / (1.0 + e));
+    }
+    return -Math.log10(1.0 - 1.0 / (1.0 + e));
+  }
+
+  private void addInterval(final long intervalNano) {
+    if (this.intervalCount == this.intervals.length) {
+      final long replacedIntervalNano = this.intervals[this.nextIntervalIndex];
+      this.intervalSumNano -= replacedIntervalNano;
+      this.squaredDeviationSum -= this.squaredDeviation(replacedIntervalNano);
+    }
+    this.intervals[this.nextIntervalIndex] = intervalNano;
+    this.intervalSumNano += intervalNano;
+    this.squaredDeviationSum += this.squaredDeviation(intervalNano);
+    this.nextIntervalIndex = (this.nextIntervalIndex + 1) % this.intervals.length;
+    this.intervalCount = Math.min(this.intervalCount + 1, this.intervals.length);
+
+    if (this.nextIntervalIndex == 0) {
+      double squaredDeviationSum = 0;
+      for (final long interval : this.intervals) {
+        squaredDeviationSum += this.squaredDeviation(interval);
+      }
+      this.squaredDeviationSum = squaredDeviationSum;
+    }
+  }
+
+  private double squaredDeviation(final long intervalNano) {
+    final double deviation = intervalNano - this.failureDetectionIntervalNano;
+    return deviation * deviation;
+  }
+}
@@ -20,22 +20,36 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.util.CacheMap;
+import software.amazon.jdbc.util.ExecutorFactory;
+import software.amazon.jdbc.util.ExecutorFactoryManager;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.Utils;
@@ -49,6 +63,13 @@ import software.amazon.jdbc.util.Utils;
  * (i.e. could not be connected to), the process picks up another pair of readers and repeat. If no
  * reader has been connected to, the process may consider a writer host, and other hosts marked
  * down, to connect to.
+ *
+ * <p>When {@link FailoverConnectionPlugin#FAILOVER_READER_HEDGE_SIZE} is set, the process instead keeps that many
+ * connection attempts running at the same time, on an executor shared by all the failover processes, starting the
+ * next host as soon as an attempt fails or times out. Available readers are tried by the time it last took to
+ * connect to them. The first successful connection is returned, and the other attempts are cancelled and close
+ * their connection if they get one. The failover process itself runs on the shared executor too, and tries the
+ * hosts again after a short delay when they have all failed.
  */
 public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler {
 
@@ -62,8 +83,20 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
   protected int maxFailoverTimeoutMs;
   protected int timeoutMs;
   protected boolean isStrictReaderRequired;
+  protected int hedgeSize;
   protected final PluginService pluginService;
 
+  // The time it last took to connect to each host, by host URL. Entries expire so that hosts removed from the
+  // topology don't accumulate, and so that an old measurement doesn't decide the order forever.
+  protected static final CacheMap<String, Long> connectTimesNano = new CacheMap<>();
+  protected static final long CONNECT_TIME_EXPIRATION_NANO = TimeUnit.MINUTES.toNanos(10);
+  // The delay before trying the hosts again after they have all failed, doubled up to the maximum at each round.
+  protected static final long HEDGED_RETRY_MIN_DELAY_NANO = TimeUnit.MILLISECONDS.toNanos(50);
+  protected static final long HEDGED_RETRY_MAX_DELAY_NANO = TimeUnit.SECONDS.toNanos(1);
+  // Created on first use, and again when the executor factory of the driver changes.
+  private static @Nullable ExecutorService hedgedAttemptExecutor;
+  private static @Nullable ExecutorFactory hedgedAttemptExecutorFactory;
+
   /**
    * ClusterAwareReaderFailoverHandler constructor.
    *
@@ -102,6 +135,8 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     this.maxFailoverTimeoutMs = maxFailoverTimeoutMs;
     this.timeoutMs = timeoutMs;
     this.isStrictReaderRequired = isStrictReaderRequired;
+    this.hedgeSize =
+        Math.max(0, FailoverConnectionPlugin.FAILOVER_READER_HEDGE_SIZE.getInteger(initialConnectionProps));
   }
 
   /**
@@ -131,11 +166,52 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
       return FAILED_READER_FAILOVER_RESULT;
     }
 
-    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    if (this.hedgeSize > 0) {
+      final Future<ReaderFailoverResult> future = submitHedgedFailoverTask(hosts, currentHost);
+      return getInternalFailoverResult(null, future);
+    }
+
+    final ExecutorService executor =
+        ExecutorFactoryManager.getExecutorFactory().newExecutorService("reader-failover", 1);
     final Future<ReaderFailoverResult> future = submitInternalFailoverTask(hosts, currentHost, executor);
     return getInternalFailoverResult(executor, future);
   }
 
+  private Future<ReaderFailoverResult> submitHedgedFailoverTask(
+      final List<HostSpec> hosts,
+      final HostSpec currentHost) {
+    final long endTimeNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.maxFailoverTimeoutMs);
+    final Callable<ReaderFailoverResult> task = () -> {
+      long retryDelayNano = HEDGED_RETRY_MIN_DELAY_NANO;
+      try {
+        while (true) {
+          final ReaderFailoverResult result = failoverInternal(hosts, currentHost);
+          if (result != null && result.isConnected()) {
+            return result;
+          }
+
+          final long remainingTimeNano = endTimeNano - System.nanoTime();
+          if (remainingTimeNano <= 0) {
+            return FAILED_READER_FAILOVER_RESULT;
+          }
+          TimeUnit.NANOSECONDS.sleep(Math.min(retryDelayNano, remainingTimeNano));
+          retryDelayNano = Math.min(HEDGED_RETRY_MAX_DELAY_NANO, retryDelayNano * 2);
+        }
+      } catch (final SQLException ex) {
+        return new ReaderFailoverResult(null, null, false, ex);
+      } catch (final Exception ex) {
+        return new ReaderFailoverResult(null, null, false, new SQLException(ex));
+      }
+    };
+
+    try {
+      return getHedgedAttemptExecutor().submit(task);
+    } catch (final RejectedExecutionException e) {
+      // The executor has been replaced, and shut down, after the executor factory of the driver changed.
+      return getHedgedAttemptExecutor().submit(task);
+    }
+  }
+
   private Future<ReaderFailoverResult> submitInternalFailoverTask(
       final List<HostSpec> hosts,
       final HostSpec currentHost,
@@ -162,7 +238,7 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
   }
 
   private ReaderFailoverResult getInternalFailoverResult(
-      final ExecutorService executor,
+      final @Nullable ExecutorService executor,
       final Future<ReaderFailoverResult> future) throws SQLException {
     try {
       final ReaderFailoverResult result = future.get(this.maxFailoverTimeoutMs, TimeUnit.MILLISECONDS);
@@ -182,7 +258,10 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
       future.cancel(true);
       return FAILED_READER_FAILOVER_RESULT;
     } finally {
-      if (!executor.isTerminated()) {
+      if (executor == null) {
+        // The hedged failover task runs on the shared executor, which isn't shut down.
+        future.cancel(true);
+      } else if (!executor.isTerminated()) {
         executor.shutdownNow(); // terminate all remaining tasks
       }
     }
@@ -217,6 +296,9 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     }
     Collections.shuffle(activeReaders);
     Collections.shuffle(downHostList);
+    if (this.hedgeSize > 0) {
+      this.sortByConnectTime(activeReaders);
+    }
 
     final List<HostSpec> hostsByPriority = new ArrayList<>(activeReaders);
     final int numOfReaders = activeReaders.size() + downHostList.size();
@@ -270,6 +352,9 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     }
     Collections.shuffle(activeReaders);
     Collections.shuffle(downHostList);
+    if (this.hedgeSize > 0) {
+      this.sortByConnectTime(activeReaders);
+    }
 
     final List<HostSpec> hostsByPriority = new ArrayList<>();
     hostsByPriority.addAll(activeReaders);
@@ -287,7 +372,12 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
 
   private ReaderFailoverResult getConnectionFromHostGroup(final List<HostSpec> hosts)
       throws SQLException {
-    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    if (this.hedgeSize > 0) {
+      return this.getConnectionFromHostGroupHedged(hosts);
+    }
+
+    final ExecutorService executor =
+        ExecutorFactoryManager.getExecutorFactory().newExecutorService("reader-failover-attempt", 2);
     final CompletionService<ReaderFailoverResult> completionService = new ExecutorCompletionService<>(executor);
 
     try {
@@ -315,6 +405,139 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     }
   }
 
+  private ReaderFailoverResult getConnectionFromHostGroupHedged(final List<HostSpec> hosts)
+      throws SQLException {
+    // Holds the first successful result. Attempts completing later close their connection.
+    final AtomicReference<ReaderFailoverResult> claimedResult = new AtomicReference<>();
+    final BlockingQueue<HedgedAttempt> completedAttempts = new LinkedBlockingQueue<>();
+    final List<HedgedAttempt> runningAttempts = new ArrayList<>();
+    final long attemptTimeoutNano = TimeUnit.MILLISECONDS.toNanos(this.timeoutMs);
+    int nextHostIndex = 0;
+
+    try {
+      while (true) {
+        while (runningAttempts.size() < this.hedgeSize && nextHostIndex < hosts.size()) {
+          final HedgedAttempt attempt = new HedgedAttempt(
+              new ConnectionAttemptTask(hosts.get(nextHostIndex++), this.isStrictReaderRequired, claimedResult),
+              completedAttempts);
+          runningAttempts.add(attempt);
+          submitHedgedAttempt(attempt);
+        }
+        if (runningAttempts.isEmpty()) {
+          return this.completeHedgedAttempts(
+              new ReaderFailoverResult(null, null, false), claimedResult, runningAttempts);
+        }
+
+        final long currentTimeNano = System.nanoTime();
+        long waitTimeNano = Long.MAX_VALUE;
+        for (final HedgedAttempt attempt : runningAttempts) {
+          waitTimeNano = Math.min(waitTimeNano, attempt.startTimeNano + attemptTimeoutNano - currentTimeNano);
+        }
+
+        final HedgedAttempt completedAttempt = completedAttempts.poll(Math.max(0, waitTimeNano), TimeUnit.NANOSECONDS);
+        if (completedAttempt == null) {
+          // Give up on the attempts taking too long, making room for the next hosts. An attempt that can't be
+          // given up on has just connected, and is about to complete.
+          final long timeoutTimeNano = System.nanoTime();
+          runningAttempts.removeIf(attempt ->
+              timeoutTimeNano - attempt.startTimeNano >= attemptTimeoutNano && attempt.abandon());
+          continue;
+        }
+
+        if (!runningAttempts.remove(completedAttempt)) {
+          // An attempt given up on. It has closed its connection if it got one.
+          continue;
+        }
+        final ReaderFailoverResult result = completedAttempt.getResult();
+        if (result.isConnected() || result.getException() != null) {
+          return this.completeHedgedAttempts(result, claimedResult, runningAttempts);
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      final ReaderFailoverResult result =
+          this.completeHedgedAttempts(FAILED_READER_FAILOVER_RESULT, claimedResult, runningAttempts);
+      if (result.getConnection() != null) {
+        try {
+          result.getConnection().close();
+        } catch (final SQLException innerException) {
+          // ignore
+        }
+      }
+      throw new SQLException(Messages.get("ClusterAwareReaderFailoverHandler.interruptedThread"), "70100", e);
+    }
+  }
+
+  /**
+   * Ends a hedged connection attempt, giving up on the attempts still running.
+   *
+   * @param result the result of the process
+   * @param claimedResult the first successful result of the attempts
+   * @param runningAttempts the attempts still running
+   * @return the result of the process, or the successful result of an attempt that completed meanwhile
+   */
+  private ReaderFailoverResult completeHedgedAttempts(
+      final ReaderFailoverResult result,
+      final AtomicReference<ReaderFailoverResult> claimedResult,
+      final List<HedgedAttempt> runningAttempts) {
+    runningAttempts.forEach(HedgedAttempt::abandon);
+    if (result.isConnected() || claimedResult.compareAndSet(null, result)) {
+      return result;
+    }
+    return claimedResult.get();
+  }
+
+  private static void submitHedgedAttempt(final HedgedAttempt attempt) {
+    try {
+      getHedgedAttemptExecutor().execute(attempt);
+    } catch (final RejectedExecutionException e) {
+      // The executor has been replaced, and shut down, after the executor factory of the driver changed.
+      getHedgedAttemptExecutor().execute(attempt);
+    }
+  }
+
+  private void sortByConnectTime(final List<HostSpec> hosts) {
+    // Hosts never connected to come last, in random order.
+    hosts.sort(Comparator.comparingLong(host -> {
+      final Long connectTimeNano = connectTimesNano.get(host.getUrl());
+      return connectTimeNano == null ? Long.MAX_VALUE : connectTimeNano;
+    }));
+  }
+
+  protected static synchronized ExecutorService getHedgedAttemptExecutor() {
+    final ExecutorFactory executorFactory = ExecutorFactoryManager.getExecutorFactory();
+    if (hedgedAttemptExecutor == null || hedgedAttemptExecutorFactory != executorFactory) {
+      if (hedgedAttemptExecutor != null) {
+        // The attempts already running complete on the replaced executor.
+        hedgedAttemptExecutor.shutdown();
+      }
+      hedgedAttemptExecutor = createHedgedAttemptExecutor(executorFactory);
+      hedgedAttemptExecutorFactory = executorFactory;
+    }
+    return hedgedAttemptExecutor;
+  }
+
+  private static ExecutorService createHedgedAttemptExecutor(final ExecutorFactory executorFactory) {
+    if (executorFactory.usesLightweightThreads()) {
+      return executorFactory.newExecutorService("reader-failover-hedged-attempt", Integer.MAX_VALUE);
+    }
+
+    // Daemon threads, released when idle, so that the shared executor doesn't keep the application running.
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return new ThreadPoolExecutor(
+        0,
+        Integer.MAX_VALUE,
+        60,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<>(),
+        runnableTarget -> {
+          final Thread thread = new Thread(runnableTarget);
+          thread.setDaemon(true);
+          thread.setName("aws-jdbc-reader-failover-hedged-attempt-" + threadNumber.incrementAndGet());
+          return thread;
+        });
+  }
+
   private ReaderFailoverResult getResultFromNextTaskBatch(
       final List<HostSpec> hosts,
       final ExecutorService executor,
@@ -369,10 +592,31 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
 
     private final HostSpec newHost;
     private final boolean isStrictReaderRequired;
+    // Set by hedged attempts: only the first attempt to claim the result keeps its connection.
+    private final @Nullable AtomicReference<ReaderFailoverResult> claimedResult;
+    // Set by the attempt when it connects, or by the failover process when it gives up on the attempt.
+    private final AtomicBoolean isSettled = new AtomicBoolean();
 
     private ConnectionAttemptTask(final HostSpec newHost, final boolean isStrictReaderRequired) {
+      this(newHost, isStrictReaderRequired, null);
+    }
+
+    private ConnectionAttemptTask(
+        final HostSpec newHost,
+        final boolean isStrictReaderRequired,
+        final @Nullable AtomicReference<ReaderFailoverResult> claimedResult) {
       this.newHost = newHost;
       this.isStrictReaderRequired = isStrictReaderRequired;
+      this.claimedResult = claimedResult;
+    }
+
+    /**
+     * Gives up on a hedged attempt, unless it has already connected.
+     *
+     * @return true if the attempt will close the connection it gets
+     */
+    private boolean abandon() {
+      return this.isSettled.compareAndSet(false, true);
     }
 
     /**
@@ -389,7 +633,10 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
         final Properties copy = new Properties();
         copy.putAll(initialConnectionProps);
 
+        final long connectStartTimeNano = System.nanoTime();
         final Connection conn = pluginService.forceConnect(this.newHost, copy);
+        connectTimesNano.put(
+            this.newHost.getUrl(), System.nanoTime() - connectStartTimeNano, CONNECT_TIME_EXPIRATION_NANO);
         pluginService.setAvailability(this.newHost.asAliases(), HostAvailability.AVAILABLE);
 
         if (this.isStrictReaderRequired) {
@@ -423,12 +670,28 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
           }
         }
 
+        final ReaderFailoverResult result = new ReaderFailoverResult(conn, this.newHost, true);
+        if (this.claimedResult != null
+            && (!this.isSettled.compareAndSet(false, true) || !this.claimedResult.compareAndSet(null, result))) {
+          // The attempt has been given up on, another attempt connected first, or the failover process is over.
+          LOGGER.finest(
+              () -> Messages.get(
+                  "ClusterAwareReaderFailoverHandler.closingHedgedConnection",
+                  new Object[] {this.newHost.getUrl()}));
+          try {
+            conn.close();
+          } catch (final SQLException innerException) {
+            // ignore
+          }
+          return FAILED_READER_FAILOVER_RESULT;
+        }
+
         LOGGER.fine(
             () -> Messages.get(
                 "ClusterAwareReaderFailoverHandler.successfulReaderConnection",
                 new Object[] {this.newHost.getUrl()}));
         LOGGER.fine("New reader failover connection object: " + conn);
-        return new ReaderFailoverResult(conn, this.newHost, true);
+        return result;
       } catch (final SQLException e) {
         pluginService.setAvailability(newHost.asAliases(), HostAvailability.NOT_AVAILABLE);
         LOGGER.fine(
@@ -448,4 +711,46 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
       }
     }
   }
+
+  /**
+   * A hedged connection attempt, added to the queue of completed attempts once it completes, including when it
+   * is cancelled.
+   */
+  private static final class HedgedAttempt extends FutureTask<ReaderFailoverResult> {
+
+    private final ConnectionAttemptTask task;
+    private final BlockingQueue<HedgedAttempt> completedAttempts;
+    private final long startTimeNano = System.nanoTime();
+
+    private HedgedAttempt(
+        final ConnectionAttemptTask task,
+        final BlockingQueue<HedgedAttempt> completedAttempts) {
+      super(task);
+      this.task = task;
+      this.completedAttempts = completedAttempts;
+    }
+
+    @Override
+    protected void done() {
+      this.completedAttempts.add(this);
+    }
+
+    private boolean abandon() {
+      if (!this.task.abandon()) {
+        return false;
+      }
+      this.cancel(true);
+      return true;
+    }
+
+    private ReaderFailoverResult getResult() {
+      try {
+        final ReaderFailoverResult result = this.get();
+        return result == null ? FAILED_READER_FAILOVER_RESULT : result;
+      } catch (final ExecutionException | CancellationException | InterruptedException e) {
+        // The attempt is complete, so get() doesn't wait.
+        return FAILED_READER_FAILOVER_RESULT;
+      }
+    }
+  }
 }
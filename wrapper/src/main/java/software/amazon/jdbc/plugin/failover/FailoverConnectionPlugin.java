@@ -142,6 +142,14 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
           "30000",
           "Reader connection attempt timeout during a reader failover process.");
 
+  public static final AwsWrapperProperty FAILOVER_READER_HEDGE_SIZE =
+      new AwsWrapperProperty(
+          "failoverReaderHedgeSize",
+          "0",
+          "Number of readers to connect to at the same time during a reader failover process, the fastest readers "
+              + "first. The first connection is kept and the others are closed. "
+              + "0 tries the readers in pairs, in random order.");
+
   public static final AwsWrapperProperty ENABLE_CLUSTER_AWARE_FAILOVER =
       new AwsWrapperProperty(
           "enableClusterAwareFailover", "true",
@@ -19,8 +19,6 @@ package software.amazon.jdbc.plugin.strategy.fastestresponse;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -31,6 +29,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.MonitoringScheduler;
+import software.amazon.jdbc.util.MonitoringScheduler.ScheduledTask;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
@@ -38,7 +38,7 @@ import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryGauge;
 import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
 
-public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
+public class NodeResponseTimeMonitor implements AutoCloseable {
 
   private static final Logger LOGGER =
       Logger.getLogger(NodeResponseTimeMonitor.class.getName());
@@ -60,13 +60,9 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
   private final TelemetryGauge responseTimeMsGauge;
 
 
-  private Connection monitoringConn = null;
+  private volatile Connection monitoringConn = null;
 
-  private final ExecutorService threadPool = Executors.newFixedThreadPool(1, runnableTarget -> {
-    final Thread monitoringThread = new Thread(runnableTarget);
-    monitoringThread.setDaemon(true);
-    return monitoringThread;
-  });
+  private final ScheduledTask monitoringTask;
 
   public NodeResponseTimeMonitor(
       final @NonNull PluginService pluginService,
@@ -90,8 +86,8 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
         String.format("frt.response.time.%s", nodeId),
         () -> this.responseTime.get() == Integer.MAX_VALUE ? -1 : (long) this.responseTime.get());
 
-    this.threadPool.submit(this);
-    this.threadPool.shutdown(); // No more task are accepted by pool.
+    this.monitoringTask = MonitoringScheduler.schedule(
+        "NodeResponseTimeMonitor " + this.hostSpec.getHost(), this::measureResponseTime, 0, this.telemetryFactory);
   }
 
   // Return node response time in milliseconds.
@@ -110,11 +106,13 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
   @Override
   public void close() throws Exception {
     this.stopped.set(true);
+    this.monitoringTask.cancel();
 
-    // Waiting for 5s gives a thread enough time to exit monitoring loop and close database connection.
-    if (!this.threadPool.awaitTermination(5, TimeUnit.SECONDS)) {
-      this.threadPool.shutdownNow();
+    // Waiting for 5s gives a measurement in progress enough time to complete.
+    if (!this.monitoringTask.awaitTermination(5, TimeUnit.SECONDS)) {
+      this.monitoringTask.cancel(true);
     }
+    this.closeConnection();
     LOGGER.finest(() -> Messages.get(
         "NodeResponseTimeMonitor.stopped",
         new Object[] {this.hostSpec.getHost()}));
@@ -125,54 +123,55 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
     return System.nanoTime();
   }
 
-  @Override
-  public void run() {
+  /**
+   * Measures the response time of the node once.
+   *
+   * @return the delay in nanoseconds before the next measurement, or -1 once the monitor is stopped
+   */
+  protected long measureResponseTime() {
+    if (this.stopped.get()) {
+      this.closeConnection();
+      return -1;
+    }
+
     TelemetryContext telemetryContext = telemetryFactory.openTelemetryContext(
         "node response time thread", TelemetryTraceLevel.TOP_LEVEL);
     telemetryContext.setAttribute("url", hostSpec.getUrl());
 
     try {
-      while (!this.stopped.get()) {
-        this.openConnection();
-
-        if (this.monitoringConn != null) {
-
-          long responseTimeSum = 0;
-          int count = 0;
-          for (int i = 0; i < NUM_OF_MEASURES; i++) {
-            if (this.stopped.get()) {
-              break;
-            }
-            long startTime = this.getCurrentTime();
-            if (this.pluginService.getTargetDriverDialect().ping(this.monitoringConn)) {
-              long responseTime = this.getCurrentTime() - startTime;
-              responseTimeSum += responseTime;
-              count++;
-            }
-          }
+      this.openConnection();
+
+      if (this.monitoringConn != null) {
 
-          if (count > 0) {
-            this.responseTime.set((int) TimeUnit.NANOSECONDS.toMillis(responseTimeSum / count));
-          } else {
-            this.responseTime.set(Integer.MAX_VALUE);
+        long responseTimeSum = 0;
+        int count = 0;
+        for (int i = 0; i < NUM_OF_MEASURES; i++) {
+          if (this.stopped.get()) {
+            break;
           }
-          this.checkTimestamp.set(this.getCurrentTime());
+          long startTime = this.getCurrentTime();
+          if (this.pluginService.getTargetDriverDialect().ping(this.monitoringConn)) {
+            long responseTime = this.getCurrentTime() - startTime;
+            responseTimeSum += responseTime;
+            count++;
+          }
+        }
 
-          LOGGER.finest(() -> Messages.get(
-              "NodeResponseTimeMonitor.responseTime",
-              new Object[] {this.hostSpec.getHost(), this.responseTime.get()}));
+        if (count > 0) {
+          this.responseTime.set((int) TimeUnit.NANOSECONDS.toMillis(responseTimeSum / count));
+        } else {
+          this.responseTime.set(Integer.MAX_VALUE);
         }
+        this.checkTimestamp.set(this.getCurrentTime());
 
-        TimeUnit.MILLISECONDS.sleep(this.intervalMs);
+        LOGGER.finest(() -> Messages.get(
+            "NodeResponseTimeMonitor.responseTime",
+            new Object[] {this.hostSpec.getHost(), this.responseTime.get()}));
       }
-    } catch (final InterruptedException intEx) {
-      // exit thread
-      LOGGER.finest(
-          () -> Messages.get(
-              "NodeResponseTimeMonitor.interruptedExceptionDuringMonitoring",
-              new Object[] {this.hostSpec.getHost()}));
+      return TimeUnit.MILLISECONDS.toNanos(this.intervalMs);
+
     } catch (final Exception ex) {
-      // this should not be reached; log and exit thread
+      // this should not be reached; log and stop monitoring
       if (LOGGER.isLoggable(Level.FINEST)) {
         LOGGER.log(
             Level.FINEST,
@@ -181,21 +180,28 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
                 new Object[]{this.hostSpec.getHost()}),
             ex); // We want to print full trace stack of the exception.
       }
-    } finally {
       this.stopped.set(true);
-      if (this.monitoringConn != null) {
-        try {
-          this.monitoringConn.close();
-        } catch (final SQLException ex) {
-          // ignore
-        }
-      }
+      this.closeConnection();
+      return -1;
+    } finally {
       if (telemetryContext != null) {
         telemetryContext.closeContext();
       }
     }
   }
 
+  private void closeConnection() {
+    final Connection conn = this.monitoringConn;
+    this.monitoringConn = null;
+    if (conn != null) {
+      try {
+        conn.close();
+      } catch (final SQLException ex) {
+        // ignore
+      }
+    }
+  }
+
   private void openConnection() {
     try {
       if (this.monitoringConn == null || this.monitoringConn.isClosed()) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.Random;
+
+/**
+ * Samples indexes with probabilities proportional to their weights in O(1), using Vose's alias method.
+ *
+ * <p>The table is built once in O(n). Each index owns a column, split between the index itself and an alias: a
+ * sample picks a column uniformly, then picks the index or its alias with a biased coin. Negative weights count as
+ * 0. When all weights are 0, indexes are sampled uniformly.
+ */
+public final class AliasTable {
+
+  private final double[] probabilities;
+  private final int[] aliases;
+
+  public AliasTable(final long[] weights) {
+    final int size = weights.length;
+    this.probabilities = new double[size];
+    this.aliases = new int[size];
+
+    long totalWeight = 0;
+    for (final long weight : weights) {
+      totalWeight += Math.max(0, weight);
+    }
+    if (totalWeight == 0) {
+      for (int i = 0; i < size; i++) {
+        this.probabilities[i] = 1.0;
+        this.aliases[i] = i;
+      }
+      return;
+    }
+
+    // Weights scaled so that their average is 1, then split into the columns under and over the average.
+    final double[] scaledWeights = new double[size];
+    final int[] small = new int[size];
+    final int[] large = new int[size];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int i = 0; i < size; i++) {
+      scaledWeights[i] = (double) Math.max(0, weights[i]) * size / totalWeight;
+      if (scaledWeights[i] < 1.0) {
+        small[smallCount++] = i;
+      } else {
+        large[largeCount++] = i;
+      }
+    }
+
+    // Fills each small column with a part of a large column.
+    while (smallCount > 0 && largeCount > 0) {
+      final int lessIndex = small[--smallCount];
+      final int moreIndex = large[--largeCount];
+      this.probabilities[lessIndex] = scaledWeights[lessIndex];
+      this.aliases[lessIndex] = moreIndex;
+      scaledWeights[moreIndex] = (scaledWeights[moreIndex] + scaledWeights[lessIndex]) - 1.0;
+      if (scaledWeights[moreIndex] < 1.0) {
+        small[smallCount++] = moreIndex;
+      } else {
+        large[largeCount++] = moreIndex;
+      }
+    }
+
+    // The remaining columns are full, up to rounding errors.
+    while (largeCount > 0) {
+      final int index = large[--largeCount];
+      this.probabilities[index] = 1.0;
+      this.aliases[index] = index;
+    }
+    while (smallCount > 0) {
+      final int index = small[--smallCount];
+      this.probabilities[index] = 1.0;
+      this.aliases[index] = index;
+    }
+  }
+
+  public int size() {
+    return this.probabilities.length;
+  }
+
+  /**
+   * Samples an index.
+   *
+   * @param random the source of randomness, such as {@link java.util.concurrent.ThreadLocalRandom#current()}
+   * @return an index between 0 (inclusive) and {@link #size()} (exclusive), or -1 if the table is empty
+   */
+  public int sample(final Random random) {
+    if (this.probabilities.length == 0) {
+      return -1;
+    }
+    final int column = random.nextInt(this.probabilities.length);
+    return random.nextDouble() < this.probabilities[column] ? column : this.aliases[column];
+  }
+}
@@ -16,52 +16,81 @@
 
 package software.amazon.jdbc.util;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * A concurrent map whose entries expire after a given time.
+ *
+ * <p>Expiration times are tracked by a {@link TimingWheel}: updating the map removes the entries that have
+ * expired since the previous update, without scanning the other entries. Expired values that are
+ * {@link AutoCloseable} are closed on the {@link MonitoringScheduler} rather than on the calling thread.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
 public class CacheMap<K, V> {
 
   protected final Map<K, CacheItem<V>> cache = new ConcurrentHashMap<>();
-  protected final long cleanupIntervalNanos = TimeUnit.MINUTES.toNanos(10);
-  protected final AtomicLong cleanupTimeNanos = new AtomicLong(System.nanoTime() + cleanupIntervalNanos);
+  protected final TimingWheel<K> expirationWheel = new TimingWheel<>(System.nanoTime());
 
   public CacheMap() {
   }
 
   public @Nullable V get(final K key) {
-    final CacheItem<V> cacheItem = cache.computeIfPresent(key, (kk, vv) -> vv.isExpired() ? null : vv);
+    final CacheItem<V> cacheItem = cache.computeIfPresent(key, (kk, vv) -> {
+      if (vv.isExpired()) {
+        this.cancelExpiration(vv);
+        return null;
+      }
+      return vv;
+    });
     return cacheItem == null ? null : cacheItem.item;
   }
 
   public V get(final K key, final V defaultItemValue, final long itemExpirationNano) {
-    final CacheItem<V> cacheItem = cache.compute(key,
-        (kk, vv) -> (vv == null || vv.isExpired())
-            ? new CacheItem<>(defaultItemValue, System.nanoTime() + itemExpirationNano)
-            : vv);
+    final CacheItem<V> cacheItem = cache.compute(key, (kk, vv) -> {
+      if (vv != null && !vv.isExpired()) {
+        return vv;
+      }
+      if (vv != null) {
+        this.cancelExpiration(vv);
+      }
+      return this.createItem(kk, defaultItemValue, itemExpirationNano);
+    });
     return cacheItem.item;
   }
 
   public void put(final K key, final V item, final long itemExpirationNano) {
-    cache.put(key, new CacheItem<>(item, System.nanoTime() + itemExpirationNano));
+    cache.compute(key, (kk, vv) -> {
+      if (vv != null) {
+        this.cancelExpiration(vv);
+      }
+      return this.createItem(kk, item, itemExpirationNano);
+    });
     cleanUp();
   }
 
   public void putIfAbsent(final K key, final V item, final long itemExpirationNano) {
-    cache.putIfAbsent(key, new CacheItem<>(item, System.nanoTime() + itemExpirationNano));
+    cache.computeIfAbsent(key, kk -> this.createItem(kk, item, itemExpirationNano));
     cleanUp();
   }
 
   public void remove(final K key) {
-    cache.remove(key);
+    final CacheItem<V> cacheItem = cache.remove(key);
+    if (cacheItem != null) {
+      this.cancelExpiration(cacheItem);
+    }
     cleanUp();
   }
 
   public void clear() {
     cache.clear();
+    expirationWheel.clear();
   }
 
   public Map<K, V> getEntries() {
@@ -76,27 +105,52 @@ public class CacheMap<K, V> {
     return this.cache.size();
   }
 
+  protected CacheItem<V> createItem(final K key, final V item, final long itemExpirationNano) {
+    final CacheItem<V> cacheItem = new CacheItem<>(item, System.nanoTime() + itemExpirationNano);
+    cacheItem.timeout = this.expirationWheel.schedule(key, cacheItem.expirationTime);
+    return cacheItem;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void cancelExpiration(final CacheItem<V> cacheItem) {
+    if (cacheItem.timeout != null) {
+      this.expirationWheel.cancel((TimingWheel.Timeout<K>) cacheItem.timeout);
+    }
+  }
+
+  /**
+   * Removes the entries that have expired since the previous cleanup. Only the expired entries are visited.
+   */
   protected void cleanUp() {
-    if (this.cleanupTimeNanos.get() < System.nanoTime()) {
-      this.cleanupTimeNanos.set(System.nanoTime() + cleanupIntervalNanos);
-      cache.forEach((key, value) -> {
-        if (value == null || value.isExpired()) {
-          cache.remove(key);
-          if (value != null && value.item instanceof AutoCloseable) {
-            try {
-              ((AutoCloseable) value.item).close();
-            } catch (Exception e) {
-              // ignore
-            }
-          }
+    for (final TimingWheel.Timeout<K> timeout : this.expirationWheel.advance(System.nanoTime())) {
+      // A list is used to get the removed item out of the lambda.
+      final List<V> itemList = new ArrayList<>(1);
+      cache.computeIfPresent(timeout.getElement(), (key, cacheItem) -> {
+        if (cacheItem.timeout != timeout) {
+          // The entry has been replaced since it was scheduled.
+          return cacheItem;
         }
+        itemList.add(cacheItem.item);
+        return null;
       });
+
+      if (!itemList.isEmpty() && itemList.get(0) instanceof AutoCloseable) {
+        final AutoCloseable item = (AutoCloseable) itemList.get(0);
+        MonitoringScheduler.execute("CacheMap disposal", () -> {
+          try {
+            item.close();
+          } catch (Exception e) {
+            // ignore
+          }
+        });
+      }
     }
   }
 
   static class CacheItem<V> {
     final V item;
     final long expirationTime;
+    @Nullable TimingWheel.Timeout<?> timeout;
 
     public CacheItem(final V item, final long expirationTime) {
       this.item = item;
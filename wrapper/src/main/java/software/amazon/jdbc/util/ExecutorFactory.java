@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates the executors running tasks that spend most of their time blocked on network I/O, such as failover
+ * connection attempts and monitoring checks.
+ *
+ * <p>A custom factory can be set with {@link software.amazon.jdbc.Driver#setCustomExecutorFactory}. Otherwise
+ * {@link ExecutorFactoryManager} uses virtual threads when the JVM supports them, and platform threads otherwise.
+ */
+public interface ExecutorFactory {
+
+  /**
+   * Creates an executor for a group of blocking tasks. The caller shuts the executor down once the tasks are
+   * complete.
+   *
+   * @param name a name describing the tasks, which may be used to name the threads
+   * @param maxThreads the number of tasks expected to run at the same time. Executors that don't own a fixed
+   *     set of threads may ignore it.
+   * @return a new executor
+   */
+  ExecutorService newExecutorService(String name, int maxThreads);
+
+  /**
+   * Returns whether the threads created by this factory are cheap enough to be blocked on I/O, so that work
+   * running on a shared thread pool should be handed over to them rather than run in place.
+   *
+   * @return true if the executors of this factory run tasks on lightweight threads
+   */
+  boolean usesLightweightThreads();
+}
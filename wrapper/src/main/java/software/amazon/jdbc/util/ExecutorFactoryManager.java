@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import software.amazon.jdbc.Driver;
+
+public class ExecutorFactoryManager {
+
+  private static final ExecutorFactory defaultExecutorFactory = VirtualThreadExecutorFactory.isSupported()
+      ? new VirtualThreadExecutorFactory()
+      : new PlatformThreadExecutorFactory();
+
+  private ExecutorFactoryManager() {
+  }
+
+  /**
+   * Returns the factory set with {@link Driver#setCustomExecutorFactory}, or the default one.
+   *
+   * @return the executor factory to use
+   */
+  public static ExecutorFactory getExecutorFactory() {
+    final ExecutorFactory customExecutorFactory = Driver.getCustomExecutorFactory();
+    return customExecutorFactory != null ? customExecutorFactory : defaultExecutorFactory;
+  }
+
+  /**
+   * Returns the default factory, which uses virtual threads when the JVM supports them and platform threads
+   * otherwise.
+   *
+   * @return the default executor factory
+   */
+  public static ExecutorFactory getDefaultExecutorFactory() {
+    return defaultExecutorFactory;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations, with buckets growing in powers of two.
+ *
+ * <p>Bucket {@code i} counts the durations between 2^i and 2^(i+1) microseconds, the first bucket also counting
+ * the durations under a microsecond and the last one all the longer durations. Recording a duration is a single
+ * atomic increment, so the histogram can be shared by any number of threads. Percentiles are approximated by the
+ * upper bound of their bucket, which is at most twice the actual value, and never exceed the largest recorded
+ * duration.
+ */
+public class LatencyHistogram {
+
+  private static final int BUCKET_COUNT = 40;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong maxNano = new AtomicLong();
+
+  public void record(final long durationNano) {
+    final long durationMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, durationNano));
+    final int bucket = durationMicros == 0
+        ? 0
+        : Math.min(BUCKET_COUNT - 1, 63 - Long.numberOfLeadingZeros(durationMicros));
+    this.buckets.incrementAndGet(bucket);
+    this.maxNano.accumulateAndGet(durationNano, Math::max);
+  }
+
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      count += this.buckets.get(i);
+    }
+    return count;
+  }
+
+  public long getMaxNano() {
+    return this.maxNano.get();
+  }
+
+  /**
+   * Returns an approximation of a percentile of the recorded durations.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the upper bound of the bucket holding the percentile in nanoseconds, or 0 if nothing was recorded
+   */
+  public long getPercentileNano(final double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException(
+          Messages.get("LatencyHistogram.invalidPercentile", new Object[] {percentile}));
+    }
+
+    final long[] counts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = this.buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long cumulativeCount = 0;
+    int bucket = 0;
+    for (; bucket < BUCKET_COUNT - 1; bucket++) {
+      cumulativeCount += counts[bucket];
+      if (cumulativeCount >= rank) {
+        break;
+      }
+    }
+    // The last bucket has no upper bound.
+    final long upperBoundNano = bucket == BUCKET_COUNT - 1
+        ? Long.MAX_VALUE
+        : TimeUnit.MICROSECONDS.toNanos(1L << (bucket + 1));
+    return Math.min(upperBoundNano, this.getMaxNano());
+  }
+
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      this.buckets.set(i, 0);
+    }
+    this.maxNano.set(0);
+  }
+}
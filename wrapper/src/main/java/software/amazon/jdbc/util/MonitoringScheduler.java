@@ -0,0 +1,407 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryGauge;
+
+/**
+ * A driver-wide scheduler running the periodic work of background monitors on a small pool of daemon threads,
+ * instead of each monitor owning threads that mostly sleep.
+ *
+ * <p>A monitor registers a {@link MonitoringTask} that performs a single iteration of its work and returns the
+ * delay before the next one. Each registered task keeps the time it's due to run next, which is used to report
+ * the tasks that are overdue because all the threads of the pool are busy.
+ *
+ * <p>The pool size defaults to the number of available processors, with a minimum of 2, and can be changed with
+ * the {@value #POOL_SIZE_PROPERTY} system property. The scheduler threads only dispatch the tasks: the iterations,
+ * which may block on network I/O, run on lightweight threads, such as virtual threads, when the
+ * {@link ExecutorFactory} of the driver provides them, and on a pool of daemon platform threads that grows with
+ * the number of running iterations otherwise.
+ */
+public class MonitoringScheduler {
+
+  private static final Logger LOGGER = Logger.getLogger(MonitoringScheduler.class.getName());
+
+  public static final String POOL_SIZE_PROPERTY = "software.amazon.jdbc.MonitoringScheduler.poolSize";
+
+  // Tasks starting later than this after their due time are logged.
+  protected static final long LATE_TASK_THRESHOLD_NANO = TimeUnit.SECONDS.toNanos(1);
+
+  private static final long TASK_THREAD_KEEP_ALIVE_SEC = 60;
+
+  protected static final ScheduledThreadPoolExecutor executor = createExecutor();
+  // Runs the iterations of the tasks. Resolved on first use, and again if the executor factory of the driver
+  // changes, see getTaskExecutor().
+  protected static @Nullable ExecutorService taskExecutor;
+  protected static @Nullable ExecutorFactory taskExecutorFactory;
+  protected static final Set<ScheduledTask> tasks = ConcurrentHashMap.newKeySet();
+  protected static final AtomicReference<TelemetryGauge> backlogGauge = new AtomicReference<>(null);
+
+  private MonitoringScheduler() {
+  }
+
+  /**
+   * Registers a task and runs its first iteration after the given delay.
+   *
+   * @param name the name of the task, used for logging
+   * @param task the task to run
+   * @param initialDelayNano the delay before the first iteration
+   * @param telemetryFactory the telemetry factory used to report the backlog of the scheduler
+   * @return a handle to stop the task
+   */
+  public static ScheduledTask schedule(
+      final String name,
+      final MonitoringTask task,
+      final long initialDelayNano,
+      final @Nullable TelemetryFactory telemetryFactory) {
+
+    if (telemetryFactory != null && backlogGauge.get() == null) {
+      synchronized (backlogGauge) {
+        if (backlogGauge.get() == null) {
+          backlogGauge.set(telemetryFactory.createGauge(
+              "monitoringScheduler.backlog", MonitoringScheduler::getBacklogSize));
+        }
+      }
+    }
+
+    final ScheduledTask scheduledTask = new ScheduledTask(name, task);
+    tasks.add(scheduledTask);
+    scheduledTask.scheduleNext(initialDelayNano);
+    return scheduledTask;
+  }
+
+  /**
+   * Runs a one-off task, such as closing a resource, on the scheduler instead of the calling thread.
+   *
+   * @param name the name of the task, used for logging
+   * @param task the task to run
+   */
+  public static void execute(final String name, final Runnable task) {
+    schedule(
+        name,
+        () -> {
+          task.run();
+          return -1;
+        },
+        0,
+        null);
+  }
+
+  /**
+   * Returns the number of tasks that are due to run but haven't started, because all the threads of the
+   * scheduler are busy.
+   *
+   * @return the number of overdue tasks
+   */
+  public static long getBacklogSize() {
+    final long currentTimeNano = System.nanoTime();
+    return tasks.stream().filter(task -> task.isOverdue(currentTimeNano)).count();
+  }
+
+  /**
+   * Returns the number of registered tasks that haven't stopped.
+   *
+   * @return the number of registered tasks
+   */
+  public static int getTaskCount() {
+    return tasks.size();
+  }
+
+  public static int getPoolSize() {
+    return executor.getCorePoolSize();
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    final AtomicInteger threadNumber = new AtomicInteger();
+    final ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(
+        getConfiguredPoolSize(),
+        runnableTarget -> {
+          final Thread monitoringThread = new Thread(runnableTarget);
+          monitoringThread.setDaemon(true);
+          monitoringThread.setName("aws-jdbc-monitoring-" + threadNumber.incrementAndGet());
+          return monitoringThread;
+        });
+    result.setRemoveOnCancelPolicy(true);
+    return result;
+  }
+
+  protected static synchronized ExecutorService getTaskExecutor() {
+    final ExecutorFactory executorFactory = ExecutorFactoryManager.getExecutorFactory();
+    ExecutorService currentTaskExecutor = taskExecutor;
+    if (currentTaskExecutor == null || taskExecutorFactory != executorFactory) {
+      if (currentTaskExecutor != null) {
+        // The iterations already submitted complete on the replaced executor.
+        currentTaskExecutor.shutdown();
+      }
+      currentTaskExecutor = createTaskExecutor(executorFactory);
+      taskExecutor = currentTaskExecutor;
+      taskExecutorFactory = executorFactory;
+    }
+    return currentTaskExecutor;
+  }
+
+  private static ExecutorService createTaskExecutor(final ExecutorFactory executorFactory) {
+    if (executorFactory.usesLightweightThreads()) {
+      return executorFactory.newExecutorService("monitoring", getConfiguredPoolSize());
+    }
+
+    // Each task has at most one iteration running, so the pool grows with the number of blocked iterations
+    // instead of letting them hold the scheduler threads. Idle threads are released.
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return new ThreadPoolExecutor(
+        0,
+        Integer.MAX_VALUE,
+        TASK_THREAD_KEEP_ALIVE_SEC,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<>(),
+        runnableTarget -> {
+          final Thread taskThread = new Thread(runnableTarget);
+          taskThread.setDaemon(true);
+          taskThread.setName("aws-jdbc-monitoring-task-" + threadNumber.incrementAndGet());
+          return taskThread;
+        });
+  }
+
+  private static int getConfiguredPoolSize() {
+    final int defaultPoolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+    final String poolSize = System.getProperty(POOL_SIZE_PROPERTY);
+    if (StringUtils.isNullOrEmpty(poolSize)) {
+      return defaultPoolSize;
+    }
+    try {
+      return Math.max(1, Integer.parseInt(poolSize.trim()));
+    } catch (final NumberFormatException ex) {
+      LOGGER.warning(() -> Messages.get(
+          "MonitoringScheduler.invalidPoolSize",
+          new Object[] {POOL_SIZE_PROPERTY, poolSize, defaultPoolSize}));
+      return defaultPoolSize;
+    }
+  }
+
+  /**
+   * A unit of periodic work run by the {@link MonitoringScheduler}.
+   */
+  @FunctionalInterface
+  public interface MonitoringTask {
+
+    /**
+     * Performs one iteration of the task. It shouldn't sleep: the delay until the next iteration is returned
+     * instead, so that the thread can run other tasks in the meantime.
+     *
+     * @return the delay in nanoseconds before the next iteration, or a negative value to stop the task
+     * @throws Exception if the iteration failed. The task is stopped.
+     */
+    long run() throws Exception;
+  }
+
+  /**
+   * A task registered with the {@link MonitoringScheduler}.
+   */
+  public static class ScheduledTask implements Runnable {
+
+    protected final String name;
+    protected final MonitoringTask task;
+    protected volatile long dueTimeNano;
+    protected volatile boolean running;
+    protected volatile boolean stopped;
+    protected volatile @Nullable Future<?> future;
+
+    protected ScheduledTask(final String name, final MonitoringTask task) {
+      this.name = name;
+      this.task = task;
+    }
+
+    public String getName() {
+      return this.name;
+    }
+
+    public boolean isStopped() {
+      return this.stopped;
+    }
+
+    /**
+     * Stops the task. An iteration that has already started isn't interrupted, use
+     * {@link #awaitTermination(long, TimeUnit)} to wait for it.
+     */
+    public void cancel() {
+      this.cancel(false);
+    }
+
+    /**
+     * Stops the task and unregisters it from the scheduler.
+     *
+     * @param interrupt true to interrupt the thread running the current iteration
+     */
+    public void cancel(final boolean interrupt) {
+      synchronized (this) {
+        this.stopped = true;
+        final Future<?> currentFuture = this.future;
+        if (currentFuture != null) {
+          currentFuture.cancel(interrupt);
+        }
+        this.terminate();
+      }
+    }
+
+    /**
+     * Waits for the current iteration of a cancelled task to complete.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if no iteration is running, false if the timeout elapsed
+     * @throws InterruptedException if the current thread has been interrupted while waiting
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+      final long endTimeNano = System.nanoTime() + unit.toNanos(timeout);
+      synchronized (this) {
+        while (this.running) {
+          final long remainingNano = endTimeNano - System.nanoTime();
+          if (remainingNano <= 0) {
+            return false;
+          }
+          TimeUnit.NANOSECONDS.timedWait(this, remainingNano);
+        }
+        return true;
+      }
+    }
+
+    protected boolean isOverdue(final long currentTimeNano) {
+      return !this.running && !this.stopped && currentTimeNano - this.dueTimeNano > 0;
+    }
+
+    protected void scheduleNext(final long delayNano) {
+      synchronized (this) {
+        if (this.stopped) {
+          this.terminate();
+          return;
+        }
+        this.dueTimeNano = System.nanoTime() + delayNano;
+        this.future = executor.schedule(this, delayNano, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    @Override
+    public void run() {
+      final ExecutorService currentTaskExecutor = getTaskExecutor();
+      synchronized (this) {
+        if (this.stopped) {
+          return;
+        }
+        this.running = true;
+        // Iterations may block on network I/O: run them on their own thread and keep the scheduler threads
+        // free to dispatch other tasks.
+        final Iteration iteration = new Iteration();
+        try {
+          currentTaskExecutor.execute(iteration);
+          this.future = iteration;
+          return;
+        } catch (final RejectedExecutionException ex) {
+          // The executor has been replaced, and shut down, after the executor factory of the driver changed.
+          // The iteration runs on the scheduler thread instead.
+        }
+      }
+      this.runIteration();
+    }
+
+    protected void runIteration() {
+      final long delayNano = System.nanoTime() - this.dueTimeNano;
+      if (delayNano > LATE_TASK_THRESHOLD_NANO) {
+        LOGGER.fine(() -> Messages.get(
+            "MonitoringScheduler.taskLate",
+            new Object[] {this.name, TimeUnit.NANOSECONDS.toMillis(delayNano)}));
+      }
+
+      long nextDelayNano = -1;
+      try {
+        nextDelayNano = this.task.run();
+      } catch (final Exception ex) {
+        if (LOGGER.isLoggable(Level.FINEST)) {
+          LOGGER.log(
+              Level.FINEST,
+              Messages.get("MonitoringScheduler.taskFailed", new Object[] {this.name}),
+              ex);
+        }
+      } finally {
+        synchronized (this) {
+          this.running = false;
+          if (nextDelayNano < 0) {
+            this.stopped = true;
+          }
+          this.notifyAll();
+        }
+      }
+
+      this.scheduleNext(nextDelayNano);
+    }
+
+    protected void terminate() {
+      tasks.remove(this);
+    }
+
+    /**
+     * An iteration submitted to the task executor. If it's cancelled before it starts, the task is no longer
+     * running and awaitTermination() shouldn't wait for it.
+     */
+    protected final class Iteration extends FutureTask<Void> {
+
+      // Set by whichever comes first: the iteration starting, or its cancellation.
+      private final AtomicBoolean started;
+
+      private Iteration() {
+        this(new AtomicBoolean(false));
+      }
+
+      private Iteration(final AtomicBoolean started) {
+        super(() -> {
+          if (started.compareAndSet(false, true)) {
+            ScheduledTask.this.runIteration();
+          }
+        }, null);
+        this.started = started;
+      }
+
+      @Override
+      protected void done() {
+        if (this.isCancelled() && this.started.compareAndSet(false, true)) {
+          final ScheduledTask scheduledTask = ScheduledTask.this;
+          synchronized (scheduledTask) {
+            scheduledTask.running = false;
+            scheduledTask.notifyAll();
+          }
+          scheduledTask.terminate();
+        }
+      }
+    }
+  }
+}
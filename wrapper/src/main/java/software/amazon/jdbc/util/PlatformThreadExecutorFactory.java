@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link ExecutorFactory} creating fixed pools of platform threads.
+ */
+public class PlatformThreadExecutorFactory implements ExecutorFactory {
+
+  @Override
+  public ExecutorService newExecutorService(final String name, final int maxThreads) {
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return Executors.newFixedThreadPool(maxThreads, runnableTarget -> {
+      final Thread thread = new Thread(runnableTarget);
+      thread.setName("aws-jdbc-" + name + "-" + threadNumber.incrementAndGet());
+      return thread;
+    });
+  }
+
+  @Override
+  public boolean usesLightweightThreads() {
+    return false;
+  }
+}
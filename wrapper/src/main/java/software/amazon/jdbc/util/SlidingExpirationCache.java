@@ -17,18 +17,36 @@
 package software.amazon.jdbc.util;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+/**
+ * A concurrent map whose entries expire when they haven't been accessed for a given time.
+ *
+ * <p>Expiration times are tracked by a {@link TimingWheel}, so that a cleanup only visits the entries that are
+ * due instead of the whole cache. Since accessing an entry only updates its expiration time, an entry visited by
+ * a cleanup after it has been accessed is moved to its new expiration time. Expired values that are
+ * {@link AutoCloseable} are disposed on the {@link MonitoringScheduler} rather than on the thread running the
+ * cleanup.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
 public class SlidingExpirationCache<K, V> {
 
   protected final Map<K, CacheItem> cache = new ConcurrentHashMap<>();
+  protected final TimingWheel<K> expirationWheel = new TimingWheel<>(System.nanoTime());
   protected long cleanupIntervalNanos = TimeUnit.MINUTES.toNanos(10);
   protected final AtomicLong cleanupTimeNanos = new AtomicLong(System.nanoTime() + cleanupIntervalNanos);
   protected final AtomicReference<ShouldDisposeFunc<V>> shouldDisposeFunc = new AtomicReference<>(null);
@@ -95,20 +113,65 @@ public class SlidingExpirationCache<K, V> {
     final CacheItem cacheItem = cache.computeIfAbsent(
         key,
         k -> new CacheItem(
+            k,
             mappingFunction.apply(k),
             System.nanoTime() + itemExpirationNano));
     return cacheItem.withExtendExpiration(itemExpirationNano).item;
   }
 
+  /**
+   * Same as {@link #computeIfAbsent}, and pins the entry: it isn't evicted or cleaned up until it's unpinned with
+   * {@link #unpin}. Pinning prevents an entry that has just been created, and isn't in use yet, from being evicted
+   * by another thread before the caller gets to use it.
+   *
+   * @param key                the key with which the specified value is to be associated
+   * @param mappingFunction    the function to compute a value
+   * @param itemExpirationNano the expiration time of the new or renewed entry
+   * @return the current (existing or computed) value associated with the specified key
+   */
+  public V computeIfAbsentAndPin(
+      final K key,
+      Function<? super K, ? extends V> mappingFunction,
+      final long itemExpirationNano) {
+
+    cleanUp();
+    final CacheItem cacheItem = cache.compute(
+        key,
+        (k, existingItem) -> {
+          final CacheItem item = existingItem != null
+              ? existingItem
+              : new CacheItem(k, mappingFunction.apply(k), System.nanoTime() + itemExpirationNano);
+          item.pinCount++;
+          return item;
+        });
+    return cacheItem.withExtendExpiration(itemExpirationNano).item;
+  }
+
+  /**
+   * Unpins an entry pinned by {@link #computeIfAbsentAndPin}.
+   *
+   * @param key  the key of the entry
+   * @param item the value returned by {@link #computeIfAbsentAndPin}
+   */
+  public void unpin(final K key, final V item) {
+    cache.computeIfPresent(key, (k, cacheItem) -> {
+      if (cacheItem.item == item && cacheItem.pinCount > 0) {
+        cacheItem.pinCount--;
+      }
+      return cacheItem;
+    });
+  }
+
   public V put(
       final K key,
       final V value,
       final long itemExpirationNano) {
     cleanUp();
-    final CacheItem cacheItem = cache.put(key, new CacheItem(value, System.nanoTime() + itemExpirationNano));
+    final CacheItem cacheItem = cache.put(key, new CacheItem(key, value, System.nanoTime() + itemExpirationNano));
     if (cacheItem == null) {
       return null;
     }
+    expirationWheel.cancel(cacheItem.timeout);
     return cacheItem.withExtendExpiration(itemExpirationNano).item;
   }
 
@@ -131,23 +194,34 @@ public class SlidingExpirationCache<K, V> {
 
   protected void removeAndDispose(K key) {
     final CacheItem cacheItem = cache.remove(key);
-    if (cacheItem != null && itemDisposalFunc != null) {
+    if (cacheItem == null) {
+      return;
+    }
+    expirationWheel.cancel(cacheItem.timeout);
+    if (itemDisposalFunc != null) {
       itemDisposalFunc.dispose(cacheItem.item);
     }
   }
 
-  protected void removeIfExpired(K key) {
+  protected void removeIfExpired(final TimingWheel.Timeout<K> timeout) {
     // A list is used to store the cached item for later disposal since lambdas require references to outer variables
     // to be final. This allows us to dispose of the item after it has been removed and the cache has been unlocked,
     // which is important because the disposal function may be long-running.
     final List<V> itemList = new ArrayList<>(1);
-    cache.computeIfPresent(key, (k, cacheItem) -> {
-      if (cacheItem.shouldCleanup()) {
+    cache.computeIfPresent(timeout.getElement(), (k, cacheItem) -> {
+      if (cacheItem.timeout != timeout) {
+        // The entry has been replaced since it was scheduled.
+        return cacheItem;
+      }
+      if (cacheItem.pinCount == 0 && cacheItem.shouldCleanup()) {
         itemList.add(cacheItem.item);
         // Removes the item from the cache map.
         return null;
       }
 
+      // The entry has been accessed since it was scheduled, or isn't marked for cleanup yet: check it again at
+      // its current expiration time, or at the next cleanup if it has already expired.
+      expirationWheel.reschedule(timeout, cacheItem.expirationTimeNano);
       return cacheItem;
     });
 
@@ -155,12 +229,167 @@ public class SlidingExpirationCache<K, V> {
       return;
     }
 
-    V item = itemList.get(0);
-    if (item != null && itemDisposalFunc != null) {
+    disposeInBackground(itemList.get(0));
+  }
+
+  /**
+   * Dispose of an item removed by a cleanup or an eviction. {@link AutoCloseable} items are disposed on the
+   * {@link MonitoringScheduler} since closing them may take a while.
+   *
+   * @param item the item to dispose of
+   */
+  protected void disposeInBackground(final V item) {
+    if (item == null || itemDisposalFunc == null) {
+      return;
+    }
+    if (item instanceof AutoCloseable) {
+      MonitoringScheduler.execute("SlidingExpirationCache disposal", () -> itemDisposalFunc.dispose(item));
+    } else {
       itemDisposalFunc.dispose(item);
     }
   }
 
+  /**
+   * Remove and dispose of entries until the cache holds at most the given number of entries and the total weight of
+   * its items is at most the given weight. Entries are evicted in the order defined by the eviction policy, and only
+   * if they aren't pinned and {@link ShouldDisposeFunc} (if defined) indicates that they can be disposed, regardless
+   * of their expiration time. The cache may therefore remain over its limits.
+   *
+   * <p>The entries to evict are selected in batches with a bounded heap, starting with as many entries as the cache
+   * is over its maximum number of entries, so that evicting a few entries doesn't sort the whole cache.
+   *
+   * @param maxEntries     the maximum number of entries, or 0 for no limit
+   * @param maxTotalWeight the maximum total weight of the items, or 0 for no limit
+   * @param itemWeightFunc a function returning the weight of an item, or null if the items have no weight
+   * @param evictionPolicy the order in which entries are evicted
+   * @return the number of evicted entries
+   */
+  public int evict(
+      final int maxEntries,
+      final long maxTotalWeight,
+      final ItemWeightFunc<V> itemWeightFunc,
+      final EvictionPolicy evictionPolicy) {
+
+    int entryCount = cache.size();
+    long totalWeight = 0;
+    if (maxTotalWeight > 0 && itemWeightFunc != null) {
+      for (final CacheItem cacheItem : cache.values()) {
+        totalWeight += itemWeightFunc.getWeight(cacheItem.item);
+      }
+    }
+    if (!isOverLimit(entryCount, maxEntries, totalWeight, maxTotalWeight)) {
+      return 0;
+    }
+
+    // The entries that can't be evicted, left out of the next batches.
+    final Set<K> skippedKeys = new HashSet<>();
+    int evicted = 0;
+    int batchSize = Math.max(1, maxEntries > 0 ? entryCount - maxEntries : 0);
+    while (true) {
+      final List<EvictionCandidate> candidates = selectEvictionCandidates(batchSize, evictionPolicy, skippedKeys);
+      for (final EvictionCandidate candidate : candidates) {
+        if (!isOverLimit(entryCount, maxEntries, totalWeight, maxTotalWeight)) {
+          return evicted;
+        }
+        final CacheItem cacheItem = candidate.cacheItem;
+        final ShouldDisposeFunc<V> tempShouldDisposeFunc = shouldDisposeFunc.get();
+        if (tempShouldDisposeFunc != null && !tempShouldDisposeFunc.shouldDispose(cacheItem.item)) {
+          skippedKeys.add(candidate.key);
+          continue;
+        }
+        // The weight is read before removing the item, since disposing of it may change it.
+        final long weight =
+            maxTotalWeight > 0 && itemWeightFunc != null ? itemWeightFunc.getWeight(cacheItem.item) : 0;
+        // The entry is removed only if it hasn't been pinned in the meantime.
+        final AtomicBoolean isRemoved = new AtomicBoolean(false);
+        cache.computeIfPresent(candidate.key, (k, currentItem) -> {
+          if (currentItem != cacheItem || currentItem.pinCount > 0) {
+            return currentItem;
+          }
+          isRemoved.set(true);
+          return null;
+        });
+        if (!isRemoved.get()) {
+          skippedKeys.add(candidate.key);
+          continue;
+        }
+        expirationWheel.cancel(cacheItem.timeout);
+        disposeInBackground(cacheItem.item);
+        entryCount--;
+        totalWeight -= weight;
+        evicted++;
+      }
+      if (!isOverLimit(entryCount, maxEntries, totalWeight, maxTotalWeight) || candidates.size() < batchSize) {
+        return evicted;
+      }
+      batchSize = batchSize > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : batchSize * 2;
+    }
+  }
+
+  /**
+   * Returns the first entries in eviction order, leaving out pinned entries and the given keys.
+   *
+   * @param maxCandidates  the maximum number of entries to return
+   * @param evictionPolicy the eviction order
+   * @param skippedKeys    the keys of the entries to leave out
+   * @return the entries, in eviction order
+   */
+  private List<EvictionCandidate> selectEvictionCandidates(
+      final int maxCandidates,
+      final EvictionPolicy evictionPolicy,
+      final Set<K> skippedKeys) {
+    final Comparator<EvictionCandidate> evictionOrder = (candidate1, candidate2) -> compareEvictionOrder(
+        evictionPolicy,
+        candidate1.accessCount,
+        candidate1.lastAccessTimeNano,
+        candidate2.accessCount,
+        candidate2.lastAccessTimeNano);
+
+    // The head of the heap is the candidate to be evicted last, replaced when an entry should be evicted before it.
+    final PriorityQueue<EvictionCandidate> heap = new PriorityQueue<>(
+        Math.min(maxCandidates, Math.max(1, cache.size())), evictionOrder.reversed());
+    for (final Map.Entry<K, CacheItem> entry : cache.entrySet()) {
+      final CacheItem cacheItem = entry.getValue();
+      if (cacheItem.pinCount > 0 || skippedKeys.contains(entry.getKey())) {
+        continue;
+      }
+      // The access statistics are copied, since they may change while the candidates are compared.
+      final long accessCount = cacheItem.accessCount;
+      final long lastAccessTimeNano = cacheItem.lastAccessTimeNano;
+      if (heap.size() < maxCandidates) {
+        heap.add(new EvictionCandidate(entry.getKey(), cacheItem, accessCount, lastAccessTimeNano));
+      } else {
+        final EvictionCandidate last = heap.peek();
+        if (compareEvictionOrder(
+            evictionPolicy, accessCount, lastAccessTimeNano, last.accessCount, last.lastAccessTimeNano) < 0) {
+          heap.poll();
+          heap.add(new EvictionCandidate(entry.getKey(), cacheItem, accessCount, lastAccessTimeNano));
+        }
+      }
+    }
+
+    final List<EvictionCandidate> candidates = new ArrayList<>(heap);
+    candidates.sort(evictionOrder);
+    return candidates;
+  }
+
+  private static int compareEvictionOrder(
+      final EvictionPolicy evictionPolicy,
+      final long accessCount1,
+      final long lastAccessTimeNano1,
+      final long accessCount2,
+      final long lastAccessTimeNano2) {
+    if (evictionPolicy == EvictionPolicy.LEAST_FREQUENTLY_USED && accessCount1 != accessCount2) {
+      return Long.compare(accessCount1, accessCount2);
+    }
+    return Long.compare(lastAccessTimeNano1, lastAccessTimeNano2);
+  }
+
+  private static boolean isOverLimit(
+      final int entryCount, final int maxEntries, final long totalWeight, final long maxTotalWeight) {
+    return (maxEntries > 0 && entryCount > maxEntries) || (maxTotalWeight > 0 && totalWeight > maxTotalWeight);
+  }
+
   /**
    * Remove and dispose of all entries in the cache.
    */
@@ -169,6 +398,7 @@ public class SlidingExpirationCache<K, V> {
       removeAndDispose(key);
     }
     cache.clear();
+    expirationWheel.clear();
   }
 
   /**
@@ -199,7 +429,22 @@ public class SlidingExpirationCache<K, V> {
     }
 
     this.cleanupTimeNanos.set(System.nanoTime() + cleanupIntervalNanos);
-    cache.forEach((key, value) -> removeIfExpired(key));
+    removeExpiredEntries();
+  }
+
+  /**
+   * Remove and dispose of the expired entries marked for cleanup. Only the entries whose expiration time has
+   * passed since the previous call are visited.
+   */
+  protected void removeExpiredEntries() {
+    for (final TimingWheel.Timeout<K> timeout : expirationWheel.advance(System.nanoTime())) {
+      try {
+        removeIfExpired(timeout);
+      } catch (Exception ex) {
+        // Check the entry again at the next cleanup.
+        expirationWheel.reschedule(timeout, System.nanoTime());
+      }
+    }
   }
 
   /**
@@ -224,6 +469,29 @@ public class SlidingExpirationCache<K, V> {
     boolean shouldDispose(V item);
   }
 
+  /**
+   * A function returning the weight of an item, used by {@link #evict} to limit the total weight of the cache.
+   *
+   * @param <V> the type of object being weighed
+   */
+  public interface ItemWeightFunc<V> {
+    long getWeight(V item);
+  }
+
+  /**
+   * The order in which {@link #evict} removes entries.
+   */
+  public enum EvictionPolicy {
+    /**
+     * Evict the entries that haven't been accessed for the longest time first.
+     */
+    LEAST_RECENTLY_USED,
+    /**
+     * Evict the entries that have been accessed the least number of times first, then the least recently used ones.
+     */
+    LEAST_FREQUENTLY_USED
+  }
+
   /**
    * An optional function defining extra cleanup steps to take when a cache item is cleaned up.
    *
@@ -238,19 +506,47 @@ public class SlidingExpirationCache<K, V> {
     return cache;
   }
 
+  private class EvictionCandidate {
+    private final K key;
+    private final CacheItem cacheItem;
+    private final long accessCount;
+    private final long lastAccessTimeNano;
+
+    private EvictionCandidate(
+        final K key,
+        final CacheItem cacheItem,
+        final long accessCount,
+        final long lastAccessTimeNano) {
+      this.key = key;
+      this.cacheItem = cacheItem;
+      this.accessCount = accessCount;
+      this.lastAccessTimeNano = lastAccessTimeNano;
+    }
+  }
+
   class CacheItem {
     private final V item;
     private long expirationTimeNano;
+    private final TimingWheel.Timeout<K> timeout;
+    // The number of callers using the item, see computeIfAbsentAndPin(). Only updated inside a compute() of the
+    // cache map on the key of the entry.
+    private int pinCount;
+    // Access statistics used by evict(). They aren't updated atomically and are only approximate.
+    private long lastAccessTimeNano;
+    private long accessCount;
 
     /**
      * CacheItem constructor.
      *
+     * @param key                the key of the item, used to find it when it expires
      * @param item               the item value
      * @param expirationTimeNano the amount of time before a CacheItem should be marked as expired.
      */
-    public CacheItem(final V item, final long expirationTimeNano) {
+    public CacheItem(final K key, final V item, final long expirationTimeNano) {
       this.item = item;
       this.expirationTimeNano = expirationTimeNano;
+      this.timeout = expirationWheel.schedule(key, expirationTimeNano);
+      this.lastAccessTimeNano = System.nanoTime();
     }
 
     /**
@@ -276,7 +572,10 @@ public class SlidingExpirationCache<K, V> {
      * @return the item value
      */
     public CacheItem withExtendExpiration(final long itemExpirationNano) {
-      this.expirationTimeNano = System.nanoTime() + itemExpirationNano;
+      final long currentTimeNano = System.nanoTime();
+      this.expirationTimeNano = currentTimeNano + itemExpirationNano;
+      this.lastAccessTimeNano = currentTimeNano;
+      this.accessCount++;
       return this;
     }
 
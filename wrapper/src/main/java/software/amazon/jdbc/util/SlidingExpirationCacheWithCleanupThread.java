@@ -16,9 +16,6 @@
 
 package software.amazon.jdbc.util;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
@@ -27,11 +24,6 @@ public class SlidingExpirationCacheWithCleanupThread<K, V> extends SlidingExpira
   private static final Logger LOGGER =
       Logger.getLogger(SlidingExpirationCacheWithCleanupThread.class.getName());
 
-  protected final ExecutorService cleanupThreadPool = Executors.newFixedThreadPool(1, runnableTarget -> {
-    final Thread monitoringThread = new Thread(runnableTarget);
-    monitoringThread.setDaemon(true);
-    return monitoringThread;
-  });
   protected final ReentrantLock initLock = new ReentrantLock();
   protected boolean isInitialized = false;
 
@@ -60,22 +52,17 @@ public class SlidingExpirationCacheWithCleanupThread<K, V> extends SlidingExpira
       initLock.lock();
       try {
         if (!isInitialized) {
-          cleanupThreadPool.submit(() -> {
-            while (true) {
-              TimeUnit.NANOSECONDS.sleep(this.cleanupIntervalNanos);
-
-              LOGGER.finest("Cleaning up...");
-              this.cleanupTimeNanos.set(System.nanoTime() + cleanupIntervalNanos);
-              cache.forEach((key, value) -> {
-                try {
-                  removeIfExpired(key);
-                } catch (Exception ex) {
-                  // ignore
-                }
-              });
-            }
-          });
-          cleanupThreadPool.shutdown();
+          // The cleanup runs on the shared monitoring scheduler rather than on a thread owned by the cache.
+          MonitoringScheduler.schedule(
+              "SlidingExpirationCache cleanup",
+              () -> {
+                LOGGER.finest("Cleaning up...");
+                this.cleanupTimeNanos.set(System.nanoTime() + cleanupIntervalNanos);
+                removeExpiredEntries();
+                return this.cleanupIntervalNanos;
+              },
+              this.cleanupIntervalNanos,
+              null);
           isInitialized = true;
         }
       } finally {
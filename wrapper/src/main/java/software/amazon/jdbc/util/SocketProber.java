@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Checks that hosts accept TCP connections, with a single driver-wide daemon thread.
+ *
+ * <p>A probe opens a non-blocking socket to the host, and succeeds as soon as the TCP handshake completes. The
+ * socket is then closed without sending anything, so the database doesn't create a session. All the pending
+ * probes are multiplexed on one {@link Selector}, so checking hundreds of hosts doesn't take hundreds of threads.
+ * The host name is resolved by the thread starting the probe.
+ */
+public class SocketProber {
+
+  private static final Logger LOGGER = Logger.getLogger(SocketProber.class.getName());
+
+  private static final Queue<Probe> newProbes = new ConcurrentLinkedQueue<>();
+  private static @Nullable Selector selector;
+
+  private SocketProber() {
+  }
+
+  /**
+   * Checks that a host accepts TCP connections, and waits for the result.
+   *
+   * @param host the host name or IP address
+   * @param port the port
+   * @param timeoutNano how long to wait for the TCP handshake
+   * @return true if the handshake completed in time
+   */
+  public static boolean isReachable(final String host, final int port, final long timeoutNano) {
+    try {
+      return probe(host, port, timeoutNano).get(timeoutNano, TimeUnit.NANOSECONDS);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (final ExecutionException | TimeoutException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Starts checking that a host accepts TCP connections.
+   *
+   * @param host the host name or IP address
+   * @param port the port
+   * @param timeoutNano how long to wait for the TCP handshake
+   * @return a future completed with true once the handshake completes, or with false if it fails or times out
+   */
+  public static CompletableFuture<Boolean> probe(final String host, final int port, final long timeoutNano) {
+    final CompletableFuture<Boolean> result = new CompletableFuture<>();
+    SocketChannel channel = null;
+    try {
+      final InetSocketAddress address = new InetSocketAddress(host, port);
+      if (address.isUnresolved()) {
+        result.complete(false);
+        return result;
+      }
+
+      channel = SocketChannel.open();
+      channel.configureBlocking(false);
+      if (channel.connect(address)) {
+        closeQuietly(channel);
+        result.complete(true);
+        return result;
+      }
+
+      newProbes.add(new Probe(channel, System.nanoTime() + timeoutNano, result));
+      getSelector().wakeup();
+    } catch (final IOException | RuntimeException ex) {
+      LOGGER.finest(() -> Messages.get(
+          "SocketProber.probeFailed", new Object[] {host, String.valueOf(port), ex.getMessage()}));
+      if (channel != null) {
+        closeQuietly(channel);
+      }
+      result.complete(false);
+    }
+    return result;
+  }
+
+  private static synchronized Selector getSelector() throws IOException {
+    if (selector == null) {
+      final Selector newSelector = Selector.open();
+      final Thread selectorThread = new Thread(() -> run(newSelector), "aws-jdbc-socket-prober");
+      selectorThread.setDaemon(true);
+      selectorThread.start();
+      selector = newSelector;
+    }
+    return selector;
+  }
+
+  private static void run(final Selector selector) {
+    // Pending probes ordered by deadline, only accessed by this thread.
+    final PriorityQueue<Probe> pendingProbes = new PriorityQueue<>(
+        (probe1, probe2) -> Long.compare(probe1.deadlineNano, probe2.deadlineNano));
+
+    while (true) {
+      try {
+        Probe newProbe;
+        while ((newProbe = newProbes.poll()) != null) {
+          try {
+            newProbe.channel.register(selector, SelectionKey.OP_CONNECT, newProbe);
+            pendingProbes.add(newProbe);
+          } catch (final IOException ex) {
+            newProbe.complete(false);
+          }
+        }
+
+        final Probe nextProbe = pendingProbes.peek();
+        if (nextProbe == null) {
+          selector.select();
+        } else {
+          selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextProbe.deadlineNano - System.nanoTime())));
+        }
+
+        final Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+        while (selectedKeys.hasNext()) {
+          final SelectionKey key = selectedKeys.next();
+          selectedKeys.remove();
+          final Probe probe = (Probe) key.attachment();
+          boolean connected;
+          try {
+            connected = probe.channel.finishConnect();
+          } catch (final IOException ex) {
+            connected = false;
+          }
+          probe.complete(connected);
+        }
+
+        final long currentTimeNano = System.nanoTime();
+        Probe probe;
+        while ((probe = pendingProbes.peek()) != null
+            && (probe.result.isDone() || probe.deadlineNano - currentTimeNano <= 0)) {
+          pendingProbes.poll();
+          probe.complete(false);
+        }
+      } catch (final ClosedSelectorException ex) {
+        return;
+      } catch (final Exception ex) {
+        // The loop keeps serving the other probes.
+        LOGGER.log(Level.FINEST, Messages.get("SocketProber.unexpectedException"), ex);
+      }
+    }
+  }
+
+  private static void closeQuietly(final SocketChannel channel) {
+    try {
+      channel.close();
+    } catch (final IOException ex) {
+      // ignore
+    }
+  }
+
+  private static final class Probe {
+    private final SocketChannel channel;
+    private final long deadlineNano;
+    private final CompletableFuture<Boolean> result;
+
+    private Probe(final SocketChannel channel, final long deadlineNano, final CompletableFuture<Boolean> result) {
+      this.channel = channel;
+      this.deadlineNano = deadlineNano;
+      this.result = result;
+    }
+
+    // Completing a probe closes its socket. A probe completes once; later calls do nothing.
+    private void complete(final boolean connected) {
+      if (this.result.isDone()) {
+        return;
+      }
+      closeQuietly(this.channel);
+      this.result.complete(connected);
+    }
+  }
+}
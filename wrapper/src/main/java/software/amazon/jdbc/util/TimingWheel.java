@@ -0,0 +1,261 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A hierarchical timing wheel tracking the expiration times of cache entries.
+ *
+ * <p>Each level of the wheel is an array of buckets covering a fixed time range: the first level has buckets of
+ * about 1 ms, and each next level has buckets 64 times larger than the previous one, up to about 13 days. An
+ * element is placed in the bucket of the finest level that covers its deadline, and is moved to finer levels as
+ * time passes. Scheduling and cancelling an element are O(1), and {@link #advance(long)} only visits the buckets
+ * of the time elapsed since the previous call, so that expiring entries never requires scanning the whole cache.
+ *
+ * <p>The wheel doesn't run by itself: its owner calls {@link #advance(long)} to collect the elements that are due.
+ *
+ * @param <T> the type of the scheduled elements
+ */
+public class TimingWheel<T> {
+
+  // Bucket durations are powers of two, so that finding the bucket of a time is a shift and a mask.
+  // The last level is a single overflow bucket for the deadlines beyond the range of the other levels.
+  protected static final int[] SHIFTS = {20, 26, 32, 38, 44, 50};
+  protected static final int[] BUCKET_COUNTS = {64, 64, 64, 64, 64, 1};
+
+  protected final ReentrantLock lock = new ReentrantLock();
+  protected final Bucket<T>[][] wheel;
+  protected long currentTimeNano;
+  protected int size;
+
+  @SuppressWarnings("unchecked")
+  public TimingWheel(final long currentTimeNano) {
+    this.currentTimeNano = currentTimeNano;
+    this.wheel = new Bucket[SHIFTS.length][];
+    for (int level = 0; level < SHIFTS.length; level++) {
+      this.wheel[level] = new Bucket[BUCKET_COUNTS[level]];
+      for (int index = 0; index < BUCKET_COUNTS[level]; index++) {
+        this.wheel[level][index] = new Bucket<>();
+      }
+    }
+  }
+
+  /**
+   * Schedules an element.
+   *
+   * @param element the element
+   * @param deadlineNano the time, as returned by {@link System#nanoTime()}, after which the element is due
+   * @return the handle used to reschedule or cancel the element
+   */
+  public Timeout<T> schedule(final T element, final long deadlineNano) {
+    final Timeout<T> timeout = new Timeout<>(element, deadlineNano);
+    this.lock.lock();
+    try {
+      this.add(timeout);
+    } finally {
+      this.lock.unlock();
+    }
+    return timeout;
+  }
+
+  /**
+   * Moves an element to a new deadline. The element is scheduled again if it was due or cancelled.
+   *
+   * @param timeout the handle returned by {@link #schedule(Object, long)}
+   * @param deadlineNano the new deadline
+   */
+  public void reschedule(final Timeout<T> timeout, final long deadlineNano) {
+    this.lock.lock();
+    try {
+      this.remove(timeout);
+      timeout.deadlineNano = deadlineNano;
+      this.add(timeout);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public void cancel(final Timeout<T> timeout) {
+    this.lock.lock();
+    try {
+      this.remove(timeout);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public void clear() {
+    this.lock.lock();
+    try {
+      for (final Bucket<T>[] buckets : this.wheel) {
+        for (final Bucket<T> bucket : buckets) {
+          while (bucket.head != null) {
+            this.remove(bucket.head);
+          }
+        }
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Advances the wheel to the given time and returns the elements that are due. The returned elements are no
+   * longer scheduled.
+   *
+   * @param currentTimeNano the current time, as returned by {@link System#nanoTime()}
+   * @return the elements whose deadline is not after the given time
+   */
+  public List<Timeout<T>> advance(final long currentTimeNano) {
+    final List<Timeout<T>> dueTimeouts = new ArrayList<>();
+    this.lock.lock();
+    try {
+      final long previousTimeNano = this.currentTimeNano;
+      if (currentTimeNano - previousTimeNano < 0) {
+        return dueTimeouts;
+      }
+      this.currentTimeNano = currentTimeNano;
+
+      for (int level = 0; level < SHIFTS.length; level++) {
+        final long previousTicks = previousTimeNano >> SHIFTS[level];
+        final long currentTicks = currentTimeNano >> SHIFTS[level];
+        // The current bucket of the first level may hold elements due before the end of the current tick, so it's
+        // visited by every call. On the other levels, a bucket is visited once its time range has started.
+        final long firstTick = level == 0 ? previousTicks : previousTicks + 1;
+        if (currentTicks < firstTick) {
+          break;
+        }
+        final long tickCount = Math.min(currentTicks - firstTick + 1, BUCKET_COUNTS[level]);
+        for (long tick = firstTick; tick < firstTick + tickCount; tick++) {
+          this.expireBucket(this.wheel[level][(int) (tick & (BUCKET_COUNTS[level] - 1))], dueTimeouts);
+        }
+      }
+    } finally {
+      this.lock.unlock();
+    }
+    return dueTimeouts;
+  }
+
+  /**
+   * Returns the number of scheduled elements.
+   *
+   * @return the number of scheduled elements
+   */
+  public int size() {
+    this.lock.lock();
+    try {
+      return this.size;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  protected void expireBucket(final Bucket<T> bucket, final List<Timeout<T>> dueTimeouts) {
+    Timeout<T> timeout = bucket.head;
+    bucket.head = null;
+    while (timeout != null) {
+      final Timeout<T> next = timeout.next;
+      timeout.bucket = null;
+      timeout.previous = null;
+      timeout.next = null;
+      this.size--;
+      if (timeout.deadlineNano - this.currentTimeNano <= 0) {
+        dueTimeouts.add(timeout);
+      } else {
+        // Not due yet: move it to the level matching its remaining time.
+        this.add(timeout);
+      }
+      timeout = next;
+    }
+  }
+
+  protected void add(final Timeout<T> timeout) {
+    // A deadline in the past is placed in the current bucket, which is visited by the next call to advance().
+    final long deadlineNano = timeout.deadlineNano - this.currentTimeNano < 0
+        ? this.currentTimeNano
+        : timeout.deadlineNano;
+    final long remainingNano = deadlineNano - this.currentTimeNano;
+
+    int level = 0;
+    while (level < SHIFTS.length - 1 && remainingNano >= 1L << SHIFTS[level + 1]) {
+      level++;
+    }
+    final Bucket<T> bucket =
+        this.wheel[level][(int) ((deadlineNano >> SHIFTS[level]) & (BUCKET_COUNTS[level] - 1))];
+
+    timeout.bucket = bucket;
+    timeout.next = bucket.head;
+    if (bucket.head != null) {
+      bucket.head.previous = timeout;
+    }
+    bucket.head = timeout;
+    this.size++;
+  }
+
+  protected void remove(final Timeout<T> timeout) {
+    final Bucket<T> bucket = timeout.bucket;
+    if (bucket == null) {
+      return;
+    }
+    if (timeout.previous == null) {
+      bucket.head = timeout.next;
+    } else {
+      timeout.previous.next = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.previous = timeout.previous;
+    }
+    timeout.bucket = null;
+    timeout.previous = null;
+    timeout.next = null;
+    this.size--;
+  }
+
+  protected static class Bucket<T> {
+    @Nullable Timeout<T> head;
+  }
+
+  /**
+   * An element scheduled in a {@link TimingWheel}.
+   *
+   * @param <T> the type of the element
+   */
+  public static class Timeout<T> {
+    protected final T element;
+    protected long deadlineNano;
+    protected @Nullable Bucket<T> bucket;
+    protected @Nullable Timeout<T> previous;
+    protected @Nullable Timeout<T> next;
+
+    protected Timeout(final T element, final long deadlineNano) {
+      this.element = element;
+      this.deadlineNano = deadlineNano;
+    }
+
+    public T getElement() {
+      return this.element;
+    }
+
+    public long getDeadlineNano() {
+      return this.deadlineNano;
+    }
+  }
+}
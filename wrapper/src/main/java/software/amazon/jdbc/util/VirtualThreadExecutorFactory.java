@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link ExecutorFactory} running each task on its own virtual thread. Virtual threads are available from
+ * JDK 21. The driver is built for Java 8, so the JDK method is looked up at runtime.
+ */
+public class VirtualThreadExecutorFactory implements ExecutorFactory {
+
+  private static final Logger LOGGER = Logger.getLogger(VirtualThreadExecutorFactory.class.getName());
+
+  private static final @Nullable MethodHandle newVirtualThreadPerTaskExecutor = findFactoryMethod();
+
+  /**
+   * Returns whether the running JVM supports virtual threads.
+   *
+   * @return true if virtual threads are available
+   */
+  public static boolean isSupported() {
+    return newVirtualThreadPerTaskExecutor != null;
+  }
+
+  @Override
+  public ExecutorService newExecutorService(final String name, final int maxThreads) {
+    if (newVirtualThreadPerTaskExecutor == null) {
+      throw new UnsupportedOperationException(Messages.get("VirtualThreadExecutorFactory.unsupported"));
+    }
+    try {
+      return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke();
+    } catch (final RuntimeException | Error ex) {
+      throw ex;
+    } catch (final Throwable ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  @Override
+  public boolean usesLightweightThreads() {
+    return true;
+  }
+
+  private static @Nullable MethodHandle findFactoryMethod() {
+    final MethodHandle method;
+    try {
+      method = MethodHandles.publicLookup().findStatic(
+          Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+    } catch (final NoSuchMethodException | IllegalAccessException ex) {
+      return null;
+    }
+
+    // On JDK 19 and 20 virtual threads are a preview feature and the method throws unless it's enabled.
+    try {
+      ((ExecutorService) method.invoke()).shutdown();
+      return method;
+    } catch (final Throwable ex) {
+      LOGGER.finest(() -> Messages.get("VirtualThreadExecutorFactory.unavailable", new Object[] {ex.getMessage()}));
+      return null;
+    }
+  }
+}
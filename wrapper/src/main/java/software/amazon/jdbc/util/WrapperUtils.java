@@ -18,6 +18,8 @@ package software.amazon.jdbc.util;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -40,6 +42,16 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,13 +60,19 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.BooleanJdbcCallable;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.DoubleJdbcCallable;
+import software.amazon.jdbc.IntJdbcCallable;
 import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.JdbcRunnable;
+import software.amazon.jdbc.LongJdbcCallable;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
@@ -80,35 +98,81 @@ import software.amazon.jdbc.wrapper.StructWrapper;
 
 public class WrapperUtils {
 
+  @FunctionalInterface
+  private interface WrapperFactory {
+    Object create(Object toProxy, ConnectionPluginManager pluginManager);
+  }
+
   private static final ConcurrentMap<Class<?>, Class<?>[]> getImplementedInterfacesCache =
       new ConcurrentHashMap<>();
   private static final ConcurrentMap<Class<?>, Boolean> isJdbcInterfaceCache =
       new ConcurrentHashMap<>();
 
-  private static final Map<Class<?>, Class<?>> availableWrappers =
-      new HashMap<Class<?>, Class<?>>() {
+  /**
+   * Wrapper constructors keyed by the JDBC interface they wrap. The constructors are called directly rather than
+   * through reflection.
+   */
+  private static final Map<Class<?>, WrapperFactory> availableWrappers =
+      new HashMap<Class<?>, WrapperFactory>() {
         {
-          put(CallableStatement.class, CallableStatementWrapper.class);
-          put(PreparedStatement.class, PreparedStatementWrapper.class);
-          put(Statement.class, StatementWrapper.class);
-          put(ResultSet.class, ResultSetWrapper.class);
-          put(Array.class, ArrayWrapper.class);
-          put(Blob.class, BlobWrapper.class);
-          put(NClob.class, NClobWrapper.class);
-          put(Clob.class, ClobWrapper.class);
-          put(Ref.class, RefWrapper.class);
-          put(Struct.class, StructWrapper.class);
-          put(Savepoint.class, SavepointWrapper.class);
-          put(DatabaseMetaData.class, DatabaseMetaDataWrapper.class);
-          put(ParameterMetaData.class, ParameterMetaDataWrapper.class);
-          put(ResultSetMetaData.class, ResultSetMetaDataWrapper.class);
-          put(SQLData.class, SQLDataWrapper.class);
-          put(SQLInput.class, SQLInputWrapper.class);
-          put(SQLOutput.class, SQLOutputWrapper.class);
-          put(SQLType.class, SQLTypeWrapper.class);
+          put(CallableStatement.class, (o, m) -> new CallableStatementWrapper((CallableStatement) o, m));
+          put(PreparedStatement.class, (o, m) -> new PreparedStatementWrapper((PreparedStatement) o, m));
+          put(Statement.class, (o, m) -> new StatementWrapper((Statement) o, m));
+          put(ResultSet.class, (o, m) -> new ResultSetWrapper((ResultSet) o, m));
+          put(Array.class, (o, m) -> new ArrayWrapper((Array) o, m));
+          put(Blob.class, (o, m) -> new BlobWrapper((Blob) o, m));
+          put(NClob.class, (o, m) -> new NClobWrapper((NClob) o, m));
+          put(Clob.class, (o, m) -> new ClobWrapper((Clob) o, m));
+          put(Ref.class, (o, m) -> new RefWrapper((Ref) o, m));
+          put(Struct.class, (o, m) -> new StructWrapper((Struct) o, m));
+          put(Savepoint.class, (o, m) -> new SavepointWrapper((Savepoint) o, m));
+          put(DatabaseMetaData.class, (o, m) -> new DatabaseMetaDataWrapper((DatabaseMetaData) o, m));
+          put(ParameterMetaData.class, (o, m) -> new ParameterMetaDataWrapper((ParameterMetaData) o, m));
+          put(ResultSetMetaData.class, (o, m) -> new ResultSetMetaDataWrapper((ResultSetMetaData) o, m));
+          put(SQLData.class, (o, m) -> new SQLDataWrapper((SQLData) o, m));
+          put(SQLInput.class, (o, m) -> new SQLInputWrapper((SQLInput) o, m));
+          put(SQLOutput.class, (o, m) -> new SQLOutputWrapper((SQLOutput) o, m));
+          put(SQLType.class, (o, m) -> new SQLTypeWrapper((SQLType) o, m));
         }
       };
 
+  /**
+   * Value types returned by JDBC getters. They are never wrapped, so they skip the wrapper lookup.
+   */
+  private static final Set<Class<?>> neverWrappedClasses = new HashSet<>(Arrays.asList(
+      String.class,
+      Boolean.class,
+      Character.class,
+      Byte.class,
+      Short.class,
+      Integer.class,
+      Long.class,
+      Float.class,
+      Double.class,
+      BigDecimal.class,
+      BigInteger.class,
+      byte[].class,
+      UUID.class,
+      java.util.Date.class,
+      java.sql.Date.class,
+      Time.class,
+      Timestamp.class,
+      Instant.class,
+      LocalDate.class,
+      LocalTime.class,
+      LocalDateTime.class,
+      OffsetTime.class,
+      OffsetDateTime.class,
+      ZonedDateTime.class));
+
+  private static final WrapperFactory NO_WRAPPER = (toProxy, pluginManager) -> toProxy;
+
+  /**
+   * Wrapping decisions keyed by the declared result class and then by the runtime class of the returned object.
+   */
+  private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, WrapperFactory>> wrapperFactoryCache =
+      new ConcurrentHashMap<>();
+
   private static final Set<Class<?>> allWrapperClasses = new HashSet<Class<?>>() {
     {
       add(ArrayWrapper.class);
@@ -183,9 +247,8 @@ public class WrapperUtils {
       final JdbcCallable<T, RuntimeException> jdbcMethodFunc,
       final Object... jdbcMethodArgs) {
 
-    if (!AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
-      pluginManager.lock();
-    }
+    final boolean isCrossThreadMethod = AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName);
+    pluginManager.beginExecution(isCrossThreadMethod, RuntimeException.class);
     TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
     TelemetryContext context = null;
 
@@ -211,9 +274,7 @@ public class WrapperUtils {
         throw new RuntimeException(e);
       }
     } finally {
-      if (pluginManager.isHeldByCurrentThread()) {
-        pluginManager.unlock();
-      }
+      pluginManager.endExecution(isCrossThreadMethod);
       if (context != null) {
         context.closeContext();
       }
@@ -230,9 +291,8 @@ public class WrapperUtils {
       final Object... jdbcMethodArgs)
       throws E {
 
-    if (!AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
-      pluginManager.lock();
-    }
+    final boolean isCrossThreadMethod = AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName);
+    pluginManager.beginExecution(isCrossThreadMethod, exceptionClass);
     TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
     TelemetryContext context = null;
 
@@ -258,15 +318,293 @@ public class WrapperUtils {
       }
 
     } finally {
-      if (pluginManager.isHeldByCurrentThread()) {
-        pluginManager.unlock();
+      pluginManager.endExecution(isCrossThreadMethod);
+      if (context != null) {
+        context.closeContext();
+      }
+    }
+  }
+
+  public static void runWithPlugins(
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcRunnable<RuntimeException> jdbcMethodFunc,
+      final Object... jdbcMethodArgs) {
+
+    executeWithPlugins(
+        Void.TYPE,
+        RuntimeException.class,
+        pluginManager,
+        methodInvokeOn,
+        jdbcMethod,
+        () -> {
+          jdbcMethodFunc.call();
+          return null;
+        },
+        jdbcMethodArgs);
+  }
+
+  public static <E extends Exception> void runWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcRunnable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    executeWithPlugins(
+        Void.TYPE,
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        jdbcMethod,
+        () -> {
+          jdbcMethodFunc.call();
+          return null;
+        },
+        jdbcMethodArgs);
+  }
+
+  public static <T> T executeWithPlugins(
+      final Class<T> resultClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, RuntimeException> jdbcMethodFunc,
+      final Object... jdbcMethodArgs) {
+
+    return executeWithPlugins(
+        resultClass,
+        RuntimeException.class,
+        pluginManager,
+        methodInvokeOn,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  public static <T, E extends Exception> T executeWithPlugins(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    pluginManager.beginExecution(jdbcMethod.isAsynchronous, exceptionClass);
+    TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
+    // Calls that aren't sampled for tracing don't open any telemetry context.
+    final boolean isTraced = telemetryFactory.shouldTrace(jdbcMethod);
+    TelemetryContext context = null;
+
+    try {
+      if (isTraced) {
+        context = telemetryFactory.openTelemetryContext(jdbcMethod.methodName, TelemetryTraceLevel.TOP_LEVEL);
+        context.setAttribute("jdbcCall", jdbcMethod.methodName);
       }
+
+      final T result =
+          pluginManager.execute(resultClass,
+              exceptionClass,
+              methodInvokeOn,
+              jdbcMethod,
+              jdbcMethodFunc,
+              jdbcMethodArgs,
+              isTraced);
+
+      if (context != null) {
+        context.setSuccess(true);
+      }
+
+      try {
+        return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
+      } catch (final InstantiationException e) {
+        if (context != null) {
+          context.setSuccess(false);
+        }
+        throw new RuntimeException(e);
+      }
+
+    } finally {
+      pluginManager.endExecution(jdbcMethod.isAsynchronous);
       if (context != null) {
         context.closeContext();
       }
     }
   }
 
+  /**
+   * Same as {@link #executeWithPlugins(Class, Class, ConnectionPluginManager, Object, JdbcMethod, JdbcCallable,
+   * Object...)} for JDBC methods returning a primitive value. The result is passed through the plugin pipeline
+   * without being boxed.
+   */
+  public static <E extends Exception> int executeIntWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final IntJdbcCallable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    pluginManager.beginExecution(jdbcMethod.isAsynchronous, exceptionClass);
+    TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
+    final boolean isTraced = telemetryFactory.shouldTrace(jdbcMethod);
+    TelemetryContext context = null;
+
+    try {
+      if (isTraced) {
+        context = telemetryFactory.openTelemetryContext(jdbcMethod.methodName, TelemetryTraceLevel.TOP_LEVEL);
+        context.setAttribute("jdbcCall", jdbcMethod.methodName);
+      }
+
+      final int result = pluginManager.executeInt(
+          exceptionClass, methodInvokeOn, jdbcMethod, jdbcMethodFunc, jdbcMethodArgs, isTraced);
+
+      if (context != null) {
+        context.setSuccess(true);
+      }
+      return result;
+
+    } finally {
+      pluginManager.endExecution(jdbcMethod.isAsynchronous);
+      if (context != null) {
+        context.closeContext();
+      }
+    }
+  }
+
+  public static <E extends Exception> long executeLongWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final LongJdbcCallable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    pluginManager.beginExecution(jdbcMethod.isAsynchronous, exceptionClass);
+    TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
+    final boolean isTraced = telemetryFactory.shouldTrace(jdbcMethod);
+    TelemetryContext context = null;
+
+    try {
+      if (isTraced) {
+        context = telemetryFactory.openTelemetryContext(jdbcMethod.methodName, TelemetryTraceLevel.TOP_LEVEL);
+        context.setAttribute("jdbcCall", jdbcMethod.methodName);
+      }
+
+      final long result = pluginManager.executeLong(
+          exceptionClass, methodInvokeOn, jdbcMethod, jdbcMethodFunc, jdbcMethodArgs, isTraced);
+
+      if (context != null) {
+        context.setSuccess(true);
+      }
+      return result;
+
+    } finally {
+      pluginManager.endExecution(jdbcMethod.isAsynchronous);
+      if (context != null) {
+        context.closeContext();
+      }
+    }
+  }
+
+  public static <E extends Exception> double executeDoubleWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final DoubleJdbcCallable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    pluginManager.beginExecution(jdbcMethod.isAsynchronous, exceptionClass);
+    TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
+    final boolean isTraced = telemetryFactory.shouldTrace(jdbcMethod);
+    TelemetryContext context = null;
+
+    try {
+      if (isTraced) {
+        context = telemetryFactory.openTelemetryContext(jdbcMethod.methodName, TelemetryTraceLevel.TOP_LEVEL);
+        context.setAttribute("jdbcCall", jdbcMethod.methodName);
+      }
+
+      final double result = pluginManager.executeDouble(
+          exceptionClass, methodInvokeOn, jdbcMethod, jdbcMethodFunc, jdbcMethodArgs, isTraced);
+
+      if (context != null) {
+        context.setSuccess(true);
+      }
+      return result;
+
+    } finally {
+      pluginManager.endExecution(jdbcMethod.isAsynchronous);
+      if (context != null) {
+        context.closeContext();
+      }
+    }
+  }
+
+  public static <E extends Exception> boolean executeBooleanWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final BooleanJdbcCallable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    pluginManager.beginExecution(jdbcMethod.isAsynchronous, exceptionClass);
+    TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
+    final boolean isTraced = telemetryFactory.shouldTrace(jdbcMethod);
+    TelemetryContext context = null;
+
+    try {
+      if (isTraced) {
+        context = telemetryFactory.openTelemetryContext(jdbcMethod.methodName, TelemetryTraceLevel.TOP_LEVEL);
+        context.setAttribute("jdbcCall", jdbcMethod.methodName);
+      }
+
+      final boolean result = pluginManager.executeBoolean(
+          exceptionClass, methodInvokeOn, jdbcMethod, jdbcMethodFunc, jdbcMethodArgs, isTraced);
+
+      if (context != null) {
+        context.setSuccess(true);
+      }
+      return result;
+
+    } finally {
+      pluginManager.endExecution(jdbcMethod.isAsynchronous);
+      if (context != null) {
+        context.closeContext();
+      }
+    }
+  }
+
+  /**
+   * Wraps an object obtained from the target driver without going through the plugins, for example a value
+   * read ahead by a result set, the same way the results of the plugins are wrapped.
+   *
+   * @param resultClass the declared result class of the JDBC method
+   * @param result the object obtained from the target driver
+   * @param pluginManager the plugin manager of the connection
+   * @param <T> the result type
+   * @return the object, wrapped if it's a JDBC object
+   */
+  public static @Nullable <T> T wrapResultIfNeeded(
+      final Class<T> resultClass, @Nullable final T result, final ConnectionPluginManager pluginManager) {
+    try {
+      return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
+    } catch (final InstantiationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   protected static @Nullable <T> T wrapWithProxyIfNeeded(
       final Class<T> resultClass, @Nullable final T toProxy, final ConnectionPluginManager pluginManager)
       throws InstantiationException {
@@ -275,15 +613,54 @@ public class WrapperUtils {
       return null;
     }
 
-    // Exceptional case
-    if (toProxy instanceof RowId || toProxy instanceof SQLXML) {
+    final Class<?> runtimeClass = toProxy.getClass();
+    if (resultClass.isPrimitive() || neverWrappedClasses.contains(runtimeClass)) {
       return toProxy;
     }
 
-    if (allWrapperClasses.contains(toProxy.getClass())) {
+    ConcurrentMap<Class<?>, WrapperFactory> factoriesByRuntimeClass = wrapperFactoryCache.get(resultClass);
+    if (factoriesByRuntimeClass == null) {
+      factoriesByRuntimeClass = wrapperFactoryCache.computeIfAbsent(resultClass, k -> new ConcurrentHashMap<>());
+    }
+
+    WrapperFactory wrapperFactory = factoriesByRuntimeClass.get(runtimeClass);
+    if (wrapperFactory == null) {
+      wrapperFactory = getWrapperFactory(resultClass, runtimeClass);
+      factoriesByRuntimeClass.putIfAbsent(runtimeClass, wrapperFactory);
+    }
+
+    if (wrapperFactory == NO_WRAPPER) {
       return toProxy;
     }
 
+    try {
+      return resultClass.cast(wrapperFactory.create(toProxy, pluginManager));
+    } catch (final ClassCastException e) {
+      throw new InstantiationException(
+          Messages.get(
+              "WrapperUtils.failedToInitializeClass",
+              new Object[] {runtimeClass.getName()}));
+    }
+  }
+
+  /**
+   * Decides how objects of the given runtime class returned as the given result class should be wrapped. The
+   * decision only depends on the two classes, so it's cached by {@link #wrapWithProxyIfNeeded}.
+   *
+   * @param resultClass  the declared result class of a JDBC method
+   * @param runtimeClass the class of the object returned by the target driver
+   * @return a factory creating the wrapper object, or {@link #NO_WRAPPER}
+   */
+  private static WrapperFactory getWrapperFactory(final Class<?> resultClass, final Class<?> runtimeClass) {
+    // Exceptional case
+    if (RowId.class.isAssignableFrom(runtimeClass) || SQLXML.class.isAssignableFrom(runtimeClass)) {
+      return NO_WRAPPER;
+    }
+
+    if (allWrapperClasses.contains(runtimeClass)) {
+      return NO_WRAPPER;
+    }
+
     Class<?> effectiveResultClass = resultClass;
 
     if (resultClass == Statement.class) {
@@ -291,46 +668,38 @@ public class WrapperUtils {
       // We need to choose the best result class based on actual toProxy object.
 
       // Order of the following if-statements is important!
-      if (toProxy instanceof CallableStatement) {
+      if (CallableStatement.class.isAssignableFrom(runtimeClass)) {
         effectiveResultClass = CallableStatement.class;
-      } else if (toProxy instanceof PreparedStatement) {
+      } else if (PreparedStatement.class.isAssignableFrom(runtimeClass)) {
         effectiveResultClass = PreparedStatement.class;
       }
     }
 
-    Class<?> wrapperClass = availableWrappers.get(effectiveResultClass);
+    WrapperFactory wrapperFactory = availableWrappers.get(effectiveResultClass);
 
-    if (wrapperClass != null) {
-      return createInstance(
-          wrapperClass,
-          resultClass,
-          new Class<?>[] {effectiveResultClass, ConnectionPluginManager.class},
-          toProxy,
-          pluginManager);
+    if (wrapperFactory != null) {
+      return wrapperFactory;
     }
 
-    for (final Class<?> iface : toProxy.getClass().getInterfaces()) {
+    for (final Class<?> iface : runtimeClass.getInterfaces()) {
       if (isJdbcInterface(iface)) {
-        wrapperClass = availableWrappers.get(iface);
-        if (wrapperClass != null) {
-          return createInstance(
-              wrapperClass,
-              resultClass,
-              new Class<?>[] {iface, ConnectionPluginManager.class},
-              toProxy,
-              pluginManager);
+        wrapperFactory = availableWrappers.get(iface);
+        if (wrapperFactory != null) {
+          return wrapperFactory;
         }
       }
     }
 
-    if (isJdbcInterface(toProxy.getClass())) {
-      throw new RuntimeException(
-          Messages.get(
-              "WrapperUtils.noWrapperClassExists",
-              new Object[] {toProxy.getClass().getName()}));
+    if (isJdbcInterface(runtimeClass)) {
+      final String message = Messages.get(
+          "WrapperUtils.noWrapperClassExists",
+          new Object[] {runtimeClass.getName()});
+      return (toProxy, pluginManager) -> {
+        throw new RuntimeException(message);
+      };
     }
 
-    return toProxy;
+    return NO_WRAPPER;
   }
 
   /**
@@ -16,8 +16,16 @@
 
 package software.amazon.jdbc.util.telemetry;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.util.StringUtils;
 
 public class DefaultTelemetryFactory implements TelemetryFactory {
 
@@ -29,6 +37,13 @@ public class DefaultTelemetryFactory implements TelemetryFactory {
   private final TelemetryFactory tracesTelemetryFactory;
   private final TelemetryFactory metricsTelemetryFactory;
 
+  private final double samplingRate;
+
+  /**
+   * JDBC methods that pass the include, exclude and network-bound filters, indexed by {@link JdbcMethod#ordinal()}.
+   */
+  private final boolean[] tracedMethods = new boolean[JdbcMethod.values().length];
+
   public DefaultTelemetryFactory(final Properties properties) {
     this.enableTelemetry = PropertyDefinition.ENABLE_TELEMETRY.getBoolean(properties);
     this.telemetryTracesBackend = PropertyDefinition.TELEMETRY_TRACES_BACKEND.getString(properties);
@@ -62,6 +77,38 @@ public class DefaultTelemetryFactory implements TelemetryFactory {
     } else {
       this.metricsTelemetryFactory = new NullTelemetryFactory();
     }
+
+    this.samplingRate = Double.parseDouble(PropertyDefinition.TELEMETRY_SAMPLING_RATE.getString(properties));
+    if (this.samplingRate < 0.0d || this.samplingRate > 1.0d) {
+      throw new RuntimeException(
+          this.samplingRate + " is not a valid telemetry sampling rate. The rate should be between 0.0 and 1.0.");
+    }
+
+    if (this.tracesTelemetryFactory.isTracingEnabled()) {
+      final Set<String> includedMethods = parseMethodNames(
+          PropertyDefinition.TELEMETRY_INCLUDED_METHODS.getString(properties));
+      final Set<String> excludedMethods = parseMethodNames(
+          PropertyDefinition.TELEMETRY_EXCLUDED_METHODS.getString(properties));
+      final boolean networkBoundMethodsOnly =
+          PropertyDefinition.TELEMETRY_NETWORK_BOUND_METHODS_ONLY.getBoolean(properties);
+
+      for (final JdbcMethod jdbcMethod : JdbcMethod.values()) {
+        this.tracedMethods[jdbcMethod.ordinal()] =
+            (includedMethods.isEmpty() || includedMethods.contains(jdbcMethod.methodName))
+                && !excludedMethods.contains(jdbcMethod.methodName)
+                && (!networkBoundMethodsOnly || jdbcMethod.isNetworkBound);
+      }
+    }
+  }
+
+  private static Set<String> parseMethodNames(final String methodNames) {
+    if (StringUtils.isNullOrEmpty(methodNames)) {
+      return Collections.emptySet();
+    }
+    return Arrays.stream(methodNames.split(","))
+        .map(String::trim)
+        .filter(methodName -> !methodName.isEmpty())
+        .collect(Collectors.toCollection(HashSet::new));
   }
 
   @Override
@@ -73,6 +120,19 @@ public class DefaultTelemetryFactory implements TelemetryFactory {
     return this.tracesTelemetryFactory.openTelemetryContext(name, effectiveTraceLevel);
   }
 
+  @Override
+  public boolean isTracingEnabled() {
+    return this.tracesTelemetryFactory.isTracingEnabled();
+  }
+
+  @Override
+  public boolean shouldTrace(final JdbcMethod jdbcMethod) {
+    if (!this.tracedMethods[jdbcMethod.ordinal()]) {
+      return false;
+    }
+    return this.samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < this.samplingRate;
+  }
+
   @Override
   public void postCopy(TelemetryContext telemetryContext, TelemetryTraceLevel traceLevel) {
     this.tracesTelemetryFactory.postCopy(telemetryContext, traceLevel);
@@ -27,6 +27,11 @@ public class NullTelemetryFactory implements TelemetryFactory {
     return NULL_TELEMETRY_CONTEXT;
   }
 
+  @Override
+  public boolean isTracingEnabled() {
+    return false;
+  }
+
   @Override
   public void postCopy(TelemetryContext telemetryContext, TelemetryTraceLevel traceLevel) {
     // do nothing
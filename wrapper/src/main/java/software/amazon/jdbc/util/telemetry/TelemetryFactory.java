@@ -16,6 +16,8 @@
 
 package software.amazon.jdbc.util.telemetry;
 
+import software.amazon.jdbc.JdbcMethod;
+
 public interface TelemetryFactory {
 
   TelemetryContext openTelemetryContext(String name, TelemetryTraceLevel traceLevel);
@@ -26,4 +28,25 @@ public interface TelemetryFactory {
 
   TelemetryGauge createGauge(String name, GaugeCallable<Long> callback);
 
+  /**
+   * Returns a boolean indicating if telemetry contexts opened by this factory are reported to a tracing backend.
+   *
+   * @return true if opened telemetry contexts are recorded, false if they're no-op contexts
+   */
+  default boolean isTracingEnabled() {
+    return true;
+  }
+
+  /**
+   * Returns a boolean indicating if the given JDBC call should be traced. The decision is made once per call, and
+   * calls that aren't traced don't open any telemetry context, neither for the call itself nor for the plugins
+   * handling it.
+   *
+   * @param jdbcMethod the JDBC method being called
+   * @return true if telemetry contexts should be opened for this call
+   */
+  default boolean shouldTrace(final JdbcMethod jdbcMethod) {
+    return this.isTracingEnabled();
+  }
+
 }
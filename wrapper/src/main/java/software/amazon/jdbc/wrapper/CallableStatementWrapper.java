@@ -42,6 +42,7 @@ import java.util.Calendar;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class CallableStatementWrapper implements CallableStatement {
@@ -61,7 +62,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.addBatch",
+        JdbcMethod.CALLABLE_STATEMENT_ADD_BATCH,
         () -> this.statement.addBatch());
   }
 
@@ -71,7 +72,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.addBatch",
+        JdbcMethod.CALLABLE_STATEMENT_ADD_BATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -82,7 +83,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.cancel",
+        JdbcMethod.CALLABLE_STATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -92,7 +93,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearBatch",
+        JdbcMethod.CALLABLE_STATEMENT_CLEAR_BATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -102,7 +103,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearParameters",
+        JdbcMethod.CALLABLE_STATEMENT_CLEAR_PARAMETERS,
         () -> this.statement.clearParameters());
   }
 
@@ -112,7 +113,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearWarnings",
+        JdbcMethod.CALLABLE_STATEMENT_CLEAR_WARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -122,7 +123,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.close",
+        JdbcMethod.CALLABLE_STATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -132,7 +133,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.closeOnCompletion",
+        JdbcMethod.CALLABLE_STATEMENT_CLOSE_ON_COMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
@@ -143,7 +144,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE,
         () -> this.statement.execute());
   }
 
@@ -154,7 +155,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -166,7 +167,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -179,7 +180,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -192,7 +193,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -205,7 +206,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeBatch",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_BATCH,
         () -> this.statement.executeBatch());
   }
 
@@ -216,7 +217,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeLargeUpdate",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_LARGE_UPDATE,
         () -> this.statement.executeLargeUpdate());
   }
 
@@ -227,7 +228,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeQuery",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_QUERY,
         () -> this.statement.executeQuery());
   }
 
@@ -238,7 +239,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeQuery",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_QUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
@@ -250,7 +251,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate());
   }
 
@@ -261,7 +262,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -273,7 +274,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -286,7 +287,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -299,7 +300,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        JdbcMethod.CALLABLE_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -312,7 +313,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getArray",
+        JdbcMethod.CALLABLE_STATEMENT_GET_ARRAY,
         () -> this.statement.getArray(parameterIndex),
         parameterIndex);
   }
@@ -324,7 +325,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getArray",
+        JdbcMethod.CALLABLE_STATEMENT_GET_ARRAY,
         () -> this.statement.getArray(parameterName),
         parameterName);
   }
@@ -337,7 +338,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BIG_DECIMAL,
         () -> this.statement.getBigDecimal(parameterIndex, scale),
         parameterIndex,
         scale);
@@ -350,7 +351,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BIG_DECIMAL,
         () -> this.statement.getBigDecimal(parameterIndex),
         parameterIndex);
   }
@@ -362,7 +363,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BIG_DECIMAL,
         () -> this.statement.getBigDecimal(parameterName),
         parameterName);
   }
@@ -374,7 +375,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBlob",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BLOB,
         () -> this.statement.getBlob(parameterIndex),
         parameterIndex);
   }
@@ -386,7 +387,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBlob",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BLOB,
         () -> this.statement.getBlob(parameterName),
         parameterName);
   }
@@ -398,7 +399,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBoolean",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BOOLEAN,
         () -> this.statement.getBoolean(parameterIndex),
         parameterIndex);
   }
@@ -410,7 +411,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBoolean",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BOOLEAN,
         () -> this.statement.getBoolean(parameterName),
         parameterName);
   }
@@ -422,7 +423,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getByte",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BYTE,
         () -> this.statement.getByte(parameterIndex),
         parameterIndex);
   }
@@ -434,7 +435,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getByte",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BYTE,
         () -> this.statement.getByte(parameterName),
         parameterName);
   }
@@ -446,7 +447,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBytes",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BYTES,
         () -> this.statement.getBytes(parameterIndex),
         parameterIndex);
   }
@@ -458,7 +459,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBytes",
+        JdbcMethod.CALLABLE_STATEMENT_GET_BYTES,
         () -> this.statement.getBytes(parameterName),
         parameterName);
   }
@@ -470,7 +471,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_GET_CHARACTER_STREAM,
         () -> this.statement.getCharacterStream(parameterIndex),
         parameterIndex);
   }
@@ -482,7 +483,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_GET_CHARACTER_STREAM,
         () -> this.statement.getCharacterStream(parameterName),
         parameterName);
   }
@@ -494,7 +495,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getClob",
+        JdbcMethod.CALLABLE_STATEMENT_GET_CLOB,
         () -> this.statement.getClob(parameterIndex),
         parameterIndex);
   }
@@ -506,7 +507,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getClob",
+        JdbcMethod.CALLABLE_STATEMENT_GET_CLOB,
         () -> this.statement.getClob(parameterName),
         parameterName);
   }
@@ -518,7 +519,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getConnection",
+        JdbcMethod.CALLABLE_STATEMENT_GET_CONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -529,7 +530,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        JdbcMethod.CALLABLE_STATEMENT_GET_DATE,
         () -> this.statement.getDate(parameterIndex),
         parameterIndex);
   }
@@ -541,7 +542,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        JdbcMethod.CALLABLE_STATEMENT_GET_DATE,
         () -> this.statement.getDate(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -554,7 +555,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        JdbcMethod.CALLABLE_STATEMENT_GET_DATE,
         () -> this.statement.getDate(parameterName),
         parameterName);
   }
@@ -566,7 +567,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        JdbcMethod.CALLABLE_STATEMENT_GET_DATE,
         () -> this.statement.getDate(parameterName, cal),
         parameterName,
         cal);
@@ -579,7 +580,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDouble",
+        JdbcMethod.CALLABLE_STATEMENT_GET_DOUBLE,
         () -> this.statement.getDouble(parameterIndex),
         parameterIndex);
   }
@@ -591,7 +592,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDouble",
+        JdbcMethod.CALLABLE_STATEMENT_GET_DOUBLE,
         () -> this.statement.getDouble(parameterName),
         parameterName);
   }
@@ -604,7 +605,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFetchDirection",
+        JdbcMethod.CALLABLE_STATEMENT_GET_FETCH_DIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -615,7 +616,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFetchSize",
+        JdbcMethod.CALLABLE_STATEMENT_GET_FETCH_SIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -626,7 +627,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFloat",
+        JdbcMethod.CALLABLE_STATEMENT_GET_FLOAT,
         () -> this.statement.getFloat(parameterIndex),
         parameterIndex);
   }
@@ -638,7 +639,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFloat",
+        JdbcMethod.CALLABLE_STATEMENT_GET_FLOAT,
         () -> this.statement.getFloat(parameterName),
         parameterName);
   }
@@ -650,7 +651,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getGeneratedKeys",
+        JdbcMethod.CALLABLE_STATEMENT_GET_GENERATED_KEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -661,7 +662,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getInt",
+        JdbcMethod.CALLABLE_STATEMENT_GET_INT,
         () -> this.statement.getInt(parameterIndex),
         parameterIndex);
   }
@@ -673,7 +674,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getInt",
+        JdbcMethod.CALLABLE_STATEMENT_GET_INT,
         () -> this.statement.getInt(parameterName),
         parameterName);
   }
@@ -685,7 +686,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getLong",
+        JdbcMethod.CALLABLE_STATEMENT_GET_LONG,
         () -> this.statement.getLong(parameterIndex),
         parameterIndex);
   }
@@ -697,7 +698,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getLong",
+        JdbcMethod.CALLABLE_STATEMENT_GET_LONG,
         () -> this.statement.getLong(parameterName),
         parameterName);
   }
@@ -709,7 +710,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMaxFieldSize",
+        JdbcMethod.CALLABLE_STATEMENT_GET_MAX_FIELD_SIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -720,7 +721,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMaxRows",
+        JdbcMethod.CALLABLE_STATEMENT_GET_MAX_ROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -731,7 +732,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMetaData",
+        JdbcMethod.CALLABLE_STATEMENT_GET_META_DATA,
         () -> this.statement.getMetaData());
   }
 
@@ -742,7 +743,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMoreResults",
+        JdbcMethod.CALLABLE_STATEMENT_GET_MORE_RESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -753,7 +754,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMoreResults",
+        JdbcMethod.CALLABLE_STATEMENT_GET_MORE_RESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -765,7 +766,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_GET_N_CHARACTER_STREAM,
         () -> this.statement.getNCharacterStream(parameterIndex),
         parameterIndex);
   }
@@ -777,7 +778,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_GET_N_CHARACTER_STREAM,
         () -> this.statement.getNCharacterStream(parameterName),
         parameterName);
   }
@@ -789,7 +790,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNClob",
+        JdbcMethod.CALLABLE_STATEMENT_GET_N_CLOB,
         () -> this.statement.getNClob(parameterIndex),
         parameterIndex);
   }
@@ -801,7 +802,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNClob",
+        JdbcMethod.CALLABLE_STATEMENT_GET_N_CLOB,
         () -> this.statement.getNClob(parameterName),
         parameterName);
   }
@@ -813,7 +814,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNString",
+        JdbcMethod.CALLABLE_STATEMENT_GET_N_STRING,
         () -> this.statement.getNString(parameterIndex),
         parameterIndex);
   }
@@ -825,7 +826,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNString",
+        JdbcMethod.CALLABLE_STATEMENT_GET_N_STRING,
         () -> this.statement.getNString(parameterName),
         parameterName);
   }
@@ -837,7 +838,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        JdbcMethod.CALLABLE_STATEMENT_GET_OBJECT,
         () -> this.statement.getObject(parameterIndex),
         parameterIndex);
   }
@@ -849,7 +850,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        JdbcMethod.CALLABLE_STATEMENT_GET_OBJECT,
         () -> this.statement.getObject(parameterIndex, map),
         parameterIndex,
         map);
@@ -862,7 +863,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        JdbcMethod.CALLABLE_STATEMENT_GET_OBJECT,
         () -> this.statement.getObject(parameterName),
         parameterName);
   }
@@ -874,7 +875,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        JdbcMethod.CALLABLE_STATEMENT_GET_OBJECT,
         () -> this.statement.getObject(parameterName, map),
         parameterName,
         map);
@@ -887,7 +888,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        JdbcMethod.CALLABLE_STATEMENT_GET_OBJECT,
         () -> this.statement.getObject(parameterIndex, type),
         parameterIndex,
         type);
@@ -900,7 +901,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        JdbcMethod.CALLABLE_STATEMENT_GET_OBJECT,
         () -> this.statement.getObject(parameterName, type),
         parameterName,
         type);
@@ -913,7 +914,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getParameterMetaData",
+        JdbcMethod.CALLABLE_STATEMENT_GET_PARAMETER_META_DATA,
         () -> this.statement.getParameterMetaData());
   }
 
@@ -924,7 +925,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getQueryTimeout",
+        JdbcMethod.CALLABLE_STATEMENT_GET_QUERY_TIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -935,7 +936,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRef",
+        JdbcMethod.CALLABLE_STATEMENT_GET_REF,
         () -> this.statement.getRef(parameterIndex),
         parameterIndex);
   }
@@ -947,7 +948,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRef",
+        JdbcMethod.CALLABLE_STATEMENT_GET_REF,
         () -> this.statement.getRef(parameterName),
         parameterName);
   }
@@ -959,7 +960,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSet",
+        JdbcMethod.CALLABLE_STATEMENT_GET_RESULT_SET,
         () -> this.statement.getResultSet());
   }
 
@@ -971,7 +972,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetConcurrency",
+        JdbcMethod.CALLABLE_STATEMENT_GET_RESULT_SET_CONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -982,7 +983,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetHoldability",
+        JdbcMethod.CALLABLE_STATEMENT_GET_RESULT_SET_HOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -994,7 +995,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetType",
+        JdbcMethod.CALLABLE_STATEMENT_GET_RESULT_SET_TYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -1005,7 +1006,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRowId",
+        JdbcMethod.CALLABLE_STATEMENT_GET_ROW_ID,
         () -> this.statement.getRowId(parameterIndex),
         parameterIndex);
   }
@@ -1017,7 +1018,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRowId",
+        JdbcMethod.CALLABLE_STATEMENT_GET_ROW_ID,
         () -> this.statement.getRowId(parameterName),
         parameterName);
   }
@@ -1030,7 +1031,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getSQLXML",
+        JdbcMethod.CALLABLE_STATEMENT_GET_SQLXML,
         () -> this.statement.getSQLXML(parameterIndex),
         parameterIndex);
   }
@@ -1043,7 +1044,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getSQLXML",
+        JdbcMethod.CALLABLE_STATEMENT_GET_SQLXML,
         () -> this.statement.getSQLXML(parameterName),
         parameterName);
   }
@@ -1055,7 +1056,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getShort",
+        JdbcMethod.CALLABLE_STATEMENT_GET_SHORT,
         () -> this.statement.getShort(parameterIndex),
         parameterIndex);
   }
@@ -1067,7 +1068,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getShort",
+        JdbcMethod.CALLABLE_STATEMENT_GET_SHORT,
         () -> this.statement.getShort(parameterName),
         parameterName);
   }
@@ -1079,7 +1080,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getString",
+        JdbcMethod.CALLABLE_STATEMENT_GET_STRING,
         () -> this.statement.getString(parameterIndex),
         parameterIndex);
   }
@@ -1091,7 +1092,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getString",
+        JdbcMethod.CALLABLE_STATEMENT_GET_STRING,
         () -> this.statement.getString(parameterName),
         parameterName);
   }
@@ -1103,7 +1104,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        JdbcMethod.CALLABLE_STATEMENT_GET_TIME,
         () -> this.statement.getTime(parameterIndex),
         parameterIndex);
   }
@@ -1115,7 +1116,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        JdbcMethod.CALLABLE_STATEMENT_GET_TIME,
         () -> this.statement.getTime(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -1128,7 +1129,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        JdbcMethod.CALLABLE_STATEMENT_GET_TIME,
         () -> this.statement.getTime(parameterName),
         parameterName);
   }
@@ -1140,7 +1141,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        JdbcMethod.CALLABLE_STATEMENT_GET_TIME,
         () -> this.statement.getTime(parameterName, cal),
         parameterName,
         cal);
@@ -1153,7 +1154,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        JdbcMethod.CALLABLE_STATEMENT_GET_TIMESTAMP,
         () -> this.statement.getTimestamp(parameterIndex),
         parameterIndex);
   }
@@ -1165,7 +1166,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        JdbcMethod.CALLABLE_STATEMENT_GET_TIMESTAMP,
         () -> this.statement.getTimestamp(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -1178,7 +1179,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        JdbcMethod.CALLABLE_STATEMENT_GET_TIMESTAMP,
         () -> this.statement.getTimestamp(parameterName),
         parameterName);
   }
@@ -1190,7 +1191,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        JdbcMethod.CALLABLE_STATEMENT_GET_TIMESTAMP,
         () -> this.statement.getTimestamp(parameterName, cal),
         parameterName,
         cal);
@@ -1203,7 +1204,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getURL",
+        JdbcMethod.CALLABLE_STATEMENT_GET_URL,
         () -> this.statement.getURL(parameterIndex),
         parameterIndex);
   }
@@ -1215,7 +1216,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getURL",
+        JdbcMethod.CALLABLE_STATEMENT_GET_URL,
         () -> this.statement.getURL(parameterName),
         parameterName);
   }
@@ -1227,7 +1228,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getUpdateCount",
+        JdbcMethod.CALLABLE_STATEMENT_GET_UPDATE_COUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -1238,7 +1239,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getWarnings",
+        JdbcMethod.CALLABLE_STATEMENT_GET_WARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -1249,7 +1250,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isCloseOnCompletion",
+        JdbcMethod.CALLABLE_STATEMENT_IS_CLOSE_ON_COMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
@@ -1260,7 +1261,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isClosed",
+        JdbcMethod.CALLABLE_STATEMENT_IS_CLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -1272,7 +1273,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isPoolable",
+        JdbcMethod.CALLABLE_STATEMENT_IS_POOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -1287,7 +1288,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1299,7 +1300,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, scale),
         parameterIndex,
         sqlType,
@@ -1313,7 +1314,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1326,7 +1327,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -1339,7 +1340,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, scale),
         parameterName,
         sqlType,
@@ -1353,7 +1354,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -1366,7 +1367,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1379,7 +1380,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, scale),
         parameterIndex,
         sqlType,
@@ -1393,7 +1394,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1406,7 +1407,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -1419,7 +1420,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, scale),
         parameterName,
         sqlType,
@@ -1433,7 +1434,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        JdbcMethod.CALLABLE_STATEMENT_REGISTER_OUT_PARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -1446,7 +1447,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setArray",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ARRAY,
         () -> this.statement.setArray(parameterIndex, x),
         parameterIndex,
         x);
@@ -1458,7 +1459,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterName, x, length),
         parameterName,
         x,
@@ -1471,7 +1472,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterName, x, length),
         parameterName,
         x,
@@ -1484,7 +1485,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterName, x),
         parameterName,
         x);
@@ -1496,7 +1497,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1509,7 +1510,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1522,7 +1523,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -1534,7 +1535,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBigDecimal",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BIG_DECIMAL,
         () -> this.statement.setBigDecimal(parameterName, x),
         parameterName,
         x);
@@ -1546,7 +1547,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBigDecimal",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BIG_DECIMAL,
         () -> this.statement.setBigDecimal(parameterIndex, x),
         parameterIndex,
         x);
@@ -1558,7 +1559,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterName, x, length),
         parameterName,
         x,
@@ -1572,7 +1573,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterName, x, length),
         parameterName,
         x,
@@ -1585,7 +1586,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterName, x),
         parameterName,
         x);
@@ -1597,7 +1598,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1610,7 +1611,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1623,7 +1624,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -1636,7 +1637,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterName, inputStream, length),
         parameterName,
         inputStream,
@@ -1649,7 +1650,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterName, x),
         parameterName,
         x);
@@ -1661,7 +1662,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterName, inputStream),
         parameterName,
         inputStream);
@@ -1673,7 +1674,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterIndex, x),
         parameterIndex,
         x);
@@ -1686,7 +1687,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream, length),
         parameterIndex,
         inputStream,
@@ -1699,7 +1700,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream),
         parameterIndex,
         inputStream);
@@ -1711,7 +1712,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBoolean",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BOOLEAN,
         () -> this.statement.setBoolean(parameterName, x),
         parameterName,
         x);
@@ -1723,7 +1724,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBoolean",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BOOLEAN,
         () -> this.statement.setBoolean(parameterIndex, x),
         parameterIndex,
         x);
@@ -1735,7 +1736,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setByte",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BYTE,
         () -> this.statement.setByte(parameterName, x),
         parameterName,
         x);
@@ -1747,7 +1748,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setByte",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BYTE,
         () -> this.statement.setByte(parameterIndex, x),
         parameterIndex,
         x);
@@ -1759,7 +1760,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBytes",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BYTES,
         () -> this.statement.setBytes(parameterName, x),
         parameterName,
         x);
@@ -1771,7 +1772,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBytes",
+        JdbcMethod.CALLABLE_STATEMENT_SET_BYTES,
         () -> this.statement.setBytes(parameterIndex, x),
         parameterIndex,
         x);
@@ -1784,7 +1785,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterName, reader, length),
         parameterName,
         reader,
@@ -1798,7 +1799,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterName, reader, length),
         parameterName,
         reader,
@@ -1811,7 +1812,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterName, reader),
         parameterName,
         reader);
@@ -1824,7 +1825,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1838,7 +1839,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1851,7 +1852,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -1863,7 +1864,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterName, reader, length),
         parameterName,
         reader,
@@ -1876,7 +1877,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterName, x),
         parameterName,
         x);
@@ -1888,7 +1889,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterName, reader),
         parameterName,
         reader);
@@ -1900,7 +1901,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterIndex, x),
         parameterIndex,
         x);
@@ -1912,7 +1913,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1925,7 +1926,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -1937,7 +1938,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCursorName",
+        JdbcMethod.CALLABLE_STATEMENT_SET_CURSOR_NAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -1948,7 +1949,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        JdbcMethod.CALLABLE_STATEMENT_SET_DATE,
         () -> this.statement.setDate(parameterName, x),
         parameterName,
         x);
@@ -1960,7 +1961,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        JdbcMethod.CALLABLE_STATEMENT_SET_DATE,
         () -> this.statement.setDate(parameterName, x, cal),
         parameterName,
         x,
@@ -1973,7 +1974,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        JdbcMethod.CALLABLE_STATEMENT_SET_DATE,
         () -> this.statement.setDate(parameterIndex, x),
         parameterIndex,
         x);
@@ -1985,7 +1986,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        JdbcMethod.CALLABLE_STATEMENT_SET_DATE,
         () -> this.statement.setDate(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1998,7 +1999,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDouble",
+        JdbcMethod.CALLABLE_STATEMENT_SET_DOUBLE,
         () -> this.statement.setDouble(parameterName, x),
         parameterName,
         x);
@@ -2010,7 +2011,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDouble",
+        JdbcMethod.CALLABLE_STATEMENT_SET_DOUBLE,
         () -> this.statement.setDouble(parameterIndex, x),
         parameterIndex,
         x);
@@ -2022,7 +2023,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setEscapeProcessing",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ESCAPE_PROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -2033,7 +2034,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFetchDirection",
+        JdbcMethod.CALLABLE_STATEMENT_SET_FETCH_DIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -2044,7 +2045,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFetchSize",
+        JdbcMethod.CALLABLE_STATEMENT_SET_FETCH_SIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
@@ -2055,7 +2056,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFloat",
+        JdbcMethod.CALLABLE_STATEMENT_SET_FLOAT,
         () -> this.statement.setFloat(parameterName, x),
         parameterName,
         x);
@@ -2067,7 +2068,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFloat",
+        JdbcMethod.CALLABLE_STATEMENT_SET_FLOAT,
         () -> this.statement.setFloat(parameterIndex, x),
         parameterIndex,
         x);
@@ -2079,7 +2080,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setInt",
+        JdbcMethod.CALLABLE_STATEMENT_SET_INT,
         () -> this.statement.setInt(parameterName, x),
         parameterName,
         x);
@@ -2091,7 +2092,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setInt",
+        JdbcMethod.CALLABLE_STATEMENT_SET_INT,
         () -> this.statement.setInt(parameterIndex, x),
         parameterIndex,
         x);
@@ -2103,7 +2104,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setLong",
+        JdbcMethod.CALLABLE_STATEMENT_SET_LONG,
         () -> this.statement.setLong(parameterName, x),
         parameterName,
         x);
@@ -2115,7 +2116,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setLong",
+        JdbcMethod.CALLABLE_STATEMENT_SET_LONG,
         () -> this.statement.setLong(parameterIndex, x),
         parameterIndex,
         x);
@@ -2127,7 +2128,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setMaxFieldSize",
+        JdbcMethod.CALLABLE_STATEMENT_SET_MAX_FIELD_SIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -2138,7 +2139,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setMaxRows",
+        JdbcMethod.CALLABLE_STATEMENT_SET_MAX_ROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -2150,7 +2151,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CHARACTER_STREAM,
         () -> this.statement.setNCharacterStream(parameterName, value, length),
         parameterName,
         value,
@@ -2163,7 +2164,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CHARACTER_STREAM,
         () -> this.statement.setNCharacterStream(parameterName, value),
         parameterName,
         value);
@@ -2176,7 +2177,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CHARACTER_STREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value, length),
         parameterIndex,
         value,
@@ -2189,7 +2190,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CHARACTER_STREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value),
         parameterIndex,
         value);
@@ -2201,7 +2202,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterName, value),
         parameterName,
         value);
@@ -2213,7 +2214,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterName, reader, length),
         parameterName,
         reader,
@@ -2226,7 +2227,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterName, reader),
         parameterName,
         reader);
@@ -2238,7 +2239,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterIndex, value),
         parameterIndex,
         value);
@@ -2250,7 +2251,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -2263,7 +2264,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -2275,7 +2276,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNString",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_STRING,
         () -> this.statement.setNString(parameterName, value),
         parameterName,
         value);
@@ -2287,7 +2288,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNString",
+        JdbcMethod.CALLABLE_STATEMENT_SET_N_STRING,
         () -> this.statement.setNString(parameterIndex, value),
         parameterIndex,
         value);
@@ -2299,7 +2300,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        JdbcMethod.CALLABLE_STATEMENT_SET_NULL,
         () -> this.statement.setNull(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -2311,7 +2312,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        JdbcMethod.CALLABLE_STATEMENT_SET_NULL,
         () -> this.statement.setNull(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -2324,7 +2325,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        JdbcMethod.CALLABLE_STATEMENT_SET_NULL,
         () -> this.statement.setNull(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -2336,7 +2337,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        JdbcMethod.CALLABLE_STATEMENT_SET_NULL,
         () -> this.statement.setNull(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -2350,7 +2351,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType, scale),
         parameterName,
         x,
@@ -2364,7 +2365,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType),
         parameterName,
         x,
@@ -2377,7 +2378,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterName, x),
         parameterName,
         x);
@@ -2390,7 +2391,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType, scaleOrLength),
         parameterName,
         x,
@@ -2404,7 +2405,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType),
         parameterName,
         x,
@@ -2417,7 +2418,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -2430,7 +2431,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x),
         parameterIndex,
         x);
@@ -2443,7 +2444,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -2458,7 +2459,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -2472,7 +2473,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        JdbcMethod.CALLABLE_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -2486,7 +2487,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setPoolable",
+        JdbcMethod.CALLABLE_STATEMENT_SET_POOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -2497,7 +2498,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setQueryTimeout",
+        JdbcMethod.CALLABLE_STATEMENT_SET_QUERY_TIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -2508,7 +2509,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRef",
+        JdbcMethod.CALLABLE_STATEMENT_SET_REF,
         () -> this.statement.setRef(parameterIndex, x),
         parameterIndex,
         x);
@@ -2520,7 +2521,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRowId",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ROW_ID,
         () -> this.statement.setRowId(parameterName, x),
         parameterName,
         x);
@@ -2532,7 +2533,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRowId",
+        JdbcMethod.CALLABLE_STATEMENT_SET_ROW_ID,
         () -> this.statement.setRowId(parameterIndex, x),
         parameterIndex,
         x);
@@ -2545,7 +2546,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setSQLXML",
+        JdbcMethod.CALLABLE_STATEMENT_SET_SQLXML,
         () -> this.statement.setSQLXML(parameterName, xmlObject),
         parameterName,
         xmlObject);
@@ -2558,7 +2559,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setSQLXML",
+        JdbcMethod.CALLABLE_STATEMENT_SET_SQLXML,
         () -> this.statement.setSQLXML(parameterIndex, xmlObject),
         parameterIndex,
         xmlObject);
@@ -2570,7 +2571,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setShort",
+        JdbcMethod.CALLABLE_STATEMENT_SET_SHORT,
         () -> this.statement.setShort(parameterName, x),
         parameterName,
         x);
@@ -2582,7 +2583,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setShort",
+        JdbcMethod.CALLABLE_STATEMENT_SET_SHORT,
         () -> this.statement.setShort(parameterIndex, x),
         parameterIndex,
         x);
@@ -2594,7 +2595,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setString",
+        JdbcMethod.CALLABLE_STATEMENT_SET_STRING,
         () -> this.statement.setString(parameterName, x),
         parameterName,
         x);
@@ -2606,7 +2607,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setString",
+        JdbcMethod.CALLABLE_STATEMENT_SET_STRING,
         () -> this.statement.setString(parameterIndex, x),
         parameterIndex,
         x);
@@ -2618,7 +2619,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        JdbcMethod.CALLABLE_STATEMENT_SET_TIME,
         () -> this.statement.setTime(parameterName, x),
         parameterName,
         x);
@@ -2630,7 +2631,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        JdbcMethod.CALLABLE_STATEMENT_SET_TIME,
         () -> this.statement.setTime(parameterName, x, cal),
         parameterName,
         x,
@@ -2643,7 +2644,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        JdbcMethod.CALLABLE_STATEMENT_SET_TIME,
         () -> this.statement.setTime(parameterIndex, x),
         parameterIndex,
         x);
@@ -2655,7 +2656,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        JdbcMethod.CALLABLE_STATEMENT_SET_TIME,
         () -> this.statement.setTime(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -2668,7 +2669,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        JdbcMethod.CALLABLE_STATEMENT_SET_TIMESTAMP,
         () -> this.statement.setTimestamp(parameterName, x),
         parameterName,
         x);
@@ -2680,7 +2681,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        JdbcMethod.CALLABLE_STATEMENT_SET_TIMESTAMP,
         () -> this.statement.setTimestamp(parameterName, x, cal),
         parameterName,
         x,
@@ -2693,7 +2694,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        JdbcMethod.CALLABLE_STATEMENT_SET_TIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x),
         parameterIndex,
         x);
@@ -2705,7 +2706,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        JdbcMethod.CALLABLE_STATEMENT_SET_TIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -2718,7 +2719,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setURL",
+        JdbcMethod.CALLABLE_STATEMENT_SET_URL,
         () -> this.statement.setURL(parameterName, val),
         parameterName,
         val);
@@ -2730,7 +2731,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setURL",
+        JdbcMethod.CALLABLE_STATEMENT_SET_URL,
         () -> this.statement.setURL(parameterIndex, x),
         parameterIndex,
         x);
@@ -2743,7 +2744,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setUnicodeStream",
+        JdbcMethod.CALLABLE_STATEMENT_SET_UNICODE_STREAM,
         () -> this.statement.setUnicodeStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -2762,7 +2763,7 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.wasNull",
+        JdbcMethod.CALLABLE_STATEMENT_WAS_NULL,
         () -> this.statement.wasNull());
   }
 
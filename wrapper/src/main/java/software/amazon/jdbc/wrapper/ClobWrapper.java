@@ -24,6 +24,7 @@ import java.sql.Clob;
 import java.sql.SQLException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class ClobWrapper implements Clob {
@@ -43,7 +44,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.length",
+        JdbcMethod.CLOB_LENGTH,
         () -> this.clob.length());
   }
 
@@ -54,7 +55,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.getSubString",
+        JdbcMethod.CLOB_GET_SUB_STRING,
         () -> this.clob.getSubString(pos, length),
         pos,
         length);
@@ -67,7 +68,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.getCharacterStream",
+        JdbcMethod.CLOB_GET_CHARACTER_STREAM,
         () -> this.clob.getCharacterStream());
   }
 
@@ -78,7 +79,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.getCharacterStream",
+        JdbcMethod.CLOB_GET_CHARACTER_STREAM,
         () -> this.clob.getCharacterStream(pos, length),
         pos,
         length);
@@ -91,7 +92,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.getAsciiStream",
+        JdbcMethod.CLOB_GET_ASCII_STREAM,
         () -> this.clob.getAsciiStream());
   }
 
@@ -102,7 +103,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.position",
+        JdbcMethod.CLOB_POSITION,
         () -> this.clob.position(searchStr, start),
         searchStr,
         start);
@@ -115,7 +116,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.position",
+        JdbcMethod.CLOB_POSITION,
         () -> this.clob.position(searchStr, start),
         searchStr,
         start);
@@ -128,7 +129,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.setString",
+        JdbcMethod.CLOB_SET_STRING,
         () -> this.clob.setString(pos, str),
         pos,
         str);
@@ -141,7 +142,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.setString",
+        JdbcMethod.CLOB_SET_STRING,
         () -> this.clob.setString(pos, str, offset, len),
         pos,
         str,
@@ -156,7 +157,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.setAsciiStream",
+        JdbcMethod.CLOB_SET_ASCII_STREAM,
         () -> this.clob.setAsciiStream(pos),
         pos);
   }
@@ -168,7 +169,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.setCharacterStream",
+        JdbcMethod.CLOB_SET_CHARACTER_STREAM,
         () -> this.clob.setCharacterStream(pos),
         pos);
   }
@@ -179,7 +180,7 @@ public class ClobWrapper implements Clob {
         SQLException.class,
         this.pluginManager,
         this.clob,
-        "Clob.truncate",
+        JdbcMethod.CLOB_TRUNCATE,
         () -> this.clob.truncate(len),
         len);
   }
@@ -187,7 +188,7 @@ public class ClobWrapper implements Clob {
   @Override
   public void free() throws SQLException {
     WrapperUtils.runWithPlugins(
-        SQLException.class, this.pluginManager, this.clob, "Clob.free", () -> this.clob.free());
+        SQLException.class, this.pluginManager, this.clob, JdbcMethod.CLOB_FREE, () -> this.clob.free());
   }
 
   @Override
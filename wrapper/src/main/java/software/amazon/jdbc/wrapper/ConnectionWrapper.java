@@ -42,6 +42,7 @@ import software.amazon.jdbc.ConnectionPluginManager;
 import software.amazon.jdbc.ConnectionProvider;
 import software.amazon.jdbc.HostListProvider;
 import software.amazon.jdbc.HostListProviderService;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.PluginManagerService;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PluginServiceImpl;
@@ -187,7 +188,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.abort",
+        JdbcMethod.CONNECTION_ABORT,
         () -> {
           this.pluginService.getCurrentConnection().abort(executor);
           this.pluginManagerService.setInTransaction(false);
@@ -202,7 +203,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.clearWarnings",
+        JdbcMethod.CONNECTION_CLEAR_WARNINGS,
         () -> this.pluginService.getCurrentConnection().clearWarnings());
   }
 
@@ -212,7 +213,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.close",
+        JdbcMethod.CONNECTION_CLOSE,
         () -> {
           this.pluginService.getSessionStateService().begin();
           try {
@@ -235,7 +236,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.commit",
+        JdbcMethod.CONNECTION_COMMIT,
         () -> {
           this.pluginService.getCurrentConnection().commit();
           this.pluginManagerService.setInTransaction(false);
@@ -253,7 +254,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createArrayOf",
+        JdbcMethod.CONNECTION_CREATE_ARRAY_OF,
         () -> this.pluginService.getCurrentConnection().createArrayOf(typeName, elements),
         typeName,
         elements);
@@ -266,7 +267,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createBlob",
+        JdbcMethod.CONNECTION_CREATE_BLOB,
         () -> this.pluginService.getCurrentConnection().createBlob());
   }
 
@@ -277,7 +278,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createClob",
+        JdbcMethod.CONNECTION_CREATE_CLOB,
         () -> this.pluginService.getCurrentConnection().createClob());
   }
 
@@ -288,7 +289,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createNClob",
+        JdbcMethod.CONNECTION_CREATE_N_CLOB,
         () -> this.pluginService.getCurrentConnection().createNClob());
   }
 
@@ -299,7 +300,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createSQLXML",
+        JdbcMethod.CONNECTION_CREATE_SQLXML,
         () -> this.pluginService.getCurrentConnection().createSQLXML());
   }
 
@@ -310,7 +311,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createStatement",
+        JdbcMethod.CONNECTION_CREATE_STATEMENT,
         () -> this.pluginService.getCurrentConnection().createStatement());
   }
 
@@ -322,7 +323,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createStatement",
+        JdbcMethod.CONNECTION_CREATE_STATEMENT,
         () ->
             this.pluginService
                 .getCurrentConnection()
@@ -339,7 +340,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createStatement",
+        JdbcMethod.CONNECTION_CREATE_STATEMENT,
         () -> this.pluginService
           .getCurrentConnection()
           .createStatement(resultSetType, resultSetConcurrency, resultSetHoldability),
@@ -355,7 +356,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createStruct",
+        JdbcMethod.CONNECTION_CREATE_STRUCT,
         () -> this.pluginService.getCurrentConnection().createStruct(typeName, attributes),
         typeName,
         attributes);
@@ -367,7 +368,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setReadOnly",
+        JdbcMethod.CONNECTION_SET_READ_ONLY,
         () -> {
           this.pluginService.getSessionStateService().setupPristineReadOnly();
           this.pluginService.getCurrentConnection().setReadOnly(readOnly);
@@ -383,7 +384,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getCatalog",
+        JdbcMethod.CONNECTION_GET_CATALOG,
         () -> {
           final String catalog = this.pluginService.getCurrentConnection().getCatalog();
           this.pluginService.getSessionStateService().setupPristineCatalog(catalog);
@@ -398,7 +399,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getClientInfo",
+        JdbcMethod.CONNECTION_GET_CLIENT_INFO,
         () -> this.pluginService.getCurrentConnection().getClientInfo(name),
         name);
   }
@@ -410,7 +411,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getClientInfo",
+        JdbcMethod.CONNECTION_GET_CLIENT_INFO,
         () -> this.pluginService.getCurrentConnection().getClientInfo());
   }
 
@@ -421,7 +422,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getHoldability",
+        JdbcMethod.CONNECTION_GET_HOLDABILITY,
         () -> {
           final int holdability = this.pluginService.getCurrentConnection().getHoldability();
           this.pluginService.getSessionStateService().setupPristineHoldability(holdability);
@@ -436,7 +437,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getMetaData",
+        JdbcMethod.CONNECTION_GET_META_DATA,
         () -> this.pluginService.getCurrentConnection().getMetaData());
   }
 
@@ -447,7 +448,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getNetworkTimeout",
+        JdbcMethod.CONNECTION_GET_NETWORK_TIMEOUT,
         () -> {
           final int milliseconds = this.pluginService.getCurrentConnection().getNetworkTimeout();
           this.pluginService.getSessionStateService().setupPristineNetworkTimeout(milliseconds);
@@ -462,7 +463,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getSchema",
+        JdbcMethod.CONNECTION_GET_SCHEMA,
         () -> {
           final String schema = this.pluginService.getCurrentConnection().getSchema();
           this.pluginService.getSessionStateService().setupPristineSchema(schema);
@@ -478,7 +479,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getTransactionIsolation",
+        JdbcMethod.CONNECTION_GET_TRANSACTION_ISOLATION,
         () -> {
           final int level = this.pluginService.getCurrentConnection().getTransactionIsolation();
           this.pluginService.getSessionStateService().setupPristineTransactionIsolation(level);
@@ -495,7 +496,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getTypeMap",
+        JdbcMethod.CONNECTION_GET_TYPE_MAP,
         () -> {
           final Map<String, Class<?>> map = this.pluginService.getCurrentConnection().getTypeMap();
           this.pluginService.getSessionStateService().setupPristineTypeMap(map);
@@ -510,7 +511,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getWarnings",
+        JdbcMethod.CONNECTION_GET_WARNINGS,
         () -> this.pluginService.getCurrentConnection().getWarnings());
   }
 
@@ -521,7 +522,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.isClosed",
+        JdbcMethod.CONNECTION_IS_CLOSED,
         () -> this.pluginService.getCurrentConnection().isClosed());
   }
 
@@ -532,7 +533,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.isReadOnly",
+        JdbcMethod.CONNECTION_IS_READ_ONLY,
         () -> {
           final boolean isReadOnly = this.pluginService.getCurrentConnection().isReadOnly();
           this.pluginService.getSessionStateService().setupPristineReadOnly(isReadOnly);
@@ -547,7 +548,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.isValid",
+        JdbcMethod.CONNECTION_IS_VALID,
         () -> this.pluginService.getCurrentConnection().isValid(timeout),
         timeout);
   }
@@ -559,7 +560,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.nativeSQL",
+        JdbcMethod.CONNECTION_NATIVE_SQL,
         () -> this.pluginService.getCurrentConnection().nativeSQL(sql),
         sql);
   }
@@ -571,7 +572,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareCall",
+        JdbcMethod.CONNECTION_PREPARE_CALL,
         () -> this.pluginService.getCurrentConnection().prepareCall(sql),
         sql);
   }
@@ -584,7 +585,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareCall",
+        JdbcMethod.CONNECTION_PREPARE_CALL,
         () ->
             this.pluginService
                 .getCurrentConnection()
@@ -603,7 +604,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareCall",
+        JdbcMethod.CONNECTION_PREPARE_CALL,
         () ->
             this.pluginService
                 .getCurrentConnection()
@@ -621,7 +622,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
+        JdbcMethod.CONNECTION_PREPARE_STATEMENT,
         () -> this.pluginService.getCurrentConnection().prepareStatement(sql),
         sql);
   }
@@ -634,7 +635,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
+        JdbcMethod.CONNECTION_PREPARE_STATEMENT,
         () ->
             this.pluginService
                 .getCurrentConnection()
@@ -653,7 +654,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
+        JdbcMethod.CONNECTION_PREPARE_STATEMENT,
         () ->
             this.pluginService
                 .getCurrentConnection()
@@ -671,7 +672,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
+        JdbcMethod.CONNECTION_PREPARE_STATEMENT,
         () -> this.pluginService.getCurrentConnection().prepareStatement(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -684,7 +685,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
+        JdbcMethod.CONNECTION_PREPARE_STATEMENT,
         () -> this.pluginService.getCurrentConnection().prepareStatement(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -697,7 +698,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
+        JdbcMethod.CONNECTION_PREPARE_STATEMENT,
         () -> this.pluginService.getCurrentConnection().prepareStatement(sql, columnNames),
         sql,
         columnNames);
@@ -709,7 +710,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.releaseSavepoint",
+        JdbcMethod.CONNECTION_RELEASE_SAVEPOINT,
         () -> {
           if (savepoint instanceof SavepointWrapper) {
             this.pluginService.getCurrentConnection().releaseSavepoint(((SavepointWrapper) savepoint).savepoint);
@@ -726,7 +727,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.rollback",
+        JdbcMethod.CONNECTION_ROLLBACK,
         () -> {
           this.pluginService.getCurrentConnection().rollback();
           this.pluginManagerService.setInTransaction(false);
@@ -743,7 +744,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.rollback",
+        JdbcMethod.CONNECTION_ROLLBACK,
         () -> {
           if (savepoint instanceof SavepointWrapper) {
             this.pluginService.getCurrentConnection().rollback(((SavepointWrapper) savepoint).savepoint);
@@ -761,7 +762,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setAutoCommit",
+        JdbcMethod.CONNECTION_SET_AUTO_COMMIT,
         () -> {
           this.pluginService.getSessionStateService().setupPristineAutoCommit();
           this.pluginService.getCurrentConnection().setAutoCommit(autoCommit);
@@ -777,7 +778,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getAutoCommit",
+        JdbcMethod.CONNECTION_GET_AUTO_COMMIT,
         () -> {
           final boolean autoCommit = this.pluginService.getCurrentConnection().getAutoCommit();
           this.pluginService.getSessionStateService().setupPristineAutoCommit(autoCommit);
@@ -791,7 +792,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setCatalog",
+        JdbcMethod.CONNECTION_SET_CATALOG,
         () -> {
           this.pluginService.getSessionStateService().setupPristineCatalog();
           this.pluginService.getCurrentConnection().setCatalog(catalog);
@@ -806,7 +807,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLClientInfoException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setClientInfo",
+        JdbcMethod.CONNECTION_SET_CLIENT_INFO,
         () -> this.pluginService.getCurrentConnection().setClientInfo(name, value),
         name,
         value);
@@ -818,7 +819,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLClientInfoException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setClientInfo",
+        JdbcMethod.CONNECTION_SET_CLIENT_INFO,
         () -> this.pluginService.getCurrentConnection().setClientInfo(properties),
         properties);
   }
@@ -829,7 +830,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setHoldability",
+        JdbcMethod.CONNECTION_SET_HOLDABILITY,
         () -> {
           this.pluginService.getSessionStateService().setupPristineHoldability();
           this.pluginService.getCurrentConnection().setHoldability(holdability);
@@ -844,7 +845,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setNetworkTimeout",
+        JdbcMethod.CONNECTION_SET_NETWORK_TIMEOUT,
         () -> {
           this.pluginService.getSessionStateService().setupPristineNetworkTimeout();
           this.pluginService.getCurrentConnection().setNetworkTimeout(executor, milliseconds);
@@ -861,7 +862,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setSavepoint",
+        JdbcMethod.CONNECTION_SET_SAVEPOINT,
         () -> this.pluginService.getCurrentConnection().setSavepoint());
   }
 
@@ -872,7 +873,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setSavepoint",
+        JdbcMethod.CONNECTION_SET_SAVEPOINT,
         () -> this.pluginService.getCurrentConnection().setSavepoint(name),
         name);
   }
@@ -883,7 +884,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setSchema",
+        JdbcMethod.CONNECTION_SET_SCHEMA,
         () -> {
           this.pluginService.getSessionStateService().setupPristineSchema();
           this.pluginService.getCurrentConnection().setSchema(schema);
@@ -898,7 +899,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setTransactionIsolation",
+        JdbcMethod.CONNECTION_SET_TRANSACTION_ISOLATION,
         () -> {
           this.pluginService.getSessionStateService().setupPristineTransactionIsolation();
           this.pluginService.getCurrentConnection().setTransactionIsolation(level);
@@ -913,7 +914,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setTypeMap",
+        JdbcMethod.CONNECTION_SET_TYPE_MAP,
         () -> {
           this.pluginService.getSessionStateService().setupPristineTypeMap();
           this.pluginService.getCurrentConnection().setTypeMap(map);
@@ -24,6 +24,7 @@ import java.sql.SQLException;
 import java.util.StringJoiner;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.DriverInfo;
 import software.amazon.jdbc.util.WrapperUtils;
 
@@ -45,7 +46,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.allProceduresAreCallable",
+        JdbcMethod.DATABASE_META_DATA_ALL_PROCEDURES_ARE_CALLABLE,
         () -> this.databaseMetaData.allProceduresAreCallable());
   }
 
@@ -56,7 +57,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.allTablesAreSelectable",
+        JdbcMethod.DATABASE_META_DATA_ALL_TABLES_ARE_SELECTABLE,
         () -> this.databaseMetaData.allTablesAreSelectable());
   }
 
@@ -67,7 +68,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getURL",
+        JdbcMethod.DATABASE_META_DATA_GET_URL,
         () -> this.databaseMetaData.getURL());
   }
 
@@ -78,7 +79,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getUserName",
+        JdbcMethod.DATABASE_META_DATA_GET_USER_NAME,
         () -> this.databaseMetaData.getUserName());
   }
 
@@ -89,7 +90,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.isReadOnly",
+        JdbcMethod.DATABASE_META_DATA_IS_READ_ONLY,
         () -> this.databaseMetaData.isReadOnly());
   }
 
@@ -100,7 +101,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullsAreSortedHigh",
+        JdbcMethod.DATABASE_META_DATA_NULLS_ARE_SORTED_HIGH,
         () -> this.databaseMetaData.nullsAreSortedHigh());
   }
 
@@ -111,7 +112,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullsAreSortedLow",
+        JdbcMethod.DATABASE_META_DATA_NULLS_ARE_SORTED_LOW,
         () -> this.databaseMetaData.nullsAreSortedLow());
   }
 
@@ -122,7 +123,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullsAreSortedAtStart",
+        JdbcMethod.DATABASE_META_DATA_NULLS_ARE_SORTED_AT_START,
         () -> this.databaseMetaData.nullsAreSortedAtStart());
   }
 
@@ -133,7 +134,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullsAreSortedAtEnd",
+        JdbcMethod.DATABASE_META_DATA_NULLS_ARE_SORTED_AT_END,
         () -> this.databaseMetaData.nullsAreSortedAtEnd());
   }
 
@@ -144,7 +145,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDatabaseProductName",
+        JdbcMethod.DATABASE_META_DATA_GET_DATABASE_PRODUCT_NAME,
         () -> this.databaseMetaData.getDatabaseProductName());
   }
 
@@ -155,7 +156,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDatabaseProductVersion",
+        JdbcMethod.DATABASE_META_DATA_GET_DATABASE_PRODUCT_VERSION,
         () -> this.databaseMetaData.getDatabaseProductVersion());
   }
 
@@ -166,7 +167,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDriverName",
+        JdbcMethod.DATABASE_META_DATA_GET_DRIVER_NAME,
         () -> DriverInfo.DRIVER_NAME);
   }
 
@@ -197,7 +198,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.usesLocalFiles",
+        JdbcMethod.DATABASE_META_DATA_USES_LOCAL_FILES,
         () -> this.databaseMetaData.usesLocalFiles());
   }
 
@@ -208,7 +209,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.usesLocalFilePerTable",
+        JdbcMethod.DATABASE_META_DATA_USES_LOCAL_FILE_PER_TABLE,
         () -> this.databaseMetaData.usesLocalFilePerTable());
   }
 
@@ -219,7 +220,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMixedCaseIdentifiers",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_MIXED_CASE_IDENTIFIERS,
         () -> this.databaseMetaData.supportsMixedCaseIdentifiers());
   }
 
@@ -230,7 +231,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesUpperCaseIdentifiers",
+        JdbcMethod.DATABASE_META_DATA_STORES_UPPER_CASE_IDENTIFIERS,
         () -> this.databaseMetaData.storesUpperCaseIdentifiers());
   }
 
@@ -241,7 +242,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesLowerCaseIdentifiers",
+        JdbcMethod.DATABASE_META_DATA_STORES_LOWER_CASE_IDENTIFIERS,
         () -> this.databaseMetaData.storesLowerCaseIdentifiers());
   }
 
@@ -252,7 +253,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesMixedCaseIdentifiers",
+        JdbcMethod.DATABASE_META_DATA_STORES_MIXED_CASE_IDENTIFIERS,
         () -> this.databaseMetaData.storesMixedCaseIdentifiers());
   }
 
@@ -263,7 +264,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMixedCaseQuotedIdentifiers",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_MIXED_CASE_QUOTED_IDENTIFIERS,
         () -> this.databaseMetaData.supportsMixedCaseQuotedIdentifiers());
   }
 
@@ -274,7 +275,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesUpperCaseQuotedIdentifiers",
+        JdbcMethod.DATABASE_META_DATA_STORES_UPPER_CASE_QUOTED_IDENTIFIERS,
         () -> this.databaseMetaData.storesUpperCaseQuotedIdentifiers());
   }
 
@@ -285,7 +286,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesLowerCaseQuotedIdentifiers",
+        JdbcMethod.DATABASE_META_DATA_STORES_LOWER_CASE_QUOTED_IDENTIFIERS,
         () -> this.databaseMetaData.storesLowerCaseQuotedIdentifiers());
   }
 
@@ -296,7 +297,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesMixedCaseQuotedIdentifiers",
+        JdbcMethod.DATABASE_META_DATA_STORES_MIXED_CASE_QUOTED_IDENTIFIERS,
         () -> this.databaseMetaData.storesMixedCaseQuotedIdentifiers());
   }
 
@@ -307,7 +308,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getIdentifierQuoteString",
+        JdbcMethod.DATABASE_META_DATA_GET_IDENTIFIER_QUOTE_STRING,
         () -> this.databaseMetaData.getIdentifierQuoteString());
   }
 
@@ -318,7 +319,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSQLKeywords",
+        JdbcMethod.DATABASE_META_DATA_GET_SQL_KEYWORDS,
         () -> this.databaseMetaData.getSQLKeywords());
   }
 
@@ -329,7 +330,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getNumericFunctions",
+        JdbcMethod.DATABASE_META_DATA_GET_NUMERIC_FUNCTIONS,
         () -> this.databaseMetaData.getNumericFunctions());
   }
 
@@ -340,7 +341,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getStringFunctions",
+        JdbcMethod.DATABASE_META_DATA_GET_STRING_FUNCTIONS,
         () -> this.databaseMetaData.getStringFunctions());
   }
 
@@ -351,7 +352,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSystemFunctions",
+        JdbcMethod.DATABASE_META_DATA_GET_SYSTEM_FUNCTIONS,
         () -> this.databaseMetaData.getSystemFunctions());
   }
 
@@ -362,7 +363,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTimeDateFunctions",
+        JdbcMethod.DATABASE_META_DATA_GET_TIME_DATE_FUNCTIONS,
         () -> this.databaseMetaData.getTimeDateFunctions());
   }
 
@@ -373,7 +374,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSearchStringEscape",
+        JdbcMethod.DATABASE_META_DATA_GET_SEARCH_STRING_ESCAPE,
         () -> this.databaseMetaData.getSearchStringEscape());
   }
 
@@ -384,7 +385,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getExtraNameCharacters",
+        JdbcMethod.DATABASE_META_DATA_GET_EXTRA_NAME_CHARACTERS,
         () -> this.databaseMetaData.getExtraNameCharacters());
   }
 
@@ -395,7 +396,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsAlterTableWithAddColumn",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_ALTER_TABLE_WITH_ADD_COLUMN,
         () -> this.databaseMetaData.supportsAlterTableWithAddColumn());
   }
 
@@ -406,7 +407,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsAlterTableWithDropColumn",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_ALTER_TABLE_WITH_DROP_COLUMN,
         () -> this.databaseMetaData.supportsAlterTableWithDropColumn());
   }
 
@@ -417,7 +418,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsColumnAliasing",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_COLUMN_ALIASING,
         () -> this.databaseMetaData.supportsColumnAliasing());
   }
 
@@ -428,7 +429,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullPlusNonNullIsNull",
+        JdbcMethod.DATABASE_META_DATA_NULL_PLUS_NON_NULL_IS_NULL,
         () -> this.databaseMetaData.nullPlusNonNullIsNull());
   }
 
@@ -439,7 +440,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsConvert",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CONVERT,
         () -> this.databaseMetaData.supportsConvert());
   }
 
@@ -450,7 +451,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsConvert",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CONVERT,
         () -> this.databaseMetaData.supportsConvert(fromType, toType),
         fromType,
         toType);
@@ -463,7 +464,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsTableCorrelationNames",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_TABLE_CORRELATION_NAMES,
         () -> this.databaseMetaData.supportsTableCorrelationNames());
   }
 
@@ -474,7 +475,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsDifferentTableCorrelationNames",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_DIFFERENT_TABLE_CORRELATION_NAMES,
         () -> this.databaseMetaData.supportsDifferentTableCorrelationNames());
   }
 
@@ -485,7 +486,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsExpressionsInOrderBy",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_EXPRESSIONS_IN_ORDER_BY,
         () -> this.databaseMetaData.supportsExpressionsInOrderBy());
   }
 
@@ -496,7 +497,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOrderByUnrelated",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_ORDER_BY_UNRELATED,
         () -> this.databaseMetaData.supportsOrderByUnrelated());
   }
 
@@ -507,7 +508,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsGroupBy",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_GROUP_BY,
         () -> this.databaseMetaData.supportsGroupBy());
   }
 
@@ -518,7 +519,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsGroupByUnrelated",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_GROUP_BY_UNRELATED,
         () -> this.databaseMetaData.supportsGroupByUnrelated());
   }
 
@@ -529,7 +530,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsGroupByBeyondSelect",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_GROUP_BY_BEYOND_SELECT,
         () -> this.databaseMetaData.supportsGroupByBeyondSelect());
   }
 
@@ -540,7 +541,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsLikeEscapeClause",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_LIKE_ESCAPE_CLAUSE,
         () -> this.databaseMetaData.supportsLikeEscapeClause());
   }
 
@@ -551,7 +552,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMultipleResultSets",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_MULTIPLE_RESULT_SETS,
         () -> this.databaseMetaData.supportsMultipleResultSets());
   }
 
@@ -562,7 +563,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMultipleTransactions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_MULTIPLE_TRANSACTIONS,
         () -> this.databaseMetaData.supportsMultipleTransactions());
   }
 
@@ -573,7 +574,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsNonNullableColumns",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_NON_NULLABLE_COLUMNS,
         () -> this.databaseMetaData.supportsNonNullableColumns());
   }
 
@@ -584,7 +585,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMinimumSQLGrammar",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_MINIMUM_SQL_GRAMMAR,
         () -> this.databaseMetaData.supportsMinimumSQLGrammar());
   }
 
@@ -595,7 +596,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCoreSQLGrammar",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CORE_SQL_GRAMMAR,
         () -> this.databaseMetaData.supportsCoreSQLGrammar());
   }
 
@@ -606,7 +607,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsExtendedSQLGrammar",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_EXTENDED_SQL_GRAMMAR,
         () -> this.databaseMetaData.supportsExtendedSQLGrammar());
   }
 
@@ -650,7 +651,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsIntegrityEnhancementFacility",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_INTEGRITY_ENHANCEMENT_FACILITY,
         () -> this.databaseMetaData.supportsIntegrityEnhancementFacility());
   }
 
@@ -661,7 +662,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOuterJoins",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_OUTER_JOINS,
         () -> this.databaseMetaData.supportsOuterJoins());
   }
 
@@ -672,7 +673,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsFullOuterJoins",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_FULL_OUTER_JOINS,
         () -> this.databaseMetaData.supportsFullOuterJoins());
   }
 
@@ -683,7 +684,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsLimitedOuterJoins",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_LIMITED_OUTER_JOINS,
         () -> this.databaseMetaData.supportsLimitedOuterJoins());
   }
 
@@ -694,7 +695,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSchemaTerm",
+        JdbcMethod.DATABASE_META_DATA_GET_SCHEMA_TERM,
         () -> this.databaseMetaData.getSchemaTerm());
   }
 
@@ -705,7 +706,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getProcedureTerm",
+        JdbcMethod.DATABASE_META_DATA_GET_PROCEDURE_TERM,
         () -> this.databaseMetaData.getProcedureTerm());
   }
 
@@ -716,7 +717,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getCatalogTerm",
+        JdbcMethod.DATABASE_META_DATA_GET_CATALOG_TERM,
         () -> this.databaseMetaData.getCatalogTerm());
   }
 
@@ -727,7 +728,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.isCatalogAtStart",
+        JdbcMethod.DATABASE_META_DATA_IS_CATALOG_AT_START,
         () -> this.databaseMetaData.isCatalogAtStart());
   }
 
@@ -738,7 +739,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getCatalogSeparator",
+        JdbcMethod.DATABASE_META_DATA_GET_CATALOG_SEPARATOR,
         () -> this.databaseMetaData.getCatalogSeparator());
   }
 
@@ -749,7 +750,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInDataManipulation",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_DATA_MANIPULATION,
         () -> this.databaseMetaData.supportsSchemasInDataManipulation());
   }
 
@@ -760,7 +761,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInProcedureCalls",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_PROCEDURE_CALLS,
         () -> this.databaseMetaData.supportsSchemasInProcedureCalls());
   }
 
@@ -771,7 +772,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInTableDefinitions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_TABLE_DEFINITIONS,
         () -> this.databaseMetaData.supportsSchemasInTableDefinitions());
   }
 
@@ -782,7 +783,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInIndexDefinitions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_INDEX_DEFINITIONS,
         () -> this.databaseMetaData.supportsSchemasInIndexDefinitions());
   }
 
@@ -793,7 +794,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInPrivilegeDefinitions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SCHEMAS_IN_PRIVILEGE_DEFINITIONS,
         () -> this.databaseMetaData.supportsSchemasInPrivilegeDefinitions());
   }
 
@@ -804,7 +805,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInDataManipulation",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_DATA_MANIPULATION,
         () -> this.databaseMetaData.supportsCatalogsInDataManipulation());
   }
 
@@ -815,7 +816,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInProcedureCalls",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_PROCEDURE_CALLS,
         () -> this.databaseMetaData.supportsCatalogsInProcedureCalls());
   }
 
@@ -826,7 +827,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInTableDefinitions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_TABLE_DEFINITIONS,
         () -> this.databaseMetaData.supportsCatalogsInTableDefinitions());
   }
 
@@ -837,7 +838,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInIndexDefinitions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_INDEX_DEFINITIONS,
         () -> this.databaseMetaData.supportsCatalogsInIndexDefinitions());
   }
 
@@ -848,7 +849,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInPrivilegeDefinitions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CATALOGS_IN_PRIVILEGE_DEFINITIONS,
         () -> this.databaseMetaData.supportsCatalogsInPrivilegeDefinitions());
   }
 
@@ -859,7 +860,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsPositionedDelete",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_POSITIONED_DELETE,
         () -> this.databaseMetaData.supportsPositionedDelete());
   }
 
@@ -870,7 +871,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsPositionedUpdate",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_POSITIONED_UPDATE,
         () -> this.databaseMetaData.supportsPositionedUpdate());
   }
 
@@ -881,7 +882,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSelectForUpdate",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SELECT_FOR_UPDATE,
         () -> this.databaseMetaData.supportsSelectForUpdate());
   }
 
@@ -892,7 +893,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsStoredProcedures",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_STORED_PROCEDURES,
         () -> this.databaseMetaData.supportsStoredProcedures());
   }
 
@@ -904,7 +905,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSubqueriesInComparisons",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SUBQUERIES_IN_COMPARISONS,
         () -> this.databaseMetaData.supportsSubqueriesInComparisons());
   }
 
@@ -916,7 +917,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSubqueriesInExists",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SUBQUERIES_IN_EXISTS,
         () -> this.databaseMetaData.supportsSubqueriesInExists());
   }
 
@@ -928,7 +929,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSubqueriesInIns",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SUBQUERIES_IN_INS,
         () -> this.databaseMetaData.supportsSubqueriesInIns());
   }
 
@@ -940,7 +941,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSubqueriesInQuantifieds",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SUBQUERIES_IN_QUANTIFIEDS,
         () -> this.databaseMetaData.supportsSubqueriesInQuantifieds());
   }
 
@@ -952,7 +953,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCorrelatedSubqueries",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_CORRELATED_SUBQUERIES,
         () -> this.databaseMetaData.supportsCorrelatedSubqueries());
   }
 
@@ -963,7 +964,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsUnion",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_UNION,
         () -> this.databaseMetaData.supportsUnion());
   }
 
@@ -974,7 +975,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsUnionAll",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_UNION_ALL,
         () -> this.databaseMetaData.supportsUnionAll());
   }
 
@@ -985,7 +986,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOpenCursorsAcrossCommit",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_OPEN_CURSORS_ACROSS_COMMIT,
         () -> this.databaseMetaData.supportsOpenCursorsAcrossCommit());
   }
 
@@ -996,7 +997,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOpenCursorsAcrossRollback",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_OPEN_CURSORS_ACROSS_ROLLBACK,
         () -> this.databaseMetaData.supportsOpenCursorsAcrossRollback());
   }
 
@@ -1007,7 +1008,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOpenStatementsAcrossCommit",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_OPEN_STATEMENTS_ACROSS_COMMIT,
         () -> this.databaseMetaData.supportsOpenStatementsAcrossCommit());
   }
 
@@ -1018,7 +1019,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOpenStatementsAcrossRollback",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_OPEN_STATEMENTS_ACROSS_ROLLBACK,
         () -> this.databaseMetaData.supportsOpenStatementsAcrossRollback());
   }
 
@@ -1029,7 +1030,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxBinaryLiteralLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_BINARY_LITERAL_LENGTH,
         () -> this.databaseMetaData.getMaxBinaryLiteralLength());
   }
 
@@ -1040,7 +1041,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxCharLiteralLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_CHAR_LITERAL_LENGTH,
         () -> this.databaseMetaData.getMaxCharLiteralLength());
   }
 
@@ -1051,7 +1052,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnNameLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_COLUMN_NAME_LENGTH,
         () -> this.databaseMetaData.getMaxColumnNameLength());
   }
 
@@ -1062,7 +1063,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInGroupBy",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_COLUMNS_IN_GROUP_BY,
         () -> this.databaseMetaData.getMaxColumnsInGroupBy());
   }
 
@@ -1073,7 +1074,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInIndex",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_COLUMNS_IN_INDEX,
         () -> this.databaseMetaData.getMaxColumnsInIndex());
   }
 
@@ -1084,7 +1085,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInOrderBy",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_COLUMNS_IN_ORDER_BY,
         () -> this.databaseMetaData.getMaxColumnsInOrderBy());
   }
 
@@ -1095,7 +1096,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInSelect",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_COLUMNS_IN_SELECT,
         () -> this.databaseMetaData.getMaxColumnsInSelect());
   }
 
@@ -1106,7 +1107,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInTable",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_COLUMNS_IN_TABLE,
         () -> this.databaseMetaData.getMaxColumnsInTable());
   }
 
@@ -1117,7 +1118,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxConnections",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_CONNECTIONS,
         () -> this.databaseMetaData.getMaxConnections());
   }
 
@@ -1128,7 +1129,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxCursorNameLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_CURSOR_NAME_LENGTH,
         () -> this.databaseMetaData.getMaxCursorNameLength());
   }
 
@@ -1139,7 +1140,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxIndexLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_INDEX_LENGTH,
         () -> this.databaseMetaData.getMaxIndexLength());
   }
 
@@ -1150,7 +1151,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxSchemaNameLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_SCHEMA_NAME_LENGTH,
         () -> this.databaseMetaData.getMaxSchemaNameLength());
   }
 
@@ -1161,7 +1162,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxProcedureNameLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_PROCEDURE_NAME_LENGTH,
         () -> this.databaseMetaData.getMaxProcedureNameLength());
   }
 
@@ -1172,7 +1173,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxCatalogNameLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_CATALOG_NAME_LENGTH,
         () -> this.databaseMetaData.getMaxCatalogNameLength());
   }
 
@@ -1183,7 +1184,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxRowSize",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_ROW_SIZE,
         () -> this.databaseMetaData.getMaxRowSize());
   }
 
@@ -1194,7 +1195,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.doesMaxRowSizeIncludeBlobs",
+        JdbcMethod.DATABASE_META_DATA_DOES_MAX_ROW_SIZE_INCLUDE_BLOBS,
         () -> this.databaseMetaData.doesMaxRowSizeIncludeBlobs());
   }
 
@@ -1205,7 +1206,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxStatementLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_STATEMENT_LENGTH,
         () -> this.databaseMetaData.getMaxStatementLength());
   }
 
@@ -1216,7 +1217,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxStatements",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_STATEMENTS,
         () -> this.databaseMetaData.getMaxStatements());
   }
 
@@ -1227,7 +1228,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxTableNameLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_TABLE_NAME_LENGTH,
         () -> this.databaseMetaData.getMaxTableNameLength());
   }
 
@@ -1238,7 +1239,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxTablesInSelect",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_TABLES_IN_SELECT,
         () -> this.databaseMetaData.getMaxTablesInSelect());
   }
 
@@ -1249,7 +1250,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxUserNameLength",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_USER_NAME_LENGTH,
         () -> this.databaseMetaData.getMaxUserNameLength());
   }
 
@@ -1260,7 +1261,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDefaultTransactionIsolation",
+        JdbcMethod.DATABASE_META_DATA_GET_DEFAULT_TRANSACTION_ISOLATION,
         () -> this.databaseMetaData.getDefaultTransactionIsolation());
   }
 
@@ -1271,7 +1272,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsTransactions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_TRANSACTIONS,
         () -> this.databaseMetaData.supportsTransactions());
   }
 
@@ -1282,7 +1283,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsTransactionIsolationLevel",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_TRANSACTION_ISOLATION_LEVEL,
         () -> this.databaseMetaData.supportsTransactionIsolationLevel(level),
         level);
   }
@@ -1294,7 +1295,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsDataDefinitionAndDataManipulationTransactions",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_DATA_DEFINITION_AND_DATA_MANIPULATION_TRANSACTIONS,
         () -> this.databaseMetaData.supportsDataDefinitionAndDataManipulationTransactions());
   }
 
@@ -1305,7 +1306,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsDataManipulationTransactionsOnly",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_DATA_MANIPULATION_TRANSACTIONS_ONLY,
         () -> this.databaseMetaData.supportsDataManipulationTransactionsOnly());
   }
 
@@ -1316,7 +1317,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.dataDefinitionCausesTransactionCommit",
+        JdbcMethod.DATABASE_META_DATA_DATA_DEFINITION_CAUSES_TRANSACTION_COMMIT,
         () -> this.databaseMetaData.dataDefinitionCausesTransactionCommit());
   }
 
@@ -1327,7 +1328,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.dataDefinitionIgnoredInTransactions",
+        JdbcMethod.DATABASE_META_DATA_DATA_DEFINITION_IGNORED_IN_TRANSACTIONS,
         () -> this.databaseMetaData.dataDefinitionIgnoredInTransactions());
   }
 
@@ -1339,7 +1340,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getProcedures",
+        JdbcMethod.DATABASE_META_DATA_GET_PROCEDURES,
         () -> this.databaseMetaData.getProcedures(catalog, schemaPattern, procedureNamePattern),
         catalog,
         schemaPattern,
@@ -1355,7 +1356,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getProcedureColumns",
+        JdbcMethod.DATABASE_META_DATA_GET_PROCEDURE_COLUMNS,
         () ->
             this.databaseMetaData.getProcedureColumns(
                 catalog, schemaPattern, procedureNamePattern, columnNamePattern),
@@ -1374,7 +1375,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTables",
+        JdbcMethod.DATABASE_META_DATA_GET_TABLES,
         () -> this.databaseMetaData.getTables(catalog, schemaPattern, tableNamePattern, types),
         catalog,
         schemaPattern,
@@ -1389,7 +1390,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSchemas",
+        JdbcMethod.DATABASE_META_DATA_GET_SCHEMAS,
         () -> this.databaseMetaData.getSchemas());
   }
 
@@ -1400,7 +1401,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSchemas",
+        JdbcMethod.DATABASE_META_DATA_GET_SCHEMAS,
         () -> this.databaseMetaData.getSchemas(catalog, schemaPattern),
         catalog,
         schemaPattern);
@@ -1413,7 +1414,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getCatalogs",
+        JdbcMethod.DATABASE_META_DATA_GET_CATALOGS,
         () -> this.databaseMetaData.getCatalogs());
   }
 
@@ -1424,7 +1425,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTableTypes",
+        JdbcMethod.DATABASE_META_DATA_GET_TABLE_TYPES,
         () -> this.databaseMetaData.getTableTypes());
   }
 
@@ -1437,7 +1438,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getColumns",
+        JdbcMethod.DATABASE_META_DATA_GET_COLUMNS,
         () ->
             this.databaseMetaData.getColumns(
                 catalog, schemaPattern, tableNamePattern, columnNamePattern),
@@ -1455,7 +1456,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getColumnPrivileges",
+        JdbcMethod.DATABASE_META_DATA_GET_COLUMN_PRIVILEGES,
         () -> this.databaseMetaData.getColumnPrivileges(catalog, schema, table, columnNamePattern),
         catalog,
         schema,
@@ -1471,7 +1472,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTablePrivileges",
+        JdbcMethod.DATABASE_META_DATA_GET_TABLE_PRIVILEGES,
         () -> this.databaseMetaData.getTablePrivileges(catalog, schemaPattern, tableNamePattern),
         catalog,
         schemaPattern,
@@ -1487,7 +1488,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getBestRowIdentifier",
+        JdbcMethod.DATABASE_META_DATA_GET_BEST_ROW_IDENTIFIER,
         () -> this.databaseMetaData.getBestRowIdentifier(catalog, schema, table, scope, nullable),
         catalog,
         schema,
@@ -1504,7 +1505,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getVersionColumns",
+        JdbcMethod.DATABASE_META_DATA_GET_VERSION_COLUMNS,
         () -> this.databaseMetaData.getVersionColumns(catalog, schema, table),
         catalog,
         schema,
@@ -1518,7 +1519,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getPrimaryKeys",
+        JdbcMethod.DATABASE_META_DATA_GET_PRIMARY_KEYS,
         () -> this.databaseMetaData.getPrimaryKeys(catalog, schema, table),
         catalog,
         schema,
@@ -1533,7 +1534,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getImportedKeys",
+        JdbcMethod.DATABASE_META_DATA_GET_IMPORTED_KEYS,
         () -> this.databaseMetaData.getImportedKeys(catalog, schema, table),
         catalog,
         schema,
@@ -1548,7 +1549,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getExportedKeys",
+        JdbcMethod.DATABASE_META_DATA_GET_EXPORTED_KEYS,
         () -> this.databaseMetaData.getExportedKeys(catalog, schema, table),
         catalog,
         schema,
@@ -1569,7 +1570,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getCrossReference",
+        JdbcMethod.DATABASE_META_DATA_GET_CROSS_REFERENCE,
         () ->
             this.databaseMetaData.getCrossReference(
                 parentCatalog,
@@ -1593,7 +1594,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTypeInfo",
+        JdbcMethod.DATABASE_META_DATA_GET_TYPE_INFO,
         () -> this.databaseMetaData.getTypeInfo());
   }
 
@@ -1606,7 +1607,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getIndexInfo",
+        JdbcMethod.DATABASE_META_DATA_GET_INDEX_INFO,
         () -> this.databaseMetaData.getIndexInfo(catalog, schema, table, unique, approximate),
         catalog,
         schema,
@@ -1622,7 +1623,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsResultSetType",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_RESULT_SET_TYPE,
         () -> this.databaseMetaData.supportsResultSetType(type),
         type);
   }
@@ -1634,7 +1635,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsResultSetConcurrency",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_RESULT_SET_CONCURRENCY,
         () -> this.databaseMetaData.supportsResultSetConcurrency(type, concurrency),
         type,
         concurrency);
@@ -1647,7 +1648,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.ownUpdatesAreVisible",
+        JdbcMethod.DATABASE_META_DATA_OWN_UPDATES_ARE_VISIBLE,
         () -> this.databaseMetaData.ownUpdatesAreVisible(type),
         type);
   }
@@ -1659,7 +1660,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.ownDeletesAreVisible",
+        JdbcMethod.DATABASE_META_DATA_OWN_DELETES_ARE_VISIBLE,
         () -> this.databaseMetaData.ownDeletesAreVisible(type),
         type);
   }
@@ -1671,7 +1672,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.ownInsertsAreVisible",
+        JdbcMethod.DATABASE_META_DATA_OWN_INSERTS_ARE_VISIBLE,
         () -> this.databaseMetaData.ownInsertsAreVisible(type),
         type);
   }
@@ -1683,7 +1684,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.othersUpdatesAreVisible",
+        JdbcMethod.DATABASE_META_DATA_OTHERS_UPDATES_ARE_VISIBLE,
         () -> this.databaseMetaData.othersUpdatesAreVisible(type),
         type);
   }
@@ -1695,7 +1696,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.othersDeletesAreVisible",
+        JdbcMethod.DATABASE_META_DATA_OTHERS_DELETES_ARE_VISIBLE,
         () -> this.databaseMetaData.othersDeletesAreVisible(type),
         type);
   }
@@ -1707,7 +1708,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.othersInsertsAreVisible",
+        JdbcMethod.DATABASE_META_DATA_OTHERS_INSERTS_ARE_VISIBLE,
         () -> this.databaseMetaData.othersInsertsAreVisible(type),
         type);
   }
@@ -1719,7 +1720,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.updatesAreDetected",
+        JdbcMethod.DATABASE_META_DATA_UPDATES_ARE_DETECTED,
         () -> this.databaseMetaData.updatesAreDetected(type),
         type);
   }
@@ -1731,7 +1732,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.deletesAreDetected",
+        JdbcMethod.DATABASE_META_DATA_DELETES_ARE_DETECTED,
         () -> this.databaseMetaData.deletesAreDetected(type),
         type);
   }
@@ -1743,7 +1744,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.insertsAreDetected",
+        JdbcMethod.DATABASE_META_DATA_INSERTS_ARE_DETECTED,
         () -> this.databaseMetaData.insertsAreDetected(type),
         type);
   }
@@ -1755,7 +1756,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsBatchUpdates",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_BATCH_UPDATES,
         () -> this.databaseMetaData.supportsBatchUpdates());
   }
 
@@ -1768,7 +1769,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getUDTs",
+        JdbcMethod.DATABASE_META_DATA_GET_UD_TS,
         () -> this.databaseMetaData.getUDTs(catalog, schemaPattern, typeNamePattern, types),
         catalog,
         schemaPattern,
@@ -1783,7 +1784,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getConnection",
+        JdbcMethod.DATABASE_META_DATA_GET_CONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -1795,7 +1796,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSavepoints",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_SAVEPOINTS,
         () -> this.databaseMetaData.supportsSavepoints());
   }
 
@@ -1806,7 +1807,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsNamedParameters",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_NAMED_PARAMETERS,
         () -> this.databaseMetaData.supportsNamedParameters());
   }
 
@@ -1817,7 +1818,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMultipleOpenResults",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_MULTIPLE_OPEN_RESULTS,
         () -> this.databaseMetaData.supportsMultipleOpenResults());
   }
 
@@ -1828,7 +1829,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsGetGeneratedKeys",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_GET_GENERATED_KEYS,
         () -> this.databaseMetaData.supportsGetGeneratedKeys());
   }
 
@@ -1840,7 +1841,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSuperTypes",
+        JdbcMethod.DATABASE_META_DATA_GET_SUPER_TYPES,
         () -> this.databaseMetaData.getSuperTypes(catalog, schemaPattern, typeNamePattern),
         catalog,
         schemaPattern,
@@ -1855,7 +1856,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSuperTables",
+        JdbcMethod.DATABASE_META_DATA_GET_SUPER_TABLES,
         () -> this.databaseMetaData.getSuperTables(catalog, schemaPattern, tableNamePattern),
         catalog,
         schemaPattern,
@@ -1871,7 +1872,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getAttributes",
+        JdbcMethod.DATABASE_META_DATA_GET_ATTRIBUTES,
         () ->
             this.databaseMetaData.getAttributes(
                 catalog, schemaPattern, typeNamePattern, attributeNamePattern),
@@ -1888,7 +1889,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsResultSetHoldability",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_RESULT_SET_HOLDABILITY,
         () -> this.databaseMetaData.supportsResultSetHoldability(holdability),
         holdability);
   }
@@ -1900,7 +1901,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getResultSetHoldability",
+        JdbcMethod.DATABASE_META_DATA_GET_RESULT_SET_HOLDABILITY,
         () -> this.databaseMetaData.getResultSetHoldability());
   }
 
@@ -1911,7 +1912,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDatabaseMajorVersion",
+        JdbcMethod.DATABASE_META_DATA_GET_DATABASE_MAJOR_VERSION,
         () -> this.databaseMetaData.getDatabaseMajorVersion());
   }
 
@@ -1922,7 +1923,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDatabaseMinorVersion",
+        JdbcMethod.DATABASE_META_DATA_GET_DATABASE_MINOR_VERSION,
         () -> this.databaseMetaData.getDatabaseMinorVersion());
   }
 
@@ -1933,7 +1934,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getJDBCMajorVersion",
+        JdbcMethod.DATABASE_META_DATA_GET_JDBC_MAJOR_VERSION,
         () -> this.databaseMetaData.getJDBCMajorVersion());
   }
 
@@ -1944,7 +1945,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getJDBCMinorVersion",
+        JdbcMethod.DATABASE_META_DATA_GET_JDBC_MINOR_VERSION,
         () -> this.databaseMetaData.getJDBCMinorVersion());
   }
 
@@ -1956,7 +1957,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSQLStateType",
+        JdbcMethod.DATABASE_META_DATA_GET_SQL_STATE_TYPE,
         () -> this.databaseMetaData.getSQLStateType());
   }
 
@@ -1967,7 +1968,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.locatorsUpdateCopy",
+        JdbcMethod.DATABASE_META_DATA_LOCATORS_UPDATE_COPY,
         () -> this.databaseMetaData.locatorsUpdateCopy());
   }
 
@@ -1978,7 +1979,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsStatementPooling",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_STATEMENT_POOLING,
         () -> this.databaseMetaData.supportsStatementPooling());
   }
 
@@ -1989,7 +1990,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getRowIdLifetime",
+        JdbcMethod.DATABASE_META_DATA_GET_ROW_ID_LIFETIME,
         () -> this.databaseMetaData.getRowIdLifetime());
   }
 
@@ -2000,7 +2001,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsStoredFunctionsUsingCallSyntax",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_STORED_FUNCTIONS_USING_CALL_SYNTAX,
         () -> this.databaseMetaData.supportsStoredFunctionsUsingCallSyntax());
   }
 
@@ -2011,7 +2012,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.autoCommitFailureClosesAllResultSets",
+        JdbcMethod.DATABASE_META_DATA_AUTO_COMMIT_FAILURE_CLOSES_ALL_RESULT_SETS,
         () -> this.databaseMetaData.autoCommitFailureClosesAllResultSets());
   }
 
@@ -2022,7 +2023,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getClientInfoProperties",
+        JdbcMethod.DATABASE_META_DATA_GET_CLIENT_INFO_PROPERTIES,
         () -> this.databaseMetaData.getClientInfoProperties());
   }
 
@@ -2034,7 +2035,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getFunctions",
+        JdbcMethod.DATABASE_META_DATA_GET_FUNCTIONS,
         () -> this.databaseMetaData.getFunctions(catalog, schemaPattern, functionNamePattern),
         catalog,
         schemaPattern,
@@ -2050,7 +2051,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getFunctionColumns",
+        JdbcMethod.DATABASE_META_DATA_GET_FUNCTION_COLUMNS,
         () ->
             this.databaseMetaData.getFunctionColumns(
                 catalog, schemaPattern, functionNamePattern, columnNamePattern),
@@ -2069,7 +2070,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getPseudoColumns",
+        JdbcMethod.DATABASE_META_DATA_GET_PSEUDO_COLUMNS,
         () ->
             this.databaseMetaData.getPseudoColumns(
                 catalog, schemaPattern, tableNamePattern, columnNamePattern),
@@ -2086,7 +2087,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.generatedKeyAlwaysReturned",
+        JdbcMethod.DATABASE_META_DATA_GENERATED_KEY_ALWAYS_RETURNED,
         () -> this.databaseMetaData.generatedKeyAlwaysReturned());
   }
 
@@ -2097,7 +2098,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxLogicalLobSize",
+        JdbcMethod.DATABASE_META_DATA_GET_MAX_LOGICAL_LOB_SIZE,
         () -> this.databaseMetaData.getMaxLogicalLobSize());
   }
 
@@ -2108,7 +2109,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsRefCursors",
+        JdbcMethod.DATABASE_META_DATA_SUPPORTS_REF_CURSORS,
         () -> this.databaseMetaData.supportsRefCursors());
   }
 
@@ -27,6 +27,7 @@ import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSelector;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.Messages;
 
 public class HighestWeightHostSelector implements HostSelector {
@@ -51,4 +52,16 @@ public class HighestWeightHostSelector implements HostSelector {
         .max(Comparator.comparing(HostSpec::getWeight))
         .orElseThrow(() -> new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role})));
   }
+
+  @Override
+  public HostSpec getHost(@NonNull final TopologySnapshot topology,
+      @NonNull final HostRole role,
+      @Nullable final Properties props) throws SQLException {
+
+    final HostSpec host = topology.getHighestWeightHost(role);
+    if (host == null) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
+    return host;
+  }
 }
@@ -25,6 +25,7 @@ import java.sql.NClob;
 import java.sql.SQLException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class NClobWrapper implements NClob {
@@ -44,7 +45,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.length",
+        JdbcMethod.N_CLOB_LENGTH,
         () -> this.nclob.length());
   }
 
@@ -55,7 +56,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.getSubString",
+        JdbcMethod.N_CLOB_GET_SUB_STRING,
         () -> this.nclob.getSubString(pos, length),
         pos,
         length);
@@ -68,7 +69,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.getCharacterStream",
+        JdbcMethod.N_CLOB_GET_CHARACTER_STREAM,
         () -> this.nclob.getCharacterStream());
   }
 
@@ -79,7 +80,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.getCharacterStream",
+        JdbcMethod.N_CLOB_GET_CHARACTER_STREAM,
         () -> this.nclob.getCharacterStream(pos, length),
         pos,
         length);
@@ -92,7 +93,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.getAsciiStream",
+        JdbcMethod.N_CLOB_GET_ASCII_STREAM,
         () -> this.nclob.getAsciiStream());
   }
 
@@ -103,7 +104,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.position",
+        JdbcMethod.N_CLOB_POSITION,
         () -> this.nclob.position(searchStr, start),
         searchStr,
         start);
@@ -116,7 +117,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.position",
+        JdbcMethod.N_CLOB_POSITION,
         () -> this.nclob.position(searchStr, start),
         searchStr,
         start);
@@ -129,7 +130,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.setString",
+        JdbcMethod.N_CLOB_SET_STRING,
         () -> this.nclob.setString(pos, str),
         pos,
         str);
@@ -142,7 +143,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.setString",
+        JdbcMethod.N_CLOB_SET_STRING,
         () -> this.nclob.setString(pos, str, offset, len),
         pos,
         str,
@@ -157,7 +158,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.setAsciiStream",
+        JdbcMethod.N_CLOB_SET_ASCII_STREAM,
         () -> this.nclob.setAsciiStream(pos),
         pos);
   }
@@ -169,7 +170,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.setCharacterStream",
+        JdbcMethod.N_CLOB_SET_CHARACTER_STREAM,
         () -> this.nclob.setCharacterStream(pos),
         pos);
   }
@@ -180,7 +181,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.truncate",
+        JdbcMethod.N_CLOB_TRUNCATE,
         () -> this.nclob.truncate(len),
         len);
   }
@@ -188,7 +189,7 @@ public class NClobWrapper implements NClob {
   @Override
   public void free() throws SQLException {
     WrapperUtils.runWithPlugins(
-        SQLException.class, this.pluginManager, this.nclob, "NClob.free", () -> this.nclob.free());
+        SQLException.class, this.pluginManager, this.nclob, JdbcMethod.N_CLOB_FREE, () -> this.nclob.free());
   }
 
   @Override
@@ -40,13 +40,17 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class PreparedStatementWrapper implements PreparedStatement {
 
   protected PreparedStatement statement;
   protected ConnectionPluginManager pluginManager;
+  protected @Nullable Connection boundConnection;
+  protected boolean isBoundConnectionResolved;
 
   public PreparedStatementWrapper(
       @NonNull PreparedStatement statement, @NonNull ConnectionPluginManager pluginManager) {
@@ -54,13 +58,33 @@ public class PreparedStatementWrapper implements PreparedStatement {
     this.pluginManager = pluginManager;
   }
 
+  /**
+   * Checks if a parameter setter can be invoked directly on the target statement. That's the case when no
+   * plugin needs to intercept the method. The connection of the target statement is resolved once and reused
+   * by subsequent calls since it can't change over the lifetime of the statement.
+   *
+   * @param jdbcMethod the JDBC method, eg {@link JdbcMethod#PREPARED_STATEMENT_SET_INT}
+   * @return true if the plugin pipeline can be skipped
+   */
+  protected boolean isPipelineBypassAllowed(final JdbcMethod jdbcMethod) {
+    if (!this.pluginManager.isPipelineBypassAllowed(jdbcMethod)) {
+      return false;
+    }
+    if (!this.isBoundConnectionResolved) {
+      this.boundConnection = WrapperUtils.getConnectionFromSqlObject(this.statement);
+      this.isBoundConnectionResolved = true;
+    }
+    // Calls against a statement of an old connection go through the pipeline, so they get rejected there.
+    return this.boundConnection == null || this.pluginManager.isCurrentConnection(this.boundConnection);
+  }
+
   @Override
   public void addBatch() throws SQLException {
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.addBatch",
+        JdbcMethod.PREPARED_STATEMENT_ADD_BATCH,
         () -> this.statement.addBatch());
   }
 
@@ -70,7 +94,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.addBatch",
+        JdbcMethod.PREPARED_STATEMENT_ADD_BATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -81,7 +105,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.cancel",
+        JdbcMethod.PREPARED_STATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -91,7 +115,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearBatch",
+        JdbcMethod.PREPARED_STATEMENT_CLEAR_BATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -101,7 +125,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearParameters",
+        JdbcMethod.PREPARED_STATEMENT_CLEAR_PARAMETERS,
         () -> this.statement.clearParameters());
   }
 
@@ -111,7 +135,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearWarnings",
+        JdbcMethod.PREPARED_STATEMENT_CLEAR_WARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -121,7 +145,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.close",
+        JdbcMethod.PREPARED_STATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -131,7 +155,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.closeOnCompletion",
+        JdbcMethod.PREPARED_STATEMENT_CLOSE_ON_COMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
@@ -142,7 +166,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE,
         () -> this.statement.execute());
   }
 
@@ -153,7 +177,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -165,7 +189,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -178,7 +202,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -191,7 +215,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -204,7 +228,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeBatch",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_BATCH,
         () -> this.statement.executeBatch());
   }
 
@@ -215,7 +239,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeLargeUpdate",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_LARGE_UPDATE,
         () -> this.statement.executeLargeUpdate());
   }
 
@@ -226,7 +250,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeQuery",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_QUERY,
         () -> this.statement.executeQuery());
   }
 
@@ -237,7 +261,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeQuery",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_QUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
@@ -249,7 +273,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate());
   }
 
@@ -260,7 +284,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -272,7 +296,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -285,7 +309,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -298,7 +322,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        JdbcMethod.PREPARED_STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -311,7 +335,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getConnection",
+        JdbcMethod.PREPARED_STATEMENT_GET_CONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -323,7 +347,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getFetchDirection",
+        JdbcMethod.PREPARED_STATEMENT_GET_FETCH_DIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -334,7 +358,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getFetchSize",
+        JdbcMethod.PREPARED_STATEMENT_GET_FETCH_SIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -345,7 +369,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getGeneratedKeys",
+        JdbcMethod.PREPARED_STATEMENT_GET_GENERATED_KEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -356,7 +380,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMaxFieldSize",
+        JdbcMethod.PREPARED_STATEMENT_GET_MAX_FIELD_SIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -367,7 +391,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMaxRows",
+        JdbcMethod.PREPARED_STATEMENT_GET_MAX_ROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -378,7 +402,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMetaData",
+        JdbcMethod.PREPARED_STATEMENT_GET_META_DATA,
         () -> this.statement.getMetaData());
   }
 
@@ -389,7 +413,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMoreResults",
+        JdbcMethod.PREPARED_STATEMENT_GET_MORE_RESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -400,7 +424,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMoreResults",
+        JdbcMethod.PREPARED_STATEMENT_GET_MORE_RESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -412,7 +436,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getParameterMetaData",
+        JdbcMethod.PREPARED_STATEMENT_GET_PARAMETER_META_DATA,
         () -> this.statement.getParameterMetaData());
   }
 
@@ -423,7 +447,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getQueryTimeout",
+        JdbcMethod.PREPARED_STATEMENT_GET_QUERY_TIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -434,7 +458,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSet",
+        JdbcMethod.PREPARED_STATEMENT_GET_RESULT_SET,
         () -> this.statement.getResultSet());
   }
 
@@ -446,7 +470,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetConcurrency",
+        JdbcMethod.PREPARED_STATEMENT_GET_RESULT_SET_CONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -457,7 +481,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetHoldability",
+        JdbcMethod.PREPARED_STATEMENT_GET_RESULT_SET_HOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -469,7 +493,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetType",
+        JdbcMethod.PREPARED_STATEMENT_GET_RESULT_SET_TYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -480,7 +504,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getUpdateCount",
+        JdbcMethod.PREPARED_STATEMENT_GET_UPDATE_COUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -491,7 +515,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getWarnings",
+        JdbcMethod.PREPARED_STATEMENT_GET_WARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -502,7 +526,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isCloseOnCompletion",
+        JdbcMethod.PREPARED_STATEMENT_IS_CLOSE_ON_COMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
@@ -513,7 +537,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isClosed",
+        JdbcMethod.PREPARED_STATEMENT_IS_CLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -525,7 +549,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isPoolable",
+        JdbcMethod.PREPARED_STATEMENT_IS_POOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -540,7 +564,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setArray",
+        JdbcMethod.PREPARED_STATEMENT_SET_ARRAY,
         () -> this.statement.setArray(parameterIndex, x),
         parameterIndex,
         x);
@@ -552,7 +576,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -565,7 +589,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -578,7 +602,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_ASCII_STREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -590,7 +614,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBigDecimal",
+        JdbcMethod.PREPARED_STATEMENT_SET_BIG_DECIMAL,
         () -> this.statement.setBigDecimal(parameterIndex, x),
         parameterIndex,
         x);
@@ -602,7 +626,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -615,7 +639,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -628,7 +652,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_BINARY_STREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -640,7 +664,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        JdbcMethod.PREPARED_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterIndex, x),
         parameterIndex,
         x);
@@ -653,7 +677,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        JdbcMethod.PREPARED_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream, length),
         parameterIndex,
         inputStream,
@@ -666,7 +690,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        JdbcMethod.PREPARED_STATEMENT_SET_BLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream),
         parameterIndex,
         inputStream);
@@ -674,11 +698,15 @@ public class PreparedStatementWrapper implements PreparedStatement {
 
   @Override
   public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+    if (this.isPipelineBypassAllowed(JdbcMethod.PREPARED_STATEMENT_SET_BOOLEAN)) {
+      this.statement.setBoolean(parameterIndex, x);
+      return;
+    }
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBoolean",
+        JdbcMethod.PREPARED_STATEMENT_SET_BOOLEAN,
         () -> this.statement.setBoolean(parameterIndex, x),
         parameterIndex,
         x);
@@ -686,11 +714,15 @@ public class PreparedStatementWrapper implements PreparedStatement {
 
   @Override
   public void setByte(int parameterIndex, byte x) throws SQLException {
+    if (this.isPipelineBypassAllowed(JdbcMethod.PREPARED_STATEMENT_SET_BYTE)) {
+      this.statement.setByte(parameterIndex, x);
+      return;
+    }
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setByte",
+        JdbcMethod.PREPARED_STATEMENT_SET_BYTE,
         () -> this.statement.setByte(parameterIndex, x),
         parameterIndex,
         x);
@@ -702,7 +734,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBytes",
+        JdbcMethod.PREPARED_STATEMENT_SET_BYTES,
         () -> this.statement.setBytes(parameterIndex, x),
         parameterIndex,
         x);
@@ -715,7 +747,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -729,7 +761,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -742,7 +774,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_CHARACTER_STREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -754,7 +786,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        JdbcMethod.PREPARED_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterIndex, x),
         parameterIndex,
         x);
@@ -766,7 +798,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        JdbcMethod.PREPARED_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -779,7 +811,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        JdbcMethod.PREPARED_STATEMENT_SET_CLOB,
         () -> this.statement.setClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -791,7 +823,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCursorName",
+        JdbcMethod.PREPARED_STATEMENT_SET_CURSOR_NAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -802,7 +834,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDate",
+        JdbcMethod.PREPARED_STATEMENT_SET_DATE,
         () -> this.statement.setDate(parameterIndex, x),
         parameterIndex,
         x);
@@ -814,7 +846,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDate",
+        JdbcMethod.PREPARED_STATEMENT_SET_DATE,
         () -> this.statement.setDate(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -823,11 +855,15 @@ public class PreparedStatementWrapper implements PreparedStatement {
 
   @Override
   public void setDouble(int parameterIndex, double x) throws SQLException {
+    if (this.isPipelineBypassAllowed(JdbcMethod.PREPARED_STATEMENT_SET_DOUBLE)) {
+      this.statement.setDouble(parameterIndex, x);
+      return;
+    }
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDouble",
+        JdbcMethod.PREPARED_STATEMENT_SET_DOUBLE,
         () -> this.statement.setDouble(parameterIndex, x),
         parameterIndex,
         x);
@@ -839,7 +875,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setEscapeProcessing",
+        JdbcMethod.PREPARED_STATEMENT_SET_ESCAPE_PROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -850,7 +886,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFetchDirection",
+        JdbcMethod.PREPARED_STATEMENT_SET_FETCH_DIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -861,18 +897,22 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFetchSize",
+        JdbcMethod.PREPARED_STATEMENT_SET_FETCH_SIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
 
   @Override
   public void setFloat(int parameterIndex, float x) throws SQLException {
+    if (this.isPipelineBypassAllowed(JdbcMethod.PREPARED_STATEMENT_SET_FLOAT)) {
+      this.statement.setFloat(parameterIndex, x);
+      return;
+    }
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFloat",
+        JdbcMethod.PREPARED_STATEMENT_SET_FLOAT,
         () -> this.statement.setFloat(parameterIndex, x),
         parameterIndex,
         x);
@@ -880,11 +920,15 @@ public class PreparedStatementWrapper implements PreparedStatement {
 
   @Override
   public void setInt(int parameterIndex, int x) throws SQLException {
+    if (this.isPipelineBypassAllowed(JdbcMethod.PREPARED_STATEMENT_SET_INT)) {
+      this.statement.setInt(parameterIndex, x);
+      return;
+    }
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setInt",
+        JdbcMethod.PREPARED_STATEMENT_SET_INT,
         () -> this.statement.setInt(parameterIndex, x),
         parameterIndex,
         x);
@@ -892,11 +936,15 @@ public class PreparedStatementWrapper implements PreparedStatement {
 
   @Override
   public void setLong(int parameterIndex, long x) throws SQLException {
+    if (this.isPipelineBypassAllowed(JdbcMethod.PREPARED_STATEMENT_SET_LONG)) {
+      this.statement.setLong(parameterIndex, x);
+      return;
+    }
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setLong",
+        JdbcMethod.PREPARED_STATEMENT_SET_LONG,
         () -> this.statement.setLong(parameterIndex, x),
         parameterIndex,
         x);
@@ -908,7 +956,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setMaxFieldSize",
+        JdbcMethod.PREPARED_STATEMENT_SET_MAX_FIELD_SIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -919,7 +967,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setMaxRows",
+        JdbcMethod.PREPARED_STATEMENT_SET_MAX_ROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -931,7 +979,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNCharacterStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_N_CHARACTER_STREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value, length),
         parameterIndex,
         value,
@@ -944,7 +992,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNCharacterStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_N_CHARACTER_STREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value),
         parameterIndex,
         value);
@@ -956,7 +1004,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        JdbcMethod.PREPARED_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterIndex, value),
         parameterIndex,
         value);
@@ -968,7 +1016,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        JdbcMethod.PREPARED_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -981,7 +1029,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        JdbcMethod.PREPARED_STATEMENT_SET_N_CLOB,
         () -> this.statement.setNClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -993,7 +1041,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNString",
+        JdbcMethod.PREPARED_STATEMENT_SET_N_STRING,
         () -> this.statement.setNString(parameterIndex, value),
         parameterIndex,
         value);
@@ -1005,7 +1053,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNull",
+        JdbcMethod.PREPARED_STATEMENT_SET_NULL,
         () -> this.statement.setNull(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1017,7 +1065,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNull",
+        JdbcMethod.PREPARED_STATEMENT_SET_NULL,
         () -> this.statement.setNull(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1030,7 +1078,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        JdbcMethod.PREPARED_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -1043,7 +1091,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        JdbcMethod.PREPARED_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x),
         parameterIndex,
         x);
@@ -1056,7 +1104,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        JdbcMethod.PREPARED_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -1071,7 +1119,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        JdbcMethod.PREPARED_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -1085,7 +1133,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        JdbcMethod.PREPARED_STATEMENT_SET_OBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -1099,7 +1147,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setPoolable",
+        JdbcMethod.PREPARED_STATEMENT_SET_POOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -1110,7 +1158,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setQueryTimeout",
+        JdbcMethod.PREPARED_STATEMENT_SET_QUERY_TIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -1121,7 +1169,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setRef",
+        JdbcMethod.PREPARED_STATEMENT_SET_REF,
         () -> this.statement.setRef(parameterIndex, x),
         parameterIndex,
         x);
@@ -1133,7 +1181,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setRowId",
+        JdbcMethod.PREPARED_STATEMENT_SET_ROW_ID,
         () -> this.statement.setRowId(parameterIndex, x),
         parameterIndex,
         x);
@@ -1146,7 +1194,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setSQLXML",
+        JdbcMethod.PREPARED_STATEMENT_SET_SQLXML,
         () -> this.statement.setSQLXML(parameterIndex, xmlObject),
         parameterIndex,
         xmlObject);
@@ -1154,11 +1202,15 @@ public class PreparedStatementWrapper implements PreparedStatement {
 
   @Override
   public void setShort(int parameterIndex, short x) throws SQLException {
+    if (this.isPipelineBypassAllowed(JdbcMethod.PREPARED_STATEMENT_SET_SHORT)) {
+      this.statement.setShort(parameterIndex, x);
+      return;
+    }
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setShort",
+        JdbcMethod.PREPARED_STATEMENT_SET_SHORT,
         () -> this.statement.setShort(parameterIndex, x),
         parameterIndex,
         x);
@@ -1170,7 +1222,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setString",
+        JdbcMethod.PREPARED_STATEMENT_SET_STRING,
         () -> this.statement.setString(parameterIndex, x),
         parameterIndex,
         x);
@@ -1182,7 +1234,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTime",
+        JdbcMethod.PREPARED_STATEMENT_SET_TIME,
         () -> this.statement.setTime(parameterIndex, x),
         parameterIndex,
         x);
@@ -1194,7 +1246,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTime",
+        JdbcMethod.PREPARED_STATEMENT_SET_TIME,
         () -> this.statement.setTime(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1207,7 +1259,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTimestamp",
+        JdbcMethod.PREPARED_STATEMENT_SET_TIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x),
         parameterIndex,
         x);
@@ -1219,7 +1271,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTimestamp",
+        JdbcMethod.PREPARED_STATEMENT_SET_TIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1232,7 +1284,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setURL",
+        JdbcMethod.PREPARED_STATEMENT_SET_URL,
         () -> this.statement.setURL(parameterIndex, x),
         parameterIndex,
         x);
@@ -1245,7 +1297,7 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setUnicodeStream",
+        JdbcMethod.PREPARED_STATEMENT_SET_UNICODE_STREAM,
         () -> this.statement.setUnicodeStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -21,6 +21,7 @@ import java.sql.SQLException;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class RefWrapper implements Ref {
@@ -40,7 +41,7 @@ public class RefWrapper implements Ref {
         SQLException.class,
         this.pluginManager,
         this.ref,
-        "Ref.getBaseTypeName",
+        JdbcMethod.REF_GET_BASE_TYPE_NAME,
         () -> this.ref.getBaseTypeName());
   }
 
@@ -51,7 +52,7 @@ public class RefWrapper implements Ref {
         SQLException.class,
         this.pluginManager,
         this.ref,
-        "Ref.getObject",
+        JdbcMethod.REF_GET_OBJECT,
         () -> this.ref.getObject(map),
         map);
   }
@@ -63,7 +64,7 @@ public class RefWrapper implements Ref {
         SQLException.class,
         this.pluginManager,
         this.ref,
-        "Ref.getObject",
+        JdbcMethod.REF_GET_OBJECT,
         () -> this.ref.getObject());
   }
 
@@ -73,7 +74,7 @@ public class RefWrapper implements Ref {
         SQLException.class,
         this.pluginManager,
         this.ref,
-        "Ref.setObject",
+        JdbcMethod.REF_SET_OBJECT,
         () -> this.ref.setObject(value),
         value);
   }
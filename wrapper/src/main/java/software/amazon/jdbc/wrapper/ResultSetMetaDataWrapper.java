@@ -20,6 +20,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class ResultSetMetaDataWrapper implements ResultSetMetaData {
@@ -41,7 +42,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnCount",
+        JdbcMethod.RESULT_SET_META_DATA_GET_COLUMN_COUNT,
         () -> this.resultSetMetaData.getColumnCount());
   }
 
@@ -52,7 +53,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isAutoIncrement",
+        JdbcMethod.RESULT_SET_META_DATA_IS_AUTO_INCREMENT,
         () -> this.resultSetMetaData.isAutoIncrement(column),
         column);
   }
@@ -64,7 +65,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isCaseSensitive",
+        JdbcMethod.RESULT_SET_META_DATA_IS_CASE_SENSITIVE,
         () -> this.resultSetMetaData.isCaseSensitive(column),
         column);
   }
@@ -76,7 +77,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isSearchable",
+        JdbcMethod.RESULT_SET_META_DATA_IS_SEARCHABLE,
         () -> this.resultSetMetaData.isSearchable(column),
         column);
   }
@@ -88,7 +89,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isCurrency",
+        JdbcMethod.RESULT_SET_META_DATA_IS_CURRENCY,
         () -> this.resultSetMetaData.isCurrency(column),
         column);
   }
@@ -101,7 +102,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isNullable",
+        JdbcMethod.RESULT_SET_META_DATA_IS_NULLABLE,
         () -> this.resultSetMetaData.isNullable(column),
         column);
   }
@@ -113,7 +114,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isSigned",
+        JdbcMethod.RESULT_SET_META_DATA_IS_SIGNED,
         () -> this.resultSetMetaData.isSigned(column),
         column);
   }
@@ -125,7 +126,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnDisplaySize",
+        JdbcMethod.RESULT_SET_META_DATA_GET_COLUMN_DISPLAY_SIZE,
         () -> this.resultSetMetaData.getColumnDisplaySize(column),
         column);
   }
@@ -137,7 +138,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnLabel",
+        JdbcMethod.RESULT_SET_META_DATA_GET_COLUMN_LABEL,
         () -> this.resultSetMetaData.getColumnLabel(column),
         column);
   }
@@ -149,7 +150,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnName",
+        JdbcMethod.RESULT_SET_META_DATA_GET_COLUMN_NAME,
         () -> this.resultSetMetaData.getColumnName(column),
         column);
   }
@@ -161,7 +162,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getSchemaName",
+        JdbcMethod.RESULT_SET_META_DATA_GET_SCHEMA_NAME,
         () -> this.resultSetMetaData.getSchemaName(column),
         column);
   }
@@ -173,7 +174,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getPrecision",
+        JdbcMethod.RESULT_SET_META_DATA_GET_PRECISION,
         () -> this.resultSetMetaData.getPrecision(column),
         column);
   }
@@ -185,7 +186,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getScale",
+        JdbcMethod.RESULT_SET_META_DATA_GET_SCALE,
         () -> this.resultSetMetaData.getScale(column),
         column);
   }
@@ -197,7 +198,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getTableName",
+        JdbcMethod.RESULT_SET_META_DATA_GET_TABLE_NAME,
         () -> this.resultSetMetaData.getTableName(column),
         column);
   }
@@ -209,7 +210,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getCatalogName",
+        JdbcMethod.RESULT_SET_META_DATA_GET_CATALOG_NAME,
         () -> this.resultSetMetaData.getCatalogName(column),
         column);
   }
@@ -221,7 +222,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnType",
+        JdbcMethod.RESULT_SET_META_DATA_GET_COLUMN_TYPE,
         () -> this.resultSetMetaData.getColumnType(column),
         column);
   }
@@ -233,7 +234,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnTypeName",
+        JdbcMethod.RESULT_SET_META_DATA_GET_COLUMN_TYPE_NAME,
         () -> this.resultSetMetaData.getColumnTypeName(column),
         column);
   }
@@ -245,7 +246,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isReadOnly",
+        JdbcMethod.RESULT_SET_META_DATA_IS_READ_ONLY,
         () -> this.resultSetMetaData.isReadOnly(column),
         column);
   }
@@ -257,7 +258,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isWritable",
+        JdbcMethod.RESULT_SET_META_DATA_IS_WRITABLE,
         () -> this.resultSetMetaData.isWritable(column),
         column);
   }
@@ -269,7 +270,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isDefinitelyWritable",
+        JdbcMethod.RESULT_SET_META_DATA_IS_DEFINITELY_WRITABLE,
         () -> this.resultSetMetaData.isDefinitelyWritable(column),
         column);
   }
@@ -281,7 +282,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnClassName",
+        JdbcMethod.RESULT_SET_META_DATA_GET_COLUMN_CLASS_NAME,
         () -> this.resultSetMetaData.getColumnClassName(column),
         column);
   }
@@ -0,0 +1,612 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.wrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.util.Messages;
+
+/**
+ * Holds a block of rows read ahead from a forward only target result set. The rows of a block are read in a single
+ * call, see {@link #fetchBlock(ResultSet)}, and stored column by column. For every value, both
+ * {@link ResultSet#getObject(int)} and {@link ResultSet#getString(int)} of the target driver are stored, so that
+ * getters return what the target driver returns. Only result sets whose columns all have types that can be served
+ * this way are prefetched, see {@link #canPrefetch(ResultSetMetaData)}.
+ *
+ * <p>The buffer is used by a single {@link ResultSetWrapper} and isn't thread-safe.
+ */
+public class ResultSetRowBuffer {
+
+  // Column types whose values are fully described by the driver's object and string representations. Temporal
+  // types aren't included, since their conversions depend on the driver and on the session time zone.
+  private static final Set<Integer> prefetchedColumnTypes = new HashSet<>(Arrays.asList(
+      Types.BOOLEAN,
+      Types.TINYINT,
+      Types.SMALLINT,
+      Types.INTEGER,
+      Types.BIGINT,
+      Types.REAL,
+      Types.FLOAT,
+      Types.DOUBLE,
+      Types.DECIMAL,
+      Types.NUMERIC,
+      Types.CHAR,
+      Types.VARCHAR,
+      Types.NCHAR,
+      Types.NVARCHAR,
+      Types.BINARY,
+      Types.VARBINARY));
+
+  private static final LocalDate EPOCH_DATE = LocalDate.of(1970, 1, 1);
+
+  protected final int blockSize;
+  protected final int columnCount;
+  protected final Map<String, Integer> columnIndexByLabel = new HashMap<>();
+
+  // Values are indexed by [column - 1][row in block].
+  protected Object[][] objects;
+  protected String[][] strings;
+  protected int rowsInBlock;
+
+  // Position of the current row in the block, -1 if the cursor is before the first row of the block.
+  protected int position = -1;
+  protected int rowsBeforeBlock;
+  protected boolean isTargetExhausted;
+  protected boolean wasNull;
+
+  /**
+   * Creates a buffer for a result set that can be prefetched, see {@link #canPrefetch(ResultSetMetaData)}.
+   *
+   * @param blockSize the number of rows read in a single call
+   * @param metaData the metadata of the result set
+   * @throws SQLException if the metadata can't be read
+   */
+  public ResultSetRowBuffer(final int blockSize, final ResultSetMetaData metaData) throws SQLException {
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("blockSize");
+    }
+    this.blockSize = blockSize;
+    this.columnCount = metaData.getColumnCount();
+    this.objects = new Object[this.columnCount][blockSize];
+    this.strings = new String[this.columnCount][blockSize];
+    for (int column = this.columnCount; column >= 1; column--) {
+      // Labels are matched case-insensitively and the first matching column wins.
+      this.columnIndexByLabel.put(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT), column);
+    }
+  }
+
+  /**
+   * Reads the next block of rows from the target result set and moves the cursor to the first row of the
+   * block. Rows of the previous block are discarded.
+   *
+   * @param resultSet the target result set
+   * @return true if the block contains at least one row
+   * @throws SQLException if the target result set fails
+   */
+  public boolean fetchBlock(final ResultSet resultSet) throws SQLException {
+    this.rowsBeforeBlock += this.rowsInBlock;
+    this.rowsInBlock = 0;
+    this.position = -1;
+
+    // If the target result set fails, the rows read so far are discarded and there is no current row.
+    int rows = 0;
+    while (rows < this.blockSize && resultSet.next()) {
+      for (int column = 0; column < this.columnCount; column++) {
+        this.objects[column][rows] = resultSet.getObject(column + 1);
+        this.strings[column][rows] = resultSet.getString(column + 1);
+      }
+      rows++;
+    }
+
+    this.isTargetExhausted = rows < this.blockSize;
+    this.rowsInBlock = rows;
+    if (rows == 0) {
+      return false;
+    }
+    this.position = 0;
+    return true;
+  }
+
+  /**
+   * Checks if the rows of a result set can be prefetched. That's the case when every column has a numeric,
+   * boolean, character or binary type. Other result sets, for example with temporal, large object or vendor
+   * specific columns, are read from the target result set row by row, so that their getters are served by the
+   * target driver.
+   *
+   * @param metaData the metadata of the result set
+   * @return true if every column of the result set can be served from prefetched rows
+   * @throws SQLException if the metadata can't be read
+   */
+  public static boolean canPrefetch(final ResultSetMetaData metaData) throws SQLException {
+    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+      final int type = metaData.getColumnType(column);
+      // Drivers report single bits and booleans, like PostgreSQL bool, as BIT.
+      final boolean isBooleanBit = type == Types.BIT
+          && Boolean.class.getName().equals(metaData.getColumnClassName(column));
+      if (!isBooleanBit && !prefetchedColumnTypes.contains(type)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Moves the cursor to the next row of the current block.
+   *
+   * @return false if the current block has no more rows
+   */
+  public boolean next() {
+    if (this.position + 1 >= this.rowsInBlock) {
+      return false;
+    }
+    this.position++;
+    return true;
+  }
+
+  /**
+   * Moves the cursor after the last row once the target result set has been read to the end.
+   */
+  public void afterLast() {
+    this.rowsBeforeBlock += this.rowsInBlock;
+    this.rowsInBlock = 0;
+    this.position = -1;
+  }
+
+  /**
+   * Returns true if the target result set has no more rows to fetch.
+   *
+   * @return true if the target result set has been read to the end
+   */
+  public boolean isTargetExhausted() {
+    return this.isTargetExhausted;
+  }
+
+  public void clear() {
+    this.objects = null;
+    this.strings = null;
+    this.columnIndexByLabel.clear();
+    this.rowsInBlock = 0;
+    this.position = -1;
+    this.isTargetExhausted = true;
+  }
+
+  public int findColumn(final String columnLabel) throws SQLException {
+    final Integer column = columnLabel == null
+        ? null
+        : this.columnIndexByLabel.get(columnLabel.toLowerCase(Locale.ROOT));
+    if (column == null) {
+      throw new SQLException(
+          Messages.get("ResultSetRowBuffer.invalidColumnLabel", new Object[] {columnLabel}), "42703");
+    }
+    return column;
+  }
+
+  public boolean wasNull() {
+    return this.wasNull;
+  }
+
+  public int getRow() {
+    return this.position < 0 ? 0 : this.rowsBeforeBlock + this.position + 1;
+  }
+
+  public boolean isBeforeFirst() {
+    return this.rowsBeforeBlock == 0 && this.position < 0 && !this.isTargetExhausted;
+  }
+
+  public boolean isFirst() {
+    return this.rowsBeforeBlock == 0 && this.position == 0;
+  }
+
+  public boolean isAfterLast() {
+    return this.isTargetExhausted && this.position < 0 && this.rowsBeforeBlock > 0;
+  }
+
+  /**
+   * Returns true if the cursor is on the last row of the current block. The target result set is then positioned
+   * on the same row, unless it has been read to the end.
+   *
+   * @return true if the current row is the last row of the block
+   */
+  public boolean isLastOfBlock() {
+    return this.position >= 0 && this.position == this.rowsInBlock - 1;
+  }
+
+  protected void checkColumn(final int columnIndex) throws SQLException {
+    if (this.position < 0) {
+      throw new SQLException(Messages.get("ResultSetRowBuffer.noCurrentRow"), "24000");
+    }
+    if (columnIndex < 1 || columnIndex > this.columnCount) {
+      throw new SQLException(
+          Messages.get("ResultSetRowBuffer.invalidColumnIndex", new Object[] {columnIndex, this.columnCount}),
+          "22023");
+    }
+  }
+
+  public @Nullable Object getObject(final int columnIndex) throws SQLException {
+    this.checkColumn(columnIndex);
+    final Object value = this.objects[columnIndex - 1][this.position];
+    this.wasNull = value == null;
+    return value;
+  }
+
+  public @Nullable Object getObject(final int columnIndex, final @Nullable Map<String, Class<?>> map)
+      throws SQLException {
+    // Prefetched columns have no user defined types, so the type map doesn't apply.
+    return this.getObject(columnIndex);
+  }
+
+  public <T> @Nullable T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null || type.isInstance(value)) {
+      return type.cast(value);
+    }
+    if (type == String.class) {
+      return type.cast(this.getString(columnIndex));
+    }
+    if (type == BigDecimal.class) {
+      return type.cast(this.getBigDecimal(columnIndex));
+    }
+    if (type == Boolean.class) {
+      return type.cast(this.getBoolean(columnIndex));
+    }
+    if (type == Integer.class) {
+      return type.cast(this.getInt(columnIndex));
+    }
+    if (type == Long.class) {
+      return type.cast(this.getLong(columnIndex));
+    }
+    if (type == Short.class) {
+      return type.cast(this.getShort(columnIndex));
+    }
+    if (type == Byte.class) {
+      return type.cast(this.getByte(columnIndex));
+    }
+    if (type == Double.class) {
+      return type.cast(this.getDouble(columnIndex));
+    }
+    if (type == Float.class) {
+      return type.cast(this.getFloat(columnIndex));
+    }
+    if (type == byte[].class) {
+      return type.cast(this.getBytes(columnIndex));
+    }
+    if (type == Date.class) {
+      return type.cast(this.getDate(columnIndex, null));
+    }
+    if (type == Time.class) {
+      return type.cast(this.getTime(columnIndex, null));
+    }
+    if (type == Timestamp.class) {
+      return type.cast(this.getTimestamp(columnIndex, null));
+    }
+    if (type == LocalDate.class) {
+      return type.cast(this.parseTemporal(columnIndex, type).toLocalDate());
+    }
+    if (type == LocalTime.class) {
+      return type.cast(this.parseTemporal(columnIndex, type).toLocalTime());
+    }
+    if (type == LocalDateTime.class) {
+      return type.cast(this.parseTemporal(columnIndex, type));
+    }
+    if (type == URL.class) {
+      return type.cast(this.getURL(columnIndex));
+    }
+    throw this.unsupportedConversion(columnIndex, value, type);
+  }
+
+  public @Nullable String getString(final int columnIndex) throws SQLException {
+    this.checkColumn(columnIndex);
+    final String value = this.strings[columnIndex - 1][this.position];
+    this.wasNull = value == null;
+    return value;
+  }
+
+  public boolean getBoolean(final int columnIndex) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null) {
+      return false;
+    }
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue() != 0;
+    }
+    if (value instanceof String) {
+      switch (((String) value).trim().toLowerCase(Locale.ROOT)) {
+        case "1":
+        case "t":
+        case "true":
+        case "y":
+        case "yes":
+        case "on":
+          return true;
+        case "0":
+        case "f":
+        case "false":
+        case "n":
+        case "no":
+        case "off":
+          return false;
+        default:
+          break;
+      }
+    }
+    throw this.unsupportedConversion(columnIndex, value, boolean.class);
+  }
+
+  public byte getByte(final int columnIndex) throws SQLException {
+    return (byte) this.getIntegralValue(columnIndex, Byte.MIN_VALUE, Byte.MAX_VALUE, byte.class);
+  }
+
+  public short getShort(final int columnIndex) throws SQLException {
+    return (short) this.getIntegralValue(columnIndex, Short.MIN_VALUE, Short.MAX_VALUE, short.class);
+  }
+
+  public int getInt(final int columnIndex) throws SQLException {
+    return (int) this.getIntegralValue(columnIndex, Integer.MIN_VALUE, Integer.MAX_VALUE, int.class);
+  }
+
+  public long getLong(final int columnIndex) throws SQLException {
+    return this.getIntegralValue(columnIndex, Long.MIN_VALUE, Long.MAX_VALUE, long.class);
+  }
+
+  protected long getIntegralValue(
+      final int columnIndex, final long minValue, final long maxValue, final Class<?> type) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null) {
+      return 0;
+    }
+
+    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return this.checkIntegralRange(columnIndex, value, ((Number) value).longValue(), minValue, maxValue, type);
+    }
+    if (value instanceof Boolean) {
+      return (Boolean) value ? 1 : 0;
+    }
+
+    // Fractional values are truncated, like drivers do, and values out of range are rejected.
+    final BigDecimal decimal;
+    if (value instanceof BigDecimal) {
+      decimal = (BigDecimal) value;
+    } else if (value instanceof BigInteger) {
+      decimal = new BigDecimal((BigInteger) value);
+    } else if (value instanceof Number || value instanceof String) {
+      try {
+        decimal = new BigDecimal(value.toString().trim());
+      } catch (final NumberFormatException e) {
+        throw this.unsupportedConversion(columnIndex, value, type);
+      }
+    } else {
+      throw this.unsupportedConversion(columnIndex, value, type);
+    }
+    if (decimal.compareTo(BigDecimal.valueOf(minValue)) < 0 || decimal.compareTo(BigDecimal.valueOf(maxValue)) > 0) {
+      throw this.valueOutOfRange(columnIndex, value, type);
+    }
+    return decimal.longValue();
+  }
+
+  protected long checkIntegralRange(
+      final int columnIndex,
+      final Object value,
+      final long result,
+      final long minValue,
+      final long maxValue,
+      final Class<?> type) throws SQLException {
+    if (result < minValue || result > maxValue) {
+      throw this.valueOutOfRange(columnIndex, value, type);
+    }
+    return result;
+  }
+
+  public float getFloat(final int columnIndex) throws SQLException {
+    return (float) this.getDouble(columnIndex);
+  }
+
+  public double getDouble(final int columnIndex) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    if (value instanceof Boolean) {
+      return (Boolean) value ? 1 : 0;
+    }
+    if (value instanceof String) {
+      try {
+        return Double.parseDouble(((String) value).trim());
+      } catch (final NumberFormatException e) {
+        throw this.unsupportedConversion(columnIndex, value, double.class);
+      }
+    }
+    throw this.unsupportedConversion(columnIndex, value, double.class);
+  }
+
+  public @Nullable BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null || value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    }
+    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+    if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    }
+    try {
+      if (value instanceof Number || value instanceof String) {
+        return new BigDecimal(value.toString().trim());
+      }
+    } catch (final NumberFormatException e) {
+      // The value can't be converted, fall through.
+    }
+    throw this.unsupportedConversion(columnIndex, value, BigDecimal.class);
+  }
+
+  public @Nullable BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+    final BigDecimal value = this.getBigDecimal(columnIndex);
+    return value == null ? null : value.setScale(scale, RoundingMode.HALF_UP);
+  }
+
+  public byte @Nullable [] getBytes(final int columnIndex) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null || value instanceof byte[]) {
+      return (byte[]) value;
+    }
+    // Drivers return the bytes of the text representation of other values.
+    return this.getString(columnIndex).getBytes(StandardCharsets.UTF_8);
+  }
+
+  public @Nullable InputStream getBinaryStream(final int columnIndex) throws SQLException {
+    final byte[] value = this.getBytes(columnIndex);
+    return value == null ? null : new ByteArrayInputStream(value);
+  }
+
+  public @Nullable InputStream getAsciiStream(final int columnIndex) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof byte[]) {
+      return new ByteArrayInputStream((byte[]) value);
+    }
+    return new ByteArrayInputStream(this.getString(columnIndex).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  public @Nullable InputStream getUnicodeStream(final int columnIndex) throws SQLException {
+    return this.getBinaryStream(columnIndex);
+  }
+
+  public @Nullable Reader getCharacterStream(final int columnIndex) throws SQLException {
+    final String value = this.getString(columnIndex);
+    return value == null ? null : new StringReader(value);
+  }
+
+  public @Nullable Date getDate(final int columnIndex, final @Nullable Calendar calendar) throws SQLException {
+    final LocalDateTime value = this.parseTemporal(columnIndex, Date.class);
+    return value == null
+        ? null
+        : new Date(value.toLocalDate().atStartOfDay(getZoneId(calendar)).toInstant().toEpochMilli());
+  }
+
+  public @Nullable Time getTime(final int columnIndex, final @Nullable Calendar calendar) throws SQLException {
+    final LocalDateTime value = this.parseTemporal(columnIndex, Time.class);
+    return value == null
+        ? null
+        : new Time(value.toLocalTime().atDate(EPOCH_DATE).atZone(getZoneId(calendar)).toInstant().toEpochMilli());
+  }
+
+  public @Nullable Timestamp getTimestamp(final int columnIndex, final @Nullable Calendar calendar)
+      throws SQLException {
+    final LocalDateTime value = this.parseTemporal(columnIndex, Timestamp.class);
+    return value == null ? null : Timestamp.from(value.atZone(getZoneId(calendar)).toInstant());
+  }
+
+  public @Nullable URL getURL(final int columnIndex) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return new URL(this.getString(columnIndex));
+    } catch (final MalformedURLException e) {
+      throw this.unsupportedConversion(columnIndex, value, URL.class);
+    }
+  }
+
+  /**
+   * Parses a date, a time or a timestamp stored in a character column, in the formats of
+   * {@link Date#valueOf(String)}, {@link Time#valueOf(String)} and {@link Timestamp#valueOf(String)}.
+   *
+   * @param columnIndex the column index
+   * @param type the requested type, used in the error message
+   * @return the parsed value, null if the value is SQL NULL
+   * @throws SQLException if the value isn't a string or can't be parsed
+   */
+  protected @Nullable LocalDateTime parseTemporal(final int columnIndex, final Class<?> type) throws SQLException {
+    final Object value = this.getObject(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (!(value instanceof String)) {
+      throw this.unsupportedConversion(columnIndex, value, type);
+    }
+    final String text = ((String) value).trim();
+    try {
+      if (text.indexOf(':') < 0) {
+        return LocalDate.parse(text).atStartOfDay();
+      }
+      if (text.indexOf('-') < 0) {
+        return LocalTime.parse(text).atDate(EPOCH_DATE);
+      }
+      return Timestamp.valueOf(text).toLocalDateTime();
+    } catch (final DateTimeParseException | IllegalArgumentException e) {
+      throw this.unsupportedConversion(columnIndex, value, type);
+    }
+  }
+
+  protected static ZoneId getZoneId(final @Nullable Calendar calendar) {
+    return calendar == null ? ZoneId.systemDefault() : calendar.getTimeZone().toZoneId();
+  }
+
+  protected SQLException valueOutOfRange(final int columnIndex, final Object value, final Class<?> type) {
+    return new SQLException(
+        Messages.get(
+            "ResultSetRowBuffer.valueOutOfRange",
+            new Object[] {columnIndex, String.valueOf(value), type.getName()}),
+        "22003");
+  }
+
+  protected SQLException unsupportedConversion(final int columnIndex, final Object value, final Class<?> type) {
+    return new SQLException(
+        Messages.get(
+            "ResultSetRowBuffer.unsupportedConversion",
+            new Object[] {columnIndex, value.getClass().getName(), type.getName()}),
+        "22018");
+  }
+}
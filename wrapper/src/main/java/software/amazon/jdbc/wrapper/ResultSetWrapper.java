@@ -23,6 +23,7 @@ import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.Date;
 import java.sql.NClob;
 import java.sql.Ref;
@@ -39,13 +40,19 @@ import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class ResultSetWrapper implements ResultSet {
 
   protected ResultSet resultSet;
   protected ConnectionPluginManager pluginManager;
+  protected @Nullable Connection boundConnection;
+  protected boolean isBoundConnectionResolved;
+  protected @Nullable ResultSetRowBuffer rowBuffer;
+  protected boolean isRowBufferResolved;
 
   public ResultSetWrapper(
       @NonNull ResultSet resultSet, @NonNull ConnectionPluginManager pluginManager) {
@@ -53,6 +60,26 @@ public class ResultSetWrapper implements ResultSet {
     this.pluginManager = pluginManager;
   }
 
+  /**
+   * Checks if a value getter can be invoked directly on the target result set. That's the case when no
+   * plugin needs to intercept the method. The connection of the target result set is resolved once and reused
+   * by subsequent calls since it can't change over the lifetime of the result set.
+   *
+   * @param jdbcMethod the JDBC method, eg {@link JdbcMethod#RESULT_SET_GET_INT}
+   * @return true if the plugin pipeline can be skipped
+   */
+  protected boolean isPipelineBypassAllowed(final JdbcMethod jdbcMethod) {
+    if (!this.pluginManager.isPipelineBypassAllowed(jdbcMethod)) {
+      return false;
+    }
+    if (!this.isBoundConnectionResolved) {
+      this.boundConnection = WrapperUtils.getConnectionFromSqlObject(this.resultSet);
+      this.isBoundConnectionResolved = true;
+    }
+    // Calls against a result set of an old connection go through the pipeline, so they get rejected there.
+    return this.boundConnection == null || this.pluginManager.isCurrentConnection(this.boundConnection);
+  }
+
   @Override
   public boolean absolute(int row) throws SQLException {
     return WrapperUtils.executeWithPlugins(
@@ -60,7 +87,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.absolute",
+        JdbcMethod.RESULT_SET_ABSOLUTE,
         () -> this.resultSet.absolute(row),
         row);
   }
@@ -71,7 +98,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.afterLast",
+        JdbcMethod.RESULT_SET_AFTER_LAST,
         () -> this.resultSet.afterLast());
   }
 
@@ -81,7 +108,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.beforeFirst",
+        JdbcMethod.RESULT_SET_BEFORE_FIRST,
         () -> this.resultSet.beforeFirst());
   }
 
@@ -91,7 +118,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.cancelRowUpdates",
+        JdbcMethod.RESULT_SET_CANCEL_ROW_UPDATES,
         () -> this.resultSet.cancelRowUpdates());
   }
 
@@ -101,7 +128,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.clearWarnings",
+        JdbcMethod.RESULT_SET_CLEAR_WARNINGS,
         () -> this.resultSet.clearWarnings());
   }
 
@@ -111,8 +138,11 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.close",
+        JdbcMethod.RESULT_SET_CLOSE,
         () -> this.resultSet.close());
+    if (this.rowBuffer != null) {
+      this.rowBuffer.clear();
+    }
   }
 
   @Override
@@ -121,7 +151,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.deleteRow",
+        JdbcMethod.RESULT_SET_DELETE_ROW,
         () -> this.resultSet.deleteRow());
   }
 
@@ -132,7 +162,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.findColumn",
+        JdbcMethod.RESULT_SET_FIND_COLUMN,
         () -> this.resultSet.findColumn(columnLabel),
         columnLabel);
   }
@@ -144,54 +174,67 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.first",
+        JdbcMethod.RESULT_SET_FIRST,
         () -> this.resultSet.first());
   }
 
   @Override
   public Array getArray(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(Array.class, this.rowBuffer.getObject(columnIndex, Array.class));
+    }
     return WrapperUtils.executeWithPlugins(
         Array.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getArray",
+        JdbcMethod.RESULT_SET_GET_ARRAY,
         () -> this.resultSet.getArray(columnIndex),
         columnIndex);
   }
 
   @Override
   public Array getArray(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(
+          Array.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), Array.class));
+    }
     return WrapperUtils.executeWithPlugins(
         Array.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getArray",
+        JdbcMethod.RESULT_SET_GET_ARRAY,
         () -> this.resultSet.getArray(columnLabel),
         columnLabel);
   }
 
   @Override
   public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getAsciiStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getAsciiStream",
+        JdbcMethod.RESULT_SET_GET_ASCII_STREAM,
         () -> this.resultSet.getAsciiStream(columnIndex),
         columnIndex);
   }
 
   @Override
   public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getAsciiStream(this.rowBuffer.findColumn(columnLabel));
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getAsciiStream",
+        JdbcMethod.RESULT_SET_GET_ASCII_STREAM,
         () -> this.resultSet.getAsciiStream(columnLabel),
         columnLabel);
   }
@@ -199,12 +242,18 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBigDecimal(columnIndex, scale);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BIG_DECIMAL)) {
+      return this.resultSet.getBigDecimal(columnIndex, scale);
+    }
     return WrapperUtils.executeWithPlugins(
         BigDecimal.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBigDecimal",
+        JdbcMethod.RESULT_SET_GET_BIG_DECIMAL,
         () -> this.resultSet.getBigDecimal(columnIndex, scale),
         columnIndex,
         scale);
@@ -213,12 +262,18 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBigDecimal(this.rowBuffer.findColumn(columnLabel), scale);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BIG_DECIMAL)) {
+      return this.resultSet.getBigDecimal(columnLabel, scale);
+    }
     return WrapperUtils.executeWithPlugins(
         BigDecimal.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBigDecimal",
+        JdbcMethod.RESULT_SET_GET_BIG_DECIMAL,
         () -> this.resultSet.getBigDecimal(columnLabel, scale),
         columnLabel,
         scale);
@@ -226,192 +281,264 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBigDecimal(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BIG_DECIMAL)) {
+      return this.resultSet.getBigDecimal(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         BigDecimal.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBigDecimal",
+        JdbcMethod.RESULT_SET_GET_BIG_DECIMAL,
         () -> this.resultSet.getBigDecimal(columnIndex),
         columnIndex);
   }
 
   @Override
   public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBigDecimal(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BIG_DECIMAL)) {
+      return this.resultSet.getBigDecimal(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         BigDecimal.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBigDecimal",
+        JdbcMethod.RESULT_SET_GET_BIG_DECIMAL,
         () -> this.resultSet.getBigDecimal(columnLabel),
         columnLabel);
   }
 
   @Override
   public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBinaryStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBinaryStream",
+        JdbcMethod.RESULT_SET_GET_BINARY_STREAM,
         () -> this.resultSet.getBinaryStream(columnIndex),
         columnIndex);
   }
 
   @Override
   public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBinaryStream(this.rowBuffer.findColumn(columnLabel));
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBinaryStream",
+        JdbcMethod.RESULT_SET_GET_BINARY_STREAM,
         () -> this.resultSet.getBinaryStream(columnLabel),
         columnLabel);
   }
 
   @Override
   public Blob getBlob(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(Blob.class, this.rowBuffer.getObject(columnIndex, Blob.class));
+    }
     return WrapperUtils.executeWithPlugins(
         Blob.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBlob",
+        JdbcMethod.RESULT_SET_GET_BLOB,
         () -> this.resultSet.getBlob(columnIndex),
         columnIndex);
   }
 
   @Override
   public Blob getBlob(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(
+          Blob.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), Blob.class));
+    }
     return WrapperUtils.executeWithPlugins(
         Blob.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBlob",
+        JdbcMethod.RESULT_SET_GET_BLOB,
         () -> this.resultSet.getBlob(columnLabel),
         columnLabel);
   }
 
   @Override
   public boolean getBoolean(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        boolean.class,
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBoolean(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BOOLEAN)) {
+      return this.resultSet.getBoolean(columnIndex);
+    }
+    return WrapperUtils.executeBooleanWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBoolean",
+        JdbcMethod.RESULT_SET_GET_BOOLEAN,
         () -> this.resultSet.getBoolean(columnIndex),
         columnIndex);
   }
 
   @Override
   public boolean getBoolean(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        boolean.class,
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBoolean(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BOOLEAN)) {
+      return this.resultSet.getBoolean(columnLabel);
+    }
+    return WrapperUtils.executeBooleanWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBoolean",
+        JdbcMethod.RESULT_SET_GET_BOOLEAN,
         () -> this.resultSet.getBoolean(columnLabel),
         columnLabel);
   }
 
   @Override
   public byte getByte(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getByte(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BYTE)) {
+      return this.resultSet.getByte(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         byte.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getByte",
+        JdbcMethod.RESULT_SET_GET_BYTE,
         () -> this.resultSet.getByte(columnIndex),
         columnIndex);
   }
 
   @Override
   public byte getByte(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getByte(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BYTE)) {
+      return this.resultSet.getByte(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         byte.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getByte",
+        JdbcMethod.RESULT_SET_GET_BYTE,
         () -> this.resultSet.getByte(columnLabel),
         columnLabel);
   }
 
   @Override
   public byte[] getBytes(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBytes(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BYTES)) {
+      return this.resultSet.getBytes(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         byte[].class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBytes",
+        JdbcMethod.RESULT_SET_GET_BYTES,
         () -> this.resultSet.getBytes(columnIndex),
         columnIndex);
   }
 
   @Override
   public byte[] getBytes(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getBytes(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_BYTES)) {
+      return this.resultSet.getBytes(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         byte[].class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBytes",
+        JdbcMethod.RESULT_SET_GET_BYTES,
         () -> this.resultSet.getBytes(columnLabel),
         columnLabel);
   }
 
   @Override
   public Reader getCharacterStream(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getCharacterStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Reader.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCharacterStream",
+        JdbcMethod.RESULT_SET_GET_CHARACTER_STREAM,
         () -> this.resultSet.getCharacterStream(columnIndex),
         columnIndex);
   }
 
   @Override
   public Reader getCharacterStream(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getCharacterStream(this.rowBuffer.findColumn(columnLabel));
+    }
     return WrapperUtils.executeWithPlugins(
         Reader.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCharacterStream",
+        JdbcMethod.RESULT_SET_GET_CHARACTER_STREAM,
         () -> this.resultSet.getCharacterStream(columnLabel),
         columnLabel);
   }
 
   @Override
   public Clob getClob(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(Clob.class, this.rowBuffer.getObject(columnIndex, Clob.class));
+    }
     return WrapperUtils.executeWithPlugins(
         Clob.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getClob",
+        JdbcMethod.RESULT_SET_GET_CLOB,
         () -> this.resultSet.getClob(columnIndex),
         columnIndex);
   }
 
   @Override
   public Clob getClob(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(
+          Clob.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), Clob.class));
+    }
     return WrapperUtils.executeWithPlugins(
         Clob.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getClob",
+        JdbcMethod.RESULT_SET_GET_CLOB,
         () -> this.resultSet.getClob(columnLabel),
         columnLabel);
   }
@@ -424,7 +551,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getConcurrency",
+        JdbcMethod.RESULT_SET_GET_CONCURRENCY,
         () -> this.resultSet.getConcurrency());
   }
 
@@ -435,42 +562,60 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCursorName",
+        JdbcMethod.RESULT_SET_GET_CURSOR_NAME,
         () -> this.resultSet.getCursorName());
   }
 
   @Override
   public Date getDate(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getDate(columnIndex, null);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_DATE)) {
+      return this.resultSet.getDate(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Date.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDate",
+        JdbcMethod.RESULT_SET_GET_DATE,
         () -> this.resultSet.getDate(columnIndex),
         columnIndex);
   }
 
   @Override
   public Date getDate(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getDate(this.rowBuffer.findColumn(columnLabel), null);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_DATE)) {
+      return this.resultSet.getDate(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         Date.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDate",
+        JdbcMethod.RESULT_SET_GET_DATE,
         () -> this.resultSet.getDate(columnLabel),
         columnLabel);
   }
 
   @Override
   public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getDate(columnIndex, cal);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_DATE)) {
+      return this.resultSet.getDate(columnIndex, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Date.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDate",
+        JdbcMethod.RESULT_SET_GET_DATE,
         () -> this.resultSet.getDate(columnIndex, cal),
         columnIndex,
         cal);
@@ -478,12 +623,18 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getDate(this.rowBuffer.findColumn(columnLabel), cal);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_DATE)) {
+      return this.resultSet.getDate(columnLabel, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Date.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDate",
+        JdbcMethod.RESULT_SET_GET_DATE,
         () -> this.resultSet.getDate(columnLabel, cal),
         columnLabel,
         cal);
@@ -491,24 +642,34 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public double getDouble(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        double.class,
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getDouble(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_DOUBLE)) {
+      return this.resultSet.getDouble(columnIndex);
+    }
+    return WrapperUtils.executeDoubleWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDouble",
+        JdbcMethod.RESULT_SET_GET_DOUBLE,
         () -> this.resultSet.getDouble(columnIndex),
         columnIndex);
   }
 
   @Override
   public double getDouble(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        double.class,
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getDouble(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_DOUBLE)) {
+      return this.resultSet.getDouble(columnLabel);
+    }
+    return WrapperUtils.executeDoubleWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDouble",
+        JdbcMethod.RESULT_SET_GET_DOUBLE,
         () -> this.resultSet.getDouble(columnLabel),
         columnLabel);
   }
@@ -521,7 +682,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFetchDirection",
+        JdbcMethod.RESULT_SET_GET_FETCH_DIRECTION,
         () -> this.resultSet.getFetchDirection());
   }
 
@@ -532,30 +693,42 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFetchSize",
+        JdbcMethod.RESULT_SET_GET_FETCH_SIZE,
         () -> this.resultSet.getFetchSize());
   }
 
   @Override
   public float getFloat(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getFloat(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_FLOAT)) {
+      return this.resultSet.getFloat(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         float.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFloat",
+        JdbcMethod.RESULT_SET_GET_FLOAT,
         () -> this.resultSet.getFloat(columnIndex),
         columnIndex);
   }
 
   @Override
   public float getFloat(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getFloat(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_FLOAT)) {
+      return this.resultSet.getFloat(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         float.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFloat",
+        JdbcMethod.RESULT_SET_GET_FLOAT,
         () -> this.resultSet.getFloat(columnLabel),
         columnLabel);
   }
@@ -568,54 +741,74 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getHoldability",
+        JdbcMethod.RESULT_SET_GET_HOLDABILITY,
         () -> this.resultSet.getHoldability());
   }
 
   @Override
   public int getInt(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int.class,
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getInt(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_INT)) {
+      return this.resultSet.getInt(columnIndex);
+    }
+    return WrapperUtils.executeIntWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getInt",
+        JdbcMethod.RESULT_SET_GET_INT,
         () -> this.resultSet.getInt(columnIndex),
         columnIndex);
   }
 
   @Override
   public int getInt(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int.class,
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getInt(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_INT)) {
+      return this.resultSet.getInt(columnLabel);
+    }
+    return WrapperUtils.executeIntWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getInt",
+        JdbcMethod.RESULT_SET_GET_INT,
         () -> this.resultSet.getInt(columnLabel),
         columnLabel);
   }
 
   @Override
   public long getLong(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        long.class,
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getLong(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_LONG)) {
+      return this.resultSet.getLong(columnIndex);
+    }
+    return WrapperUtils.executeLongWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getLong",
+        JdbcMethod.RESULT_SET_GET_LONG,
         () -> this.resultSet.getLong(columnIndex),
         columnIndex);
   }
 
   @Override
   public long getLong(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        long.class,
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getLong(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_LONG)) {
+      return this.resultSet.getLong(columnLabel);
+    }
+    return WrapperUtils.executeLongWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getLong",
+        JdbcMethod.RESULT_SET_GET_LONG,
         () -> this.resultSet.getLong(columnLabel),
         columnLabel);
   }
@@ -627,114 +820,148 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getMetaData",
+        JdbcMethod.RESULT_SET_GET_META_DATA,
         () -> this.resultSet.getMetaData());
   }
 
   @Override
   public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getCharacterStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Reader.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNCharacterStream",
+        JdbcMethod.RESULT_SET_GET_N_CHARACTER_STREAM,
         () -> this.resultSet.getNCharacterStream(columnIndex),
         columnIndex);
   }
 
   @Override
   public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getCharacterStream(this.rowBuffer.findColumn(columnLabel));
+    }
     return WrapperUtils.executeWithPlugins(
         Reader.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNCharacterStream",
+        JdbcMethod.RESULT_SET_GET_N_CHARACTER_STREAM,
         () -> this.resultSet.getNCharacterStream(columnLabel),
         columnLabel);
   }
 
   @Override
   public NClob getNClob(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(NClob.class, this.rowBuffer.getObject(columnIndex, NClob.class));
+    }
     return WrapperUtils.executeWithPlugins(
         NClob.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNClob",
+        JdbcMethod.RESULT_SET_GET_N_CLOB,
         () -> this.resultSet.getNClob(columnIndex),
         columnIndex);
   }
 
   @Override
   public NClob getNClob(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(
+          NClob.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), NClob.class));
+    }
     return WrapperUtils.executeWithPlugins(
         NClob.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNClob",
+        JdbcMethod.RESULT_SET_GET_N_CLOB,
         () -> this.resultSet.getNClob(columnLabel),
         columnLabel);
   }
 
   @Override
   public String getNString(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getString(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_N_STRING)) {
+      return this.resultSet.getNString(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         String.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNString",
+        JdbcMethod.RESULT_SET_GET_N_STRING,
         () -> this.resultSet.getNString(columnIndex),
         columnIndex);
   }
 
   @Override
   public String getNString(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getString(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_N_STRING)) {
+      return this.resultSet.getNString(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         String.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNString",
+        JdbcMethod.RESULT_SET_GET_N_STRING,
         () -> this.resultSet.getNString(columnLabel),
         columnLabel);
   }
 
   @Override
   public Object getObject(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(Object.class, this.rowBuffer.getObject(columnIndex));
+    }
     return WrapperUtils.executeWithPlugins(
         Object.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        JdbcMethod.RESULT_SET_GET_OBJECT,
         () -> this.resultSet.getObject(columnIndex),
         columnIndex);
   }
 
   @Override
   public Object getObject(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(Object.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel)));
+    }
     return WrapperUtils.executeWithPlugins(
         Object.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        JdbcMethod.RESULT_SET_GET_OBJECT,
         () -> this.resultSet.getObject(columnLabel),
         columnLabel);
   }
 
   @Override
   public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(Object.class, this.rowBuffer.getObject(columnIndex, map));
+    }
     return WrapperUtils.executeWithPlugins(
         Object.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        JdbcMethod.RESULT_SET_GET_OBJECT,
         () -> this.resultSet.getObject(columnIndex, map),
         columnIndex,
         map);
@@ -742,12 +969,15 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(Object.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), map));
+    }
     return WrapperUtils.executeWithPlugins(
         Object.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        JdbcMethod.RESULT_SET_GET_OBJECT,
         () -> this.resultSet.getObject(columnLabel, map),
         columnLabel,
         map);
@@ -755,12 +985,15 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(type, this.rowBuffer.getObject(columnIndex, type));
+    }
     return WrapperUtils.executeWithPlugins(
         type,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        JdbcMethod.RESULT_SET_GET_OBJECT,
         () -> this.resultSet.getObject(columnIndex, type),
         columnIndex,
         type);
@@ -768,12 +1001,15 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(type, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), type));
+    }
     return WrapperUtils.executeWithPlugins(
         type,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        JdbcMethod.RESULT_SET_GET_OBJECT,
         () -> this.resultSet.getObject(columnLabel, type),
         columnLabel,
         type);
@@ -781,109 +1017,145 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Ref getRef(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(Ref.class, this.rowBuffer.getObject(columnIndex, Ref.class));
+    }
     return WrapperUtils.executeWithPlugins(
         Ref.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRef",
+        JdbcMethod.RESULT_SET_GET_REF,
         () -> this.resultSet.getRef(columnIndex),
         columnIndex);
   }
 
   @Override
   public Ref getRef(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(
+          Ref.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), Ref.class));
+    }
     return WrapperUtils.executeWithPlugins(
         Ref.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRef",
+        JdbcMethod.RESULT_SET_GET_REF,
         () -> this.resultSet.getRef(columnLabel),
         columnLabel);
   }
 
   @Override
   public int getRow() throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getRow();
+    }
     return WrapperUtils.executeWithPlugins(
         int.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRow",
+        JdbcMethod.RESULT_SET_GET_ROW,
         () -> this.resultSet.getRow());
   }
 
   @Override
   public RowId getRowId(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(RowId.class, this.rowBuffer.getObject(columnIndex, RowId.class));
+    }
     return WrapperUtils.executeWithPlugins(
         RowId.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRowId",
+        JdbcMethod.RESULT_SET_GET_ROW_ID,
         () -> this.resultSet.getRowId(columnIndex),
         columnIndex);
   }
 
   @Override
   public RowId getRowId(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(
+          RowId.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), RowId.class));
+    }
     return WrapperUtils.executeWithPlugins(
         RowId.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRowId",
+        JdbcMethod.RESULT_SET_GET_ROW_ID,
         () -> this.resultSet.getRowId(columnLabel),
         columnLabel);
   }
 
   @Override
   public SQLXML getSQLXML(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(SQLXML.class, this.rowBuffer.getObject(columnIndex, SQLXML.class));
+    }
     //noinspection SpellCheckingInspection
     return WrapperUtils.executeWithPlugins(
         SQLXML.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getSQLXML",
+        JdbcMethod.RESULT_SET_GET_SQLXML,
         () -> this.resultSet.getSQLXML(columnIndex),
         columnIndex);
   }
 
   @Override
   public SQLXML getSQLXML(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.wrapPrefetched(
+          SQLXML.class, this.rowBuffer.getObject(this.rowBuffer.findColumn(columnLabel), SQLXML.class));
+    }
     //noinspection SpellCheckingInspection
     return WrapperUtils.executeWithPlugins(
         SQLXML.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getSQLXML",
+        JdbcMethod.RESULT_SET_GET_SQLXML,
         () -> this.resultSet.getSQLXML(columnLabel),
         columnLabel);
   }
 
   @Override
   public short getShort(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getShort(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_SHORT)) {
+      return this.resultSet.getShort(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         short.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getShort",
+        JdbcMethod.RESULT_SET_GET_SHORT,
         () -> this.resultSet.getShort(columnIndex),
         columnIndex);
   }
 
   @Override
   public short getShort(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getShort(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_SHORT)) {
+      return this.resultSet.getShort(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         short.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getShort",
+        JdbcMethod.RESULT_SET_GET_SHORT,
         () -> this.resultSet.getShort(columnLabel),
         columnLabel);
   }
@@ -895,66 +1167,96 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getStatement",
+        JdbcMethod.RESULT_SET_GET_STATEMENT,
         () -> this.resultSet.getStatement());
   }
 
   @Override
   public String getString(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getString(columnIndex);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_STRING)) {
+      return this.resultSet.getString(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         String.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getString",
+        JdbcMethod.RESULT_SET_GET_STRING,
         () -> this.resultSet.getString(columnIndex),
         columnIndex);
   }
 
   @Override
   public String getString(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getString(this.rowBuffer.findColumn(columnLabel));
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_STRING)) {
+      return this.resultSet.getString(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         String.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getString",
+        JdbcMethod.RESULT_SET_GET_STRING,
         () -> this.resultSet.getString(columnLabel),
         columnLabel);
   }
 
   @Override
   public Time getTime(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getTime(columnIndex, null);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_TIME)) {
+      return this.resultSet.getTime(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Time.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTime",
+        JdbcMethod.RESULT_SET_GET_TIME,
         () -> this.resultSet.getTime(columnIndex),
         columnIndex);
   }
 
   @Override
   public Time getTime(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getTime(this.rowBuffer.findColumn(columnLabel), null);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_TIME)) {
+      return this.resultSet.getTime(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         Time.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTime",
+        JdbcMethod.RESULT_SET_GET_TIME,
         () -> this.resultSet.getTime(columnLabel),
         columnLabel);
   }
 
   @Override
   public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getTime(columnIndex, cal);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_TIME)) {
+      return this.resultSet.getTime(columnIndex, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Time.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTime",
+        JdbcMethod.RESULT_SET_GET_TIME,
         () -> this.resultSet.getTime(columnIndex, cal),
         columnIndex,
         cal);
@@ -962,12 +1264,18 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getTime(this.rowBuffer.findColumn(columnLabel), cal);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_TIME)) {
+      return this.resultSet.getTime(columnLabel, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Time.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTime",
+        JdbcMethod.RESULT_SET_GET_TIME,
         () -> this.resultSet.getTime(columnLabel, cal),
         columnLabel,
         cal);
@@ -975,36 +1283,54 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getTimestamp(columnIndex, null);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_TIMESTAMP)) {
+      return this.resultSet.getTimestamp(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Timestamp.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTimestamp",
+        JdbcMethod.RESULT_SET_GET_TIMESTAMP,
         () -> this.resultSet.getTimestamp(columnIndex),
         columnIndex);
   }
 
   @Override
   public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getTimestamp(this.rowBuffer.findColumn(columnLabel), null);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_TIMESTAMP)) {
+      return this.resultSet.getTimestamp(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         Timestamp.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTimestamp",
+        JdbcMethod.RESULT_SET_GET_TIMESTAMP,
         () -> this.resultSet.getTimestamp(columnLabel),
         columnLabel);
   }
 
   @Override
   public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getTimestamp(columnIndex, cal);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_TIMESTAMP)) {
+      return this.resultSet.getTimestamp(columnIndex, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Timestamp.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTimestamp",
+        JdbcMethod.RESULT_SET_GET_TIMESTAMP,
         () -> this.resultSet.getTimestamp(columnIndex, cal),
         columnIndex,
         cal);
@@ -1012,12 +1338,18 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getTimestamp(this.rowBuffer.findColumn(columnLabel), cal);
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_GET_TIMESTAMP)) {
+      return this.resultSet.getTimestamp(columnLabel, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Timestamp.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTimestamp",
+        JdbcMethod.RESULT_SET_GET_TIMESTAMP,
         () -> this.resultSet.getTimestamp(columnLabel, cal),
         columnLabel,
         cal);
@@ -1031,30 +1363,36 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getType",
+        JdbcMethod.RESULT_SET_GET_TYPE,
         () -> this.resultSet.getType());
   }
 
   @Override
   public URL getURL(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getURL(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         URL.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getURL",
+        JdbcMethod.RESULT_SET_GET_URL,
         () -> this.resultSet.getURL(columnIndex),
         columnIndex);
   }
 
   @Override
   public URL getURL(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getURL(this.rowBuffer.findColumn(columnLabel));
+    }
     return WrapperUtils.executeWithPlugins(
         URL.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getURL",
+        JdbcMethod.RESULT_SET_GET_URL,
         () -> this.resultSet.getURL(columnLabel),
         columnLabel);
   }
@@ -1062,12 +1400,15 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getUnicodeStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getUnicodeStream",
+        JdbcMethod.RESULT_SET_GET_UNICODE_STREAM,
         () -> this.resultSet.getUnicodeStream(columnIndex),
         columnIndex);
   }
@@ -1075,12 +1416,15 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.getUnicodeStream(this.rowBuffer.findColumn(columnLabel));
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getUnicodeStream",
+        JdbcMethod.RESULT_SET_GET_UNICODE_STREAM,
         () -> this.resultSet.getUnicodeStream(columnLabel),
         columnLabel);
   }
@@ -1092,7 +1436,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getWarnings",
+        JdbcMethod.RESULT_SET_GET_WARNINGS,
         () -> this.resultSet.getWarnings());
   }
 
@@ -1102,29 +1446,35 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.insertRow",
+        JdbcMethod.RESULT_SET_INSERT_ROW,
         () -> this.resultSet.insertRow());
   }
 
   @Override
   public boolean isAfterLast() throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.isAfterLast();
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isAfterLast",
+        JdbcMethod.RESULT_SET_IS_AFTER_LAST,
         () -> this.resultSet.isAfterLast());
   }
 
   @Override
   public boolean isBeforeFirst() throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.isBeforeFirst();
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isBeforeFirst",
+        JdbcMethod.RESULT_SET_IS_BEFORE_FIRST,
         () -> this.resultSet.isBeforeFirst());
   }
 
@@ -1135,29 +1485,41 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isClosed",
+        JdbcMethod.RESULT_SET_IS_CLOSED,
         () -> this.resultSet.isClosed());
   }
 
   @Override
   public boolean isFirst() throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.isFirst();
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isFirst",
+        JdbcMethod.RESULT_SET_IS_FIRST,
         () -> this.resultSet.isFirst());
   }
 
   @Override
   public boolean isLast() throws SQLException {
+    if (this.rowBuffer != null) {
+      if (!this.rowBuffer.isLastOfBlock()) {
+        return false;
+      }
+      if (this.rowBuffer.isTargetExhausted()) {
+        return true;
+      }
+      // The target result set is on the last row of the block, so it knows whether more rows follow.
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isLast",
+        JdbcMethod.RESULT_SET_IS_LAST,
         () -> this.resultSet.isLast());
   }
 
@@ -1173,7 +1535,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.last",
+        JdbcMethod.RESULT_SET_LAST,
         () -> this.resultSet.last());
   }
 
@@ -1183,7 +1545,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.moveToCurrentRow",
+        JdbcMethod.RESULT_SET_MOVE_TO_CURRENT_ROW,
         () -> this.resultSet.moveToCurrentRow());
   }
 
@@ -1193,21 +1555,81 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.moveToInsertRow",
+        JdbcMethod.RESULT_SET_MOVE_TO_INSERT_ROW,
         () -> this.resultSet.moveToInsertRow());
   }
 
   @Override
   public boolean next() throws SQLException {
+    if (this.rowBuffer != null || (!this.isRowBufferResolved && this.initRowBuffer())) {
+      return this.nextPrefetched();
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_NEXT)) {
+      return this.resultSet.next();
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.next",
+        JdbcMethod.RESULT_SET_NEXT,
         () -> this.resultSet.next());
   }
 
+  /**
+   * Enables row prefetching if it's configured, the target result set can only be read forward and every column
+   * can be served from prefetched rows, see {@link software.amazon.jdbc.PropertyDefinition#RESULT_SET_PREFETCH_SIZE}
+   * and {@link ResultSetRowBuffer#canPrefetch(ResultSetMetaData)}. The result set properties are read through the
+   * plugins. Called before the first row is read.
+   *
+   * @return true if rows of this result set are prefetched
+   * @throws SQLException if the target result set fails
+   */
+  protected boolean initRowBuffer() throws SQLException {
+    this.isRowBufferResolved = true;
+    final int prefetchSize = this.pluginManager.getResultSetPrefetchSize();
+    if (prefetchSize > 0
+        && this.getType() == ResultSet.TYPE_FORWARD_ONLY
+        && this.getConcurrency() == ResultSet.CONCUR_READ_ONLY) {
+      final ResultSetMetaData metaData = this.getMetaData();
+      if (ResultSetRowBuffer.canPrefetch(metaData)) {
+        this.rowBuffer = new ResultSetRowBuffer(prefetchSize, metaData);
+      }
+    }
+    return this.rowBuffer != null;
+  }
+
+  /**
+   * Wraps an object served from prefetched rows the same way objects returned through the plugins are wrapped.
+   *
+   * @param resultClass the declared result class of the getter
+   * @param value the prefetched value
+   * @param <T> the result type
+   * @return the value, wrapped if it's a JDBC object
+   */
+  protected <T> @Nullable T wrapPrefetched(final Class<T> resultClass, final @Nullable T value) {
+    return WrapperUtils.wrapResultIfNeeded(resultClass, value, this.pluginManager);
+  }
+
+  protected boolean nextPrefetched() throws SQLException {
+    final ResultSetRowBuffer buffer = this.rowBuffer;
+    if (buffer.next()) {
+      return true;
+    }
+    if (buffer.isTargetExhausted()) {
+      buffer.afterLast();
+      return false;
+    }
+    // The whole block is read in a single call through the plugins, so plugins handling network errors,
+    // like failover, see the call that actually reaches the database.
+    return WrapperUtils.executeBooleanWithPlugins(
+        SQLException.class,
+        this.pluginManager,
+        this.resultSet,
+        JdbcMethod.RESULT_SET_NEXT,
+        () -> buffer.fetchBlock(this.resultSet));
+  }
+
   @Override
   public boolean previous() throws SQLException {
     return WrapperUtils.executeWithPlugins(
@@ -1215,7 +1637,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.previous",
+        JdbcMethod.RESULT_SET_PREVIOUS,
         () -> this.resultSet.previous());
   }
 
@@ -1225,7 +1647,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.refreshRow",
+        JdbcMethod.RESULT_SET_REFRESH_ROW,
         () -> this.resultSet.refreshRow());
   }
 
@@ -1236,7 +1658,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.relative",
+        JdbcMethod.RESULT_SET_RELATIVE,
         () -> this.resultSet.relative(rows),
         rows);
   }
@@ -1248,7 +1670,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowDeleted",
+        JdbcMethod.RESULT_SET_ROW_DELETED,
         () -> this.resultSet.rowDeleted());
   }
 
@@ -1259,7 +1681,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowInserted",
+        JdbcMethod.RESULT_SET_ROW_INSERTED,
         () -> this.resultSet.rowInserted());
   }
 
@@ -1270,7 +1692,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowUpdated",
+        JdbcMethod.RESULT_SET_ROW_UPDATED,
         () -> this.resultSet.rowUpdated());
   }
 
@@ -1280,7 +1702,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.setFetchDirection",
+        JdbcMethod.RESULT_SET_SET_FETCH_DIRECTION,
         () -> this.resultSet.setFetchDirection(direction),
         direction);
   }
@@ -1291,7 +1713,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.setFetchSize",
+        JdbcMethod.RESULT_SET_SET_FETCH_SIZE,
         () -> this.resultSet.setFetchSize(rows),
         rows);
   }
@@ -1307,7 +1729,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateArray",
+        JdbcMethod.RESULT_SET_UPDATE_ARRAY,
         () -> this.resultSet.updateArray(columnIndex, x),
         columnIndex,
         x);
@@ -1319,7 +1741,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateArray",
+        JdbcMethod.RESULT_SET_UPDATE_ARRAY,
         () -> this.resultSet.updateArray(columnLabel, x),
         columnLabel,
         x);
@@ -1331,7 +1753,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        JdbcMethod.RESULT_SET_UPDATE_ASCII_STREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1344,7 +1766,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        JdbcMethod.RESULT_SET_UPDATE_ASCII_STREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1357,7 +1779,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        JdbcMethod.RESULT_SET_UPDATE_ASCII_STREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1371,7 +1793,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        JdbcMethod.RESULT_SET_UPDATE_ASCII_STREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1384,7 +1806,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        JdbcMethod.RESULT_SET_UPDATE_ASCII_STREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x),
         columnIndex,
         x);
@@ -1396,7 +1818,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        JdbcMethod.RESULT_SET_UPDATE_ASCII_STREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x),
         columnLabel,
         x);
@@ -1408,7 +1830,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBigDecimal",
+        JdbcMethod.RESULT_SET_UPDATE_BIG_DECIMAL,
         () -> this.resultSet.updateBigDecimal(columnIndex, x),
         columnIndex,
         x);
@@ -1420,7 +1842,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBigDecimal",
+        JdbcMethod.RESULT_SET_UPDATE_BIG_DECIMAL,
         () -> this.resultSet.updateBigDecimal(columnLabel, x),
         columnLabel,
         x);
@@ -1432,7 +1854,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        JdbcMethod.RESULT_SET_UPDATE_BINARY_STREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1446,7 +1868,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        JdbcMethod.RESULT_SET_UPDATE_BINARY_STREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1459,7 +1881,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        JdbcMethod.RESULT_SET_UPDATE_BINARY_STREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1473,7 +1895,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        JdbcMethod.RESULT_SET_UPDATE_BINARY_STREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1486,7 +1908,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        JdbcMethod.RESULT_SET_UPDATE_BINARY_STREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x),
         columnIndex,
         x);
@@ -1498,7 +1920,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        JdbcMethod.RESULT_SET_UPDATE_BINARY_STREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x),
         columnLabel,
         x);
@@ -1510,7 +1932,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        JdbcMethod.RESULT_SET_UPDATE_BLOB,
         () -> this.resultSet.updateBlob(columnIndex, x),
         columnIndex,
         x);
@@ -1522,7 +1944,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        JdbcMethod.RESULT_SET_UPDATE_BLOB,
         () -> this.resultSet.updateBlob(columnLabel, x),
         columnLabel,
         x);
@@ -1535,7 +1957,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        JdbcMethod.RESULT_SET_UPDATE_BLOB,
         () -> this.resultSet.updateBlob(columnIndex, inputStream, length),
         columnIndex,
         inputStream,
@@ -1549,7 +1971,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        JdbcMethod.RESULT_SET_UPDATE_BLOB,
         () -> this.resultSet.updateBlob(columnLabel, inputStream, length),
         columnLabel,
         inputStream,
@@ -1562,7 +1984,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        JdbcMethod.RESULT_SET_UPDATE_BLOB,
         () -> this.resultSet.updateBlob(columnIndex, inputStream),
         columnIndex,
         inputStream);
@@ -1574,7 +1996,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        JdbcMethod.RESULT_SET_UPDATE_BLOB,
         () -> this.resultSet.updateBlob(columnLabel, inputStream),
         columnLabel,
         inputStream);
@@ -1586,7 +2008,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBoolean",
+        JdbcMethod.RESULT_SET_UPDATE_BOOLEAN,
         () -> this.resultSet.updateBoolean(columnIndex, x),
         columnIndex,
         x);
@@ -1598,7 +2020,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBoolean",
+        JdbcMethod.RESULT_SET_UPDATE_BOOLEAN,
         () -> this.resultSet.updateBoolean(columnLabel, x),
         columnLabel,
         x);
@@ -1610,7 +2032,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateByte",
+        JdbcMethod.RESULT_SET_UPDATE_BYTE,
         () -> this.resultSet.updateByte(columnIndex, x),
         columnIndex,
         x);
@@ -1622,7 +2044,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateByte",
+        JdbcMethod.RESULT_SET_UPDATE_BYTE,
         () -> this.resultSet.updateByte(columnLabel, x),
         columnLabel,
         x);
@@ -1634,7 +2056,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBytes",
+        JdbcMethod.RESULT_SET_UPDATE_BYTES,
         () -> this.resultSet.updateBytes(columnIndex, x),
         columnIndex,
         x);
@@ -1646,7 +2068,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBytes",
+        JdbcMethod.RESULT_SET_UPDATE_BYTES,
         () -> this.resultSet.updateBytes(columnLabel, x),
         columnLabel,
         x);
@@ -1658,7 +2080,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_CHARACTER_STREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1672,7 +2094,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_CHARACTER_STREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1685,7 +2107,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_CHARACTER_STREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1699,7 +2121,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_CHARACTER_STREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1712,7 +2134,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_CHARACTER_STREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x),
         columnIndex,
         x);
@@ -1724,7 +2146,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_CHARACTER_STREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader),
         columnLabel,
         reader);
@@ -1736,7 +2158,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        JdbcMethod.RESULT_SET_UPDATE_CLOB,
         () -> this.resultSet.updateClob(columnIndex, x),
         columnIndex,
         x);
@@ -1748,7 +2170,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        JdbcMethod.RESULT_SET_UPDATE_CLOB,
         () -> this.resultSet.updateClob(columnLabel, x),
         columnLabel,
         x);
@@ -1760,7 +2182,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        JdbcMethod.RESULT_SET_UPDATE_CLOB,
         () -> this.resultSet.updateClob(columnIndex, reader, length),
         columnIndex,
         reader,
@@ -1773,7 +2195,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        JdbcMethod.RESULT_SET_UPDATE_CLOB,
         () -> this.resultSet.updateClob(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1786,7 +2208,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        JdbcMethod.RESULT_SET_UPDATE_CLOB,
         () -> this.resultSet.updateClob(columnIndex, reader),
         columnIndex,
         reader);
@@ -1798,7 +2220,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        JdbcMethod.RESULT_SET_UPDATE_CLOB,
         () -> this.resultSet.updateClob(columnLabel, reader),
         columnLabel,
         reader);
@@ -1810,7 +2232,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDate",
+        JdbcMethod.RESULT_SET_UPDATE_DATE,
         () -> this.resultSet.updateDate(columnIndex, x),
         columnIndex,
         x);
@@ -1822,7 +2244,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDate",
+        JdbcMethod.RESULT_SET_UPDATE_DATE,
         () -> this.resultSet.updateDate(columnLabel, x),
         columnLabel,
         x);
@@ -1834,7 +2256,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDouble",
+        JdbcMethod.RESULT_SET_UPDATE_DOUBLE,
         () -> this.resultSet.updateDouble(columnIndex, x),
         columnIndex,
         x);
@@ -1846,7 +2268,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDouble",
+        JdbcMethod.RESULT_SET_UPDATE_DOUBLE,
         () -> this.resultSet.updateDouble(columnLabel, x),
         columnLabel,
         x);
@@ -1858,7 +2280,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateFloat",
+        JdbcMethod.RESULT_SET_UPDATE_FLOAT,
         () -> this.resultSet.updateFloat(columnIndex, x),
         columnIndex,
         x);
@@ -1870,7 +2292,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateFloat",
+        JdbcMethod.RESULT_SET_UPDATE_FLOAT,
         () -> this.resultSet.updateFloat(columnLabel, x),
         columnLabel,
         x);
@@ -1882,7 +2304,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateInt",
+        JdbcMethod.RESULT_SET_UPDATE_INT,
         () -> this.resultSet.updateInt(columnIndex, x),
         columnIndex,
         x);
@@ -1894,7 +2316,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateInt",
+        JdbcMethod.RESULT_SET_UPDATE_INT,
         () -> this.resultSet.updateInt(columnLabel, x),
         columnLabel,
         x);
@@ -1906,7 +2328,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateLong",
+        JdbcMethod.RESULT_SET_UPDATE_LONG,
         () -> this.resultSet.updateLong(columnIndex, x),
         columnIndex,
         x);
@@ -1918,7 +2340,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateLong",
+        JdbcMethod.RESULT_SET_UPDATE_LONG,
         () -> this.resultSet.updateLong(columnLabel, x),
         columnLabel,
         x);
@@ -1930,7 +2352,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_N_CHARACTER_STREAM,
         () -> this.resultSet.updateNCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1944,7 +2366,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_N_CHARACTER_STREAM,
         () -> this.resultSet.updateNCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1957,7 +2379,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_N_CHARACTER_STREAM,
         () -> this.resultSet.updateNCharacterStream(columnIndex, x),
         columnIndex,
         x);
@@ -1969,7 +2391,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        JdbcMethod.RESULT_SET_UPDATE_N_CHARACTER_STREAM,
         () -> this.resultSet.updateNCharacterStream(columnLabel, reader),
         columnLabel,
         reader);
@@ -1982,7 +2404,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        JdbcMethod.RESULT_SET_UPDATE_N_CLOB,
         () -> this.resultSet.updateNClob(columnIndex, nClob),
         columnIndex,
         nClob);
@@ -1995,7 +2417,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        JdbcMethod.RESULT_SET_UPDATE_N_CLOB,
         () -> this.resultSet.updateNClob(columnLabel, nClob),
         columnLabel,
         nClob);
@@ -2007,7 +2429,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        JdbcMethod.RESULT_SET_UPDATE_N_CLOB,
         () -> this.resultSet.updateNClob(columnIndex, reader, length),
         columnIndex,
         reader,
@@ -2020,7 +2442,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        JdbcMethod.RESULT_SET_UPDATE_N_CLOB,
         () -> this.resultSet.updateNClob(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -2033,7 +2455,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        JdbcMethod.RESULT_SET_UPDATE_N_CLOB,
         () -> this.resultSet.updateNClob(columnIndex, reader),
         columnIndex,
         reader);
@@ -2045,7 +2467,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        JdbcMethod.RESULT_SET_UPDATE_N_CLOB,
         () -> this.resultSet.updateNClob(columnLabel, reader),
         columnLabel,
         reader);
@@ -2058,7 +2480,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNString",
+        JdbcMethod.RESULT_SET_UPDATE_N_STRING,
         () -> this.resultSet.updateNString(columnIndex, nString),
         columnIndex,
         nString);
@@ -2071,7 +2493,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNString",
+        JdbcMethod.RESULT_SET_UPDATE_N_STRING,
         () -> this.resultSet.updateNString(columnLabel, nString),
         columnLabel,
         nString);
@@ -2083,7 +2505,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNull",
+        JdbcMethod.RESULT_SET_UPDATE_NULL,
         () -> this.resultSet.updateNull(columnIndex),
         columnIndex);
   }
@@ -2094,7 +2516,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNull",
+        JdbcMethod.RESULT_SET_UPDATE_NULL,
         () -> this.resultSet.updateNull(columnLabel),
         columnLabel);
   }
@@ -2105,7 +2527,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        JdbcMethod.RESULT_SET_UPDATE_OBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, scaleOrLength),
         columnIndex,
         x,
@@ -2118,7 +2540,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        JdbcMethod.RESULT_SET_UPDATE_OBJECT,
         () -> this.resultSet.updateObject(columnIndex, x),
         columnIndex,
         x);
@@ -2130,7 +2552,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        JdbcMethod.RESULT_SET_UPDATE_OBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, scaleOrLength),
         columnLabel,
         x,
@@ -2143,7 +2565,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        JdbcMethod.RESULT_SET_UPDATE_OBJECT,
         () -> this.resultSet.updateObject(columnLabel, x),
         columnLabel,
         x);
@@ -2156,7 +2578,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        JdbcMethod.RESULT_SET_UPDATE_OBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, targetSqlType, scaleOrLength),
         columnIndex,
         x,
@@ -2171,7 +2593,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        JdbcMethod.RESULT_SET_UPDATE_OBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, targetSqlType, scaleOrLength),
         columnLabel,
         x,
@@ -2185,7 +2607,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        JdbcMethod.RESULT_SET_UPDATE_OBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, targetSqlType),
         columnIndex,
         x,
@@ -2199,7 +2621,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        JdbcMethod.RESULT_SET_UPDATE_OBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, targetSqlType),
         columnLabel,
         x,
@@ -2212,7 +2634,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRef",
+        JdbcMethod.RESULT_SET_UPDATE_REF,
         () -> this.resultSet.updateRef(columnIndex, x),
         columnIndex,
         x);
@@ -2224,7 +2646,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRef",
+        JdbcMethod.RESULT_SET_UPDATE_REF,
         () -> this.resultSet.updateRef(columnLabel, x),
         columnLabel,
         x);
@@ -2236,7 +2658,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRow",
+        JdbcMethod.RESULT_SET_UPDATE_ROW,
         () -> this.resultSet.updateRow());
   }
 
@@ -2246,7 +2668,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRowId",
+        JdbcMethod.RESULT_SET_UPDATE_ROW_ID,
         () -> this.resultSet.updateRowId(columnIndex, x),
         columnIndex,
         x);
@@ -2258,7 +2680,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRowId",
+        JdbcMethod.RESULT_SET_UPDATE_ROW_ID,
         () -> this.resultSet.updateRowId(columnLabel, x),
         columnLabel,
         x);
@@ -2270,7 +2692,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateSQLXML",
+        JdbcMethod.RESULT_SET_UPDATE_SQLXML,
         () -> this.resultSet.updateSQLXML(columnIndex, xmlObject),
         columnIndex,
         xmlObject);
@@ -2282,7 +2704,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateSQLXML",
+        JdbcMethod.RESULT_SET_UPDATE_SQLXML,
         () -> this.resultSet.updateSQLXML(columnLabel, xmlObject),
         columnLabel,
         xmlObject);
@@ -2294,7 +2716,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateShort",
+        JdbcMethod.RESULT_SET_UPDATE_SHORT,
         () -> this.resultSet.updateShort(columnIndex, x),
         columnIndex,
         x);
@@ -2306,7 +2728,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateShort",
+        JdbcMethod.RESULT_SET_UPDATE_SHORT,
         () -> this.resultSet.updateShort(columnLabel, x),
         columnLabel,
         x);
@@ -2318,7 +2740,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateString",
+        JdbcMethod.RESULT_SET_UPDATE_STRING,
         () -> this.resultSet.updateString(columnIndex, x),
         columnIndex,
         x);
@@ -2330,7 +2752,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateString",
+        JdbcMethod.RESULT_SET_UPDATE_STRING,
         () -> this.resultSet.updateString(columnLabel, x),
         columnLabel,
         x);
@@ -2342,7 +2764,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTime",
+        JdbcMethod.RESULT_SET_UPDATE_TIME,
         () -> this.resultSet.updateTime(columnIndex, x),
         columnIndex,
         x);
@@ -2354,7 +2776,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTime",
+        JdbcMethod.RESULT_SET_UPDATE_TIME,
         () -> this.resultSet.updateTime(columnLabel, x),
         columnLabel,
         x);
@@ -2366,7 +2788,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTimestamp",
+        JdbcMethod.RESULT_SET_UPDATE_TIMESTAMP,
         () -> this.resultSet.updateTimestamp(columnIndex, x),
         columnIndex,
         x);
@@ -2378,7 +2800,7 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTimestamp",
+        JdbcMethod.RESULT_SET_UPDATE_TIMESTAMP,
         () -> this.resultSet.updateTimestamp(columnLabel, x),
         columnLabel,
         x);
@@ -2386,12 +2808,18 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public boolean wasNull() throws SQLException {
+    if (this.rowBuffer != null) {
+      return this.rowBuffer.wasNull();
+    }
+    if (this.isPipelineBypassAllowed(JdbcMethod.RESULT_SET_WAS_NULL)) {
+      return this.resultSet.wasNull();
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.wasNull",
+        JdbcMethod.RESULT_SET_WAS_NULL,
         () -> this.resultSet.wasNull());
   }
 
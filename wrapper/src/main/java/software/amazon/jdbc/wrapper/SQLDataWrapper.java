@@ -22,6 +22,7 @@ import java.sql.SQLInput;
 import java.sql.SQLOutput;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class SQLDataWrapper implements SQLData {
@@ -41,7 +42,7 @@ public class SQLDataWrapper implements SQLData {
         SQLException.class,
         this.pluginManager,
         this.sqlData,
-        "SQLData.getSQLTypeName",
+        JdbcMethod.SQL_DATA_GET_SQL_TYPE_NAME,
         () -> this.sqlData.getSQLTypeName());
   }
 
@@ -51,7 +52,7 @@ public class SQLDataWrapper implements SQLData {
         SQLException.class,
         this.pluginManager,
         this.sqlData,
-        "SQLData.readSQL",
+        JdbcMethod.SQL_DATA_READ_SQL,
         () -> this.sqlData.readSQL(stream, typeName),
         stream,
         typeName);
@@ -63,7 +64,7 @@ public class SQLDataWrapper implements SQLData {
         SQLException.class,
         this.pluginManager,
         this.sqlData,
-        "SQLData.writeSQL",
+        JdbcMethod.SQL_DATA_WRITE_SQL,
         () -> this.sqlData.writeSQL(stream),
         stream);
   }
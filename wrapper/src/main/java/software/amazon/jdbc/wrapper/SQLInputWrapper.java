@@ -34,6 +34,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class SQLInputWrapper implements SQLInput {
@@ -54,7 +55,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readString",
+        JdbcMethod.SQL_INPUT_READ_STRING,
         () -> this.sqlInput.readString());
   }
 
@@ -65,7 +66,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBoolean",
+        JdbcMethod.SQL_INPUT_READ_BOOLEAN,
         () -> this.sqlInput.readBoolean());
   }
 
@@ -76,7 +77,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readByte",
+        JdbcMethod.SQL_INPUT_READ_BYTE,
         () -> this.sqlInput.readByte());
   }
 
@@ -87,7 +88,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readShort",
+        JdbcMethod.SQL_INPUT_READ_SHORT,
         () -> this.sqlInput.readShort());
   }
 
@@ -98,7 +99,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readInt",
+        JdbcMethod.SQL_INPUT_READ_INT,
         () -> this.sqlInput.readInt());
   }
 
@@ -109,7 +110,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readLong",
+        JdbcMethod.SQL_INPUT_READ_LONG,
         () -> this.sqlInput.readLong());
   }
 
@@ -120,7 +121,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readFloat",
+        JdbcMethod.SQL_INPUT_READ_FLOAT,
         () -> this.sqlInput.readFloat());
   }
 
@@ -131,7 +132,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readDouble",
+        JdbcMethod.SQL_INPUT_READ_DOUBLE,
         () -> this.sqlInput.readDouble());
   }
 
@@ -142,7 +143,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBigDecimal",
+        JdbcMethod.SQL_INPUT_READ_BIG_DECIMAL,
         () -> this.sqlInput.readBigDecimal());
   }
 
@@ -153,7 +154,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBytes",
+        JdbcMethod.SQL_INPUT_READ_BYTES,
         () -> this.sqlInput.readBytes());
   }
 
@@ -164,7 +165,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readDate",
+        JdbcMethod.SQL_INPUT_READ_DATE,
         () -> this.sqlInput.readDate());
   }
 
@@ -175,7 +176,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readTime",
+        JdbcMethod.SQL_INPUT_READ_TIME,
         () -> this.sqlInput.readTime());
   }
 
@@ -186,7 +187,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readTimestamp",
+        JdbcMethod.SQL_INPUT_READ_TIMESTAMP,
         () -> this.sqlInput.readTimestamp());
   }
 
@@ -197,7 +198,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readCharacterStream",
+        JdbcMethod.SQL_INPUT_READ_CHARACTER_STREAM,
         () -> this.sqlInput.readCharacterStream());
   }
 
@@ -208,7 +209,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readAsciiStream",
+        JdbcMethod.SQL_INPUT_READ_ASCII_STREAM,
         () -> this.sqlInput.readAsciiStream());
   }
 
@@ -219,7 +220,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBinaryStream",
+        JdbcMethod.SQL_INPUT_READ_BINARY_STREAM,
         () -> this.sqlInput.readBinaryStream());
   }
 
@@ -230,7 +231,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readObject",
+        JdbcMethod.SQL_INPUT_READ_OBJECT,
         () -> this.sqlInput.readObject());
   }
 
@@ -241,7 +242,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readString",
+        JdbcMethod.SQL_INPUT_READ_STRING,
         () -> this.sqlInput.readObject(type),
         type);
   }
@@ -253,7 +254,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readRef",
+        JdbcMethod.SQL_INPUT_READ_REF,
         () -> this.sqlInput.readRef());
   }
 
@@ -264,7 +265,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBlob",
+        JdbcMethod.SQL_INPUT_READ_BLOB,
         () -> this.sqlInput.readBlob());
   }
 
@@ -275,7 +276,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readClob",
+        JdbcMethod.SQL_INPUT_READ_CLOB,
         () -> this.sqlInput.readClob());
   }
 
@@ -286,7 +287,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readArray",
+        JdbcMethod.SQL_INPUT_READ_ARRAY,
         () -> this.sqlInput.readArray());
   }
 
@@ -297,7 +298,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.wasNull",
+        JdbcMethod.SQL_INPUT_WAS_NULL,
         () -> this.sqlInput.wasNull());
   }
 
@@ -308,7 +309,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readURL",
+        JdbcMethod.SQL_INPUT_READ_URL,
         () -> this.sqlInput.readURL());
   }
 
@@ -319,7 +320,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readNClob",
+        JdbcMethod.SQL_INPUT_READ_N_CLOB,
         () -> this.sqlInput.readNClob());
   }
 
@@ -330,7 +331,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readNString",
+        JdbcMethod.SQL_INPUT_READ_N_STRING,
         () -> this.sqlInput.readNString());
   }
 
@@ -341,7 +342,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readSQLXML",
+        JdbcMethod.SQL_INPUT_READ_SQLXML,
         () -> this.sqlInput.readSQLXML());
   }
 
@@ -352,7 +353,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readRowId",
+        JdbcMethod.SQL_INPUT_READ_ROW_ID,
         () -> this.sqlInput.readRowId());
   }
 
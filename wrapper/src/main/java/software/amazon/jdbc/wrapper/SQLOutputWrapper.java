@@ -37,6 +37,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class SQLOutputWrapper implements SQLOutput {
@@ -56,7 +57,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeString",
+        JdbcMethod.SQL_OUTPUT_WRITE_STRING,
         () -> this.sqlOutput.writeString(x),
         x);
   }
@@ -67,7 +68,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBoolean",
+        JdbcMethod.SQL_OUTPUT_WRITE_BOOLEAN,
         () -> this.sqlOutput.writeBoolean(x),
         x);
   }
@@ -78,7 +79,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeByte",
+        JdbcMethod.SQL_OUTPUT_WRITE_BYTE,
         () -> this.sqlOutput.writeByte(x),
         x);
   }
@@ -89,7 +90,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeShort",
+        JdbcMethod.SQL_OUTPUT_WRITE_SHORT,
         () -> this.sqlOutput.writeShort(x),
         x);
   }
@@ -100,7 +101,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeInt",
+        JdbcMethod.SQL_OUTPUT_WRITE_INT,
         () -> this.sqlOutput.writeInt(x),
         x);
   }
@@ -111,7 +112,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeLong",
+        JdbcMethod.SQL_OUTPUT_WRITE_LONG,
         () -> this.sqlOutput.writeLong(x),
         x);
   }
@@ -122,7 +123,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeFloat",
+        JdbcMethod.SQL_OUTPUT_WRITE_FLOAT,
         () -> this.sqlOutput.writeFloat(x),
         x);
   }
@@ -133,7 +134,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeDouble",
+        JdbcMethod.SQL_OUTPUT_WRITE_DOUBLE,
         () -> this.sqlOutput.writeDouble(x),
         x);
   }
@@ -144,7 +145,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBigDecimal",
+        JdbcMethod.SQL_OUTPUT_WRITE_BIG_DECIMAL,
         () -> this.sqlOutput.writeBigDecimal(x),
         x);
   }
@@ -155,7 +156,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBytes",
+        JdbcMethod.SQL_OUTPUT_WRITE_BYTES,
         () -> this.sqlOutput.writeBytes(x),
         x);
   }
@@ -166,7 +167,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeDate",
+        JdbcMethod.SQL_OUTPUT_WRITE_DATE,
         () -> this.sqlOutput.writeDate(x),
         x);
   }
@@ -177,7 +178,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeTime",
+        JdbcMethod.SQL_OUTPUT_WRITE_TIME,
         () -> this.sqlOutput.writeTime(x),
         x);
   }
@@ -188,7 +189,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeTimestamp",
+        JdbcMethod.SQL_OUTPUT_WRITE_TIMESTAMP,
         () -> this.sqlOutput.writeTimestamp(x),
         x);
   }
@@ -199,7 +200,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeCharacterStream",
+        JdbcMethod.SQL_OUTPUT_WRITE_CHARACTER_STREAM,
         () -> this.sqlOutput.writeCharacterStream(x),
         x);
   }
@@ -210,7 +211,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeAsciiStream",
+        JdbcMethod.SQL_OUTPUT_WRITE_ASCII_STREAM,
         () -> this.sqlOutput.writeAsciiStream(x),
         x);
   }
@@ -221,7 +222,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBinaryStream",
+        JdbcMethod.SQL_OUTPUT_WRITE_BINARY_STREAM,
         () -> this.sqlOutput.writeBinaryStream(x),
         x);
   }
@@ -232,7 +233,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeObject",
+        JdbcMethod.SQL_OUTPUT_WRITE_OBJECT,
         () -> this.sqlOutput.writeObject(x),
         x);
   }
@@ -243,7 +244,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeObject",
+        JdbcMethod.SQL_OUTPUT_WRITE_OBJECT,
         () -> this.sqlOutput.writeObject(x, targetSqlType),
         x,
         targetSqlType);
@@ -255,7 +256,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeRef",
+        JdbcMethod.SQL_OUTPUT_WRITE_REF,
         () -> this.sqlOutput.writeRef(x),
         x);
   }
@@ -266,7 +267,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBlob",
+        JdbcMethod.SQL_OUTPUT_WRITE_BLOB,
         () -> this.sqlOutput.writeBlob(x),
         x);
   }
@@ -277,7 +278,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeClob",
+        JdbcMethod.SQL_OUTPUT_WRITE_CLOB,
         () -> this.sqlOutput.writeClob(x),
         x);
   }
@@ -288,7 +289,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeStruct",
+        JdbcMethod.SQL_OUTPUT_WRITE_STRUCT,
         () -> this.sqlOutput.writeStruct(x),
         x);
   }
@@ -299,7 +300,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeArray",
+        JdbcMethod.SQL_OUTPUT_WRITE_ARRAY,
         () -> this.sqlOutput.writeArray(x),
         x);
   }
@@ -310,7 +311,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeURL",
+        JdbcMethod.SQL_OUTPUT_WRITE_URL,
         () -> this.sqlOutput.writeURL(x),
         x);
   }
@@ -321,7 +322,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeNString",
+        JdbcMethod.SQL_OUTPUT_WRITE_N_STRING,
         () -> this.sqlOutput.writeNString(x),
         x);
   }
@@ -332,7 +333,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeNClob",
+        JdbcMethod.SQL_OUTPUT_WRITE_N_CLOB,
         () -> this.sqlOutput.writeNClob(x),
         x);
   }
@@ -343,7 +344,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeRowId",
+        JdbcMethod.SQL_OUTPUT_WRITE_ROW_ID,
         () -> this.sqlOutput.writeRowId(x),
         x);
   }
@@ -354,7 +355,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeSQLXML",
+        JdbcMethod.SQL_OUTPUT_WRITE_SQLXML,
         () -> this.sqlOutput.writeSQLXML(x),
         x);
   }
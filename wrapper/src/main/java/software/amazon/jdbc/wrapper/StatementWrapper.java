@@ -23,6 +23,7 @@ import java.sql.SQLWarning;
 import java.sql.Statement;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class StatementWrapper implements Statement {
@@ -43,7 +44,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeQuery",
+        JdbcMethod.STATEMENT_EXECUTE_QUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
@@ -55,7 +56,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        JdbcMethod.STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -67,7 +68,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        JdbcMethod.STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -80,7 +81,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        JdbcMethod.STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -93,7 +94,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        JdbcMethod.STATEMENT_EXECUTE_UPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -105,7 +106,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.close",
+        JdbcMethod.STATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -116,7 +117,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMaxFieldSize",
+        JdbcMethod.STATEMENT_GET_MAX_FIELD_SIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -126,7 +127,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setMaxFieldSize",
+        JdbcMethod.STATEMENT_SET_MAX_FIELD_SIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -138,7 +139,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMaxRows",
+        JdbcMethod.STATEMENT_GET_MAX_ROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -148,7 +149,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setMaxRows",
+        JdbcMethod.STATEMENT_SET_MAX_ROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -159,7 +160,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setEscapeProcessing",
+        JdbcMethod.STATEMENT_SET_ESCAPE_PROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -171,7 +172,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getQueryTimeout",
+        JdbcMethod.STATEMENT_GET_QUERY_TIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -181,7 +182,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setQueryTimeout",
+        JdbcMethod.STATEMENT_SET_QUERY_TIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -192,7 +193,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.cancel",
+        JdbcMethod.STATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -203,7 +204,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getWarnings",
+        JdbcMethod.STATEMENT_GET_WARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -213,7 +214,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.clearWarnings",
+        JdbcMethod.STATEMENT_CLEAR_WARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -223,7 +224,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setCursorName",
+        JdbcMethod.STATEMENT_SET_CURSOR_NAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -235,7 +236,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -247,7 +248,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -260,7 +261,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -273,7 +274,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -286,7 +287,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSet",
+        JdbcMethod.STATEMENT_GET_RESULT_SET,
         () -> this.statement.getResultSet());
   }
 
@@ -297,7 +298,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getUpdateCount",
+        JdbcMethod.STATEMENT_GET_UPDATE_COUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -308,7 +309,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMoreResults",
+        JdbcMethod.STATEMENT_GET_MORE_RESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -319,7 +320,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMoreResults",
+        JdbcMethod.STATEMENT_GET_MORE_RESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -332,7 +333,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getFetchDirection",
+        JdbcMethod.STATEMENT_GET_FETCH_DIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -342,7 +343,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setFetchDirection",
+        JdbcMethod.STATEMENT_SET_FETCH_DIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -354,7 +355,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getFetchSize",
+        JdbcMethod.STATEMENT_GET_FETCH_SIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -364,7 +365,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setFetchSize",
+        JdbcMethod.STATEMENT_SET_FETCH_SIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
@@ -377,7 +378,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetConcurrency",
+        JdbcMethod.STATEMENT_GET_RESULT_SET_CONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -389,7 +390,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetType",
+        JdbcMethod.STATEMENT_GET_RESULT_SET_TYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -399,7 +400,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.addBatch",
+        JdbcMethod.STATEMENT_ADD_BATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -410,7 +411,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.clearBatch",
+        JdbcMethod.STATEMENT_CLEAR_BATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -421,7 +422,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeBatch",
+        JdbcMethod.STATEMENT_EXECUTE_BATCH,
         () -> this.statement.executeBatch());
   }
 
@@ -432,7 +433,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getConnection",
+        JdbcMethod.STATEMENT_GET_CONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -443,7 +444,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getGeneratedKeys",
+        JdbcMethod.STATEMENT_GET_GENERATED_KEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -454,7 +455,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetHoldability",
+        JdbcMethod.STATEMENT_GET_RESULT_SET_HOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -465,7 +466,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isClosed",
+        JdbcMethod.STATEMENT_IS_CLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -477,7 +478,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isPoolable",
+        JdbcMethod.STATEMENT_IS_POOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -488,7 +489,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setPoolable",
+        JdbcMethod.STATEMENT_SET_POOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -499,7 +500,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.closeOnCompletion",
+        JdbcMethod.STATEMENT_CLOSE_ON_COMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
@@ -510,7 +511,7 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isCloseOnCompletion",
+        JdbcMethod.STATEMENT_IS_CLOSE_ON_COMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
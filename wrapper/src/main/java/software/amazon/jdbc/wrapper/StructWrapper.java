@@ -21,6 +21,7 @@ import java.sql.Struct;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class StructWrapper implements Struct {
@@ -40,7 +41,7 @@ public class StructWrapper implements Struct {
         SQLException.class,
         this.pluginManager,
         this.struct,
-        "Struct.getSQLTypeName",
+        JdbcMethod.STRUCT_GET_SQL_TYPE_NAME,
         () -> this.struct.getSQLTypeName());
   }
 
@@ -51,7 +52,7 @@ public class StructWrapper implements Struct {
         SQLException.class,
         this.pluginManager,
         this.struct,
-        "Struct.getAttributes",
+        JdbcMethod.STRUCT_GET_ATTRIBUTES,
         () -> this.struct.getAttributes());
   }
 
@@ -62,7 +63,7 @@ public class StructWrapper implements Struct {
         SQLException.class,
         this.pluginManager,
         this.struct,
-        "Struct.getAttributes",
+        JdbcMethod.STRUCT_GET_ATTRIBUTES,
         () -> this.struct.getAttributes(map),
         map);
   }
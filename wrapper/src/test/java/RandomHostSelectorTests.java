@@ -19,13 +19,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Collections;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.HostSpecBuilder;
 import software.amazon.jdbc.RandomHostSelector;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.HostAvailabilityStrategy;
 import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
 
 class RandomHostSelectorTests {
@@ -83,4 +87,27 @@ class RandomHostSelectorTests {
     final HostSpec actualHost = hostSelector.getHost(hostSpecTestsList, HOST_ROLE, new Properties());
     assertEquals(HostAvailability.AVAILABLE, actualHost.getAvailability());
   }
+
+  @Test
+  void testGetHostGivenHostBecomingUnavailable() throws SQLException {
+    // The host is available when first checked, and unavailable afterwards.
+    final AtomicInteger availabilityChecks = new AtomicInteger();
+    final HostAvailabilityStrategy flippingStrategy = new HostAvailabilityStrategy() {
+      @Override
+      public void setHostAvailability(final HostAvailability hostAvailability) {
+      }
+
+      @Override
+      public HostAvailability getHostAvailability(final HostAvailability rawHostAvailability) {
+        return availabilityChecks.getAndIncrement() == 0 ? HostAvailability.AVAILABLE : HostAvailability.NOT_AVAILABLE;
+      }
+    };
+    final HostSpec host = new HostSpecBuilder(flippingStrategy)
+        .host("someHost")
+        .role(HOST_ROLE)
+        .build();
+
+    final RandomHostSelector hostSelector = new RandomHostSelector();
+    assertEquals(host, hostSelector.getHost(Collections.singletonList(host), HOST_ROLE, new Properties()));
+  }
 }
@@ -18,6 +18,7 @@ package software.amazon.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,6 +41,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -57,6 +59,7 @@ import software.amazon.jdbc.mock.TestPluginOne;
 import software.amazon.jdbc.mock.TestPluginThree;
 import software.amazon.jdbc.mock.TestPluginThrowException;
 import software.amazon.jdbc.mock.TestPluginTwo;
+import software.amazon.jdbc.plugin.AbstractConnectionPlugin;
 import software.amazon.jdbc.plugin.AuroraConnectionTrackerPlugin;
 import software.amazon.jdbc.plugin.DefaultConnectionPlugin;
 import software.amazon.jdbc.plugin.LogQueryConnectionPlugin;
@@ -67,6 +70,7 @@ import software.amazon.jdbc.profile.ConfigurationProfileBuilder;
 import software.amazon.jdbc.util.WrapperUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
 import software.amazon.jdbc.wrapper.ConnectionWrapper;
 
 public class ConnectionPluginManagerTests {
@@ -425,6 +429,171 @@ public class ConnectionPluginManagerTests {
     assertEquals("TestPluginThrowException:after", calls.get(4));
   }
 
+  @Test
+  public void testExecuteIntSkipsPassivePlugins() throws Exception {
+
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ConnectionPlugin passivePlugin = mock(ConnectionPlugin.class);
+    when(passivePlugin.getSubscribedMethods()).thenReturn(Collections.singleton("*"));
+    when(passivePlugin.isPassive(eq("ResultSet.getInt"))).thenReturn(true);
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(passivePlugin);
+    testPlugins.add(new TestPluginOne(calls));
+
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, new Properties(), testPlugins, mockConnectionWrapper, mockTelemetryFactory);
+
+    for (int i = 0; i < 2; i++) {
+      calls.clear();
+
+      final int result =
+          target.executeInt(
+              SQLException.class,
+              Connection.class,
+              JdbcMethod.RESULT_SET_GET_INT,
+              () -> {
+                calls.add("targetCall");
+                return 42;
+              },
+              new Object[] {1},
+              false);
+
+      assertEquals(42, result);
+
+      // TestPluginOne doesn't override executeInt(), so the call goes through its execute().
+      assertEquals(3, calls.size());
+      assertEquals("TestPluginOne:before", calls.get(0));
+      assertEquals("targetCall", calls.get(1));
+      assertEquals("TestPluginOne:after", calls.get(2));
+    }
+
+    verify(passivePlugin, never()).executeInt(any(), any(), any(), any(), any());
+    verify(passivePlugin, never()).execute(any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void testPendingNodeListChangesAreNotifiedBeforeNextCall() throws Exception {
+    final ArrayList<String> calls = new ArrayList<>();
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginOne(calls));
+
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, new Properties(), testPlugins, mockConnectionWrapper, mockTelemetryFactory);
+    target.notifyNodeListChangedOnNextCall(() -> calls.add("notifyNodeListChanged"));
+
+    // Asynchronous methods may run on another thread, so they leave the changes to the next call.
+    target.execute(Void.class, SQLException.class, Statement.class, JdbcMethod.STATEMENT_CANCEL,
+        () -> null, new Object[] {});
+    assertEquals(Arrays.asList("TestPluginOne:before", "TestPluginOne:after"), calls);
+    calls.clear();
+
+    target.executeInt(SQLException.class, Connection.class, JdbcMethod.RESULT_SET_GET_INT, () -> {
+      calls.add("targetCall");
+      return 42;
+    }, new Object[] {1}, false);
+    target.executeInt(SQLException.class, Connection.class, JdbcMethod.RESULT_SET_GET_INT, () -> 42,
+        new Object[] {1}, false);
+
+    // The changes are notified once, before the plugins handle the call.
+    assertEquals(
+        Arrays.asList(
+            "notifyNodeListChanged",
+            "TestPluginOne:before",
+            "targetCall",
+            "TestPluginOne:after",
+            "TestPluginOne:before",
+            "TestPluginOne:after"),
+        calls);
+  }
+
+  @Test
+  public void testUntracedCallOpensNoTelemetryContext() throws Exception {
+    when(mockPluginService.getTargetName()).thenReturn("targetDriver");
+
+    final DefaultConnectionPlugin defaultPlugin = new DefaultConnectionPlugin(
+        mockPluginService, mockConnectionProvider, null, mockPluginManagerService);
+
+    final ConnectionPluginManager target = new ConnectionPluginManager(mockConnectionProvider,
+        null, new Properties(), Collections.singletonList(defaultPlugin),
+        mockConnectionWrapper, mockPluginService, mockTelemetryFactory);
+
+    assertEquals("value", target.execute(String.class, SQLException.class, Connection.class,
+        JdbcMethod.RESULT_SET_GET_STRING, () -> "value", new Object[] {1}, false));
+    assertEquals(42, target.executeInt(SQLException.class, Connection.class,
+        JdbcMethod.RESULT_SET_GET_INT, () -> 42, new Object[] {1}, false));
+
+    verify(mockTelemetryFactory, never()).openTelemetryContext(any(), any());
+
+    assertEquals("value", target.execute(String.class, SQLException.class, Connection.class,
+        JdbcMethod.RESULT_SET_GET_STRING, () -> "value", new Object[] {1}, true));
+    assertEquals(42, target.executeInt(SQLException.class, Connection.class,
+        JdbcMethod.RESULT_SET_GET_INT, () -> 42, new Object[] {1}, true));
+
+    verify(mockTelemetryFactory, times(2)).openTelemetryContext(eq("targetDriver"), eq(TelemetryTraceLevel.NESTED));
+    verify(mockTelemetryContext, times(4)).closeContext();
+  }
+
+  @Test
+  public void testExecuteCachedJdbcMethod() throws Exception {
+
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginOne(calls));
+    testPlugins.add(new TestPluginTwo(calls));
+    testPlugins.add(new TestPluginThree(calls));
+
+    final Properties testProperties = new Properties();
+
+    final Object[] testArgs = new Object[] {10, "arg2", 3.33};
+
+    final ConnectionPluginManager target = Mockito.spy(
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, testProperties, testPlugins, mockConnectionWrapper, mockTelemetryFactory));
+
+    for (int i = 0; i < 2; i++) {
+      calls.clear();
+
+      final Object result =
+          target.execute(
+              String.class,
+              Exception.class,
+              Connection.class,
+              JdbcMethod.RESULT_SET_GET_STRING,
+              () -> {
+                calls.add("targetCall");
+                return "resulTestValue";
+              },
+              testArgs);
+
+      assertEquals("resulTestValue", result);
+
+      // Only TestPluginOne is subscribed to all methods.
+      assertEquals(3, calls.size());
+      assertEquals("TestPluginOne:before", calls.get(0));
+      assertEquals("targetCall", calls.get(1));
+      assertEquals("TestPluginOne:after", calls.get(2));
+    }
+
+    // The plugin chain is compiled once and then looked up by the method ordinal.
+    verify(target, times(1)).makePluginChain(eq("ResultSet.getString"));
+
+    // Calls made with a registered method name share the same plugin chain.
+    target.execute(
+        String.class,
+        Exception.class,
+        Connection.class,
+        "ResultSet.getString",
+        () -> "resulTestValue",
+        testArgs);
+
+    verify(target, times(1)).makePluginChain(eq("ResultSet.getString"));
+  }
+
   @Test
   public void testExecuteCachedJdbcCallA() throws Exception {
 
@@ -457,8 +626,8 @@ public class ConnectionPluginManagerTests {
 
     assertEquals("resulTestValue", result);
 
-    // The method has been called just once to generate a final lambda and cache it.
-    verify(target, times(1)).makePluginChainFunc(eq("testJdbcCall_A"));
+    // The method has been called just once to compile the plugin chain and cache it.
+    verify(target, times(1)).makePluginChain(eq("testJdbcCall_A"));
 
     assertEquals(7, calls.size());
     assertEquals("TestPluginOne:before", calls.get(0));
@@ -486,7 +655,7 @@ public class ConnectionPluginManagerTests {
     assertEquals("anotherResulTestValue", result);
 
     // No additional calls to this method occurred. It's still been called once.
-    verify(target, times(1)).makePluginChainFunc(eq("testJdbcCall_A"));
+    verify(target, times(1)).makePluginChain(eq("testJdbcCall_A"));
 
     assertEquals(7, calls.size());
     assertEquals("TestPluginOne:before", calls.get(0));
@@ -498,6 +667,59 @@ public class ConnectionPluginManagerTests {
     assertEquals("TestPluginOne:after", calls.get(6));
   }
 
+  @Test
+  public void testExecuteJdbcCallWithPluginCallingChainTwice() throws Exception {
+
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ConnectionPlugin retryPlugin = new AbstractConnectionPlugin() {
+      @Override
+      public Set<String> getSubscribedMethods() {
+        return new HashSet<>(Collections.singletonList("*"));
+      }
+
+      @Override
+      public <T, E extends Exception> T execute(Class<T> resultClass, Class<E> exceptionClass,
+          Object methodInvokeOn, String methodName, JdbcCallable<T, E> jdbcMethodFunc, Object[] jdbcMethodArgs)
+          throws E {
+        jdbcMethodFunc.call();
+        return jdbcMethodFunc.call();
+      }
+    };
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(retryPlugin);
+    testPlugins.add(new TestPluginTwo(calls));
+    testPlugins.add(new TestPluginThree(calls));
+
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, new Properties(), testPlugins, mockConnectionWrapper, mockTelemetryFactory);
+
+    final Object result =
+        target.execute(
+            String.class,
+            Exception.class,
+            Connection.class,
+            "testJdbcCall_A",
+            () -> {
+              calls.add("targetCall");
+              return "resulTestValue";
+            },
+            new Object[] {10});
+
+    assertEquals("resulTestValue", result);
+
+    assertEquals(10, calls.size());
+    for (int i = 0; i < 10; i += 5) {
+      assertEquals("TestPluginTwo:before", calls.get(i));
+      assertEquals("TestPluginThree:before", calls.get(i + 1));
+      assertEquals("targetCall", calls.get(i + 2));
+      assertEquals("TestPluginThree:after", calls.get(i + 3));
+      assertEquals("TestPluginTwo:after", calls.get(i + 4));
+    }
+  }
+
   @Test
   public void testForceConnectCachedJdbcCallForceConnect() throws Exception {
 
@@ -526,8 +748,8 @@ public class ConnectionPluginManagerTests {
 
     assertEquals(mockConnection, result);
 
-    // The method has been called just once to generate a final lambda and cache it.
-    verify(target, times(1)).makePluginChainFunc(eq("forceConnect"));
+    // The method has been called just once to compile the plugin chain and cache it.
+    verify(target, times(1)).makePluginChain(eq("forceConnect"));
 
     assertEquals(4, calls.size());
     assertEquals("TestPluginOne:before forceConnect", calls.get(0));
@@ -547,7 +769,7 @@ public class ConnectionPluginManagerTests {
     assertEquals(mockConnection, result);
 
     // No additional calls to this method occurred. It's still been called once.
-    verify(target, times(1)).makePluginChainFunc(eq("forceConnect"));
+    verify(target, times(1)).makePluginChain(eq("forceConnect"));
 
     assertEquals(4, calls.size());
     assertEquals("TestPluginOne:before forceConnect", calls.get(0));
@@ -953,4 +1175,74 @@ public class ConnectionPluginManagerTests {
     verify(supportedSubscribedPlugin, times(1)).getHostSpecByStrategy(inputHosts, inputHostRole, inputStrategy);
     assertEquals(expectedHostSpec, actualHostSpec);
   }
+
+  @Test
+  public void testIsPipelineBypassAllowed() {
+    final ConnectionPlugin passivePlugin = mock(ConnectionPlugin.class);
+    when(passivePlugin.getSubscribedMethods()).thenReturn(new HashSet<>(Collections.singletonList("*")));
+    when(passivePlugin.isPassive(eq("ResultSet.getInt"))).thenReturn(true);
+
+    final ConnectionPlugin subscribedPlugin = mock(ConnectionPlugin.class);
+    when(subscribedPlugin.getSubscribedMethods())
+        .thenReturn(new HashSet<>(Collections.singletonList("ResultSet.getString")));
+
+    final DefaultConnectionPlugin defaultPlugin = new DefaultConnectionPlugin(
+        mockPluginService, mockConnectionProvider, null, mockPluginManagerService);
+
+    final ConnectionPluginManager target = new ConnectionPluginManager(mockConnectionProvider,
+        null, new Properties(), Arrays.asList(passivePlugin, subscribedPlugin, defaultPlugin),
+        mockConnectionWrapper, mockPluginService, mockTelemetryFactory);
+
+    assertTrue(target.isPipelineBypassAllowed("ResultSet.getInt"));
+    assertFalse(target.isPipelineBypassAllowed("ResultSet.getString"));
+    assertFalse(target.isPipelineBypassAllowed("ResultSet.getLong"));
+
+    when(mockTelemetryFactory.isTracingEnabled()).thenReturn(true);
+    assertFalse(target.isPipelineBypassAllowed("ResultSet.getInt"));
+  }
+
+  @Test
+  public void testIsPipelineBypassAllowed_givenNoDefaultPlugin() {
+    final ConnectionPlugin passivePlugin = mock(ConnectionPlugin.class);
+    when(passivePlugin.getSubscribedMethods()).thenReturn(new HashSet<>(Collections.singletonList("*")));
+    when(passivePlugin.isPassive(anyString())).thenReturn(true);
+
+    final ConnectionPluginManager target = new ConnectionPluginManager(mockConnectionProvider,
+        null, new Properties(), Arrays.asList(new TestPluginOne(new ArrayList<>()), passivePlugin),
+        mockConnectionWrapper, mockPluginService, mockTelemetryFactory);
+
+    assertFalse(target.isPipelineBypassAllowed("ResultSet.getInt"));
+  }
+
+  @Test
+  public void testSingleThreadedConnectionDetectsConcurrentAccess() throws Exception {
+    final Properties props = new Properties();
+    props.setProperty(PropertyDefinition.SINGLE_THREADED_CONNECTION.name, "true");
+
+    final ConnectionPluginManager target = new ConnectionPluginManager(mockConnectionProvider,
+        null, props, new ArrayList<>(), mockConnectionWrapper, mockPluginService, mockTelemetryFactory);
+
+    target.beginExecution(false, SQLException.class);
+    // Nested calls made by the owner thread are allowed.
+    target.beginExecution(false, SQLException.class);
+    target.endExecution(false);
+    assertFalse(target.isHeldByCurrentThread());
+
+    CompletableFuture.runAsync(() -> {
+      assertThrows(SQLException.class, () -> target.beginExecution(false, SQLException.class));
+
+      // Cross-thread methods like Statement.cancel can still be called.
+      assertDoesNotThrow(() -> target.beginExecution(true, SQLException.class));
+      assertTrue(target.isHeldByCurrentThread());
+      target.endExecution(true);
+    }).get(10, TimeUnit.SECONDS);
+
+    target.endExecution(false);
+
+    // The connection has been released by the owner thread, so another thread can use it.
+    CompletableFuture.runAsync(() -> {
+      assertDoesNotThrow(() -> target.beginExecution(false, SQLException.class));
+      target.endExecution(false);
+    }).get(10, TimeUnit.SECONDS);
+  }
 }
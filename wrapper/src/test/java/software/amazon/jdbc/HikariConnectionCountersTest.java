@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import org.junit.jupiter.api.Test;
+
+class HikariConnectionCountersTest {
+
+  private static final String URL = "reader.XYZ.us-east-1.rds.amazonaws.com:5432/";
+
+  private final HikariConnectionCounters counters = new HikariConnectionCounters();
+
+  @Test
+  void testCountsBorrowedConnections() {
+    final HikariConfig config = new HikariConfig();
+    assertTrue(counters.track(URL, config));
+    final IMetricsTracker tracker = config.getMetricsTrackerFactory().create("pool", null);
+
+    tracker.recordConnectionAcquiredNanos(0);
+    tracker.recordConnectionAcquiredNanos(0);
+    assertEquals(2, counters.getActiveConnections(URL));
+
+    tracker.recordConnectionUsageMillis(0);
+    assertEquals(1, counters.getActiveConnections(URL));
+
+    // Returns without a matching borrow don't make the counter negative.
+    tracker.recordConnectionUsageMillis(0);
+    tracker.recordConnectionUsageMillis(0);
+    assertEquals(0, counters.getActiveConnections(URL));
+    assertEquals(0, counters.getActiveConnections("other"));
+  }
+
+  @Test
+  void testClosedPoolIsNoLongerCounted() {
+    final HikariConfig config1 = new HikariConfig();
+    final HikariConfig config2 = new HikariConfig();
+    counters.track(URL, config1);
+    counters.track(URL, config2);
+    final IMetricsTracker tracker1 = config1.getMetricsTrackerFactory().create("pool1", null);
+    final IMetricsTracker tracker2 = config2.getMetricsTrackerFactory().create("pool2", null);
+
+    tracker1.recordConnectionAcquiredNanos(0);
+    tracker1.recordConnectionAcquiredNanos(0);
+    tracker2.recordConnectionAcquiredNanos(0);
+    assertEquals(3, counters.getActiveConnections(URL));
+
+    tracker1.close();
+    assertEquals(1, counters.getActiveConnections(URL));
+    tracker1.recordConnectionUsageMillis(0);
+    assertEquals(1, counters.getActiveConnections(URL));
+  }
+
+  @Test
+  void testForwardsMetricsToConfiguredTracker() {
+    final IMetricsTracker delegate = mock(IMetricsTracker.class);
+    final MetricsTrackerFactory delegateFactory = (poolName, poolStats) -> delegate;
+    final HikariConfig config = new HikariConfig();
+    config.setMetricsTrackerFactory(delegateFactory);
+    counters.track(URL, config);
+    final IMetricsTracker tracker = config.getMetricsTrackerFactory().create("pool", null);
+
+    tracker.recordConnectionAcquiredNanos(5);
+    tracker.recordConnectionUsageMillis(7);
+    tracker.recordConnectionTimeout();
+    tracker.close();
+
+    verify(delegate).recordConnectionAcquiredNanos(5);
+    verify(delegate).recordConnectionUsageMillis(7);
+    verify(delegate).recordConnectionTimeout();
+    verify(delegate).close();
+  }
+
+  @Test
+  void testSharedConfigurationIsCountedOnce() {
+    final HikariConfig config = new HikariConfig();
+    counters.track(URL, config);
+    // The pool configurator returns the same configuration for another pool.
+    counters.track(URL, config);
+    config.getMetricsTrackerFactory().create("pool", null).recordConnectionAcquiredNanos(0);
+    assertEquals(1, counters.getActiveConnections(URL));
+  }
+
+  @Test
+  void testReadsPoolsWithMetricRegistry() {
+    final HikariConfig config = mock(HikariConfig.class);
+    when(config.getMetricRegistry()).thenReturn(new Object());
+    assertFalse(counters.track(URL, config));
+    verify(config, never()).setMetricsTrackerFactory(any());
+
+    final HikariDataSource dataSource = mock(HikariDataSource.class);
+    final HikariPoolMXBean poolMXBean = mock(HikariPoolMXBean.class);
+    when(dataSource.getHikariPoolMXBean()).thenReturn(poolMXBean);
+    when(poolMXBean.getActiveConnections()).thenReturn(3);
+    counters.addUntrackedPool(URL, dataSource);
+    assertEquals(3, counters.getActiveConnections(URL));
+
+    when(dataSource.isClosed()).thenReturn(true);
+    assertEquals(0, counters.getActiveConnections(URL));
+  }
+}
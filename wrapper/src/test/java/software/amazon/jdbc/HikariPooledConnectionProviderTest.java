@@ -24,16 +24,20 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -51,6 +55,7 @@ import software.amazon.jdbc.targetdriverdialect.ConnectInfo;
 import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
 import software.amazon.jdbc.util.Pair;
 import software.amazon.jdbc.util.SlidingExpirationCache;
+import software.amazon.jdbc.util.SlidingExpirationCache.EvictionPolicy;
 
 class HikariPooledConnectionProviderTest {
   @Mock Connection mockConnection;
@@ -134,7 +139,7 @@ class HikariPooledConnectionProviderTest {
 
     provider = spy(new HikariPooledConnectionProvider((hostSpec, properties) -> mockConfig));
 
-    doReturn(mockDataSource).when(provider).createHikariDataSource(any(), any(), any(), any());
+    doReturn(mockDataSource).when(provider).createHikariDataSource(any(), any(), any(), any(), any());
     doReturn(new ConnectInfo("url", new Properties()))
         .when(mockTargetDriverDialect).prepareConnectInfo(anyString(), any(), any());
 
@@ -161,7 +166,7 @@ class HikariPooledConnectionProviderTest {
         (hostSpec, properties) -> mockConfig,
         (hostSpec, properties) -> hostSpec.getUrl() + "+someUniqueKey"));
 
-    doReturn(mockDataSource).when(provider).createHikariDataSource(any(), any(), any(), any());
+    doReturn(mockDataSource).when(provider).createHikariDataSource(any(), any(), any(), any(), any());
 
     Properties props = new Properties();
     props.setProperty(PropertyDefinition.USER.name, user1);
@@ -208,6 +213,57 @@ class HikariPooledConnectionProviderTest {
     assertEquals(readerUrl1Connection, selectedHost.getHost());
   }
 
+  @Test
+  public void testLeastConnectionsStrategyReadsConnectionCounters() throws SQLException {
+    provider = new HikariPooledConnectionProvider((hostSpec, properties) -> mockConfig);
+    final HikariConfig config = new HikariConfig();
+    HikariPoolsHolder.connectionCounters.track(readerHost1Connection.getUrl(), config);
+    final IMetricsTracker tracker = config.getMetricsTrackerFactory().create("pool", null);
+    tracker.recordConnectionAcquiredNanos(0);
+    tracker.recordConnectionAcquiredNanos(0);
+
+    HostSpec selectedHost = provider.getHostSpecByStrategy(testHosts, HostRole.READER, LEAST_CONNECTIONS, defaultProps);
+    assertEquals(readerUrl2Connection, selectedHost.getHost());
+    selectedHost = provider.getHostSpecByStrategy(
+        testHosts, HostRole.READER, LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS_TWO_CHOICES, defaultProps);
+    assertEquals(readerUrl2Connection, selectedHost.getHost());
+
+    tracker.recordConnectionUsageMillis(0);
+    tracker.recordConnectionUsageMillis(0);
+    selectedHost = provider.getHostSpecByStrategy(testHosts, HostRole.READER, LEAST_CONNECTIONS, defaultProps);
+    assertEquals(readerUrl1Connection, selectedHost.getHost());
+  }
+
+  @Test
+  public void testLeastConnectionsTwoChoicesStrategy() throws SQLException {
+    provider = new HikariPooledConnectionProvider((hostSpec, properties) -> mockConfig);
+    final List<HostSpec> hosts = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      hosts.add(new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+          .host("reader" + i + ".XYZ.us-east-1.rds.amazonaws.com").port(port).role(HostRole.READER).build());
+    }
+    // The first reader has two connections and the second one has one connection.
+    for (int i = 0; i < 2; i++) {
+      final HikariConfig config = new HikariConfig();
+      HikariPoolsHolder.connectionCounters.track(hosts.get(i).getUrl(), config);
+      final IMetricsTracker tracker = config.getMetricsTrackerFactory().create("pool" + i, null);
+      for (int j = i; j < 2; j++) {
+        tracker.recordConnectionAcquiredNanos(0);
+      }
+    }
+
+    final Set<String> selectedHosts = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      selectedHosts.add(provider.getHostSpecByStrategy(
+          hosts, HostRole.READER, LeastConnectionsHostSelector.STRATEGY_LEAST_CONNECTIONS_TWO_CHOICES, defaultProps)
+          .getHost());
+    }
+    // The most loaded reader loses against any other reader.
+    assertFalse(selectedHosts.contains(hosts.get(0).getHost()));
+    assertTrue(selectedHosts.contains(hosts.get(1).getHost()));
+    assertTrue(selectedHosts.contains(hosts.get(2).getHost()));
+  }
+
   private SlidingExpirationCache<Pair, AutoCloseable> getTestPoolMap() {
     SlidingExpirationCache<Pair, AutoCloseable> map = new SlidingExpirationCache<>();
     map.computeIfAbsent(Pair.create(readerHost2Connection.getUrl(), user1),
@@ -219,6 +275,77 @@ class HikariPooledConnectionProviderTest {
     return map;
   }
 
+  @Test
+  public void testEvictIdlePoolsWhenMaxPoolsExceeded() throws SQLException {
+    provider = spy(new HikariPooledConnectionProvider(
+        (hostSpec, properties) -> mockConfig,
+        null,
+        null,
+        TimeUnit.MINUTES.toNanos(30),
+        TimeUnit.MINUTES.toNanos(10),
+        2,
+        0,
+        EvictionPolicy.LEAST_RECENTLY_USED));
+    final SlidingExpirationCache<Pair, AutoCloseable> pools = new SlidingExpirationCache<>(
+        (pool) -> ((HikariDataSource) pool).getHikariPoolMXBean().getActiveConnections() == 0,
+        (pool) -> ((HikariDataSource) pool).close());
+    pools.computeIfAbsent(Pair.create(writerHostNoConnections.getUrl(), user1),
+        (key) -> dsWithNoConnections, TimeUnit.MINUTES.toNanos(10));
+    pools.computeIfAbsent(Pair.create(readerHost1Connection.getUrl(), user1),
+        (key) -> dsWith1Connection, TimeUnit.MINUTES.toNanos(10));
+    provider.setDatabasePools(pools);
+
+    doReturn(mockDataSource).when(provider).createHikariDataSource(any(), any(), any(), any(), any());
+    when(mockDataSource.getHikariPoolMXBean()).thenReturn(mxBeanWith1Connection);
+
+    try (Connection conn = provider.connect(
+        protocol, mockDialect, mockTargetDriverDialect, readerHost2Connection, defaultProps)) {
+      assertEquals(mockConnection, conn);
+      assertEquals(2, provider.getHostCount());
+      assertEquals(
+          new HashSet<>(Arrays.asList(readerHost1Connection.getUrl(), readerHost2Connection.getUrl())),
+          provider.getHosts());
+      verify(dsWithNoConnections, timeout(5000)).close();
+      verify(dsWith1Connection, never()).close();
+    }
+  }
+
+  @Test
+  public void testEvictIdlePoolsWhenMaxTotalConnectionsExceeded() throws SQLException {
+    provider = spy(new HikariPooledConnectionProvider(
+        (hostSpec, properties) -> mockConfig,
+        null,
+        null,
+        TimeUnit.MINUTES.toNanos(30),
+        TimeUnit.MINUTES.toNanos(10),
+        0,
+        6,
+        EvictionPolicy.LEAST_RECENTLY_USED));
+    final SlidingExpirationCache<Pair, AutoCloseable> pools = new SlidingExpirationCache<>(
+        (pool) -> ((HikariDataSource) pool).getHikariPoolMXBean().getActiveConnections() == 0,
+        (pool) -> ((HikariDataSource) pool).close());
+    pools.computeIfAbsent(Pair.create(writerHostNoConnections.getUrl(), user1),
+        (key) -> dsWithNoConnections, TimeUnit.MINUTES.toNanos(10));
+    pools.computeIfAbsent(Pair.create(readerHost1Connection.getUrl(), user1),
+        (key) -> dsWith1Connection, TimeUnit.MINUTES.toNanos(10));
+    provider.setDatabasePools(pools);
+    when(mxBeanWithNoConnections.getTotalConnections()).thenReturn(4);
+    when(mxBeanWith1Connection.getTotalConnections()).thenReturn(2);
+    assertEquals(6, HikariPooledConnectionProvider.getTotalConnectionCount());
+
+    doReturn(mockDataSource).when(provider).createHikariDataSource(any(), any(), any(), any(), any());
+    when(mockDataSource.getHikariPoolMXBean()).thenReturn(mxBeanWith2Connections);
+    when(mxBeanWith2Connections.getTotalConnections()).thenReturn(2);
+
+    try (Connection conn = provider.connect(
+        protocol, mockDialect, mockTargetDriverDialect, readerHost2Connection, defaultProps)) {
+      assertEquals(mockConnection, conn);
+      assertEquals(2, provider.getHostCount());
+      assertEquals(4, HikariPooledConnectionProvider.getTotalConnectionCount());
+      verify(dsWithNoConnections, timeout(5000)).close();
+    }
+  }
+
   @Test
   public void testConfigurePool() throws SQLException {
     provider = new HikariPooledConnectionProvider((hostSpec, properties) -> mockConfig);
@@ -238,7 +365,12 @@ class HikariPooledConnectionProviderTest {
     provider = spy(new HikariPooledConnectionProvider((hostSpec, properties) -> mockConfig));
 
     doReturn(mockDataSource).when(provider)
-        .createHikariDataSource(eq(protocol), eq(readerHost1Connection), eq(defaultProps), eq(mockTargetDriverDialect));
+        .createHikariDataSource(
+            eq(protocol),
+            eq(readerHost1Connection),
+            eq(defaultProps),
+            eq(mockTargetDriverDialect),
+            eq(readerHost1Connection.getUrl()));
     when(mockDataSource.getConnection()).thenThrow(SQLException.class);
 
     assertThrows(SQLException.class,
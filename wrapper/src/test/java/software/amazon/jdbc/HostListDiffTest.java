@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+class HostListDiffTest {
+
+  @Test
+  void testAddedDeletedAndChangedHosts() {
+    final List<HostSpec> oldHosts = Arrays.asList(
+        createHost("writer", "instance-1", HostRole.WRITER, HostAvailability.AVAILABLE),
+        createHost("reader", "instance-2", HostRole.READER, HostAvailability.AVAILABLE),
+        createHost("deleted", "instance-3", HostRole.READER, HostAvailability.AVAILABLE),
+        createHost("unchanged", "instance-4", HostRole.READER, HostAvailability.AVAILABLE));
+    final List<HostSpec> newHosts = Arrays.asList(
+        createHost("reader", "instance-2", HostRole.WRITER, HostAvailability.AVAILABLE),
+        createHost("writer", "instance-1", HostRole.READER, HostAvailability.NOT_AVAILABLE),
+        createHost("unchanged", "instance-4", HostRole.READER, HostAvailability.AVAILABLE),
+        createHost("added", "instance-5", HostRole.READER, HostAvailability.AVAILABLE));
+
+    final Map<String, EnumSet<NodeChangeOptions>> expectedChanges = new HashMap<>();
+    expectedChanges.put("instance-1/", EnumSet.of(
+        NodeChangeOptions.PROMOTED_TO_READER, NodeChangeOptions.WENT_DOWN, NodeChangeOptions.NODE_CHANGED));
+    expectedChanges.put("instance-2/", EnumSet.of(
+        NodeChangeOptions.PROMOTED_TO_WRITER, NodeChangeOptions.NODE_CHANGED));
+    expectedChanges.put("instance-3/", EnumSet.of(NodeChangeOptions.NODE_DELETED));
+    expectedChanges.put("instance-5/", EnumSet.of(NodeChangeOptions.NODE_ADDED));
+    assertEquals(expectedChanges, compute(oldHosts, newHosts));
+  }
+
+  @Test
+  void testHostsAreMatchedByHostId() {
+    final List<HostSpec> oldHosts = Collections.singletonList(
+        createHost("instance", "old-endpoint", HostRole.READER, HostAvailability.AVAILABLE));
+    final List<HostSpec> newHosts = Collections.singletonList(
+        createHost("instance", "new-endpoint", HostRole.READER, HostAvailability.AVAILABLE));
+
+    assertEquals(
+        Collections.singletonMap(
+            "old-endpoint/", EnumSet.of(NodeChangeOptions.HOSTNAME, NodeChangeOptions.NODE_CHANGED)),
+        compute(oldHosts, newHosts));
+  }
+
+  @Test
+  void testHostsWithoutHostIdAreMatchedByUrl() {
+    final List<HostSpec> oldHosts = Arrays.asList(
+        createHost(null, "instance-1", HostRole.WRITER, HostAvailability.AVAILABLE),
+        createHost(null, "instance-2", HostRole.READER, HostAvailability.AVAILABLE));
+    // A host ID is now reported for the first host.
+    final List<HostSpec> newHosts = Arrays.asList(
+        createHost("instance-1", "instance-1", HostRole.WRITER, HostAvailability.AVAILABLE),
+        createHost(null, "instance-2", HostRole.READER, HostAvailability.NOT_AVAILABLE));
+
+    assertEquals(
+        Collections.singletonMap(
+            "instance-2/", EnumSet.of(NodeChangeOptions.WENT_DOWN, NodeChangeOptions.NODE_CHANGED)),
+        compute(oldHosts, newHosts));
+  }
+
+  @Test
+  void testDuplicateAndMissingHostLists() {
+    final HostSpec host = createHost("instance", "instance", HostRole.READER, HostAvailability.AVAILABLE);
+
+    assertTrue(compute(Arrays.asList(host, host), Collections.singletonList(host)).isEmpty());
+    assertEquals(
+        Collections.singletonMap("instance/", EnumSet.of(NodeChangeOptions.NODE_ADDED)),
+        compute(null, Arrays.asList(host, host)));
+    assertEquals(
+        Collections.singletonMap("instance/", EnumSet.of(NodeChangeOptions.NODE_DELETED)),
+        compute(Collections.singletonList(host), null));
+  }
+
+  private static Map<String, EnumSet<NodeChangeOptions>> compute(
+      final List<HostSpec> oldHosts, final List<HostSpec> newHosts) {
+    return HostListDiff.compute(oldHosts, newHosts, HostListDiffTest::compare);
+  }
+
+  // The comparison of PluginServiceImpl, for the host name, role and availability.
+  private static EnumSet<NodeChangeOptions> compare(final HostSpec hostSpecA, final HostSpec hostSpecB) {
+    final EnumSet<NodeChangeOptions> changes = EnumSet.noneOf(NodeChangeOptions.class);
+    if (!hostSpecA.getHost().equals(hostSpecB.getHost())) {
+      changes.add(NodeChangeOptions.HOSTNAME);
+    }
+    if (hostSpecA.getRole() != hostSpecB.getRole()) {
+      changes.add(hostSpecB.getRole() == HostRole.WRITER
+          ? NodeChangeOptions.PROMOTED_TO_WRITER
+          : NodeChangeOptions.PROMOTED_TO_READER);
+    }
+    if (hostSpecA.getAvailability() != hostSpecB.getAvailability()) {
+      changes.add(hostSpecB.getAvailability() == HostAvailability.AVAILABLE
+          ? NodeChangeOptions.WENT_UP
+          : NodeChangeOptions.WENT_DOWN);
+    }
+    if (!changes.isEmpty()) {
+      changes.add(NodeChangeOptions.NODE_CHANGED);
+    }
+    return changes;
+  }
+
+  private static HostSpec createHost(
+      final String hostId, final String host, final HostRole role, final HostAvailability availability) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host(host)
+        .hostId(hostId)
+        .role(role)
+        .availability(availability)
+        .build();
+  }
+}
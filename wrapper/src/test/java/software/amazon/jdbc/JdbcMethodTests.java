@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.util.AsynchronousMethodsHelper;
+import software.amazon.jdbc.util.SqlMethodAnalyzer;
+import software.amazon.jdbc.util.SubscribedMethodHelper;
+
+public class JdbcMethodTests {
+
+  @Test
+  public void testFromMethodName() {
+    assertSame(JdbcMethod.RESULT_SET_GET_INT, JdbcMethod.fromMethodName("ResultSet.getInt"));
+    assertSame(JdbcMethod.CONNECTION_CREATE_STATEMENT, JdbcMethod.fromMethodName("Connection.createStatement"));
+    assertNull(JdbcMethod.fromMethodName("ResultSet.unknownMethod"));
+    assertNull(JdbcMethod.fromMethodName("connect"));
+    assertNull(JdbcMethod.fromMethodName(null));
+
+    for (final JdbcMethod jdbcMethod : JdbcMethod.values()) {
+      assertSame(jdbcMethod, JdbcMethod.fromMethodName(jdbcMethod.methodName));
+    }
+  }
+
+  @Test
+  public void testFlagsMatchMethodHelpers() {
+    final SqlMethodAnalyzer sqlMethodAnalyzer = new SqlMethodAnalyzer();
+
+    for (final JdbcMethod jdbcMethod : JdbcMethod.values()) {
+      assertEquals(
+          AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(jdbcMethod.methodName),
+          jdbcMethod.isAsynchronous,
+          jdbcMethod.methodName);
+      assertEquals(
+          sqlMethodAnalyzer.isMethodClosingSqlObject(jdbcMethod.methodName),
+          jdbcMethod.isClosing,
+          jdbcMethod.methodName);
+      assertEquals(
+          SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(jdbcMethod.methodName),
+          jdbcMethod.isNetworkBound,
+          jdbcMethod.methodName);
+    }
+  }
+
+  @Test
+  public void testTransactionAffectingFlag() {
+    assertTrue(JdbcMethod.CONNECTION_COMMIT.isTransactionAffecting);
+    assertTrue(JdbcMethod.CONNECTION_ROLLBACK.isTransactionAffecting);
+    assertTrue(JdbcMethod.CONNECTION_SET_AUTO_COMMIT.isTransactionAffecting);
+    assertTrue(JdbcMethod.STATEMENT_EXECUTE_QUERY.isTransactionAffecting);
+    assertTrue(JdbcMethod.PREPARED_STATEMENT_EXECUTE_UPDATE.isTransactionAffecting);
+    assertFalse(JdbcMethod.RESULT_SET_GET_INT.isTransactionAffecting);
+    assertFalse(JdbcMethod.STATEMENT_CLOSE.isTransactionAffecting);
+  }
+}
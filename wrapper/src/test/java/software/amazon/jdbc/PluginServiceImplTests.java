@@ -20,13 +20,16 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,6 +65,7 @@ import software.amazon.jdbc.dialect.MysqlDialect;
 import software.amazon.jdbc.exceptions.ExceptionManager;
 import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.profile.ConfigurationProfile;
 import software.amazon.jdbc.profile.ConfigurationProfileBuilder;
 import software.amazon.jdbc.states.SessionStateService;
@@ -78,6 +82,7 @@ public class PluginServiceImplTests {
   @Mock Connection newConnection;
   @Mock Connection oldConnection;
   @Mock HostListProvider hostListProvider;
+  @Mock VersionedHostListProvider versionedHostListProvider;
   @Mock DialectManager dialectManager;
   @Mock TargetDriverDialect mockTargetDriverDialect;
   @Mock Statement statement;
@@ -405,6 +410,115 @@ public class PluginServiceImplTests {
     assertTrue(hostAChanges.contains(NodeChangeOptions.NODE_ADDED));
   }
 
+  @Test
+  public void testRefreshHostListFromTopologySnapshot() throws SQLException {
+    final HostSpec hostA = new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostA").build();
+    final HostSpec hostB = new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostB").build();
+    when(versionedHostListProvider.getTopologySnapshot())
+        .thenReturn(new TopologySnapshot("cluster", 1, Collections.singletonList(hostA)))
+        .thenReturn(new TopologySnapshot("cluster", 1, Collections.singletonList(hostA)))
+        .thenReturn(new TopologySnapshot("cluster", 2, Arrays.asList(hostA, hostB)));
+
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            PROPERTIES,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    target.allHosts = new ArrayList<>();
+    target.hostListProvider = versionedHostListProvider;
+
+    target.refreshHostList();
+    assertEquals(1, target.getAllHosts().size());
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+
+    // Same version: the host list isn't compared nor updated.
+    target.refreshHostList();
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+
+    target.refreshHostList();
+    assertEquals(2, target.getAllHosts().size());
+    verify(pluginManager, times(2)).notifyNodeListChanged(any());
+    verify(versionedHostListProvider, never()).refresh();
+  }
+
+  @Test
+  public void testRefreshHostListWithoutTopologySnapshot() throws SQLException {
+    when(versionedHostListProvider.getTopologySnapshot()).thenReturn(null);
+    when(versionedHostListProvider.refresh()).thenReturn(Collections.singletonList(
+        new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostA").build()));
+
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            PROPERTIES,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    target.allHosts = new ArrayList<>();
+    target.hostListProvider = versionedHostListProvider;
+
+    target.refreshHostList();
+
+    assertEquals(1, target.getAllHosts().size());
+    verify(versionedHostListProvider, times(1)).refresh();
+  }
+
+  @Test
+  public void testRefreshHostListWithAsyncNotification() throws SQLException {
+    final HostSpec hostA = new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostA").build();
+    final HostSpec hostB = new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostB").build();
+    when(versionedHostListProvider.getTopologySnapshot())
+        .thenReturn(new TopologySnapshot("cluster", 1, Arrays.asList(hostA, hostB)));
+    doNothing().when(pluginManager).notifyNodeListChanged(argumentChangesMap.capture());
+    final Properties props = new Properties();
+    PropertyDefinition.ASYNC_NODE_LIST_CHANGE_NOTIFICATION.set(props, "true");
+
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            props,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    target.allHosts = Collections.singletonList(hostA);
+    target.hostListProvider = versionedHostListProvider;
+
+    target.refreshHostList();
+
+    // The host list is updated right away, and the changes are computed on a background thread.
+    assertEquals(2, target.getAllHosts().size());
+    verify(pluginManager, never()).notifyNodeListChanged(any());
+    final ArgumentCaptor<Runnable> notifier = ArgumentCaptor.forClass(Runnable.class);
+    verify(pluginManager, timeout(5000)).notifyNodeListChangedOnNextCall(notifier.capture());
+    verify(pluginManager, never()).notifyNodeListChanged(any());
+
+    // The plugins are notified on the connection's own thread, when its next call runs the notifier.
+    notifier.getValue().run();
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+    assertEquals(
+        Collections.singletonMap("hostB/", EnumSet.of(NodeChangeOptions.NODE_ADDED)),
+        argumentChangesMap.getValue());
+
+    // The changes are only notified once, even if the host list is refreshed before the next call.
+    target.refreshHostList();
+    notifier.getValue().run();
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+  }
+
   @Test
   public void testSetNodeListDeleted() throws SQLException {
     doNothing().when(pluginManager).notifyNodeListChanged(argumentChangesMap.capture());
@@ -573,6 +687,76 @@ public class PluginServiceImplTests {
     assertTrue(hostAChanges.contains(NodeChangeOptions.WENT_DOWN));
   }
 
+  @Test
+  public void testHostsSnapshotIsRebuiltWhenHostsChange() throws SQLException {
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            PROPERTIES,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    final HostSpec hostA = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("hostA").hostId("hostA").role(HostRole.READER).build();
+    final HostSpec hostB = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("hostB").hostId("hostB").role(HostRole.READER).build();
+    target.allHosts = Arrays.asList(hostA, hostB);
+
+    final TopologySnapshot snapshot = target.getHostsSnapshot();
+    assertEquals(Arrays.asList(hostA, hostB), snapshot.getAvailableReaders());
+    assertSame(snapshot, target.getHostsSnapshot());
+
+    target.setAvailability(Collections.singleton("hostA"), HostAvailability.NOT_AVAILABLE);
+    final TopologySnapshot snapshotAfterHostWentDown = target.getHostsSnapshot();
+    assertNotSame(snapshot, snapshotAfterHostWentDown);
+    assertEquals(Collections.singletonList(hostB), snapshotAfterHostWentDown.getAvailableReaders());
+
+    target.setAllowedAndBlockedHosts(new AllowedAndBlockedHosts(null, Collections.singleton("hostB")));
+    final TopologySnapshot snapshotAfterHostBlocked = target.getHostsSnapshot();
+    assertEquals(Collections.singletonList(hostA), snapshotAfterHostBlocked.getHosts());
+    assertTrue(snapshotAfterHostBlocked.getAvailableReaders().isEmpty());
+
+    target.allHosts = Collections.singletonList(hostB);
+    assertTrue(target.getHostsSnapshot().getHosts().isEmpty());
+  }
+
+  @Test
+  public void testHostsSnapshotIsRebuiltWhenSharedHostChanges() throws SQLException {
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            PROPERTIES,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    final HostSpec hostA = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("hostA").hostId("hostA").role(HostRole.READER).build();
+    final HostSpec hostB = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("hostB").hostId("hostB").role(HostRole.READER).build();
+    target.allHosts = Arrays.asList(hostA, hostB);
+
+    final TopologySnapshot snapshot = target.getHostsSnapshot();
+    assertEquals(Arrays.asList(hostA, hostB), snapshot.getAvailableReaders());
+
+    // A monitor marks the host down directly, without going through the plugin service.
+    hostA.setAvailability(HostAvailability.NOT_AVAILABLE);
+    final TopologySnapshot snapshotAfterHostWentDown = target.getHostsSnapshot();
+    assertNotSame(snapshot, snapshotAfterHostWentDown);
+    assertEquals(Collections.singletonList(hostB), snapshotAfterHostWentDown.getAvailableReaders());
+    assertSame(snapshotAfterHostWentDown, target.getHostsSnapshot());
+
+    hostA.setAvailability(HostAvailability.AVAILABLE);
+    assertEquals(Arrays.asList(hostA, hostB), target.getHostsSnapshot().getAvailableReaders());
+  }
+
   @Test
   public void testNodeAvailabilityChanged_WentUp() throws SQLException {
     doNothing().when(pluginManager).notifyNodeListChanged(argumentChangesMap.capture());
@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
+
+class WeightedRandomHostSelectorTest {
+
+  private static final int SELECTIONS = 10_000;
+
+  private final HostSpec writer = createHost("instance-0", HostRole.WRITER, HostAvailability.AVAILABLE, 10);
+  private final HostSpec readerA = createHost("instance-a", HostRole.READER, HostAvailability.AVAILABLE, 1);
+  private final HostSpec readerB = createHost("instance-b", HostRole.READER, HostAvailability.AVAILABLE, 3);
+  private final HostSpec readerC = createHost("instance-c", HostRole.READER, HostAvailability.AVAILABLE, 0);
+  private final HostSpec readerD = createHost("instance-d", HostRole.READER, HostAvailability.NOT_AVAILABLE, 10);
+  private final List<HostSpec> hosts = Arrays.asList(writer, readerA, readerB, readerC, readerD);
+
+  private final WeightedRandomHostSelector selector = new WeightedRandomHostSelector();
+
+  @Test
+  void testSelectFromHostList() throws SQLException {
+    final Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < SELECTIONS; i++) {
+      counts.merge(selector.getHost(hosts, HostRole.READER, new Properties()).getHostId(), 1, Integer::sum);
+    }
+    assertSelectedByWeight(counts);
+  }
+
+  @Test
+  void testSelectFromSnapshot() throws SQLException {
+    final TopologySnapshot topology = new TopologySnapshot("cluster", 1, hosts);
+    final Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < SELECTIONS; i++) {
+      counts.merge(selector.getHost(topology, HostRole.READER, new Properties()).getHostId(), 1, Integer::sum);
+    }
+    assertSelectedByWeight(counts);
+    assertEquals(writer, selector.getHost(topology, HostRole.WRITER, new Properties()));
+  }
+
+  @Test
+  void testNoEligibleHosts() {
+    final List<HostSpec> unavailableHosts = Arrays.asList(writer, readerD);
+    assertThrows(SQLException.class, () -> selector.getHost(unavailableHosts, HostRole.READER, new Properties()));
+    assertThrows(SQLException.class,
+        () -> selector.getHost(new TopologySnapshot("cluster", 1, unavailableHosts), HostRole.READER, null));
+  }
+
+  private static void assertSelectedByWeight(final Map<String, Integer> counts) {
+    // The writer, the unavailable reader and the reader without weight are never selected.
+    assertEquals(2, counts.size());
+    final double readerAShare = (double) counts.get("instance-a") / SELECTIONS;
+    assertTrue(readerAShare > 0.2 && readerAShare < 0.3, "instance-a share: " + readerAShare);
+  }
+
+  private static HostSpec createHost(
+      final String hostId, final HostRole role, final HostAvailability availability, final long weight) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host(hostId + ".xyz.us-east-2.rds.amazonaws.com")
+        .hostId(hostId)
+        .port(5432)
+        .role(role)
+        .availability(availability)
+        .weight(weight)
+        .build();
+  }
+}
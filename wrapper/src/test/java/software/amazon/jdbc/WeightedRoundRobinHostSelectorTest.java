@@ -0,0 +1,198 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
+
+class WeightedRoundRobinHostSelectorTest {
+
+  private final HostSpec writer = createHost("instance-0", HostRole.WRITER, HostAvailability.AVAILABLE);
+  private final HostSpec readerA = createHost("instance-a", HostRole.READER, HostAvailability.AVAILABLE);
+  private final HostSpec readerB = createHost("instance-b", HostRole.READER, HostAvailability.AVAILABLE);
+  private final HostSpec readerC = createHost("instance-c", HostRole.READER, HostAvailability.AVAILABLE);
+  private final HostSpec readerD = createHost("instance-d", HostRole.READER, HostAvailability.NOT_AVAILABLE);
+  private final List<HostSpec> hosts = Arrays.asList(writer, readerC, readerB, readerD, readerA);
+
+  private final WeightedRoundRobinHostSelector selector = new WeightedRoundRobinHostSelector();
+
+  @AfterEach
+  void cleanUp() {
+    WeightedRoundRobinHostSelector.clearCache();
+  }
+
+  @Test
+  void testSmoothCycle() {
+    assertArrayEquals(new int[] {0, 0, 1, 0, 2, 0, 0}, WeightedRoundRobinHostSelector.getCycle(new int[] {5, 1, 1}));
+    // Weights are reduced by their greatest common divisor.
+    assertArrayEquals(new int[] {2, 1, 0, 2, 1, 2}, WeightedRoundRobinHostSelector.getCycle(new int[] {2, 4, 6}));
+    assertTrue(WeightedRoundRobinHostSelector.getCycle(new int[] {1_000_000, 1, 3}).length
+        <= WeightedRoundRobinHostSelector.MAX_CYCLE_LENGTH + 2);
+  }
+
+  @Test
+  void testSelectWithoutWeights() throws SQLException {
+    final Properties props = new Properties();
+    final List<HostSpec> selected = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      selected.add(selector.getHost(hosts, HostRole.READER, props));
+    }
+    assertEquals(Arrays.asList(readerA, readerB, readerC, readerA), selected);
+    assertEquals(writer, selector.getHost(hosts, HostRole.WRITER, props));
+  }
+
+  @Test
+  void testSelectWithWeights() throws SQLException {
+    final Properties props = new Properties();
+    props.setProperty(RoundRobinHostSelector.ROUND_ROBIN_HOST_WEIGHT_PAIRS.name, "instance-a:5,instance-c:1");
+    props.setProperty(RoundRobinHostSelector.ROUND_ROBIN_DEFAULT_WEIGHT.name, "1");
+    final TopologySnapshot topology = new TopologySnapshot(null, 1, hosts);
+
+    final List<HostSpec> selected = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      selected.add(selector.getHost(topology, HostRole.READER, props));
+    }
+    assertEquals(Arrays.asList(readerA, readerA, readerB, readerA, readerC, readerA, readerA), selected);
+  }
+
+  @Test
+  void testNewSnapshotWithSameHostsKeepsPosition() throws SQLException {
+    final Properties props = new Properties();
+    assertEquals(readerA, selector.getHost(new TopologySnapshot(null, 1, hosts), HostRole.READER, props));
+    assertEquals(readerB, selector.getHost(new TopologySnapshot(null, 2, hosts), HostRole.READER, props));
+    assertEquals(readerC, selector.getHost(hosts, HostRole.READER, props));
+  }
+
+  @Test
+  void testSnapshotsOfSameTopologyShareState() throws SQLException {
+    final Properties props = new Properties();
+    // Each connection has its own snapshot of the topology.
+    final TopologySnapshot topology1 = new TopologySnapshot(null, 1, hosts);
+    final TopologySnapshot topology2 = new TopologySnapshot(null, 1, hosts);
+
+    assertEquals(readerA, selector.getHost(topology1, HostRole.READER, props));
+    assertEquals(readerB, selector.getHost(topology2, HostRole.READER, props));
+    assertEquals(readerC, selector.getHost(topology1, HostRole.READER, props));
+    assertEquals(1, WeightedRoundRobinHostSelector.clusterStates.size());
+    final Object state = WeightedRoundRobinHostSelector.clusterStates.values().iterator().next();
+    assertSame(state, topology1.getSelectorState("weightedRoundRobin.READER"));
+    assertSame(state, topology2.getSelectorState("weightedRoundRobin.READER"));
+
+    // A connection that sees fewer available hosts with the same topology version doesn't replace the state.
+    final TopologySnapshot topology3 = new TopologySnapshot(null, 1, Arrays.asList(writer, readerA, readerC));
+    selector.getHost(topology3, HostRole.READER, props);
+    assertSame(state, WeightedRoundRobinHostSelector.clusterStates.values().iterator().next());
+  }
+
+  @Test
+  void testUnusedStatesArePruned() throws SQLException {
+    final Properties props = new Properties();
+    selector.getHost(new TopologySnapshot("cluster-1", 1, hosts), HostRole.READER, props);
+    WeightedRoundRobinHostSelector.clusterStates.values().forEach(state ->
+        state.lastUsedTimeNano = System.nanoTime() - WeightedRoundRobinHostSelector.STATE_EXPIRATION_NANO - 1);
+
+    selector.getHost(new TopologySnapshot("cluster-2", 1, hosts), HostRole.READER, props);
+    assertEquals(1, WeightedRoundRobinHostSelector.clusterStates.size());
+    assertTrue(WeightedRoundRobinHostSelector.clusterStates.containsKey("cluster-2/READER"));
+  }
+
+  @Test
+  void testInvalidWeights() {
+    final Properties props = new Properties();
+    props.setProperty(RoundRobinHostSelector.ROUND_ROBIN_HOST_WEIGHT_PAIRS.name, "instance-a:0");
+    assertThrows(SQLException.class, () -> selector.getHost(hosts, HostRole.READER, props));
+
+    props.setProperty(RoundRobinHostSelector.ROUND_ROBIN_HOST_WEIGHT_PAIRS.name, "instance-a:1");
+    props.setProperty(RoundRobinHostSelector.ROUND_ROBIN_DEFAULT_WEIGHT.name, "invalid");
+    assertThrows(SQLException.class, () -> selector.getHost(hosts, HostRole.READER, props));
+  }
+
+  @Test
+  void testNoEligibleHosts() {
+    assertThrows(SQLException.class,
+        () -> selector.getHost(new TopologySnapshot(null, 1, hosts), HostRole.UNKNOWN, new Properties()));
+  }
+
+  @Test
+  void testConcurrentSelection() throws Exception {
+    final Properties props = new Properties();
+    props.setProperty(RoundRobinHostSelector.ROUND_ROBIN_HOST_WEIGHT_PAIRS.name, "instance-a:2,instance-b:1");
+    props.setProperty(RoundRobinHostSelector.ROUND_ROBIN_DEFAULT_WEIGHT.name, "1");
+    final TopologySnapshot topology = new TopologySnapshot(null, 1, hosts);
+    final int threads = 8;
+    final int cyclesPerThread = 1000;
+    final Map<HostSpec, AtomicInteger> selections = new ConcurrentHashMap<>();
+    // Builds the state of the cluster with a full cycle before selecting from many threads.
+    for (int i = 0; i < 4; i++) {
+      selector.getHost(topology, HostRole.READER, props);
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < cyclesPerThread * 4; i++) {
+            final HostSpec host = selector.getHost(topology, HostRole.READER, props);
+            selections.computeIfAbsent(host, k -> new AtomicInteger()).incrementAndGet();
+          }
+          return null;
+        }));
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Each selection takes its own step of the cycle, so the distribution is exact.
+    assertEquals(threads * cyclesPerThread * 2, selections.get(readerA).get());
+    assertEquals(threads * cyclesPerThread, selections.get(readerB).get());
+    assertEquals(threads * cyclesPerThread, selections.get(readerC).get());
+  }
+
+  private static HostSpec createHost(final String hostId, final HostRole role, final HostAvailability availability) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host(hostId + ".xyz.us-east-2.rds.amazonaws.com")
+        .hostId(hostId)
+        .port(5432)
+        .role(role)
+        .availability(availability)
+        .build();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+class TopologySnapshotTest {
+
+  private final HostSpec writer = createHost("writer", HostRole.WRITER, HostAvailability.AVAILABLE, 1);
+  private final HostSpec readerC = createHost("reader-c", HostRole.READER, HostAvailability.AVAILABLE, 3);
+  private final HostSpec readerA = createHost("reader-a", HostRole.READER, HostAvailability.AVAILABLE, 1);
+  private final HostSpec readerB = createHost("reader-b", HostRole.READER, HostAvailability.NOT_AVAILABLE, 10);
+  private final HostSpec readerD = createHost("reader-d", HostRole.READER, HostAvailability.AVAILABLE, 3);
+
+  private final TopologySnapshot snapshot = new TopologySnapshot(
+      "cluster", 1, Arrays.asList(writer, readerC, readerA, readerB, readerD));
+
+  @Test
+  void testRoleIndexes() {
+    assertSame(writer, snapshot.getWriter());
+    assertEquals(Arrays.asList(readerC, readerA, readerB, readerD), snapshot.getReaders());
+    assertEquals(Arrays.asList(readerC, readerA, readerD), snapshot.getAvailableReaders());
+    assertEquals(Arrays.asList(readerA, readerC, readerD), snapshot.getEligibleHostsSortedByHost(HostRole.READER));
+    assertEquals(Collections.singletonList(writer), snapshot.getEligibleHosts(HostRole.WRITER));
+    assertTrue(snapshot.getEligibleHosts(HostRole.UNKNOWN).isEmpty());
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.getEligibleHosts(HostRole.READER).clear());
+  }
+
+  @Test
+  void testHostIndexes() {
+    assertEquals(0, snapshot.getHostIndex("writer"));
+    assertEquals(3, snapshot.getHostIndex("reader-b"));
+    assertEquals(-1, snapshot.getHostIndex("unknown"));
+    assertSame(readerD, snapshot.getHostById("reader-d"));
+    assertNull(snapshot.getHostById("unknown"));
+  }
+
+  @Test
+  void testHighestWeightHost() {
+    // reader-b has the greatest weight but isn't available, reader-c wins the tie with reader-d.
+    assertSame(readerC, snapshot.getHighestWeightHost(HostRole.READER));
+    assertSame(writer, snapshot.getHighestWeightHost(HostRole.WRITER));
+    assertNull(snapshot.getHighestWeightHost(HostRole.UNKNOWN));
+  }
+
+  @Test
+  void testHostByWeight() {
+    assertEquals(7, snapshot.getTotalWeight(HostRole.READER));
+
+    final Map<HostSpec, Integer> selections = new HashMap<>();
+    for (long point = 0; point < snapshot.getTotalWeight(HostRole.READER); point++) {
+      selections.merge(snapshot.getHostByWeight(HostRole.READER, point), 1, Integer::sum);
+    }
+    assertEquals(3, (int) selections.get(readerC));
+    assertEquals(1, (int) selections.get(readerA));
+    assertEquals(3, (int) selections.get(readerD));
+
+    assertNull(snapshot.getHostByWeight(HostRole.READER, -1));
+    assertNull(snapshot.getHostByWeight(HostRole.READER, 7));
+    assertNull(snapshot.getHostByWeight(HostRole.UNKNOWN, 0));
+  }
+
+  @Test
+  void testEmptyTopology() {
+    final TopologySnapshot empty = new TopologySnapshot("cluster", 2, Collections.emptyList());
+
+    assertNull(empty.getWriter());
+    assertTrue(empty.getReaders().isEmpty());
+    assertTrue(empty.getAvailableReaders().isEmpty());
+    assertEquals(0, empty.getTotalWeight(HostRole.READER));
+  }
+
+  private static HostSpec createHost(
+      final String hostId, final HostRole role, final HostAvailability availability, final long weight) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host(hostId + ".cluster-xyz.us-east-2.rds.amazonaws.com")
+        .hostId(hostId)
+        .role(role)
+        .availability(availability)
+        .weight(weight)
+        .build();
+  }
+}
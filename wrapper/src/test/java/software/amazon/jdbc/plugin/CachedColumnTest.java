@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class CachedColumnTest {
+
+  @Test
+  void testPrimitiveColumns() {
+    CachedColumn ints = CachedColumn.newColumn();
+    CachedColumn longs = CachedColumn.newColumn();
+    CachedColumn doubles = CachedColumn.newColumn();
+    CachedColumn booleans = CachedColumn.newColumn();
+    for (int i = 0; i < 100; i++) {
+      final boolean isNull = i % 10 == 0;
+      ints = ints.add(isNull ? null : i);
+      longs = longs.add(isNull ? null : (long) i);
+      doubles = doubles.add(isNull ? null : i / 2.0);
+      booleans = booleans.add(isNull ? null : i % 2 == 0);
+    }
+    ints.trimToSize();
+
+    assertInstanceOf(CachedColumn.IntColumn.class, ints);
+    assertInstanceOf(CachedColumn.LongColumn.class, longs);
+    assertInstanceOf(CachedColumn.DoubleColumn.class, doubles);
+    assertInstanceOf(CachedColumn.BooleanColumn.class, booleans);
+
+    assertNull(ints.get(0));
+    assertTrue(ints.isNull(0));
+    assertEquals(42, ints.get(42));
+    assertEquals(42L, ints.getLong(42));
+    assertEquals(42L, longs.get(42));
+    assertEquals(21.0, doubles.get(42));
+    assertEquals(Boolean.TRUE, booleans.get(42));
+    assertEquals(Boolean.FALSE, booleans.get(43));
+    assertNull(booleans.get(50));
+    assertEquals(100, ints.size());
+  }
+
+  @Test
+  void testLeadingNulls() {
+    CachedColumn column = CachedColumn.newColumn();
+    column = column.add(null);
+    column = column.add(null);
+    column = column.add(7);
+
+    assertInstanceOf(CachedColumn.IntColumn.class, column);
+    assertEquals(3, column.size());
+    assertNull(column.get(1));
+    assertEquals(7, column.get(2));
+  }
+
+  @Test
+  void testMixedTypesKeepValues() {
+    CachedColumn column = CachedColumn.newColumn();
+    column = column.add(1);
+    column = column.add(2L);
+    column = column.add(new BigDecimal("3.5"));
+
+    assertInstanceOf(CachedColumn.ObjectColumn.class, column);
+    assertEquals(1, column.get(0));
+    assertEquals(2L, column.get(1));
+    assertEquals(new BigDecimal("3.5"), column.get(2));
+  }
+
+  @Test
+  void testStringDictionary() {
+    CachedColumn lowCardinality = CachedColumn.newColumn();
+    CachedColumn highCardinality = CachedColumn.newColumn();
+    final int rows = CachedColumn.MAX_DICTIONARY_SIZE * 2;
+    for (int i = 0; i < rows; i++) {
+      lowCardinality = lowCardinality.add(i % 3 == 0 ? null : "status-" + (i % 5));
+      highCardinality = highCardinality.add("value-" + i);
+    }
+    lowCardinality.trimToSize();
+    highCardinality.trimToSize();
+
+    assertInstanceOf(CachedColumn.StringColumn.class, lowCardinality);
+    assertEquals(5, ((CachedColumn.StringColumn) lowCardinality).dictionarySize);
+    assertNull(lowCardinality.get(0));
+    assertEquals("status-1", lowCardinality.get(1));
+    assertFalse(lowCardinality.isNull(2));
+
+    assertInstanceOf(CachedColumn.ObjectColumn.class, highCardinality);
+    assertEquals("value-0", highCardinality.get(0));
+    assertEquals("value-" + (rows - 1), highCardinality.get(rows - 1));
+  }
+}
@@ -17,15 +17,31 @@
 package software.amazon.jdbc.plugin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,6 +64,8 @@ class DataCacheConnectionPluginTest {
   @Mock ResultSet mockResult1;
   @Mock ResultSet mockResult2;
   @Mock Statement mockStatement;
+  @Mock PreparedStatement mockPreparedStatement;
+  @Mock Connection mockConnection;
   @Mock ResultSetMetaData mockMetaData;
 
   @Mock JdbcCallable mockCallable;
@@ -75,6 +93,7 @@ class DataCacheConnectionPluginTest {
 
   @AfterEach
   void cleanUp() throws Exception {
+    DataCacheConnectionPlugin.setCacheLimits(QueryResultCache.DEFAULT_MAX_ENTRIES, 0);
     closeable.close();
   }
 
@@ -125,6 +144,259 @@ class DataCacheConnectionPluginTest {
     verify(mockCallable).call();
   }
 
+  @Test
+  void test_execute_writeInvalidatesTable() throws Exception {
+    final Properties cacheProps = new Properties();
+    cacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_TRIGGER_CONDITION.name, ".*orders.*");
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, cacheProps);
+    final String query = "SELECT * FROM sales.orders";
+
+    when(mockCallable.call()).thenReturn(mockResult1, 1, mockResult2);
+
+    ResultSet rs = plugin.execute(
+        ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+        new String[]{query});
+    compareResults(mockResult1, rs);
+
+    plugin.execute(
+        Integer.class, SQLException.class, mockStatement, "Statement.executeUpdate", mockCallable,
+        new String[]{"UPDATE ORDERS SET status = 'closed'"});
+
+    rs = plugin.execute(
+        ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+        new String[]{query});
+    compareResults(mockResult2, rs);
+    verify(mockCallable, times(3)).call();
+  }
+
+  @Test
+  void test_execute_batchInvalidatesTableWhenExecuted() throws Exception {
+    final Properties cacheProps = new Properties();
+    cacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_TRIGGER_CONDITION.name, ".*orders.*");
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, cacheProps);
+    final String query = "SELECT * FROM orders";
+
+    when(mockCallable.call()).thenReturn(mockResult1, null, new int[] {1}, mockResult2);
+
+    plugin.execute(
+        ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+        new String[]{query});
+    plugin.execute(
+        Void.class, SQLException.class, mockStatement, "Statement.addBatch", mockCallable,
+        new String[]{"DELETE FROM orders"});
+
+    // The batch hasn't been executed yet, the cached result is still valid.
+    plugin.execute(
+        ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+        new String[]{query});
+    verify(mockCallable, times(2)).call();
+
+    plugin.execute(
+        int[].class, SQLException.class, mockStatement, "Statement.executeBatch", mockCallable, new Object[0]);
+    final ResultSet rs = plugin.execute(
+        ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+        new String[]{query});
+    compareResults(mockResult2, rs);
+    verify(mockCallable, times(4)).call();
+  }
+
+  @Test
+  void test_execute_preparedStatementWritesInvalidateTable() throws Exception {
+    final Properties cacheProps = new Properties();
+    cacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_TRIGGER_CONDITION.name, ".*orders.*");
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, cacheProps);
+    final String query = "SELECT * FROM orders";
+
+    final PreparedStatement preparedStatement = plugin.execute(
+        PreparedStatement.class, SQLException.class, mockConnection, "Connection.prepareStatement",
+        () -> mockPreparedStatement, new String[]{"UPDATE orders SET status = ?"});
+
+    // Prepared statements are executed without SQL.
+    for (final String methodName : new String[] {
+        "PreparedStatement.executeUpdate", "PreparedStatement.execute", "PreparedStatement.executeBatch"}) {
+      when(mockCallable.call()).thenReturn(mockResult1);
+      plugin.execute(
+          ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+          new String[]{query});
+      assertEquals(1, DataCacheConnectionPlugin.dataCache.size());
+
+      if (methodName.endsWith("Batch")) {
+        plugin.execute(
+            Void.class, SQLException.class, preparedStatement, "PreparedStatement.addBatch", () -> null,
+            new Object[0]);
+        assertEquals(1, DataCacheConnectionPlugin.dataCache.size());
+      }
+      plugin.execute(Object.class, SQLException.class, preparedStatement, methodName, () -> 1, new Object[0]);
+      assertEquals(0, DataCacheConnectionPlugin.dataCache.size(), methodName);
+    }
+  }
+
+  @Test
+  void test_execute_queryWithUnknownTablesIsNotCached() throws Exception {
+    final Properties cacheProps = new Properties();
+    cacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_TRIGGER_CONDITION.name, ".*orders.*");
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, cacheProps);
+
+    when(mockCallable.call()).thenReturn(mockResult1, mockResult2);
+    for (int i = 0; i < 2; i++) {
+      plugin.execute(
+          ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+          new String[]{"SELECT * FROM (SELECT * FROM orders) o, customers c"});
+    }
+
+    verify(mockCallable, times(2)).call();
+    assertEquals(0, DataCacheConnectionPlugin.dataCache.size());
+  }
+
+  @Test
+  void test_getTableNames() {
+    assertEquals(
+        new HashSet<>(Arrays.asList("orders", "customers", "items")),
+        DataCacheConnectionPlugin.getTableNames(
+            "SELECT * FROM sales.orders o, \"Customers\" AS c JOIN items i ON i.order_id = o.id"));
+    assertEquals(
+        new HashSet<>(Arrays.asList("orders", "customers")),
+        DataCacheConnectionPlugin.getTableNames(
+            "SELECT * FROM orders WHERE customer_id IN (SELECT id FROM customers)"));
+    assertNull(DataCacheConnectionPlugin.getTableNames("WITH o AS (SELECT * FROM orders) SELECT * FROM o"));
+    assertNull(DataCacheConnectionPlugin.getTableNames("SELECT * FROM orders o JOIN (SELECT 1) x ON true"));
+    assertNull(DataCacheConnectionPlugin.getTableNames("SELECT * FROM generate_series(1, 10)"));
+    assertNull(DataCacheConnectionPlugin.getTableNames("SELECT * FROM orders o, LATERAL (SELECT 1) x"));
+  }
+
+  @Test
+  void test_execute_transactionalWriteDisablesCachingUntilCommit() throws Exception {
+    final Properties cacheProps = new Properties();
+    cacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_TRIGGER_CONDITION.name, ".*orders.*");
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, cacheProps);
+    final String query = "SELECT * FROM orders";
+
+    when(mockCallable.call()).thenReturn(1, mockResult1, mockResult2, null, mockResult1);
+    when(mockPluginService.isInTransaction()).thenReturn(true);
+
+    plugin.execute(
+        Integer.class, SQLException.class, mockStatement, "Statement.executeUpdate", mockCallable,
+        new String[]{"UPDATE orders SET status = 'closed'"});
+
+    // Results read while the transaction is open aren't cached.
+    for (int i = 0; i < 2; i++) {
+      plugin.execute(
+          ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+          new String[]{query});
+    }
+    verify(mockCallable, times(3)).call();
+
+    when(mockPluginService.isInTransaction()).thenReturn(false);
+    plugin.execute(Void.class, SQLException.class, mockStatement, "Connection.commit", mockCallable, new Object[0]);
+
+    for (int i = 0; i < 2; i++) {
+      plugin.execute(
+          ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+          new String[]{query});
+    }
+    verify(mockCallable, times(5)).call();
+  }
+
+  @Test
+  void test_execute_evictsLeastRecentlyUsedResult() throws Exception {
+    final Properties cacheProps = new Properties();
+    cacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_TRIGGER_CONDITION.name, "foo.*");
+    cacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_MAX_ENTRIES.name, "1");
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, cacheProps);
+
+    when(mockCallable.call()).thenReturn(mockResult1, mockResult2, mockResult1);
+
+    for (final String query : new String[] {"foo1", "foo2", "foo1"}) {
+      plugin.execute(
+          ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+          new String[]{query});
+    }
+
+    verify(mockCallable, times(3)).call();
+    verify(mockTelemetryCounter, times(2)).add(1);
+  }
+
+  @Test
+  void test_execute_concurrentMissesRunQueryOnce() throws Exception {
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, props);
+    final CountDownLatch queryStarted = new CountDownLatch(1);
+    final CountDownLatch releaseQuery = new CountDownLatch(1);
+    final JdbcCallable<ResultSet, SQLException> slowQuery = () -> {
+      queryStarted.countDown();
+      try {
+        releaseQuery.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return mockResult1;
+    };
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<ResultSet> first = executor.submit(() -> plugin.execute(
+          ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", slowQuery,
+          new String[]{"foo"}));
+      assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+
+      final Future<ResultSet> second = executor.submit(() -> plugin.execute(
+          ResultSet.class, SQLException.class, mockStatement, "Statement.executeQuery", mockCallable,
+          new String[]{"foo"}));
+      releaseQuery.countDown();
+
+      final ResultSet firstResult = first.get(5, TimeUnit.SECONDS);
+      final ResultSet secondResult = second.get(5, TimeUnit.SECONDS);
+      assertNotSame(firstResult, secondResult);
+      assertTrue(secondResult.next());
+      assertEquals("bar1", secondResult.getObject(1));
+      verify(mockCallable, never()).call();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void test_cachedResultSet_typedGetters() throws SQLException {
+    when(mockMetaData.getColumnCount()).thenReturn(3);
+    when(mockMetaData.getColumnName(2)).thenReturn("amount");
+    when(mockMetaData.getColumnName(3)).thenReturn("status");
+    when(mockResult1.next()).thenReturn(true, true, false);
+    when(mockResult1.getObject(1)).thenReturn(10, null);
+    when(mockResult1.getObject(2)).thenReturn(1.5, 2.5);
+    when(mockResult1.getObject(3)).thenReturn("open", "open");
+
+    final DataCacheConnectionPlugin.CachedResultSet rs = new DataCacheConnectionPlugin.CachedResultSet(mockResult1);
+
+    assertTrue(rs.next());
+    assertEquals(10, rs.getInt(1));
+    assertEquals(10, rs.getObject("fooName"));
+    assertEquals(1.5, rs.getDouble("amount"));
+    assertEquals("open", rs.getString(3));
+    assertFalse(rs.wasNull());
+
+    assertTrue(rs.next());
+    assertEquals(0, rs.getInt("fooName"));
+    assertTrue(rs.wasNull());
+    assertNull(rs.getObject(1));
+    assertEquals(2, rs.getLong(2));
+    assertEquals(3, rs.findColumn("status"));
+    assertFalse(rs.next());
+  }
+
+  @Test
+  void test_cachedResultSet_narrowingOverflow() throws SQLException {
+    when(mockMetaData.getColumnCount()).thenReturn(1);
+    when(mockResult1.next()).thenReturn(true, false);
+    when(mockResult1.getObject(1)).thenReturn(3_000_000_000L);
+
+    final DataCacheConnectionPlugin.CachedResultSet rs = new DataCacheConnectionPlugin.CachedResultSet(mockResult1);
+
+    assertTrue(rs.next());
+    assertEquals(3_000_000_000L, rs.getLong(1));
+    assertThrows(SQLException.class, () -> rs.getInt(1));
+    assertThrows(SQLException.class, () -> rs.getShort("fooName"));
+    assertThrows(SQLException.class, () -> rs.getByte(1));
+  }
+
   void compareResults(final ResultSet expected, final ResultSet actual) throws SQLException {
     int i = 1;
     while (expected.next() && actual.next()) {
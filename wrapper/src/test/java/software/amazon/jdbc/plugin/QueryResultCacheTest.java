@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultSet;
+
+class QueryResultCacheTest {
+
+  private QueryResultCache cache;
+  private CachedResultSet resultSet;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    cache = new QueryResultCache();
+
+    final ResultSet mockResultSet = mock(ResultSet.class);
+    final ResultSetMetaData mockMetaData = mock(ResultSetMetaData.class);
+    when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+    when(mockMetaData.getColumnCount()).thenReturn(1);
+    when(mockMetaData.getColumnName(1)).thenReturn("id");
+    when(mockResultSet.next()).thenReturn(true, false);
+    when(mockResultSet.getObject(1)).thenReturn(1);
+    resultSet = new CachedResultSet(mockResultSet);
+  }
+
+  @Test
+  void testEvictsLeastRecentlyUsedEntries() {
+    put("q1", 0, 2, 0);
+    put("q2", 0, 2, 0);
+    assertNotNull(cache.get("q1"));
+
+    assertEquals(1, put("q3", 0, 2, 0));
+    assertEquals(2, cache.size());
+    assertNotNull(cache.get("q1"));
+    assertNull(cache.get("q2"));
+    assertNotNull(cache.get("q3"));
+  }
+
+  @Test
+  void testEvictsEntriesOverMaxSize() {
+    final long entrySize = resultSet.estimateSize();
+
+    put("q1", 0, 0, entrySize * 2);
+    put("q2", 0, 0, entrySize * 2);
+    assertEquals(1, put("q3", 0, 0, entrySize * 2));
+    assertEquals(2, cache.size());
+    assertEquals(entrySize * 2, cache.getTotalSize());
+    assertNull(cache.get("q1"));
+
+    // A result larger than the whole cache isn't cached.
+    assertEquals(0, put("q4", 0, 0, entrySize - 1));
+    assertNull(cache.get("q4"));
+  }
+
+  @Test
+  void testExpiredEntriesAreRemoved() throws InterruptedException {
+    put("q1", TimeUnit.MILLISECONDS.toNanos(1), 0, 0);
+    put("q2", 0, 0, 0);
+    TimeUnit.MILLISECONDS.sleep(5);
+
+    assertNull(cache.get("q1"));
+    assertNotNull(cache.get("q2"));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testInvalidateTable() {
+    cache.put("q1", resultSet, new HashSet<>(Collections.singletonList("orders")), 0, 0);
+    cache.put("q2", resultSet, new HashSet<>(Collections.singletonList("customers")), 0, 0);
+
+    assertEquals(1, cache.invalidateTable("Sales.\"ORDERS\""));
+    assertNull(cache.get("q1"));
+    assertNotNull(cache.get("q2"));
+    assertEquals(resultSet.estimateSize(), cache.getTotalSize());
+  }
+
+  @Test
+  void testResultLoadedBeforeInvalidationIsNotCached() {
+    final long invalidationCount = cache.getInvalidationCount();
+    cache.invalidateTable("orders");
+
+    cache.put("q1", resultSet, Collections.emptySet(), 0, invalidationCount);
+    assertNull(cache.get("q1"));
+  }
+
+  @Test
+  void testResultsAreNotCachedWhileTransactionalWriteIsOpen() {
+    final Set<String> tableNames = Collections.singleton("orders");
+    cache.put("q1", resultSet, tableNames, 0, cache.getInvalidationCount());
+
+    assertEquals(1, cache.beginTransactionalWrite("ORDERS"));
+    cache.beginTransactionalWrite("orders");
+    cache.put("q1", resultSet, tableNames, 0, cache.getInvalidationCount());
+    assertNull(cache.get("q1"));
+
+    // Another transaction still writes to the table.
+    cache.endTransactionalWrite("orders");
+    cache.put("q1", resultSet, tableNames, 0, cache.getInvalidationCount());
+    assertNull(cache.get("q1"));
+
+    final long invalidationCount = cache.getInvalidationCount();
+    cache.endTransactionalWrite("orders");
+    // A result loaded before the transaction ended isn't cached.
+    cache.put("q1", resultSet, tableNames, 0, invalidationCount);
+    assertNull(cache.get("q1"));
+    cache.put("q1", resultSet, tableNames, 0, cache.getInvalidationCount());
+    assertNotNull(cache.get("q1"));
+  }
+
+  @Test
+  void testSingleLoadPerQuery() {
+    final CompletableFuture<CachedResultSet> load = cache.startLoading("q1");
+    assertNotNull(load);
+    assertNull(cache.startLoading("q1"));
+
+    final CompletableFuture<CachedResultSet> pendingLoad = cache.getPendingLoad("q1");
+    assertSame(load, pendingLoad);
+    cache.finishLoading("q1", load, resultSet);
+
+    assertSame(resultSet, cache.awaitLoading(pendingLoad, TimeUnit.SECONDS.toNanos(5)));
+    assertNull(cache.getPendingLoad("q1"));
+    assertNotNull(cache.startLoading("q1"));
+  }
+
+  @Test
+  void testAwaitLoadingTimesOut() {
+    final CompletableFuture<CachedResultSet> load = cache.startLoading("q1");
+
+    assertNull(cache.awaitLoading(load, TimeUnit.MILLISECONDS.toNanos(10)));
+  }
+
+  private int put(final String sql, final long expirationTimeNanos, final int maxEntries, final long maxSizeBytes) {
+    cache.setLimits(maxEntries, maxSizeBytes);
+    return cache.put(sql, resultSet, Collections.emptySet(), expirationTimeNanos, cache.getInvalidationCount());
+  }
+}
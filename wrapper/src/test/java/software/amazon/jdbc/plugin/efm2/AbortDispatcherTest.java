@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+
+class AbortDispatcherTest {
+
+  private final HostSpec hostSpec =
+      new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("instance-1").build();
+
+  @Test
+  void testAbortsConnectionsInParallel() throws Exception {
+    final int connectionCount = Math.min(4, AbortDispatcher.getPoolSize());
+    // Every abort waits for the others to start, which only completes if they run at the same time.
+    final CountDownLatch abortsStarted = new CountDownLatch(connectionCount);
+    final List<Connection> connections = new ArrayList<>();
+    for (int i = 0; i < connectionCount; i++) {
+      final Connection connection = mock(Connection.class);
+      doAnswer(invocation -> {
+        abortsStarted.countDown();
+        abortsStarted.await(5, TimeUnit.SECONDS);
+        return null;
+      }).when(connection).abort(any());
+      connections.add(connection);
+    }
+
+    final AbortDispatcher dispatcher = new AbortDispatcher(this.hostSpec, null);
+    final long detectionTimeNano = System.nanoTime();
+    dispatcher.abort(connections, detectionTimeNano, detectionTimeNano + TimeUnit.SECONDS.toNanos(30));
+
+    for (final Connection connection : connections) {
+      verify(connection, timeout(5000)).close();
+    }
+    // The latency is recorded once the connection is closed.
+    final long waitUntilNano = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (dispatcher.getAbortLatency().getCount() < connectionCount && System.nanoTime() < waitUntilNano) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    assertEquals(0, abortsStarted.getCount());
+    assertEquals(connectionCount, dispatcher.getAbortLatency().getCount());
+    assertEquals(0, dispatcher.getMissedDeadlines());
+  }
+
+  @Test
+  void testCountsMissedDeadlines() throws Exception {
+    final Connection connection = mock(Connection.class);
+    final TelemetryCounter missedDeadlinesCounter = mock(TelemetryCounter.class);
+    final AbortDispatcher dispatcher = new AbortDispatcher(this.hostSpec, missedDeadlinesCounter);
+
+    final long detectionTimeNano = System.nanoTime() - TimeUnit.SECONDS.toNanos(2);
+    dispatcher.abort(
+        Collections.singletonList(connection),
+        detectionTimeNano,
+        detectionTimeNano + TimeUnit.SECONDS.toNanos(1));
+
+    verify(connection, timeout(5000)).close();
+    verify(missedDeadlinesCounter, timeout(5000)).inc();
+    assertEquals(1, dispatcher.getMissedDeadlines());
+    assertTrue(dispatcher.getAbortLatency().getMaxNano() >= TimeUnit.SECONDS.toNanos(2));
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Replays synthetic traces of status checks through the failure detectors, to compare how long they take to detect
+ * an outage and how often they consider a healthy host unhealthy.
+ *
+ * <p>A trace follows the schedule of {@link HostProbe}: a check starts one interval after the previous one
+ * started, or shortly after it ended if it took longer, and a check without response fails after the timeout. The
+ * host stops responding at the end of the trace.
+ */
+class FailureDetectorSimulationTest {
+
+  private static final Logger LOGGER = Logger.getLogger(FailureDetectorSimulationTest.class.getName());
+
+  private static final long INTERVAL_NANO = TimeUnit.SECONDS.toNanos(5);
+  private static final long TIMEOUT_NANO = TimeUnit.SECONDS.toNanos(2);
+  private static final long MIN_DELAY_NANO = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long HEALTHY_DURATION_NANO = TimeUnit.HOURS.toNanos(24);
+  private static final long OUTAGE_DURATION_NANO = TimeUnit.MINUTES.toNanos(2);
+  private static final double PHI_THRESHOLD = 8.0;
+
+  @Test
+  void testStableNetwork() {
+    final Trace trace = Trace.generate(
+        new Random(1), TimeUnit.MILLISECONDS.toNanos(2), TimeUnit.MICROSECONDS.toNanos(500), 0);
+
+    final Result count = trace.replay(() -> new CountFailureDetector(INTERVAL_NANO, 3));
+    final Result phi = trace.replay(FailureDetectorSimulationTest::createPhiAccrualDetector);
+    report("stable", count, phi);
+
+    assertEquals(0, count.falsePositives);
+    assertEquals(0, phi.falsePositives);
+    // Two failed checks are enough on a network that never loses a check.
+    assertEquals(2, phi.failedChecksToDetection);
+    assertTrue(phi.detectionTimeNano < count.detectionTimeNano);
+  }
+
+  @Test
+  void testJitteryNetwork() {
+    // Round trips vary a lot, but stay under the timeout.
+    final Trace trace = Trace.generate(
+        new Random(2), TimeUnit.MILLISECONDS.toNanos(200), TimeUnit.MILLISECONDS.toNanos(300), 0);
+
+    final Result count = trace.replay(() -> new CountFailureDetector(INTERVAL_NANO, 3));
+    final Result phi = trace.replay(FailureDetectorSimulationTest::createPhiAccrualDetector);
+    report("jittery", count, phi);
+
+    assertEquals(0, count.falsePositives);
+    assertEquals(0, phi.falsePositives);
+    assertTrue(phi.detectionTimeNano <= count.detectionTimeNano);
+  }
+
+  @Test
+  void testLossyNetwork() {
+    // One check out of ten gets no response.
+    final Trace trace = Trace.generate(
+        new Random(3), TimeUnit.MILLISECONDS.toNanos(2), TimeUnit.MICROSECONDS.toNanos(500), 0.1);
+
+    final Result twoChecks = trace.replay(() -> new CountFailureDetector(INTERVAL_NANO, 2));
+    final Result count = trace.replay(() -> new CountFailureDetector(INTERVAL_NANO, 3));
+    final Result phi = trace.replay(FailureDetectorSimulationTest::createPhiAccrualDetector);
+    report("lossy", count, phi);
+
+    // The lost checks widen the distribution of the intervals, so phi needs a third failed check, like the default
+    // count, instead of the two it needs on a stable network.
+    assertTrue(phi.falsePositives * 5 < twoChecks.falsePositives);
+    assertTrue(phi.falsePositives <= count.falsePositives);
+    assertEquals(3, phi.failedChecksToDetection);
+  }
+
+  private static FailureDetector createPhiAccrualDetector() {
+    return new PhiAccrualFailureDetector(PHI_THRESHOLD, INTERVAL_NANO, PhiAccrualFailureDetector.DEFAULT_WINDOW_SIZE);
+  }
+
+  private static void report(final String network, final Result count, final Result phi) {
+    LOGGER.info(() -> String.format(
+        "%s network: count detected the outage after %d ms with %d false positives, "
+            + "phi-accrual after %d ms with %d false positives",
+        network,
+        TimeUnit.NANOSECONDS.toMillis(count.detectionTimeNano),
+        count.falsePositives,
+        TimeUnit.NANOSECONDS.toMillis(phi.detectionTimeNano),
+        phi.falsePositives));
+  }
+
+  private static final class Result {
+    private int falsePositives;
+    private long detectionTimeNano = -1;
+    private int failedChecksToDetection;
+  }
+
+  private static final class Trace {
+    private final long[] startTimesNano;
+    private final long[] endTimesNano;
+    private final boolean[] valid;
+    private final long outageStartTimeNano;
+
+    private Trace(
+        final long[] startTimesNano,
+        final long[] endTimesNano,
+        final boolean[] valid,
+        final long outageStartTimeNano) {
+      this.startTimesNano = startTimesNano;
+      this.endTimesNano = endTimesNano;
+      this.valid = valid;
+      this.outageStartTimeNano = outageStartTimeNano;
+    }
+
+    static Trace generate(
+        final Random random,
+        final long meanRoundTripNano,
+        final long roundTripStdDeviationNano,
+        final double lossRate) {
+      final int maxChecks = (int) ((HEALTHY_DURATION_NANO + OUTAGE_DURATION_NANO) / MIN_DELAY_NANO);
+      final long[] startTimesNano = new long[maxChecks];
+      final long[] endTimesNano = new long[maxChecks];
+      final boolean[] valid = new boolean[maxChecks];
+
+      // Avoid 0, which detectors may use as "no time".
+      long timeNano = INTERVAL_NANO;
+      final long outageStartTimeNano = timeNano + HEALTHY_DURATION_NANO;
+      int checks = 0;
+      while (timeNano < outageStartTimeNano + OUTAGE_DURATION_NANO) {
+        final long roundTripNano = Math.max(0,
+            (long) (meanRoundTripNano + random.nextGaussian() * roundTripStdDeviationNano));
+        final boolean responded = timeNano < outageStartTimeNano
+            && random.nextDouble() >= lossRate
+            && roundTripNano < TIMEOUT_NANO;
+
+        startTimesNano[checks] = timeNano;
+        endTimesNano[checks] = timeNano + (responded ? roundTripNano : TIMEOUT_NANO);
+        valid[checks] = responded;
+        timeNano = endTimesNano[checks]
+            + Math.max(MIN_DELAY_NANO, INTERVAL_NANO - (endTimesNano[checks] - startTimesNano[checks]));
+        checks++;
+      }
+
+      return new Trace(
+          Arrays.copyOf(startTimesNano, checks),
+          Arrays.copyOf(endTimesNano, checks),
+          Arrays.copyOf(valid, checks),
+          outageStartTimeNano);
+    }
+
+    Result replay(final Supplier<FailureDetector> detectorSupplier) {
+      final FailureDetector detector = detectorSupplier.get();
+      final Result result = new Result();
+      boolean unhealthy = false;
+      int failedChecks = 0;
+
+      for (int i = 0; i < this.startTimesNano.length; i++) {
+        final boolean wasUnhealthy = unhealthy;
+        unhealthy = detector.isHostUnhealthy(this.valid[i], this.startTimesNano[i], this.endTimesNano[i]);
+
+        if (this.startTimesNano[i] < this.outageStartTimeNano) {
+          if (unhealthy && !wasUnhealthy) {
+            result.falsePositives++;
+          }
+          continue;
+        }
+
+        failedChecks++;
+        if (unhealthy) {
+          result.detectionTimeNano = this.endTimesNano[i] - this.outageStartTimeNano;
+          result.failedChecksToDetection = failedChecks;
+          return result;
+        }
+      }
+      return result;
+    }
+  }
+}
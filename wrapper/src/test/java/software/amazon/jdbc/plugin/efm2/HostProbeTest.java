@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.util.telemetry.TelemetryContext;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+
+class HostProbeTest {
+
+  @Mock PluginService pluginService;
+  @Mock Connection connection;
+  @Mock TelemetryFactory telemetryFactory;
+  @Mock TelemetryContext telemetryContext;
+  @Mock HostProbe.Listener listenerWithShortInterval;
+  @Mock HostProbe.Listener listenerWithLongInterval;
+
+  private final HostSpec hostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-1").build();
+  private final Properties properties = new Properties();
+  private AutoCloseable closeable;
+
+  @BeforeEach
+  void init() throws SQLException {
+    closeable = MockitoAnnotations.openMocks(this);
+    when(pluginService.getTelemetryFactory()).thenReturn(telemetryFactory);
+    when(pluginService.forceConnect(any(HostSpec.class), any(Properties.class))).thenReturn(connection);
+    when(telemetryFactory.openTelemetryContext(anyString(), any())).thenReturn(telemetryContext);
+    when(connection.isValid(anyInt())).thenReturn(true);
+    when(listenerWithShortInterval.getProbeIntervalNano()).thenReturn(TimeUnit.MILLISECONDS.toNanos(200));
+    when(listenerWithLongInterval.getProbeIntervalNano()).thenReturn(TimeUnit.SECONDS.toNanos(30));
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    HostProbe.probes.values().forEach(HostProbe::close);
+    HostProbe.probes.clear();
+    closeable.close();
+  }
+
+  @Test
+  void testListenersOfHostShareProbe() {
+    final HostProbe probe = HostProbe.subscribe(pluginService, hostSpec, properties, listenerWithShortInterval);
+    assertSame(probe, HostProbe.subscribe(pluginService, hostSpec, properties, listenerWithLongInterval));
+    assertEquals(2, probe.getListenerCount());
+
+    final HostSpec otherHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("instance-2").build();
+    final HostProbe otherProbe =
+        HostProbe.subscribe(pluginService, otherHostSpec, properties, listenerWithShortInterval);
+    assertNotSame(probe, otherProbe);
+
+    probe.unsubscribe(listenerWithShortInterval);
+    assertTrue(HostProbe.probes.containsValue(probe));
+    probe.unsubscribe(listenerWithLongInterval);
+    assertFalse(HostProbe.probes.containsValue(probe));
+
+    // The stopped probe isn't reused.
+    assertNotSame(probe, HostProbe.subscribe(pluginService, hostSpec, properties, listenerWithShortInterval));
+  }
+
+  @Test
+  void testListenersWithDifferentProbeModesHaveSeparateProbes() throws Exception {
+    final Properties socketProbeProperties = new Properties();
+    HostMonitoringConnectionPlugin.FAILURE_DETECTION_PROBE_MODE.set(
+        socketProbeProperties, HostMonitoringConnectionPlugin.SOCKET_PROBE_MODE);
+
+    try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+      final HostSpec localHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+          .host(InetAddress.getLoopbackAddress().getHostAddress())
+          .port(serverSocket.getLocalPort())
+          .build();
+      final HostProbe isValidProbe =
+          HostProbe.subscribe(pluginService, localHostSpec, properties, listenerWithLongInterval);
+      final HostProbe socketProbe =
+          HostProbe.subscribe(pluginService, localHostSpec, socketProbeProperties, listenerWithShortInterval);
+      assertNotSame(isValidProbe, socketProbe);
+      assertEquals(1, isValidProbe.getListenerCount());
+      assertEquals(1, socketProbe.getListenerCount());
+
+      // The successful socket checks don't close the monitoring connection of the other listener.
+      assertTrue(isValidProbe.checkConnectionStatus(TimeUnit.SECONDS.toNanos(2)));
+      assertTrue(socketProbe.checkConnectionStatus(TimeUnit.SECONDS.toNanos(2)));
+      assertTrue(isValidProbe.checkConnectionStatus(TimeUnit.SECONDS.toNanos(2)));
+      verify(pluginService, times(1)).forceConnect(any(HostSpec.class), any(Properties.class));
+      verify(connection, times(1)).isValid(anyInt());
+      verify(connection, never()).close();
+    }
+  }
+
+  @Test
+  void testProbeResultsAreSharedByListeners() throws SQLException {
+    when(listenerWithShortInterval.needsProbe()).thenReturn(true);
+    final HostProbe probe = HostProbe.subscribe(pluginService, hostSpec, properties, listenerWithShortInterval);
+    HostProbe.subscribe(pluginService, hostSpec, properties, listenerWithLongInterval);
+
+    verify(listenerWithShortInterval, timeout(5000).atLeastOnce()).onProbeResult(eq(true), anyLong(), anyLong());
+    verify(listenerWithLongInterval, timeout(5000).atLeastOnce()).onProbeResult(eq(true), anyLong(), anyLong());
+
+    // The host is checked at the shortest interval, even for the listener with the long interval.
+    when(connection.isValid(anyInt())).thenReturn(false);
+    verify(listenerWithLongInterval, timeout(5000).atLeastOnce()).onProbeResult(eq(false), anyLong(), anyLong());
+
+    // A single monitoring connection is opened for both listeners.
+    verify(pluginService, times(1)).forceConnect(any(HostSpec.class), any(Properties.class));
+
+    probe.unsubscribe(listenerWithShortInterval);
+    probe.unsubscribe(listenerWithLongInterval);
+    verify(connection, timeout(5000)).close();
+  }
+
+  @Test
+  void testSocketProbeEscalatesToMonitoringConnection() throws Exception {
+    final Properties socketProbeProperties = new Properties();
+    HostMonitoringConnectionPlugin.FAILURE_DETECTION_PROBE_MODE.set(
+        socketProbeProperties, HostMonitoringConnectionPlugin.SOCKET_PROBE_MODE);
+
+    try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+      final HostSpec localHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+          .host(InetAddress.getLoopbackAddress().getHostAddress())
+          .port(serverSocket.getLocalPort())
+          .build();
+      // The listener doesn't need the host to be checked, so only the checks of this test run.
+      final HostProbe probe =
+          HostProbe.subscribe(pluginService, localHostSpec, socketProbeProperties, listenerWithShortInterval);
+
+      assertTrue(probe.checkConnectionStatus(TimeUnit.SECONDS.toNanos(2)));
+      verify(pluginService, never()).forceConnect(any(HostSpec.class), any(Properties.class));
+
+      serverSocket.close();
+      assertTrue(probe.checkConnectionStatus(TimeUnit.SECONDS.toNanos(2)));
+      verify(pluginService, times(1)).forceConnect(any(HostSpec.class), any(Properties.class));
+    }
+  }
+}
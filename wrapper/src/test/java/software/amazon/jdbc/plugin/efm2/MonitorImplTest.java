@@ -0,0 +1,175 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.util.telemetry.TelemetryContext;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+
+class MonitorImplTest {
+
+  private static final int FAILURE_DETECTION_INTERVAL_MILLIS = 1000;
+  private static final int FAILURE_DETECTION_COUNT = 3;
+  private static final long INTERVAL_NANO = TimeUnit.MILLISECONDS.toNanos(FAILURE_DETECTION_INTERVAL_MILLIS);
+  private static final long CHECK_DURATION_NANO = TimeUnit.MILLISECONDS.toNanos(100);
+
+  @Mock PluginService pluginService;
+  @Mock TelemetryFactory telemetryFactory;
+  @Mock TelemetryContext telemetryContext;
+  @Mock TelemetryCounter abortedConnectionsCounter;
+  @Mock Connection connection;
+  @Mock Connection otherConnection;
+
+  private final HostSpec hostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-1").build();
+  private final CountDownLatch releaseProbe = new CountDownLatch(1);
+  private volatile long currentTimeNano;
+  private AutoCloseable closeable;
+  private MonitorImpl monitor;
+
+  @BeforeEach
+  void init() throws SQLException {
+    closeable = MockitoAnnotations.openMocks(this);
+    when(pluginService.getTelemetryFactory()).thenReturn(telemetryFactory);
+    when(telemetryFactory.openTelemetryContext(anyString(), any())).thenReturn(telemetryContext);
+    // Keep the shared host probe busy, so that the probe results only come from the tests.
+    when(pluginService.forceConnect(any(HostSpec.class), any(Properties.class))).thenAnswer(invocation -> {
+      releaseProbe.await();
+      throw new SQLException("test");
+    });
+
+    monitor = new MonitorImpl(
+        pluginService,
+        hostSpec,
+        new Properties(),
+        0,
+        FAILURE_DETECTION_INTERVAL_MILLIS,
+        FAILURE_DETECTION_COUNT,
+        abortedConnectionsCounter) {
+      @Override
+      long getCurrentTimeNano() {
+        return currentTimeNano;
+      }
+    };
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    releaseProbe.countDown();
+    monitor.close();
+    HostProbe.probes.values().forEach(HostProbe::close);
+    HostProbe.probes.clear();
+    closeable.close();
+  }
+
+  @Test
+  void testHostIsUnhealthyAfterFailureDetectionCount() throws SQLException {
+    final MonitorConnectionContext context = new MonitorConnectionContext(connection);
+    this.activate(context);
+
+    long checkStartTimeNano = TimeUnit.SECONDS.toNanos(10);
+    for (int i = 1; i < FAILURE_DETECTION_COUNT; i++) {
+      monitor.onProbeResult(false, checkStartTimeNano, checkStartTimeNano + CHECK_DURATION_NANO);
+      checkStartTimeNano += INTERVAL_NANO;
+      assertFalse(context.isNodeUnhealthy());
+    }
+    monitor.onProbeResult(false, checkStartTimeNano, checkStartTimeNano + CHECK_DURATION_NANO);
+
+    assertTrue(context.isNodeUnhealthy());
+    assertFalse(context.isActive());
+    verify(pluginService).setAvailability(hostSpec.asAliases(), HostAvailability.NOT_AVAILABLE);
+    verify(abortedConnectionsCounter, times(1)).inc();
+    verify(connection, timeout(5000)).abort(any());
+    verify(connection, timeout(5000)).close();
+  }
+
+  @Test
+  void testValidResultResetsFailureCount() throws SQLException {
+    final MonitorConnectionContext context = new MonitorConnectionContext(connection);
+    this.activate(context);
+
+    long checkStartTimeNano = TimeUnit.SECONDS.toNanos(10);
+    for (int i = 0; i < 2 * FAILURE_DETECTION_COUNT; i++) {
+      // Every third check succeeds, so the checks never keep failing long enough.
+      final boolean isValid = i % FAILURE_DETECTION_COUNT == FAILURE_DETECTION_COUNT - 1;
+      monitor.onProbeResult(isValid, checkStartTimeNano, checkStartTimeNano + CHECK_DURATION_NANO);
+      checkStartTimeNano += INTERVAL_NANO;
+    }
+
+    assertFalse(context.isNodeUnhealthy());
+    assertTrue(context.isActive());
+    assertTrue(monitor.needsProbe());
+    verify(pluginService, never()).setAvailability(any(), any());
+    verify(connection, never()).abort(any());
+  }
+
+  @Test
+  void testOnlyActiveContextsAreAborted() throws SQLException {
+    final MonitorConnectionContext context = new MonitorConnectionContext(connection);
+    final MonitorConnectionContext finishedContext = new MonitorConnectionContext(otherConnection);
+    this.activate(context, finishedContext);
+    // The call monitored by this context completed before the host failed.
+    finishedContext.setInactive();
+
+    long checkStartTimeNano = TimeUnit.SECONDS.toNanos(10);
+    for (int i = 0; i < FAILURE_DETECTION_COUNT; i++) {
+      monitor.onProbeResult(false, checkStartTimeNano, checkStartTimeNano + CHECK_DURATION_NANO);
+      checkStartTimeNano += INTERVAL_NANO;
+    }
+
+    verify(connection, timeout(5000)).close();
+    verify(abortedConnectionsCounter, times(1)).inc();
+    verify(otherConnection, never()).abort(any());
+    verify(otherConnection, never()).close();
+    assertFalse(finishedContext.isNodeUnhealthy());
+  }
+
+  // Starts monitoring the contexts and moves them to the active contexts of the monitor.
+  private void activate(final MonitorConnectionContext... contexts) {
+    for (final MonitorConnectionContext context : contexts) {
+      monitor.startMonitoring(context);
+    }
+    currentTimeNano += TimeUnit.SECONDS.toNanos(1);
+    monitor.checkNewContexts();
+    assertTrue(monitor.needsProbe());
+  }
+}
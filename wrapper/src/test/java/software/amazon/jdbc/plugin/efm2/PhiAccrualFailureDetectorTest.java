@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class PhiAccrualFailureDetectorTest {
+
+  private static final long INTERVAL_NANO = TimeUnit.SECONDS.toNanos(5);
+  private static final long TIMEOUT_NANO = TimeUnit.SECONDS.toNanos(2);
+
+  @Test
+  void testPhi() {
+    assertEquals(0.3, PhiAccrualFailureDetector.phi(5, 5, 1), 0.01);
+    assertEquals(1.0, PhiAccrualFailureDetector.phi(6.28, 5, 1), 0.05);
+    assertTrue(PhiAccrualFailureDetector.phi(8, 5, 1) > PhiAccrualFailureDetector.phi(7, 5, 1));
+    assertEquals(Double.POSITIVE_INFINITY, PhiAccrualFailureDetector.phi(1000, 5, 1));
+    assertEquals(0, PhiAccrualFailureDetector.phi(-1000, 5, 1), 0.0001);
+  }
+
+  @Test
+  void testDetectsAfterTwoFailedChecksOnStableNetwork() {
+    final PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(8, INTERVAL_NANO, 10);
+    long timeNano = this.heartbeats(detector, INTERVAL_NANO, 20);
+
+    assertFalse(detector.isHostUnhealthy(false, timeNano, timeNano + TIMEOUT_NANO));
+    timeNano += INTERVAL_NANO;
+    assertTrue(detector.isHostUnhealthy(false, timeNano, timeNano + TIMEOUT_NANO));
+
+    // The host stays unhealthy until it responds again.
+    timeNano += INTERVAL_NANO;
+    assertTrue(detector.isHostUnhealthy(false, timeNano, timeNano + TIMEOUT_NANO));
+    timeNano += INTERVAL_NANO;
+    assertFalse(detector.isHostUnhealthy(true, timeNano, timeNano + 1));
+  }
+
+  @Test
+  void testOutageIsNotRecorded() {
+    final PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(8, INTERVAL_NANO, 10);
+    long timeNano = this.heartbeats(detector, INTERVAL_NANO, 20);
+    for (int i = 0; i < 10; i++) {
+      detector.isHostUnhealthy(false, timeNano, timeNano + TIMEOUT_NANO);
+      timeNano += INTERVAL_NANO;
+    }
+    timeNano = this.heartbeats(detector, timeNano, 2);
+
+    // The intervals are still those of the healthy host.
+    assertEquals(PhiAccrualFailureDetector.phi(INTERVAL_NANO, INTERVAL_NANO, INTERVAL_NANO / 10.0),
+        detector.getPhi(timeNano), 0.01);
+  }
+
+  @Test
+  void testIdleHostIsNotSuspected() {
+    final PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(8, INTERVAL_NANO, 10);
+    long timeNano = this.heartbeats(detector, INTERVAL_NANO, 20);
+
+    // No connection was monitored for an hour, so the host wasn't probed.
+    timeNano += TimeUnit.HOURS.toNanos(1);
+    assertFalse(detector.isHostUnhealthy(false, timeNano, timeNano + TIMEOUT_NANO));
+  }
+
+  @Test
+  void testPhiUsesIntervalsOfWindow() {
+    final int windowSize = 10;
+    final PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(8, INTERVAL_NANO, windowSize);
+    final long[] intervals = new long[34];
+    long timeNano = INTERVAL_NANO;
+    assertFalse(detector.isHostUnhealthy(true, timeNano - 1, timeNano));
+    for (int i = 0; i < intervals.length; i++) {
+      intervals[i] = INTERVAL_NANO + (i % 7 - 3) * TimeUnit.MILLISECONDS.toNanos(300);
+      timeNano += intervals[i];
+      assertFalse(detector.isHostUnhealthy(true, timeNano - 1, timeNano));
+    }
+
+    // The window has wrapped around several times, and holds the last intervals only.
+    double mean = 0;
+    for (int i = intervals.length - windowSize; i < intervals.length; i++) {
+      mean += intervals[i] / (double) windowSize;
+    }
+    double variance = 0;
+    for (int i = intervals.length - windowSize; i < intervals.length; i++) {
+      variance += (intervals[i] - mean) * (intervals[i] - mean) / windowSize;
+    }
+    final long elapsedNano = INTERVAL_NANO + TIMEOUT_NANO;
+    assertEquals(PhiAccrualFailureDetector.phi(elapsedNano, mean, Math.sqrt(variance)),
+        detector.getPhi(timeNano + elapsedNano), 0.0001);
+  }
+
+  @Test
+  void testThresholdValidation() throws SQLException {
+    final Properties props = new Properties();
+    assertEquals(8.0, HostMonitoringConnectionPlugin.getFailureDetectionPhiThreshold(props));
+    props.setProperty(HostMonitoringConnectionPlugin.FAILURE_DETECTION_PHI_THRESHOLD.name, " 12.5 ");
+    assertEquals(12.5, HostMonitoringConnectionPlugin.getFailureDetectionPhiThreshold(props));
+
+    for (final String invalid : new String[] {"", "eight", "0", "-1", "NaN", "Infinity"}) {
+      props.setProperty(HostMonitoringConnectionPlugin.FAILURE_DETECTION_PHI_THRESHOLD.name, invalid);
+      assertThrows(SQLException.class, () -> HostMonitoringConnectionPlugin.getFailureDetectionPhiThreshold(props));
+    }
+  }
+
+  // Records successful status checks, one interval apart, and returns the time of the next check.
+  private long heartbeats(final PhiAccrualFailureDetector detector, final long startTimeNano, final int count) {
+    long timeNano = startTimeNano;
+    for (int i = 0; i < count; i++) {
+      assertFalse(detector.isHostUnhealthy(true, timeNano - 1, timeNano));
+      timeNano += INTERVAL_NANO;
+    }
+    return timeNano;
+  }
+}
@@ -24,7 +24,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -84,6 +86,7 @@ class ClusterAwareReaderFailoverHandlerTest {
 
   @AfterEach
   void tearDown() throws Exception {
+    ClusterAwareReaderFailoverHandler.connectTimesNano.clear();
     closeable.close();
   }
 
@@ -402,4 +405,185 @@ class ClusterAwareReaderFailoverHandlerTest {
     hostsByPriority = target.getHostsByPriority(Collections.singletonList(writer));
     assertEquals(expectedWriterHost, hostsByPriority);
   }
+
+  @Test
+  public void testGetReader_hedged_slowHostsDoNotDelayConnection() throws SQLException {
+    // all readers are attempted at the same time
+    // two readers take 20s to connect, the third one connects immediately
+    // expected test result: successful connection for host at index 3, without waiting for the others
+    final List<HostSpec> hosts = defaultHosts.subList(0, 4); // 3 connection attempts (writer not attempted)
+    final HostSpec fastHost = hosts.get(3);
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_READER_HEDGE_SIZE.name, "3");
+    for (final HostSpec host : hosts.subList(1, 3)) {
+      when(mockPluginService.forceConnect(host, properties))
+          .thenAnswer((Answer<Connection>) invocation -> {
+            Thread.sleep(20000);
+            return mockConnection;
+          });
+    }
+    when(mockPluginService.forceConnect(fastHost, properties)).thenReturn(mockConnection);
+
+    Dialect mockDialect = Mockito.mock(Dialect.class);
+    when(mockDialect.getFailoverRestrictions()).thenReturn(EnumSet.noneOf(FailoverRestriction.class));
+    when(mockPluginService.getDialect()).thenReturn(mockDialect);
+
+    final ReaderFailoverHandler target =
+        new ClusterAwareReaderFailoverHandler(
+            mockPluginService,
+            properties);
+
+    final long startTimeNano = System.nanoTime();
+    final ReaderFailoverResult result = target.getReaderConnection(hosts);
+    final long durationNano = System.nanoTime() - startTimeNano;
+
+    assertTrue(result.isConnected());
+    assertSame(mockConnection, result.getConnection());
+    assertEquals(fastHost, result.getHost());
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(durationNano) < 5000);
+    verify(mockPluginService, times(1))
+        .setAvailability(eq(fastHost.asAliases()), eq(HostAvailability.AVAILABLE));
+  }
+
+  @Test
+  public void testGetReader_hedged_closesSlowerConnections() throws SQLException {
+    // both readers are attempted at the same time
+    // one reader connects immediately, the other one connects 200ms later, even when cancelled
+    // expected test result: successful connection for host at index 1, the later connection is closed
+    final List<HostSpec> hosts = defaultHosts.subList(0, 3); // 2 connection attempts (writer not attempted)
+    final HostSpec fastHost = hosts.get(1);
+    final HostSpec slowHost = hosts.get(2);
+    final Connection slowConnection = mock(Connection.class);
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_READER_HEDGE_SIZE.name, "2");
+    when(mockPluginService.forceConnect(fastHost, properties)).thenReturn(mockConnection);
+    when(mockPluginService.forceConnect(slowHost, properties))
+        .thenAnswer((Answer<Connection>) invocation -> {
+          try {
+            Thread.sleep(200);
+          } catch (InterruptedException exception) {
+            // ignore
+          }
+          return slowConnection;
+        });
+
+    Dialect mockDialect = Mockito.mock(Dialect.class);
+    when(mockDialect.getFailoverRestrictions()).thenReturn(EnumSet.noneOf(FailoverRestriction.class));
+    when(mockPluginService.getDialect()).thenReturn(mockDialect);
+
+    final ReaderFailoverHandler target =
+        new ClusterAwareReaderFailoverHandler(
+            mockPluginService,
+            properties);
+    final ReaderFailoverResult result = target.getReaderConnection(hosts);
+
+    assertTrue(result.isConnected());
+    assertSame(mockConnection, result.getConnection());
+    assertEquals(fastHost, result.getHost());
+    verify(slowConnection, timeout(5000)).close();
+    verify(mockConnection, never()).close();
+  }
+
+  @Test
+  public void testGetReader_hedged_timedOutAttemptIsCancelled() throws SQLException {
+    // one attempt at a time, 500ms per attempt
+    // the first reader connects after 1s, even when cancelled, the second reader connects immediately
+    // expected test result: successful connection for host at index 2, the timed out connection is closed
+    final List<HostSpec> hosts = defaultHosts.subList(0, 3); // 2 connection attempts (writer not attempted)
+    final HostSpec slowHost = hosts.get(1);
+    final HostSpec fastHost = hosts.get(2);
+    final Connection slowConnection = mock(Connection.class);
+    setConnectTime(slowHost, 1);
+    setConnectTime(fastHost, 2);
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_READER_HEDGE_SIZE.name, "1");
+    when(mockPluginService.forceConnect(slowHost, properties))
+        .thenAnswer((Answer<Connection>) invocation -> {
+          try {
+            Thread.sleep(1000);
+          } catch (InterruptedException exception) {
+            // ignore
+          }
+          return slowConnection;
+        });
+    when(mockPluginService.forceConnect(fastHost, properties)).thenReturn(mockConnection);
+
+    Dialect mockDialect = Mockito.mock(Dialect.class);
+    when(mockDialect.getFailoverRestrictions()).thenReturn(EnumSet.noneOf(FailoverRestriction.class));
+    when(mockPluginService.getDialect()).thenReturn(mockDialect);
+
+    final ReaderFailoverHandler target =
+        new ClusterAwareReaderFailoverHandler(
+            mockPluginService,
+            properties,
+            DEFAULT_FAILOVER_TIMEOUT,
+            500,
+            false);
+    final ReaderFailoverResult result = target.getReaderConnection(hosts);
+
+    assertTrue(result.isConnected());
+    assertSame(mockConnection, result.getConnection());
+    assertEquals(fastHost, result.getHost());
+    verify(slowConnection, timeout(5000)).close();
+    verify(mockConnection, never()).close();
+  }
+
+  @Test
+  public void testFailover_hedged_retriesAfterShortDelay() throws SQLException {
+    // the writer never connects, the reader fails the first 3 rounds of attempts
+    // expected test result: successful connection for host at index 1, long before 3 rounds of 1s delays
+    final List<HostSpec> hosts = defaultHosts.subList(0, 2);
+    final HostSpec reader = hosts.get(1);
+    final SQLException exception = new SQLException("exception", "08S01", null);
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_READER_HEDGE_SIZE.name, "2");
+    when(mockPluginService.forceConnect(hosts.get(0), properties)).thenThrow(exception);
+    when(mockPluginService.forceConnect(reader, properties))
+        .thenThrow(exception, exception, exception)
+        .thenReturn(mockConnection);
+    when(mockPluginService.isNetworkException(exception)).thenReturn(true);
+
+    final ReaderFailoverHandler target =
+        new ClusterAwareReaderFailoverHandler(
+            mockPluginService,
+            properties);
+
+    final long startTimeNano = System.nanoTime();
+    final ReaderFailoverResult result = target.failover(hosts, null);
+    final long durationNano = System.nanoTime() - startTimeNano;
+
+    assertTrue(result.isConnected());
+    assertSame(mockConnection, result.getConnection());
+    assertEquals(reader, result.getHost());
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(durationNano) < 2000);
+    verify(mockPluginService, times(4)).forceConnect(reader, properties);
+  }
+
+  @Test
+  public void testGetReaderHostsByPriority_hedged_ordersReadersByConnectTime() {
+    final List<HostSpec> hosts = defaultHosts.subList(0, 4);
+    final HostSpec writer = hosts.get(0);
+    final HostSpec slowReader = hosts.get(1);
+    final HostSpec unknownReader = hosts.get(2);
+    final HostSpec fastReader = hosts.get(3);
+    setConnectTime(slowReader, 50);
+    setConnectTime(fastReader, 5);
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_READER_HEDGE_SIZE.name, "2");
+
+    Dialect mockDialect = Mockito.mock(Dialect.class);
+    when(mockDialect.getFailoverRestrictions()).thenReturn(EnumSet.noneOf(FailoverRestriction.class));
+    when(mockPluginService.getDialect()).thenReturn(mockDialect);
+
+    final ClusterAwareReaderFailoverHandler target =
+        new ClusterAwareReaderFailoverHandler(
+            mockPluginService,
+            properties);
+
+    assertEquals(Arrays.asList(fastReader, slowReader, unknownReader), target.getReaderHostsByPriority(hosts));
+    assertEquals(
+        Arrays.asList(fastReader, slowReader, unknownReader, writer), target.getHostsByPriority(hosts));
+  }
+
+  private void setConnectTime(final HostSpec host, final long connectTimeMs) {
+    ClusterAwareReaderFailoverHandler.connectTimesNano.put(
+        host.getUrl(),
+        TimeUnit.MILLISECONDS.toNanos(connectTimeMs),
+        ClusterAwareReaderFailoverHandler.CONNECT_TIME_EXPIRATION_NANO);
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class AliasTableTest {
+
+  private static final int SAMPLES = 100_000;
+
+  @Test
+  public void testSamplesProportionallyToWeights() {
+    final long[] weights = {1, 5, 0, 10, 4};
+    final int[] counts = sample(new AliasTable(weights), new Random(42));
+
+    assertEquals(0, counts[2]);
+    for (int i = 0; i < weights.length; i++) {
+      assertEquals(weights[i] / 20.0, (double) counts[i] / SAMPLES, 0.01);
+    }
+  }
+
+  @Test
+  public void testNegativeWeightsAreNeverSampled() {
+    final int[] counts = sample(new AliasTable(new long[] {-3, 2, 2}), new Random(42));
+
+    assertEquals(0, counts[0]);
+    assertEquals(0.5, (double) counts[1] / SAMPLES, 0.01);
+  }
+
+  @Test
+  public void testSamplesUniformlyWithoutWeights() {
+    final int[] counts = sample(new AliasTable(new long[] {0, 0, 0, 0}), new Random(42));
+
+    for (final int count : counts) {
+      assertEquals(0.25, (double) count / SAMPLES, 0.01);
+    }
+  }
+
+  @Test
+  public void testEmptyTable() {
+    final AliasTable table = new AliasTable(new long[0]);
+
+    assertEquals(0, table.size());
+    assertEquals(-1, table.sample(new Random(42)));
+  }
+
+  private static int[] sample(final AliasTable table, final Random random) {
+    final int[] counts = new int[table.size()];
+    for (int i = 0; i < SAMPLES; i++) {
+      counts[table.sample(random)]++;
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class CacheMapTest {
+
+  @Test
+  public void testGetExpiredEntry() throws InterruptedException {
+    final CacheMap<String, String> map = new CacheMap<>();
+    map.put("a", "1", TimeUnit.MILLISECONDS.toNanos(10));
+    map.put("b", "2", TimeUnit.MINUTES.toNanos(10));
+    assertEquals("1", map.get("a"));
+
+    TimeUnit.MILLISECONDS.sleep(20);
+    assertNull(map.get("a"));
+    assertEquals("2", map.get("b"));
+    assertEquals("3", map.get("a", "3", TimeUnit.MINUTES.toNanos(10)));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void testExpiredEntriesRemovedOnUpdate() throws InterruptedException {
+    final CacheMap<String, String> map = new CacheMap<>();
+    map.put("a", "1", TimeUnit.MILLISECONDS.toNanos(10));
+    map.put("b", "2", TimeUnit.MILLISECONDS.toNanos(10));
+    map.put("b", "2", TimeUnit.MINUTES.toNanos(10));
+
+    TimeUnit.MILLISECONDS.sleep(20);
+    map.remove("c");
+    assertEquals(1, map.size());
+    assertEquals("2", map.get("b"));
+  }
+
+  @Test
+  public void testExpiredAutoCloseableClosedOffThread() throws InterruptedException {
+    final CacheMap<String, AutoCloseable> map = new CacheMap<>();
+    final CountDownLatch closed = new CountDownLatch(1);
+    final AtomicReference<Thread> closingThread = new AtomicReference<>();
+    map.put(
+        "a",
+        () -> {
+          closingThread.set(Thread.currentThread());
+          closed.countDown();
+        },
+        TimeUnit.MILLISECONDS.toNanos(10));
+
+    TimeUnit.MILLISECONDS.sleep(20);
+    map.put("b", () -> { }, TimeUnit.MINUTES.toNanos(10));
+
+    assertTrue(closed.await(5, TimeUnit.SECONDS));
+    assertNotEquals(Thread.currentThread(), closingThread.get());
+    assertEquals(1, map.size());
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.Driver;
+
+public class ExecutorFactoryTest {
+
+  @AfterEach
+  void tearDown() {
+    Driver.resetCustomExecutorFactory();
+  }
+
+  @Test
+  public void testDefaultFactoryMatchesJvm() {
+    final ExecutorFactory defaultFactory = ExecutorFactoryManager.getDefaultExecutorFactory();
+    if (VirtualThreadExecutorFactory.isSupported()) {
+      assertInstanceOf(VirtualThreadExecutorFactory.class, defaultFactory);
+      assertTrue(defaultFactory.usesLightweightThreads());
+    } else {
+      assertInstanceOf(PlatformThreadExecutorFactory.class, defaultFactory);
+      assertFalse(defaultFactory.usesLightweightThreads());
+    }
+    assertSame(defaultFactory, ExecutorFactoryManager.getExecutorFactory());
+  }
+
+  @Test
+  public void testCustomFactory() {
+    final ExecutorFactory customFactory = new PlatformThreadExecutorFactory();
+    Driver.setCustomExecutorFactory(customFactory);
+    assertSame(customFactory, ExecutorFactoryManager.getExecutorFactory());
+
+    Driver.resetCustomExecutorFactory();
+    assertSame(ExecutorFactoryManager.getDefaultExecutorFactory(), ExecutorFactoryManager.getExecutorFactory());
+  }
+
+  @Test
+  public void testExecutorsRunTasks() throws ExecutionException, InterruptedException, TimeoutException {
+    assertEquals(1, runTask(new PlatformThreadExecutorFactory()));
+    if (VirtualThreadExecutorFactory.isSupported()) {
+      assertEquals(1, runTask(new VirtualThreadExecutorFactory()));
+    } else {
+      assertThrows(UnsupportedOperationException.class,
+          () -> new VirtualThreadExecutorFactory().newExecutorService("test", 1));
+    }
+  }
+
+  private int runTask(final ExecutorFactory factory)
+      throws ExecutionException, InterruptedException, TimeoutException {
+    final ExecutorService executor = factory.newExecutorService("test", 1);
+    try {
+      return executor.submit(() -> 1).get(5, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testEmptyHistogram() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMaxNano());
+    assertEquals(0, histogram.getPercentileNano(99));
+  }
+
+  @Test
+  public void testPercentilesAreBucketUpperBounds() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 90; i++) {
+      histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    assertEquals(100, histogram.getCount());
+    // 100 microseconds fall in the [64, 128) bucket.
+    assertEquals(TimeUnit.MICROSECONDS.toNanos(128), histogram.getPercentileNano(50));
+    assertEquals(TimeUnit.MICROSECONDS.toNanos(128), histogram.getPercentileNano(90));
+    // The upper bound of the [32768, 65536) bucket is capped by the largest recorded duration.
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(50), histogram.getPercentileNano(99));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(50), histogram.getMaxNano());
+  }
+
+  @Test
+  public void testOutOfRangeDurations() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE);
+
+    assertEquals(2, histogram.getCount());
+    assertEquals(TimeUnit.MICROSECONDS.toNanos(2), histogram.getPercentileNano(50));
+    assertEquals(Long.MAX_VALUE, histogram.getPercentileNano(100));
+  }
+
+  @Test
+  public void testReset() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMaxNano());
+  }
+
+  @Test
+  public void testInvalidPercentile() {
+    assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentileNano(101));
+  }
+}
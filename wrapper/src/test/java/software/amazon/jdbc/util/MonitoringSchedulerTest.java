@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.Driver;
+import software.amazon.jdbc.util.MonitoringScheduler.ScheduledTask;
+
+public class MonitoringSchedulerTest {
+
+  private static final long DELAY_NANO = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  public void testTaskRunsUntilItReturnsNegativeDelay() throws InterruptedException {
+    final AtomicInteger runs = new AtomicInteger();
+    final ScheduledTask task = MonitoringScheduler.schedule(
+        "test", () -> runs.incrementAndGet() < 3 ? DELAY_NANO : -1, 0, null);
+
+    assertTrue(waitFor(task::isStopped));
+    assertEquals(3, runs.get());
+  }
+
+  @Test
+  public void testFailedTaskIsStopped() throws InterruptedException {
+    final AtomicInteger runs = new AtomicInteger();
+    final ScheduledTask task = MonitoringScheduler.schedule(
+        "test",
+        () -> {
+          runs.incrementAndGet();
+          throw new IllegalStateException();
+        },
+        0,
+        null);
+
+    assertTrue(waitFor(task::isStopped));
+    TimeUnit.MILLISECONDS.sleep(20);
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void testCancelWaitsForRunningIteration() throws InterruptedException {
+    final AtomicInteger runs = new AtomicInteger();
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ScheduledTask task = MonitoringScheduler.schedule(
+        "test",
+        () -> {
+          runs.incrementAndGet();
+          started.countDown();
+          release.await();
+          return DELAY_NANO;
+        },
+        0,
+        null);
+
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    task.cancel();
+    assertTrue(task.isStopped());
+    assertFalse(task.awaitTermination(20, TimeUnit.MILLISECONDS));
+
+    release.countDown();
+    assertTrue(task.awaitTermination(5, TimeUnit.SECONDS));
+    TimeUnit.MILLISECONDS.sleep(20);
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void testCancelBeforeFirstRun() throws InterruptedException {
+    final AtomicInteger runs = new AtomicInteger();
+    final ScheduledTask task = MonitoringScheduler.schedule(
+        "test", () -> runs.incrementAndGet(), TimeUnit.SECONDS.toNanos(10), null);
+
+    task.cancel();
+    assertTrue(task.awaitTermination(0, TimeUnit.MILLISECONDS));
+    assertEquals(0, runs.get());
+  }
+
+  @Test
+  public void testCancelIterationQueuedOnTaskExecutor() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final ExecutorService blockedExecutor = Executors.newSingleThreadExecutor();
+    blockedExecutor.execute(() -> {
+      try {
+        release.await();
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    Driver.setCustomExecutorFactory(new ExecutorFactory() {
+      @Override
+      public ExecutorService newExecutorService(final String name, final int maxThreads) {
+        return blockedExecutor;
+      }
+
+      @Override
+      public boolean usesLightweightThreads() {
+        return true;
+      }
+    });
+
+    try {
+      final AtomicInteger runs = new AtomicInteger();
+      final ScheduledTask task = MonitoringScheduler.schedule("test", () -> runs.incrementAndGet(), 0, null);
+
+      // The iteration is queued behind the blocked task of the executor.
+      assertTrue(waitFor(() -> task.running));
+      task.cancel();
+      assertTrue(task.awaitTermination(0, TimeUnit.MILLISECONDS));
+      assertFalse(MonitoringScheduler.tasks.contains(task));
+
+      release.countDown();
+      TimeUnit.MILLISECONDS.sleep(20);
+      assertEquals(0, runs.get());
+    } finally {
+      release.countDown();
+      Driver.resetCustomExecutorFactory();
+      blockedExecutor.shutdown();
+    }
+  }
+
+  @Test
+  public void testBlockedIterationsDontDelayOtherTasks() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final List<ScheduledTask> blockedTasks = new ArrayList<>();
+    try {
+      // More blocked iterations than scheduler threads.
+      for (int i = 0; i <= MonitoringScheduler.getPoolSize(); i++) {
+        blockedTasks.add(MonitoringScheduler.schedule(
+            "blocked",
+            () -> {
+              release.await();
+              return -1;
+            },
+            0,
+            null));
+      }
+      assertTrue(waitFor(() -> blockedTasks.stream().allMatch(task -> task.running)));
+
+      final ScheduledTask task = MonitoringScheduler.schedule("test", () -> -1, 0, null);
+      assertTrue(waitFor(task::isStopped));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private boolean waitFor(final BooleanSupplier condition) throws InterruptedException {
+    final long endTimeNano = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > endTimeNano) {
+        return false;
+      }
+      TimeUnit.MILLISECONDS.sleep(1);
+    }
+    return true;
+  }
+}
@@ -24,8 +24,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -130,4 +133,95 @@ public class SlidingExpirationCacheTest {
     verify(mockDisposalFunc, times(1)).dispose(eq("b"));
     assertEquals("d", map.computeIfAbsent(1, (key) -> "d", timeoutNanos));
   }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() throws InterruptedException {
+    final SlidingExpirationCache<Integer, String>
+        map = new SlidingExpirationCache<>(mockShouldDisposeFunc, mockDisposalFunc);
+    final long timeoutNanos = TimeUnit.MINUTES.toNanos(10);
+    when(mockShouldDisposeFunc.shouldDispose(any())).thenReturn(true);
+    when(mockShouldDisposeFunc.shouldDispose(eq("b"))).thenReturn(false);
+    map.computeIfAbsent(1, (key) -> "a", timeoutNanos);
+    TimeUnit.MILLISECONDS.sleep(1);
+    map.computeIfAbsent(2, (key) -> "b", timeoutNanos);
+    TimeUnit.MILLISECONDS.sleep(1);
+    map.computeIfAbsent(3, (key) -> "c", timeoutNanos);
+    TimeUnit.MILLISECONDS.sleep(1);
+    map.computeIfAbsent(4, (key) -> "d", timeoutNanos);
+    TimeUnit.MILLISECONDS.sleep(1);
+    map.get(1, timeoutNanos);
+
+    assertEquals(0, map.evict(4, 0, null, SlidingExpirationCache.EvictionPolicy.LEAST_RECENTLY_USED));
+    // "b" can't be disposed, so "c" and "d" are evicted before the most recently used "a".
+    assertEquals(2, map.evict(2, 0, null, SlidingExpirationCache.EvictionPolicy.LEAST_RECENTLY_USED));
+    assertEquals(expectedKeys(1, 2), map.getEntries().keySet());
+    verify(mockDisposalFunc, times(1)).dispose(eq("c"));
+    verify(mockDisposalFunc, times(1)).dispose(eq("d"));
+  }
+
+  @Test
+  public void testEvictLeastFrequentlyUsedByWeight() {
+    final SlidingExpirationCache<Integer, String>
+        map = new SlidingExpirationCache<>(mockShouldDisposeFunc, mockDisposalFunc);
+    final long timeoutNanos = TimeUnit.MINUTES.toNanos(10);
+    when(mockShouldDisposeFunc.shouldDispose(any())).thenReturn(true);
+    map.computeIfAbsent(1, (key) -> "aaa", timeoutNanos);
+    map.computeIfAbsent(2, (key) -> "bb", timeoutNanos);
+    map.computeIfAbsent(3, (key) -> "c", timeoutNanos);
+    map.get(1, timeoutNanos);
+    map.get(1, timeoutNanos);
+    map.get(3, timeoutNanos);
+
+    assertEquals(1, map.evict(0, 4, String::length, SlidingExpirationCache.EvictionPolicy.LEAST_FREQUENTLY_USED));
+    assertEquals(expectedKeys(1, 3), map.getEntries().keySet());
+    verify(mockDisposalFunc, times(1)).dispose(eq("bb"));
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsedByWeightInSeveralBatches() throws InterruptedException {
+    final SlidingExpirationCache<Integer, String>
+        map = new SlidingExpirationCache<>(mockShouldDisposeFunc, mockDisposalFunc);
+    final long timeoutNanos = TimeUnit.MINUTES.toNanos(10);
+    when(mockShouldDisposeFunc.shouldDispose(any())).thenReturn(true);
+    when(mockShouldDisposeFunc.shouldDispose(eq("a"))).thenReturn(false);
+    for (int i = 0; i < 5; i++) {
+      final String value = String.valueOf((char) ('a' + i));
+      map.computeIfAbsent(i + 1, (key) -> value, timeoutNanos);
+      TimeUnit.MILLISECONDS.sleep(1);
+    }
+
+    // The entries to evict aren't known in advance with a weight limit, and "a" can't be disposed.
+    assertEquals(3, map.evict(0, 2, String::length, SlidingExpirationCache.EvictionPolicy.LEAST_RECENTLY_USED));
+    assertEquals(expectedKeys(1, 5), map.getEntries().keySet());
+    verify(mockDisposalFunc, times(1)).dispose(eq("b"));
+    verify(mockDisposalFunc, times(1)).dispose(eq("c"));
+    verify(mockDisposalFunc, times(1)).dispose(eq("d"));
+  }
+
+  @Test
+  public void testPinnedEntryIsNotEvicted() {
+    final SlidingExpirationCache<Integer, String>
+        map = new SlidingExpirationCache<>(mockShouldDisposeFunc, mockDisposalFunc);
+    final long timeoutNanos = TimeUnit.MINUTES.toNanos(10);
+    when(mockShouldDisposeFunc.shouldDispose(any())).thenReturn(true);
+    map.computeIfAbsent(1, (key) -> "a", timeoutNanos);
+    map.get(1, timeoutNanos);
+    // The new entry is the least frequently used one, but it's pinned until it's in use.
+    assertEquals("b", map.computeIfAbsentAndPin(2, (key) -> "b", timeoutNanos));
+
+    assertEquals(1, map.evict(1, 0, null, SlidingExpirationCache.EvictionPolicy.LEAST_FREQUENTLY_USED));
+    assertEquals(expectedKeys(2), map.getEntries().keySet());
+    verify(mockDisposalFunc, times(1)).dispose(eq("a"));
+
+    map.computeIfAbsent(3, (key) -> "c", timeoutNanos);
+    map.get(3, timeoutNanos);
+    map.unpin(2, "b");
+    assertEquals(1, map.evict(1, 0, null, SlidingExpirationCache.EvictionPolicy.LEAST_FREQUENTLY_USED));
+    assertEquals(expectedKeys(3), map.getEntries().keySet());
+    verify(mockDisposalFunc, times(1)).dispose(eq("b"));
+  }
+
+  private static Set<Integer> expectedKeys(final Integer... keys) {
+    return new HashSet<>(Arrays.asList(keys));
+  }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class SocketProberTest {
+
+  private static final long TIMEOUT_NANO = TimeUnit.SECONDS.toNanos(5);
+
+  @Test
+  public void testReachableHost() throws Exception {
+    try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+      assertTrue(SocketProber.isReachable(
+          InetAddress.getLoopbackAddress().getHostAddress(), serverSocket.getLocalPort(), TIMEOUT_NANO));
+    }
+  }
+
+  @Test
+  public void testClosedPort() throws Exception {
+    final int port;
+    try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+      port = serverSocket.getLocalPort();
+    }
+    assertFalse(SocketProber.isReachable(InetAddress.getLoopbackAddress().getHostAddress(), port, TIMEOUT_NANO));
+  }
+
+  @Test
+  public void testUnknownHost() {
+    assertFalse(SocketProber.isReachable("unknown-host.invalid", 5432, TIMEOUT_NANO));
+  }
+
+  @Test
+  public void testConcurrentProbes() throws Exception {
+    try (ServerSocket serverSocket = new ServerSocket(0, 200, InetAddress.getLoopbackAddress())) {
+      final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        results.add(SocketProber.probe(
+            InetAddress.getLoopbackAddress().getHostAddress(), serverSocket.getLocalPort(), TIMEOUT_NANO));
+      }
+      for (final CompletableFuture<Boolean> result : results) {
+        assertTrue(result.get(10, TimeUnit.SECONDS));
+      }
+    }
+  }
+}
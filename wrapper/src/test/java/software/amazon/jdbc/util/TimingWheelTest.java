@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+  private static final long START_TIME_NANO = 1_000_000_000L;
+
+  @Test
+  public void testAdvanceReturnsDueElements() {
+    final TimingWheel<String> wheel = new TimingWheel<>(START_TIME_NANO);
+    wheel.schedule("a", START_TIME_NANO + TimeUnit.MILLISECONDS.toNanos(10));
+    wheel.schedule("b", START_TIME_NANO + TimeUnit.SECONDS.toNanos(10));
+    wheel.schedule("c", START_TIME_NANO + TimeUnit.MINUTES.toNanos(10));
+    wheel.schedule("d", START_TIME_NANO + TimeUnit.DAYS.toNanos(30));
+    assertEquals(4, wheel.size());
+
+    assertTrue(wheel.advance(START_TIME_NANO + TimeUnit.MILLISECONDS.toNanos(5)).isEmpty());
+    assertEquals(Collections.singletonList("a"), elements(wheel.advance(START_TIME_NANO + TimeUnit.MILLISECONDS.toNanos(10))));
+    assertTrue(wheel.advance(START_TIME_NANO + TimeUnit.SECONDS.toNanos(9)).isEmpty());
+    assertEquals(Collections.singletonList("b"), elements(wheel.advance(START_TIME_NANO + TimeUnit.SECONDS.toNanos(11))));
+    assertTrue(wheel.advance(START_TIME_NANO + TimeUnit.MINUTES.toNanos(9)).isEmpty());
+    assertEquals(Collections.singletonList("c"), elements(wheel.advance(START_TIME_NANO + TimeUnit.HOURS.toNanos(1))));
+    assertTrue(wheel.advance(START_TIME_NANO + TimeUnit.DAYS.toNanos(29)).isEmpty());
+    assertEquals(Collections.singletonList("d"), elements(wheel.advance(START_TIME_NANO + TimeUnit.DAYS.toNanos(31))));
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void testDeadlineWithinCurrentTick() {
+    final TimingWheel<String> wheel = new TimingWheel<>(START_TIME_NANO);
+    wheel.schedule("a", START_TIME_NANO + 10);
+    wheel.schedule("b", START_TIME_NANO - 10);
+
+    assertEquals(Collections.singletonList("b"), elements(wheel.advance(START_TIME_NANO + 5)));
+    assertEquals(Collections.singletonList("a"), elements(wheel.advance(START_TIME_NANO + 10)));
+  }
+
+  @Test
+  public void testRescheduleAndCancel() {
+    final TimingWheel<String> wheel = new TimingWheel<>(START_TIME_NANO);
+    final TimingWheel.Timeout<String> a = wheel.schedule("a", START_TIME_NANO + TimeUnit.SECONDS.toNanos(1));
+    final TimingWheel.Timeout<String> b = wheel.schedule("b", START_TIME_NANO + TimeUnit.SECONDS.toNanos(1));
+
+    wheel.reschedule(a, START_TIME_NANO + TimeUnit.SECONDS.toNanos(3));
+    wheel.cancel(b);
+    wheel.cancel(b);
+    assertEquals(1, wheel.size());
+
+    assertTrue(wheel.advance(START_TIME_NANO + TimeUnit.SECONDS.toNanos(2)).isEmpty());
+    final List<TimingWheel.Timeout<String>> due = wheel.advance(START_TIME_NANO + TimeUnit.SECONDS.toNanos(3));
+    assertEquals(Collections.singletonList("a"), elements(due));
+    assertEquals(START_TIME_NANO + TimeUnit.SECONDS.toNanos(3), due.get(0).getDeadlineNano());
+
+    wheel.reschedule(a, START_TIME_NANO + TimeUnit.SECONDS.toNanos(4));
+    wheel.clear();
+    assertEquals(0, wheel.size());
+    assertTrue(wheel.advance(START_TIME_NANO + TimeUnit.SECONDS.toNanos(5)).isEmpty());
+  }
+
+  @Test
+  public void testLongJump() {
+    final TimingWheel<Integer> wheel = new TimingWheel<>(START_TIME_NANO);
+    for (int i = 0; i < 1000; i++) {
+      wheel.schedule(i, START_TIME_NANO + TimeUnit.MILLISECONDS.toNanos(i * 37L));
+    }
+
+    final List<TimingWheel.Timeout<Integer>> due = wheel.advance(START_TIME_NANO + TimeUnit.SECONDS.toNanos(20));
+    assertEquals(541, due.size());
+    assertEquals(459, wheel.size());
+    assertEquals(459, wheel.advance(START_TIME_NANO + TimeUnit.SECONDS.toNanos(40)).size());
+  }
+
+  private static <T> List<T> elements(final List<TimingWheel.Timeout<T>> timeouts) {
+    return timeouts.stream().map(TimingWheel.Timeout::getElement).collect(Collectors.toList());
+  }
+}
@@ -18,6 +18,8 @@ package software.amazon.jdbc.util;
 
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -27,12 +29,15 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
+import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReentrantLock;
 import org.junit.jupiter.api.AfterEach;
@@ -44,8 +49,10 @@ import software.amazon.jdbc.ConnectionPluginManager;
 import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.wrapper.BlobWrapper;
 import software.amazon.jdbc.wrapper.CallableStatementWrapper;
 import software.amazon.jdbc.wrapper.PreparedStatementWrapper;
+import software.amazon.jdbc.wrapper.ResultSetWrapper;
 import software.amazon.jdbc.wrapper.StatementWrapper;
 
 public class WrapperUtilsTest {
@@ -74,7 +81,7 @@ public class WrapperUtilsTest {
         any(Class.class),
         any(Class.class),
         any(Object.class),
-        argThat(methodName -> !AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)),
+        argThat((String methodName) -> !AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)),
         any(JdbcCallable.class),
         any(Object[].class));
 
@@ -192,4 +199,51 @@ public class WrapperUtilsTest {
             mock(CallableStatement.class),
             mockPluginManager));
   }
+
+  @Test
+  void testValueTypesAreNotWrapped() throws InstantiationException {
+    ConnectionPluginManager mockPluginManager = mock(ConnectionPluginManager.class);
+
+    final Integer intValue = 42;
+    final String stringValue = "value";
+    final BigDecimal decimalValue = new BigDecimal("42.42");
+    final Timestamp timestampValue = new Timestamp(0);
+
+    assertSame(intValue, WrapperUtils.wrapWithProxyIfNeeded(int.class, intValue, mockPluginManager));
+    assertSame(stringValue, WrapperUtils.wrapWithProxyIfNeeded(Object.class, stringValue, mockPluginManager));
+    assertSame(decimalValue, WrapperUtils.wrapWithProxyIfNeeded(Object.class, decimalValue, mockPluginManager));
+    assertSame(timestampValue,
+        WrapperUtils.wrapWithProxyIfNeeded(Timestamp.class, timestampValue, mockPluginManager));
+  }
+
+  @Test
+  void testWrappingDecisionIsCachedPerResultClassAndRuntimeClass() throws InstantiationException {
+    ConnectionPluginManager mockPluginManager = mock(ConnectionPluginManager.class);
+    final Blob blob = mock(Blob.class);
+
+    // The same runtime class is wrapped based on the interfaces it implements when returned as an Object.
+    for (int i = 0; i < 2; i++) {
+      assertInstanceOf(BlobWrapper.class,
+          WrapperUtils.wrapWithProxyIfNeeded(Object.class, blob, mockPluginManager));
+      assertInstanceOf(BlobWrapper.class,
+          WrapperUtils.wrapWithProxyIfNeeded(Blob.class, blob, mockPluginManager));
+      assertInstanceOf(ResultSetWrapper.class,
+          WrapperUtils.wrapWithProxyIfNeeded(ResultSet.class, mock(ResultSet.class), mockPluginManager));
+    }
+
+    // Objects that are already wrapped are returned as is.
+    final ResultSetWrapper resultSetWrapper = new ResultSetWrapper(mock(ResultSet.class), mockPluginManager);
+    assertSame(resultSetWrapper,
+        WrapperUtils.wrapWithProxyIfNeeded(ResultSet.class, resultSetWrapper, mockPluginManager));
+  }
+
+  @Test
+  void testJdbcObjectWithoutWrapperClassThrows() {
+    ConnectionPluginManager mockPluginManager = mock(ConnectionPluginManager.class);
+
+    for (int i = 0; i < 2; i++) {
+      assertThrows(RuntimeException.class,
+          () -> WrapperUtils.wrapWithProxyIfNeeded(Object.class, mock(Connection.class), mockPluginManager));
+    }
+  }
 }
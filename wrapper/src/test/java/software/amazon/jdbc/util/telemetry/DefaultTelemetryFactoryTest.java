@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.JdbcMethod;
+import software.amazon.jdbc.PropertyDefinition;
+
+class DefaultTelemetryFactoryTest {
+
+  @Test
+  void testShouldTraceWithTelemetryDisabled() {
+    final DefaultTelemetryFactory factory = new DefaultTelemetryFactory(new Properties());
+
+    assertFalse(factory.shouldTrace(JdbcMethod.STATEMENT_EXECUTE_QUERY));
+    assertFalse(factory.shouldTrace(JdbcMethod.RESULT_SET_NEXT));
+  }
+
+  @Test
+  void testShouldTraceAllMethodsByDefault() {
+    final DefaultTelemetryFactory factory = new DefaultTelemetryFactory(getTracingProperties());
+
+    assertTrue(factory.shouldTrace(JdbcMethod.STATEMENT_EXECUTE_QUERY));
+    assertTrue(factory.shouldTrace(JdbcMethod.RESULT_SET_NEXT));
+  }
+
+  @Test
+  void testShouldTraceWithIncludedAndExcludedMethods() {
+    final Properties props = getTracingProperties();
+    props.setProperty(PropertyDefinition.TELEMETRY_INCLUDED_METHODS.name,
+        "Statement.executeQuery, Connection.commit,ResultSet.next");
+    props.setProperty(PropertyDefinition.TELEMETRY_EXCLUDED_METHODS.name, "ResultSet.next");
+    final DefaultTelemetryFactory factory = new DefaultTelemetryFactory(props);
+
+    assertTrue(factory.shouldTrace(JdbcMethod.STATEMENT_EXECUTE_QUERY));
+    assertTrue(factory.shouldTrace(JdbcMethod.CONNECTION_COMMIT));
+    assertFalse(factory.shouldTrace(JdbcMethod.RESULT_SET_NEXT));
+    assertFalse(factory.shouldTrace(JdbcMethod.CONNECTION_ROLLBACK));
+  }
+
+  @Test
+  void testShouldTraceNetworkBoundMethodsOnly() {
+    final Properties props = getTracingProperties();
+    props.setProperty(PropertyDefinition.TELEMETRY_NETWORK_BOUND_METHODS_ONLY.name, "true");
+    final DefaultTelemetryFactory factory = new DefaultTelemetryFactory(props);
+
+    assertTrue(factory.shouldTrace(JdbcMethod.STATEMENT_EXECUTE_QUERY));
+    assertTrue(factory.shouldTrace(JdbcMethod.CONNECTION_COMMIT));
+    assertFalse(factory.shouldTrace(JdbcMethod.RESULT_SET_NEXT));
+    assertFalse(factory.shouldTrace(JdbcMethod.RESULT_SET_GET_INT));
+  }
+
+  @Test
+  void testShouldTraceWithSamplingRate() {
+    final Properties props = getTracingProperties();
+    props.setProperty(PropertyDefinition.TELEMETRY_SAMPLING_RATE.name, "0");
+    final DefaultTelemetryFactory factory = new DefaultTelemetryFactory(props);
+
+    for (int i = 0; i < 100; i++) {
+      assertFalse(factory.shouldTrace(JdbcMethod.STATEMENT_EXECUTE_QUERY));
+    }
+
+    props.setProperty(PropertyDefinition.TELEMETRY_SAMPLING_RATE.name, "1.5");
+    assertThrows(RuntimeException.class, () -> new DefaultTelemetryFactory(props));
+  }
+
+  private static Properties getTracingProperties() {
+    final Properties props = new Properties();
+    props.setProperty(PropertyDefinition.ENABLE_TELEMETRY.name, "true");
+    props.setProperty(PropertyDefinition.TELEMETRY_TRACES_BACKEND.name, "XRAY");
+    props.setProperty(PropertyDefinition.TELEMETRY_METRICS_BACKEND.name, "NONE");
+    return props;
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.wrapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.TimeZone;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.BooleanJdbcCallable;
+import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.JdbcMethod;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+
+public class ResultSetRowBufferTest {
+
+  private static final Object[][] ROWS = {
+      {1, "one", new BigDecimal("1.50")},
+      {2, null, new BigDecimal("2.00")},
+      {3L, "3", null},
+  };
+
+  @Mock ResultSet mockResultSet;
+  @Mock ResultSetMetaData mockMetaData;
+  @Mock ConnectionPluginManager mockPluginManager;
+  @Mock TelemetryFactory mockTelemetryFactory;
+  private AutoCloseable closeable;
+  private int targetRow;
+
+  @BeforeEach
+  void init() throws SQLException {
+    closeable = MockitoAnnotations.openMocks(this);
+    targetRow = -1;
+
+    when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+    when(mockMetaData.getColumnCount()).thenReturn(3);
+    when(mockMetaData.getColumnLabel(1)).thenReturn("ID");
+    when(mockMetaData.getColumnLabel(2)).thenReturn("Name");
+    when(mockMetaData.getColumnLabel(3)).thenReturn("amount");
+    when(mockMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+    when(mockMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+    when(mockMetaData.getColumnType(3)).thenReturn(Types.DECIMAL);
+    when(mockResultSet.next()).thenAnswer(invocation -> ++targetRow < ROWS.length);
+    when(mockResultSet.getObject(anyInt()))
+        .thenAnswer(invocation -> ROWS[targetRow][(int) invocation.getArgument(0) - 1]);
+    when(mockResultSet.getString(anyInt())).thenAnswer(invocation -> {
+      final Object value = ROWS[targetRow][(int) invocation.getArgument(0) - 1];
+      return value == null ? null : value.toString();
+    });
+    when(mockResultSet.getType()).thenReturn(ResultSet.TYPE_FORWARD_ONLY);
+    when(mockResultSet.getConcurrency()).thenReturn(ResultSet.CONCUR_READ_ONLY);
+
+    when(mockPluginManager.getTelemetryFactory()).thenReturn(mockTelemetryFactory);
+    when(mockPluginManager.executeBoolean(
+        any(), any(), eq(JdbcMethod.RESULT_SET_NEXT), any(), any(), anyBoolean()))
+        .thenAnswer(invocation -> ((BooleanJdbcCallable<?>) invocation.getArgument(3)).call());
+    when(mockPluginManager.execute(any(), any(), any(), any(JdbcMethod.class), any(), any(), anyBoolean()))
+        .thenAnswer(invocation -> ((JdbcCallable<?, ?>) invocation.getArgument(4)).call());
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    closeable.close();
+  }
+
+  @Test
+  void testFetchBlocks() throws SQLException {
+    final ResultSetRowBuffer buffer = new ResultSetRowBuffer(2, mockMetaData);
+    assertTrue(buffer.isBeforeFirst());
+
+    assertTrue(buffer.fetchBlock(mockResultSet));
+    assertTrue(buffer.isFirst());
+    assertEquals(1, buffer.getRow());
+    assertEquals(1, buffer.getInt(1));
+    assertEquals("one", buffer.getString(buffer.findColumn("name")));
+    assertEquals(1.5, buffer.getDouble(3));
+    assertFalse(buffer.wasNull());
+
+    assertTrue(buffer.next());
+    assertEquals(2, buffer.getRow());
+    assertNull(buffer.getString(2));
+    assertTrue(buffer.wasNull());
+    assertEquals(2, buffer.getLong(3));
+    assertFalse(buffer.next());
+    assertFalse(buffer.isTargetExhausted());
+
+    assertTrue(buffer.fetchBlock(mockResultSet));
+    assertEquals(3, buffer.getRow());
+    assertEquals(3, buffer.getInt(buffer.findColumn("Id")));
+    assertEquals(3, buffer.getInt(2));
+    assertEquals(0, buffer.getInt(3));
+    assertTrue(buffer.wasNull());
+    assertTrue(buffer.isTargetExhausted());
+
+    buffer.afterLast();
+    assertTrue(buffer.isAfterLast());
+    assertEquals(0, buffer.getRow());
+  }
+
+  @Test
+  void testUnsupportedConversion() throws SQLException {
+    when(mockResultSet.getObject(anyInt())).thenReturn("abc");
+    final ResultSetRowBuffer buffer = new ResultSetRowBuffer(2, mockMetaData);
+    assertTrue(buffer.fetchBlock(mockResultSet));
+
+    assertThrows(SQLException.class, () -> buffer.getInt(1));
+    assertThrows(SQLException.class, () -> buffer.getTimestamp(1, null));
+    assertThrows(SQLException.class, () -> buffer.getObject(1, Array.class));
+    assertThrows(SQLException.class, () -> buffer.getObject(4));
+    assertThrows(SQLException.class, () -> buffer.findColumn("missing"));
+  }
+
+  @Test
+  void testGettersReturnTargetDriverValues() throws SQLException, IOException {
+    // The target driver reads a boolean as "t", and a decimal as text with its scale.
+    when(mockResultSet.getObject(1)).thenReturn(true);
+    when(mockResultSet.getString(1)).thenReturn("t");
+    when(mockResultSet.getObject(2)).thenReturn("2024-01-02 03:04:05.5");
+    when(mockResultSet.getString(2)).thenReturn("2024-01-02 03:04:05.5");
+    when(mockResultSet.getObject(3)).thenReturn(new BigDecimal("1E+3"));
+    when(mockResultSet.getString(3)).thenReturn("1000");
+    final ResultSetRowBuffer buffer = new ResultSetRowBuffer(2, mockMetaData);
+    assertTrue(buffer.fetchBlock(mockResultSet));
+
+    assertEquals("t", buffer.getString(1));
+    assertTrue(buffer.getBoolean(1));
+    assertEquals("1000", buffer.getString(3));
+    assertEquals("1000", buffer.getObject(3, String.class));
+
+    final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    assertEquals(Timestamp.valueOf("2024-01-02 03:04:05.5"), buffer.getTimestamp(2, null));
+    assertEquals(Timestamp.from(Instant.parse("2024-01-02T03:04:05.5Z")), buffer.getTimestamp(2, utc));
+    assertEquals(Date.valueOf("2024-01-02"), buffer.getDate(2, null));
+    assertEquals(Time.valueOf("03:04:05"), buffer.getTime(2, null));
+    assertEquals(LocalDate.of(2024, 1, 2), buffer.getObject(2, LocalDate.class));
+    assertEquals(Boolean.TRUE, buffer.getObject(1, (Map<String, Class<?>>) null));
+
+    final InputStream asciiStream = buffer.getAsciiStream(1);
+    assertEquals('t', asciiStream.read());
+    assertEquals(-1, asciiStream.read());
+  }
+
+  @Test
+  void testIntegralConversion() throws SQLException {
+    when(mockResultSet.getObject(1)).thenReturn(new BigDecimal("1.9"));
+    when(mockResultSet.getObject(2)).thenReturn(-2.7d);
+    when(mockResultSet.getObject(3)).thenReturn(3_000_000_000L);
+    final ResultSetRowBuffer buffer = new ResultSetRowBuffer(2, mockMetaData);
+    assertTrue(buffer.fetchBlock(mockResultSet));
+
+    // Fractional values are truncated.
+    assertEquals(1, buffer.getInt(1));
+    assertEquals(-2, buffer.getShort(2));
+    assertEquals(3_000_000_000L, buffer.getLong(3));
+    assertThrows(SQLException.class, () -> buffer.getInt(3));
+    assertThrows(SQLException.class, () -> buffer.getByte(3));
+  }
+
+  @Test
+  void testResultSetWrapperReadsRowsInBlocks() throws SQLException {
+    when(mockPluginManager.getResultSetPrefetchSize()).thenReturn(2);
+    final ResultSetWrapper wrapper = new ResultSetWrapper(mockResultSet, mockPluginManager);
+
+    int rows = 0;
+    long sum = 0;
+    while (wrapper.next()) {
+      rows++;
+      sum += wrapper.getInt(1);
+    }
+
+    assertEquals(3, rows);
+    assertEquals(6, sum);
+    assertTrue(wrapper.isAfterLast());
+
+    // Two blocks are read through the plugins. Getters are served from the buffer.
+    verify(mockPluginManager, times(2)).executeBoolean(
+        any(), any(), eq(JdbcMethod.RESULT_SET_NEXT), any(), any(), anyBoolean());
+    verify(mockPluginManager, times(0)).executeInt(any(), any(), any(), any(), any(), anyBoolean());
+  }
+
+  @Test
+  void testIsLast() throws SQLException {
+    when(mockPluginManager.getResultSetPrefetchSize()).thenReturn(2);
+    when(mockResultSet.isLast()).thenAnswer(invocation -> targetRow == ROWS.length - 1);
+    final ResultSetWrapper wrapper = new ResultSetWrapper(mockResultSet, mockPluginManager);
+
+    assertTrue(wrapper.next());
+    assertFalse(wrapper.isLast());
+    assertTrue(wrapper.next());
+    // The last row of a full block is checked by the target result set, which is on the same row.
+    assertFalse(wrapper.isLast());
+    assertTrue(wrapper.next());
+    assertTrue(wrapper.isLast());
+    verify(mockResultSet, times(1)).isLast();
+  }
+
+  @Test
+  void testResultSetPropertiesAreReadThroughPlugins() throws SQLException {
+    when(mockPluginManager.getResultSetPrefetchSize()).thenReturn(2);
+    final ResultSetWrapper wrapper = new ResultSetWrapper(mockResultSet, mockPluginManager);
+
+    assertTrue(wrapper.initRowBuffer());
+    verify(mockPluginManager).execute(
+        any(), any(), any(), eq(JdbcMethod.RESULT_SET_GET_TYPE), any(), any(), anyBoolean());
+    verify(mockPluginManager).execute(
+        any(), any(), any(), eq(JdbcMethod.RESULT_SET_GET_CONCURRENCY), any(), any(), anyBoolean());
+    verify(mockPluginManager).execute(
+        any(), any(), any(), eq(JdbcMethod.RESULT_SET_GET_META_DATA), any(), any(), anyBoolean());
+  }
+
+  @Test
+  void testPrefetchIsSkippedForScrollableResultSets() throws SQLException {
+    when(mockPluginManager.getResultSetPrefetchSize()).thenReturn(2);
+    when(mockResultSet.getType()).thenReturn(ResultSet.TYPE_SCROLL_INSENSITIVE);
+    final ResultSetWrapper wrapper = new ResultSetWrapper(mockResultSet, mockPluginManager);
+
+    assertFalse(wrapper.initRowBuffer());
+  }
+
+  @Test
+  void testPrefetchIsSkippedForLargeObjectColumns() throws SQLException {
+    when(mockPluginManager.getResultSetPrefetchSize()).thenReturn(2);
+    when(mockMetaData.getColumnType(2)).thenReturn(Types.CLOB);
+    final ResultSetWrapper wrapper = new ResultSetWrapper(mockResultSet, mockPluginManager);
+
+    assertFalse(wrapper.initRowBuffer());
+  }
+
+  @Test
+  void testPrefetchIsSkippedForTemporalAndVendorColumns() throws SQLException {
+    when(mockPluginManager.getResultSetPrefetchSize()).thenReturn(2);
+    when(mockMetaData.getColumnType(2)).thenReturn(Types.TIMESTAMP);
+    assertFalse(new ResultSetWrapper(mockResultSet, mockPluginManager).initRowBuffer());
+
+    when(mockMetaData.getColumnType(2)).thenReturn(Types.OTHER);
+    assertFalse(new ResultSetWrapper(mockResultSet, mockPluginManager).initRowBuffer());
+
+    // Booleans are reported as BIT by some drivers.
+    when(mockMetaData.getColumnType(2)).thenReturn(Types.BIT);
+    when(mockMetaData.getColumnClassName(2)).thenReturn(Boolean.class.getName());
+    assertTrue(new ResultSetWrapper(mockResultSet, mockPluginManager).initRowBuffer());
+  }
+}